@@ -0,0 +1,258 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.field.Field;
+import com.aljebra.matrix.Matrix;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * A double matrix resolved once to primitive coefficients, and applied to
+ * blocks of vectors stored as packed primitive arrays. Vectors are read
+ * either packed one after the other (array of structures), or one array per
+ * coordinate (structure of arrays). Results are written into a
+ * caller-supplied buffer, using the same layout, and no object is created
+ * per vector. When built with {@link Parallelism} settings, large blocks
+ * are split across the fork-join pool.
+ * @since 0.4
+ */
+public final class BatchMatrix {
+
+    /**
+     * Primitive loops.
+     */
+    private static final Kernel KERNEL = new Kernel();
+
+    /**
+     * Count of vectors stored with one array per coordinate, which are
+     * accumulated at once.
+     */
+    private static final int STRIDE = 1024;
+
+    /**
+     * Line-major matrix coordinates.
+     */
+    private final double[] coefs;
+
+    /**
+     * Matrix lines count.
+     */
+    private final int lines;
+
+    /**
+     * Matrix columns count.
+     */
+    private final int columns;
+
+    /**
+     * Parallelism settings, if parallel batches are enabled.
+     */
+    private final Optional<Parallelism> parallel;
+
+    /**
+     * Constructor.
+     * @param matrix Matrix to apply
+     */
+    public BatchMatrix(final Matrix<Double> matrix) {
+        this(matrix, new Decimal());
+    }
+
+    /**
+     * Constructor.
+     * @param matrix Matrix to apply
+     * @param field Field used to resolve the matrix coordinates
+     */
+    public BatchMatrix(final Matrix<Double> matrix, final Field<Double> field) {
+        this(matrix, field, Optional.empty());
+    }
+
+    /**
+     * Constructor. Builds a batch matrix splitting large blocks across
+     * a fork-join pool.
+     * @param matrix Matrix to apply
+     * @param parallel Parallelism settings
+     */
+    public BatchMatrix(final Matrix<Double> matrix, final Parallelism parallel) {
+        this(matrix, new Decimal(), Optional.of(parallel));
+    }
+
+    /**
+     * Constructor.
+     * @param matrix Matrix to apply
+     * @param field Field used to resolve the matrix coordinates
+     * @param parallel Parallelism settings, if parallel batches are enabled
+     */
+    private BatchMatrix(final Matrix<Double> matrix, final Field<Double> field,
+        final Optional<Parallelism> parallel) {
+        this.lines = matrix.lines();
+        this.columns = matrix.columns();
+        this.coefs = new Values(matrix.coords(), field)
+            .lines(this.lines, this.columns);
+        this.parallel = parallel;
+    }
+
+    /**
+     * Gives the matrix lines count, which is the dimension of output vectors.
+     * @return Lines count
+     */
+    public int lines() {
+        return this.lines;
+    }
+
+    /**
+     * Gives the matrix columns count, which is the dimension of input vectors.
+     * @return Columns count
+     */
+    public int columns() {
+        return this.columns;
+    }
+
+    /**
+     * Applies the matrix to vectors packed one after the other. Source
+     * vectors take {@link #columns()} doubles each, and output vectors
+     * {@link #lines()} doubles each. Source and output may overlap only if
+     * they start at the same position with a square matrix.
+     * @param src Packed source vectors
+     * @param soff Offset of the first source vector
+     * @param dst Output buffer
+     * @param doff Offset of the first output vector
+     * @param count Count of vectors
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public void apply(final double[] src, final int soff, final double[] dst,
+        final int doff, final int count) {
+        this.run(
+            new Block() {
+                @Override
+                public void apply(final int from, final int until) {
+                    BatchMatrix.this.packed(src, soff, dst, doff, from, until);
+                }
+            },
+            count
+        );
+    }
+
+    /**
+     * Applies the matrix to vectors stored with one array per coordinate.
+     * The source has {@link #columns()} arrays and the output
+     * {@link #lines()} arrays. Source and output may be the same arrays
+     * with a square matrix, if offsets are equal.
+     * @param src Source coordinates arrays
+     * @param soff Index of the first source vector in coordinates arrays
+     * @param dst Output coordinates arrays
+     * @param doff Index of the first output vector in coordinates arrays
+     * @param count Count of vectors
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public void apply(final double[][] src, final int soff,
+        final double[][] dst, final int doff, final int count) {
+        if (src.length != this.columns || dst.length != this.lines) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Incompatible coordinates arrays %d -> %d with matrix dimension %dx%d",
+                    src.length, dst.length, this.lines, this.columns
+                )
+            );
+        }
+        this.run(
+            new Block() {
+                @Override
+                public void apply(final int from, final int until) {
+                    BatchMatrix.this.columnar(src, soff, dst, doff, from, until);
+                }
+            },
+            count
+        );
+    }
+
+    /**
+     * Runs a block over all the vectors, splitting it across the fork-join
+     * pool if parallel batches are enabled and the block is large enough.
+     * @param block Block to run
+     * @param count Count of vectors
+     */
+    private void run(final Block block, final int count) {
+        final long work = (long) this.lines * this.columns;
+        if (this.parallel.isPresent()
+            && this.parallel.get().enabled(count * work)) {
+            final Parallelism par = this.parallel.get();
+            par.invoke(
+                new Blocks(block, 0, count, (int) Math.max(1L, par.leaf() / work))
+            );
+        } else {
+            block.apply(0, count);
+        }
+    }
+
+    /**
+     * Applies the matrix to a range of packed vectors.
+     * @param src Packed source vectors
+     * @param soff Offset of the first source vector
+     * @param dst Output buffer
+     * @param doff Offset of the first output vector
+     * @param from First vector index (inclusive)
+     * @param until Last vector index (exclusive)
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void packed(final double[] src, final int soff, final double[] dst,
+        final int doff, final int from, final int until) {
+        BatchMatrix.KERNEL.batch(
+            this.coefs, this.lines, src, soff + from * this.columns,
+            dst, doff + from * this.lines, until - from
+        );
+    }
+
+    /**
+     * Applies the matrix to a range of vectors stored with one array
+     * per coordinate.
+     * @param src Source coordinates arrays
+     * @param soff Index of the first source vector in coordinates arrays
+     * @param dst Output coordinates arrays
+     * @param doff Index of the first output vector in coordinates arrays
+     * @param from First vector index (inclusive)
+     * @param until Last vector index (exclusive)
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void columnar(final double[][] src, final int soff,
+        final double[][] dst, final int doff, final int from, final int until) {
+        final double[][] rows = new double[this.lines][BatchMatrix.STRIDE];
+        for (int start = from; start < until; start += BatchMatrix.STRIDE) {
+            final int count = Math.min(BatchMatrix.STRIDE, until - start);
+            for (int row = 0; row < this.lines; ++row) {
+                Arrays.fill(rows[row], 0, count, 0.);
+                for (int col = 0; col < this.columns; ++col) {
+                    BatchMatrix.KERNEL.axpy(
+                        this.coefs[row * this.columns + col],
+                        src[col], soff + start, rows[row], 0, count
+                    );
+                }
+            }
+            for (int row = 0; row < this.lines; ++row) {
+                System.arraycopy(rows[row], 0, dst[row], doff + start, count);
+            }
+        }
+    }
+
+}
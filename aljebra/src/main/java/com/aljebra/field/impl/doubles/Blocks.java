@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join task splitting a range of work units in halves until
+ * reaching a given count, then computing each part with a {@link Block}.
+ * @since 0.4
+ */
+final class Blocks extends RecursiveAction {
+
+    /**
+     * Serial version ID.
+     */
+    private static final long serialVersionUID = -2915587314603391520L;
+
+    /**
+     * Computation to run on each part.
+     */
+    private final transient Block block;
+
+    /**
+     * First work unit (inclusive).
+     */
+    private final int from;
+
+    /**
+     * Last work unit (exclusive).
+     */
+    private final int until;
+
+    /**
+     * Count of work units computed sequentially.
+     */
+    private final int leaf;
+
+    /**
+     * Constructor.
+     * @param block Computation to run on each part
+     * @param from First work unit (inclusive)
+     * @param until Last work unit (exclusive)
+     * @param leaf Count of work units computed sequentially
+     */
+    Blocks(final Block block, final int from, final int until,
+        final int leaf) {
+        super();
+        this.block = block;
+        this.from = from;
+        this.until = until;
+        this.leaf = leaf;
+    }
+
+    @Override
+    protected void compute() {
+        final int count = this.until - this.from;
+        if (count <= this.leaf) {
+            this.block.apply(this.from, this.until);
+        } else {
+            final int middle = this.from + count / 2;
+            RecursiveAction.invokeAll(
+                new Blocks(this.block, this.from, middle, this.leaf),
+                new Blocks(this.block, middle, this.until, this.leaf)
+            );
+        }
+    }
+
+}
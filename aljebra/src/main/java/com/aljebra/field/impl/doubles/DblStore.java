@@ -0,0 +1,266 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.field.Field;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An off-heap columnar store of double vectors. Each coordinate is kept in
+ * its own direct buffer, so that a vector costs only its coordinates in
+ * memory and the store is not scanned by the garbage collector. Vectors are
+ * exposed as lightweight {@link Vect} views reading the buffers on demand,
+ * and coordinates are copied in chunks for batch kernels such as
+ * {@link BatchMatrix}.
+ * @since 0.4
+ */
+public final class DblStore implements Iterable<Vect<Double>> {
+
+    /**
+     * Count of vectors transformed at once by {@link #transform}.
+     */
+    private static final int CHUNK = 4096;
+
+    /**
+     * Coordinates buffers, one per dimension.
+     */
+    private final DoubleBuffer[] columns;
+
+    /**
+     * Vectors count.
+     */
+    private final int size;
+
+    /**
+     * Constructor.
+     * @param dimension Vectors dimension
+     * @param size Vectors count
+     */
+    public DblStore(final int dimension, final int size) {
+        if (dimension < 1 || size < 0) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Invalid store dimension %d or size %d", dimension, size
+                )
+            );
+        }
+        if (size > Integer.MAX_VALUE / Double.BYTES) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Store size %d exceeds the %d doubles of a direct buffer",
+                    size, Integer.MAX_VALUE / Double.BYTES
+                )
+            );
+        }
+        this.columns = new DoubleBuffer[dimension];
+        for (int idx = 0; idx < dimension; ++idx) {
+            this.columns[idx] = ByteBuffer
+                .allocateDirect(size * Double.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asDoubleBuffer();
+        }
+        this.size = size;
+    }
+
+    /**
+     * Gives the vectors dimension.
+     * @return Dimension
+     */
+    public int dimension() {
+        return this.columns.length;
+    }
+
+    /**
+     * Gives the vectors count.
+     * @return Vectors count
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gives a coordinate of a stored vector.
+     * @param index Vector index
+     * @param coord Coordinate index
+     * @return Coordinate value
+     */
+    public double get(final int index, final int coord) {
+        return this.columns[coord].get(index);
+    }
+
+    /**
+     * Sets a coordinate of a stored vector.
+     * @param index Vector index
+     * @param coord Coordinate index
+     * @param value Coordinate value
+     */
+    public void set(final int index, final int coord, final double value) {
+        this.columns[coord].put(index, value);
+    }
+
+    /**
+     * Stores a vector.
+     * @param index Vector index
+     * @param vect Vector to store
+     */
+    public void set(final int index, final Vect<Double> vect) {
+        this.set(index, vect, new Decimal());
+    }
+
+    /**
+     * Stores a vector.
+     * @param index Vector index
+     * @param vect Vector to store
+     * @param field Field used to resolve the vector coordinates
+     */
+    public void set(final int index, final Vect<Double> vect,
+        final Field<Double> field) {
+        final Scalar<Double>[] coords = vect.coords();
+        if (coords.length != this.columns.length) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Incompatible vector dimension %d with store dimension %d",
+                    coords.length, this.columns.length
+                )
+            );
+        }
+        for (int coord = 0; coord < coords.length; ++coord) {
+            this.columns[coord].put(index, field.actual(coords[coord]));
+        }
+    }
+
+    /**
+     * Gives a view on a stored vector. The view reads the store when its
+     * coordinates are evaluated, so it reflects later modifications.
+     * @param index Vector index
+     * @return A vector view
+     */
+    public Vect<Double> vect(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException(
+                String.format("Vector index %d out of store of size %d", index, this.size)
+            );
+        }
+        return new StoredVect(this, index);
+    }
+
+    /**
+     * Copies a range of a coordinate into an array.
+     * @param coord Coordinate index
+     * @param from First vector index
+     * @param dst Destination array
+     * @param doff Destination offset
+     * @param count Count of vectors
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public void read(final int coord, final int from, final double[] dst,
+        final int doff, final int count) {
+        final DoubleBuffer buffer = this.columns[coord].duplicate();
+        buffer.position(from);
+        buffer.get(dst, doff, count);
+    }
+
+    /**
+     * Copies an array into a range of a coordinate.
+     * @param coord Coordinate index
+     * @param from First vector index
+     * @param src Source array
+     * @param soff Source offset
+     * @param count Count of vectors
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public void write(final int coord, final int from, final double[] src,
+        final int soff, final int count) {
+        final DoubleBuffer buffer = this.columns[coord].duplicate();
+        buffer.position(from);
+        buffer.put(src, soff, count);
+    }
+
+    /**
+     * Applies a matrix to all the stored vectors, writing the results into
+     * another store, which may be this store for a square matrix. Vectors
+     * are copied in chunks to heap arrays, so that the batch matrix works
+     * on primitive arrays.
+     * @param matrix Matrix to apply
+     * @param target Store receiving the results
+     */
+    public void transform(final BatchMatrix matrix, final DblStore target) {
+        if (matrix.columns() != this.dimension()
+            || matrix.lines() != target.dimension()
+            || target.size() < this.size) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Incompatible matrix dimension %dx%d with stores %dx%d -> %dx%d",
+                    matrix.lines(), matrix.columns(), this.size,
+                    this.dimension(), target.size(), target.dimension()
+                )
+            );
+        }
+        final int chunk = Math.min(DblStore.CHUNK, Math.max(1, this.size));
+        final double[][] src = new double[this.dimension()][chunk];
+        final double[][] dst = new double[target.dimension()][chunk];
+        for (int from = 0; from < this.size; from += chunk) {
+            final int count = Math.min(chunk, this.size - from);
+            for (int coord = 0; coord < src.length; ++coord) {
+                this.read(coord, from, src[coord], 0, count);
+            }
+            matrix.apply(src, 0, dst, 0, count);
+            for (int coord = 0; coord < dst.length; ++coord) {
+                target.write(coord, from, dst[coord], 0, count);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<Vect<Double>> iterator() {
+        return new Iterator<Vect<Double>>() {
+            /**
+             * Index of the next vector.
+             */
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return this.cursor < DblStore.this.size;
+            }
+
+            @Override
+            public Vect<Double> next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final Vect<Double> result = DblStore.this.vect(this.cursor);
+                this.cursor += 1;
+                return result;
+            }
+        };
+    }
+
+}
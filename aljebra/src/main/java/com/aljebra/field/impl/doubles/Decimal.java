@@ -52,6 +52,11 @@ public final class Decimal
      */
     private static final double TOLERANCE = 1.E-6;
 
+    /**
+     * Inner product.
+     */
+    private final InnerProduct<Double> dot;
+
     /**
      * Constructor.
      */
@@ -64,7 +69,26 @@ public final class Decimal
      * @param rand Randomizer
      */
     public Decimal(final OrderedRandom<Double> rand) {
+        this(rand, new Dot());
+    }
+
+    /**
+     * Constructor.
+     * @param product Inner product
+     */
+    public Decimal(final InnerProduct<Double> product) {
+        this(new DecimalRandom(Decimal.MINBOUND, Decimal.MAXBOUND), product);
+    }
+
+    /**
+     * Constructor.
+     * @param rand Randomizer
+     * @param product Inner product
+     */
+    public Decimal(final OrderedRandom<Double> rand,
+        final InnerProduct<Double> product) {
         super(new DblAddition(), new DblMult(), rand);
+        this.dot = product;
     }
 
     @Override
@@ -84,6 +108,6 @@ public final class Decimal
 
     @Override
     public InnerProduct<Double> product() {
-        return new Dot();
+        return this.dot;
     }
 }
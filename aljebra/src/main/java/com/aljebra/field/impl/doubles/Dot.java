@@ -23,6 +23,7 @@
  */
 package com.aljebra.field.impl.doubles;
 
+import com.aljebra.field.Field;
 import com.aljebra.matrix.Matrix;
 import com.aljebra.metric.InnerProduct;
 import com.aljebra.metric.angle.Degrees;
@@ -30,27 +31,63 @@ import com.aljebra.scalar.Add;
 import com.aljebra.scalar.Multiplication;
 import com.aljebra.scalar.Scalar;
 import com.aljebra.vector.Vect;
+import com.google.common.base.Preconditions;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Class implementing dot operation (scalar product) or inner product
  * of 2 vectors in Real numbers field. Current implementation suppose
  * a two dimension vector space in `rot` and `angle` methods implementation,
- * and rely on {@link Decimal} field implementation.
+ * and rely on {@link Decimal} field implementation. When built with
+ * {@link Parallelism} settings, products of vectors having a dimension
+ * above the threshold are calculated on the fork-join pool using a pairwise
+ * tree reduction, when evaluated.
  * @since 0.1
  */
 public final class Dot implements InnerProduct<Double> {
 
+    /**
+     * Parallelism settings, if parallel products are enabled.
+     */
+    private final Optional<Parallelism> parallel;
+
+    /**
+     * Constructor. Builds a sequential inner product.
+     */
+    public Dot() {
+        this.parallel = Optional.empty();
+    }
+
+    /**
+     * Constructor. Builds an inner product splitting high dimension
+     * products across a fork-join pool.
+     * @param parallel Parallelism settings
+     */
+    public Dot(final Parallelism parallel) {
+        this.parallel = Optional.of(parallel);
+    }
+
     @Override
     public Scalar<Double> product(final Vect<Double> foperand, final Vect<Double> soperand) {
         final Scalar<Double>[] first = foperand.coords();
         final Scalar<Double>[] second = soperand.coords();
-        final List<Multiplication<Double>> multis = new ArrayList<>(first.length);
-        for (int idx = 0; idx < first.length; ++idx) {
-            multis.add(Dot.mult(first[idx], second[idx]));
+        final Scalar<Double> result;
+        if (this.parallel.isPresent() && this.parallel.get().enabled(first.length)) {
+            Preconditions.checkArgument(
+                first.length == second.length,
+                "Vectors dimensions differ: %s and %s", first.length, second.length
+            );
+            result = new Dot.Pairwise(first, second, this.parallel.get());
+        } else {
+            final List<Multiplication<Double>> multis = new ArrayList<>(first.length);
+            for (int idx = 0; idx < first.length; ++idx) {
+                multis.add(Dot.mult(first[idx], second[idx]));
+            }
+            result = new Add<Double>(multis);
         }
-        return new Add<Double>(multis);
+        return result;
     }
 
     @Override
@@ -63,22 +100,12 @@ public final class Dot implements InnerProduct<Double> {
         final Double cross =
             Dot.val(first.coords()[0]) * Dot.val(second.coords()[1])
                 - Dot.val(second.coords()[0]) * Dot.val(first.coords()[1]);
-        final Double norms = Dot.val(
-            new Multiplication<Double>(this.norm(first), this.norm(second))
-        );
         final Double result;
-        if (norms == 0) {
+        if (Dot.val(this.product(first, first)) == 0
+            || Dot.val(this.product(second, second)) == 0) {
             result = 0.;
         } else {
-            final Double arcsin = Math.asin(cross / norms);
-            final Double arcos = Math.acos(
-                Dot.val(this.product(first, second)) / norms
-            );
-            if (arcsin >= 0) {
-                result = arcos;
-            } else {
-                result = -arcos;
-            }
+            result = Math.atan2(cross + 0., Dot.val(this.product(first, second)));
         }
         return new Degrees.Default<>(result);
     }
@@ -124,4 +151,52 @@ public final class Dot implements InnerProduct<Double> {
     private static Scalar<Double> wrap(final double input) {
         return new Scalar.Default<Double>(input);
     }
+
+    /**
+     * Product of two vectors of the same dimension, lazily calculated on
+     * the fork-join pool with a pairwise tree reduction. Coordinates are
+     * evaluated when the product is.
+     * @since 0.4
+     */
+    private static final class Pairwise implements Scalar<Double> {
+
+        /**
+         * First vector coordinates.
+         */
+        private final Scalar<Double>[] first;
+
+        /**
+         * Second vector coordinates.
+         */
+        private final Scalar<Double>[] second;
+
+        /**
+         * Parallelism settings.
+         */
+        private final Parallelism parallel;
+
+        /**
+         * Constructor.
+         * @param first First vector coordinates
+         * @param second Second vector coordinates
+         * @param parallel Parallelism settings
+         */
+        Pairwise(final Scalar<Double>[] first, final Scalar<Double>[] second,
+            final Parallelism parallel) {
+            this.first = first;
+            this.second = second;
+            this.parallel = parallel;
+        }
+
+        @Override
+        public Double value(final Field<Double> field) {
+            return this.parallel.invoke(
+                new PairwiseSum(
+                    new Values(this.first, field).doubles(),
+                    new Values(this.second, field).doubles(),
+                    this.parallel.leaf()
+                )
+            );
+        }
+    }
 }
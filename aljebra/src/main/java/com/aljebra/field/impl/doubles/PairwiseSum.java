@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork-join task summing the products of two double arrays ranges by
+ * a pairwise tree reduction. The range is halved until it fits the leaf
+ * size, so that the reduction tree, and hence the result, only depends
+ * on the range length and the leaf size.
+ * @since 0.4
+ */
+final class PairwiseSum extends RecursiveTask<Double> {
+
+    /**
+     * Serial version ID.
+     */
+    private static final long serialVersionUID = -3460981274417402318L;
+
+    /**
+     * Primitive loops.
+     */
+    private static final Kernel KERNEL = new Kernel();
+
+    /**
+     * First operand.
+     */
+    private final double[] first;
+
+    /**
+     * First operand range start.
+     */
+    private final int foffset;
+
+    /**
+     * Second operand.
+     */
+    private final double[] second;
+
+    /**
+     * Second operand range start.
+     */
+    private final int soffset;
+
+    /**
+     * Range length.
+     */
+    private final int length;
+
+    /**
+     * Count of elements folded sequentially.
+     */
+    private final int leaf;
+
+    /**
+     * Constructor. Sums the products of two whole arrays.
+     * @param first First operand
+     * @param second Second operand
+     * @param leaf Count of elements folded sequentially
+     */
+    PairwiseSum(final double[] first, final double[] second, final int leaf) {
+        this(first, 0, second, 0, first.length, leaf);
+    }
+
+    /**
+     * Constructor.
+     * @param first First operand
+     * @param foffset First operand range start
+     * @param second Second operand
+     * @param soffset Second operand range start
+     * @param length Range length
+     * @param leaf Count of elements folded sequentially
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    PairwiseSum(final double[] first, final int foffset, final double[] second,
+        final int soffset, final int length, final int leaf) {
+        super();
+        this.first = first;
+        this.foffset = foffset;
+        this.second = second;
+        this.soffset = soffset;
+        this.length = length;
+        this.leaf = leaf;
+    }
+
+    @Override
+    protected Double compute() {
+        final double result;
+        if (this.length <= this.leaf) {
+            result = this.fold();
+        } else {
+            final int half = this.length / 2;
+            final PairwiseSum left = this.part(0, half);
+            final PairwiseSum right = this.part(half, this.length - half);
+            left.fork();
+            final double rsum = right.compute();
+            result = left.join() + rsum;
+        }
+        return result;
+    }
+
+    /**
+     * Sequentially sums the products of the range elements.
+     * @return Sum of products
+     */
+    private double fold() {
+        return PairwiseSum.KERNEL.dot(
+            this.first, this.foffset, this.second, this.soffset, this.length
+        );
+    }
+
+    /**
+     * Builds the task summing a part of this range.
+     * @param start Part start relative to this range start
+     * @param count Part length
+     * @return A task summing the part
+     */
+    private PairwiseSum part(final int start, final int count) {
+        return new PairwiseSum(
+            this.first, this.foffset + start, this.second,
+            this.soffset + start, count, this.leaf
+        );
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.matrix.Composition;
+import com.aljebra.matrix.FixedMatrix;
+import com.aljebra.matrix.Matrix;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Product of two double matrices splitting its calculation across a fork-join
+ * pool. When the product multiplications count reaches the {@link Parallelism}
+ * threshold, both matrices are eagerly evaluated and each coordinate of the
+ * product is calculated with a pairwise tree reduction. Otherwise, the product
+ * is the lazy {@link Composition} of the two matrices. The product is
+ * calculated once, on the first access to its coordinates.
+ * @since 0.4
+ */
+public final class ParallelComposition implements Matrix<Double> {
+
+    /**
+     * Left operand, applied last.
+     */
+    private final Matrix<Double> first;
+
+    /**
+     * Right operand, applied first.
+     */
+    private final Matrix<Double> second;
+
+    /**
+     * Parallelism settings.
+     */
+    private final Parallelism parallel;
+
+    /**
+     * Product matrix, calculated once.
+     */
+    private final Supplier<Matrix<Double>> product;
+
+    /**
+     * Constructor. Builds a parallel product with default parallelism settings.
+     * @param first Left operand, applied last
+     * @param second Right operand, applied first
+     */
+    public ParallelComposition(final Matrix<Double> first,
+        final Matrix<Double> second) {
+        this(first, second, new Parallelism());
+    }
+
+    /**
+     * Constructor.
+     * @param first Left operand, applied last
+     * @param second Right operand, applied first
+     * @param parallel Parallelism settings
+     */
+    public ParallelComposition(final Matrix<Double> first,
+        final Matrix<Double> second, final Parallelism parallel) {
+        this.first = first;
+        this.second = second;
+        this.parallel = parallel;
+        this.product = Suppliers.memoize(
+            new Supplier<Matrix<Double>>() {
+                @Override
+                public Matrix<Double> get() {
+                    return ParallelComposition.this.actual();
+                }
+            }
+        );
+    }
+
+    @Override
+    public Scalar<Double>[] coords() {
+        return this.product.get().coords();
+    }
+
+    @Override
+    public Scalar<Double>[] column(final int index) {
+        return this.product.get().column(index);
+    }
+
+    @Override
+    public Scalar<Double>[] line(final int index) {
+        return this.product.get().line(index);
+    }
+
+    @Override
+    public Vect<Double> apply(final Vect<Double> input) {
+        return new ParallelMatrix(this.first, this.parallel).apply(
+            new ParallelMatrix(this.second, this.parallel).apply(input)
+        );
+    }
+
+    @Override
+    public int columns() {
+        return this.second.columns();
+    }
+
+    @Override
+    public int lines() {
+        return this.first.lines();
+    }
+
+    /**
+     * Calculates the product matrix, in parallel if the parallelism
+     * threshold is reached.
+     * @return Product matrix
+     */
+    private Matrix<Double> actual() {
+        final int lines = this.first.lines();
+        final int inner = this.first.columns();
+        final int columns = this.second.columns();
+        final Matrix<Double> result;
+        if (this.parallel.enabled((long) lines * inner * columns)) {
+            final double[] output = new double[lines * columns];
+            this.parallel.invoke(
+                new RowProducts(
+                    new Values(this.first.coords()).lines(lines, inner), lines,
+                    new Values(this.second.coords()).doubles(), output,
+                    this.parallel.leaf()
+                )
+            );
+            final List<Scalar<Double>> coords = new ArrayList<>(output.length);
+            for (final double value : output) {
+                coords.add(new Scalar.Default<>(value));
+            }
+            result = new FixedMatrix<>(lines, columns, coords);
+        } else {
+            result = new Composition<>(this.first, this.second);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.matrix.Matrix;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+
+/**
+ * A double matrix decorator splitting its transformation across a fork-join
+ * pool. When the matrix size reaches the {@link Parallelism} threshold, the
+ * matrix and the input vector are eagerly evaluated and each line product
+ * is calculated with a pairwise tree reduction. Otherwise, the transformation
+ * is delegated to the decorated matrix.
+ * @since 0.4
+ */
+public final class ParallelMatrix implements Matrix<Double> {
+
+    /**
+     * Decorated matrix.
+     */
+    private final Matrix<Double> origin;
+
+    /**
+     * Parallelism settings.
+     */
+    private final Parallelism parallel;
+
+    /**
+     * Constructor. Builds a parallel matrix with default parallelism settings.
+     * @param origin Decorated matrix
+     */
+    public ParallelMatrix(final Matrix<Double> origin) {
+        this(origin, new Parallelism());
+    }
+
+    /**
+     * Constructor.
+     * @param origin Decorated matrix
+     * @param parallel Parallelism settings
+     */
+    public ParallelMatrix(final Matrix<Double> origin, final Parallelism parallel) {
+        this.origin = origin;
+        this.parallel = parallel;
+    }
+
+    @Override
+    public Scalar<Double>[] coords() {
+        return this.origin.coords();
+    }
+
+    @Override
+    public Scalar<Double>[] column(final int index) {
+        return this.origin.column(index);
+    }
+
+    @Override
+    public Scalar<Double>[] line(final int index) {
+        return this.origin.line(index);
+    }
+
+    @Override
+    public Vect<Double> apply(final Vect<Double> input) {
+        final Scalar<Double>[] coords = input.coords();
+        final int lines = this.lines();
+        final int columns = this.columns();
+        if (coords.length != columns) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Incompatible vector dimension %s with matrix dimension %s",
+                    coords.length, columns
+                )
+            );
+        }
+        final Vect<Double> result;
+        if (this.parallel.enabled(lines * columns)) {
+            final double[] output = new double[lines];
+            this.parallel.invoke(
+                new RowProducts(
+                    new Values(this.origin.coords()).lines(lines, columns), lines,
+                    new Values(coords).doubles(), output, this.parallel.leaf()
+                )
+            );
+            result = new DblVect(ParallelMatrix.boxed(output));
+        } else {
+            result = this.origin.apply(input);
+        }
+        return result;
+    }
+
+    @Override
+    public int columns() {
+        return this.origin.columns();
+    }
+
+    @Override
+    public int lines() {
+        return this.origin.lines();
+    }
+
+    /**
+     * Boxes a double array.
+     * @param values Double array
+     * @return Boxed double array
+     */
+    private static Double[] boxed(final double... values) {
+        final Double[] result = new Double[values.length];
+        for (int idx = 0; idx < values.length; ++idx) {
+            result[idx] = values[idx];
+        }
+        return result;
+    }
+
+}
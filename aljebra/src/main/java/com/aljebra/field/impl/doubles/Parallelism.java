@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Opt-in fork-join settings for double kernels. Work is split across
+ * the pool only when the operation dimension reaches the threshold.
+ * Split points only depend on the dimension and on the leaf size, so that
+ * results are the same whatever the pool parallelism is.
+ * @since 0.4
+ */
+public final class Parallelism {
+
+    /**
+     * Default dimension from which work is split.
+     */
+    private static final int THRESHOLD = 8192;
+
+    /**
+     * Default count of elements folded sequentially by a single task.
+     */
+    private static final int LEAF = 1024;
+
+    /**
+     * Dimension from which work is split.
+     */
+    private final int threshold;
+
+    /**
+     * Count of elements folded sequentially by a single task.
+     */
+    private final int size;
+
+    /**
+     * Pool on which tasks are run.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor. Builds parallelism settings with default threshold
+     * and running on the common pool.
+     */
+    public Parallelism() {
+        this(Parallelism.THRESHOLD);
+    }
+
+    /**
+     * Constructor. Builds parallelism settings running on the common pool.
+     * @param threshold Dimension from which work is split
+     */
+    public Parallelism(final int threshold) {
+        this(threshold, Parallelism.LEAF, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     * @param threshold Dimension from which work is split
+     * @param leaf Count of elements folded sequentially by a single task
+     * @param pool Pool on which tasks are run
+     */
+    public Parallelism(final int threshold, final int leaf,
+        final ForkJoinPool pool) {
+        if (leaf < 1) {
+            throw new IllegalArgumentException(
+                String.format("Leaf size should be positive, got %d", leaf)
+            );
+        }
+        this.threshold = threshold;
+        this.size = leaf;
+        this.pool = pool;
+    }
+
+    /**
+     * Checks if an operation of the given dimension should be split.
+     * @param dimension Operation dimension
+     * @return True if work should be split across the pool
+     */
+    public boolean enabled(final long dimension) {
+        return dimension >= this.threshold;
+    }
+
+    /**
+     * Gives the count of elements folded sequentially by a single task.
+     * @return Leaf size
+     */
+    public int leaf() {
+        return this.size;
+    }
+
+    /**
+     * Runs a task on the pool and waits for its result.
+     * @param task Task to run
+     * @param <T> Task result type
+     * @return Task result
+     */
+    public <T> T invoke(final ForkJoinTask<T> task) {
+        return this.pool.invoke(task);
+    }
+
+    /**
+     * Runs a block over a range of independent work units, split in leaf
+     * sized tasks across the pool if the range is large enough.
+     * @param block Block to run
+     * @param count Count of work units
+     */
+    public void apply(final Block block, final int count) {
+        if (this.enabled(count)) {
+            this.invoke(new Blocks(block, 0, count, this.leaf()));
+        } else {
+            block.apply(0, count);
+        }
+    }
+
+}
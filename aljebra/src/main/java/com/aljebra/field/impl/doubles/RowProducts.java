@@ -0,0 +1,156 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join task applying a line-major double matrix to a block of vectors
+ * packed one after the other. Each work unit is the product of a matrix line
+ * by a vector, calculated with a {@link PairwiseSum}. Results are written
+ * vector by vector, which gives a column-major matrix when several vectors
+ * are passed.
+ * @since 0.4
+ */
+final class RowProducts extends RecursiveAction {
+
+    /**
+     * Serial version ID.
+     */
+    private static final long serialVersionUID = 5031672594158221073L;
+
+    /**
+     * Line-major matrix coordinates.
+     */
+    private final double[] matrix;
+
+    /**
+     * Matrix lines count.
+     */
+    private final int lines;
+
+    /**
+     * Matrix columns count.
+     */
+    private final int columns;
+
+    /**
+     * Packed vectors.
+     */
+    private final double[] vectors;
+
+    /**
+     * Output buffer.
+     */
+    private final double[] output;
+
+    /**
+     * First work unit (inclusive).
+     */
+    private final int from;
+
+    /**
+     * Last work unit (exclusive).
+     */
+    private final int until;
+
+    /**
+     * Count of elements folded sequentially.
+     */
+    private final int leaf;
+
+    /**
+     * Constructor. Builds the task for all the work units.
+     * @param matrix Line-major matrix coordinates
+     * @param lines Matrix lines count
+     * @param vectors Packed vectors
+     * @param output Output buffer
+     * @param leaf Count of elements folded sequentially
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    RowProducts(final double[] matrix, final int lines, final double[] vectors,
+        final double[] output, final int leaf) {
+        this(
+            matrix, lines, matrix.length / lines, vectors, output,
+            0, output.length, leaf
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param matrix Line-major matrix coordinates
+     * @param lines Matrix lines count
+     * @param columns Matrix columns count
+     * @param vectors Packed vectors
+     * @param output Output buffer
+     * @param from First work unit (inclusive)
+     * @param until Last work unit (exclusive)
+     * @param leaf Count of elements folded sequentially
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    RowProducts(final double[] matrix, final int lines, final int columns,
+        final double[] vectors, final double[] output, final int from,
+        final int until, final int leaf) {
+        super();
+        this.matrix = matrix;
+        this.lines = lines;
+        this.columns = columns;
+        this.vectors = vectors;
+        this.output = output;
+        this.from = from;
+        this.until = until;
+        this.leaf = leaf;
+    }
+
+    @Override
+    protected void compute() {
+        final int count = this.until - this.from;
+        if (count == 1 || count * this.columns <= this.leaf) {
+            for (int unit = this.from; unit < this.until; ++unit) {
+                this.output[unit] = new PairwiseSum(
+                    this.matrix, unit % this.lines * this.columns,
+                    this.vectors, unit / this.lines * this.columns,
+                    this.columns, this.leaf
+                ).compute();
+            }
+        } else {
+            final int middle = this.from + count / 2;
+            RecursiveAction.invokeAll(this.part(this.from, middle), this.part(middle, this.until));
+        }
+    }
+
+    /**
+     * Builds the task computing a part of the work units.
+     * @param start First work unit (inclusive)
+     * @param end Last work unit (exclusive)
+     * @return A task
+     */
+    private RowProducts part(final int start, final int end) {
+        return new RowProducts(
+            this.matrix, this.lines, this.columns, this.vectors,
+            this.output, start, end, this.leaf
+        );
+    }
+
+}
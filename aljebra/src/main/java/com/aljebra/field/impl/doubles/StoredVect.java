@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.field.Field;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import lombok.ToString;
+
+/**
+ * A view on a vector kept in a {@link DblStore}. Coordinates are read from
+ * the store when evaluated.
+ * @since 0.4
+ */
+@ToString(includeFieldNames = false, of = "index")
+final class StoredVect implements Vect<Double> {
+
+    /**
+     * Store holding the vector.
+     */
+    private final DblStore store;
+
+    /**
+     * Vector index in the store.
+     */
+    private final int index;
+
+    /**
+     * Constructor.
+     * @param store Store holding the vector
+     * @param index Vector index in the store
+     */
+    StoredVect(final DblStore store, final int index) {
+        this.store = store;
+        this.index = index;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Scalar<Double>[] coords() {
+        final Scalar<Double>[] result = new Scalar[this.store.dimension()];
+        for (int idx = 0; idx < result.length; ++idx) {
+            final int coord = idx;
+            result[idx] = new Scalar<Double>() {
+                @Override
+                public Double value(final Field<Double> field) {
+                    return StoredVect.this.store.get(
+                        StoredVect.this.index, coord
+                    );
+                }
+            };
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.field.Field;
+import com.aljebra.scalar.Scalar;
+
+/**
+ * Actual double values of a scalar array, as a primitive array.
+ * @since 0.4
+ */
+final class Values {
+
+    /**
+     * Scalars.
+     */
+    private final Scalar<Double>[] scalars;
+
+    /**
+     * Field for scalar operations.
+     */
+    private final Field<Double> field;
+
+    /**
+     * Constructor.
+     * @param scalars Scalars
+     */
+    Values(final Scalar<Double>[] scalars) {
+        this(scalars, new Decimal());
+    }
+
+    /**
+     * Constructor.
+     * @param scalars Scalars
+     * @param field Field for scalar operations
+     */
+    Values(final Scalar<Double>[] scalars, final Field<Double> field) {
+        this.scalars = scalars;
+        this.field = field;
+    }
+
+    /**
+     * Gives the actual values of the scalars.
+     * @return A double array
+     */
+    public double[] doubles() {
+        final double[] result = new double[this.scalars.length];
+        for (int idx = 0; idx < this.scalars.length; ++idx) {
+            result[idx] = this.field.actual(this.scalars[idx]);
+        }
+        return result;
+    }
+
+    /**
+     * Gives the actual values of the scalars, as a column-major
+     * matrix coordinates transposed to a line-major order.
+     * @param lines Matrix lines count
+     * @param columns Matrix columns count
+     * @return A double array with line-major order
+     */
+    public double[] lines(final int lines, final int columns) {
+        final double[] result = new double[this.scalars.length];
+        for (int col = 0; col < columns; ++col) {
+            for (int lin = 0; lin < lines; ++lin) {
+                result[lin * columns + col] =
+                    this.field.actual(this.scalars[col * lines + lin]);
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.matrix;
+
+import com.aljebra.metric.scalar.Product;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.FixedVector;
+import com.aljebra.vector.Vect;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * A Matrix represented as the product of two matrices, which corresponds to
+ * the composition of their linear transformations: the second matrix is applied
+ * first. The first matrix columns count is considered to be equal to the second
+ * matrix lines count and this implementation does not make any checks on
+ * dimensions.
+ * @param <T> scalar types
+ * @since 0.4
+ */
+@EqualsAndHashCode
+@ToString(includeFieldNames = false)
+public final class Composition<T> implements Matrix<T> {
+
+    /**
+     * Left operand, applied last.
+     */
+    private final Matrix<T> first;
+
+    /**
+     * Right operand, applied first.
+     */
+    private final Matrix<T> second;
+
+    /**
+     * Constructor.
+     * @param first Left operand, applied last
+     * @param second Right operand, applied first
+     */
+    public Composition(final Matrix<T> first, final Matrix<T> second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public Scalar<T>[] coords() {
+        final List<Scalar<T>> result = new ArrayList<>(this.lines() * this.columns());
+        for (int col = 1; col <= this.columns(); ++col) {
+            result.addAll(Arrays.asList(this.column(col)));
+        }
+        return new FixedVector<T>(result).coords();
+    }
+
+    @Override
+    public Scalar<T>[] column(final int index) {
+        return this.first.apply(
+            new FixedVector<T>(Arrays.asList(this.second.column(index)))
+        ).coords();
+    }
+
+    @Override
+    public Scalar<T>[] line(final int index) {
+        final Vect<T> line = new FixedVector<T>(Arrays.asList(this.first.line(index)));
+        final List<Scalar<T>> result = new ArrayList<>(this.columns());
+        for (int col = 1; col <= this.columns(); ++col) {
+            result.add(
+                new Product<T>(
+                    line, new FixedVector<T>(Arrays.asList(this.second.column(col)))
+                )
+            );
+        }
+        return new FixedVector<T>(result).coords();
+    }
+
+    @Override
+    public Vect<T> apply(final Vect<T> input) {
+        return this.first.apply(this.second.apply(input));
+    }
+
+    @Override
+    public int columns() {
+        return this.second.columns();
+    }
+
+    @Override
+    public int lines() {
+        return this.first.lines();
+    }
+}
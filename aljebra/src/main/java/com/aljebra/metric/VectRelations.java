@@ -0,0 +1,217 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.metric;
+
+import com.aljebra.field.MetricSpaceField;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+
+/**
+ * Relations between vectors of a metric space field, classified from inner
+ * products only: signs of dot products, and squared dot products compared
+ * with products of squared norms, without square roots, divisions or
+ * inverse trigonometric functions. Angles are compared with a tolerance of
+ * 1e-6 radians: two vectors are orthogonal if their angle is that close to
+ * a right angle, which holds when the squared dot product is below the
+ * squared sine of the tolerance times the squared norms. Fields with non
+ * numeric scalars are classified from the angle of their inner product.
+ * @param <T> scalar types
+ * @since 0.4
+ */
+public final class VectRelations<T> {
+
+    /**
+     * Angles tolerance in radians.
+     */
+    private static final double TOLERANCE = 1.e-6;
+
+    /**
+     * Lengths tolerance.
+     */
+    private static final double LENGTH = 1.e-6;
+
+    /**
+     * Squared sine of the angles tolerance.
+     */
+    private static final double SINE = Math.pow(
+        Math.sin(VectRelations.TOLERANCE), 2
+    );
+
+    /**
+     * Squared cosine of the angles tolerance.
+     */
+    private static final double COSINE = 1. - VectRelations.SINE;
+
+    /**
+     * Field.
+     */
+    private final MetricSpaceField<T> field;
+
+    /**
+     * Constructor.
+     * @param field Metric space field
+     */
+    public VectRelations(final MetricSpaceField<T> field) {
+        this.field = field;
+    }
+
+    /**
+     * Checks whether two vectors make a right angle. Null vectors make no
+     * angle.
+     * @param first First vector
+     * @param second Second vector
+     * @return True if orthogonal
+     */
+    public boolean orthogonal(final Vect<T> first, final Vect<T> second) {
+        return VectRelations.orthogonal(this.products(first, second));
+    }
+
+    /**
+     * Checks whether two non null vectors have the same or opposite
+     * directions.
+     * @param first First vector
+     * @param second Second vector
+     * @return True if collinear
+     */
+    public boolean collinear(final Vect<T> first, final Vect<T> second) {
+        return VectRelations.collinear(this.products(first, second));
+    }
+
+    /**
+     * Checks whether two non null vectors have opposite directions, making
+     * a flat angle.
+     * @param first First vector
+     * @param second Second vector
+     * @return True if opposite
+     */
+    public boolean opposite(final Vect<T> first, final Vect<T> second) {
+        final double[] prods = this.products(first, second);
+        return VectRelations.collinear(prods) && prods[0] < 0.;
+    }
+
+    /**
+     * Checks whether two non null vectors make an angle smaller than a
+     * right angle.
+     * @param first First vector
+     * @param second Second vector
+     * @return True if acute
+     */
+    public boolean acute(final Vect<T> first, final Vect<T> second) {
+        final double[] prods = this.products(first, second);
+        return prods[0] > 0. && !VectRelations.orthogonal(prods);
+    }
+
+    /**
+     * Checks whether two non null vectors make an angle greater than a
+     * right angle.
+     * @param first First vector
+     * @param second Second vector
+     * @return True if obtuse
+     */
+    public boolean obtuse(final Vect<T> first, final Vect<T> second) {
+        final double[] prods = this.products(first, second);
+        return prods[0] < 0. && !VectRelations.orthogonal(prods);
+    }
+
+    /**
+     * Checks whether a vector norm equals a length, up to an absolute
+     * tolerance of 1e-6, comparing the squared norm with the squared bounds
+     * of the length.
+     * @param vect Vector
+     * @param length Length
+     * @return True if the vector has this length
+     */
+    public boolean length(final Vect<T> vect, final Scalar<T> length) {
+        final T square = this.field.actual(this.field.product().product(vect, vect));
+        final T len = this.field.actual(length);
+        final boolean result;
+        if (square instanceof Number && len instanceof Number) {
+            final double norm = ((Number) square).doubleValue();
+            final double upper = ((Number) len).doubleValue() + VectRelations.LENGTH;
+            final double lower = ((Number) len).doubleValue() - VectRelations.LENGTH;
+            result = upper > 0. && norm < upper * upper
+                && (lower < 0. || norm > lower * lower);
+        } else {
+            result = this.field.equals(length, this.field.product().norm(vect));
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the inner product of two vectors and their squared norms.
+     * With non numeric scalars, gives instead the cosine of their angle and
+     * unit norms.
+     * @param first First vector
+     * @param second Second vector
+     * @return Inner product, and first and second squared norms
+     */
+    private double[] products(final Vect<T> first, final Vect<T> second) {
+        final InnerProduct<T> product = this.field.product();
+        final T prod = this.field.actual(product.product(first, second));
+        final double[] result;
+        if (prod instanceof Number) {
+            result = new double[] {
+                ((Number) prod).doubleValue(),
+                this.number(product.product(first, first)),
+                this.number(product.product(second, second)),
+            };
+        } else {
+            result = new double[] {
+                Math.cos(product.angle(first, second).resolve(product).doubleValue()),
+                1.,
+                1.,
+            };
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether products are those of orthogonal vectors.
+     * @param prods Inner product, and first and second squared norms
+     * @return True if orthogonal
+     */
+    private static boolean orthogonal(final double[] prods) {
+        return prods[0] * prods[0] < VectRelations.SINE * prods[1] * prods[2];
+    }
+
+    /**
+     * Checks whether products are those of non null collinear vectors.
+     * @param prods Inner product, and first and second squared norms
+     * @return True if collinear
+     */
+    private static boolean collinear(final double[] prods) {
+        final double norms = prods[1] * prods[2];
+        return norms > 0. && prods[0] * prods[0] > VectRelations.COSINE * norms;
+    }
+
+    /**
+     * Resolves a scalar to a double.
+     * @param scalar Scalar of numeric value
+     * @return Double value
+     */
+    private double number(final Scalar<T> scalar) {
+        return ((Number) this.field.actual(scalar)).doubleValue();
+    }
+
+}
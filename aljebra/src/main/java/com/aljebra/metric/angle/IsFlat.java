@@ -24,10 +24,13 @@
 package com.aljebra.metric.angle;
 
 import com.aljebra.field.MetricSpaceField;
+import com.aljebra.metric.VectRelations;
 import com.aljebra.scalar.condition.Predicate;
 
 /**
- * A predicate to determine if an angle is flat.
+ * A predicate to determine if an angle is flat. Angles between two vectors
+ * are classified from inner products, within the tolerance of
+ * {@link VectRelations}.
  * @param <T> scalar types
  * @since 0.4
  */
@@ -48,9 +51,16 @@ public final class IsFlat<T> implements Predicate<MetricSpaceField<T>> {
 
     @Override
     public boolean resolve(final MetricSpaceField<T> field) {
-        return Double.valueOf(
-            this.angle.resolve(field.product()).doubleValue() % (2 * Math.PI)
-        ).equals(Math.PI);
+        final boolean result;
+        if (this.angle instanceof VectsDegrees<?>) {
+            final VectsDegrees<T> vects = (VectsDegrees<T>) this.angle;
+            result = new VectRelations<>(field).opposite(vects.first(), vects.second());
+        } else {
+            result = Double.valueOf(
+                this.angle.resolve(field.product()).doubleValue() % (2 * Math.PI)
+            ).equals(Math.PI);
+        }
+        return result;
     }
 
 }
@@ -62,4 +62,20 @@ public final class VectsDegrees<T> implements Degrees<T> {
         return product.angle(this.first, this.second).resolve(product);
     }
 
+    /**
+     * Gives the first vector.
+     * @return First vector
+     */
+    Vect<T> first() {
+        return this.first;
+    }
+
+    /**
+     * Gives the second vector.
+     * @return Second vector
+     */
+    Vect<T> second() {
+        return this.second;
+    }
+
 }
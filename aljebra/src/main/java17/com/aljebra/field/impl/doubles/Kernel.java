@@ -0,0 +1,187 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+/**
+ * Primitive double loops shared by the double implementations: dot
+ * product, norm, axpy and matrix-vector products. This implementation is
+ * picked from the multi-release jar on Java 17 and later. It delegates to
+ * {@link VectorKernel} when the {@code jdk.incubator.vector} module is
+ * resolved (for instance with {@code --add-modules jdk.incubator.vector}),
+ * and keeps the scalar loops otherwise. Both give the same bits: products
+ * are never fused, and sums are accumulated in {@link #LANES} partial sums
+ * by index, then combined by a fixed tree, whatever the width of the
+ * registers.
+ * @since 0.4
+ */
+final class Kernel {
+
+    /**
+     * Count of partial sums of a dot product.
+     */
+    static final int LANES = 8;
+
+    /**
+     * Whether the vector API module is available.
+     */
+    private static final boolean SIMD = ModuleLayer.boot()
+        .findModule("jdk.incubator.vector").isPresent();
+
+    /**
+     * Calculates the dot product of two ranges.
+     * @param first First array
+     * @param foff First range offset
+     * @param second Second array
+     * @param soff Second range offset
+     * @param length Ranges length
+     * @return Sum of the products
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public double dot(final double[] first, final int foff,
+        final double[] second, final int soff, final int length) {
+        final double result;
+        if (Kernel.SIMD) {
+            result = VectorKernel.dot(first, foff, second, soff, length);
+        } else {
+            final double[] parts = new double[Kernel.LANES];
+            for (int idx = 0; idx < length; ++idx) {
+                parts[idx % Kernel.LANES] += first[foff + idx] * second[soff + idx];
+            }
+            result = Kernel.combine(parts);
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the euclidean norm of a range.
+     * @param vect Array
+     * @param off Range offset
+     * @param length Range length
+     * @return Norm
+     */
+    public double norm(final double[] vect, final int off, final int length) {
+        return Math.sqrt(this.dot(vect, off, vect, off, length));
+    }
+
+    /**
+     * Adds a multiple of a range to another range.
+     * @param alpha Multiplier
+     * @param src Added array
+     * @param soff Added range offset
+     * @param dst Accumulating array
+     * @param doff Accumulating range offset
+     * @param length Ranges length
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public void axpy(final double alpha, final double[] src, final int soff,
+        final double[] dst, final int doff, final int length) {
+        if (Kernel.SIMD) {
+            VectorKernel.axpy(alpha, src, soff, dst, doff, length);
+        } else {
+            for (int idx = 0; idx < length; ++idx) {
+                dst[doff + idx] += alpha * src[soff + idx];
+            }
+        }
+    }
+
+    /**
+     * Multiplies a line-major matrix by a vector. Lines shorter than
+     * {@link #LANES} are summed in columns order, longer ones as
+     * dot products.
+     * @param matrix Line-major matrix coordinates
+     * @param lines Matrix lines count
+     * @param src Vector array
+     * @param soff Vector offset
+     * @param dst Output array
+     * @param doff Output offset
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public void gemv(final double[] matrix, final int lines, final double[] src,
+        final int soff, final double[] dst, final int doff) {
+        final int columns = matrix.length / lines;
+        for (int row = 0; row < lines; ++row) {
+            double sum = 0.;
+            if (columns < Kernel.LANES) {
+                for (int col = 0; col < columns; ++col) {
+                    sum += matrix[row * columns + col] * src[soff + col];
+                }
+            } else {
+                sum = this.dot(matrix, row * columns, src, soff, columns);
+            }
+            dst[doff + row] = sum;
+        }
+    }
+
+    /**
+     * Multiplies a line-major matrix by vectors packed one after the other.
+     * A 2x2 matrix is applied to several vectors per register, instead of
+     * one line at a time. Source and output may overlap only if they start
+     * at the same position with a square matrix.
+     * @param matrix Line-major matrix coordinates
+     * @param lines Matrix lines count
+     * @param src Packed source vectors
+     * @param soff Offset of the first source vector
+     * @param dst Output buffer
+     * @param doff Offset of the first output vector
+     * @param count Count of vectors
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public void batch(final double[] matrix, final int lines, final double[] src,
+        final int soff, final double[] dst, final int doff, final int count) {
+        final int columns = matrix.length / lines;
+        int done = 0;
+        if (Kernel.SIMD && lines == 2 && columns == 2) {
+            done = VectorKernel.pairs(matrix, src, soff, dst, doff, count);
+        }
+        final double[] line = new double[lines];
+        for (int vect = done; vect < count; ++vect) {
+            this.gemv(matrix, lines, src, soff + vect * columns, line, 0);
+            System.arraycopy(line, 0, dst, doff + vect * lines, lines);
+        }
+    }
+
+    /**
+     * Tells whether this kernel uses SIMD registers.
+     * @return True if the vector API module is available
+     */
+    public boolean simd() {
+        return Kernel.SIMD;
+    }
+
+    /**
+     * Combines partial sums by a fixed pairwise tree. The array is
+     * overwritten.
+     * @param parts Partial sums, {@link #LANES} of them
+     * @return Sum
+     */
+    static double combine(final double[] parts) {
+        for (int width = Kernel.LANES / 2; width > 0; width /= 2) {
+            for (int idx = 0; idx < width; ++idx) {
+                parts[idx] += parts[idx + width];
+            }
+        }
+        return parts[0];
+    }
+
+}
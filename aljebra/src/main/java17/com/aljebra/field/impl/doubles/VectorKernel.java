@@ -0,0 +1,187 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import java.util.function.IntUnaryOperator;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Primitive double loops using SIMD registers through the vector API.
+ * Only loaded by {@link Kernel} when the {@code jdk.incubator.vector}
+ * module is available. Registers are at most {@link Kernel#LANES} wide,
+ * products and sums are separate lane-wise operations, and lanes are
+ * reduced through {@link Kernel#combine(double[])}, so that results are
+ * the same bits as the scalar loops.
+ * @since 0.4
+ */
+final class VectorKernel {
+
+    /**
+     * Preferred vector shape of the platform, capped to the partial sums
+     * count of a dot product.
+     */
+    private static final VectorSpecies<Double> SPECIES = VectorSpecies.of(
+        double.class,
+        VectorShape.forBitSize(
+            Integer.highestOneBit(
+                Math.min(DoubleVector.SPECIES_PREFERRED.length(), Kernel.LANES)
+            ) * Double.SIZE
+        )
+    );
+
+    /**
+     * Shuffle swapping the two coordinates of packed 2D vectors.
+     */
+    private static final VectorShuffle<Double> SWAP = VectorShuffle.fromOp(
+        VectorKernel.SPECIES,
+        new IntUnaryOperator() {
+            @Override
+            public int applyAsInt(final int lane) {
+                return lane ^ 1;
+            }
+        }
+    );
+
+    /**
+     * Ctor.
+     */
+    private VectorKernel() {
+    }
+
+    /**
+     * Calculates the dot product of two ranges. Each register accumulates
+     * a slice of the {@link Kernel#LANES} partial sums, and the tail is
+     * added to the partial sums with scalar operations.
+     * @param first First array
+     * @param foff First range offset
+     * @param second Second array
+     * @param soff Second range offset
+     * @param length Ranges length
+     * @return Sum of the products
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    static double dot(final double[] first, final int foff,
+        final double[] second, final int soff, final int length) {
+        final int step = VectorKernel.SPECIES.length();
+        final DoubleVector[] acc = new DoubleVector[Kernel.LANES / step];
+        for (int part = 0; part < acc.length; ++part) {
+            acc[part] = DoubleVector.zero(VectorKernel.SPECIES);
+        }
+        final int bound = length - length % Kernel.LANES;
+        for (int idx = 0; idx < bound; idx += Kernel.LANES) {
+            for (int part = 0; part < acc.length; ++part) {
+                final int pos = idx + part * step;
+                acc[part] = acc[part].add(
+                    DoubleVector.fromArray(VectorKernel.SPECIES, first, foff + pos)
+                        .mul(
+                            DoubleVector.fromArray(
+                                VectorKernel.SPECIES, second, soff + pos
+                            )
+                        )
+                );
+            }
+        }
+        final double[] parts = new double[Kernel.LANES];
+        for (int part = 0; part < acc.length; ++part) {
+            acc[part].intoArray(parts, part * step);
+        }
+        for (int idx = bound; idx < length; ++idx) {
+            parts[idx - bound] += first[foff + idx] * second[soff + idx];
+        }
+        return Kernel.combine(parts);
+    }
+
+    /**
+     * Adds a multiple of a range to another range.
+     * @param alpha Multiplier
+     * @param src Added array
+     * @param soff Added range offset
+     * @param dst Accumulating array
+     * @param doff Accumulating range offset
+     * @param length Ranges length
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    static void axpy(final double alpha, final double[] src, final int soff,
+        final double[] dst, final int doff, final int length) {
+        final int bound = VectorKernel.SPECIES.loopBound(length);
+        final int step = VectorKernel.SPECIES.length();
+        int idx = 0;
+        for (; idx < bound; idx += step) {
+            DoubleVector.fromArray(VectorKernel.SPECIES, src, soff + idx)
+                .mul(alpha)
+                .add(DoubleVector.fromArray(VectorKernel.SPECIES, dst, doff + idx))
+                .intoArray(dst, doff + idx);
+        }
+        for (; idx < length; ++idx) {
+            dst[doff + idx] += alpha * src[soff + idx];
+        }
+    }
+
+    /**
+     * Multiplies a 2x2 line-major matrix by packed 2D vectors, several
+     * vectors per register. Each coordinate is the product by the
+     * diagonal coefficient plus the product of the swapped coordinate by
+     * the other one, added to zero as the scalar line sums are.
+     * @param matrix Line-major matrix coordinates
+     * @param src Packed source vectors
+     * @param soff Offset of the first source vector
+     * @param dst Output buffer
+     * @param doff Offset of the first output vector
+     * @param count Count of vectors
+     * @return Count of vectors processed, the rest is left to the caller
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    static int pairs(final double[] matrix, final double[] src, final int soff,
+        final double[] dst, final int doff, final int count) {
+        final int step = VectorKernel.SPECIES.length();
+        int idx = 0;
+        if (step > 1) {
+            final double[] diag = new double[step];
+            final double[] cross = new double[step];
+            for (int lane = 0; lane < step; lane += 2) {
+                diag[lane] = matrix[0];
+                diag[lane + 1] = matrix[2 + 1];
+                cross[lane] = matrix[1];
+                cross[lane + 1] = matrix[2];
+            }
+            final DoubleVector dcoefs = DoubleVector.fromArray(VectorKernel.SPECIES, diag, 0);
+            final DoubleVector ccoefs =
+                DoubleVector.fromArray(VectorKernel.SPECIES, cross, 0);
+            final int bound = VectorKernel.SPECIES.loopBound(2 * count);
+            for (; idx < bound; idx += step) {
+                final DoubleVector coords =
+                    DoubleVector.fromArray(VectorKernel.SPECIES, src, soff + idx);
+                DoubleVector.zero(VectorKernel.SPECIES)
+                    .add(coords.mul(dcoefs))
+                    .add(coords.rearrange(VectorKernel.SWAP).mul(ccoefs))
+                    .intoArray(dst, doff + idx);
+            }
+        }
+        return idx / 2;
+    }
+
+}
@@ -0,0 +1,220 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.matrix.Matrix;
+import com.aljebra.scalar.Scalar;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link BatchMatrix}.
+ * @since 0.4
+ */
+public final class BatchMatrixTest {
+
+    /**
+     * Error tolerance.
+     */
+    private static final double ERROR = 1.e-9;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link BatchMatrix} applies the matrix to packed vectors
+     * as the matrix does.
+     */
+    @Test
+    public void appliesToPackedVectors() {
+        final int lines = 3;
+        final int cols = 4;
+        final int count = 5;
+        final Matrix<Double> matrix = BatchMatrixTest.matrix(lines, cols);
+        final double[] src = BatchMatrixTest.doubles(1 + count * cols);
+        final double[] dst = new double[2 + count * lines];
+        new BatchMatrix(matrix).apply(src, 1, dst, 2, count);
+        for (int vect = 0; vect < count; ++vect) {
+            final Scalar<Double>[] expected = matrix.apply(
+                BatchMatrixTest.vect(src, 1 + vect * cols, cols)
+            ).coords();
+            for (int row = 0; row < lines; ++row) {
+                MatcherAssert.assertThat(
+                    dst[2 + vect * lines + row],
+                    Matchers.closeTo(
+                        new Decimal().actual(expected[row]), BatchMatrixTest.ERROR
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * {@link BatchMatrix} applies the matrix to vectors stored
+     * with one array per coordinate.
+     */
+    @Test
+    public void appliesToColumnarVectors() {
+        final int lines = 2;
+        final int cols = 3;
+        final int count = 7;
+        final Matrix<Double> matrix = BatchMatrixTest.matrix(lines, cols);
+        final double[][] src = new double[cols][];
+        for (int col = 0; col < cols; ++col) {
+            src[col] = BatchMatrixTest.doubles(count);
+        }
+        final double[][] dst = new double[lines][count];
+        new BatchMatrix(matrix).apply(src, 0, dst, 0, count);
+        for (int vect = 0; vect < count; ++vect) {
+            final Double[] input = new Double[cols];
+            for (int col = 0; col < cols; ++col) {
+                input[col] = src[col][vect];
+            }
+            final Scalar<Double>[] expected =
+                matrix.apply(new DblVect(input)).coords();
+            for (int row = 0; row < lines; ++row) {
+                MatcherAssert.assertThat(
+                    dst[row][vect],
+                    Matchers.closeTo(
+                        new Decimal().actual(expected[row]), BatchMatrixTest.ERROR
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * {@link BatchMatrix} can transform packed vectors in place
+     * with a square matrix.
+     */
+    @Test
+    public void appliesInPlace() {
+        final int dim = 2;
+        final int count = 4;
+        final BatchMatrix batch = new BatchMatrix(
+            BatchMatrixTest.matrix(dim, dim)
+        );
+        final double[] src = BatchMatrixTest.doubles(count * dim);
+        final double[] expected = new double[src.length];
+        batch.apply(src, 0, expected, 0, count);
+        batch.apply(src, 0, src, 0, count);
+        MatcherAssert.assertThat(src, Matchers.equalTo(expected));
+    }
+
+    /**
+     * {@link BatchMatrix} splits large blocks across the pool with the same
+     * result as the sequential application.
+     */
+    @Test
+    public void appliesInParallel() {
+        final int lines = 3;
+        final int cols = 3;
+        final int count = 1000;
+        final Matrix<Double> matrix = BatchMatrixTest.matrix(lines, cols);
+        final double[] src = BatchMatrixTest.doubles(count * cols);
+        final double[] expected = new double[count * lines];
+        final double[] result = new double[count * lines];
+        new BatchMatrix(matrix).apply(src, 0, expected, 0, count);
+        new BatchMatrix(
+            matrix, new Parallelism(1, 16, ForkJoinPool.commonPool())
+        ).apply(src, 0, result, 0, count);
+        MatcherAssert.assertThat(result, Matchers.equalTo(expected));
+    }
+
+    /**
+     * {@link BatchMatrix} gives the matrix dimensions.
+     */
+    @Test
+    public void givesDimensions() {
+        final BatchMatrix batch = new BatchMatrix(BatchMatrixTest.matrix(2, 5));
+        MatcherAssert.assertThat(batch.lines(), Matchers.equalTo(2));
+        MatcherAssert.assertThat(batch.columns(), Matchers.equalTo(5));
+    }
+
+    /**
+     * {@link BatchMatrix} throws exception if the coordinates arrays
+     * do not match the matrix dimensions.
+     */
+    @Test
+    public void errorsWhenIncompatibleArrays() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new BatchMatrix(BatchMatrixTest.matrix(2, 3)).apply(
+            new double[2][1], 0, new double[2][1], 0, 1
+        );
+    }
+
+    /**
+     * Builds a random double matrix.
+     * @param lines Lines count
+     * @param cols Columns count
+     * @return A matrix
+     */
+    private static Matrix<Double> matrix(final int lines, final int cols) {
+        final double[] values = BatchMatrixTest.doubles(lines * cols);
+        final Double[] coords = new Double[values.length];
+        for (int idx = 0; idx < values.length; ++idx) {
+            coords[idx] = values[idx];
+        }
+        return new DblMatrix(lines, cols, coords);
+    }
+
+    /**
+     * Builds a vector from packed values.
+     * @param values Packed values
+     * @param offset Vector offset
+     * @param dim Vector dimension
+     * @return A vector
+     */
+    private static DblVect vect(final double[] values, final int offset,
+        final int dim) {
+        final Double[] coords = new Double[dim];
+        for (int idx = 0; idx < dim; ++idx) {
+            coords[idx] = values[offset + idx];
+        }
+        return new DblVect(coords);
+    }
+
+    /**
+     * Builds random doubles.
+     * @param size Array size
+     * @return An array of random doubles
+     */
+    private static double[] doubles(final int size) {
+        final Random rand = new Random();
+        final double[] result = new double[size];
+        for (int idx = 0; idx < size; ++idx) {
+            result[idx] = rand.nextDouble();
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Blocks}.
+ * @since 0.4
+ */
+public final class BlocksTest {
+
+    /**
+     * {@link Blocks} computes every work unit exactly once, in parts
+     * not larger than the leaf size.
+     */
+    @Test
+    public void coversAllUnitsOnce() {
+        final int size = 1000;
+        final int leaf = 7;
+        final AtomicIntegerArray counts = new AtomicIntegerArray(size);
+        ForkJoinPool.commonPool().invoke(
+            new Blocks(
+                new Block() {
+                    @Override
+                    public void apply(final int from, final int until) {
+                        MatcherAssert.assertThat(
+                            until - from, Matchers.lessThanOrEqualTo(leaf)
+                        );
+                        for (int idx = from; idx < until; ++idx) {
+                            counts.incrementAndGet(idx);
+                        }
+                    }
+                },
+                0, size, leaf
+            )
+        );
+        for (int idx = 0; idx < size; ++idx) {
+            MatcherAssert.assertThat(counts.get(idx), Matchers.equalTo(1));
+        }
+    }
+
+}
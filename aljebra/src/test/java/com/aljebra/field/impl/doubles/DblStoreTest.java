@@ -0,0 +1,179 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.vector.Vect;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link DblStore}.
+ * @since 0.4
+ */
+public final class DblStoreTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link DblStore} stores and gives vectors coordinates.
+     */
+    @Test
+    public void storesVectors() {
+        final DblStore store = new DblStore(2, 3);
+        store.set(1, new DblVect(2., 3.));
+        store.set(2, 1, 4.);
+        MatcherAssert.assertThat(store.get(1, 0), Matchers.equalTo(2.));
+        MatcherAssert.assertThat(store.get(1, 1), Matchers.equalTo(3.));
+        MatcherAssert.assertThat(store.get(2, 1), Matchers.equalTo(4.));
+        MatcherAssert.assertThat(store.get(0, 0), Matchers.equalTo(0.));
+        MatcherAssert.assertThat(store.size(), Matchers.equalTo(3));
+        MatcherAssert.assertThat(store.dimension(), Matchers.equalTo(2));
+    }
+
+    /**
+     * {@link DblStore} gives vector views reflecting the store.
+     */
+    @Test
+    public void givesViews() {
+        final DblStore store = new DblStore(2, 1);
+        final Vect<Double> view = store.vect(0);
+        store.set(0, new DblVect(5., 6.));
+        final Decimal field = new Decimal();
+        MatcherAssert.assertThat(
+            field.actual(view.coords()[0]), Matchers.equalTo(5.)
+        );
+        MatcherAssert.assertThat(
+            field.actual(view.coords()[1]), Matchers.equalTo(6.)
+        );
+    }
+
+    /**
+     * {@link DblStore} iterates over all the vectors.
+     */
+    @Test
+    public void iteratesVectors() {
+        final int size = 4;
+        final DblStore store = new DblStore(1, size);
+        for (int idx = 0; idx < size; ++idx) {
+            store.set(idx, 0, idx);
+        }
+        final Decimal field = new Decimal();
+        double expected = 0.;
+        for (final Vect<Double> vect : store) {
+            MatcherAssert.assertThat(
+                field.actual(vect.coords()[0]), Matchers.equalTo(expected)
+            );
+            expected += 1.;
+        }
+        MatcherAssert.assertThat(expected, Matchers.equalTo((double) size));
+    }
+
+    /**
+     * {@link DblStore} copies coordinates ranges in bulk.
+     */
+    @Test
+    public void copiesInBulk() {
+        final DblStore store = new DblStore(2, 5);
+        store.write(1, 2, new double[] {9., 7., 8.}, 1, 2);
+        final double[] dst = new double[3];
+        store.read(1, 1, dst, 0, 3);
+        MatcherAssert.assertThat(dst, Matchers.equalTo(new double[] {0., 7., 8.}));
+    }
+
+    /**
+     * {@link DblStore} transforms vectors through a batch matrix, in chunks.
+     */
+    @Test
+    public void transformsVectors() {
+        final int size = 10000;
+        final DblStore store = new DblStore(2, size);
+        for (int idx = 0; idx < size; ++idx) {
+            store.set(idx, 0, idx);
+            store.set(idx, 1, -idx);
+        }
+        final DblStore target = new DblStore(3, size);
+        store.transform(
+            new BatchMatrix(
+                new DblMatrix(3, 2, 1., 0., 1., 0., 1., 1.),
+                new Parallelism(1, 64, ForkJoinPool.commonPool())
+            ),
+            target
+        );
+        for (int idx = 0; idx < size; ++idx) {
+            MatcherAssert.assertThat(target.get(idx, 0), Matchers.equalTo((double) idx));
+            MatcherAssert.assertThat(target.get(idx, 1), Matchers.equalTo((double) -idx));
+            MatcherAssert.assertThat(target.get(idx, 2), Matchers.equalTo(0.));
+        }
+    }
+
+    /**
+     * {@link DblStore} rejects sizes overflowing a direct buffer.
+     */
+    @Test
+    public void errorsWhenTooLarge() {
+        this.thrown.expect(IllegalArgumentException.class);
+        this.thrown.expectMessage("exceeds");
+        new DblStore(1, Integer.MAX_VALUE / Double.BYTES + 1);
+    }
+
+    /**
+     * {@link DblStore} throws exception when transforming with
+     * an incompatible matrix.
+     */
+    @Test
+    public void errorsWhenIncompatibleMatrix() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new DblStore(2, 1).transform(
+            new BatchMatrix(new DblMatrix(1, 1, 1.)), new DblStore(1, 1)
+        );
+    }
+
+    /**
+     * {@link DblStore} throws exception when storing a vector with
+     * a wrong dimension.
+     */
+    @Test
+    public void errorsWhenIncompatibleVector() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new DblStore(2, 1).set(0, new DblVect(1.));
+    }
+
+    /**
+     * {@link DblStore} throws exception when viewing a vector out of range.
+     */
+    @Test
+    public void errorsWhenViewOutOfRange() {
+        this.thrown.expect(IndexOutOfBoundsException.class);
+        new DblStore(2, 1).vect(1);
+    }
+
+}
@@ -108,4 +108,16 @@ public final class DecimalTest {
             rand.lower().isPresent() && rand.lower().get().equals(0.)
         );
     }
+
+    /**
+     * Decimal gives the inner product it is built with.
+     */
+    @Test
+    public void givesInnerProduct() {
+        final Dot dot = new Dot(new Parallelism());
+        MatcherAssert.assertThat(
+            "Expecting the passed inner product",
+            new Decimal(dot).product() == dot
+        );
+    }
 }
@@ -23,14 +23,19 @@
  */
 package com.aljebra.field.impl.doubles;
 
+import com.aljebra.field.Field;
 import com.aljebra.metric.angle.Degrees;
 import com.aljebra.scalar.Scalar;
 import com.aljebra.scalar.condition.Equals;
+import com.aljebra.vector.FixedVector;
 import com.aljebra.vector.Vect;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 /**
  * Tests for {@link Dot}.
@@ -38,6 +43,12 @@ import org.junit.Test;
  */
 public final class DotTest {
 
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     /**
      * Max scalar array length to generate(mock).
      */
@@ -161,6 +172,72 @@ public final class DotTest {
         );
     }
 
+    /**
+     * {@link Dot} can calculate high dimension products in parallel
+     * and gives the same result for each calculation.
+     */
+    @Test
+    public void calculatesProductInParallel() {
+        final int size = 5000;
+        final Double[] first = DotTest.doubles(size);
+        final Double[] second = DotTest.doubles(size);
+        double expected = 0.;
+        for (int idx = 0; idx < size; ++idx) {
+            expected += first[idx] * second[idx];
+        }
+        final Dot dot = new Dot(new Parallelism(size, 16, ForkJoinPool.commonPool()));
+        final Decimal field = new Decimal();
+        final double result = field.actual(
+            dot.product(new DblVect(first), new DblVect(second))
+        );
+        MatcherAssert.assertThat(result, Matchers.closeTo(expected, 1.e-9));
+        MatcherAssert.assertThat(
+            field.actual(dot.product(new DblVect(first), new DblVect(second))),
+            Matchers.equalTo(result)
+        );
+        MatcherAssert.assertThat(
+            field.actual(dot.norm(new DblVect(first))),
+            Matchers.closeTo(
+                Math.sqrt(field.actual(new Dot().product(new DblVect(first), new DblVect(first)))),
+                1.e-9
+            )
+        );
+    }
+
+    /**
+     * {@link Dot} evaluates parallel products lazily, when the product is
+     * evaluated.
+     */
+    @Test
+    public void evaluatesParallelProductLazily() {
+        final Vect<Double> vect = new FixedVector<>(
+            new Scalar<Double>() {
+                @Override
+                public Double value(final Field<Double> field) {
+                    throw new IllegalStateException("Evaluated");
+                }
+            },
+            new Scalar.Default<>(1.)
+        );
+        final Scalar<Double> product = new Dot(
+            new Parallelism(2, 1, ForkJoinPool.commonPool())
+        ).product(vect, vect);
+        this.thrown.expect(IllegalStateException.class);
+        new Decimal().actual(product);
+    }
+
+    /**
+     * {@link Dot} rejects parallel products of vectors of different
+     * dimensions.
+     */
+    @Test
+    public void rejectsDifferentDimensionsInParallel() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Dot(new Parallelism(2, 1, ForkJoinPool.commonPool())).product(
+            new DblVect(1., 2., 3.), new DblVect(1., 2.)
+        );
+    }
+
     /**
      * Generates an array of doubles with the given length.
      * @param length Array size to generate
@@ -0,0 +1,175 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Kernel}.
+ * @since 0.4
+ */
+public final class KernelTest {
+
+    /**
+     * System property telling whether tests run with SIMD kernels, set
+     * when testing the multi-release jar.
+     */
+    private static final String SIMD = "aljebra.kernel.simd";
+
+    /**
+     * Error tolerance.
+     */
+    private static final double ERROR = 1.e-9;
+
+    /**
+     * {@link Kernel} calculates the dot product of ranges.
+     */
+    @Test
+    public void calculatesDot() {
+        MatcherAssert.assertThat(
+            new Kernel().dot(
+                new double[] {0., 1., 2., 3.}, 1, new double[] {4., 5., 6.}, 0, 3
+            ),
+            Matchers.closeTo(32., KernelTest.ERROR)
+        );
+    }
+
+    /**
+     * {@link Kernel} calculates the norm of a range.
+     */
+    @Test
+    public void calculatesNorm() {
+        MatcherAssert.assertThat(
+            new Kernel().norm(new double[] {9., 3., 4.}, 1, 2),
+            Matchers.closeTo(5., KernelTest.ERROR)
+        );
+    }
+
+    /**
+     * {@link Kernel} adds a multiple of a range to another.
+     */
+    @Test
+    public void addsMultiple() {
+        final double[] dst = {1., 1., 1.};
+        new Kernel().axpy(2., new double[] {1., 2., 3.}, 1, dst, 1, 2);
+        MatcherAssert.assertThat(dst, Matchers.equalTo(new double[] {1., 5., 7.}));
+    }
+
+    /**
+     * {@link Kernel} multiplies a line-major matrix by a vector.
+     */
+    @Test
+    public void multipliesMatrixByVector() {
+        final double[] dst = new double[3];
+        new Kernel().gemv(
+            new double[] {1., 2., 3., 4.}, 2, new double[] {0., 1., 1.}, 1,
+            dst, 1
+        );
+        MatcherAssert.assertThat(dst, Matchers.equalTo(new double[] {0., 3., 7.}));
+    }
+
+    /**
+     * {@link Kernel} sums products in partial sums by index, combined by
+     * a fixed tree, so that the result does not depend on the registers.
+     */
+    @Test
+    public void sumsInFixedOrder() {
+        final Random rand = new Random(1L);
+        for (int length = 0; length < 100; ++length) {
+            final double[] first = KernelTest.randoms(rand, length + 1);
+            final double[] second = KernelTest.randoms(rand, length + 2);
+            final double[] parts = new double[Kernel.LANES];
+            for (int idx = 0; idx < length; ++idx) {
+                parts[idx % Kernel.LANES] += first[idx + 1] * second[idx + 2];
+            }
+            final double expected = ((parts[0] + parts[4]) + (parts[2] + parts[6]))
+                + ((parts[1] + parts[5]) + (parts[2 + 1] + parts[7]));
+            MatcherAssert.assertThat(
+                new Kernel().dot(first, 1, second, 2, length),
+                Matchers.equalTo(expected)
+            );
+        }
+    }
+
+    /**
+     * {@link Kernel} multiplies a matrix by packed vectors like it
+     * multiplies each vector, including in place.
+     */
+    @Test
+    public void multipliesPackedVectors() {
+        final Random rand = new Random(2L);
+        final Kernel kernel = new Kernel();
+        for (int columns = 1; columns < 10; ++columns) {
+            final int lines = 2;
+            final int count = 37;
+            final double[] matrix = KernelTest.randoms(rand, lines * columns);
+            final double[] src = KernelTest.randoms(rand, 1 + count * columns);
+            final double[] expected = new double[2 + count * lines];
+            for (int vect = 0; vect < count; ++vect) {
+                kernel.gemv(
+                    matrix, lines, src, 1 + vect * columns, expected, 2 + vect * lines
+                );
+            }
+            final double[] dst = new double[2 + count * lines];
+            kernel.batch(matrix, lines, src, 1, dst, 2, count);
+            MatcherAssert.assertThat(dst, Matchers.equalTo(expected));
+            if (columns == lines) {
+                kernel.batch(matrix, lines, src, 1, src, 1, count);
+                MatcherAssert.assertThat(
+                    Arrays.copyOfRange(src, 1, src.length),
+                    Matchers.equalTo(Arrays.copyOfRange(expected, 2, expected.length))
+                );
+            }
+        }
+    }
+
+    /**
+     * {@link Kernel} uses SIMD registers when the tests expect them.
+     */
+    @Test
+    public void usesExpectedRegisters() {
+        MatcherAssert.assertThat(
+            new Kernel().simd(), Matchers.is(Boolean.getBoolean(KernelTest.SIMD))
+        );
+    }
+
+    /**
+     * Builds an array of random doubles.
+     * @param rand Random generator
+     * @param length Array length
+     * @return Random doubles
+     */
+    private static double[] randoms(final Random rand, final int length) {
+        final double[] result = new double[length];
+        for (int idx = 0; idx < length; ++idx) {
+            result[idx] = rand.nextDouble() * 2. - 1.;
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PairwiseSum}.
+ * @since 0.4
+ */
+public final class PairwiseSumTest {
+
+    /**
+     * {@link PairwiseSum} sums the products of two arrays.
+     */
+    @Test
+    public void sumsProducts() {
+        final int size = 1000;
+        final double[] first = PairwiseSumTest.doubles(size);
+        final double[] second = PairwiseSumTest.doubles(size);
+        double expected = 0.;
+        for (int idx = 0; idx < size; ++idx) {
+            expected += first[idx] * second[idx];
+        }
+        MatcherAssert.assertThat(
+            ForkJoinPool.commonPool().invoke(new PairwiseSum(first, second, 7)),
+            Matchers.closeTo(expected, 1.e-9)
+        );
+    }
+
+    /**
+     * {@link PairwiseSum} gives the same result whatever the pool is.
+     */
+    @Test
+    public void reducesDeterministically() {
+        final int size = 100_000;
+        final double[] first = PairwiseSumTest.doubles(size);
+        final double[] second = PairwiseSumTest.doubles(size);
+        final int leaf = 64;
+        final ForkJoinPool single = new ForkJoinPool(1);
+        final ForkJoinPool many = new ForkJoinPool(4);
+        final double expected = single.invoke(new PairwiseSum(first, second, leaf));
+        for (int run = 0; run < 10; ++run) {
+            MatcherAssert.assertThat(
+                many.invoke(new PairwiseSum(first, second, leaf)),
+                Matchers.equalTo(expected)
+            );
+        }
+        single.shutdown();
+        many.shutdown();
+    }
+
+    /**
+     * {@link PairwiseSum} sums a range of two arrays.
+     */
+    @Test
+    public void sumsRanges() {
+        final double[] first = {1., 2., 3., 4., 5.};
+        final double[] second = {10., 20., 30.};
+        MatcherAssert.assertThat(
+            new PairwiseSum(first, 2, second, 1, 2, 1).invoke(),
+            Matchers.equalTo(3. * 20. + 4. * 30.)
+        );
+    }
+
+    /**
+     * Generates an array of doubles with the given length.
+     * @param length Array size to generate
+     * @return An array of doubles.
+     */
+    private static double[] doubles(final int length) {
+        final double[] result = new double[length];
+        final Random random = new Random();
+        for (int idx = 0; idx < length; ++idx) {
+            result[idx] = random.nextDouble() - 0.5;
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.matrix.Composition;
+import com.aljebra.matrix.Matrix;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link ParallelComposition}.
+ * @since 0.4
+ */
+public final class ParallelCompositionTest {
+
+    /**
+     * {@link ParallelComposition} calculates the product across the pool
+     * with the same result as the sequential product.
+     */
+    @Test
+    public void multipliesInParallel() {
+        final int lines = 5;
+        final int inner = 7;
+        final int cols = 3;
+        final Matrix<Double> first = new DblMatrix(
+            lines, inner, ParallelCompositionTest.doubles(lines * inner)
+        );
+        final Matrix<Double> second = new DblMatrix(
+            inner, cols, ParallelCompositionTest.doubles(inner * cols)
+        );
+        final Matrix<Double> product = new ParallelComposition(
+            first, second, new Parallelism(1, 2, ForkJoinPool.commonPool())
+        );
+        final Decimal field = new Decimal();
+        final Scalar<Double>[] expected = new Composition<>(first, second).coords();
+        final Scalar<Double>[] result = product.coords();
+        MatcherAssert.assertThat(product.lines(), Matchers.equalTo(lines));
+        MatcherAssert.assertThat(product.columns(), Matchers.equalTo(cols));
+        MatcherAssert.assertThat(result.length, Matchers.equalTo(lines * cols));
+        for (int idx = 0; idx < result.length; ++idx) {
+            MatcherAssert.assertThat(
+                field.actual(result[idx]),
+                Matchers.closeTo(field.actual(expected[idx]), 1.e-9)
+            );
+        }
+        MatcherAssert.assertThat(
+            field.actual(product.line(2)[1]),
+            Matchers.closeTo(field.actual(expected[lines + 1]), 1.e-9)
+        );
+        MatcherAssert.assertThat(
+            field.actual(product.column(3)[0]),
+            Matchers.closeTo(field.actual(expected[2 * lines]), 1.e-9)
+        );
+    }
+
+    /**
+     * {@link ParallelComposition} calculates the product once for all
+     * the accesses to its coordinates.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void multipliesOnce() {
+        final Matrix<Double> first = Mockito.mock(Matrix.class);
+        Mockito.when(first.lines()).thenReturn(2);
+        Mockito.when(first.columns()).thenReturn(2);
+        Mockito.when(first.coords()).thenReturn(
+            new DblMatrix(2, 2, 1., 2., 3., 4.).coords()
+        );
+        final Matrix<Double> second = new DblMatrix(2, 2, 5., 6., 7., 8.);
+        final Matrix<Double> product = new ParallelComposition(
+            first, second, new Parallelism(1, 2, ForkJoinPool.commonPool())
+        );
+        final Decimal field = new Decimal();
+        final Scalar<Double>[] expected = new Composition<>(
+            new DblMatrix(2, 2, 1., 2., 3., 4.), second
+        ).coords();
+        for (int col = 1; col <= 2; ++col) {
+            MatcherAssert.assertThat(
+                field.actual(product.column(col)[0]),
+                Matchers.closeTo(field.actual(expected[2 * (col - 1)]), 1.e-9)
+            );
+        }
+        product.coords();
+        Mockito.verify(first, Mockito.times(1)).coords();
+    }
+
+    /**
+     * {@link ParallelComposition} applies the composed transformations.
+     */
+    @Test
+    public void appliesComposedTransformations() {
+        final Matrix<Double> product = new ParallelComposition(
+            new DblMatrix(2, 2, 0., 1., -1., 0.),
+            new DblMatrix(2, 2, 2., 0., 0., 3.),
+            new Parallelism(1)
+        );
+        final Vect<Double> input = new DblVect(1., 1.);
+        final Decimal field = new Decimal();
+        final Scalar<Double>[] result = product.apply(input).coords();
+        MatcherAssert.assertThat(field.actual(result[0]), Matchers.closeTo(-3., 1.e-9));
+        MatcherAssert.assertThat(field.actual(result[1]), Matchers.closeTo(2., 1.e-9));
+    }
+
+    /**
+     * {@link ParallelComposition} is a lazy composition under the threshold.
+     */
+    @Test
+    public void composesUnderThreshold() {
+        final Matrix<Double> first = new DblMatrix(2, 2, 1., 2., 3., 4.);
+        final Matrix<Double> second = new DblMatrix(2, 2, 5., 6., 7., 8.);
+        MatcherAssert.assertThat(
+            new ParallelComposition(first, second).coords(),
+            Matchers.equalTo(new Composition<>(first, second).coords())
+        );
+    }
+
+    /**
+     * Generates an array of doubles with the given length.
+     * @param length Array size to generate
+     * @return An array of doubles.
+     */
+    private static Double[] doubles(final int length) {
+        final Double[] result = new Double[length];
+        final Random random = new Random();
+        for (int idx = 0; idx < length; ++idx) {
+            result[idx] = random.nextDouble();
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import com.aljebra.matrix.Matrix;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link ParallelMatrix}.
+ * @since 0.4
+ */
+public final class ParallelMatrixTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link ParallelMatrix} applies transformation across the pool
+     * with the same result as the sequential transformation.
+     */
+    @Test
+    public void appliesInParallel() {
+        final int lines = 9;
+        final int cols = 40;
+        final Matrix<Double> matrix = new DblMatrix(
+            lines, cols, ParallelMatrixTest.doubles(lines * cols)
+        );
+        final Vect<Double> input = new DblVect(ParallelMatrixTest.doubles(cols));
+        final Decimal field = new Decimal();
+        final Scalar<Double>[] expected = matrix.apply(input).coords();
+        final Scalar<Double>[] result = new ParallelMatrix(
+            matrix, new Parallelism(1, 4, ForkJoinPool.commonPool())
+        ).apply(input).coords();
+        MatcherAssert.assertThat(result.length, Matchers.equalTo(lines));
+        for (int idx = 0; idx < lines; ++idx) {
+            MatcherAssert.assertThat(
+                field.actual(result[idx]),
+                Matchers.closeTo(field.actual(expected[idx]), 1.e-9)
+            );
+        }
+    }
+
+    /**
+     * {@link ParallelMatrix} delegates to the decorated matrix
+     * under the threshold.
+     */
+    @Test
+    public void delegatesUnderThreshold() {
+        final Matrix<Double> matrix = new DblMatrix(2, 2, 1., 2., 3., 4.);
+        final Vect<Double> input = new DblVect(1., 1.);
+        final Matrix<Double> parallel = new ParallelMatrix(matrix);
+        MatcherAssert.assertThat(
+            parallel.apply(input), Matchers.equalTo(matrix.apply(input))
+        );
+        MatcherAssert.assertThat(parallel.lines(), Matchers.equalTo(2));
+        MatcherAssert.assertThat(parallel.columns(), Matchers.equalTo(2));
+        MatcherAssert.assertThat(parallel.coords(), Matchers.equalTo(matrix.coords()));
+        MatcherAssert.assertThat(parallel.line(1), Matchers.equalTo(matrix.line(1)));
+        MatcherAssert.assertThat(parallel.column(2), Matchers.equalTo(matrix.column(2)));
+    }
+
+    /**
+     * {@link ParallelMatrix} throws exception when transforming
+     * a wrong vector size.
+     */
+    @Test
+    public void errorsWhenBadVectorSize() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new ParallelMatrix(
+            new DblMatrix(2, 2, 1., 2., 3., 4.), new Parallelism(1)
+        ).apply(new DblVect(1., 1., 1.));
+    }
+
+    /**
+     * Generates an array of doubles with the given length.
+     * @param length Array size to generate
+     * @return An array of doubles.
+     */
+    private static Double[] doubles(final int length) {
+        final Double[] result = new Double[length];
+        final Random random = new Random();
+        for (int idx = 0; idx < length; ++idx) {
+            result[idx] = random.nextDouble();
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.field.impl.doubles;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Parallelism}.
+ * @since 0.4
+ */
+public final class ParallelismTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Parallelism} is enabled from the threshold.
+     */
+    @Test
+    public void enablesFromThreshold() {
+        final int threshold = 16;
+        final Parallelism parallel = new Parallelism(threshold);
+        MatcherAssert.assertThat(
+            parallel.enabled(threshold - 1), Matchers.equalTo(false)
+        );
+        MatcherAssert.assertThat(parallel.enabled(threshold), Matchers.equalTo(true));
+        MatcherAssert.assertThat(
+            parallel.enabled((long) Integer.MAX_VALUE * threshold),
+            Matchers.equalTo(true)
+        );
+    }
+
+    /**
+     * {@link Parallelism} runs tasks on its pool.
+     */
+    @Test
+    public void invokesOnPool() {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        final Double result = new Parallelism(1, 1, pool).invoke(
+            new RecursiveTask<Double>() {
+                private static final long serialVersionUID = 1L;
+                @Override
+                protected Double compute() {
+                    return (double) ForkJoinTask.getPool().getParallelism();
+                }
+            }
+        );
+        pool.shutdown();
+        MatcherAssert.assertThat(result, Matchers.equalTo(2.));
+    }
+
+    /**
+     * {@link Parallelism} applies blocks over all work units, whether split
+     * across the pool or not.
+     */
+    @Test
+    public void appliesBlocks() {
+        final int count = 1000;
+        for (final int threshold : new int[] {1, 2 * count}) {
+            final int[] units = new int[count];
+            new Parallelism(threshold, 7, ForkJoinPool.commonPool()).apply(
+                new Block() {
+                    @Override
+                    public void apply(final int from, final int until) {
+                        for (int idx = from; idx < until; ++idx) {
+                            units[idx] += 1;
+                        }
+                    }
+                },
+                count
+            );
+            for (final int unit : units) {
+                MatcherAssert.assertThat(unit, Matchers.equalTo(1));
+            }
+        }
+    }
+
+    /**
+     * {@link Parallelism} throws exception when leaf size is not positive.
+     */
+    @Test
+    public void errorsWhenLeafNotPositive() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Parallelism(1, 0, ForkJoinPool.commonPool());
+    }
+
+}
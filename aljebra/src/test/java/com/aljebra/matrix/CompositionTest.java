@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.matrix;
+
+import com.aljebra.field.impl.doubles.DblMatrix;
+import com.aljebra.field.impl.doubles.DblVect;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.scalar.mock.Scalars;
+import com.aljebra.vector.FixedVector;
+import com.aljebra.vector.Vect;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Composition}.
+ * @since 0.4
+ */
+public final class CompositionTest {
+
+    /**
+     * {@link Composition} gives the product dimensions.
+     */
+    @Test
+    public void givesDimensions() {
+        final int lines = 3;
+        final int inner = 4;
+        final int cols = 2;
+        final Matrix<Object> product = new Composition<>(
+            new FixedMatrix<Object>(lines, inner, new Scalars<>(lines * inner)),
+            new FixedMatrix<Object>(inner, cols, new Scalars<>(inner * cols))
+        );
+        MatcherAssert.assertThat(product.lines(), Matchers.equalTo(lines));
+        MatcherAssert.assertThat(product.columns(), Matchers.equalTo(cols));
+        MatcherAssert.assertThat(product.coords().length, Matchers.equalTo(lines * cols));
+    }
+
+    /**
+     * {@link Composition} calculates the matrix product coordinates.
+     */
+    @Test
+    public void calculatesProduct() {
+        final Matrix<Double> product = new Composition<>(
+            new DblMatrix(2, 3, 1., 4., 2., 5., 3., 6.),
+            new DblMatrix(3, 2, 7., 9., 11., 8., 10., 12.)
+        );
+        final Decimal field = new Decimal();
+        final double[] expected = {58., 139., 64., 154.};
+        final Scalar<Double>[] coords = product.coords();
+        for (int idx = 0; idx < expected.length; ++idx) {
+            MatcherAssert.assertThat(
+                field.actual(coords[idx]), Matchers.closeTo(expected[idx], 1.e-9)
+            );
+        }
+        MatcherAssert.assertThat(
+            field.actual(product.line(2)[1]), Matchers.closeTo(expected[3], 1.e-9)
+        );
+        MatcherAssert.assertThat(
+            field.actual(product.column(2)[0]), Matchers.closeTo(expected[2], 1.e-9)
+        );
+    }
+
+    /**
+     * {@link Composition} applies the second matrix then the first one.
+     */
+    @Test
+    public void appliesComposedTransformations() {
+        final Matrix<Double> first = new DblMatrix(2, 2, 0., 1., -1., 0.);
+        final Matrix<Double> second = new DblMatrix(2, 2, 2., 0., 0., 3.);
+        final Vect<Double> input = new DblVect(1., 1.);
+        final Decimal field = new Decimal();
+        final Scalar<Double>[] result = new Composition<>(first, second)
+            .apply(input).coords();
+        MatcherAssert.assertThat(field.actual(result[0]), Matchers.closeTo(-3., 1.e-9));
+        MatcherAssert.assertThat(field.actual(result[1]), Matchers.closeTo(2., 1.e-9));
+    }
+
+    /**
+     * {@link Composition} respects equality regarding attributes.
+     */
+    @Test
+    public void respectsEqualAndHashcode() {
+        final Matrix<Object> first = new FixedMatrix<Object>(2, 2, new Scalars<>(4));
+        final Matrix<Object> second = new FixedMatrix<Object>(2, 2, new Scalars<>(4));
+        MatcherAssert.assertThat(
+            new Composition<>(first, second),
+            Matchers.equalTo(new Composition<>(first, second))
+        );
+        MatcherAssert.assertThat(
+            new Composition<>(first, second).hashCode(),
+            Matchers.equalTo(new Composition<>(first, second).hashCode())
+        );
+        MatcherAssert.assertThat(
+            new Composition<>(first, second).apply(
+                new FixedVector<Object>(new Scalars<>(2))
+            ).coords().length,
+            Matchers.equalTo(2)
+        );
+    }
+
+}
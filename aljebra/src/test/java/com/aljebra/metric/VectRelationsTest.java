@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aljebra.metric;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.field.impl.doubles.DblVect;
+import com.aljebra.scalar.Scalar;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link VectRelations}.
+ * @since 0.4
+ */
+public final class VectRelationsTest {
+
+    /**
+     * {@link VectRelations} tells orthogonal vectors, whatever their
+     * orientation and norms.
+     */
+    @Test
+    public void tellsOrthogonalVects() {
+        final VectRelations<Double> rel = new VectRelations<>(new Decimal());
+        MatcherAssert.assertThat(
+            rel.orthogonal(new DblVect(2., 0.), new DblVect(0., -3.)),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            rel.orthogonal(new DblVect(1.e-4, 1.e-4), new DblVect(1.e4, -1.e4)),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            rel.orthogonal(new DblVect(1., 0.), new DblVect(1.e-3, 1.)),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            rel.orthogonal(new DblVect(1., 0.), new DblVect(0., 0.)),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * {@link VectRelations} tells collinear and opposite vectors.
+     */
+    @Test
+    public void tellsCollinearVects() {
+        final VectRelations<Double> rel = new VectRelations<>(new Decimal());
+        MatcherAssert.assertThat(
+            rel.collinear(new DblVect(1., 2.), new DblVect(-2., -4.)),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            rel.opposite(new DblVect(1., 2.), new DblVect(-2., -4.)),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            rel.opposite(new DblVect(1., 2.), new DblVect(2., 4.)),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            rel.collinear(new DblVect(1., 0.), new DblVect(1., 1.e-3)),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            rel.collinear(new DblVect(0., 0.), new DblVect(1., 1.)),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * {@link VectRelations} tells acute and obtuse angles.
+     */
+    @Test
+    public void tellsAcuteAndObtuseAngles() {
+        final VectRelations<Double> rel = new VectRelations<>(new Decimal());
+        MatcherAssert.assertThat(
+            rel.acute(new DblVect(1., 0.), new DblVect(1., -2.)),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            rel.obtuse(new DblVect(1., 0.), new DblVect(-1., 2.)),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            rel.acute(new DblVect(1., 0.), new DblVect(0., 1.)),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            rel.obtuse(new DblVect(1., 0.), new DblVect(0., 1.)),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * {@link VectRelations} compares vectors lengths without calculating
+     * their norms.
+     */
+    @Test
+    public void comparesLengths() {
+        final VectRelations<Double> rel = new VectRelations<>(new Decimal());
+        MatcherAssert.assertThat(
+            rel.length(new DblVect(3., -4.), new Scalar.Default<>(5.)),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            rel.length(new DblVect(3., -4.), new Scalar.Default<>(5. + 1.e-3)),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            rel.length(new DblVect(0., 0.), new Scalar.Default<>(0.)),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            rel.length(new DblVect(1.e-3, 0.), new Scalar.Default<>(0.)),
+            Matchers.is(false)
+        );
+    }
+
+}
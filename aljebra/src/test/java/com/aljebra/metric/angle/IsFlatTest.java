@@ -23,6 +23,8 @@
  */
 package com.aljebra.metric.angle;
 
+import com.aljebra.field.impl.doubles.DblVect;
+import com.aljebra.field.impl.doubles.Decimal;
 import com.aljebra.field.mock.MkField;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -61,4 +63,25 @@ public final class IsFlatTest {
             new IsFlat<>(new Right<>()).resolve(field), Matchers.is(false)
         );
     }
+
+    /**
+     * {@link IsFlat} tells whether the angle between two vectors is flat,
+     * within a tolerance.
+     */
+    @Test
+    public void resolvesVectsAngles() {
+        final Decimal field = new Decimal();
+        MatcherAssert.assertThat(
+            new IsFlat<>(
+                new VectsDegrees<>(new DblVect(2., 1.), new DblVect(-4., -2.))
+            ).resolve(field),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new IsFlat<>(
+                new VectsDegrees<>(new DblVect(1., 0.), new DblVect(-1., 1.e-3))
+            ).resolve(field),
+            Matchers.is(false)
+        );
+    }
 }
@@ -23,6 +23,8 @@
  */
 package com.aljebra.metric.angle;
 
+import com.aljebra.field.impl.doubles.DblVect;
+import com.aljebra.field.impl.doubles.Decimal;
 import com.aljebra.field.mock.MkField;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -61,4 +63,25 @@ public final class IsRightTest {
             new IsRight<>(new Flat<>()).resolve(field), Matchers.is(false)
         );
     }
+
+    /**
+     * {@link IsRight} tells whether the angle between two vectors is right,
+     * within a tolerance.
+     */
+    @Test
+    public void resolvesVectsAngles() {
+        final Decimal field = new Decimal();
+        MatcherAssert.assertThat(
+            new IsRight<>(
+                new VectsDegrees<>(new DblVect(2., 1.), new DblVect(1., -2.))
+            ).resolve(field),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new IsRight<>(
+                new VectsDegrees<>(new DblVect(1., 0.), new DblVect(1.e-3, 1.))
+            ).resolve(field),
+            Matchers.is(false)
+        );
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod;
+
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Change of a shape of a {@link Figure}: a shape added, replaced or
+ * removed. Successive changes of a named shape coalesce into one.
+ * @since 0.4
+ */
+@EqualsAndHashCode
+@ToString(includeFieldNames = false)
+public final class Change {
+
+    /**
+     * Shape before the change, or null if added.
+     */
+    private final Shape<?> before;
+
+    /**
+     * Shape after the change, or null if removed.
+     */
+    private final Shape<?> after;
+
+    /**
+     * Version of the figure shapes from which the change is visible.
+     */
+    private final long ver;
+
+    /**
+     * Constructor.
+     * @param before Shape before the change, or null if added
+     * @param after Shape after the change, or null if removed
+     * @param version Version of the figure shapes from which the change is
+     *  visible
+     */
+    Change(final Shape<?> before, final Shape<?> after, final long version) {
+        this.before = before;
+        this.after = after;
+        this.ver = version;
+    }
+
+    /**
+     * Gives the shape before the change.
+     * @return Shape, empty if the change adds it
+     */
+    public Optional<Shape<?>> previous() {
+        return Optional.ofNullable(this.before);
+    }
+
+    /**
+     * Gives the shape after the change.
+     * @return Shape, empty if the change removes it
+     */
+    public Optional<Shape<?>> current() {
+        return Optional.ofNullable(this.after);
+    }
+
+    /**
+     * Gives the version of the figure shapes from which the change is
+     * visible.
+     * @return Version
+     */
+    public long version() {
+        return this.ver;
+    }
+
+    /**
+     * Checks whether the change adds a shape.
+     * @return True if the shape is added
+     */
+    public boolean added() {
+        return this.before == null;
+    }
+
+    /**
+     * Checks whether the change removes a shape.
+     * @return True if the shape is removed
+     */
+    public boolean removed() {
+        return this.after == null;
+    }
+
+    /**
+     * Coalesces this change with the next change of the same shape.
+     * @param next Next change
+     * @return Coalesced change, or empty if the shape is added and removed
+     */
+    Optional<Change> merge(final Change next) {
+        final Optional<Change> result;
+        if (this.before == null && next.after == null) {
+            result = Optional.empty();
+        } else {
+            result = Optional.of(new Change(this.before, next.after, next.ver));
+        }
+        return result;
+    }
+
+}
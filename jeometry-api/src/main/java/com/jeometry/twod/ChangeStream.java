@@ -0,0 +1,320 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod;
+
+import com.jeometry.twod.flow.Publisher;
+import com.jeometry.twod.flow.Subscriber;
+import com.jeometry.twod.flow.Subscription;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stream of the changes of a figure to its subscribers. Producers queue
+ * changes, coalescing those of a same shape, and then flush them:
+ * deliveries run on an executor, one at a time per subscriber, each item
+ * being a batch of all the changes queued since the previous one, as long
+ * as the subscriber demands more. A subscriber
+ * falling more than a limit of changes behind gets a reset batch instead.
+ * @since 0.4
+ */
+final class ChangeStream {
+
+    /**
+     * Default maximum count of queued changes per subscriber.
+     */
+    private static final int LIMIT = 1 << 16;
+
+    /**
+     * Subscriptions.
+     */
+    private final List<Feed> feeds;
+
+    /**
+     * Maximum count of queued changes per subscriber.
+     */
+    private final int limit;
+
+    /**
+     * Constructor.
+     */
+    ChangeStream() {
+        this(ChangeStream.LIMIT);
+    }
+
+    /**
+     * Constructor.
+     * @param limit Maximum count of queued changes per subscriber
+     */
+    ChangeStream(final int limit) {
+        this.feeds = new CopyOnWriteArrayList<>();
+        this.limit = limit;
+    }
+
+    /**
+     * Queues a change to the subscribers and delivers it.
+     * @param key Key of the changed shape, coalescing its changes
+     * @param change Change
+     */
+    public void publish(final Object key, final Change change) {
+        this.queue(key, change);
+        this.flush();
+    }
+
+    /**
+     * Queues a change to the subscribers, without delivering it, so that
+     * no subscriber code runs, even with a same-thread executor. Changes
+     * queued while holding a lock are to be flushed once it is released.
+     * @param key Key of the changed shape, coalescing its changes
+     * @param change Change
+     */
+    public void queue(final Object key, final Change change) {
+        for (final Feed feed : this.feeds) {
+            feed.offer(key, change);
+        }
+    }
+
+    /**
+     * Delivers the queued changes to the subscribers.
+     */
+    public void flush() {
+        for (final Feed feed : this.feeds) {
+            feed.schedule();
+        }
+    }
+
+    /**
+     * Gives a publisher of the changes.
+     * @param executor Executor delivering changes
+     * @return Publisher
+     */
+    public Publisher<Changes> publisher(final Executor executor) {
+        return new Publisher<Changes>() {
+            @Override
+            public void subscribe(final Subscriber<? super Changes> subscriber) {
+                final Feed feed = new Feed(subscriber, executor);
+                ChangeStream.this.feeds.add(feed);
+                subscriber.onSubscribe(feed);
+            }
+        };
+    }
+
+    /**
+     * Subscription of a subscriber.
+     */
+    private final class Feed implements Subscription, Runnable {
+
+        /**
+         * Subscriber.
+         */
+        private final Subscriber<? super Changes> subscriber;
+
+        /**
+         * Executor delivering changes.
+         */
+        private final Executor executor;
+
+        /**
+         * Queued changes by shape key, guarded by this feed.
+         */
+        private final Map<Object, Change> pending;
+
+        /**
+         * Count of items the subscriber demands.
+         */
+        private final AtomicLong demand;
+
+        /**
+         * Count of delivery requests not handled yet.
+         */
+        private final AtomicInteger work;
+
+        /**
+         * Whether changes were dropped since the last delivery, guarded by
+         * this feed.
+         */
+        private boolean dropped;
+
+        /**
+         * Latest version of the queued changes, guarded by this feed.
+         */
+        private long version;
+
+        /**
+         * Error to terminate the subscription with, if any.
+         */
+        private volatile Throwable error;
+
+        /**
+         * Whether the subscription is terminated.
+         */
+        private volatile boolean done;
+
+        /**
+         * Constructor.
+         * @param subscriber Subscriber
+         * @param executor Executor delivering changes
+         */
+        Feed(final Subscriber<? super Changes> subscriber,
+            final Executor executor) {
+            this.subscriber = subscriber;
+            this.executor = executor;
+            this.pending = new LinkedHashMap<>(0);
+            this.demand = new AtomicLong();
+            this.work = new AtomicInteger();
+        }
+
+        @Override
+        public void request(final long count) {
+            if (count > 0) {
+                long current;
+                long next;
+                do {
+                    current = this.demand.get();
+                    next = current + count;
+                    if (next < 0) {
+                        next = Long.MAX_VALUE;
+                    }
+                } while (!this.demand.compareAndSet(current, next));
+            } else {
+                this.error = new IllegalArgumentException(
+                    String.format("Requested count must be positive, got %d", count)
+                );
+            }
+            this.schedule();
+        }
+
+        @Override
+        public void cancel() {
+            this.done = true;
+            ChangeStream.this.feeds.remove(this);
+            synchronized (this) {
+                this.pending.clear();
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            while (missed != 0) {
+                this.deliver();
+                missed = this.work.addAndGet(-missed);
+            }
+        }
+
+        /**
+         * Queues a change, coalescing it with the queued change of the same
+         * shape, and drops all the changes past the limit. It does not
+         * request a delivery.
+         * @param key Key of the changed shape
+         * @param change Change
+         */
+        public void offer(final Object key, final Change change) {
+            synchronized (this) {
+                final Change queued = this.pending.get(key);
+                if (queued == null) {
+                    this.pending.put(key, change);
+                } else {
+                    final Optional<Change> merged = queued.merge(change);
+                    if (merged.isPresent()) {
+                        this.pending.put(key, merged.get());
+                    } else {
+                        this.pending.remove(key);
+                    }
+                }
+                if (this.pending.size() > ChangeStream.this.limit) {
+                    this.pending.clear();
+                    this.dropped = true;
+                }
+                this.version = Math.max(this.version, change.version());
+            }
+        }
+
+        /**
+         * Delivers batches of changes while demanded.
+         */
+        private void deliver() {
+            if (this.error != null && !this.done) {
+                this.cancel();
+                this.subscriber.onError(this.error);
+            }
+            boolean more = true;
+            while (more && !this.done && this.demand.get() > 0) {
+                final Optional<Changes> batch = this.take();
+                more = batch.isPresent();
+                if (more) {
+                    if (this.demand.get() != Long.MAX_VALUE) {
+                        this.demand.decrementAndGet();
+                    }
+                    try {
+                        this.subscriber.onNext(batch.get());
+                    } catch (final RuntimeException ex) {
+                        this.cancel();
+                        this.subscriber.onError(ex);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Takes the queued changes.
+         * @return Batch of changes, if any queued
+         */
+        private Optional<Changes> take() {
+            synchronized (this) {
+                final Optional<Changes> result;
+                if (this.pending.isEmpty() && !this.dropped) {
+                    result = Optional.empty();
+                } else {
+                    result = Optional.of(
+                        new Changes(
+                            new ArrayList<>(this.pending.values()), this.dropped,
+                            this.version
+                        )
+                    );
+                    this.pending.clear();
+                    this.dropped = false;
+                }
+                return result;
+            }
+        }
+
+        /**
+         * Requests a delivery, unless one is running.
+         */
+        public void schedule() {
+            if (this.work.getAndIncrement() == 0) {
+                this.executor.execute(this);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A batch of coalesced changes of a {@link Figure}, in the order the
+ * changed shapes were first changed. When a subscriber falls too far
+ * behind, pending changes are dropped and the batch is a reset: the
+ * subscriber should then read the figure shapes again.
+ * @since 0.4
+ */
+public final class Changes implements Iterable<Change> {
+
+    /**
+     * Changes.
+     */
+    private final List<Change> items;
+
+    /**
+     * Whether changes were dropped.
+     */
+    private final boolean dropped;
+
+    /**
+     * Version of the figure shapes from which all the changes are visible.
+     */
+    private final long ver;
+
+    /**
+     * Constructor.
+     * @param items Changes
+     * @param dropped Whether changes were dropped
+     * @param version Version of the figure shapes from which all the
+     *  changes are visible
+     */
+    Changes(final List<Change> items, final boolean dropped,
+        final long version) {
+        this.items = Collections.unmodifiableList(items);
+        this.dropped = dropped;
+        this.ver = version;
+    }
+
+    /**
+     * Gives the changes.
+     * @return Changes, missing the dropped ones on a reset
+     */
+    public List<Change> changes() {
+        return this.items;
+    }
+
+    /**
+     * Checks whether changes were dropped, and the figure shapes must be
+     * read again.
+     * @return True if changes were dropped
+     */
+    public boolean reset() {
+        return this.dropped;
+    }
+
+    /**
+     * Gives the version of the figure shapes from which all the changes are
+     * visible.
+     * @return Version
+     */
+    public long version() {
+        return this.ver;
+    }
+
+    @Override
+    public Iterator<Change> iterator() {
+        return this.items.iterator();
+    }
+
+}
@@ -23,29 +23,54 @@
  */
 package com.jeometry.twod;
 
+import com.aljebra.field.Field;
+import com.aljebra.field.impl.doubles.Parallelism;
 import com.google.common.base.Preconditions;
-import java.util.ArrayList;
-import java.util.HashMap;
+import com.google.common.collect.MapMaker;
+import com.jeometry.twod.affine.Affine;
+import com.jeometry.twod.flow.Publisher;
+import com.jeometry.twod.snapshot.Snapshot;
 import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 
 /**
- * Represents a figure composed of shapes to output.
+ * Represents a figure composed of shapes to output. A figure can be filled
+ * from several threads while being iterated by others: shapes are appended
+ * without locks, and iterating goes over the {@link Shapes} version at the
+ * time of the call, in the order shapes were added, without copying them.
+ * Named shapes can be replaced and removed, and all changes are published
+ * to subscribers of {@link #changes()}.
  * @since 0.1
  */
 public final class Figure implements Iterable<Shape<?>> {
 
     /**
-     * Anonymous shapes list.
+     * Shapes journal.
      */
-    private final List<Shape<?>> anonymous = new ArrayList<>(10);
+    private final Journal journal = new Journal();
 
     /**
      * Named shapes map.
      */
-    private final Map<String, Shape<?>> shaps = new HashMap<>();
+    private final ConcurrentMap<String, Named> shaps =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * Changes stream.
+     */
+    private final ChangeStream stream = new ChangeStream();
+
+    /**
+     * Snapshots cache, by field identity.
+     */
+    private final ConcurrentMap<Field<Double>, Cached> snapshots =
+        new MapMaker().weakKeys().makeMap();
 
     /**
      * Adds a shape to the figure.
@@ -53,15 +78,32 @@ public final class Figure implements Iterable<Shape<?>> {
      * @return This figure instance
      */
     public Figure add(final Shape<?> shape) {
-        final Optional<String> name = shape.name();
-        Preconditions.checkArgument(
-            !(name.isPresent() && this.shaps.containsKey(name.get())),
-            "A shape with name [%s] already exists in the figure", name
-        );
         if (shape.anonymous()) {
-            this.anonymous.add(shape);
+            final Journal.Version version = this.journal.append(shape);
+            this.stream.publish(
+                version.slot(), new Change(null, shape, version.number())
+            );
         } else {
-            this.shaps.put(name.get(), shape);
+            this.shaps.compute(
+                shape.name().get(),
+                new BiFunction<String, Named, Named>() {
+                    @Override
+                    public Named apply(final String name, final Named named) {
+                        Preconditions.checkArgument(
+                            named == null,
+                            "A shape with name [%s] already exists in the figure",
+                            name
+                        );
+                        final Journal.Version version =
+                            Figure.this.journal.append(shape);
+                        Figure.this.stream.queue(
+                            name, new Change(null, shape, version.number())
+                        );
+                        return new Named(version.slot(), shape);
+                    }
+                }
+            );
+            this.stream.flush();
         }
         return this;
     }
@@ -72,8 +114,7 @@ public final class Figure implements Iterable<Shape<?>> {
      * @return This figure instance
      */
     public Figure add(final Renderable shape) {
-        this.anonymous.add(new Shape<>(shape));
-        return this;
+        return this.add(new Shape<>(shape));
     }
 
     /**
@@ -86,21 +127,273 @@ public final class Figure implements Iterable<Shape<?>> {
         return this.add(new Shape<>(shape, name));
     }
 
+    /**
+     * Replaces the shape of the same name, keeping its position in the
+     * adding order.
+     * @param shape The named shape replacing the existing one
+     * @return This figure instance
+     */
+    public Figure replace(final Shape<?> shape) {
+        Preconditions.checkArgument(
+            !shape.anonymous(), "Only named shapes can be replaced"
+        );
+        this.update(shape.name().get(), shape);
+        return this;
+    }
+
+    /**
+     * Replaces the renderable of a named shape.
+     * @param shape The renderable replacing the existing one
+     * @param name The renderable name
+     * @return This figure instance
+     */
+    public Figure replace(final Renderable shape, final String name) {
+        return this.replace(new Shape<>(shape, name));
+    }
+
+    /**
+     * Removes a named shape.
+     * @param name Shape name
+     * @return This figure instance
+     */
+    public Figure remove(final String name) {
+        this.update(name, null);
+        return this;
+    }
+
     /**
      * Retrieves a shape by its name.
      * @param name Shape name
      * @return The shape
      */
     public Optional<Shape<?>> shape(final String name) {
-        return Optional.ofNullable(this.shaps.get(name));
+        final Named named = this.shaps.get(name);
+        final Optional<Shape<?>> result;
+        if (named == null) {
+            result = Optional.empty();
+        } else {
+            result = Optional.of(named.shape());
+        }
+        return result;
+    }
+
+    /**
+     * Gives a publisher of the changes of the figure, delivering on the
+     * common fork-join pool.
+     * @return Publisher of batches of coalesced changes
+     */
+    public Publisher<Changes> changes() {
+        return this.changes(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Gives a publisher of the changes of the figure. Changes made from
+     * the subscription on are queued and coalesced by shape, and each item
+     * delivered is a batch of the changes queued since the previous one.
+     * @param executor Executor delivering changes to subscribers
+     * @return Publisher of batches of coalesced changes
+     */
+    public Publisher<Changes> changes(final Executor executor) {
+        return this.stream.publisher(executor);
+    }
+
+    /**
+     * Gives the current version of the shapes.
+     * @return Shapes
+     */
+    public Shapes shapes() {
+        return new Shapes(this.journal, this.journal.version());
+    }
+
+    /**
+     * Resolves the current shapes of the figure, with double coordinates,
+     * into a snapshot. A snapshot made of constant values only, see
+     * {@link Snapshot#fixed()}, is kept per field until the shapes change;
+     * shapes depending on mutable values are resolved again on each call.
+     * @param field Field for scalar operations
+     * @return Snapshot
+     */
+    public Snapshot snapshot(final Field<Double> field) {
+        final Shapes shapes = this.shapes();
+        final Cached cached = this.snapshots.get(field);
+        final Snapshot result;
+        if (cached == null || cached.version() != shapes.version()) {
+            result = new Snapshot(shapes, field);
+            if (result.fixed()) {
+                this.snapshots.put(field, new Cached(shapes.version(), result));
+            } else {
+                this.snapshots.remove(field);
+            }
+        } else {
+            result = cached.snapshot();
+        }
+        return result;
+    }
+
+    /**
+     * Transforms the figure, with double coordinates, in parallel above the
+     * default threshold.
+     * @param affine Affine transform
+     * @param field Field for scalar operations
+     * @return Transformed figure
+     * @see #transform(Affine, Field, Parallelism)
+     */
+    public Figure transform(final Affine affine, final Field<Double> field) {
+        return this.transform(affine, field, new Parallelism());
+    }
+
+    /**
+     * Transforms the figure, with double coordinates, into a new figure.
+     * The figure is transformed as a whole through a snapshot, see
+     * {@link Snapshot#transform(Affine, Parallelism)}, and transformed
+     * shapes keep their names, styles and order. The identity transform
+     * copies the shapes as they are, without resolving them.
+     * @param affine Affine transform
+     * @param field Field for scalar operations
+     * @param parallel Parallelism settings
+     * @return Transformed figure
+     */
+    public Figure transform(final Affine affine, final Field<Double> field,
+        final Parallelism parallel) {
+        final Iterable<Shape<?>> shapes;
+        if (affine.identity()) {
+            shapes = this.shapes();
+        } else {
+            shapes = this.snapshot(field).transform(affine, parallel).shapes();
+        }
+        final Figure result = new Figure();
+        for (final Shape<?> shape : shapes) {
+            result.add(shape);
+        }
+        return result;
     }
 
     @Override
     public Iterator<Shape<?>> iterator() {
-        final List<Shape<?>> all =
-            new ArrayList<>(this.shaps.size() + this.anonymous.size());
-        all.addAll(this.shaps.values());
-        all.addAll(this.anonymous);
-        return all.iterator();
+        return this.shapes().iterator();
+    }
+
+    @Override
+    public Spliterator<Shape<?>> spliterator() {
+        return this.shapes().spliterator();
+    }
+
+    /**
+     * Replaces or removes a named shape.
+     * @param name Shape name
+     * @param shape Shape replacing the existing one, or null to remove it
+     */
+    private void update(final String name, final Shape<?> shape) {
+        this.shaps.compute(
+            name,
+            new BiFunction<String, Named, Named>() {
+                @Override
+                public Named apply(final String key, final Named named) {
+                    Preconditions.checkArgument(
+                        named != null,
+                        "No shape with name [%s] exists in the figure", key
+                    );
+                    final Journal.Version version = Figure.this.journal.update(
+                        named.slot(), shape
+                    );
+                    Figure.this.stream.queue(
+                        key, new Change(named.shape(), shape, version.number())
+                    );
+                    Named result = null;
+                    if (shape != null) {
+                        result = new Named(named.slot(), shape);
+                    }
+                    return result;
+                }
+            }
+        );
+        this.stream.flush();
+    }
+
+    /**
+     * Named shape, with its journal slot.
+     */
+    private static final class Named {
+
+        /**
+         * Journal slot index.
+         */
+        private final int index;
+
+        /**
+         * Shape.
+         */
+        private final Shape<?> shp;
+
+        /**
+         * Constructor.
+         * @param index Journal slot index
+         * @param shape Shape
+         */
+        Named(final int index, final Shape<?> shape) {
+            this.index = index;
+            this.shp = shape;
+        }
+
+        /**
+         * Gives the journal slot index.
+         * @return Slot index
+         */
+        public int slot() {
+            return this.index;
+        }
+
+        /**
+         * Gives the shape.
+         * @return Shape
+         */
+        public Shape<?> shape() {
+            return this.shp;
+        }
+
+    }
+
+    /**
+     * Fixed snapshot resolved for a version of the shapes.
+     */
+    private static final class Cached {
+
+        /**
+         * Version of the shapes.
+         */
+        private final long ver;
+
+        /**
+         * Snapshot.
+         */
+        private final Snapshot snap;
+
+        /**
+         * Constructor.
+         * @param version Version of the shapes
+         * @param snapshot Snapshot
+         */
+        Cached(final long version, final Snapshot snapshot) {
+            this.ver = version;
+            this.snap = snapshot;
+        }
+
+        /**
+         * Gives the version of the shapes.
+         * @return Version
+         */
+        public long version() {
+            return this.ver;
+        }
+
+        /**
+         * Gives the snapshot.
+         * @return Snapshot
+         */
+        public Snapshot snapshot() {
+            return this.snap;
+        }
+
     }
+
 }
@@ -0,0 +1,445 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Journal of shapes, safe for concurrent use without locks. Each change,
+ * appending a shape to a new slot or updating the shape of a slot, is a
+ * {@link Version} linked by a compare-and-set after the latest version,
+ * so that changes are ordered by their version number and appended slots
+ * by their index. A version gives a consistent view of the journal without
+ * copying it: each slot keeps its latest entry, tagged with the version
+ * number it was set at, and views of older versions follow the previous
+ * entries. Linking a version and then writing its entry in the slot are
+ * two steps: whoever sees an unfinished version, be it a writer or a
+ * reader, finishes it, so that no thread waits for another. Updates
+ * write into the slot of the shape, so that the count of slots only grows
+ * with appended shapes. An entry replaced by an update is only held by
+ * the versions, which chain from older to newer: once no view of a version
+ * older than the update is left, the entry can be reclaimed. Slots live
+ * in chunks of doubling sizes, allocated as needed and never moved.
+ * @since 0.4
+ */
+final class Journal {
+
+    /**
+     * Size of the first chunk, as a power of two.
+     */
+    private static final int FIRST = 5;
+
+    /**
+     * Count of chunks.
+     */
+    private static final int CHUNKS = Integer.SIZE - 1 - Journal.FIRST;
+
+    /**
+     * Count of slots of all chunks.
+     */
+    private static final int LIMIT = (1 << Journal.FIRST) * ((1 << Journal.CHUNKS) - 1);
+
+    /**
+     * Chunks of slots, holding the latest entry of each slot.
+     */
+    private final AtomicReferenceArray<AtomicReferenceArray<Entry>> chunks;
+
+    /**
+     * Latest known version, finished. Versions may be linked after it.
+     */
+    private final AtomicReference<Version> latest;
+
+    /**
+     * Constructor.
+     */
+    Journal() {
+        this.chunks = new AtomicReferenceArray<>(Journal.CHUNKS);
+        this.latest = new AtomicReference<>(new Version());
+    }
+
+    /**
+     * Appends a shape to a new slot.
+     * @param shape Shape
+     * @return Version of the change
+     */
+    public Version append(final Shape<?> shape) {
+        Version last;
+        Version result;
+        do {
+            last = this.version();
+            final int index = last.until();
+            if (index >= Journal.LIMIT) {
+                throw new IllegalStateException("Journal is full");
+            }
+            final int chunk = Journal.chunk(index);
+            if (this.chunks.get(chunk) == null) {
+                this.chunks.compareAndSet(
+                    chunk, null, new AtomicReferenceArray<Entry>(1 << Journal.FIRST + chunk)
+                );
+            }
+            result = new Version(last, index, shape, null);
+        } while (!last.link(result));
+        this.version();
+        return result;
+    }
+
+    /**
+     * Updates the shape of a slot, in place. Updates of a slot must not run
+     * concurrently.
+     * @param index Slot index
+     * @param shape New shape, or null to remove the shape
+     * @return Version of the change
+     */
+    public Version update(final int index, final Shape<?> shape) {
+        Version last;
+        Version result;
+        do {
+            last = this.version();
+            result = new Version(last, index, shape, this.top(index));
+        } while (!last.link(result));
+        this.version();
+        return result;
+    }
+
+    /**
+     * Gives the latest version, finishing the versions linked after the
+     * known latest one.
+     * @return Version
+     */
+    public Version version() {
+        Version result = this.latest.get();
+        Version next = result.following();
+        while (next != null) {
+            this.finish(next);
+            this.latest.compareAndSet(result, next);
+            result = this.latest.get();
+            next = result.following();
+        }
+        return result;
+    }
+
+    /**
+     * Gives the latest shape of a slot.
+     * @param index Slot index, below the latest version slots count
+     * @return Shape, or null for a removed shape
+     */
+    public Shape<?> shape(final int index) {
+        return this.shape(index, this.version());
+    }
+
+    /**
+     * Gives the shape of a slot in a version.
+     * @param index Slot index, below the version slots count
+     * @param version Version
+     * @return Shape, or null if the slot has no shape in this version
+     */
+    public Shape<?> shape(final int index, final Version version) {
+        Entry entry = this.top(index);
+        while (entry != null && entry.since() > version.number()) {
+            entry = entry.previous();
+        }
+        Shape<?> result = null;
+        if (entry != null) {
+            result = entry.shape();
+        }
+        return result;
+    }
+
+    /**
+     * Writes the entry of a version in its slot, unless already done.
+     * @param version Version
+     */
+    private void finish(final Version version) {
+        if (!version.finished()) {
+            this.chunks.get(Journal.chunk(version.slot())).compareAndSet(
+                Journal.offset(version.slot()), version.replaced(), version.entry()
+            );
+            version.finish();
+        }
+    }
+
+    /**
+     * Gives the latest entry of a slot.
+     * @param index Slot index
+     * @return Entry, or null if the slot was never written
+     */
+    private Entry top(final int index) {
+        final AtomicReferenceArray<Entry> chunk =
+            this.chunks.get(Journal.chunk(index));
+        Entry result = null;
+        if (chunk != null) {
+            result = chunk.get(Journal.offset(index));
+        }
+        return result;
+    }
+
+    /**
+     * Gives the chunk of a slot.
+     * @param index Slot index
+     * @return Chunk index
+     */
+    private static int chunk(final int index) {
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(
+            (index >>> Journal.FIRST) + 1
+        );
+    }
+
+    /**
+     * Gives the offset of a slot in its chunk.
+     * @param index Slot index
+     * @return Offset in the chunk
+     */
+    private static int offset(final int index) {
+        return index + (1 << Journal.FIRST)
+            - (1 << Journal.FIRST + Journal.chunk(index));
+    }
+
+    /**
+     * A change of the journal, and the view of the journal up to it.
+     */
+    static final class Version {
+
+        /**
+         * Updater of the next version.
+         */
+        private static final AtomicReferenceFieldUpdater<Version, Version> NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(Version.class, Version.class, "next");
+
+        /**
+         * Version number, counting changes.
+         */
+        private final long num;
+
+        /**
+         * Count of slots.
+         */
+        private final int count;
+
+        /**
+         * Changed slot index.
+         */
+        private final int index;
+
+        /**
+         * Entry written by the change.
+         */
+        private final Entry written;
+
+        /**
+         * Entry replaced by the change, or null for an append. It is held
+         * here for the views of older versions, which reach it through the
+         * next versions.
+         */
+        private final Entry old;
+
+        /**
+         * Next version, once linked.
+         */
+        private volatile Version next;
+
+        /**
+         * Whether the entry is written in its slot.
+         */
+        private volatile boolean done;
+
+        /**
+         * Constructor of the empty journal version.
+         */
+        Version() {
+            this.num = 0L;
+            this.count = 0;
+            this.index = -1;
+            this.written = null;
+            this.old = null;
+            this.done = true;
+        }
+
+        /**
+         * Constructor.
+         * @param last Version this one follows
+         * @param slot Changed slot index
+         * @param shape Shape written, or null to remove the shape
+         * @param replaced Entry replaced, or null for an append
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Version(final Version last, final int slot, final Shape<?> shape,
+            final Entry replaced) {
+            this.num = last.number() + 1L;
+            this.index = slot;
+            this.old = replaced;
+            this.written = new Entry(shape, this.num, replaced);
+            if (replaced == null) {
+                this.count = last.until() + 1;
+            } else {
+                this.count = last.until();
+            }
+        }
+
+        /**
+         * Gives the version number, counting changes.
+         * @return Version number
+         */
+        public long number() {
+            return this.num;
+        }
+
+        /**
+         * Gives the count of slots of the version.
+         * @return Slots count
+         */
+        public int until() {
+            return this.count;
+        }
+
+        /**
+         * Gives the changed slot index.
+         * @return Slot index
+         */
+        public int slot() {
+            return this.index;
+        }
+
+        /**
+         * Gives the entry written by the change.
+         * @return Entry
+         */
+        Entry entry() {
+            return this.written;
+        }
+
+        /**
+         * Gives the entry replaced by the change.
+         * @return Entry, or null for an append
+         */
+        Entry replaced() {
+            return this.old;
+        }
+
+        /**
+         * Tells whether the entry is written in its slot.
+         * @return True if written
+         */
+        boolean finished() {
+            return this.done;
+        }
+
+        /**
+         * Marks the entry as written in its slot.
+         */
+        void finish() {
+            this.done = true;
+        }
+
+        /**
+         * Gives the next version.
+         * @return Next version, or null if this version is the latest
+         */
+        Version following() {
+            return this.next;
+        }
+
+        /**
+         * Links the next version, unless another one is already linked.
+         * The entries replaced by the next versions stay reachable from
+         * this one.
+         * @param version Next version
+         * @return True if linked
+         */
+        boolean link(final Version version) {
+            return Version.NEXT.compareAndSet(this, null, version);
+        }
+
+    }
+
+    /**
+     * Shape of a slot from a version on.
+     */
+    private static final class Entry {
+
+        /**
+         * Shape, or null for a removed shape.
+         */
+        private final Shape<?> shp;
+
+        /**
+         * Version number from which the entry is seen.
+         */
+        private final long tag;
+
+        /**
+         * Previous entry, or null for the first one. It is held weakly:
+         * the versions hold it as long as views may need it.
+         */
+        private final WeakReference<Entry> prev;
+
+        /**
+         * Constructor.
+         * @param shape Shape, or null for a removed shape
+         * @param since Version number from which the entry is seen
+         * @param previous Previous entry, or null for the first one
+         */
+        Entry(final Shape<?> shape, final long since, final Entry previous) {
+            this.shp = shape;
+            this.tag = since;
+            if (previous == null) {
+                this.prev = null;
+            } else {
+                this.prev = new WeakReference<>(previous);
+            }
+        }
+
+        /**
+         * Gives the shape.
+         * @return Shape, or null for a removed shape
+         */
+        public Shape<?> shape() {
+            return this.shp;
+        }
+
+        /**
+         * Gives the version number from which the entry is seen.
+         * @return Version number
+         */
+        public long since() {
+            return this.tag;
+        }
+
+        /**
+         * Gives the previous entry.
+         * @return Previous entry, or null for the first one
+         */
+        public Entry previous() {
+            Entry result = null;
+            if (this.prev != null) {
+                result = this.prev.get();
+            }
+            return result;
+        }
+
+    }
+
+}
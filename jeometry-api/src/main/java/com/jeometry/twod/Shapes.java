@@ -0,0 +1,191 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A version of the shapes of a {@link Figure}, in the order they were
+ * added. Shapes added, replaced or removed afterwards are not part of it,
+ * so that it can be iterated any number of times, also from several
+ * threads, while the figure is being changed. Replaced shapes keep their
+ * position. It reads the figure storage in place, without copying it, and
+ * splits for parallel streams.
+ * @since 0.4
+ */
+public final class Shapes implements Iterable<Shape<?>> {
+
+    /**
+     * Figure journal.
+     */
+    private final Journal journal;
+
+    /**
+     * Journal version.
+     */
+    private final Journal.Version ver;
+
+    /**
+     * Constructor.
+     * @param journal Figure journal
+     * @param version Journal version
+     */
+    Shapes(final Journal journal, final Journal.Version version) {
+        this.journal = journal;
+        this.ver = version;
+    }
+
+    /**
+     * Gives the version, increasing with each change of the figure.
+     * @return Version
+     */
+    public long version() {
+        return this.ver.number();
+    }
+
+    @Override
+    public Iterator<Shape<?>> iterator() {
+        return new Iterator<Shape<?>>() {
+            /**
+             * Next slot index.
+             */
+            private int next = Shapes.this.skip(0);
+
+            @Override
+            public boolean hasNext() {
+                return this.next < Shapes.this.ver.until();
+            }
+
+            @Override
+            public Shape<?> next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final Shape<?> result =
+                    Shapes.this.journal.shape(this.next, Shapes.this.ver);
+                this.next = Shapes.this.skip(this.next + 1);
+                return result;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<Shape<?>> spliterator() {
+        return new Range(0, this.ver.until());
+    }
+
+    /**
+     * Skips void slots.
+     * @param from Slot index to start from
+     * @return Index of the next shape slot, or the slots count if none
+     */
+    private int skip(final int from) {
+        int result = from;
+        while (result < this.ver.until()
+            && this.journal.shape(result, this.ver) == null) {
+            result += 1;
+        }
+        return result;
+    }
+
+    /**
+     * Spliterator over a range of slots.
+     */
+    private final class Range implements Spliterator<Shape<?>> {
+
+        /**
+         * Next slot index.
+         */
+        private int from;
+
+        /**
+         * Slot index past the range.
+         */
+        private final int until;
+
+        /**
+         * Constructor.
+         * @param from First slot index
+         * @param until Slot index past the range
+         */
+        Range(final int from, final int until) {
+            this.from = from;
+            this.until = until;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Shape<?>> action) {
+            boolean result = false;
+            while (!result && this.from < this.until) {
+                final Shape<?> shape =
+                    Shapes.this.journal.shape(this.from, Shapes.this.ver);
+                this.from += 1;
+                if (shape != null) {
+                    action.accept(shape);
+                    result = true;
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super Shape<?>> action) {
+            for (int idx = this.from; idx < this.until; ++idx) {
+                final Shape<?> shape =
+                    Shapes.this.journal.shape(idx, Shapes.this.ver);
+                if (shape != null) {
+                    action.accept(shape);
+                }
+            }
+            this.from = this.until;
+        }
+
+        @Override
+        public Spliterator<Shape<?>> trySplit() {
+            final int mid = (this.from + this.until) >>> 1;
+            Spliterator<Shape<?>> result = null;
+            if (mid > this.from) {
+                result = new Range(this.from, mid);
+                this.from = mid;
+            }
+            return result;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.until - this.from;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL
+                | Spliterator.IMMUTABLE;
+        }
+
+    }
+
+}
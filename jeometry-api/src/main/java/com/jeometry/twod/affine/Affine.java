@@ -0,0 +1,283 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.affine;
+
+import com.aljebra.field.impl.doubles.DblMatrix;
+import com.aljebra.matrix.Matrix;
+import com.aljebra.vector.Vect;
+import com.jeometry.twod.point.XyPoint;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * A 2D affine transform, represented by the homogeneous 3x3 matrix
+ * <pre>
+ * | xx xy tx |
+ * | yx yy ty |
+ * | 0  0  1  |
+ * </pre>
+ * Coefficients are kept as primitive doubles, so that transforms are
+ * composed and inverted eagerly, and a chain of transforms folds into a
+ * single matrix. Points are transformed either lazily as vectors,
+ * or in bulk on interleaved (x, y) double arrays.
+ * @since 0.4
+ */
+@EqualsAndHashCode
+@ToString(includeFieldNames = false)
+public class Affine {
+
+    /**
+     * Number of coefficients of an affine transform.
+     */
+    private static final int SIZE = 6;
+
+    /**
+     * Index of the Y coefficient in the transformed Y.
+     */
+    private static final int YYC = 3;
+
+    /**
+     * Index of the translation X coefficient.
+     */
+    private static final int TRX = 4;
+
+    /**
+     * Index of the translation Y coefficient.
+     */
+    private static final int TRY = 5;
+
+    /**
+     * Relative tolerance on the coefficients of similarities.
+     */
+    private static final double SIMILAR = 1.e-9;
+
+    /**
+     * Coefficients, ordered as (xx, yx, xy, yy, tx, ty).
+     */
+    private final double[] coefs;
+
+    /**
+     * Constructor. Builds the identity transform.
+     */
+    public Affine() {
+        this(1., 0., 0., 1., 0., 0.);
+    }
+
+    /**
+     * Constructor.
+     * @param xxc Coefficient of x in the transformed x
+     * @param yxc Coefficient of x in the transformed y
+     * @param xyc Coefficient of y in the transformed x
+     * @param yyc Coefficient of y in the transformed y
+     * @param txc Translation along X axis
+     * @param tyc Translation along Y axis
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Affine(final double xxc, final double yxc, final double xyc,
+        final double yyc, final double txc, final double tyc) {
+        this(new double[] {xxc, yxc, xyc, yyc, txc, tyc});
+    }
+
+    /**
+     * Constructor.
+     * @param coefs Coefficients, ordered as (xx, yx, xy, yy, tx, ty)
+     */
+    Affine(final double[] coefs) {
+        if (coefs.length != Affine.SIZE) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Affine transform expects %d coefficients, got %d",
+                    Affine.SIZE, coefs.length
+                )
+            );
+        }
+        this.coefs = coefs.clone();
+    }
+
+    /**
+     * Gives the X coordinate of the image of a point.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return Transformed X coordinate
+     */
+    public final double xcoor(final double xcoor, final double ycoor) {
+        return this.coefs[0] * xcoor + this.coefs[2] * ycoor
+            + this.coefs[Affine.TRX];
+    }
+
+    /**
+     * Gives the Y coordinate of the image of a point.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return Transformed Y coordinate
+     */
+    public final double ycoor(final double xcoor, final double ycoor) {
+        return this.coefs[1] * xcoor + this.coefs[Affine.YYC] * ycoor
+            + this.coefs[Affine.TRY];
+    }
+
+    /**
+     * Transforms points stored as interleaved (x, y) pairs. Source and
+     * destination may be the same array, in which case the points are
+     * transformed in place.
+     * @param src Source coordinates
+     * @param soff Offset of the first source X coordinate
+     * @param dst Destination coordinates
+     * @param doff Offset of the first destination X coordinate
+     * @param count Number of points to transform
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public final void apply(final double[] src, final int soff,
+        final double[] dst, final int doff, final int count) {
+        for (int idx = 0; idx < count; ++idx) {
+            final double xcoor = src[soff + 2 * idx];
+            final double ycoor = src[soff + 2 * idx + 1];
+            dst[doff + 2 * idx] = this.xcoor(xcoor, ycoor);
+            dst[doff + 2 * idx + 1] = this.ycoor(xcoor, ycoor);
+        }
+    }
+
+    /**
+     * Transforms a point. The transformed point is lazily evaluated.
+     * @param input Point to transform
+     * @return The image of the point
+     */
+    public final XyPoint<Double> apply(final Vect<Double> input) {
+        return new AffinePoint(this, input);
+    }
+
+    /**
+     * Composes this transform with another one, applied afterwards.
+     * @param next Transform to apply after this one
+     * @return A transform equivalent to applying this transform,
+     *  then the given one
+     */
+    public final Affine then(final Affine next) {
+        final double[] fst = this.coefs;
+        final double[] snd = next.coefs;
+        return new Affine(
+            new double[] {
+                snd[0] * fst[0] + snd[2] * fst[1],
+                snd[1] * fst[0] + snd[Affine.YYC] * fst[1],
+                snd[0] * fst[2] + snd[2] * fst[Affine.YYC],
+                snd[1] * fst[2] + snd[Affine.YYC] * fst[Affine.YYC],
+                snd[0] * fst[Affine.TRX] + snd[2] * fst[Affine.TRY]
+                    + snd[Affine.TRX],
+                snd[1] * fst[Affine.TRX]
+                    + snd[Affine.YYC] * fst[Affine.TRY] + snd[Affine.TRY],
+            }
+        );
+    }
+
+    /**
+     * Gives the inverse transform.
+     * @return The inverse transform
+     * @throws IllegalStateException if the transform is not invertible
+     */
+    public final Affine inverse() {
+        final double det = this.determinant();
+        if (det == 0.) {
+            throw new IllegalStateException(
+                String.format("Affine transform %s is not invertible", this)
+            );
+        }
+        final double[] cfs = this.coefs;
+        final double xxc = cfs[Affine.YYC] / det;
+        final double yxc = -cfs[1] / det;
+        final double xyc = -cfs[2] / det;
+        final double yyc = cfs[0] / det;
+        return new Affine(
+            new double[] {
+                xxc, yxc, xyc, yyc,
+                -xxc * cfs[Affine.TRX] - xyc * cfs[Affine.TRY],
+                -yxc * cfs[Affine.TRX] - yyc * cfs[Affine.TRY],
+            }
+        );
+    }
+
+    /**
+     * Gives the determinant of the linear part of the transform.
+     * @return Determinant
+     */
+    public final double determinant() {
+        return this.coefs[0] * this.coefs[Affine.YYC]
+            - this.coefs[1] * this.coefs[2];
+    }
+
+    /**
+     * Checks whether this is the identity transform.
+     * @return True if the transform leaves points unchanged
+     */
+    public final boolean identity() {
+        return this.coefs[0] == 1. && this.coefs[1] == 0.
+            && this.coefs[2] == 0. && this.coefs[Affine.YYC] == 1.
+            && this.coefs[Affine.TRX] == 0. && this.coefs[Affine.TRY] == 0.;
+    }
+
+    /**
+     * Gives the ratio by which the transform scales lengths. Only
+     * similarities, composed of rotations, reflections, uniform scalings
+     * and translations, scale all lengths by the same ratio and map circles
+     * to circles.
+     * @return Lengths ratio
+     * @throws IllegalStateException if the transform is not a similarity
+     */
+    public final double scale() {
+        final double det = this.determinant();
+        final double sign = Math.signum(det);
+        final double[] cfs = this.coefs;
+        if (det == 0.
+            || Math.abs(cfs[0] - sign * cfs[Affine.YYC]) + Math.abs(cfs[2] + sign * cfs[1])
+            > Affine.SIMILAR * (Math.abs(cfs[0]) + Math.abs(cfs[1]) + Math.abs(cfs[2])
+                + Math.abs(cfs[Affine.YYC]))) {
+            throw new IllegalStateException(
+                String.format("Affine transform %s is not a similarity", this)
+            );
+        }
+        return Math.sqrt(Math.abs(det));
+    }
+
+    /**
+     * Gives the homogeneous 3x3 matrix of the transform.
+     * @return A 3x3 matrix
+     */
+    public final Matrix<Double> matrix() {
+        final int dim = 3;
+        return new DblMatrix(
+            dim, dim,
+            this.coefs[0], this.coefs[1], 0.,
+            this.coefs[2], this.coefs[Affine.YYC], 0.,
+            this.coefs[Affine.TRX], this.coefs[Affine.TRY], 1.
+        );
+    }
+
+    /**
+     * Gives the transform coefficients.
+     * @return A copy of the coefficients, ordered as (xx, yx, xy, yy, tx, ty)
+     */
+    public final double[] coefficients() {
+        return this.coefs.clone();
+    }
+
+}
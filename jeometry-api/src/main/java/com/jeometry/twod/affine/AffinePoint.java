@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.affine;
+
+import com.aljebra.field.Field;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import com.jeometry.twod.point.XyPoint;
+import lombok.ToString;
+
+/**
+ * A point defined as the image of a point by an affine transform.
+ * Coordinates are lazily evaluated.
+ * @since 0.4
+ */
+@ToString(callSuper = true)
+public final class AffinePoint extends XyPoint<Double> {
+
+    /**
+     * Constructor.
+     * @param transform Affine transform
+     * @param input The point to transform
+     */
+    public AffinePoint(final Affine transform, final Vect<Double> input) {
+        super(
+            AffinePoint.coord(transform, input, true),
+            AffinePoint.coord(transform, input, false)
+        );
+    }
+
+    /**
+     * Builds a lazy coordinate of the transformed point.
+     * @param transform Affine transform
+     * @param input The point to transform
+     * @param abscissa Whether to build the X coordinate
+     * @return A scalar evaluating to the coordinate
+     */
+    private static Scalar<Double> coord(final Affine transform,
+        final Vect<Double> input, final boolean abscissa) {
+        return new Scalar<Double>() {
+            @Override
+            public Double value(final Field<Double> field) {
+                final double xcoor = field.actual(input.coords()[0]);
+                final double ycoor = field.actual(input.coords()[1]);
+                final double result;
+                if (abscissa) {
+                    result = transform.xcoor(xcoor, ycoor);
+                } else {
+                    result = transform.ycoor(xcoor, ycoor);
+                }
+                return result;
+            }
+        };
+    }
+
+}
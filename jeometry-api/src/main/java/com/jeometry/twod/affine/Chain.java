@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.affine;
+
+import java.util.Arrays;
+
+/**
+ * An affine transform folding a sequence of transforms into a single one.
+ * Transforms are applied in the given order, the first one being
+ * applied first.
+ * @since 0.4
+ */
+public final class Chain extends Affine {
+
+    /**
+     * Constructor.
+     * @param transforms Transforms to fold
+     */
+    public Chain(final Affine... transforms) {
+        this(Arrays.asList(transforms));
+    }
+
+    /**
+     * Constructor.
+     * @param transforms Transforms to fold
+     */
+    public Chain(final Iterable<? extends Affine> transforms) {
+        super(Chain.fold(transforms));
+    }
+
+    /**
+     * Folds transforms into the coefficients of their composition.
+     * @param transforms Transforms to fold
+     * @return Coefficients of the composed transform
+     */
+    private static double[] fold(final Iterable<? extends Affine> transforms) {
+        Affine result = new Affine();
+        for (final Affine transform : transforms) {
+            result = result.then(transform);
+        }
+        return result.coefficients();
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.affine;
+
+import com.aljebra.field.Field;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.jeometry.twod.line.Line;
+
+/**
+ * An affine transform reflecting points across a line.
+ * Equivalent to {@link com.jeometry.twod.point.LineReflectionPoint}.
+ * @since 0.4
+ */
+public final class LineReflection extends Affine {
+
+    /**
+     * Constructor.
+     * @param axis Reflection line
+     * @param field Field used to resolve the line coordinates
+     */
+    public LineReflection(final Line<Double> axis, final Field<Double> field) {
+        super(
+            LineReflection.coefs(
+                field.actual(axis.direction().coords()[0]),
+                field.actual(axis.direction().coords()[1]),
+                field.actual(axis.point().coords()[0]),
+                field.actual(axis.point().coords()[1])
+            )
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param axis Reflection line
+     */
+    public LineReflection(final Line<Double> axis) {
+        this(axis, new Decimal());
+    }
+
+    /**
+     * Calculates the coefficients of a reflection across a line.
+     * @param xdir Line direction X coordinate
+     * @param ydir Line direction Y coordinate
+     * @param xcoor X coordinate of a point of the line
+     * @param ycoor Y coordinate of a point of the line
+     * @return Transform coefficients
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static double[] coefs(final double xdir, final double ydir,
+        final double xcoor, final double ycoor) {
+        final double norm = xdir * xdir + ydir * ydir;
+        if (norm == 0.) {
+            throw new IllegalStateException(
+                "Reflection axis direction is the null vector"
+            );
+        }
+        final double cos = (xdir * xdir - ydir * ydir) / norm;
+        final double sin = 2. * xdir * ydir / norm;
+        return new double[] {
+            cos, sin, sin, -cos,
+            xcoor - cos * xcoor - sin * ycoor,
+            ycoor - sin * xcoor + cos * ycoor,
+        };
+    }
+
+}
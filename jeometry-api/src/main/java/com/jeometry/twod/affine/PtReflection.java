@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.affine;
+
+import com.aljebra.field.Field;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.vector.Vect;
+
+/**
+ * An affine transform reflecting points across a center point.
+ * Equivalent to {@link com.jeometry.twod.point.PtReflectionPoint}.
+ * @since 0.4
+ */
+public final class PtReflection extends Affine {
+
+    /**
+     * Constructor.
+     * @param xcoor Reflection center X coordinate
+     * @param ycoor Reflection center Y coordinate
+     */
+    public PtReflection(final double xcoor, final double ycoor) {
+        super(-1., 0., 0., -1., 2. * xcoor, 2. * ycoor);
+    }
+
+    /**
+     * Constructor.
+     * @param center Reflection center
+     * @param field Field used to resolve the center coordinates
+     */
+    public PtReflection(final Vect<Double> center, final Field<Double> field) {
+        this(
+            field.actual(center.coords()[0]),
+            field.actual(center.coords()[1])
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param center Reflection center
+     */
+    public PtReflection(final Vect<Double> center) {
+        this(center, new Decimal());
+    }
+
+    /**
+     * Constructor. Builds the reflection across the origin.
+     */
+    public PtReflection() {
+        this(0., 0.);
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.affine;
+
+import com.aljebra.field.impl.doubles.Dot;
+import com.aljebra.metric.angle.Degrees;
+
+/**
+ * An affine transform rotating points counterclockwise about a center.
+ * @since 0.4
+ */
+public final class Rotation extends Affine {
+
+    /**
+     * Constructor.
+     * @param angle Rotation angle, in radians
+     * @param xcoor Rotation center X coordinate
+     * @param ycoor Rotation center Y coordinate
+     */
+    public Rotation(final double angle, final double xcoor,
+        final double ycoor) {
+        super(Rotation.coefs(angle, xcoor, ycoor));
+    }
+
+    /**
+     * Constructor. Builds a rotation about the origin.
+     * @param angle Rotation angle, in radians
+     */
+    public Rotation(final double angle) {
+        this(angle, 0., 0.);
+    }
+
+    /**
+     * Constructor. Builds a rotation about the origin, resolving the angle
+     * the same way {@link Dot#rot} does.
+     * @param angle Rotation angle
+     */
+    public Rotation(final Degrees<Double> angle) {
+        this(angle.resolve(new Dot()).doubleValue());
+    }
+
+    /**
+     * Calculates the coefficients of a rotation about a center.
+     * @param angle Rotation angle, in radians
+     * @param xcoor Rotation center X coordinate
+     * @param ycoor Rotation center Y coordinate
+     * @return Transform coefficients
+     */
+    private static double[] coefs(final double angle, final double xcoor,
+        final double ycoor) {
+        final double cos = Math.cos(angle);
+        final double sin = Math.sin(angle);
+        return new double[] {
+            cos, sin, -sin, cos,
+            xcoor - cos * xcoor + sin * ycoor,
+            ycoor - sin * xcoor - cos * ycoor,
+        };
+    }
+
+}
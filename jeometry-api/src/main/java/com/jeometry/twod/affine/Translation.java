@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.affine;
+
+import com.aljebra.field.Field;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.vector.Vect;
+
+/**
+ * An affine transform translating points by a given vector.
+ * @since 0.4
+ */
+public final class Translation extends Affine {
+
+    /**
+     * Constructor.
+     * @param xcoor Translation along X axis
+     * @param ycoor Translation along Y axis
+     */
+    public Translation(final double xcoor, final double ycoor) {
+        super(1., 0., 0., 1., xcoor, ycoor);
+    }
+
+    /**
+     * Constructor.
+     * @param vect Translation vector
+     * @param field Field used to resolve the vector coordinates
+     */
+    public Translation(final Vect<Double> vect, final Field<Double> field) {
+        this(
+            field.actual(vect.coords()[0]),
+            field.actual(vect.coords()[1])
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param vect Translation vector
+     */
+    public Translation(final Vect<Double> vect) {
+        this(vect, new Decimal());
+    }
+
+}
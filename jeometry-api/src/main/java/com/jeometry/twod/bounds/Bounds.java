@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.bounds;
+
+import com.aljebra.field.Field;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.google.common.collect.MapMaker;
+import com.jeometry.twod.Renderable;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolves bounding boxes of double renderables. Renderables implementing
+ * {@link Bounded} give their own box. Points, segments, circles, arcs and
+ * polylines have finite boxes. Lines, rays and angles have infinite
+ * extents: a horizontal or vertical line is bounded on one axis, a ray is
+ * bounded on the side of its origin opposite to its direction, and an angle
+ * is bounded as its two sides. Other renderables cover the whole plane.
+ * Coordinates are resolved directly through the field, without building
+ * scalar expressions. Boxes of renderables that cannot change, being
+ * {@link Bounded} or made of constant scalars, are cached per renderable
+ * instance, weakly. Other boxes are resolved on each call, as renderables
+ * may depend on mutable values such as solver parameters.
+ * @since 0.4
+ */
+public final class Bounds {
+
+    /**
+     * Boxes resolution by renderable class.
+     */
+    private static final ClassValue<Extent> EXTENTS = new ClassValue<Extent>() {
+        @Override
+        protected Extent computeValue(final Class<?> type) {
+            return Extent.of(type);
+        }
+    };
+
+    /**
+     * Field for scalar operations.
+     */
+    private final Field<Double> field;
+
+    /**
+     * Boxes cache of fixed renderables, by renderable identity.
+     */
+    private final ConcurrentMap<Renderable, Box> cache;
+
+    /**
+     * Constructor.
+     */
+    public Bounds() {
+        this(new Decimal());
+    }
+
+    /**
+     * Constructor.
+     * @param field Field for scalar operations
+     */
+    public Bounds(final Field<Double> field) {
+        this.field = field;
+        this.cache = new MapMaker().weakKeys().makeMap();
+    }
+
+    /**
+     * Resolves the bounding box of a renderable.
+     * @param renderable Renderable with double coordinates
+     * @return The bounding box, possibly with infinite bounds
+     */
+    public Box box(final Renderable renderable) {
+        Box result = this.cache.get(renderable);
+        if (result == null) {
+            final Extent extent = Bounds.EXTENTS.get(renderable.getClass());
+            result = extent.box(renderable, this.field);
+            if (extent.fixed(renderable)) {
+                this.cache.put(renderable, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tells whether a renderable cannot change, being {@link Bounded} or
+     * made of constant scalars.
+     * @param renderable Renderable with double coordinates
+     * @return True if the renderable cannot change
+     */
+    public boolean fixed(final Renderable renderable) {
+        return Bounds.EXTENTS.get(renderable.getClass()).fixed(renderable);
+    }
+
+}
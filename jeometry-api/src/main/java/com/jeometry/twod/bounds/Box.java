@@ -0,0 +1,243 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.bounds;
+
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * An axis aligned bounding box, with double coordinates. Bounds may be
+ * infinite, to describe unbounded renderables, but not NaN.
+ * @since 0.4
+ */
+@EqualsAndHashCode
+@ToString(includeFieldNames = false)
+public final class Box {
+
+    /**
+     * Minimum X coordinate.
+     */
+    private final double xmin;
+
+    /**
+     * Minimum Y coordinate.
+     */
+    private final double ymin;
+
+    /**
+     * Maximum X coordinate.
+     */
+    private final double xmax;
+
+    /**
+     * Maximum Y coordinate.
+     */
+    private final double ymax;
+
+    /**
+     * Constructor.
+     * @param xmin Minimum X coordinate
+     * @param ymin Minimum Y coordinate
+     * @param xmax Maximum X coordinate
+     * @param ymax Maximum Y coordinate
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Box(final double xmin, final double ymin, final double xmax,
+        final double ymax) {
+        Preconditions.checkArgument(
+            xmin <= xmax && ymin <= ymax,
+            "Invalid box bounds [%s, %s] x [%s, %s]", xmin, xmax, ymin, ymax
+        );
+        this.xmin = xmin;
+        this.ymin = ymin;
+        this.xmax = xmax;
+        this.ymax = ymax;
+    }
+
+    /**
+     * Constructor. Builds the box covering the whole plane.
+     */
+    public Box() {
+        this(
+            Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY,
+            Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY
+        );
+    }
+
+    /**
+     * Constructor. Builds the box of a single point.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     */
+    public Box(final double xcoor, final double ycoor) {
+        this(xcoor, ycoor, xcoor, ycoor);
+    }
+
+    /**
+     * Gives the minimum X coordinate.
+     * @return Minimum X coordinate
+     */
+    public double xmin() {
+        return this.xmin;
+    }
+
+    /**
+     * Gives the minimum Y coordinate.
+     * @return Minimum Y coordinate
+     */
+    public double ymin() {
+        return this.ymin;
+    }
+
+    /**
+     * Gives the maximum X coordinate.
+     * @return Maximum X coordinate
+     */
+    public double xmax() {
+        return this.xmax;
+    }
+
+    /**
+     * Gives the maximum Y coordinate.
+     * @return Maximum Y coordinate
+     */
+    public double ymax() {
+        return this.ymax;
+    }
+
+    /**
+     * Gives the X coordinate of the box center.
+     * @return Center X coordinate
+     */
+    public double xcenter() {
+        return (this.xmin + this.xmax) / 2.;
+    }
+
+    /**
+     * Gives the Y coordinate of the box center.
+     * @return Center Y coordinate
+     */
+    public double ycenter() {
+        return (this.ymin + this.ymax) / 2.;
+    }
+
+    /**
+     * Calculates the box area. Boxes with no width or no height have
+     * a null area, even if their other extent is infinite.
+     * @return Area
+     */
+    public double area() {
+        final double width = this.xmax - this.xmin;
+        final double height = this.ymax - this.ymin;
+        final double result;
+        if (width == 0. || height == 0.) {
+            result = 0.;
+        } else {
+            result = width * height;
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether all the box bounds are finite.
+     * @return True if the box is finite
+     */
+    public boolean finite() {
+        return !Double.isInfinite(this.xmin) && !Double.isInfinite(this.ymin)
+            && !Double.isInfinite(this.xmax) && !Double.isInfinite(this.ymax);
+    }
+
+    /**
+     * Builds the smallest box containing this box and another one.
+     * @param other Other box
+     * @return Union box
+     */
+    public Box union(final Box other) {
+        return new Box(
+            Math.min(this.xmin, other.xmin), Math.min(this.ymin, other.ymin),
+            Math.max(this.xmax, other.xmax), Math.max(this.ymax, other.ymax)
+        );
+    }
+
+    /**
+     * Calculates how much the area grows when extending this box
+     * to contain another one.
+     * @param other Other box
+     * @return Area enlargement
+     */
+    public double enlargement(final Box other) {
+        return this.union(other).area() - this.area();
+    }
+
+    /**
+     * Checks whether this box intersects another one. Boxes touching on
+     * their boundary intersect.
+     * @param other Other box
+     * @return True if the boxes intersect
+     */
+    public boolean intersects(final Box other) {
+        return this.xmin <= other.xmax && other.xmin <= this.xmax
+            && this.ymin <= other.ymax && other.ymin <= this.ymax;
+    }
+
+    /**
+     * Checks whether this box contains another one.
+     * @param other Other box
+     * @return True if the other box is inside this box
+     */
+    public boolean contains(final Box other) {
+        return this.xmin <= other.xmin && other.xmax <= this.xmax
+            && this.ymin <= other.ymin && other.ymax <= this.ymax;
+    }
+
+    /**
+     * Checks whether this box contains a point.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return True if the point is inside the box or on its boundary
+     */
+    public boolean contains(final double xcoor, final double ycoor) {
+        return this.xmin <= xcoor && xcoor <= this.xmax
+            && this.ymin <= ycoor && ycoor <= this.ymax;
+    }
+
+    /**
+     * Calculates the distance from a point to the box. Points inside the box
+     * are at distance zero.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return Euclidean distance
+     */
+    public double distance(final double xcoor, final double ycoor) {
+        final double xdist = Math.max(
+            Math.max(this.xmin - xcoor, xcoor - this.xmax), 0.
+        );
+        final double ydist = Math.max(
+            Math.max(this.ymin - ycoor, ycoor - this.ymax), 0.
+        );
+        return Math.hypot(xdist, ydist);
+    }
+
+}
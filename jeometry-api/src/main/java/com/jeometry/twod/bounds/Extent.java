@@ -0,0 +1,477 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.bounds;
+
+import com.aljebra.field.Field;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import com.google.common.base.Preconditions;
+import com.jeometry.twod.Renderable;
+import com.jeometry.twod.angle.Angle;
+import com.jeometry.twod.arc.Arc;
+import com.jeometry.twod.circle.Circle;
+import com.jeometry.twod.line.Line;
+import com.jeometry.twod.line.Polyline;
+import com.jeometry.twod.ray.Ray;
+import com.jeometry.twod.segment.Segment;
+import java.util.List;
+
+/**
+ * Bounding box resolution of a kind of double renderables. {@link Bounds}
+ * picks the first kind a renderable class belongs to, in declaration order,
+ * once per class.
+ * @since 0.4
+ */
+@SuppressWarnings("unchecked")
+enum Extent {
+
+    /**
+     * Renderables giving their own box.
+     */
+    BOUNDED(Bounded.class) {
+        @Override
+        public Box box(final Renderable renderable, final Field<Double> field) {
+            return ((Bounded) renderable).box();
+        }
+
+        @Override
+        public boolean fixed(final Renderable renderable) {
+            return true;
+        }
+    },
+
+    /**
+     * Points.
+     */
+    POINT(Vect.class) {
+        @Override
+        public Box box(final Renderable renderable, final Field<Double> field) {
+            return Extent.point((Vect<Double>) renderable, field);
+        }
+
+        @Override
+        public boolean fixed(final Renderable renderable) {
+            return Extent.constant((Vect<?>) renderable);
+        }
+    },
+
+    /**
+     * Segments, bounded by their extremities.
+     */
+    SEGMENT(Segment.class) {
+        @Override
+        public Box box(final Renderable renderable, final Field<Double> field) {
+            final Segment<Double> seg = (Segment<Double>) renderable;
+            return Extent.point(seg.start(), field)
+                .union(Extent.point(seg.end(), field));
+        }
+
+        @Override
+        public boolean fixed(final Renderable renderable) {
+            final Segment<?> seg = (Segment<?>) renderable;
+            return Extent.constant(seg.start()) && Extent.constant(seg.end());
+        }
+    },
+
+    /**
+     * Circles.
+     */
+    CIRCLE(Circle.class) {
+        @Override
+        public Box box(final Renderable renderable, final Field<Double> field) {
+            final Circle<Double> circle = (Circle<Double>) renderable;
+            return Extent.circle(circle.center(), field.actual(circle.radius()), field);
+        }
+
+        @Override
+        public boolean fixed(final Renderable renderable) {
+            final Circle<?> circle = (Circle<?>) renderable;
+            return Extent.constant(circle.center())
+                && Extent.constant(circle.radius());
+        }
+    },
+
+    /**
+     * Arcs, swept counterclockwise from their start angle to their end
+     * angle. The box contains the arc extremities and the circle extreme
+     * points crossed by the arc.
+     */
+    ARC(Arc.class) {
+        @Override
+        public Box box(final Renderable renderable, final Field<Double> field) {
+            return Extent.arc((Arc<Double>) renderable, field);
+        }
+
+        @Override
+        public boolean fixed(final Renderable renderable) {
+            final Arc<?> arc = (Arc<?>) renderable;
+            return Extent.constant(arc.center()) && Extent.constant(arc.radius());
+        }
+    },
+
+    /**
+     * Polylines, bounded by their points.
+     */
+    POLYLINE(Polyline.class) {
+        @Override
+        public Box box(final Renderable renderable, final Field<Double> field) {
+            return Extent.points(((Polyline<Double>) renderable).points(), field);
+        }
+
+        @Override
+        public boolean fixed(final Renderable renderable) {
+            boolean result = true;
+            for (final Vect<?> point : ((Polyline<?>) renderable).points()) {
+                result = result && Extent.constant(point);
+            }
+            return result;
+        }
+    },
+
+    /**
+     * Rays, bounded on the side of their origin opposite to their direction.
+     */
+    RAY(Ray.class) {
+        @Override
+        public Box box(final Renderable renderable, final Field<Double> field) {
+            final Ray<Double> ray = (Ray<Double>) renderable;
+            return Extent.ray(ray.origin(), ray.direction(), field);
+        }
+
+        @Override
+        public boolean fixed(final Renderable renderable) {
+            final Ray<?> ray = (Ray<?>) renderable;
+            return Extent.constant(ray.origin()) && Extent.constant(ray.direction());
+        }
+    },
+
+    /**
+     * Lines, bounded on one axis if horizontal or vertical.
+     */
+    LINE(Line.class) {
+        @Override
+        public Box box(final Renderable renderable, final Field<Double> field) {
+            final Line<Double> line = (Line<Double>) renderable;
+            final double xdir = field.actual(line.direction().coords()[0]);
+            final double ydir = field.actual(line.direction().coords()[1]);
+            return Extent.ray(line.point(), new double[] {xdir, ydir}, field)
+                .union(Extent.ray(line.point(), new double[] {-xdir, -ydir}, field));
+        }
+
+        @Override
+        public boolean fixed(final Renderable renderable) {
+            final Line<?> line = (Line<?>) renderable;
+            return Extent.constant(line.point())
+                && Extent.constant(line.direction());
+        }
+    },
+
+    /**
+     * Angles, bounded as their two sides.
+     */
+    ANGLE(Angle.class) {
+        @Override
+        public Box box(final Renderable renderable, final Field<Double> field) {
+            final Angle<Double> angle = (Angle<Double>) renderable;
+            return Extent.ray(angle.origin(), angle.start(), field)
+                .union(Extent.ray(angle.origin(), angle.end(), field));
+        }
+
+        @Override
+        public boolean fixed(final Renderable renderable) {
+            final Angle<?> angle = (Angle<?>) renderable;
+            return Extent.constant(angle.origin())
+                && Extent.constant(angle.start()) && Extent.constant(angle.end());
+        }
+    },
+
+    /**
+     * Other renderables, covering the whole plane.
+     */
+    PLANE(Renderable.class) {
+        @Override
+        public Box box(final Renderable renderable, final Field<Double> field) {
+            return new Box();
+        }
+
+        @Override
+        public boolean fixed(final Renderable renderable) {
+            return true;
+        }
+    };
+
+    /**
+     * A full turn, in radians.
+     */
+    private static final double TURN = 2. * Math.PI;
+
+    /**
+     * Renderables type of this kind.
+     */
+    private final Class<?> type;
+
+    /**
+     * Constructor.
+     * @param type Renderables type of this kind
+     */
+    Extent(final Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * Resolves the bounding box of a renderable of this kind.
+     * @param renderable Renderable with double coordinates
+     * @param field Field for scalar operations
+     * @return The bounding box, possibly with infinite bounds
+     */
+    public abstract Box box(Renderable renderable, Field<Double> field);
+
+    /**
+     * Tells whether the box of a renderable of this kind is fixed, so that
+     * it can be remembered: renderables giving their own box are expected
+     * not to change, and other ones are fixed when all their values are
+     * constant scalars.
+     * @param renderable Renderable with double coordinates
+     * @return True if the renderable box cannot change
+     */
+    public abstract boolean fixed(Renderable renderable);
+
+    /**
+     * Gives the kind of a renderables class.
+     * @param clazz Renderables class
+     * @return The first kind the class belongs to
+     */
+    static Extent of(final Class<?> clazz) {
+        Extent result = Extent.PLANE;
+        for (final Extent extent : Extent.values()) {
+            if (extent.type.isAssignableFrom(clazz)) {
+                result = extent;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tells whether a vector has constant coordinates.
+     * @param vect Vector
+     * @return True if all its coordinates are constant scalars
+     */
+    private static boolean constant(final Vect<?> vect) {
+        boolean result = true;
+        for (final Scalar<?> coord : vect.coords()) {
+            result = result && Extent.constant(coord);
+        }
+        return result;
+    }
+
+    /**
+     * Tells whether a scalar is constant.
+     * @param scalar Scalar
+     * @return True if it is a plain value
+     */
+    private static boolean constant(final Scalar<?> scalar) {
+        return scalar.getClass() == Scalar.Default.class;
+    }
+
+    /**
+     * Resolves the box of a point.
+     * @param point Point
+     * @param field Field for scalar operations
+     * @return A box
+     */
+    private static Box point(final Vect<Double> point, final Field<Double> field) {
+        return new Box(
+            field.actual(point.coords()[0]), field.actual(point.coords()[1])
+        );
+    }
+
+    /**
+     * Resolves the box of a list of points.
+     * @param points Points
+     * @param field Field for scalar operations
+     * @return A box
+     */
+    private static Box points(final List<Vect<Double>> points,
+        final Field<Double> field) {
+        Preconditions.checkArgument(
+            !points.isEmpty(), "Cannot bound an empty list of points"
+        );
+        double xmin = Double.POSITIVE_INFINITY;
+        double ymin = Double.POSITIVE_INFINITY;
+        double xmax = Double.NEGATIVE_INFINITY;
+        double ymax = Double.NEGATIVE_INFINITY;
+        for (final Vect<Double> point : points) {
+            final double xcoor = field.actual(point.coords()[0]);
+            final double ycoor = field.actual(point.coords()[1]);
+            xmin = Math.min(xmin, xcoor);
+            ymin = Math.min(ymin, ycoor);
+            xmax = Math.max(xmax, xcoor);
+            ymax = Math.max(ymax, ycoor);
+        }
+        return new Box(xmin, ymin, xmax, ymax);
+    }
+
+    /**
+     * Resolves the box of a circle.
+     * @param center Circle center
+     * @param radius Circle radius
+     * @param field Field for scalar operations
+     * @return A box
+     */
+    private static Box circle(final Vect<Double> center, final double radius,
+        final Field<Double> field) {
+        final double xcoor = field.actual(center.coords()[0]);
+        final double ycoor = field.actual(center.coords()[1]);
+        final double rad = Math.abs(radius);
+        return new Box(xcoor - rad, ycoor - rad, xcoor + rad, ycoor + rad);
+    }
+
+    /**
+     * Resolves the box of an arc.
+     * @param arc Arc
+     * @param field Field for scalar operations
+     * @return A box
+     */
+    private static Box arc(final Arc<Double> arc, final Field<Double> field) {
+        final double radius = Math.abs(field.actual(arc.radius()));
+        final double start = arc.start().doubleValue();
+        final double sweep = arc.end().doubleValue() - start;
+        final Box result;
+        if (Math.abs(sweep) >= Extent.TURN) {
+            result = Extent.circle(arc.center(), radius, field);
+        } else {
+            final double xcoor = field.actual(arc.center().coords()[0]);
+            final double ycoor = field.actual(arc.center().coords()[1]);
+            final double span = Extent.normalized(sweep);
+            Box box = new Box(
+                xcoor + radius * Math.cos(start), ycoor + radius * Math.sin(start)
+            ).union(
+                new Box(
+                    xcoor + radius * Math.cos(start + span),
+                    ycoor + radius * Math.sin(start + span)
+                )
+            );
+            final int quarters = 4;
+            for (int idx = 0; idx < quarters; ++idx) {
+                final double angle = idx * Extent.TURN / quarters;
+                if (Extent.normalized(angle - start) <= span) {
+                    box = box.union(
+                        new Box(
+                            xcoor + radius * Math.cos(angle),
+                            ycoor + radius * Math.sin(angle)
+                        )
+                    );
+                }
+            }
+            result = box;
+        }
+        return result;
+    }
+
+    /**
+     * Resolves the box of a ray.
+     * @param origin Ray origin
+     * @param direction Ray direction
+     * @param field Field for scalar operations
+     * @return A box
+     */
+    private static Box ray(final Vect<Double> origin, final double[] direction,
+        final Field<Double> field) {
+        final double xcoor = field.actual(origin.coords()[0]);
+        final double ycoor = field.actual(origin.coords()[1]);
+        return new Box(
+            Extent.lower(xcoor, direction[0]), Extent.lower(ycoor, direction[1]),
+            Extent.upper(xcoor, direction[0]), Extent.upper(ycoor, direction[1])
+        );
+    }
+
+    /**
+     * Resolves the box of a ray.
+     * @param origin Ray origin
+     * @param direction Ray direction
+     * @param field Field for scalar operations
+     * @return A box
+     */
+    private static Box ray(final Vect<Double> origin, final Vect<Double> direction,
+        final Field<Double> field) {
+        return Extent.ray(
+            origin,
+            new double[] {
+                field.actual(direction.coords()[0]),
+                field.actual(direction.coords()[1]),
+            },
+            field
+        );
+    }
+
+    /**
+     * Gives the lower bound of a ray along an axis.
+     * @param origin Origin coordinate
+     * @param direction Direction coordinate
+     * @return Lower bound
+     */
+    private static double lower(final double origin, final double direction) {
+        final double result;
+        if (direction < 0.) {
+            result = Double.NEGATIVE_INFINITY;
+        } else {
+            result = origin;
+        }
+        return result;
+    }
+
+    /**
+     * Gives the upper bound of a ray along an axis.
+     * @param origin Origin coordinate
+     * @param direction Direction coordinate
+     * @return Upper bound
+     */
+    private static double upper(final double origin, final double direction) {
+        final double result;
+        if (direction > 0.) {
+            result = Double.POSITIVE_INFINITY;
+        } else {
+            result = origin;
+        }
+        return result;
+    }
+
+    /**
+     * Normalizes an angle to [0, 2 PI).
+     * @param angle Angle in radians
+     * @return Normalized angle
+     */
+    private static double normalized(final double angle) {
+        final double rem = angle % Extent.TURN;
+        final double result;
+        if (rem < 0.) {
+            result = rem + Extent.TURN;
+        } else {
+            result = rem;
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.circle.analytics;
+
+import com.aljebra.field.Field;
+import com.aljebra.scalar.Scalar;
+import lombok.ToString;
+
+/**
+ * A coordinate of an intersection point of a circle with another shape,
+ * resolved lazily. Resolving it throws an {@link IllegalStateException} if
+ * the shapes have fewer intersection points.
+ * @since 0.4
+ */
+@ToString(includeFieldNames = false)
+public final class CircleIntersection implements Scalar<Double> {
+
+    /**
+     * Intersection points.
+     */
+    private final CircleIntersections points;
+
+    /**
+     * Intersection point index, 0 for the first and 1 for the second.
+     */
+    private final int root;
+
+    /**
+     * Coordinate index, 0 for X and 1 for Y.
+     */
+    private final int axis;
+
+    /**
+     * Constructor.
+     * @param points Intersection points
+     * @param root Intersection point index, 0 for the first and 1 for the
+     *  second
+     * @param axis Coordinate index, 0 for X and 1 for Y
+     */
+    public CircleIntersection(final CircleIntersections points, final int root,
+        final int axis) {
+        this.points = points;
+        this.root = root;
+        this.axis = axis;
+    }
+
+    @Override
+    public Double value(final Field<Double> field) {
+        final double[] coords = this.points.coords(field);
+        if (2 * this.root >= coords.length) {
+            throw new IllegalStateException(
+                String.format(
+                    "Undefined intersecting point %d of a circle with %d points.",
+                    this.root, coords.length / 2
+                )
+            );
+        }
+        return coords[2 * this.root + this.axis];
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.circle.analytics;
+
+import com.aljebra.field.Field;
+import com.aljebra.scalar.Scalar;
+import com.jeometry.twod.circle.Circle;
+import com.jeometry.twod.line.Line;
+import com.jeometry.twod.line.analytics.DblImplicit;
+import com.jeometry.twod.point.XyPoint;
+import com.jeometry.twod.ray.Ray;
+import com.jeometry.twod.segment.Segment;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Intersection points of a circle with a line, a segment, a ray or another
+ * circle, over doubles. Shapes are resolved lazily, at each call, so that
+ * the count of points, zero, one or two, follows the shapes. Points are
+ * given in order along the line, segment or ray, and tangent shapes have a
+ * single point. See {@link DblCircleForm} for the handling of tolerance.
+ * @since 0.4
+ */
+public final class CircleIntersections {
+
+    /**
+     * Circle.
+     */
+    private final Circle<Double> circle;
+
+    /**
+     * Intersection with the other shape.
+     */
+    private final Cut cut;
+
+    /**
+     * Constructor.
+     * @param circle Circle
+     * @param line Line
+     */
+    public CircleIntersections(final Circle<Double> circle,
+        final Line<Double> line) {
+        this(
+            circle,
+            new Cut() {
+                @Override
+                public double[] coords(final DblCircleForm form,
+                    final Field<Double> field) {
+                    return form.intersection(new DblImplicit(line, field));
+                }
+            }
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param circle Circle
+     * @param other Other circle
+     */
+    public CircleIntersections(final Circle<Double> circle,
+        final Circle<Double> other) {
+        this(
+            circle,
+            new Cut() {
+                @Override
+                public double[] coords(final DblCircleForm form,
+                    final Field<Double> field) {
+                    return form.intersection(new DblCircleForm(other, field));
+                }
+            }
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param circle Circle
+     * @param segment Segment
+     */
+    public CircleIntersections(final Circle<Double> circle,
+        final Segment<Double> segment) {
+        this(
+            circle,
+            new Cut() {
+                @Override
+                public double[] coords(final DblCircleForm form,
+                    final Field<Double> field) {
+                    return form.segment(
+                        CircleIntersections.coords(segment.start().coords(), field),
+                        CircleIntersections.coords(segment.end().coords(), field)
+                    );
+                }
+            }
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param circle Circle
+     * @param ray Ray
+     */
+    public CircleIntersections(final Circle<Double> circle,
+        final Ray<Double> ray) {
+        this(
+            circle,
+            new Cut() {
+                @Override
+                public double[] coords(final DblCircleForm form,
+                    final Field<Double> field) {
+                    return form.ray(
+                        CircleIntersections.coords(ray.origin().coords(), field),
+                        CircleIntersections.coords(ray.direction().coords(), field)
+                    );
+                }
+            }
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param circle Circle
+     * @param cut Intersection with the other shape
+     */
+    private CircleIntersections(final Circle<Double> circle, final Cut cut) {
+        this.circle = circle;
+        this.cut = cut;
+    }
+
+    /**
+     * Calculates the intersection points coordinates.
+     * @param field Field for scalar operations
+     * @return Intersection points (x, y) coordinates
+     */
+    public double[] coords(final Field<Double> field) {
+        return this.cut.coords(new DblCircleForm(this.circle, field), field);
+    }
+
+    /**
+     * Calculates the count of intersection points.
+     * @param field Field for scalar operations
+     * @return Count of intersection points
+     */
+    public int count(final Field<Double> field) {
+        return this.coords(field).length / 2;
+    }
+
+    /**
+     * Calculates the intersection points.
+     * @param field Field for scalar operations
+     * @return Intersection points
+     */
+    public List<XyPoint<Double>> points(final Field<Double> field) {
+        final double[] coords = this.coords(field);
+        final List<XyPoint<Double>> result = new ArrayList<>(coords.length / 2);
+        for (int idx = 0; idx < coords.length; idx += 2) {
+            result.add(
+                new XyPoint<>(
+                    new Scalar.Default<>(coords[idx]),
+                    new Scalar.Default<>(coords[idx + 1])
+                )
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Resolves coordinates.
+     * @param coords Coordinates
+     * @param field Field for scalar operations
+     * @return Resolved (x, y) coordinates
+     */
+    private static double[] coords(final Scalar<Double>[] coords,
+        final Field<Double> field) {
+        return new double[] {field.actual(coords[0]), field.actual(coords[1])};
+    }
+
+    /**
+     * Intersection of a resolved circle with another shape.
+     */
+    private interface Cut {
+
+        /**
+         * Calculates the intersection points coordinates.
+         * @param form Resolved circle
+         * @param field Field for scalar operations
+         * @return Intersection points (x, y) coordinates
+         */
+        double[] coords(DblCircleForm form, Field<Double> field);
+
+    }
+
+}
@@ -0,0 +1,231 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.circle.analytics;
+
+import com.aljebra.field.impl.doubles.Block;
+import com.aljebra.field.impl.doubles.Parallelism;
+import com.google.common.base.Preconditions;
+import com.jeometry.twod.line.analytics.DblImplicit;
+
+/**
+ * Batch intersection kernels of a single circle or line against packed
+ * arrays of others, with no allocation per item. Each item has two slots
+ * of (x, y) coordinates in the output array, filled by its intersection
+ * points in order, and its count of points, zero, one or two, in the
+ * counts array. Large batches are split across the fork-join pool
+ * according to the parallelism settings.
+ * @see DblCircleForm
+ * @since 0.4
+ */
+public final class Crossings {
+
+    /**
+     * Count of values for the points of an item.
+     */
+    private static final int SLOTS = 4;
+
+    /**
+     * Parallelism settings.
+     */
+    private final Parallelism parallel;
+
+    /**
+     * Constructor, intersecting sequentially.
+     */
+    public Crossings() {
+        this(new Parallelism(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Constructor.
+     * @param parallel Parallelism settings, in count of items
+     */
+    public Crossings(final Parallelism parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Intersects a circle with circles.
+     * @param circle Circle
+     * @param circles Packed (x, y) center and radius of each circle
+     * @param into Array to write intersection points into, four values by
+     *  circle
+     * @param counts Count of intersection points of each circle
+     * @return Total count of intersection points
+     */
+    public int circles(final DblCircleForm circle, final double[] circles,
+        final double[] into, final int[] counts) {
+        final int size = Crossings.size(circles, 2 + 1, into, counts);
+        this.parallel.apply(
+            new Block() {
+                @Override
+                public void apply(final int from, final int until) {
+                    for (int idx = from; idx < until; ++idx) {
+                        final int at = (2 + 1) * idx;
+                        counts[idx] = DblCircleForm.circle(
+                            circle.xcoor(), circle.ycoor(), circle.radius(),
+                            circles[at], circles[at + 1], circles[at + 2],
+                            into, Crossings.SLOTS * idx
+                        );
+                    }
+                }
+            },
+            size
+        );
+        return Crossings.total(counts, size);
+    }
+
+    /**
+     * Intersects a circle with lines.
+     * @param circle Circle
+     * @param lines Packed implicit form coefficients a, b and c of each line
+     *  a.x + b.y = c
+     * @param into Array to write intersection points into, four values by
+     *  line
+     * @param counts Count of intersection points of each line
+     * @return Total count of intersection points
+     */
+    public int lines(final DblCircleForm circle, final double[] lines,
+        final double[] into, final int[] counts) {
+        final int size = Crossings.size(lines, 2 + 1, into, counts);
+        this.parallel.apply(
+            new Block() {
+                @Override
+                public void apply(final int from, final int until) {
+                    for (int idx = from; idx < until; ++idx) {
+                        final int at = (2 + 1) * idx;
+                        counts[idx] = DblCircleForm.line(
+                            circle.xcoor(), circle.ycoor(), circle.radius(),
+                            lines[at], lines[at + 1], lines[at + 2],
+                            into, Crossings.SLOTS * idx
+                        );
+                    }
+                }
+            },
+            size
+        );
+        return Crossings.total(counts, size);
+    }
+
+    /**
+     * Intersects a circle with segments.
+     * @param circle Circle
+     * @param segments Packed (x, y) start and (x, y) end of each segment
+     * @param into Array to write intersection points into, four values by
+     *  segment
+     * @param counts Count of intersection points of each segment
+     * @return Total count of intersection points
+     */
+    public int segments(final DblCircleForm circle, final double[] segments,
+        final double[] into, final int[] counts) {
+        final int size = Crossings.size(segments, Crossings.SLOTS, into, counts);
+        this.parallel.apply(
+            new Block() {
+                @Override
+                public void apply(final int from, final int until) {
+                    for (int idx = from; idx < until; ++idx) {
+                        final int at = Crossings.SLOTS * idx;
+                        counts[idx] = DblCircleForm.chord(
+                            circle.xcoor(), circle.ycoor(), circle.radius(),
+                            segments[at], segments[at + 1],
+                            segments[at + 2] - segments[at],
+                            segments[at + 2 + 1] - segments[at + 1], 1.,
+                            into, at
+                        );
+                    }
+                }
+            },
+            size
+        );
+        return Crossings.total(counts, size);
+    }
+
+    /**
+     * Intersects a line with circles.
+     * @param line Line
+     * @param circles Packed (x, y) center and radius of each circle
+     * @param into Array to write intersection points into, four values by
+     *  circle
+     * @param counts Count of intersection points of each circle
+     * @return Total count of intersection points
+     */
+    public int circles(final DblImplicit line, final double[] circles,
+        final double[] into, final int[] counts) {
+        final int size = Crossings.size(circles, 2 + 1, into, counts);
+        this.parallel.apply(
+            new Block() {
+                @Override
+                public void apply(final int from, final int until) {
+                    for (int idx = from; idx < until; ++idx) {
+                        final int at = (2 + 1) * idx;
+                        counts[idx] = DblCircleForm.line(
+                            circles[at], circles[at + 1], circles[at + 2],
+                            line.xcoef(), line.ycoef(), line.constant(),
+                            into, Crossings.SLOTS * idx
+                        );
+                    }
+                }
+            },
+            size
+        );
+        return Crossings.total(counts, size);
+    }
+
+    /**
+     * Checks the arrays of a batch and gives its count of items.
+     * @param items Packed items values
+     * @param stride Count of values by item
+     * @param into Array to write intersection points into
+     * @param counts Count of intersection points of each item
+     * @return Count of items
+     */
+    private static int size(final double[] items, final int stride,
+        final double[] into, final int[] counts) {
+        Preconditions.checkArgument(
+            items.length % stride == 0,
+            "Expected %s values by item, got %s values", stride, items.length
+        );
+        final int result = items.length / stride;
+        Preconditions.checkArgument(
+            into.length >= Crossings.SLOTS * result && counts.length >= result,
+            "Output arrays too small for %s items", result
+        );
+        return result;
+    }
+
+    /**
+     * Sums counts of intersection points.
+     * @param counts Count of intersection points of each item
+     * @param size Count of items
+     * @return Total count of intersection points
+     */
+    private static int total(final int[] counts, final int size) {
+        int result = 0;
+        for (int idx = 0; idx < size; ++idx) {
+            result += counts[idx];
+        }
+        return result;
+    }
+
+}
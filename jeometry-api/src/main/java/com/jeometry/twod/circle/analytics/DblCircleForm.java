@@ -0,0 +1,356 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.circle.analytics;
+
+import com.aljebra.field.Field;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.jeometry.twod.circle.Circle;
+import com.jeometry.twod.line.analytics.DblImplicit;
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * A circle over doubles resolved into its center and radius, intersecting
+ * lines, segments, rays and other circles in a constant number of floating
+ * point operations on primitives. Intersections are returned as (x, y)
+ * coordinates of zero, one or two points. Tangency is checked within the
+ * tolerance of {@link Decimal}, as a distance, and gives a single point.
+ * Concentric circles, coincident ones included, have no intersection
+ * points.
+ * @since 0.4
+ */
+@EqualsAndHashCode
+@ToString(includeFieldNames = false)
+public final class DblCircleForm {
+
+    /**
+     * Tolerance.
+     */
+    private static final double TOLERANCE = 1.E-6;
+
+    /**
+     * Center X coordinate.
+     */
+    private final double xcoor;
+
+    /**
+     * Center Y coordinate.
+     */
+    private final double ycoor;
+
+    /**
+     * Radius.
+     */
+    private final double rad;
+
+    /**
+     * Constructor.
+     * @param circle Circle
+     */
+    public DblCircleForm(final Circle<Double> circle) {
+        this(circle, new Decimal());
+    }
+
+    /**
+     * Constructor.
+     * @param circle Circle
+     * @param field Field for scalar operations
+     */
+    public DblCircleForm(final Circle<Double> circle, final Field<Double> field) {
+        this(
+            field.actual(circle.center().coords()[0]),
+            field.actual(circle.center().coords()[1]),
+            field.actual(circle.radius())
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param xcoor Center X coordinate
+     * @param ycoor Center Y coordinate
+     * @param radius Radius
+     */
+    public DblCircleForm(final double xcoor, final double ycoor,
+        final double radius) {
+        this.xcoor = xcoor;
+        this.ycoor = ycoor;
+        this.rad = Math.abs(radius);
+    }
+
+    /**
+     * Gives the center X coordinate.
+     * @return X coordinate
+     */
+    public double xcoor() {
+        return this.xcoor;
+    }
+
+    /**
+     * Gives the center Y coordinate.
+     * @return Y coordinate
+     */
+    public double ycoor() {
+        return this.ycoor;
+    }
+
+    /**
+     * Gives the radius.
+     * @return Radius
+     */
+    public double radius() {
+        return this.rad;
+    }
+
+    /**
+     * Calculates the intersection points with a line.
+     * @param line Line
+     * @return Intersection points (x, y) coordinates
+     */
+    public double[] intersection(final DblImplicit line) {
+        final double[] into = new double[2 + 2];
+        return DblCircleForm.trim(
+            into,
+            DblCircleForm.line(
+                this.xcoor, this.ycoor, this.rad, line.xcoef(), line.ycoef(),
+                line.constant(), into, 0
+            )
+        );
+    }
+
+    /**
+     * Calculates the intersection points with another circle.
+     * @param other Other circle
+     * @return Intersection points (x, y) coordinates
+     */
+    public double[] intersection(final DblCircleForm other) {
+        final double[] into = new double[2 + 2];
+        return DblCircleForm.trim(
+            into,
+            DblCircleForm.circle(
+                this.xcoor, this.ycoor, this.rad, other.xcoor, other.ycoor,
+                other.rad, into, 0
+            )
+        );
+    }
+
+    /**
+     * Calculates the intersection points with a segment.
+     * @param start Segment start (x, y) coordinates
+     * @param end Segment end (x, y) coordinates
+     * @return Intersection points (x, y) coordinates, from start to end
+     */
+    public double[] segment(final double[] start, final double[] end) {
+        final double[] into = new double[2 + 2];
+        return DblCircleForm.trim(
+            into,
+            DblCircleForm.chord(
+                this.xcoor, this.ycoor, this.rad, start[0], start[1],
+                end[0] - start[0], end[1] - start[1], 1., into, 0
+            )
+        );
+    }
+
+    /**
+     * Calculates the intersection points with a ray.
+     * @param origin Ray origin (x, y) coordinates
+     * @param direction Ray direction (x, y) coordinates
+     * @return Intersection points (x, y) coordinates, from the origin
+     */
+    public double[] ray(final double[] origin, final double[] direction) {
+        final double[] into = new double[2 + 2];
+        return DblCircleForm.trim(
+            into,
+            DblCircleForm.chord(
+                this.xcoor, this.ycoor, this.rad, origin[0], origin[1],
+                direction[0], direction[1], Double.POSITIVE_INFINITY, into, 0
+            )
+        );
+    }
+
+    /**
+     * Intersects a circle with a line in implicit form.
+     * @param xcoor Circle center X coordinate
+     * @param ycoor Circle center Y coordinate
+     * @param radius Circle radius
+     * @param xcoef Line X coefficient
+     * @param ycoef Line Y coefficient
+     * @param constant Line constant term
+     * @param into Array to write intersection points into
+     * @param at Index of the first point X coordinate in the array
+     * @return Count of intersection points
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    static int line(final double xcoor, final double ycoor, final double radius,
+        final double xcoef, final double ycoef, final double constant,
+        final double[] into, final int at) {
+        final double norm = xcoef * xcoef + ycoef * ycoef;
+        final double factor = (xcoef * xcoor + ycoef * ycoor - constant) / norm;
+        return DblCircleForm.chord(
+            xcoor, ycoor, radius, xcoor - factor * xcoef, ycoor - factor * ycoef,
+            -ycoef, xcoef, Double.NaN, into, at
+        );
+    }
+
+    /**
+     * Intersects a circle with a part of a line going from a point along a
+     * direction. Points are kept at multiples of the direction between zero
+     * and a limit, or all of them when the limit is not a number.
+     * @param xcoor Circle center X coordinate
+     * @param ycoor Circle center Y coordinate
+     * @param radius Circle radius
+     * @param xstart Start X coordinate
+     * @param ystart Start Y coordinate
+     * @param xdir Direction X coordinate
+     * @param ydir Direction Y coordinate
+     * @param limit Largest multiple of the direction
+     * @param into Array to write intersection points into
+     * @param at Index of the first point X coordinate in the array
+     * @return Count of intersection points
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    static int chord(final double xcoor, final double ycoor, final double radius,
+        final double xstart, final double ystart, final double xdir,
+        final double ydir, final double limit, final double[] into,
+        final int at) {
+        final double norm = Math.hypot(xdir, ydir);
+        int result = 0;
+        if (norm > 0.) {
+            final double foot = ((xcoor - xstart) * xdir + (ycoor - ystart) * ydir)
+                / (norm * norm);
+            final double xfoot = xstart + foot * xdir;
+            final double yfoot = ystart + foot * ydir;
+            final double dist = Math.hypot(xcoor - xfoot, ycoor - yfoot);
+            final double slack = DblCircleForm.TOLERANCE / norm;
+            if (Math.abs(dist - radius) < DblCircleForm.TOLERANCE) {
+                result = DblCircleForm.keep(
+                    foot, limit, slack, xstart, ystart, xdir, ydir, into, at
+                );
+            } else if (dist < radius) {
+                final double half = Math.sqrt(
+                    (radius - dist) * (radius + dist)
+                ) / norm;
+                result = DblCircleForm.keep(
+                    foot - half, limit, slack, xstart, ystart, xdir, ydir,
+                    into, at
+                );
+                result += DblCircleForm.keep(
+                    foot + half, limit, slack, xstart, ystart, xdir, ydir,
+                    into, at + 2 * result
+                );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Intersects two circles.
+     * @param xcoor First center X coordinate
+     * @param ycoor First center Y coordinate
+     * @param radius First radius
+     * @param xother Second center X coordinate
+     * @param yother Second center Y coordinate
+     * @param rother Second radius
+     * @param into Array to write intersection points into
+     * @param at Index of the first point X coordinate in the array
+     * @return Count of intersection points
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    static int circle(final double xcoor, final double ycoor, final double radius,
+        final double xother, final double yother, final double rother,
+        final double[] into, final int at) {
+        final double xdiff = xother - xcoor;
+        final double ydiff = yother - ycoor;
+        final double dist = Math.hypot(xdiff, ydiff);
+        int result = 0;
+        if (dist >= DblCircleForm.TOLERANCE) {
+            final double along = (dist * dist + radius * radius - rother * rother)
+                / (2. * dist * dist);
+            final double xmid = xcoor + along * xdiff;
+            final double ymid = ycoor + along * ydiff;
+            if (Math.abs(dist - radius - rother) < DblCircleForm.TOLERANCE
+                || Math.abs(dist - Math.abs(radius - rother))
+                < DblCircleForm.TOLERANCE) {
+                into[at] = xmid;
+                into[at + 1] = ymid;
+                result = 1;
+            } else if (dist < radius + rother
+                && dist > Math.abs(radius - rother)) {
+                final double across = Math.sqrt(
+                    Math.max(radius * radius / (dist * dist) - along * along, 0.)
+                );
+                into[at] = xmid + across * ydiff;
+                into[at + 1] = ymid - across * xdiff;
+                into[at + 2] = xmid - across * ydiff;
+                into[at + 2 + 1] = ymid + across * xdiff;
+                result = 2;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Writes a point at a multiple of a direction, if the multiple is
+     * between zero and a limit within some slack.
+     * @param mult Multiple of the direction
+     * @param limit Largest multiple, or not a number for no bounds
+     * @param slack Slack on the bounds
+     * @param xstart Start X coordinate
+     * @param ystart Start Y coordinate
+     * @param xdir Direction X coordinate
+     * @param ydir Direction Y coordinate
+     * @param into Array to write the point into
+     * @param at Index of the point X coordinate in the array
+     * @return Count of written points
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    private static int keep(final double mult, final double limit,
+        final double slack, final double xstart, final double ystart,
+        final double xdir, final double ydir, final double[] into, final int at) {
+        int result = 0;
+        if (Double.isNaN(limit) || mult >= -slack && mult <= limit + slack) {
+            into[at] = xstart + mult * xdir;
+            into[at + 1] = ystart + mult * ydir;
+            result = 1;
+        }
+        return result;
+    }
+
+    /**
+     * Trims intersection points coordinates.
+     * @param coords Coordinates of at most two points
+     * @param count Count of points
+     * @return Coordinates of the points
+     */
+    private static double[] trim(final double[] coords, final int count) {
+        final double[] result;
+        if (count == 2) {
+            result = coords;
+        } else {
+            result = Arrays.copyOf(coords, 2 * count);
+        }
+        return result;
+    }
+
+}
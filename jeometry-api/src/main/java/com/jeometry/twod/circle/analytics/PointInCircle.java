@@ -24,6 +24,8 @@
 package com.jeometry.twod.circle.analytics;
 
 import com.aljebra.field.Field;
+import com.aljebra.field.MetricSpaceField;
+import com.aljebra.metric.VectRelations;
 import com.aljebra.metric.scalar.Norm;
 import com.aljebra.scalar.condition.Predicate;
 import com.aljebra.vector.Minus;
@@ -59,10 +61,18 @@ public final class PointInCircle<T> implements Predicate<Field<T>> {
 
     @Override
     public boolean resolve(final Field<T> field) {
-        return field.equals(
-            this.circle.radius(),
-            new Norm<T>(new Minus<T>(this.point, this.circle.center()))
-        );
+        final boolean result;
+        if (field instanceof MetricSpaceField<?>) {
+            result = new VectRelations<>((MetricSpaceField<T>) field).length(
+                new Minus<T>(this.point, this.circle.center()), this.circle.radius()
+            );
+        } else {
+            result = field.equals(
+                this.circle.radius(),
+                new Norm<T>(new Minus<T>(this.point, this.circle.center()))
+            );
+        }
+        return result;
     }
 
 }
@@ -0,0 +1,58 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.flow;
+
+/**
+ * Receiver of items, as {@code java.util.concurrent.Flow.Subscriber}.
+ * Signals are never concurrent, and items are received only as requested
+ * through the subscription.
+ * @param <T> Items type
+ * @since 0.4
+ */
+public interface Subscriber<T> {
+
+    /**
+     * Receives the subscription, before any other signal.
+     * @param subscription Subscription
+     */
+    void onSubscribe(Subscription subscription);
+
+    /**
+     * Receives the next item.
+     * @param item Item
+     */
+    void onNext(T item);
+
+    /**
+     * Receives the error terminating the subscription.
+     * @param error Error
+     */
+    void onError(Throwable error);
+
+    /**
+     * Receives the completion of the subscription.
+     */
+    void onComplete();
+
+}
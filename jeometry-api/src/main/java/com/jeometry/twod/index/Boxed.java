@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+import com.jeometry.twod.bounds.Box;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * An item associated with its bounding box, as stored in a spatial index.
+ * @param <T> item types
+ * @since 0.4
+ */
+@EqualsAndHashCode
+@ToString(includeFieldNames = false)
+public final class Boxed<T> {
+
+    /**
+     * Bounding box.
+     */
+    private final Box bounds;
+
+    /**
+     * Item.
+     */
+    private final T value;
+
+    /**
+     * Constructor.
+     * @param box Bounding box
+     * @param item Item
+     */
+    public Boxed(final Box box, final T item) {
+        this.bounds = box;
+        this.value = item;
+    }
+
+    /**
+     * Gives the bounding box.
+     * @return Bounding box
+     */
+    public Box box() {
+        return this.bounds;
+    }
+
+    /**
+     * Gives the item.
+     * @return Item
+     */
+    public T item() {
+        return this.value;
+    }
+
+}
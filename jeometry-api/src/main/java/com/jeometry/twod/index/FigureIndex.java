@@ -0,0 +1,220 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+import com.jeometry.twod.Figure;
+import com.jeometry.twod.Shape;
+import com.jeometry.twod.bounds.Bounds;
+import com.jeometry.twod.bounds.Box;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A spatial index over the shapes of a double {@link Figure}. Shapes with
+ * finite bounding boxes are indexed in an {@link RTree}. Shapes with
+ * infinite extents, such as lines and rays, are few in practice and are
+ * scanned linearly. Each shape keeps the box it was indexed with until it
+ * is removed, so that shapes changing after being indexed can still be
+ * removed.
+ * @since 0.4
+ */
+public final class FigureIndex {
+
+    /**
+     * Bounding boxes resolver.
+     */
+    private final Bounds bounds;
+
+    /**
+     * Index of shapes with finite boxes.
+     */
+    private final RTree<Shape<?>> tree;
+
+    /**
+     * Shapes with infinite boxes.
+     */
+    private final List<Boxed<Shape<?>>> unbounded;
+
+    /**
+     * Boxes the shapes were indexed with.
+     */
+    private final Map<Shape<?>, Box> boxes;
+
+    /**
+     * Constructor.
+     * @param figure Figure to index
+     */
+    public FigureIndex(final Figure figure) {
+        this(figure, new Bounds());
+    }
+
+    /**
+     * Constructor. Bulk loads the index with the figure shapes.
+     * @param figure Figure to index
+     * @param bounds Bounding boxes resolver
+     */
+    public FigureIndex(final Figure figure, final Bounds bounds) {
+        this.bounds = bounds;
+        this.unbounded = new ArrayList<>(0);
+        this.boxes = new HashMap<>();
+        final List<Boxed<Shape<?>>> entries = new ArrayList<>(0);
+        for (final Shape<?> shape : figure) {
+            final Boxed<Shape<?>> entry = this.entry(shape);
+            if (entry.box().finite()) {
+                entries.add(entry);
+            } else {
+                this.unbounded.add(entry);
+            }
+        }
+        this.tree = new RTree<>(entries);
+    }
+
+    /**
+     * Indexes a shape.
+     * @param shape Shape to index
+     */
+    public void add(final Shape<?> shape) {
+        final Boxed<Shape<?>> entry = this.entry(shape);
+        if (entry.box().finite()) {
+            this.tree.insert(entry);
+        } else {
+            this.unbounded.add(entry);
+        }
+    }
+
+    /**
+     * Removes a shape from the index.
+     * @param shape Shape to remove
+     * @return True if the shape was found and removed
+     */
+    public boolean remove(final Shape<?> shape) {
+        boolean result = false;
+        if (this.boxes.containsKey(shape)) {
+            final Box box = this.boxes.remove(shape);
+            if (box.finite()) {
+                result = this.tree.remove(box, shape);
+            } else {
+                result = this.unbounded.remove(new Boxed<Shape<?>>(box, shape));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the shapes whose boxes intersect a window.
+     * @param window Query window
+     * @return Shapes
+     */
+    public List<Shape<?>> window(final Box window) {
+        final List<Shape<?>> result = this.tree.window(window);
+        for (final Boxed<Shape<?>> entry : this.unbounded) {
+            if (window.intersects(entry.box())) {
+                result.add(entry.item());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the shapes nearest to a point, ordered by the distance from the
+     * point to their boxes.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @param neighbours Maximum count of shapes to give
+     * @return Nearest shapes, closest first
+     */
+    public List<Shape<?>> nearest(final double xcoor, final double ycoor,
+        final int neighbours) {
+        final List<Boxed<Shape<?>>> all = new ArrayList<>(this.unbounded);
+        for (final Shape<?> shape : this.tree.nearest(xcoor, ycoor, neighbours)) {
+            all.add(new Boxed<Shape<?>>(this.boxes.get(shape), shape));
+        }
+        all.sort(
+            new Comparator<Boxed<Shape<?>>>() {
+                @Override
+                public int compare(final Boxed<Shape<?>> first,
+                    final Boxed<Shape<?>> second) {
+                    return Double.compare(
+                        first.box().distance(xcoor, ycoor),
+                        second.box().distance(xcoor, ycoor)
+                    );
+                }
+            }
+        );
+        final List<Shape<?>> result = new ArrayList<>(neighbours);
+        for (int idx = 0; idx < Math.min(neighbours, all.size()); ++idx) {
+            result.add(all.get(idx).item());
+        }
+        return result;
+    }
+
+    /**
+     * Finds the pairs of shapes whose boxes intersect.
+     * @return Pairs of shapes that may intersect
+     */
+    public List<Map.Entry<Shape<?>, Shape<?>>> candidates() {
+        final List<Map.Entry<Shape<?>, Shape<?>>> result = this.tree.candidates();
+        for (int idx = 0; idx < this.unbounded.size(); ++idx) {
+            final Boxed<Shape<?>> entry = this.unbounded.get(idx);
+            for (final Shape<?> shape : this.tree.window(entry.box())) {
+                result.add(new AbstractMap.SimpleImmutableEntry<>(entry.item(), shape));
+            }
+            for (int jdx = idx + 1; jdx < this.unbounded.size(); ++jdx) {
+                final Boxed<Shape<?>> other = this.unbounded.get(jdx);
+                if (entry.box().intersects(other.box())) {
+                    result.add(
+                        new AbstractMap.SimpleImmutableEntry<>(
+                            entry.item(), other.item()
+                        )
+                    );
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gives the count of indexed shapes.
+     * @return Shapes count
+     */
+    public int size() {
+        return this.tree.size() + this.unbounded.size();
+    }
+
+    /**
+     * Builds the index entry of a shape, and remembers its box.
+     * @param shape Shape
+     * @return Entry
+     */
+    private Boxed<Shape<?>> entry(final Shape<?> shape) {
+        final Box box = this.bounds.box(shape.renderable());
+        this.boxes.put(shape, box);
+        return new Boxed<Shape<?>>(box, shape);
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+import java.util.Arrays;
+
+/**
+ * A growable list of point indexes found by a query.
+ * @since 0.4
+ */
+final class Hits {
+
+    /**
+     * Initial capacity.
+     */
+    private static final int CAPACITY = 16;
+
+    /**
+     * Point indexes buffer.
+     */
+    private int[] buffer;
+
+    /**
+     * Count of point indexes.
+     */
+    private int count;
+
+    /**
+     * Constructor.
+     */
+    Hits() {
+        this.buffer = new int[Hits.CAPACITY];
+    }
+
+    /**
+     * Adds a point index.
+     * @param id Point index
+     */
+    public void add(final int id) {
+        if (this.count == this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, 2 * this.buffer.length);
+        }
+        this.buffer[this.count] = id;
+        this.count += 1;
+    }
+
+    /**
+     * Gives the point indexes.
+     * @return Point indexes
+     */
+    public int[] ids() {
+        return Arrays.copyOf(this.buffer, this.count);
+    }
+
+}
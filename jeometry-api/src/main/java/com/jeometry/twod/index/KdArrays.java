@@ -0,0 +1,248 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+/**
+ * Primitive arrays of an implicit k-d tree. Points are stored in tree order:
+ * the root of a range is its middle position, and each position also stores
+ * the bounding box of its range.
+ * @since 0.4
+ */
+final class KdArrays {
+
+    /**
+     * Count of doubles per bounding box.
+     */
+    private static final int STRIDE = 4;
+
+    /**
+     * Offset of the maximum Y coordinate in a bounding box.
+     */
+    private static final int YMAX = 3;
+
+    /**
+     * X coordinates, in tree order.
+     */
+    private final double[] xcoors;
+
+    /**
+     * Y coordinates, in tree order.
+     */
+    private final double[] ycoors;
+
+    /**
+     * Original point indexes, in tree order.
+     */
+    private final int[] ids;
+
+    /**
+     * Bounding boxes, as (xmin, ymin, xmax, ymax) per position.
+     */
+    private final double[] boxes;
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) coordinates
+     */
+    KdArrays(final double[] coords) {
+        final int size = coords.length / 2;
+        this.xcoors = new double[size];
+        this.ycoors = new double[size];
+        this.ids = new int[size];
+        this.boxes = new double[KdArrays.STRIDE * size];
+        for (int idx = 0; idx < size; ++idx) {
+            this.xcoors[idx] = coords[2 * idx];
+            this.ycoors[idx] = coords[2 * idx + 1];
+            this.ids[idx] = idx;
+        }
+    }
+
+    /**
+     * Gives the count of points.
+     * @return Count of points
+     */
+    public int size() {
+        return this.ids.length;
+    }
+
+    /**
+     * Gives the X coordinate at a position.
+     * @param pos Position
+     * @return X coordinate
+     */
+    public double xcoor(final int pos) {
+        return this.xcoors[pos];
+    }
+
+    /**
+     * Gives the Y coordinate at a position.
+     * @param pos Position
+     * @return Y coordinate
+     */
+    public double ycoor(final int pos) {
+        return this.ycoors[pos];
+    }
+
+    /**
+     * Gives the original index of the point at a position.
+     * @param pos Position
+     * @return Original index
+     */
+    public int id(final int pos) {
+        return this.ids[pos];
+    }
+
+    /**
+     * Gives a bound of the box of the range rooted at a position.
+     * @param pos Position
+     * @param bound Bound index: 0 for xmin, 1 for ymin, 2 for xmax
+     *  and 3 for ymax
+     * @return Bound value
+     */
+    public double box(final int pos, final int bound) {
+        return this.boxes[KdArrays.STRIDE * pos + bound];
+    }
+
+    /**
+     * Moves the k-th smallest point of a range on an axis to its position,
+     * smaller or equal points before it and greater or equal ones after.
+     * @param first First position (inclusive)
+     * @param last Last position (inclusive)
+     * @param kth Position to select
+     * @param xaxis Whether to compare X coordinates, or else Y ones
+     */
+    public void select(final int first, final int last, final int kth,
+        final boolean xaxis) {
+        final double[] coors;
+        if (xaxis) {
+            coors = this.xcoors;
+        } else {
+            coors = this.ycoors;
+        }
+        int left = first;
+        int right = last;
+        while (left < right) {
+            final double pivot = coors[kth];
+            int idx = left;
+            int jdx = right;
+            while (idx <= jdx) {
+                while (coors[idx] < pivot) {
+                    idx += 1;
+                }
+                while (pivot < coors[jdx]) {
+                    jdx -= 1;
+                }
+                if (idx <= jdx) {
+                    this.swap(idx, jdx);
+                    idx += 1;
+                    jdx -= 1;
+                }
+            }
+            if (jdx < kth) {
+                left = idx;
+            }
+            if (kth < idx) {
+                right = jdx;
+            }
+        }
+    }
+
+    /**
+     * Stores the bounding box of a range rooted at a position, from the
+     * root point and the boxes of the two halves.
+     * @param first First position (inclusive)
+     * @param mid Root position
+     * @param until Last position (exclusive)
+     */
+    public void bound(final int first, final int mid, final int until) {
+        double xmin = this.xcoors[mid];
+        double ymin = this.ycoors[mid];
+        double xmax = xmin;
+        double ymax = ymin;
+        if (mid > first) {
+            final int left = KdArrays.STRIDE * ((first + mid) >>> 1);
+            xmin = Math.min(xmin, this.boxes[left]);
+            ymin = Math.min(ymin, this.boxes[left + 1]);
+            xmax = Math.max(xmax, this.boxes[left + 2]);
+            ymax = Math.max(ymax, this.boxes[left + KdArrays.YMAX]);
+        }
+        if (until > mid + 1) {
+            final int right = KdArrays.STRIDE * ((mid + 1 + until) >>> 1);
+            xmin = Math.min(xmin, this.boxes[right]);
+            ymin = Math.min(ymin, this.boxes[right + 1]);
+            xmax = Math.max(xmax, this.boxes[right + 2]);
+            ymax = Math.max(ymax, this.boxes[right + KdArrays.YMAX]);
+        }
+        final int pos = KdArrays.STRIDE * mid;
+        this.boxes[pos] = xmin;
+        this.boxes[pos + 1] = ymin;
+        this.boxes[pos + 2] = xmax;
+        this.boxes[pos + KdArrays.YMAX] = ymax;
+    }
+
+    /**
+     * Moves the points of a range lower than a pivot on one axis before
+     * the others.
+     * @param first First position (inclusive)
+     * @param until Last position (exclusive)
+     * @param pivot Pivot coordinate
+     * @param xaxis Whether to compare X coordinates, or Y ones
+     * @return Position of the first point not lower than the pivot
+     */
+    public int partition(final int first, final int until, final double pivot,
+        final boolean xaxis) {
+        final double[] coors;
+        if (xaxis) {
+            coors = this.xcoors;
+        } else {
+            coors = this.ycoors;
+        }
+        int result = first;
+        for (int pos = first; pos < until; ++pos) {
+            if (coors[pos] < pivot) {
+                this.swap(pos, result);
+                result += 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Swaps two points.
+     * @param first First position
+     * @param second Second position
+     */
+    private void swap(final int first, final int second) {
+        final double xcoor = this.xcoors[first];
+        this.xcoors[first] = this.xcoors[second];
+        this.xcoors[second] = xcoor;
+        final double ycoor = this.ycoors[first];
+        this.ycoors[first] = this.ycoors[second];
+        this.ycoors[second] = ycoor;
+        final int id = this.ids[first];
+        this.ids[first] = this.ids[second];
+        this.ids[second] = id;
+    }
+
+}
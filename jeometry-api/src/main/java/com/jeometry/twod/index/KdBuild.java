@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join task building an implicit k-d tree over a range of points.
+ * The median point of the range, on the axis of the range depth, is moved
+ * to the middle position, and the halves are built recursively. Each
+ * middle position then stores the bounding box of its range. Halves
+ * larger than the leaf size are built in parallel.
+ * @since 0.4
+ */
+final class KdBuild extends RecursiveAction {
+
+    /**
+     * Serial version ID.
+     */
+    private static final long serialVersionUID = 4383167069432850946L;
+
+    /**
+     * Tree arrays.
+     */
+    private final transient KdArrays tree;
+
+    /**
+     * First position (inclusive).
+     */
+    private final int from;
+
+    /**
+     * Last position (exclusive).
+     */
+    private final int until;
+
+    /**
+     * Range depth.
+     */
+    private final int depth;
+
+    /**
+     * Range size under which halves are built sequentially.
+     */
+    private final int leaf;
+
+    /**
+     * Constructor.
+     * @param tree Tree arrays
+     * @param from First position (inclusive)
+     * @param until Last position (exclusive)
+     * @param depth Range depth
+     * @param leaf Range size under which halves are built sequentially
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    KdBuild(final KdArrays tree, final int from, final int until,
+        final int depth, final int leaf) {
+        super();
+        this.tree = tree;
+        this.from = from;
+        this.until = until;
+        this.depth = depth;
+        this.leaf = leaf;
+    }
+
+    @Override
+    protected void compute() {
+        if (this.until > this.from) {
+            final int mid = (this.from + this.until) >>> 1;
+            final boolean xaxis = this.depth % 2 == 0;
+            this.tree.select(this.from, this.until - 1, mid, xaxis);
+            final KdBuild left = new KdBuild(
+                this.tree, this.from, mid, this.depth + 1, this.leaf
+            );
+            final KdBuild right = new KdBuild(
+                this.tree, mid + 1, this.until, this.depth + 1, this.leaf
+            );
+            if (this.until - this.from > this.leaf) {
+                RecursiveAction.invokeAll(left, right);
+            } else {
+                left.compute();
+                right.compute();
+            }
+            this.tree.bound(this.from, mid, this.until);
+        }
+    }
+
+}
@@ -0,0 +1,309 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.field.impl.doubles.Parallelism;
+import com.aljebra.vector.Vect;
+import com.google.common.base.Preconditions;
+import com.jeometry.twod.bounds.Box;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A balanced k-d tree over a static set of 2D points. The tree is implicit:
+ * points are reordered in primitive arrays so that each range is rooted at
+ * its middle position, which also stores the range bounding box. Queries
+ * prune ranges by their boxes, and range counting adds whole ranges inside
+ * the query window without visiting them. When built with
+ * {@link Parallelism} settings, large trees are built on the fork-join pool.
+ * @since 0.4
+ */
+public final class KdTree implements PointIndex {
+
+    /**
+     * Index of the minimum X coordinate in a range box.
+     */
+    private static final int XMIN = 0;
+
+    /**
+     * Index of the minimum Y coordinate in a range box.
+     */
+    private static final int YMIN = 1;
+
+    /**
+     * Index of the maximum X coordinate in a range box.
+     */
+    private static final int XMAX = 2;
+
+    /**
+     * Index of the maximum Y coordinate in a range box.
+     */
+    private static final int YMAX = 3;
+
+    /**
+     * Tree arrays.
+     */
+    private final KdArrays tree;
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) points coordinates
+     */
+    public KdTree(final double[] coords) {
+        this(coords, Optional.empty());
+    }
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) points coordinates
+     * @param parallel Parallelism settings
+     */
+    public KdTree(final double[] coords, final Parallelism parallel) {
+        this(coords, Optional.of(parallel));
+    }
+
+    /**
+     * Constructor.
+     * @param points Points
+     */
+    public KdTree(final List<? extends Vect<Double>> points) {
+        this(new Packed(points, new Decimal()).coords());
+    }
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) points coordinates
+     * @param parallel Parallelism settings, if parallel build is enabled
+     */
+    private KdTree(final double[] coords, final Optional<Parallelism> parallel) {
+        Preconditions.checkArgument(
+            coords.length % 2 == 0,
+            "Expected interleaved coordinates, got %s values", coords.length
+        );
+        this.tree = new KdArrays(coords);
+        final int size = this.tree.size();
+        if (parallel.isPresent() && parallel.get().enabled(size)) {
+            parallel.get().invoke(
+                new KdBuild(this.tree, 0, size, 0, parallel.get().leaf())
+            );
+        } else {
+            new KdBuild(this.tree, 0, size, 0, Integer.MAX_VALUE).invoke();
+        }
+    }
+
+    @Override
+    public int[] nearest(final double xcoor, final double ycoor,
+        final int neighbours) {
+        final int capacity = Math.max(
+            0, Math.min(neighbours, this.tree.size())
+        );
+        final Neighbours found = new Neighbours(capacity);
+        if (capacity > 0) {
+            this.nearest(0, this.tree.size(), 0, xcoor, ycoor, found);
+        }
+        return found.sorted();
+    }
+
+    @Override
+    public int[] within(final double xcoor, final double ycoor,
+        final double radius) {
+        final Hits hits = new Hits();
+        this.within(0, this.tree.size(), xcoor, ycoor, radius * radius, hits);
+        return hits.ids();
+    }
+
+    @Override
+    public int[] range(final Box window) {
+        final Hits hits = new Hits();
+        this.range(0, this.tree.size(), window, hits);
+        return hits.ids();
+    }
+
+    @Override
+    public int count(final Box window) {
+        return this.count(0, this.tree.size(), window);
+    }
+
+    @Override
+    public int size() {
+        return this.tree.size();
+    }
+
+    /**
+     * Searches the nearest points in a range.
+     * @param from First position (inclusive)
+     * @param until Last position (exclusive)
+     * @param depth Range depth
+     * @param xcoor Location X coordinate
+     * @param ycoor Location Y coordinate
+     * @param found Nearest points found so far
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void nearest(final int from, final int until, final int depth,
+        final double xcoor, final double ycoor, final Neighbours found) {
+        if (until > from) {
+            final int mid = (from + until) >>> 1;
+            if (this.sqdist(mid, xcoor, ycoor) <= found.bound()) {
+                final double xdiff = this.tree.xcoor(mid) - xcoor;
+                final double ydiff = this.tree.ycoor(mid) - ycoor;
+                found.offer(xdiff * xdiff + ydiff * ydiff, this.tree.id(mid));
+                final boolean lower;
+                if (depth % 2 == 0) {
+                    lower = xcoor < this.tree.xcoor(mid);
+                } else {
+                    lower = ycoor < this.tree.ycoor(mid);
+                }
+                if (lower) {
+                    this.nearest(from, mid, depth + 1, xcoor, ycoor, found);
+                    this.nearest(mid + 1, until, depth + 1, xcoor, ycoor, found);
+                } else {
+                    this.nearest(mid + 1, until, depth + 1, xcoor, ycoor, found);
+                    this.nearest(from, mid, depth + 1, xcoor, ycoor, found);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the points of a range within a squared distance.
+     * @param from First position (inclusive)
+     * @param until Last position (exclusive)
+     * @param xcoor Location X coordinate
+     * @param ycoor Location Y coordinate
+     * @param sqrad Squared maximum distance
+     * @param hits Collected points
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void within(final int from, final int until, final double xcoor,
+        final double ycoor, final double sqrad, final Hits hits) {
+        if (until > from) {
+            final int mid = (from + until) >>> 1;
+            if (this.sqdist(mid, xcoor, ycoor) <= sqrad) {
+                final double xdiff = this.tree.xcoor(mid) - xcoor;
+                final double ydiff = this.tree.ycoor(mid) - ycoor;
+                if (xdiff * xdiff + ydiff * ydiff <= sqrad) {
+                    hits.add(this.tree.id(mid));
+                }
+                this.within(from, mid, xcoor, ycoor, sqrad, hits);
+                this.within(mid + 1, until, xcoor, ycoor, sqrad, hits);
+            }
+        }
+    }
+
+    /**
+     * Collects the points of a range inside a window.
+     * @param from First position (inclusive)
+     * @param until Last position (exclusive)
+     * @param window Query window
+     * @param hits Collected points
+     */
+    private void range(final int from, final int until, final Box window,
+        final Hits hits) {
+        if (until > from) {
+            final int mid = (from + until) >>> 1;
+            if (this.inside(mid, window)) {
+                for (int pos = from; pos < until; ++pos) {
+                    hits.add(this.tree.id(pos));
+                }
+            } else if (this.intersects(mid, window)) {
+                if (window.contains(this.tree.xcoor(mid), this.tree.ycoor(mid))) {
+                    hits.add(this.tree.id(mid));
+                }
+                this.range(from, mid, window, hits);
+                this.range(mid + 1, until, window, hits);
+            }
+        }
+    }
+
+    /**
+     * Counts the points of a range inside a window.
+     * @param from First position (inclusive)
+     * @param until Last position (exclusive)
+     * @param window Query window
+     * @return Count of points
+     */
+    private int count(final int from, final int until, final Box window) {
+        int result = 0;
+        if (until > from) {
+            final int mid = (from + until) >>> 1;
+            if (this.inside(mid, window)) {
+                result = until - from;
+            } else if (this.intersects(mid, window)) {
+                if (window.contains(this.tree.xcoor(mid), this.tree.ycoor(mid))) {
+                    result += 1;
+                }
+                result += this.count(from, mid, window)
+                    + this.count(mid + 1, until, window);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether the box of a range is inside a window.
+     * @param pos Range root position
+     * @param window Query window
+     * @return True if the range box is inside the window
+     */
+    private boolean inside(final int pos, final Box window) {
+        return window.xmin() <= this.tree.box(pos, KdTree.XMIN)
+            && this.tree.box(pos, KdTree.XMAX) <= window.xmax()
+            && window.ymin() <= this.tree.box(pos, KdTree.YMIN)
+            && this.tree.box(pos, KdTree.YMAX) <= window.ymax();
+    }
+
+    /**
+     * Checks whether the box of a range intersects a window.
+     * @param pos Range root position
+     * @param window Query window
+     * @return True if the range box intersects the window
+     */
+    private boolean intersects(final int pos, final Box window) {
+        return window.xmin() <= this.tree.box(pos, KdTree.XMAX)
+            && this.tree.box(pos, KdTree.XMIN) <= window.xmax()
+            && window.ymin() <= this.tree.box(pos, KdTree.YMAX)
+            && this.tree.box(pos, KdTree.YMIN) <= window.ymax();
+    }
+
+    /**
+     * Calculates the squared distance from a location to the box of a range.
+     * @param pos Range root position
+     * @param xcoor Location X coordinate
+     * @param ycoor Location Y coordinate
+     * @return Squared distance
+     */
+    private double sqdist(final int pos, final double xcoor, final double ycoor) {
+        final double xdist = Math.max(
+            Math.max(this.tree.box(pos, KdTree.XMIN) - xcoor, 0.),
+            xcoor - this.tree.box(pos, KdTree.XMAX)
+        );
+        final double ydist = Math.max(
+            Math.max(this.tree.box(pos, KdTree.YMIN) - ycoor, 0.),
+            ycoor - this.tree.box(pos, KdTree.YMAX)
+        );
+        return xdist * xdist + ydist * ydist;
+    }
+
+}
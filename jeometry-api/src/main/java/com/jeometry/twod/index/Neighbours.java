@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+/**
+ * A bounded collection of the closest points found so far, kept as a binary
+ * max-heap on distance over primitive arrays.
+ * @since 0.4
+ */
+final class Neighbours {
+
+    /**
+     * Distances, as a max-heap.
+     */
+    private final double[] dists;
+
+    /**
+     * Point indexes, following the distances.
+     */
+    private final int[] ids;
+
+    /**
+     * Count of points found.
+     */
+    private int count;
+
+    /**
+     * Constructor.
+     * @param capacity Maximum count of points to keep
+     */
+    Neighbours(final int capacity) {
+        this.dists = new double[capacity];
+        this.ids = new int[capacity];
+    }
+
+    /**
+     * Gives the distance a point must not exceed to be kept.
+     * @return Distance of the farthest kept point, or infinity while the
+     *  collection is not full
+     */
+    public double bound() {
+        final double result;
+        if (this.count < this.dists.length) {
+            result = Double.POSITIVE_INFINITY;
+        } else {
+            result = this.dists[0];
+        }
+        return result;
+    }
+
+    /**
+     * Offers a point.
+     * @param dist Point distance
+     * @param id Point index
+     */
+    public void offer(final double dist, final int id) {
+        if (this.count < this.dists.length) {
+            int pos = this.count;
+            this.count += 1;
+            while (pos > 0 && this.dists[(pos - 1) / 2] < dist) {
+                final int parent = (pos - 1) / 2;
+                this.dists[pos] = this.dists[parent];
+                this.ids[pos] = this.ids[parent];
+                pos = parent;
+            }
+            this.dists[pos] = dist;
+            this.ids[pos] = id;
+        } else if (this.count > 0 && dist < this.dists[0]) {
+            this.sift(dist, id);
+        }
+    }
+
+    /**
+     * Gives the kept points, closest first. The collection is emptied.
+     * @return Point indexes
+     */
+    public int[] sorted() {
+        final int[] result = new int[this.count];
+        while (this.count > 0) {
+            result[this.count - 1] = this.ids[0];
+            this.count -= 1;
+            if (this.count > 0) {
+                this.sift(this.dists[this.count], this.ids[this.count]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Replaces the farthest point and restores the heap order.
+     * @param dist New point distance
+     * @param id New point index
+     */
+    private void sift(final double dist, final int id) {
+        int pos = 0;
+        boolean moving = true;
+        while (moving && 2 * pos + 1 < this.count) {
+            int child = 2 * pos + 1;
+            if (child + 1 < this.count
+                && this.dists[child + 1] > this.dists[child]) {
+                child += 1;
+            }
+            if (this.dists[child] > dist) {
+                this.dists[pos] = this.dists[child];
+                this.ids[pos] = this.ids[child];
+                pos = child;
+            } else {
+                moving = false;
+            }
+        }
+        this.dists[pos] = dist;
+        this.ids[pos] = id;
+    }
+
+}
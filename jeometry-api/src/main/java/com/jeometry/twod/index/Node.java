@@ -0,0 +1,172 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+import com.jeometry.twod.bounds.Box;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * An R-tree node. Leaf nodes hold entries, and inner nodes hold children
+ * nodes. The node box is kept up to date by its owner tree.
+ * @param <T> item types
+ * @since 0.4
+ */
+final class Node<T> {
+
+    /**
+     * Whether this node is a leaf.
+     */
+    private final boolean leaf;
+
+    /**
+     * Children nodes, for inner nodes.
+     */
+    private final List<Node<T>> nodes;
+
+    /**
+     * Entries, for leaf nodes.
+     */
+    private final List<Boxed<T>> items;
+
+    /**
+     * Bounding box of the node content, empty if the node is empty.
+     */
+    private Optional<Box> bounds;
+
+    /**
+     * Constructor.
+     * @param leaf Whether the node is a leaf
+     */
+    Node(final boolean leaf) {
+        this.leaf = leaf;
+        this.nodes = new ArrayList<>(0);
+        this.items = new ArrayList<>(0);
+        this.bounds = Optional.empty();
+    }
+
+    /**
+     * Checks whether this node is a leaf.
+     * @return True if this node is a leaf
+     */
+    public boolean leaf() {
+        return this.leaf;
+    }
+
+    /**
+     * Gives the children nodes of an inner node.
+     * @return Mutable list of children
+     */
+    public List<Node<T>> children() {
+        return this.nodes;
+    }
+
+    /**
+     * Gives the entries of a leaf node.
+     * @return Mutable list of entries
+     */
+    public List<Boxed<T>> entries() {
+        return this.items;
+    }
+
+    /**
+     * Gives the count of children or entries.
+     * @return Node size
+     */
+    public int size() {
+        final int result;
+        if (this.leaf) {
+            result = this.items.size();
+        } else {
+            result = this.nodes.size();
+        }
+        return result;
+    }
+
+    /**
+     * Gives the node bounding box. Must not be called on an empty node.
+     * @return Bounding box
+     */
+    public Box box() {
+        return this.bounds.get();
+    }
+
+    /**
+     * Recalculates the bounding box from the node content.
+     */
+    public void refresh() {
+        Optional<Box> box = Optional.empty();
+        if (this.leaf) {
+            for (final Boxed<T> entry : this.items) {
+                box = Node.union(box, entry.box());
+            }
+        } else {
+            for (final Node<T> node : this.nodes) {
+                box = Node.union(box, node.box());
+            }
+        }
+        this.bounds = box;
+    }
+
+    /**
+     * Extends the bounding box to contain another box.
+     * @param box Box to contain
+     */
+    public void extend(final Box box) {
+        this.bounds = Node.union(this.bounds, box);
+    }
+
+    /**
+     * Collects all the entries under this node.
+     * @param output List receiving the entries
+     */
+    public void collect(final List<Boxed<T>> output) {
+        if (this.leaf) {
+            output.addAll(this.items);
+        } else {
+            for (final Node<T> node : this.nodes) {
+                node.collect(output);
+            }
+        }
+    }
+
+    /**
+     * Calculates the union of a possibly absent box with another box.
+     * @param box Optional box
+     * @param other Other box
+     * @return The union box
+     */
+    private static Optional<Box> union(final Optional<Box> box,
+        final Box other) {
+        final Optional<Box> result;
+        if (box.isPresent()) {
+            result = Optional.of(box.get().union(other));
+        } else {
+            result = Optional.of(other);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+import com.aljebra.field.Field;
+import com.aljebra.vector.Vect;
+import java.util.List;
+
+/**
+ * Coordinates of a list of points, packed as interleaved (x, y) doubles.
+ * @since 0.4
+ */
+final class Packed {
+
+    /**
+     * Points.
+     */
+    private final List<? extends Vect<Double>> points;
+
+    /**
+     * Field for scalar operations.
+     */
+    private final Field<Double> field;
+
+    /**
+     * Constructor.
+     * @param points Points
+     * @param field Field for scalar operations
+     */
+    Packed(final List<? extends Vect<Double>> points, final Field<Double> field) {
+        this.points = points;
+        this.field = field;
+    }
+
+    /**
+     * Resolves the packed coordinates.
+     * @return Interleaved (x, y) coordinates
+     */
+    public double[] coords() {
+        final double[] result = new double[2 * this.points.size()];
+        for (int idx = 0; idx < this.points.size(); ++idx) {
+            final Vect<Double> point = this.points.get(idx);
+            result[2 * idx] = this.field.actual(point.coords()[0]);
+            result[2 * idx + 1] = this.field.actual(point.coords()[1]);
+        }
+        return result;
+    }
+
+}
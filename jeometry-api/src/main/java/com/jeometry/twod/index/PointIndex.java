@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+import com.jeometry.twod.bounds.Box;
+
+/**
+ * A spatial index over a set of 2D points. Points are identified by their
+ * index in the set the index was built from.
+ * @since 0.4
+ */
+public interface PointIndex {
+
+    /**
+     * Finds the nearest points to a location.
+     * @param xcoor Location X coordinate
+     * @param ycoor Location Y coordinate
+     * @param neighbours Maximum count of points to give
+     * @return Indexes of the nearest points, closest first
+     */
+    int[] nearest(double xcoor, double ycoor, int neighbours);
+
+    /**
+     * Finds the points within a distance of a location.
+     * @param xcoor Location X coordinate
+     * @param ycoor Location Y coordinate
+     * @param radius Maximum distance, inclusive
+     * @return Indexes of the points, in no particular order
+     */
+    int[] within(double xcoor, double ycoor, double radius);
+
+    /**
+     * Finds the points inside a rectangle.
+     * @param window Rectangle, with its boundary
+     * @return Indexes of the points, in no particular order
+     */
+    int[] range(Box window);
+
+    /**
+     * Counts the points inside a rectangle.
+     * @param window Rectangle, with its boundary
+     * @return Count of points
+     */
+    int count(Box window);
+
+    /**
+     * Gives the count of indexed points.
+     * @return Count of points
+     */
+    int size();
+
+}
@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+import com.jeometry.twod.bounds.Box;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A quadtree node. The points of a node occupy a contiguous range of the
+ * quadtree arrays, and its non empty quadrants are its children.
+ * @since 0.4
+ */
+final class Quad {
+
+    /**
+     * Node region.
+     */
+    private final Box region;
+
+    /**
+     * First point position (inclusive).
+     */
+    private final int first;
+
+    /**
+     * Last point position (exclusive).
+     */
+    private final int last;
+
+    /**
+     * Non empty quadrants.
+     */
+    private final List<Quad> quadrants;
+
+    /**
+     * Constructor. Builds a leaf.
+     * @param region Node region
+     * @param first First point position (inclusive)
+     * @param last Last point position (exclusive)
+     */
+    Quad(final Box region, final int first, final int last) {
+        this(region, first, last, Collections.emptyList());
+    }
+
+    /**
+     * Constructor.
+     * @param region Node region
+     * @param first First point position (inclusive)
+     * @param last Last point position (exclusive)
+     * @param quadrants Non empty quadrants
+     */
+    Quad(final Box region, final int first, final int last,
+        final List<Quad> quadrants) {
+        this.region = region;
+        this.first = first;
+        this.last = last;
+        this.quadrants = quadrants;
+    }
+
+    /**
+     * Gives the node region.
+     * @return Node region
+     */
+    public Box box() {
+        return this.region;
+    }
+
+    /**
+     * Gives the first point position.
+     * @return First point position (inclusive)
+     */
+    public int from() {
+        return this.first;
+    }
+
+    /**
+     * Gives the last point position.
+     * @return Last point position (exclusive)
+     */
+    public int until() {
+        return this.last;
+    }
+
+    /**
+     * Checks whether the node is a leaf.
+     * @return True if the node has no quadrant
+     */
+    public boolean leaf() {
+        return this.quadrants.isEmpty();
+    }
+
+    /**
+     * Gives the non empty quadrants.
+     * @return Quadrants
+     */
+    public List<Quad> children() {
+        return this.quadrants;
+    }
+
+}
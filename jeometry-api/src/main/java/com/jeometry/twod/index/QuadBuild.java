@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+import com.jeometry.twod.bounds.Box;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork-join task building a point region quadtree over a range of points.
+ * The points of the range are partitioned in place around the region
+ * center, so that each quadrant occupies a contiguous sub range. Ranges
+ * larger than the leaf size build their quadrants in parallel.
+ * @since 0.4
+ */
+final class QuadBuild extends RecursiveTask<Quad> {
+
+    /**
+     * Serial version ID.
+     */
+    private static final long serialVersionUID = -2164720478405939154L;
+
+    /**
+     * Maximum count of points in a leaf.
+     */
+    private static final int BUCKET = 8;
+
+    /**
+     * Maximum node depth, bounding the split of duplicate points.
+     */
+    private static final int DEPTH = 32;
+
+    /**
+     * Points arrays.
+     */
+    private final transient KdArrays points;
+
+    /**
+     * Node region.
+     */
+    private final Box region;
+
+    /**
+     * First position (inclusive).
+     */
+    private final int from;
+
+    /**
+     * Last position (exclusive).
+     */
+    private final int until;
+
+    /**
+     * Node depth.
+     */
+    private final int depth;
+
+    /**
+     * Range size under which quadrants are built sequentially.
+     */
+    private final int leaf;
+
+    /**
+     * Constructor.
+     * @param points Points arrays
+     * @param region Node region
+     * @param from First position (inclusive)
+     * @param until Last position (exclusive)
+     * @param depth Node depth
+     * @param leaf Range size under which quadrants are built sequentially
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    QuadBuild(final KdArrays points, final Box region, final int from,
+        final int until, final int depth, final int leaf) {
+        super();
+        this.points = points;
+        this.region = region;
+        this.from = from;
+        this.until = until;
+        this.depth = depth;
+        this.leaf = leaf;
+    }
+
+    @Override
+    protected Quad compute() {
+        final Quad result;
+        if (this.until - this.from <= QuadBuild.BUCKET
+            || this.depth >= QuadBuild.DEPTH) {
+            result = new Quad(this.region, this.from, this.until);
+        } else {
+            final double xcenter = this.region.xcenter();
+            final double ycenter = this.region.ycenter();
+            final int east = this.points.partition(
+                this.from, this.until, xcenter, true
+            );
+            final int west = this.points.partition(
+                this.from, east, ycenter, false
+            );
+            final int northeast = this.points.partition(
+                east, this.until, ycenter, false
+            );
+            final double xmin = this.region.xmin();
+            final double ymin = this.region.ymin();
+            final double xmax = this.region.xmax();
+            final double ymax = this.region.ymax();
+            final List<QuadBuild> tasks = new ArrayList<>(2 * 2);
+            this.quadrant(
+                tasks, new Box(xmin, ymin, xcenter, ycenter), this.from, west
+            );
+            this.quadrant(
+                tasks, new Box(xmin, ycenter, xcenter, ymax), west, east
+            );
+            this.quadrant(
+                tasks, new Box(xcenter, ymin, xmax, ycenter), east, northeast
+            );
+            this.quadrant(
+                tasks, new Box(xcenter, ycenter, xmax, ymax),
+                northeast, this.until
+            );
+            final List<Quad> children = new ArrayList<>(tasks.size());
+            if (this.until - this.from > this.leaf) {
+                ForkJoinTask.invokeAll(tasks);
+                for (final QuadBuild task : tasks) {
+                    children.add(task.join());
+                }
+            } else {
+                for (final QuadBuild task : tasks) {
+                    children.add(task.compute());
+                }
+            }
+            result = new Quad(this.region, this.from, this.until, children);
+        }
+        return result;
+    }
+
+    /**
+     * Adds the build task of a quadrant if it is not empty.
+     * @param tasks Build tasks
+     * @param quadrant Quadrant region
+     * @param first First position (inclusive)
+     * @param last Last position (exclusive)
+     */
+    private void quadrant(final List<QuadBuild> tasks, final Box quadrant,
+        final int first, final int last) {
+        if (last > first) {
+            tasks.add(
+                new QuadBuild(
+                    this.points, quadrant, first, last, this.depth + 1, this.leaf
+                )
+            );
+        }
+    }
+
+}
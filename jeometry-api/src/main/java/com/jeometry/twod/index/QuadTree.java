@@ -0,0 +1,298 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.field.impl.doubles.Parallelism;
+import com.aljebra.vector.Vect;
+import com.google.common.base.Preconditions;
+import com.jeometry.twod.bounds.Box;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A point region quadtree over a static set of 2D points. Nodes split their
+ * region in four quadrants around its center until they hold a few points,
+ * and points are reordered in primitive arrays so that each node covers a
+ * contiguous range. Unlike {@link KdTree}, node regions do not depend on the
+ * points distribution, which suits evenly spread points and dense clusters
+ * of duplicates. When built with {@link Parallelism} settings, large trees
+ * are built on the fork-join pool.
+ * @since 0.4
+ */
+public final class QuadTree implements PointIndex {
+
+    /**
+     * Points arrays.
+     */
+    private final KdArrays points;
+
+    /**
+     * Root node.
+     */
+    private final Quad root;
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) points coordinates
+     */
+    public QuadTree(final double[] coords) {
+        this(coords, Optional.empty());
+    }
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) points coordinates
+     * @param parallel Parallelism settings
+     */
+    public QuadTree(final double[] coords, final Parallelism parallel) {
+        this(coords, Optional.of(parallel));
+    }
+
+    /**
+     * Constructor.
+     * @param points Points
+     */
+    public QuadTree(final List<? extends Vect<Double>> points) {
+        this(new Packed(points, new Decimal()).coords());
+    }
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) points coordinates
+     * @param parallel Parallelism settings, if parallel build is enabled
+     */
+    private QuadTree(final double[] coords,
+        final Optional<Parallelism> parallel) {
+        Preconditions.checkArgument(
+            coords.length % 2 == 0,
+            "Expected interleaved coordinates, got %s values", coords.length
+        );
+        this.points = new KdArrays(coords);
+        final int size = this.points.size();
+        final Box region = QuadTree.region(coords);
+        if (parallel.isPresent() && parallel.get().enabled(size)) {
+            this.root = parallel.get().invoke(
+                new QuadBuild(
+                    this.points, region, 0, size, 0, parallel.get().leaf()
+                )
+            );
+        } else {
+            this.root = new QuadBuild(
+                this.points, region, 0, size, 0, Integer.MAX_VALUE
+            ).invoke();
+        }
+    }
+
+    @Override
+    public int[] nearest(final double xcoor, final double ycoor,
+        final int neighbours) {
+        final int capacity = Math.max(
+            0, Math.min(neighbours, this.points.size())
+        );
+        final Neighbours found = new Neighbours(capacity);
+        if (capacity > 0) {
+            this.nearest(this.root, xcoor, ycoor, found);
+        }
+        return found.sorted();
+    }
+
+    @Override
+    public int[] within(final double xcoor, final double ycoor,
+        final double radius) {
+        final Hits hits = new Hits();
+        this.within(this.root, xcoor, ycoor, radius, hits);
+        return hits.ids();
+    }
+
+    @Override
+    public int[] range(final Box window) {
+        final Hits hits = new Hits();
+        this.range(this.root, window, hits);
+        return hits.ids();
+    }
+
+    @Override
+    public int count(final Box window) {
+        return this.count(this.root, window);
+    }
+
+    @Override
+    public int size() {
+        return this.points.size();
+    }
+
+    /**
+     * Searches the nearest points in a node, visiting its closest quadrants
+     * first.
+     * @param node Node
+     * @param xcoor Location X coordinate
+     * @param ycoor Location Y coordinate
+     * @param found Nearest points found so far
+     */
+    private void nearest(final Quad node, final double xcoor,
+        final double ycoor, final Neighbours found) {
+        final double dist = node.box().distance(xcoor, ycoor);
+        if (dist * dist <= found.bound()) {
+            if (node.leaf()) {
+                for (int pos = node.from(); pos < node.until(); ++pos) {
+                    final double xdiff = this.points.xcoor(pos) - xcoor;
+                    final double ydiff = this.points.ycoor(pos) - ycoor;
+                    found.offer(
+                        xdiff * xdiff + ydiff * ydiff, this.points.id(pos)
+                    );
+                }
+            } else {
+                final List<Quad> children = new ArrayList<>(node.children());
+                children.sort(
+                    new Comparator<Quad>() {
+                        @Override
+                        public int compare(final Quad first, final Quad second) {
+                            return Double.compare(
+                                first.box().distance(xcoor, ycoor),
+                                second.box().distance(xcoor, ycoor)
+                            );
+                        }
+                    }
+                );
+                for (final Quad child : children) {
+                    this.nearest(child, xcoor, ycoor, found);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the points of a node within a distance.
+     * @param node Node
+     * @param xcoor Location X coordinate
+     * @param ycoor Location Y coordinate
+     * @param radius Maximum distance
+     * @param hits Collected points
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void within(final Quad node, final double xcoor,
+        final double ycoor, final double radius, final Hits hits) {
+        if (node.box().distance(xcoor, ycoor) <= radius) {
+            if (node.leaf()) {
+                final double sqrad = radius * radius;
+                for (int pos = node.from(); pos < node.until(); ++pos) {
+                    final double xdiff = this.points.xcoor(pos) - xcoor;
+                    final double ydiff = this.points.ycoor(pos) - ycoor;
+                    if (xdiff * xdiff + ydiff * ydiff <= sqrad) {
+                        hits.add(this.points.id(pos));
+                    }
+                }
+            } else {
+                for (final Quad child : node.children()) {
+                    this.within(child, xcoor, ycoor, radius, hits);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the points of a node inside a window.
+     * @param node Node
+     * @param window Query window
+     * @param hits Collected points
+     */
+    private void range(final Quad node, final Box window, final Hits hits) {
+        if (window.contains(node.box())) {
+            for (int pos = node.from(); pos < node.until(); ++pos) {
+                hits.add(this.points.id(pos));
+            }
+        } else if (window.intersects(node.box())) {
+            if (node.leaf()) {
+                for (int pos = node.from(); pos < node.until(); ++pos) {
+                    if (window.contains(
+                        this.points.xcoor(pos), this.points.ycoor(pos)
+                    )) {
+                        hits.add(this.points.id(pos));
+                    }
+                }
+            } else {
+                for (final Quad child : node.children()) {
+                    this.range(child, window, hits);
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts the points of a node inside a window.
+     * @param node Node
+     * @param window Query window
+     * @return Count of points
+     */
+    private int count(final Quad node, final Box window) {
+        int result = 0;
+        if (window.contains(node.box())) {
+            result = node.until() - node.from();
+        } else if (window.intersects(node.box())) {
+            if (node.leaf()) {
+                for (int pos = node.from(); pos < node.until(); ++pos) {
+                    if (window.contains(
+                        this.points.xcoor(pos), this.points.ycoor(pos)
+                    )) {
+                        result += 1;
+                    }
+                }
+            } else {
+                for (final Quad child : node.children()) {
+                    result += this.count(child, window);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the bounding box of points.
+     * @param coords Interleaved (x, y) points coordinates
+     * @return Bounding box, or the origin box if there are no points
+     */
+    private static Box region(final double[] coords) {
+        double xmin = Double.POSITIVE_INFINITY;
+        double ymin = Double.POSITIVE_INFINITY;
+        double xmax = Double.NEGATIVE_INFINITY;
+        double ymax = Double.NEGATIVE_INFINITY;
+        for (int idx = 0; idx < coords.length; idx += 2) {
+            xmin = Math.min(xmin, coords[idx]);
+            xmax = Math.max(xmax, coords[idx]);
+            ymin = Math.min(ymin, coords[idx + 1]);
+            ymax = Math.max(ymax, coords[idx + 1]);
+        }
+        final Box result;
+        if (coords.length == 0) {
+            result = new Box(0., 0.);
+        } else {
+            result = new Box(xmin, ymin, xmax, ymax);
+        }
+        return result;
+    }
+
+}
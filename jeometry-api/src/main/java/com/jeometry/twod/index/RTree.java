@@ -0,0 +1,681 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+import com.google.common.base.Preconditions;
+import com.jeometry.twod.bounds.Box;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * An R-tree indexing items by their bounding boxes. The tree can be bulk
+ * loaded with the Sort-Tile-Recursive algorithm, then updated by insertions
+ * (quadratic split) and removals (condensing underfull nodes). It answers
+ * window queries, nearest neighbours queries on boxes distance, and
+ * gives the pairs of items whose boxes intersect, as candidates
+ * for exact intersection tests. This class is not thread safe.
+ * @param <T> item types
+ * @since 0.4
+ */
+public final class RTree<T> {
+
+    /**
+     * Default maximum node size.
+     */
+    private static final int CAPACITY = 16;
+
+    /**
+     * Minimum allowed maximum node size.
+     */
+    private static final int SMALLEST = 4;
+
+    /**
+     * Minimum fill ratio of nodes, except for the root.
+     */
+    private static final double FILL = 0.4;
+
+    /**
+     * Maximum node size.
+     */
+    private final int capacity;
+
+    /**
+     * Minimum node size, except for the root.
+     */
+    private final int minimum;
+
+    /**
+     * Root node.
+     */
+    private Node<T> root;
+
+    /**
+     * Indexed entries count.
+     */
+    private int count;
+
+    /**
+     * Constructor. Builds an empty tree.
+     */
+    public RTree() {
+        this(RTree.CAPACITY);
+    }
+
+    /**
+     * Constructor. Builds an empty tree.
+     * @param capacity Maximum node size
+     */
+    public RTree(final int capacity) {
+        this(Collections.<Boxed<T>>emptyList(), capacity);
+    }
+
+    /**
+     * Constructor. Bulk loads the tree.
+     * @param entries Entries to index
+     */
+    public RTree(final Collection<Boxed<T>> entries) {
+        this(entries, RTree.CAPACITY);
+    }
+
+    /**
+     * Constructor. Bulk loads the tree.
+     * @param entries Entries to index
+     * @param capacity Maximum node size
+     */
+    public RTree(final Collection<Boxed<T>> entries, final int capacity) {
+        Preconditions.checkArgument(
+            capacity >= RTree.SMALLEST,
+            "R-tree node capacity should be at least %s, got %s",
+            RTree.SMALLEST, capacity
+        );
+        this.capacity = capacity;
+        this.minimum = Math.max(2, (int) (capacity * RTree.FILL));
+        this.root = this.pack(new ArrayList<>(entries));
+        this.count = entries.size();
+    }
+
+    /**
+     * Gives the count of indexed entries.
+     * @return Entries count
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Indexes an item.
+     * @param box Item bounding box
+     * @param item Item
+     */
+    public void insert(final Box box, final T item) {
+        this.insert(new Boxed<>(box, item));
+    }
+
+    /**
+     * Indexes an entry.
+     * @param entry Entry to index
+     */
+    public void insert(final Boxed<T> entry) {
+        this.place(entry);
+        this.count += 1;
+    }
+
+    /**
+     * Removes an entry from the index. The entry must have been indexed
+     * with an equal box.
+     * @param entry Entry to remove
+     * @return True if the entry was found and removed
+     */
+    public boolean remove(final Boxed<T> entry) {
+        final List<Boxed<T>> orphans = new ArrayList<>(0);
+        final boolean result = this.count > 0
+            && this.root.box().contains(entry.box())
+            && this.remove(this.root, entry, orphans);
+        if (result) {
+            this.count -= 1;
+            while (!this.root.leaf() && this.root.size() <= 1) {
+                if (this.root.size() == 0) {
+                    this.root = new Node<>(true);
+                } else {
+                    this.root = this.root.children().get(0);
+                }
+            }
+            for (final Boxed<T> orphan : orphans) {
+                this.place(orphan);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes an item from the index.
+     * @param box Box the item was indexed with
+     * @param item Item
+     * @return True if the item was found and removed
+     */
+    public boolean remove(final Box box, final T item) {
+        return this.remove(new Boxed<>(box, item));
+    }
+
+    /**
+     * Finds the items whose boxes intersect a window.
+     * @param window Query window
+     * @return Items intersecting the window
+     */
+    public List<T> window(final Box window) {
+        final List<T> result = new ArrayList<>(0);
+        if (this.count > 0) {
+            this.window(this.root, window, result);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the nearest items to a point, ordered by the distance from the
+     * point to their boxes. For point items, this is the exact distance.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @param neighbours Maximum count of items to give
+     * @return Nearest items, closest first
+     */
+    public List<T> nearest(final double xcoor, final double ycoor,
+        final int neighbours) {
+        final Comparator<Boxed<T>> closest = new Comparator<Boxed<T>>() {
+            @Override
+            public int compare(final Boxed<T> first, final Boxed<T> second) {
+                return Double.compare(
+                    first.box().distance(xcoor, ycoor),
+                    second.box().distance(xcoor, ycoor)
+                );
+            }
+        };
+        final PriorityQueue<Boxed<T>> best = new PriorityQueue<>(
+            Math.max(1, neighbours), Collections.reverseOrder(closest)
+        );
+        if (this.count > 0 && neighbours > 0) {
+            final PriorityQueue<Node<T>> queue = new PriorityQueue<>(
+                RTree.CAPACITY,
+                new Comparator<Node<T>>() {
+                    @Override
+                    public int compare(final Node<T> first, final Node<T> second) {
+                        return Double.compare(
+                            first.box().distance(xcoor, ycoor),
+                            second.box().distance(xcoor, ycoor)
+                        );
+                    }
+                }
+            );
+            queue.add(this.root);
+            while (!queue.isEmpty() && !(best.size() == neighbours
+                && queue.peek().box().distance(xcoor, ycoor)
+                > best.peek().box().distance(xcoor, ycoor))) {
+                final Node<T> node = queue.poll();
+                if (node.leaf()) {
+                    for (final Boxed<T> entry : node.entries()) {
+                        best.add(entry);
+                        if (best.size() > neighbours) {
+                            best.poll();
+                        }
+                    }
+                } else {
+                    queue.addAll(node.children());
+                }
+            }
+        }
+        final List<Boxed<T>> sorted = new ArrayList<>(best);
+        sorted.sort(closest);
+        final List<T> result = new ArrayList<>(sorted.size());
+        for (final Boxed<T> entry : sorted) {
+            result.add(entry.item());
+        }
+        return result;
+    }
+
+    /**
+     * Finds the pairs of distinct entries whose boxes intersect. Each pair
+     * is given once, in no particular order.
+     * @return Pairs of items whose boxes intersect
+     */
+    public List<Map.Entry<T, T>> candidates() {
+        final List<Map.Entry<T, T>> result = new ArrayList<>(0);
+        if (this.count > 0) {
+            this.join(this.root, result);
+        }
+        return result;
+    }
+
+    /**
+     * Inserts an entry without counting it.
+     * @param entry Entry to insert
+     */
+    private void place(final Boxed<T> entry) {
+        final Optional<Node<T>> split = this.insert(this.root, entry);
+        if (split.isPresent()) {
+            final Node<T> top = new Node<>(false);
+            top.children().add(this.root);
+            top.children().add(split.get());
+            top.refresh();
+            this.root = top;
+        }
+    }
+
+    /**
+     * Inserts an entry under a node.
+     * @param node Node
+     * @param entry Entry to insert
+     * @return The new sibling node, if the node was split
+     */
+    private Optional<Node<T>> insert(final Node<T> node, final Boxed<T> entry) {
+        if (node.leaf()) {
+            node.entries().add(entry);
+        } else {
+            final Node<T> child = RTree.choose(node, entry.box());
+            final Optional<Node<T>> split = this.insert(child, entry);
+            if (split.isPresent()) {
+                node.children().add(split.get());
+            }
+        }
+        final Optional<Node<T>> result;
+        if (node.size() > this.capacity) {
+            result = Optional.of(this.split(node));
+        } else {
+            node.extend(entry.box());
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    /**
+     * Removes an entry under a node, collecting the entries of nodes
+     * becoming underfull.
+     * @param node Node
+     * @param entry Entry to remove
+     * @param orphans List receiving entries to insert back
+     * @return True if the entry was found and removed
+     */
+    private boolean remove(final Node<T> node, final Boxed<T> entry,
+        final List<Boxed<T>> orphans) {
+        boolean result = false;
+        if (node.leaf()) {
+            result = node.entries().remove(entry);
+        } else {
+            final Iterator<Node<T>> iter = node.children().iterator();
+            while (!result && iter.hasNext()) {
+                final Node<T> child = iter.next();
+                if (child.box().contains(entry.box())
+                    && this.remove(child, entry, orphans)) {
+                    result = true;
+                    if (child.size() < this.minimum) {
+                        iter.remove();
+                        child.collect(orphans);
+                    }
+                }
+            }
+        }
+        if (result) {
+            node.refresh();
+        }
+        return result;
+    }
+
+    /**
+     * Splits an overflowing node with the quadratic algorithm.
+     * @param node Overflowing node, keeping one group
+     * @return New node holding the other group
+     */
+    private Node<T> split(final Node<T> node) {
+        final Node<T> result = new Node<>(node.leaf());
+        if (node.leaf()) {
+            result.entries().addAll(
+                this.quadratic(node.entries(), RTree.<T>entryBox())
+            );
+        } else {
+            result.children().addAll(
+                this.quadratic(node.children(), RTree.<T>nodeBox())
+            );
+        }
+        node.refresh();
+        result.refresh();
+        return result;
+    }
+
+    /**
+     * Partitions elements in two groups with the quadratic split algorithm.
+     * @param elements Elements, keeping the first group after the call
+     * @param boxes Gives the box of an element
+     * @param <X> element types
+     * @return The second group
+     * @checkstyle ExecutableStatementCountCheck (100 lines)
+     */
+    private <X> List<X> quadratic(final List<X> elements,
+        final Function<X, Box> boxes) {
+        int fst = 0;
+        int snd = 1;
+        double worst = Double.NEGATIVE_INFINITY;
+        for (int idx = 0; idx < elements.size(); ++idx) {
+            for (int jdx = idx + 1; jdx < elements.size(); ++jdx) {
+                final Box ibox = boxes.apply(elements.get(idx));
+                final Box jbox = boxes.apply(elements.get(jdx));
+                final double waste = ibox.union(jbox).area() - ibox.area()
+                    - jbox.area();
+                if (waste > worst) {
+                    worst = waste;
+                    fst = idx;
+                    snd = jdx;
+                }
+            }
+        }
+        final List<X> remaining = new ArrayList<>(elements);
+        final List<X> first = new ArrayList<>(elements.size());
+        final List<X> second = new ArrayList<>(elements.size());
+        first.add(remaining.get(fst));
+        second.add(remaining.get(snd));
+        remaining.remove(snd);
+        remaining.remove(fst);
+        Box fbox = boxes.apply(first.get(0));
+        Box sbox = boxes.apply(second.get(0));
+        while (!remaining.isEmpty()) {
+            if (first.size() + remaining.size() <= this.minimum) {
+                first.addAll(remaining);
+                remaining.clear();
+            } else if (second.size() + remaining.size() <= this.minimum) {
+                second.addAll(remaining);
+                remaining.clear();
+            } else {
+                int next = 0;
+                double pref = Double.NEGATIVE_INFINITY;
+                for (int idx = 0; idx < remaining.size(); ++idx) {
+                    final Box box = boxes.apply(remaining.get(idx));
+                    final double diff = Math.abs(
+                        fbox.enlargement(box) - sbox.enlargement(box)
+                    );
+                    if (diff > pref) {
+                        pref = diff;
+                        next = idx;
+                    }
+                }
+                final X element = remaining.remove(next);
+                final Box box = boxes.apply(element);
+                final double fenl = fbox.enlargement(box);
+                final double senl = sbox.enlargement(box);
+                if (fenl < senl || fenl == senl
+                    && (fbox.area() < sbox.area() || fbox.area() == sbox.area()
+                    && first.size() <= second.size())) {
+                    first.add(element);
+                    fbox = fbox.union(box);
+                } else {
+                    second.add(element);
+                    sbox = sbox.union(box);
+                }
+            }
+        }
+        elements.clear();
+        elements.addAll(first);
+        return second;
+    }
+
+    /**
+     * Builds a tree with the Sort-Tile-Recursive algorithm.
+     * @param entries Entries to index
+     * @return Root node
+     */
+    private Node<T> pack(final List<Boxed<T>> entries) {
+        List<Node<T>> level = new ArrayList<>(0);
+        for (final List<Boxed<T>> tile : this.tiles(entries, RTree.<T>entryBox())) {
+            final Node<T> leaf = new Node<>(true);
+            leaf.entries().addAll(tile);
+            leaf.refresh();
+            level.add(leaf);
+        }
+        while (level.size() > 1) {
+            final List<Node<T>> upper = new ArrayList<>(0);
+            for (final List<Node<T>> tile : this.tiles(level, RTree.<T>nodeBox())) {
+                final Node<T> node = new Node<>(false);
+                node.children().addAll(tile);
+                node.refresh();
+                upper.add(node);
+            }
+            level = upper;
+        }
+        final Node<T> result;
+        if (level.isEmpty()) {
+            result = new Node<>(true);
+        } else {
+            result = level.get(0);
+        }
+        return result;
+    }
+
+    /**
+     * Groups elements in tiles of at most the node capacity: elements are
+     * sorted by X center in vertical slices, then each slice by Y center.
+     * @param elements Elements to group
+     * @param boxes Gives the box of an element
+     * @param <X> element types
+     * @return Tiles
+     */
+    private <X> List<List<X>> tiles(final List<X> elements,
+        final Function<X, Box> boxes) {
+        final int size = elements.size();
+        final int nodes = (size + this.capacity - 1) / this.capacity;
+        final int slice = this.capacity
+            * Math.max(1, (int) Math.ceil(Math.sqrt(nodes)));
+        final List<X> sorted = new ArrayList<>(elements);
+        sorted.sort(
+            new Comparator<X>() {
+                @Override
+                public int compare(final X first, final X second) {
+                    return Double.compare(
+                        boxes.apply(first).xcenter(), boxes.apply(second).xcenter()
+                    );
+                }
+            }
+        );
+        final List<List<X>> result = new ArrayList<>(nodes);
+        for (int start = 0; start < size; start += slice) {
+            final List<X> vertical = new ArrayList<>(
+                sorted.subList(start, Math.min(size, start + slice))
+            );
+            vertical.sort(
+                new Comparator<X>() {
+                    @Override
+                    public int compare(final X first, final X second) {
+                        return Double.compare(
+                            boxes.apply(first).ycenter(),
+                            boxes.apply(second).ycenter()
+                        );
+                    }
+                }
+            );
+            for (int idx = 0; idx < vertical.size(); idx += this.capacity) {
+                result.add(
+                    new ArrayList<>(
+                        vertical.subList(
+                            idx, Math.min(vertical.size(), idx + this.capacity)
+                        )
+                    )
+                );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Chooses the child needing the least enlargement to contain a box.
+     * @param node Inner node
+     * @param box Box to insert
+     * @param <T> item types
+     * @return Chosen child
+     */
+    private static <T> Node<T> choose(final Node<T> node, final Box box) {
+        Node<T> result = node.children().get(0);
+        double enl = Double.POSITIVE_INFINITY;
+        double area = Double.POSITIVE_INFINITY;
+        for (final Node<T> child : node.children()) {
+            final double cenl = child.box().enlargement(box);
+            final double carea = child.box().area();
+            if (cenl < enl || cenl == enl && carea < area) {
+                result = child;
+                enl = cenl;
+                area = carea;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Collects the items under a node whose boxes intersect a window.
+     * @param node Node
+     * @param window Query window
+     * @param output List receiving the items
+     */
+    private void window(final Node<T> node, final Box window,
+        final List<T> output) {
+        if (node.leaf()) {
+            for (final Boxed<T> entry : node.entries()) {
+                if (window.intersects(entry.box())) {
+                    output.add(entry.item());
+                }
+            }
+        } else {
+            for (final Node<T> child : node.children()) {
+                if (window.intersects(child.box())) {
+                    this.window(child, window, output);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the pairs of intersecting entries under a node.
+     * @param node Node
+     * @param output List receiving the pairs
+     */
+    private void join(final Node<T> node, final List<Map.Entry<T, T>> output) {
+        if (node.leaf()) {
+            final List<Boxed<T>> entries = node.entries();
+            for (int idx = 0; idx < entries.size(); ++idx) {
+                for (int jdx = idx + 1; jdx < entries.size(); ++jdx) {
+                    RTree.pair(entries.get(idx), entries.get(jdx), output);
+                }
+            }
+        } else {
+            final List<Node<T>> children = node.children();
+            for (int idx = 0; idx < children.size(); ++idx) {
+                this.join(children.get(idx), output);
+                for (int jdx = idx + 1; jdx < children.size(); ++jdx) {
+                    if (children.get(idx).box().intersects(children.get(jdx).box())) {
+                        this.join(children.get(idx), children.get(jdx), output);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the pairs of intersecting entries between two distinct nodes
+     * whose boxes intersect.
+     * @param first First node
+     * @param second Second node
+     * @param output List receiving the pairs
+     */
+    private void join(final Node<T> first, final Node<T> second,
+        final List<Map.Entry<T, T>> output) {
+        if (first.leaf() && second.leaf()) {
+            for (final Boxed<T> fentry : first.entries()) {
+                if (second.box().intersects(fentry.box())) {
+                    for (final Boxed<T> sentry : second.entries()) {
+                        RTree.pair(fentry, sentry, output);
+                    }
+                }
+            }
+        } else if (first.leaf()) {
+            for (final Node<T> child : second.children()) {
+                if (first.box().intersects(child.box())) {
+                    this.join(first, child, output);
+                }
+            }
+        } else {
+            for (final Node<T> child : first.children()) {
+                if (second.box().intersects(child.box())) {
+                    this.join(child, second, output);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a pair of entries to the output if their boxes intersect.
+     * @param first First entry
+     * @param second Second entry
+     * @param output List receiving the pairs
+     * @param <T> item types
+     */
+    private static <T> void pair(final Boxed<T> first, final Boxed<T> second,
+        final List<Map.Entry<T, T>> output) {
+        if (first.box().intersects(second.box())) {
+            output.add(
+                new AbstractMap.SimpleImmutableEntry<>(first.item(), second.item())
+            );
+        }
+    }
+
+    /**
+     * Gives the function giving the box of an entry.
+     * @param <T> item types
+     * @return Box function
+     */
+    private static <T> Function<Boxed<T>, Box> entryBox() {
+        return new Function<Boxed<T>, Box>() {
+            @Override
+            public Box apply(final Boxed<T> entry) {
+                return entry.box();
+            }
+        };
+    }
+
+    /**
+     * Gives the function giving the box of a node.
+     * @param <T> item types
+     * @return Box function
+     */
+    private static <T> Function<Node<T>, Box> nodeBox() {
+        return new Function<Node<T>, Box>() {
+            @Override
+            public Box apply(final Node<T> node) {
+                return node.box();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.line.analytics;
+
+import com.aljebra.field.Field;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.jeometry.twod.line.Line;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * A line over doubles in its implicit form a.x + b.y = c, where (a, b) is
+ * normal to the line direction. Operations take a constant number of
+ * floating point operations on primitives, and vertical lines are no
+ * special case. Points are given and returned as (x, y) coordinates.
+ * Incidence and parallelism are checked within the tolerance of
+ * {@link Decimal}, as a distance and as a sine.
+ * @since 0.4
+ */
+@EqualsAndHashCode
+@ToString(includeFieldNames = false)
+public final class DblImplicit {
+
+    /**
+     * Tolerance.
+     */
+    private static final double TOLERANCE = 1.E-6;
+
+    /**
+     * X coefficient.
+     */
+    private final double xcoef;
+
+    /**
+     * Y coefficient.
+     */
+    private final double ycoef;
+
+    /**
+     * Constant term.
+     */
+    private final double constant;
+
+    /**
+     * Constructor.
+     * @param line Line
+     */
+    public DblImplicit(final Line<Double> line) {
+        this(line, new Decimal());
+    }
+
+    /**
+     * Constructor.
+     * @param line Line
+     * @param field Field for scalar operations
+     */
+    public DblImplicit(final Line<Double> line, final Field<Double> field) {
+        this(
+            field.actual(line.direction().coords()[1]),
+            -field.actual(line.direction().coords()[0]),
+            field.actual(line.direction().coords()[1])
+                * field.actual(line.point().coords()[0])
+                - field.actual(line.direction().coords()[0])
+                * field.actual(line.point().coords()[1])
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param xcoef X coefficient
+     * @param ycoef Y coefficient
+     * @param constant Constant term
+     */
+    public DblImplicit(final double xcoef, final double ycoef,
+        final double constant) {
+        this.xcoef = xcoef;
+        this.ycoef = ycoef;
+        this.constant = constant;
+    }
+
+    /**
+     * Gives the X coefficient a.
+     * @return X coefficient
+     */
+    public double xcoef() {
+        return this.xcoef;
+    }
+
+    /**
+     * Gives the Y coefficient b.
+     * @return Y coefficient
+     */
+    public double ycoef() {
+        return this.ycoef;
+    }
+
+    /**
+     * Gives the constant term c.
+     * @return Constant term
+     */
+    public double constant() {
+        return this.constant;
+    }
+
+    /**
+     * Calculates the signed distance of a point to the line, positive on
+     * the side the normal points to.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return Signed distance
+     */
+    public double distance(final double xcoor, final double ycoor) {
+        return (this.xcoef * xcoor + this.ycoef * ycoor - this.constant)
+            / Math.hypot(this.xcoef, this.ycoef);
+    }
+
+    /**
+     * Checks whether a point lies on the line.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return True if the point is within tolerance of the line
+     */
+    public boolean contains(final double xcoor, final double ycoor) {
+        return Math.abs(this.distance(xcoor, ycoor)) < DblImplicit.TOLERANCE;
+    }
+
+    /**
+     * Checks whether the line is parallel to another one.
+     * @param other Other line
+     * @return True if the sine of the lines angle is within tolerance
+     */
+    public boolean parallel(final DblImplicit other) {
+        return Math.abs(this.determinant(other))
+            < DblImplicit.TOLERANCE * Math.hypot(this.xcoef, this.ycoef)
+            * Math.hypot(other.xcoef, other.ycoef);
+    }
+
+    /**
+     * Calculates the intersection point with another line.
+     * @param other Other line
+     * @return Intersection point (x, y) coordinates
+     */
+    public double[] intersection(final DblImplicit other) {
+        if (this.parallel(other)) {
+            throw new IllegalStateException(
+                "Undefined intersecting point for two parallel lines."
+            );
+        }
+        final double det = this.determinant(other);
+        return new double[] {
+            (this.constant * other.ycoef - this.ycoef * other.constant) / det,
+            (this.xcoef * other.constant - this.constant * other.xcoef) / det,
+        };
+    }
+
+    /**
+     * Calculates the orthogonal projection of a point on the line.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return Projected point (x, y) coordinates
+     */
+    public double[] projection(final double xcoor, final double ycoor) {
+        return this.moved(xcoor, ycoor, 1.);
+    }
+
+    /**
+     * Calculates the reflection of a point by the line.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return Reflected point (x, y) coordinates
+     */
+    public double[] reflection(final double xcoor, final double ycoor) {
+        return this.moved(xcoor, ycoor, 2.);
+    }
+
+    /**
+     * Moves a point along the line normal, by a multiple of its signed
+     * distance to the line.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @param times Multiple of the distance to move the point by
+     * @return Moved point (x, y) coordinates
+     */
+    private double[] moved(final double xcoor, final double ycoor,
+        final double times) {
+        final double factor = times
+            * (this.xcoef * xcoor + this.ycoef * ycoor - this.constant)
+            / (this.xcoef * this.xcoef + this.ycoef * this.ycoef);
+        return new double[] {
+            xcoor - factor * this.xcoef,
+            ycoor - factor * this.ycoef,
+        };
+    }
+
+    /**
+     * Calculates the determinant of the lines normals.
+     * @param other Other line
+     * @return Determinant
+     */
+    private double determinant(final DblImplicit other) {
+        return this.xcoef * other.ycoef - this.ycoef * other.xcoef;
+    }
+
+}
@@ -0,0 +1,342 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.line.analytics;
+
+import com.aljebra.field.Field;
+import com.aljebra.field.FieldAddition;
+import com.aljebra.field.FieldMultiplication;
+import com.aljebra.scalar.Random;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.FixedVector;
+import com.aljebra.vector.Vect;
+import com.jeometry.twod.line.Line;
+import lombok.ToString;
+
+/**
+ * A line resolved in a field into its implicit form a.x + b.y = c, where
+ * (a, b) is normal to the line direction. Once resolved, incidence,
+ * intersection, projection and reflection take a constant number of field
+ * operations, and vertical lines are no special case.
+ * @param <T> scalar types
+ * @since 0.4
+ */
+@ToString(includeFieldNames = false)
+public final class Implicit<T> {
+
+    /**
+     * Field for scalar operations.
+     */
+    private final Field<T> field;
+
+    /**
+     * X coefficient.
+     */
+    private final T xcoef;
+
+    /**
+     * Y coefficient.
+     */
+    private final T ycoef;
+
+    /**
+     * Constant term.
+     */
+    private final T constant;
+
+    /**
+     * Constructor.
+     * @param line Line
+     * @param field Field for scalar operations
+     */
+    public Implicit(final Line<T> line, final Field<T> field) {
+        this(
+            field,
+            field.actual(line.direction().coords()[1]),
+            field.addition().inverse(field.actual(line.direction().coords()[0])),
+            line.point()
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param field Field for scalar operations
+     * @param xcoef X coefficient
+     * @param ycoef Y coefficient
+     * @param constant Constant term
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Implicit(final Field<T> field, final T xcoef, final T ycoef,
+        final T constant) {
+        this.field = field;
+        this.xcoef = xcoef;
+        this.ycoef = ycoef;
+        this.constant = constant;
+    }
+
+    /**
+     * Constructor.
+     * @param field Field for scalar operations
+     * @param xcoef X coefficient
+     * @param ycoef Y coefficient
+     * @param point A point of the line
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Implicit(final Field<T> field, final T xcoef, final T ycoef,
+        final Vect<T> point) {
+        this(
+            field, xcoef, ycoef,
+            field.addition().add(
+                field.multiplication().multiply(
+                    xcoef, field.actual(point.coords()[0])
+                ),
+                field.multiplication().multiply(
+                    ycoef, field.actual(point.coords()[1])
+                )
+            )
+        );
+    }
+
+    /**
+     * Gives the X coefficient a.
+     * @return X coefficient
+     */
+    public T xcoef() {
+        return this.xcoef;
+    }
+
+    /**
+     * Gives the Y coefficient b.
+     * @return Y coefficient
+     */
+    public T ycoef() {
+        return this.ycoef;
+    }
+
+    /**
+     * Gives the constant term c.
+     * @return Constant term
+     */
+    public T constant() {
+        return this.constant;
+    }
+
+    /**
+     * Checks whether the line is vertical.
+     * @return True if the Y coefficient is zero
+     */
+    public boolean vertical() {
+        return this.zero(this.ycoef);
+    }
+
+    /**
+     * Checks whether a point lies on the line.
+     * @param point Point
+     * @return True if the point coordinates satisfy the line equation
+     */
+    public boolean contains(final Vect<T> point) {
+        return this.zero(
+            this.residual(
+                this.field.actual(point.coords()[0]),
+                this.field.actual(point.coords()[1])
+            )
+        );
+    }
+
+    /**
+     * Checks whether the line is parallel to another one.
+     * @param other Other line
+     * @return True if the lines normals are collinear
+     */
+    public boolean parallel(final Implicit<T> other) {
+        return this.zero(this.determinant(other));
+    }
+
+    /**
+     * Calculates the intersection point with another line.
+     * @param other Other line
+     * @return Intersection point
+     */
+    public Vect<T> intersection(final Implicit<T> other) {
+        final T det = this.determinant(other);
+        if (this.zero(det)) {
+            throw new IllegalStateException(
+                "Undefined intersecting point for two parallel lines."
+            );
+        }
+        final FieldMultiplication<T> mult = this.field.multiplication();
+        final T inverse = mult.inverse(det);
+        return this.vector(
+            mult.multiply(
+                this.cross(this.constant, this.ycoef, other.constant, other.ycoef),
+                inverse
+            ),
+            mult.multiply(
+                this.cross(this.xcoef, this.constant, other.xcoef, other.constant),
+                inverse
+            )
+        );
+    }
+
+    /**
+     * Calculates the ordinate of the line point at an abscissa. The
+     * ordinate is random if the line is vertical at that abscissa.
+     * @param abscissa Abscissa
+     * @return Ordinate
+     */
+    public T ordinate(final T abscissa) {
+        final FieldAddition<T> add = this.field.addition();
+        final FieldMultiplication<T> mult = this.field.multiplication();
+        final T rest = add.add(
+            this.constant, add.inverse(mult.multiply(this.xcoef, abscissa))
+        );
+        final T result;
+        if (!this.vertical()) {
+            result = mult.multiply(rest, mult.inverse(this.ycoef));
+        } else if (this.zero(rest)) {
+            result = this.field.actual(new Random<T>());
+        } else {
+            throw new IllegalStateException(
+                "Vertical line could not pass by a point with this abscissa"
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the orthogonal projection of a point on the line.
+     * @param point Point
+     * @return Projected point
+     */
+    public Vect<T> projection(final Vect<T> point) {
+        return this.moved(point, this.field.multiplication().neutral());
+    }
+
+    /**
+     * Calculates the reflection of a point by the line.
+     * @param point Point
+     * @return Reflected point
+     */
+    public Vect<T> reflection(final Vect<T> point) {
+        final T one = this.field.multiplication().neutral();
+        return this.moved(point, this.field.addition().add(one, one));
+    }
+
+    /**
+     * Moves a point along the line normal, by a multiple of its signed
+     * distance to the line.
+     * @param point Point
+     * @param times Multiple of the distance to move the point by
+     * @return Moved point
+     */
+    private Vect<T> moved(final Vect<T> point, final T times) {
+        final FieldAddition<T> add = this.field.addition();
+        final FieldMultiplication<T> mult = this.field.multiplication();
+        final T xcoor = this.field.actual(point.coords()[0]);
+        final T ycoor = this.field.actual(point.coords()[1]);
+        final T factor = add.inverse(
+            mult.multiply(
+                mult.multiply(times, this.residual(xcoor, ycoor)),
+                mult.inverse(
+                    add.add(
+                        mult.multiply(this.xcoef, this.xcoef),
+                        mult.multiply(this.ycoef, this.ycoef)
+                    )
+                )
+            )
+        );
+        return this.vector(
+            add.add(xcoor, mult.multiply(factor, this.xcoef)),
+            add.add(ycoor, mult.multiply(factor, this.ycoef))
+        );
+    }
+
+    /**
+     * Calculates a.x + b.y - c at a point.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return Residual of the line equation
+     */
+    private T residual(final T xcoor, final T ycoor) {
+        final FieldAddition<T> add = this.field.addition();
+        final FieldMultiplication<T> mult = this.field.multiplication();
+        return add.add(
+            add.add(
+                mult.multiply(this.xcoef, xcoor), mult.multiply(this.ycoef, ycoor)
+            ),
+            add.inverse(this.constant)
+        );
+    }
+
+    /**
+     * Calculates the determinant of the lines normals.
+     * @param other Other line
+     * @return Determinant
+     */
+    private T determinant(final Implicit<T> other) {
+        return this.cross(this.xcoef, this.ycoef, other.xcoef, other.ycoef);
+    }
+
+    /**
+     * Calculates first * fourth - second * third.
+     * @param first First term
+     * @param second Second term
+     * @param third Third term
+     * @param fourth Fourth term
+     * @return Two by two determinant
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private T cross(final T first, final T second, final T third,
+        final T fourth) {
+        final FieldMultiplication<T> mult = this.field.multiplication();
+        return this.field.addition().add(
+            mult.multiply(first, fourth),
+            this.field.addition().inverse(mult.multiply(second, third))
+        );
+    }
+
+    /**
+     * Checks whether a value is zero in the field.
+     * @param value Value
+     * @return True if the field equals the value to zero
+     */
+    private boolean zero(final T value) {
+        return this.field.equals(
+            new Scalar.Default<>(value),
+            new Scalar.Default<>(this.field.addition().neutral())
+        );
+    }
+
+    /**
+     * Builds a vector of resolved coordinates.
+     * @param xcoor X coordinate
+     * @param ycoor Y coordinate
+     * @return Vector
+     */
+    private Vect<T> vector(final T xcoor, final T ycoor) {
+        return new FixedVector<>(
+            new Scalar.Default<>(xcoor), new Scalar.Default<>(ycoor)
+        );
+    }
+
+}
@@ -24,9 +24,6 @@
 package com.jeometry.twod.line.analytics;
 
 import com.aljebra.field.Field;
-import com.aljebra.scalar.Add;
-import com.aljebra.scalar.Multiplication;
-import com.aljebra.scalar.Random;
 import com.aljebra.scalar.Scalar;
 import com.jeometry.twod.line.Line;
 import lombok.EqualsAndHashCode;
@@ -64,29 +61,7 @@ public final class LinePointOrdinate<T> implements Scalar<T> {
 
     @Override
     public T value(final Field<T> field) {
-        final boolean inline = field.equals(
-            this.line.point().coords()[0], this.abscissa
-        );
-        final boolean vertical = new Vertical<>(this.line).resolve(field);
-        if (vertical && !inline) {
-            throw new IllegalStateException(
-                "Vertical line could not pass by a point with this abscissa"
-            );
-        }
-        final T result;
-        if (vertical && inline) {
-            result = field.actual(new Random<T>());
-        } else {
-            result = field.actual(
-                new Add<>(
-                    new Multiplication<T>(
-                        new Slope<T>(this.line), this.abscissa
-                    ),
-                    new Intercept<T>(this.line)
-                )
-            );
-        }
-        return result;
+        return new Implicit<>(this.line, field).ordinate(field.actual(this.abscissa));
     }
 
 }
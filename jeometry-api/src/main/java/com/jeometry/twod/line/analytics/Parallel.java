@@ -24,9 +24,6 @@
 package com.jeometry.twod.line.analytics;
 
 import com.aljebra.field.Field;
-import com.aljebra.scalar.condition.And;
-import com.aljebra.scalar.condition.Equals;
-import com.aljebra.scalar.condition.Not;
 import com.aljebra.scalar.condition.Predicate;
 import com.jeometry.twod.line.Line;
 import com.jeometry.twod.line.RayLine;
@@ -81,15 +78,9 @@ public final class Parallel<T> implements Predicate<Field<T>> {
 
     @Override
     public boolean resolve(final Field<T> field) {
-        final Vertical<T> fvertical = new Vertical<>(this.first);
-        final Vertical<T> svertical = new Vertical<>(this.second);
-        final boolean both = new And<>(fvertical, svertical).resolve(field);
-        final boolean none = new And<>(
-            new Not<>(fvertical), new Not<>(svertical)
-        ).resolve(field);
-        return both || none && new Equals<>(
-            new Slope<>(this.first), new Slope<>(this.second)
-        ).resolve(field);
+        return new Implicit<>(this.first, field).parallel(
+            new Implicit<>(this.second, field)
+        );
     }
 
 }
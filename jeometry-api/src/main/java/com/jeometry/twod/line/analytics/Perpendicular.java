@@ -25,7 +25,7 @@ package com.jeometry.twod.line.analytics;
 
 import com.aljebra.field.Field;
 import com.aljebra.field.MetricSpaceField;
-import com.aljebra.metric.angle.VectsDegrees;
+import com.aljebra.metric.VectRelations;
 import com.aljebra.scalar.condition.Predicate;
 import com.aljebra.vector.Vect;
 import com.jeometry.twod.line.Line;
@@ -70,12 +70,8 @@ public final class Perpendicular<T> implements Predicate<Field<T>> {
     @Override
     public boolean resolve(final Field<T> field) {
         if (field instanceof MetricSpaceField<?>) {
-            final Double degrees = new VectsDegrees<>(
-                this.first, this.second
-            ).resolve(((MetricSpaceField<T>) field).product()).doubleValue();
-            final double error = 1.e-6;
-            return Math.abs(degrees - Math.PI / 2) < error
-                || Math.abs(degrees + Math.PI / 2) < error;
+            return new VectRelations<>((MetricSpaceField<T>) field)
+                .orthogonal(this.first, this.second);
         } else {
             throw new UnsupportedOperationException(
                 String.format("Field %s is not a metric space field", field)
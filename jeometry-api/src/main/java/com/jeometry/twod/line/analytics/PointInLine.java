@@ -24,8 +24,6 @@
 package com.jeometry.twod.line.analytics;
 
 import com.aljebra.field.Field;
-import com.aljebra.scalar.Scalar;
-import com.aljebra.scalar.condition.Equals;
 import com.aljebra.scalar.condition.Predicate;
 import com.aljebra.vector.Vect;
 import com.jeometry.twod.line.Line;
@@ -59,17 +57,7 @@ public final class PointInLine<T> implements Predicate<Field<T>> {
 
     @Override
     public boolean resolve(final Field<T> field) {
-        final Scalar<T> xcoor = this.point.coords()[0];
-        final Predicate<Field<T>> result;
-        if (new Vertical<>(this.line).resolve(field)) {
-            result = new Equals<>(xcoor, this.line.point().coords()[0]);
-        } else {
-            result = new Equals<>(
-                this.point.coords()[1],
-                new LinePointOrdinate<T>(this.line, xcoor)
-            );
-        }
-        return result.resolve(field);
+        return new Implicit<>(this.line, field).contains(this.point);
     }
 
 }
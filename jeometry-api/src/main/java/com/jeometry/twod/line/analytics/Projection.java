@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.line.analytics;
+
+import com.aljebra.field.Field;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import com.jeometry.twod.line.Line;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * A scalar representing a coordinate of the orthogonal projection of a point on a line,
+ * calculated on the line {@link Implicit} form.
+ * @param <T> scalar types
+ * @since 0.4
+ */
+@EqualsAndHashCode
+@ToString(includeFieldNames = false)
+public final class Projection<T> implements Scalar<T> {
+
+    /**
+     * Line.
+     */
+    private final Line<T> line;
+
+    /**
+     * Point.
+     */
+    private final Vect<T> point;
+
+    /**
+     * Coordinate index, 0 for X and 1 for Y.
+     */
+    private final int axis;
+
+    /**
+     * Constructor.
+     * @param line Line
+     * @param point Point
+     * @param axis Coordinate index, 0 for X and 1 for Y
+     */
+    public Projection(final Line<T> line, final Vect<T> point, final int axis) {
+        this.line = line;
+        this.point = point;
+        this.axis = axis;
+    }
+
+    @Override
+    public T value(final Field<T> field) {
+        return field.actual(
+            new Implicit<>(this.line, field).projection(this.point).coords()[this.axis]
+        );
+    }
+
+}
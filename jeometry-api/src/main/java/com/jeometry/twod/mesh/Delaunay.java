@@ -0,0 +1,397 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.mesh;
+
+import com.aljebra.field.Field;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import com.google.common.base.Preconditions;
+import com.jeometry.twod.point.XyPoint;
+import com.jeometry.twod.predicate.Orientation;
+import com.jeometry.twod.segment.PtsSegment;
+import com.jeometry.twod.segment.Segment;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Delaunay triangulation of points with double coordinates. Points are
+ * inserted in Hilbert curve order by the Bowyer-Watson algorithm, with
+ * robust orientation and in-circle predicates, so that the triangulation
+ * is exactly the one of the given coordinates. Cocircular points are
+ * triangulated arbitrarily. Duplicate points share the vertex of their
+ * first copy. If all points are collinear, there are no triangles and the
+ * points are only linked to their neighbours along the line.
+ * @since 0.4
+ */
+public final class Delaunay {
+
+    /**
+     * Interleaved (x, y) points coordinates.
+     */
+    private final double[] coords;
+
+    /**
+     * Triangulation, or nothing if all points are collinear.
+     */
+    private final Mesh mesh;
+
+    /**
+     * Points, or points equal to them, which are triangulation vertices.
+     */
+    private final int[] twins;
+
+    /**
+     * Distinct points in (X, Y) order, if all points are collinear.
+     */
+    private final int[] line;
+
+    /**
+     * Hilbert curve over the points.
+     */
+    private final HilbertOrder curve;
+
+    /**
+     * Points indexes, in curve order.
+     */
+    private final int[] order;
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) points coordinates
+     */
+    public Delaunay(final double[] coords) {
+        Preconditions.checkArgument(
+            coords.length % 2 == 0,
+            "Expected interleaved coordinates, got %s values", coords.length
+        );
+        this.coords = coords;
+        this.mesh = new Mesh(coords);
+        final int size = coords.length / 2;
+        this.twins = new int[size];
+        for (int idx = 0; idx < size; ++idx) {
+            this.twins[idx] = idx;
+        }
+        this.curve = new HilbertOrder(coords);
+        this.order = this.curve.order();
+        final int[] first = this.first(this.order);
+        if (first.length == 0) {
+            this.line = this.collinear(this.order);
+        } else {
+            this.line = new int[0];
+            this.mesh.start(first[0], first[1], first[2]);
+            for (final int point : this.order) {
+                if (point != first[0] && point != first[1] && point != first[2]) {
+                    final int twin = this.mesh.insert(point);
+                    if (twin >= 0) {
+                        this.twins[point] = twin;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Constructor.
+     * @param points Points
+     */
+    public Delaunay(final List<? extends Vect<Double>> points) {
+        this(points, new Decimal());
+    }
+
+    /**
+     * Constructor.
+     * @param points Points
+     * @param field Field for scalar operations
+     */
+    public Delaunay(final List<? extends Vect<Double>> points,
+        final Field<Double> field) {
+        this(Delaunay.packed(points, field));
+    }
+
+    /**
+     * Gives the count of points.
+     * @return Count of points
+     */
+    public int size() {
+        return this.twins.length;
+    }
+
+    /**
+     * Gives a point X coordinate.
+     * @param point Point index
+     * @return X coordinate
+     */
+    public double xcoor(final int point) {
+        return this.coords[2 * point];
+    }
+
+    /**
+     * Gives a point Y coordinate.
+     * @param point Point index
+     * @return Y coordinate
+     */
+    public double ycoor(final int point) {
+        return this.coords[2 * point + 1];
+    }
+
+    /**
+     * Gives the triangles.
+     * @return Points indexes of the triangles, three per triangle
+     *  counterclockwise
+     */
+    public int[] triangles() {
+        int[] result = new int[0];
+        if (this.line.length == 0) {
+            result = new int[3 * this.mesh.triangles()];
+            int size = 0;
+            for (int tri = 0; tri < this.mesh.triangles(); ++tri) {
+                if (this.mesh.solid(tri)) {
+                    for (int idx = 0; idx < 3; ++idx) {
+                        result[size] = this.mesh.vertex(tri, idx);
+                        size += 1;
+                    }
+                }
+            }
+            result = Arrays.copyOf(result, size);
+        }
+        return result;
+    }
+
+    /**
+     * Gives the points linked to a point by a triangulation edge. Duplicate
+     * points have the neighbours of their first copy.
+     * @param point Point index
+     * @return Points indexes, counterclockwise if there are triangles
+     */
+    public int[] neighbours(final int point) {
+        final int twin = this.twins[point];
+        final int[] result;
+        if (this.line.length == 0) {
+            result = this.mesh.around(twin);
+        } else {
+            final int pos = this.rank(twin);
+            final List<Integer> found = new ArrayList<>(2);
+            if (pos > 0) {
+                found.add(this.line[pos - 1]);
+            }
+            if (pos < this.line.length - 1) {
+                found.add(this.line[pos + 1]);
+            }
+            result = found.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return result;
+    }
+
+    /**
+     * Gives the triangulation edges, each once.
+     * @return Segments
+     */
+    public List<Segment<Double>> edges() {
+        final List<Segment<Double>> result = new ArrayList<>(0);
+        for (int point = 0; point < this.twins.length; ++point) {
+            if (this.twins[point] == point) {
+                for (final int other : this.neighbours(point)) {
+                    if (point < other) {
+                        result.add(
+                            new PtsSegment<>(this.point(point), this.point(other))
+                        );
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the point nearest to a location. The triangle containing the
+     * location is found by a walk from a point close to it along the
+     * Hilbert curve, and the nearest point by a greedy walk on the
+     * triangulation edges from the vertices of this triangle.
+     * @param xcoor Location X coordinate
+     * @param ycoor Location Y coordinate
+     * @return Nearest point index
+     */
+    public int nearest(final double xcoor, final double ycoor) {
+        Preconditions.checkArgument(
+            this.twins.length > 0, "No nearest point among no points"
+        );
+        int result = this.twins[0];
+        if (this.line.length == 0) {
+            final int tri = this.mesh.locate(
+                xcoor, ycoor,
+                this.twins[this.order[this.curve.search(this.order, xcoor, ycoor)]]
+            );
+            for (int idx = 0; idx < 3; ++idx) {
+                final int vertex = this.mesh.vertex(tri, idx);
+                if (vertex != Mesh.INF && this.distance(vertex, xcoor, ycoor)
+                    < this.distance(result, xcoor, ycoor)) {
+                    result = vertex;
+                }
+            }
+        }
+        boolean moved = true;
+        while (moved) {
+            moved = false;
+            for (final int other : this.neighbours(result)) {
+                if (this.distance(other, xcoor, ycoor)
+                    < this.distance(result, xcoor, ycoor)) {
+                    result = other;
+                    moved = true;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the position of a point among collinear points, by binary
+     * search.
+     * @param point Point index
+     * @return Position in the sorted distinct points
+     */
+    private int rank(final int point) {
+        int low = 0;
+        int high = this.line.length - 1;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.compare(this.line[mid], point) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Calculates the squared distance from a point to a location.
+     * @param point Point index
+     * @param xcoor Location X coordinate
+     * @param ycoor Location Y coordinate
+     * @return Squared distance
+     */
+    private double distance(final int point, final double xcoor,
+        final double ycoor) {
+        final double xdiff = this.coords[2 * point] - xcoor;
+        final double ydiff = this.coords[2 * point + 1] - ycoor;
+        return xdiff * xdiff + ydiff * ydiff;
+    }
+
+    /**
+     * Builds a point.
+     * @param point Point index
+     * @return Point
+     */
+    private Vect<Double> point(final int point) {
+        return new XyPoint<>(
+            new Scalar.Default<>(this.coords[2 * point]),
+            new Scalar.Default<>(this.coords[2 * point + 1])
+        );
+    }
+
+    /**
+     * Finds the first three points of an order which are not collinear.
+     * @param order Points order
+     * @return Points indexes, or nothing if all points are collinear
+     */
+    private int[] first(final int[] order) {
+        final Orientation orient = new Orientation();
+        int[] result = new int[0];
+        int second = -1;
+        for (int idx = 1; idx < order.length && result.length == 0; ++idx) {
+            final int point = order[idx];
+            if (second < 0 && this.compare(order[0], point) != 0) {
+                second = point;
+            } else if (second >= 0 && orient.sign(
+                this.xcoor(order[0]), this.ycoor(order[0]),
+                this.xcoor(second), this.ycoor(second),
+                this.xcoor(point), this.ycoor(point)
+            ) != 0) {
+                result = new int[] {order[0], second, point};
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sorts collinear points and links duplicates to their first copy.
+     * @param order Points order
+     * @return Distinct points, in (X, Y) order
+     */
+    private int[] collinear(final int[] order) {
+        final Integer[] sorted = Arrays.stream(order).boxed().toArray(Integer[]::new);
+        Arrays.sort(
+            sorted, new Comparator<Integer>() {
+                @Override
+                public int compare(final Integer first, final Integer second) {
+                    return Delaunay.this.compare(first, second);
+                }
+            }
+        );
+        final List<Integer> distinct = new ArrayList<>(sorted.length);
+        for (final Integer point : sorted) {
+            if (distinct.isEmpty()
+                || this.compare(distinct.get(distinct.size() - 1), point) != 0) {
+                distinct.add(point);
+            } else {
+                this.twins[point] = distinct.get(distinct.size() - 1);
+            }
+        }
+        return distinct.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Compares two points, by X then Y.
+     * @param first First point index
+     * @param second Second point index
+     * @return Comparison sign
+     */
+    private int compare(final int first, final int second) {
+        int result = Double.compare(this.xcoor(first), this.xcoor(second));
+        if (result == 0) {
+            result = Double.compare(this.ycoor(first), this.ycoor(second));
+        }
+        return result;
+    }
+
+    /**
+     * Packs points coordinates.
+     * @param points Points
+     * @param field Field for scalar operations
+     * @return Interleaved (x, y) points coordinates
+     */
+    private static double[] packed(final List<? extends Vect<Double>> points,
+        final Field<Double> field) {
+        final double[] result = new double[2 * points.size()];
+        for (int idx = 0; idx < points.size(); ++idx) {
+            result[2 * idx] = field.actual(points.get(idx).coords()[0]);
+            result[2 * idx + 1] = field.actual(points.get(idx).coords()[1]);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,181 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.mesh;
+
+import java.util.Arrays;
+
+/**
+ * Order of points along a Hilbert curve over their bounding box. Points
+ * inserted in this order are close to the previously inserted ones, so
+ * that locating them in a triangulation takes a short walk. Locations
+ * also get a curve key, so that a point close to them is found by binary
+ * search in the points order.
+ * @since 0.4
+ */
+final class HilbertOrder {
+
+    /**
+     * Side of the Hilbert curve grid, as a power of two.
+     */
+    private static final int SIDE = 1 << 15;
+
+    /**
+     * Mask of the point index in a sort key.
+     */
+    private static final long INDEX = 0xFFFFFFFFL;
+
+    /**
+     * Interleaved (x, y) points coordinates.
+     */
+    private final double[] coords;
+
+    /**
+     * Bounding box lowest X and Y, and grid cells per unit along X and Y.
+     */
+    private final double[] grid;
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) points coordinates
+     */
+    HilbertOrder(final double[] coords) {
+        this.coords = coords;
+        double xmin = Double.POSITIVE_INFINITY;
+        double ymin = Double.POSITIVE_INFINITY;
+        double xmax = Double.NEGATIVE_INFINITY;
+        double ymax = Double.NEGATIVE_INFINITY;
+        for (int idx = 0; idx < coords.length; idx += 2) {
+            xmin = Math.min(xmin, coords[idx]);
+            ymin = Math.min(ymin, coords[idx + 1]);
+            xmax = Math.max(xmax, coords[idx]);
+            ymax = Math.max(ymax, coords[idx + 1]);
+        }
+        this.grid = new double[] {
+            xmin, ymin,
+            (HilbertOrder.SIDE - 1) / Math.max(xmax - xmin, Double.MIN_NORMAL),
+            (HilbertOrder.SIDE - 1) / Math.max(ymax - ymin, Double.MIN_NORMAL),
+        };
+    }
+
+    /**
+     * Sorts the points.
+     * @return Points indexes, in curve order
+     */
+    public int[] order() {
+        final int size = this.coords.length / 2;
+        final long[] keys = new long[size];
+        for (int idx = 0; idx < size; ++idx) {
+            keys[idx] = this.key(this.coords[2 * idx], this.coords[2 * idx + 1])
+                << Integer.SIZE | idx;
+        }
+        Arrays.sort(keys);
+        final int[] result = new int[size];
+        for (int idx = 0; idx < size; ++idx) {
+            result[idx] = (int) (keys[idx] & HilbertOrder.INDEX);
+        }
+        return result;
+    }
+
+    /**
+     * Finds a point close to a location along the curve.
+     * @param order Points indexes, in curve order
+     * @param xcoor Location X coordinate
+     * @param ycoor Location Y coordinate
+     * @return Position in the order of the first point whose key is not
+     *  lower than the location key, or of the last point
+     */
+    public int search(final int[] order, final double xcoor,
+        final double ycoor) {
+        final long key = this.key(xcoor, ycoor);
+        int low = 0;
+        int high = order.length - 1;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.key(this.coords[2 * order[mid]], this.coords[2 * order[mid] + 1])
+                < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Calculates the curve key of a location, clamped to the points
+     * bounding box.
+     * @param xcoor Location X coordinate
+     * @param ycoor Location Y coordinate
+     * @return Distance along the curve
+     */
+    private long key(final double xcoor, final double ycoor) {
+        return HilbertOrder.distance(
+            HilbertOrder.cell((xcoor - this.grid[0]) * this.grid[2]),
+            HilbertOrder.cell((ycoor - this.grid[1]) * this.grid[3])
+        );
+    }
+
+    /**
+     * Clamps a grid coordinate to a cell.
+     * @param coord Grid coordinate
+     * @return Cell index
+     */
+    private static int cell(final double coord) {
+        return (int) Math.max(0., Math.min(HilbertOrder.SIDE - 1, coord));
+    }
+
+    /**
+     * Calculates the distance of a grid cell along the curve.
+     * @param column Cell column
+     * @param row Cell row
+     * @return Distance along the curve
+     */
+    private static long distance(final int column, final int row) {
+        int xcell = column;
+        int ycell = row;
+        long result = 0L;
+        for (int side = HilbertOrder.SIDE / 2; side > 0; side /= 2) {
+            int xbit = 0;
+            if ((xcell & side) != 0) {
+                xbit = 1;
+            }
+            int ybit = 0;
+            if ((ycell & side) != 0) {
+                ybit = 1;
+            }
+            result += (long) side * side * (3 * xbit ^ ybit);
+            if (ybit == 0) {
+                if (xbit == 1) {
+                    xcell = HilbertOrder.SIDE - 1 - xcell;
+                    ycell = HilbertOrder.SIDE - 1 - ycell;
+                }
+                final int swap = xcell;
+                xcell = ycell;
+                ycell = swap;
+            }
+        }
+        return result;
+    }
+
+}
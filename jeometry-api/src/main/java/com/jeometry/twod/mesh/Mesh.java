@@ -0,0 +1,557 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.mesh;
+
+import com.jeometry.twod.predicate.InCircle;
+import com.jeometry.twod.predicate.Orientation;
+import java.util.Arrays;
+
+/**
+ * Incremental Delaunay triangulation by the Bowyer-Watson algorithm, on
+ * packed triangle arrays. Each triangle stores its three vertices
+ * counterclockwise, and the triangle across the edge opposite to each of
+ * them. The convex hull is closed by ghost triangles sharing the
+ * {@link #INF} vertex, so that every triangle has three neighbours, points
+ * outside the hull are inserted as points inside, and turning around any
+ * vertex is a closed loop. A point is inserted by walking to a triangle in
+ * conflict with it, growing the cavity of the triangles whose circumcircle
+ * contains it, and linking it to the cavity border.
+ * @since 0.4
+ */
+final class Mesh {
+
+    /**
+     * Infinite vertex of ghost triangles.
+     */
+    public static final int INF = -1;
+
+    /**
+     * Marker of the first vertex of deleted triangles.
+     */
+    private static final int DEAD = -2;
+
+    /**
+     * Initial capacity of the points around a vertex.
+     */
+    private static final int DEGREE = 8;
+
+
+    /**
+     * Interleaved (x, y) points coordinates.
+     */
+    private final double[] coords;
+
+    /**
+     * Orientation predicate.
+     */
+    private final Orientation orient;
+
+    /**
+     * In-circle predicate.
+     */
+    private final InCircle circle;
+
+    /**
+     * One triangle around each vertex, or -1 for points not inserted.
+     */
+    private final int[] stars;
+
+    /**
+     * New triangles by first vertex, shifted by one, during an insertion.
+     */
+    private final int[] starts;
+
+    /**
+     * Triangles vertices, three per triangle.
+     */
+    private int[] vertices;
+
+    /**
+     * Triangles neighbours, opposite to each vertex, three per triangle.
+     */
+    private int[] adjacent;
+
+    /**
+     * Triangles visit marks.
+     */
+    private int[] marks;
+
+    /**
+     * Count of allocated triangles.
+     */
+    private int count;
+
+    /**
+     * Deleted triangles, available for reuse.
+     */
+    private int[] free;
+
+    /**
+     * Count of deleted triangles.
+     */
+    private int freed;
+
+    /**
+     * Current visit mark.
+     */
+    private int stamp;
+
+    /**
+     * Last created triangle, where point location starts.
+     */
+    private int last;
+
+    /**
+     * Cavity triangles during an insertion.
+     */
+    private int[] cavity;
+
+    /**
+     * Cavity border edges during an insertion, as (first vertex, second
+     * vertex, outer triangle) triples.
+     */
+    private int[] border;
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) points coordinates
+     */
+    Mesh(final double[] coords) {
+        this.coords = coords;
+        this.orient = new Orientation();
+        this.circle = new InCircle();
+        final int size = coords.length / 2;
+        this.stars = new int[size];
+        Arrays.fill(this.stars, -1);
+        this.starts = new int[size + 1];
+        final int capacity = 2 * size + 2;
+        this.vertices = new int[3 * capacity];
+        this.adjacent = new int[3 * capacity];
+        this.marks = new int[capacity];
+        this.free = new int[capacity];
+        this.cavity = new int[capacity];
+        this.border = new int[3 * capacity];
+    }
+
+    /**
+     * Starts the triangulation with a first triangle and its three ghosts.
+     * @param first First point index
+     * @param second Second point index
+     * @param third Third point index, not collinear with the others
+     */
+    public void start(final int first, final int second, final int third) {
+        int low = second;
+        int high = third;
+        if (this.sign(first, second, third) < 0) {
+            low = third;
+            high = second;
+        }
+        final int[] created = {
+            this.triangle(first, low, high),
+            this.triangle(low, first, Mesh.INF),
+            this.triangle(high, low, Mesh.INF),
+            this.triangle(first, high, Mesh.INF),
+        };
+        for (int idx = 0; idx < created.length; ++idx) {
+            for (int other = idx + 1; other < created.length; ++other) {
+                this.glue(created[idx], created[other]);
+            }
+        }
+        this.stars[first] = created[0];
+        this.stars[low] = created[0];
+        this.stars[high] = created[0];
+        this.last = created[0];
+    }
+
+    /**
+     * Inserts a point.
+     * @param point Point index
+     * @return Index of an equal point already inserted, or -1 if the point
+     *  was inserted
+     */
+    public int insert(final int point) {
+        final int found = this.locate(
+            this.coords[2 * point], this.coords[2 * point + 1]
+        );
+        int result = -1;
+        for (int idx = 0; idx < 3; ++idx) {
+            final int vertex = this.vertices[3 * found + idx];
+            if (vertex != Mesh.INF
+                && this.coords[2 * vertex] == this.coords[2 * point]
+                && this.coords[2 * vertex + 1] == this.coords[2 * point + 1]) {
+                result = vertex;
+            }
+        }
+        if (result < 0) {
+            this.fill(point, this.carve(found, point));
+        }
+        return result;
+    }
+
+    /**
+     * Locates a point, by walking from the last created triangle.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return A solid triangle containing the point, possibly on its
+     *  boundary, or a ghost triangle whose hull edge sees the point
+     */
+    public int locate(final double xcoor, final double ycoor) {
+        return this.walk(this.last, xcoor, ycoor);
+    }
+
+    /**
+     * Locates a point, by walking from a triangle around an inserted point.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @param start Inserted point index
+     * @return A solid triangle containing the point, possibly on its
+     *  boundary, or a ghost triangle whose hull edge sees the point
+     */
+    public int locate(final double xcoor, final double ycoor,
+        final int start) {
+        return this.walk(this.stars[start], xcoor, ycoor);
+    }
+
+    /**
+     * Walks across the edges a point lies beyond, from a triangle.
+     * @param start Start triangle
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return A solid triangle containing the point, possibly on its
+     *  boundary, or a ghost triangle whose hull edge sees the point
+     */
+    private int walk(final int start, final double xcoor, final double ycoor) {
+        int result = start;
+        if (!this.solid(result)) {
+            result = this.adjacent[3 * result + this.index(result, Mesh.INF)];
+        }
+        int turn = 0;
+        boolean moved = true;
+        while (moved && this.solid(result)) {
+            moved = false;
+            for (int step = 0; step < 3 && !moved; ++step) {
+                final int idx = (turn + step) % 3;
+                final int from = this.vertices[3 * result + (idx + 1) % 3];
+                final int to = this.vertices[3 * result + (idx + 2) % 3];
+                if (this.orient.sign(
+                    this.coords[2 * from], this.coords[2 * from + 1],
+                    this.coords[2 * to], this.coords[2 * to + 1],
+                    xcoor, ycoor
+                ) < 0) {
+                    result = this.adjacent[3 * result + idx];
+                    moved = true;
+                }
+            }
+            turn = (turn + 1) % 3;
+        }
+        return result;
+    }
+
+    /**
+     * Gives the count of allocated triangles, some of which may be deleted.
+     * @return Count of triangles
+     */
+    public int triangles() {
+        return this.count;
+    }
+
+    /**
+     * Checks whether a triangle is neither deleted nor a ghost.
+     * @param triangle Triangle index
+     * @return True if the triangle is solid
+     */
+    public boolean solid(final int triangle) {
+        return this.vertices[3 * triangle] != Mesh.DEAD
+            && this.index(triangle, Mesh.INF) < 0;
+    }
+
+    /**
+     * Gives a vertex of a triangle.
+     * @param triangle Triangle index
+     * @param idx Vertex position in the triangle
+     * @return Point index, or {@link #INF}
+     */
+    public int vertex(final int triangle, final int idx) {
+        return this.vertices[3 * triangle + idx];
+    }
+
+    /**
+     * Gives the points linked to an inserted point by an edge, counter
+     * clockwise.
+     * @param point Point index
+     * @return Points indexes
+     */
+    public int[] around(final int point) {
+        int[] result = new int[Mesh.DEGREE];
+        int size = 0;
+        final int first = this.stars[point];
+        int triangle = first;
+        do {
+            final int idx = this.index(triangle, point);
+            final int next = this.vertices[3 * triangle + (idx + 1) % 3];
+            if (next != Mesh.INF) {
+                if (size == result.length) {
+                    result = Arrays.copyOf(result, 2 * size);
+                }
+                result[size] = next;
+                size += 1;
+            }
+            triangle = this.adjacent[3 * triangle + (idx + 2) % 3];
+        } while (triangle != first);
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Checks whether a point is inserted.
+     * @param point Point index
+     * @return True if the point is a vertex of the triangulation
+     */
+    public boolean inserted(final int point) {
+        return this.stars[point] >= 0;
+    }
+
+    /**
+     * Grows the cavity of the triangles in conflict with a point from a
+     * first one, and collects its border edges.
+     * @param first First triangle in conflict
+     * @param point Point index
+     * @return Count of border edges
+     */
+    private int carve(final int first, final int point) {
+        this.stamp += 1;
+        this.marks[first] = this.stamp;
+        this.cavity[0] = first;
+        int size = 1;
+        int edges = 0;
+        for (int pos = 0; pos < size; ++pos) {
+            final int triangle = this.cavity[pos];
+            for (int idx = 0; idx < 3; ++idx) {
+                final int other = this.adjacent[3 * triangle + idx];
+                if (this.marks[other] != this.stamp
+                    && this.conflict(other, point)) {
+                    this.marks[other] = this.stamp;
+                    this.cavity[size] = other;
+                    size += 1;
+                } else if (this.marks[other] != this.stamp) {
+                    this.border[3 * edges] =
+                        this.vertices[3 * triangle + (idx + 1) % 3];
+                    this.border[3 * edges + 1] =
+                        this.vertices[3 * triangle + (idx + 2) % 3];
+                    this.border[3 * edges + 2] = other;
+                    edges += 1;
+                }
+            }
+        }
+        for (int pos = 0; pos < size; ++pos) {
+            this.vertices[3 * this.cavity[pos]] = Mesh.DEAD;
+            this.free[this.freed] = this.cavity[pos];
+            this.freed += 1;
+        }
+        return edges;
+    }
+
+    /**
+     * Fills the cavity with triangles linking the point to the cavity
+     * border edges.
+     * @param point Point index
+     * @param edges Count of border edges
+     */
+    private void fill(final int point, final int edges) {
+        final int[] created = new int[edges];
+        for (int edge = 0; edge < edges; ++edge) {
+            final int from = this.border[3 * edge];
+            final int to = this.border[3 * edge + 1];
+            final int outer = this.border[3 * edge + 2];
+            final int triangle = this.triangle(from, to, point);
+            created[edge] = triangle;
+            this.adjacent[3 * triangle + 2] = outer;
+            this.adjacent[3 * outer + this.opposite(outer, to, from)] = triangle;
+            this.starts[from + 1] = triangle;
+            if (from != Mesh.INF) {
+                this.stars[from] = triangle;
+            }
+        }
+        for (final int triangle : created) {
+            final int other = this.starts[this.vertices[3 * triangle + 1] + 1];
+            this.adjacent[3 * triangle] = other;
+            this.adjacent[3 * other + 1] = triangle;
+        }
+        this.stars[point] = created[0];
+        this.last = created[0];
+    }
+
+    /**
+     * Checks whether a triangle is in conflict with a point, that is if its
+     * circumcircle strictly contains the point. A ghost triangle is in
+     * conflict with the points beyond its hull edge, and inside it.
+     * @param triangle Triangle index
+     * @param point Point index
+     * @return True if the triangle is in conflict
+     */
+    private boolean conflict(final int triangle, final int point) {
+        final int inf = this.index(triangle, Mesh.INF);
+        final boolean result;
+        if (inf < 0) {
+            final int first = this.vertices[3 * triangle];
+            final int second = this.vertices[3 * triangle + 1];
+            final int third = this.vertices[3 * triangle + 2];
+            result = this.circle.sign(
+                this.coords[2 * first], this.coords[2 * first + 1],
+                this.coords[2 * second], this.coords[2 * second + 1],
+                this.coords[2 * third], this.coords[2 * third + 1],
+                this.coords[2 * point], this.coords[2 * point + 1]
+            ) > 0;
+        } else {
+            final int from = this.vertices[3 * triangle + (inf + 1) % 3];
+            final int to = this.vertices[3 * triangle + (inf + 2) % 3];
+            final int sign = this.sign(from, to, point);
+            result = sign > 0
+                || sign == 0 && this.compare(from, point) * this.compare(point, to) > 0;
+        }
+        return result;
+    }
+
+    /**
+     * Allocates a triangle, reusing a deleted one if any.
+     * @param first First vertex
+     * @param second Second vertex
+     * @param third Third vertex
+     * @return Triangle index
+     */
+    private int triangle(final int first, final int second, final int third) {
+        final int result;
+        if (this.freed > 0) {
+            this.freed -= 1;
+            result = this.free[this.freed];
+        } else {
+            if (this.count == this.marks.length) {
+                this.grow();
+            }
+            result = this.count;
+            this.count += 1;
+        }
+        this.vertices[3 * result] = first;
+        this.vertices[3 * result + 1] = second;
+        this.vertices[3 * result + 2] = third;
+        return result;
+    }
+
+    /**
+     * Doubles the triangles capacity.
+     */
+    private void grow() {
+        final int capacity = 2 * this.marks.length;
+        this.vertices = Arrays.copyOf(this.vertices, 3 * capacity);
+        this.adjacent = Arrays.copyOf(this.adjacent, 3 * capacity);
+        this.marks = Arrays.copyOf(this.marks, capacity);
+        this.free = Arrays.copyOf(this.free, capacity);
+        this.cavity = Arrays.copyOf(this.cavity, capacity);
+        this.border = Arrays.copyOf(this.border, 3 * capacity);
+    }
+
+    /**
+     * Links two triangles along their common edge, if any.
+     * @param first First triangle index
+     * @param second Second triangle index
+     */
+    private void glue(final int first, final int second) {
+        for (int idx = 0; idx < 3; ++idx) {
+            final int from = this.vertices[3 * first + (idx + 1) % 3];
+            final int to = this.vertices[3 * first + (idx + 2) % 3];
+            final int other = this.opposite(second, to, from);
+            if (other >= 0) {
+                this.adjacent[3 * first + idx] = second;
+                this.adjacent[3 * second + other] = first;
+            }
+        }
+    }
+
+    /**
+     * Finds the position of the vertex opposite to an edge in a triangle.
+     * @param triangle Triangle index
+     * @param from Edge first vertex
+     * @param to Edge second vertex
+     * @return Vertex position, or -1 if the triangle has no such edge
+     */
+    private int opposite(final int triangle, final int from, final int to) {
+        int result = -1;
+        for (int idx = 0; idx < 3; ++idx) {
+            if (this.vertices[3 * triangle + (idx + 1) % 3] == from
+                && this.vertices[3 * triangle + (idx + 2) % 3] == to) {
+                result = idx;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the position of a vertex in a triangle.
+     * @param triangle Triangle index
+     * @param vertex Vertex
+     * @return Vertex position, or -1 if not a vertex of the triangle
+     */
+    private int index(final int triangle, final int vertex) {
+        int result = -1;
+        for (int idx = 0; idx < 3; ++idx) {
+            if (this.vertices[3 * triangle + idx] == vertex) {
+                result = idx;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the orientation of three points.
+     * @param first First point index
+     * @param second Second point index
+     * @param third Third point index
+     * @return Orientation sign
+     */
+    private int sign(final int first, final int second, final int third) {
+        return this.orient.sign(
+            this.coords[2 * first], this.coords[2 * first + 1],
+            this.coords[2 * second], this.coords[2 * second + 1],
+            this.coords[2 * third], this.coords[2 * third + 1]
+        );
+    }
+
+    /**
+     * Compares two points, by X then Y.
+     * @param first First point index
+     * @param second Second point index
+     * @return Comparison sign
+     */
+    private int compare(final int first, final int second) {
+        int result = Double.compare(
+            this.coords[2 * first], this.coords[2 * second]
+        );
+        if (result == 0) {
+            result = Double.compare(
+                this.coords[2 * first + 1], this.coords[2 * second + 1]
+            );
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.mesh;
+
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import com.google.common.base.Preconditions;
+import com.jeometry.twod.bounds.Box;
+import com.jeometry.twod.line.Polygon;
+import com.jeometry.twod.point.XyPoint;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Voronoi diagram of points, dual to their Delaunay triangulation and
+ * clipped to a box. The cell of a point is the clip box cut by the
+ * bisectors between the point and its triangulation neighbours, which
+ * bound the unclipped cell, so that cells of hull points are closed by
+ * the box. Duplicate points share the same cell.
+ * @since 0.4
+ */
+public final class Voronoi {
+
+    /**
+     * Delaunay triangulation.
+     */
+    private final Delaunay delaunay;
+
+    /**
+     * Clip box.
+     */
+    private final Box box;
+
+    /**
+     * Constructor.
+     * @param delaunay Delaunay triangulation of the points
+     * @param box Clip box, containing all the points
+     */
+    public Voronoi(final Delaunay delaunay, final Box box) {
+        for (int point = 0; point < delaunay.size(); ++point) {
+            Preconditions.checkArgument(
+                box.contains(delaunay.xcoor(point), delaunay.ycoor(point)),
+                "Clip box %s does not contain point %s", box, point
+            );
+        }
+        this.delaunay = delaunay;
+        this.box = box;
+    }
+
+    /**
+     * Builds the cell of a point.
+     * @param point Point index
+     * @return Interleaved (x, y) cell vertices, counterclockwise
+     */
+    public double[] cell(final int point) {
+        double[] result = {
+            this.box.xmin(), this.box.ymin(), this.box.xmax(), this.box.ymin(),
+            this.box.xmax(), this.box.ymax(), this.box.xmin(), this.box.ymax(),
+        };
+        final double xcoor = this.delaunay.xcoor(point);
+        final double ycoor = this.delaunay.ycoor(point);
+        for (final int other : this.delaunay.neighbours(point)) {
+            final double xnormal = this.delaunay.xcoor(other) - xcoor;
+            final double ynormal = this.delaunay.ycoor(other) - ycoor;
+            result = Voronoi.clip(
+                result, xnormal, ynormal,
+                xnormal * (this.delaunay.xcoor(other) + xcoor) / 2.
+                    + ynormal * (this.delaunay.ycoor(other) + ycoor) / 2.
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Builds the cells of all the points.
+     * @return Cells polygons, by point index
+     */
+    public List<Polygon<Double>> cells() {
+        final List<Polygon<Double>> result = new ArrayList<>(this.delaunay.size());
+        for (int point = 0; point < this.delaunay.size(); ++point) {
+            final double[] cell = this.cell(point);
+            final List<Vect<Double>> vertices = new ArrayList<>(cell.length / 2);
+            for (int idx = 0; idx < cell.length; idx += 2) {
+                vertices.add(
+                    new XyPoint<>(
+                        new Scalar.Default<>(cell[idx]),
+                        new Scalar.Default<>(cell[idx + 1])
+                    )
+                );
+            }
+            result.add(new Polygon<>(vertices));
+        }
+        return result;
+    }
+
+    /**
+     * Clips a convex polygon by a half-plane.
+     * @param polygon Interleaved (x, y) polygon vertices
+     * @param xnormal Half-plane outer normal X coordinate
+     * @param ynormal Half-plane outer normal Y coordinate
+     * @param offset Half-plane offset, so that points (x, y) inside it have
+     *  x * xnormal + y * ynormal lower than or equal to the offset
+     * @return Interleaved (x, y) clipped polygon vertices
+     */
+    private static double[] clip(final double[] polygon, final double xnormal,
+        final double ynormal, final double offset) {
+        final int size = polygon.length / 2;
+        final double[] result = new double[2 * size + 2];
+        int count = 0;
+        for (int idx = 0; idx < size; ++idx) {
+            final int next = (idx + 1) % size;
+            final double here = xnormal * polygon[2 * idx]
+                + ynormal * polygon[2 * idx + 1] - offset;
+            final double there = xnormal * polygon[2 * next]
+                + ynormal * polygon[2 * next + 1] - offset;
+            if (here <= 0.) {
+                result[2 * count] = polygon[2 * idx];
+                result[2 * count + 1] = polygon[2 * idx + 1];
+                count += 1;
+            }
+            if (here < 0. && there > 0. || here > 0. && there < 0.) {
+                final double ratio = here / (here - there);
+                result[2 * count] = polygon[2 * idx]
+                    + ratio * (polygon[2 * next] - polygon[2 * idx]);
+                result[2 * count + 1] = polygon[2 * idx + 1]
+                    + ratio * (polygon[2 * next + 1] - polygon[2 * idx + 1]);
+                count += 1;
+            }
+        }
+        return Arrays.copyOf(result, 2 * count);
+    }
+
+}
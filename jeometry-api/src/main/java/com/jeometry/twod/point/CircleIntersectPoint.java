@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.point;
+
+import com.jeometry.twod.circle.Circle;
+import com.jeometry.twod.circle.analytics.CircleIntersection;
+import com.jeometry.twod.circle.analytics.CircleIntersections;
+import com.jeometry.twod.line.Line;
+import lombok.ToString;
+
+/**
+ * An intersection point of a circle with another shape, over doubles. The
+ * point is resolved lazily and throws an {@link IllegalStateException} if
+ * the shapes do not have that many intersection points.
+ * @since 0.4
+ */
+@ToString
+public final class CircleIntersectPoint extends XyPoint<Double> {
+
+    /**
+     * Constructor.
+     * @param circle Circle
+     * @param line Line
+     * @param root Intersection point index, 0 for the first and 1 for the
+     *  second
+     */
+    public CircleIntersectPoint(final Circle<Double> circle,
+        final Line<Double> line, final int root) {
+        this(new CircleIntersections(circle, line), root);
+    }
+
+    /**
+     * Constructor.
+     * @param circle Circle
+     * @param other Other circle
+     * @param root Intersection point index, 0 for the first and 1 for the
+     *  second
+     */
+    public CircleIntersectPoint(final Circle<Double> circle,
+        final Circle<Double> other, final int root) {
+        this(new CircleIntersections(circle, other), root);
+    }
+
+    /**
+     * Constructor.
+     * @param points Intersection points
+     * @param root Intersection point index, 0 for the first and 1 for the
+     *  second
+     */
+    public CircleIntersectPoint(final CircleIntersections points,
+        final int root) {
+        super(
+            new CircleIntersection(points, root, 0),
+            new CircleIntersection(points, root, 1)
+        );
+    }
+
+}
@@ -23,16 +23,10 @@
  */
 package com.jeometry.twod.point;
 
-import com.aljebra.scalar.Diff;
-import com.aljebra.scalar.Division;
-import com.aljebra.scalar.Scalar;
-import com.aljebra.scalar.Throwing;
-import com.aljebra.scalar.condition.Ternary;
 import com.aljebra.vector.FixedVector;
 import com.aljebra.vector.Vect;
 import com.jeometry.twod.line.Line;
-import com.jeometry.twod.line.analytics.Intersecting;
-import com.jeometry.twod.line.analytics.LineAnalytics;
+import com.jeometry.twod.line.analytics.Intersection;
 import lombok.ToString;
 
 /**
@@ -60,59 +54,8 @@ public final class LineIntersectPoint<T> extends XyPoint<T> {
      * @return The intersection point
      */
     private static <T> Vect<T> vector(final Line<T> first, final Line<T> second) {
-        final Scalar<T> abscissa = LineIntersectPoint.abscissa(first, second);
         return new FixedVector<T>(
-            abscissa, LineIntersectPoint.ordinate(first, second, abscissa)
-        );
-    }
-
-    /**
-     * Calculates the ordinate of the intersecting point given its the abscissa.
-     * @param first First line
-     * @param second Second line
-     * @param abcissa Intersecting point abscissa
-     * @param <T> scalar types
-     * @return Scalar representing the ordinate
-     */
-    private static <T> Scalar<T> ordinate(final Line<T> first, final Line<T> second,
-        final Scalar<T> abcissa) {
-        final LineAnalytics<T> fst = new LineAnalytics<>(first);
-        return new Ternary<>(
-            fst.vertical(),
-            new LineAnalytics<>(second).ordinate(abcissa),
-            fst.ordinate(abcissa)
-        );
-    }
-
-    /**
-     * Calculates abscissa of the intersecting point.
-     * @param first First line
-     * @param second Second line
-     * @param <T> scalar types
-     * @return Scalar representing the abscissa
-     */
-    private static <T> Scalar<T> abscissa(final Line<T> first, final Line<T> second) {
-        final LineAnalytics<T> fst = new LineAnalytics<>(first);
-        final LineAnalytics<T> snd = new LineAnalytics<>(second);
-        return new Ternary<>(
-            new Intersecting<>(first, second),
-            new Ternary<>(
-                fst.vertical(),
-                first.point().coords()[0],
-                new Ternary<>(
-                    snd.vertical(),
-                    second.point().coords()[0],
-                    new Division<T>(
-                        new Diff<>(snd.intercept(), fst.intercept()),
-                        new Diff<>(fst.slope(), snd.slope())
-                    )
-                )
-            ),
-            new Throwing<>(
-                new IllegalStateException(
-                    "Undefined intersecting point for two parallel lines."
-                )
-            )
+            new Intersection<>(first, second, 0), new Intersection<>(first, second, 1)
         );
     }
 
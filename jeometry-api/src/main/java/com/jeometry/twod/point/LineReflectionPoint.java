@@ -23,8 +23,10 @@
  */
 package com.jeometry.twod.point;
 
+import com.aljebra.vector.FixedVector;
 import com.aljebra.vector.Vect;
 import com.jeometry.twod.line.Line;
+import com.jeometry.twod.line.analytics.Reflection;
 
 /**
  * A point defined as the reflection of a point, across a given line.
@@ -39,7 +41,11 @@ public final class LineReflectionPoint<T> extends XyPoint<T> {
      * @param input The point to reflect
      */
     public LineReflectionPoint(final Line<T> axis, final Vect<T> input) {
-        super(new PtReflectionPoint<T>(new ProjectionPoint<T>(axis, input), input));
+        super(
+            new FixedVector<T>(
+                new Reflection<>(axis, input, 0), new Reflection<>(axis, input, 1)
+            )
+        );
     }
 
 }
@@ -23,10 +23,11 @@
  */
 package com.jeometry.twod.point;
 
+import com.aljebra.vector.FixedVector;
 import com.aljebra.vector.Vect;
 import com.jeometry.twod.line.Line;
-import com.jeometry.twod.line.PerpLine;
 import com.jeometry.twod.line.PtDirLine;
+import com.jeometry.twod.line.analytics.Projection;
 import lombok.ToString;
 
 /**
@@ -64,7 +65,11 @@ public final class ProjectionPoint<T> extends XyPoint<T> {
      * @param input The point to orthogonally project on the line
      */
     public ProjectionPoint(final Line<T> line, final Vect<T> input) {
-        this(line, new PerpLine<T>(line), input);
+        super(
+            new FixedVector<T>(
+                new Projection<>(line, input, 0), new Projection<>(line, input, 1)
+            )
+        );
     }
 
 }
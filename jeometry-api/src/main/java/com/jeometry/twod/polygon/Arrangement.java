@@ -0,0 +1,321 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import com.jeometry.twod.predicate.Orientation;
+import com.jeometry.twod.sweep.Crossing;
+import com.jeometry.twod.sweep.SegmentSweep;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Segments split at their intersections. The intersecting pairs are found
+ * by a {@link SegmentSweep}, and each segment is split at its crossing
+ * points and at the ends of the collinear segments overlapping it. The
+ * resulting edges keep the direction of their segment, and share their
+ * end nodes, so that overlapping parts of segments give edges between the
+ * same nodes.
+ * @since 0.4
+ */
+final class Arrangement {
+
+    /**
+     * Segments coordinates, as (x1, y1, x2, y2) per segment.
+     */
+    private final double[] segments;
+
+    /**
+     * Orientation predicate.
+     */
+    private final Orientation orient;
+
+    /**
+     * Nodes indexes, by node.
+     */
+    private final Map<Node, Integer> ids;
+
+    /**
+     * Interleaved (x, y) nodes coordinates.
+     */
+    private double[] nodes;
+
+    /**
+     * Edges as (first node, second node, segment) triples.
+     */
+    private int[] edges;
+
+    /**
+     * Count of edges.
+     */
+    private int count;
+
+    /**
+     * Constructor.
+     * @param segments Segments coordinates, as (x1, y1, x2, y2) per segment
+     */
+    Arrangement(final double[] segments) {
+        this.segments = segments;
+        this.orient = new Orientation();
+        this.ids = new HashMap<>(segments.length / 2);
+        this.nodes = new double[segments.length / 2];
+        this.edges = new int[3 * segments.length / 4];
+        final int size = segments.length / 4;
+        final int[] counts = new int[size + 1];
+        final Iterable<Crossing> crossings = new SegmentSweep(segments).crossings();
+        for (final Crossing cross : crossings) {
+            this.splits(cross, counts, new double[0]);
+        }
+        for (int seg = 0; seg < size; ++seg) {
+            counts[seg + 1] += counts[seg];
+        }
+        final double[] points = new double[2 * counts[size]];
+        final int[] slots = Arrays.copyOf(counts, size);
+        for (final Crossing cross : crossings) {
+            this.splits(cross, slots, points);
+        }
+        for (int seg = 0; seg < size; ++seg) {
+            this.split(seg, points, counts[seg], counts[seg + 1]);
+        }
+    }
+
+    /**
+     * Gives the count of edges.
+     * @return Count of edges
+     */
+    public int edges() {
+        return this.count;
+    }
+
+    /**
+     * Gives the first node of an edge.
+     * @param edge Edge index
+     * @return Node index
+     */
+    public int from(final int edge) {
+        return this.edges[3 * edge];
+    }
+
+    /**
+     * Gives the second node of an edge.
+     * @param edge Edge index
+     * @return Node index
+     */
+    public int to(final int edge) {
+        return this.edges[3 * edge + 1];
+    }
+
+    /**
+     * Gives the segment of an edge.
+     * @param edge Edge index
+     * @return Segment index
+     */
+    public int segment(final int edge) {
+        return this.edges[3 * edge + 2];
+    }
+
+    /**
+     * Gives the count of nodes.
+     * @return Count of nodes
+     */
+    public int nodes() {
+        return this.ids.size();
+    }
+
+    /**
+     * Gives a node X coordinate.
+     * @param node Node index
+     * @return X coordinate
+     */
+    public double xcoor(final int node) {
+        return this.nodes[2 * node];
+    }
+
+    /**
+     * Gives a node Y coordinate.
+     * @param node Node index
+     * @return Y coordinate
+     */
+    public double ycoor(final int node) {
+        return this.nodes[2 * node + 1];
+    }
+
+    /**
+     * Counts or stores the split points of a crossing.
+     * @param cross Crossing
+     * @param slots Next free slot per segment, shifted by one when counting
+     * @param points Interleaved (x, y) split points, or an empty array when
+     *  counting
+     */
+    private void splits(final Crossing cross, final int[] slots,
+        final double[] points) {
+        final int first = cross.first();
+        final int second = cross.second();
+        this.add(first, cross.xcoor(), cross.ycoor(), slots, points);
+        this.add(second, cross.xcoor(), cross.ycoor(), slots, points);
+        if (this.collinear(first, second)) {
+            for (int end = 0; end < 2; ++end) {
+                this.add(
+                    first, this.segments[4 * second + 2 * end],
+                    this.segments[4 * second + 2 * end + 1], slots, points
+                );
+                this.add(
+                    second, this.segments[4 * first + 2 * end],
+                    this.segments[4 * first + 2 * end + 1], slots, points
+                );
+            }
+        }
+    }
+
+    /**
+     * Counts or stores a split point of a segment.
+     * @param seg Segment index
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @param slots Next free slot per segment, shifted by one when counting
+     * @param points Interleaved (x, y) split points, or an empty array when
+     *  counting
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void add(final int seg, final double xcoor, final double ycoor,
+        final int[] slots, final double[] points) {
+        if (points.length == 0) {
+            slots[seg + 1] += 1;
+        } else {
+            points[2 * slots[seg]] = xcoor;
+            points[2 * slots[seg] + 1] = ycoor;
+            slots[seg] += 1;
+        }
+    }
+
+    /**
+     * Splits a segment at points, sorted along it.
+     * @param seg Segment index
+     * @param points Interleaved (x, y) split points
+     * @param first First split point of the segment (inclusive)
+     * @param until Last split point of the segment (exclusive)
+     */
+    private void split(final int seg, final double[] points, final int first,
+        final int until) {
+        final double xstart = this.segments[4 * seg];
+        final double ystart = this.segments[4 * seg + 1];
+        final double xdir = this.segments[4 * seg + 2] - xstart;
+        final double ydir = this.segments[4 * seg + 3] - ystart;
+        final int size = until - first;
+        final double[] params = new double[size];
+        for (int idx = 0; idx < size; ++idx) {
+            params[idx] = (points[2 * (first + idx)] - xstart) * xdir
+                + (points[2 * (first + idx) + 1] - ystart) * ydir;
+        }
+        final Integer[] sorted = new Integer[size];
+        for (int idx = 0; idx < size; ++idx) {
+            sorted[idx] = idx;
+        }
+        Arrays.sort(
+            sorted,
+            new Comparator<Integer>() {
+                @Override
+                public int compare(final Integer left, final Integer right) {
+                    return Double.compare(params[left], params[right]);
+                }
+            }
+        );
+        int last = this.node(xstart, ystart);
+        for (final Integer idx : sorted) {
+            final double param = params[idx];
+            if (param > 0. && param < xdir * xdir + ydir * ydir) {
+                last = this.edge(
+                    last,
+                    this.node(points[2 * (first + idx)], points[2 * (first + idx) + 1]),
+                    seg
+                );
+            }
+        }
+        this.edge(
+            last, this.node(this.segments[4 * seg + 2], this.segments[4 * seg + 3]), seg
+        );
+    }
+
+    /**
+     * Adds an edge, unless it has no length.
+     * @param from First node
+     * @param to Second node
+     * @param seg Segment index
+     * @return Second node
+     */
+    private int edge(final int from, final int to, final int seg) {
+        if (from != to) {
+            if (3 * this.count == this.edges.length) {
+                this.edges = Arrays.copyOf(this.edges, 2 * this.edges.length + 3);
+            }
+            this.edges[3 * this.count] = from;
+            this.edges[3 * this.count + 1] = to;
+            this.edges[3 * this.count + 2] = seg;
+            this.count += 1;
+        }
+        return to;
+    }
+
+    /**
+     * Gives the index of a node, adding it if needed.
+     * @param xcoor Node X coordinate
+     * @param ycoor Node Y coordinate
+     * @return Node index
+     */
+    private int node(final double xcoor, final double ycoor) {
+        final Node node = new Node(xcoor, ycoor);
+        Integer result = this.ids.get(node);
+        if (result == null) {
+            result = this.ids.size();
+            if (2 * result == this.nodes.length) {
+                this.nodes = Arrays.copyOf(this.nodes, 2 * this.nodes.length + 2);
+            }
+            this.nodes[2 * result] = xcoor + 0.;
+            this.nodes[2 * result + 1] = ycoor + 0.;
+            this.ids.put(node, result);
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether two segments lie on the same line.
+     * @param first First segment index
+     * @param second Second segment index
+     * @return True if both segments are collinear
+     */
+    private boolean collinear(final int first, final int second) {
+        boolean result = true;
+        for (int end = 0; end < 2; ++end) {
+            result = result && this.orient.sign(
+                this.segments[4 * first], this.segments[4 * first + 1],
+                this.segments[4 * first + 2], this.segments[4 * first + 3],
+                this.segments[4 * second + 2 * end],
+                this.segments[4 * second + 2 * end + 1]
+            ) == 0;
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import com.jeometry.twod.predicate.Orientation;
+import java.util.Arrays;
+
+/**
+ * Andrew's monotone chain over a range of interleaved (x, y) coordinates.
+ * The range is copied, sorted and deduplicated, then the lower and upper
+ * hulls are built in a single pass each with exact orientation tests.
+ * Collinear points on the hull boundary are dropped.
+ * @since 0.4
+ */
+final class Chain {
+
+    /**
+     * Interleaved (x, y) coordinates.
+     */
+    private final double[] coords;
+
+    /**
+     * First point index (inclusive).
+     */
+    private final int first;
+
+    /**
+     * Last point index (exclusive).
+     */
+    private final int until;
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) coordinates
+     * @param first First point index (inclusive)
+     * @param until Last point index (exclusive)
+     */
+    Chain(final double[] coords, final int first, final int until) {
+        this.coords = coords;
+        this.first = first;
+        this.until = until;
+    }
+
+    /**
+     * Builds the hull.
+     * @return Interleaved (x, y) hull vertices, counter-clockwise from the
+     *  lowest of the leftmost points
+     */
+    public double[] vertices() {
+        final double[] sorted = Arrays.copyOfRange(
+            this.coords, 2 * this.first, 2 * this.until
+        );
+        final PairSort sort = new PairSort(sorted);
+        sort.sort(0, this.until - this.first);
+        final int size = sort.distinct(0, this.until - this.first);
+        final double[] result;
+        if (size < 2) {
+            result = Arrays.copyOf(sorted, 2 * size);
+        } else {
+            final Orientation orient = new Orientation();
+            final double[] hull = new double[4 * size];
+            int count = 0;
+            for (int idx = 0; idx < size; ++idx) {
+                count = Chain.push(orient, hull, count, 1, sorted, idx);
+            }
+            final int lower = count;
+            for (int idx = size - 2; idx >= 0; --idx) {
+                count = Chain.push(orient, hull, count, lower, sorted, idx);
+            }
+            result = Arrays.copyOf(hull, 2 * (count - 1));
+        }
+        return result;
+    }
+
+    /**
+     * Appends a point to a hull chain, after dropping the last vertices
+     * which would not make a left turn to it.
+     * @param orient Orientation predicate
+     * @param hull Interleaved (x, y) hull vertices
+     * @param count Count of hull vertices
+     * @param floor Count of hull vertices which are never dropped
+     * @param sorted Interleaved (x, y) sorted points
+     * @param point Point index
+     * @return New count of hull vertices
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static int push(final Orientation orient, final double[] hull,
+        final int count, final int floor, final double[] sorted,
+        final int point) {
+        final double xcoor = sorted[2 * point];
+        final double ycoor = sorted[2 * point + 1];
+        int result = count;
+        while (result > floor && orient.sign(
+            hull[2 * result - 4], hull[2 * result - 3],
+            hull[2 * result - 2], hull[2 * result - 1],
+            xcoor, ycoor
+        ) <= 0) {
+            result -= 1;
+        }
+        hull[2 * result] = xcoor;
+        hull[2 * result + 1] = ycoor;
+        return result + 1;
+    }
+
+}
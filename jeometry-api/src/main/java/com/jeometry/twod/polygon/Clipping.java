@@ -0,0 +1,160 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import com.aljebra.field.impl.doubles.Block;
+import com.aljebra.field.impl.doubles.Parallelism;
+import com.jeometry.twod.predicate.Orientation;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Clipping of many regions against a single clip region, such as a
+ * viewport or a tile. Regions whose box misses the clip box are dropped
+ * at once. If the clip region is a single convex ring, regions are
+ * clipped by the Sutherland-Hodgman algorithm, and otherwise by the
+ * intersection {@link Overlay}. Batches of regions are clipped in
+ * parallel.
+ * @since 0.4
+ */
+public final class Clipping {
+
+    /**
+     * Default count of regions from which batches are split.
+     */
+    private static final int THRESHOLD = 64;
+
+    /**
+     * Default count of regions clipped sequentially by a single task.
+     */
+    private static final int LEAF = 8;
+
+    /**
+     * Clip region.
+     */
+    private final Region region;
+
+    /**
+     * Convex clip, if the clip region is convex.
+     */
+    private final Optional<ConvexClip> convex;
+
+    /**
+     * Parallelism settings.
+     */
+    private final Parallelism parallel;
+
+    /**
+     * Constructor.
+     * @param region Clip region
+     */
+    public Clipping(final Region region) {
+        this(
+            region,
+            new Parallelism(Clipping.THRESHOLD, Clipping.LEAF, ForkJoinPool.commonPool())
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param region Clip region
+     * @param parallel Parallelism settings, in count of regions
+     */
+    public Clipping(final Region region, final Parallelism parallel) {
+        this.region = region;
+        this.convex = Clipping.convex(region);
+        this.parallel = parallel;
+    }
+
+    /**
+     * Clips a region.
+     * @param subject Region
+     * @return Clipped region
+     */
+    public Region clip(final Region subject) {
+        final Region result;
+        if (subject.empty() || this.region.empty()
+            || !subject.box().intersects(this.region.box())) {
+            result = new Region(Collections.<PackedPolygon>emptyList());
+        } else if (this.convex.isPresent()) {
+            result = this.convex.get().clip(subject);
+        } else {
+            result = new Overlay(subject, this.region).intersection();
+        }
+        return result;
+    }
+
+    /**
+     * Clips regions.
+     * @param subjects Regions
+     * @return Clipped regions, in the same order
+     */
+    public List<Region> clip(final List<Region> subjects) {
+        final Region[] result = new Region[subjects.size()];
+        this.parallel.apply(
+            new Block() {
+                @Override
+                public void apply(final int from, final int until) {
+                    for (int idx = from; idx < until; ++idx) {
+                        result[idx] = Clipping.this.clip(subjects.get(idx));
+                    }
+                }
+            },
+            result.length
+        );
+        return Arrays.asList(result);
+    }
+
+    /**
+     * Builds the convex clip of a region made of a single convex ring.
+     * @param region Region
+     * @return Convex clip, if the region is convex
+     */
+    private static Optional<ConvexClip> convex(final Region region) {
+        Optional<ConvexClip> result = Optional.empty();
+        if (region.rings().size() == 1) {
+            final PackedPolygon ring = region.rings().get(0);
+            final Orientation orient = new Orientation();
+            final int size = ring.size();
+            boolean convex = ring.signedArea() > 0.;
+            for (int idx = 0; idx < size && convex; ++idx) {
+                final int next = (idx + 1) % size;
+                final int after = (idx + 2) % size;
+                convex = orient.sign(
+                    ring.xcoor(idx), ring.ycoor(idx),
+                    ring.xcoor(next), ring.ycoor(next),
+                    ring.xcoor(after), ring.ycoor(after)
+                ) >= 0;
+            }
+            if (convex) {
+                result = Optional.of(new ConvexClip(ring));
+            }
+        }
+        return result;
+    }
+
+}
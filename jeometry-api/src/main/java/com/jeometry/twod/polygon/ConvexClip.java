@@ -0,0 +1,144 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import com.jeometry.twod.predicate.Orientation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sutherland-Hodgman clipping of regions by a convex polygon. Each ring is
+ * clipped in turn by the half-plane on the left of each edge of the
+ * counterclockwise clip polygon, in linear time per edge. Concave rings
+ * may give zero width bridges along the clip boundary, which bound no
+ * area.
+ * @since 0.4
+ */
+final class ConvexClip {
+
+    /**
+     * Clip polygon, convex and counterclockwise.
+     */
+    private final PackedPolygon clip;
+
+    /**
+     * Orientation predicate.
+     */
+    private final Orientation orient;
+
+    /**
+     * Constructor.
+     * @param clip Clip polygon, convex and counterclockwise
+     */
+    ConvexClip(final PackedPolygon clip) {
+        this.clip = clip;
+        this.orient = new Orientation();
+    }
+
+    /**
+     * Clips a region.
+     * @param region Region
+     * @return Clipped region
+     */
+    public Region clip(final Region region) {
+        final List<PackedPolygon> result = new ArrayList<>(region.rings().size());
+        for (final PackedPolygon ring : region.rings()) {
+            double[] coords = new double[2 * ring.size()];
+            for (int idx = 0; idx < ring.size(); ++idx) {
+                coords[2 * idx] = ring.xcoor(idx);
+                coords[2 * idx + 1] = ring.ycoor(idx);
+            }
+            for (int edge = 0; edge < this.clip.size() && coords.length > 0; ++edge) {
+                coords = this.clip(coords, edge);
+            }
+            if (coords.length >= 2 * 3) {
+                final PackedPolygon clipped = new PackedPolygon(coords);
+                if (clipped.signedArea() != 0.) {
+                    result.add(clipped);
+                }
+            }
+        }
+        return new Region(result);
+    }
+
+    /**
+     * Clips a ring by the half-plane on the left of a clip polygon edge.
+     * @param ring Interleaved (x, y) ring vertices
+     * @param edge Clip polygon edge
+     * @return Interleaved (x, y) clipped ring vertices
+     */
+    private double[] clip(final double[] ring, final int edge) {
+        final int next = (edge + 1) % this.clip.size();
+        final double xfrom = this.clip.xcoor(edge);
+        final double yfrom = this.clip.ycoor(edge);
+        final double xdir = this.clip.xcoor(next) - xfrom;
+        final double ydir = this.clip.ycoor(next) - yfrom;
+        final int size = ring.length / 2;
+        final double[] result = new double[4 * size];
+        int count = 0;
+        for (int idx = 0; idx < size; ++idx) {
+            final int after = (idx + 1) % size;
+            final int here = this.side(edge, next, ring, idx);
+            final int there = this.side(edge, next, ring, after);
+            if (here >= 0) {
+                result[2 * count] = ring[2 * idx];
+                result[2 * count + 1] = ring[2 * idx + 1];
+                count += 1;
+            }
+            if (here * there < 0) {
+                final double first = xdir * (ring[2 * idx + 1] - yfrom)
+                    - ydir * (ring[2 * idx] - xfrom);
+                final double second = xdir * (ring[2 * after + 1] - yfrom)
+                    - ydir * (ring[2 * after] - xfrom);
+                final double ratio = first / (first - second);
+                result[2 * count] = ring[2 * idx]
+                    + ratio * (ring[2 * after] - ring[2 * idx]);
+                result[2 * count + 1] = ring[2 * idx + 1]
+                    + ratio * (ring[2 * after + 1] - ring[2 * idx + 1]);
+                count += 1;
+            }
+        }
+        return Arrays.copyOf(result, 2 * count);
+    }
+
+    /**
+     * Gives the side of a ring vertex relative to a clip polygon edge.
+     * @param edge Edge first vertex
+     * @param next Edge second vertex
+     * @param ring Interleaved (x, y) ring vertices
+     * @param vertex Ring vertex
+     * @return 1 if the vertex is on the left, -1 if it is on the right and 0
+     *  if it is on the edge line
+     */
+    private int side(final int edge, final int next, final double[] ring,
+        final int vertex) {
+        return this.orient.sign(
+            this.clip.xcoor(edge), this.clip.ycoor(edge),
+            this.clip.xcoor(next), this.clip.ycoor(next),
+            ring[2 * vertex], ring[2 * vertex + 1]
+        );
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import com.aljebra.field.Field;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.field.impl.doubles.Parallelism;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import com.google.common.base.Preconditions;
+import com.jeometry.twod.line.Polygon;
+import com.jeometry.twod.point.XyPoint;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Convex hull of a set of points with double coordinates, built by
+ * Andrew's monotone chain on packed coordinates. When built with
+ * {@link Parallelism} settings, large sets are split in leaf sized ranges
+ * hulled in parallel, whose vertices are then hulled together. Hull
+ * vertices are given counter-clockwise, without collinear vertices.
+ * @since 0.4
+ */
+public final class ConvexHull {
+
+    /**
+     * Interleaved (x, y) points coordinates.
+     */
+    private final double[] coords;
+
+    /**
+     * Parallelism settings, if parallel hulls are enabled.
+     */
+    private final Optional<Parallelism> parallel;
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) points coordinates
+     */
+    public ConvexHull(final double[] coords) {
+        this(coords, Optional.empty());
+    }
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) points coordinates
+     * @param parallel Parallelism settings
+     */
+    public ConvexHull(final double[] coords, final Parallelism parallel) {
+        this(coords, Optional.of(parallel));
+    }
+
+    /**
+     * Constructor.
+     * @param points Points
+     */
+    public ConvexHull(final Iterable<? extends Vect<Double>> points) {
+        this(points, new Decimal());
+    }
+
+    /**
+     * Constructor.
+     * @param points Points
+     * @param field Field for scalar operations
+     */
+    public ConvexHull(final Iterable<? extends Vect<Double>> points,
+        final Field<Double> field) {
+        this(ConvexHull.packed(points, field));
+    }
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) points coordinates
+     * @param parallel Parallelism settings, if parallel hulls are enabled
+     */
+    private ConvexHull(final double[] coords,
+        final Optional<Parallelism> parallel) {
+        Preconditions.checkArgument(
+            coords.length % 2 == 0,
+            "Expected interleaved coordinates, got %s values", coords.length
+        );
+        this.coords = coords;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Builds the hull vertices.
+     * @return Interleaved (x, y) hull vertices, counter-clockwise from the
+     *  lowest of the leftmost points
+     */
+    public double[] vertices() {
+        final int count = this.coords.length / 2;
+        final double[] result;
+        if (this.parallel.isPresent() && this.parallel.get().enabled(count)) {
+            result = this.parallel.get().invoke(
+                new HullTask(this.coords, 0, count, this.parallel.get().leaf())
+            );
+        } else {
+            result = new Chain(this.coords, 0, count).vertices();
+        }
+        return result;
+    }
+
+    /**
+     * Builds the hull polygon.
+     * @return Polygon
+     */
+    public Polygon<Double> polygon() {
+        return ConvexHull.polygon(this.vertices());
+    }
+
+    /**
+     * Builds a polygon from hull vertices.
+     * @param vertices Interleaved (x, y) hull vertices
+     * @return Polygon
+     */
+    static Polygon<Double> polygon(final double[] vertices) {
+        Preconditions.checkArgument(
+            vertices.length > 0, "Cannot build the hull of no points"
+        );
+        final List<Vect<Double>> points = new ArrayList<>(vertices.length / 2);
+        for (int idx = 0; idx < vertices.length; idx += 2) {
+            points.add(
+                new XyPoint<>(
+                    new Scalar.Default<>(vertices[idx]),
+                    new Scalar.Default<>(vertices[idx + 1])
+                )
+            );
+        }
+        return new Polygon<>(points);
+    }
+
+    /**
+     * Packs points coordinates.
+     * @param points Points
+     * @param field Field for scalar operations
+     * @return Interleaved (x, y) points coordinates
+     */
+    private static double[] packed(final Iterable<? extends Vect<Double>> points,
+        final Field<Double> field) {
+        double[] coords = new double[2 + 2 + 2 + 2];
+        int size = 0;
+        for (final Vect<Double> point : points) {
+            if (size == coords.length) {
+                coords = Arrays.copyOf(coords, 2 * size);
+            }
+            coords[size] = field.actual(point.coords()[0]);
+            coords[size + 1] = field.actual(point.coords()[1]);
+            size += 2;
+        }
+        return Arrays.copyOf(coords, size);
+    }
+
+}
@@ -0,0 +1,401 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Faces of an {@link Arrangement} of the rings edges of two regions,
+ * labeled with the regions covering them. Overlapping edges are merged, and
+ * each merged edge separates the face on its left from the face on its
+ * right. Faces are traced around the nodes, with outgoing edges sorted by
+ * angle, and labeled from the unbounded face of each connected part of the
+ * arrangement: crossing an edge flips the regions of the rings edges merged
+ * in it. Regions thus follow the even-odd rule, as by
+ * {@link Region#contains(double, double)}, and self-intersecting rings are
+ * handled. The unbounded face of a part is labeled by testing one of its
+ * nodes against the rings of the other parts.
+ * @since 0.4
+ */
+final class Faces {
+
+    /**
+     * Label of the faces covered by the subject region.
+     */
+    static final int SUBJECT = 1;
+
+    /**
+     * Label of the faces covered by the clip region.
+     */
+    static final int CLIP = 2;
+
+    /**
+     * Merged edges, as (first node, second node) pairs.
+     */
+    private final int[] ends;
+
+    /**
+     * Faces on the left of the edges, then on their right, per edge.
+     */
+    private final int[] sides;
+
+    /**
+     * Labels of the faces, as bits of the covering regions.
+     */
+    private final int[] labels;
+
+    /**
+     * Constructor.
+     * @param arrangement Arrangement of the rings edges of the subject
+     *  region, then of the clip region
+     * @param subject Subject region
+     * @param clip Clip region
+     */
+    Faces(final Arrangement arrangement, final Region subject,
+        final Region clip) {
+        final int split = Overlay.count(subject);
+        final int size = arrangement.edges();
+        final Map<Long, Integer> merged = new HashMap<>(size);
+        final int[] pairs = new int[2 * size];
+        final int[] flips = new int[size];
+        int count = 0;
+        for (int edge = 0; edge < size; ++edge) {
+            final int from = arrangement.from(edge);
+            final int to = arrangement.to(edge);
+            final long key = (long) Math.min(from, to) * arrangement.nodes()
+                + Math.max(from, to);
+            Integer idx = merged.get(key);
+            if (idx == null) {
+                idx = count;
+                merged.put(key, idx);
+                pairs[2 * count] = from;
+                pairs[2 * count + 1] = to;
+                count += 1;
+            }
+            if (arrangement.segment(edge) < split) {
+                flips[idx] ^= Faces.SUBJECT;
+            } else {
+                flips[idx] ^= Faces.CLIP;
+            }
+        }
+        this.ends = Arrays.copyOf(pairs, 2 * count);
+        final int[] next = this.next(arrangement);
+        this.sides = new int[this.ends.length];
+        Arrays.fill(this.sides, -1);
+        final int[] firsts = new int[this.ends.length];
+        final double[] areas = new double[this.ends.length];
+        int faces = 0;
+        for (int half = 0; half < this.ends.length; ++half) {
+            if (this.sides[half] < 0) {
+                firsts[faces] = half;
+                int cur = half;
+                do {
+                    this.sides[cur] = faces;
+                    final int from = this.ends[cur];
+                    final int to = this.ends[cur ^ 1];
+                    areas[faces] += arrangement.xcoor(from) * arrangement.ycoor(to)
+                        - arrangement.xcoor(to) * arrangement.ycoor(from);
+                    cur = next[cur];
+                } while (cur != half);
+                faces += 1;
+            }
+        }
+        this.labels = new int[faces];
+        this.label(
+            arrangement, subject, clip, Arrays.copyOf(firsts, faces),
+            Arrays.copyOf(areas, faces), next, flips
+        );
+    }
+
+    /**
+     * Gives the count of merged edges.
+     * @return Count of edges
+     */
+    public int edges() {
+        return this.ends.length / 2;
+    }
+
+    /**
+     * Gives the first node of a merged edge.
+     * @param edge Edge index
+     * @return Node index
+     */
+    public int from(final int edge) {
+        return this.ends[2 * edge];
+    }
+
+    /**
+     * Gives the second node of a merged edge.
+     * @param edge Edge index
+     * @return Node index
+     */
+    public int to(final int edge) {
+        return this.ends[2 * edge + 1];
+    }
+
+    /**
+     * Gives the label of the face on the left of a merged edge, going from
+     * its first node to its second one.
+     * @param edge Edge index
+     * @return Regions covering the face, as {@link #SUBJECT} and
+     *  {@link #CLIP} bits
+     */
+    public int left(final int edge) {
+        return this.labels[this.sides[2 * edge]];
+    }
+
+    /**
+     * Gives the label of the face on the right of a merged edge, going from
+     * its first node to its second one.
+     * @param edge Edge index
+     * @return Regions covering the face, as {@link #SUBJECT} and
+     *  {@link #CLIP} bits
+     */
+    public int right(final int edge) {
+        return this.labels[this.sides[2 * edge + 1]];
+    }
+
+    /**
+     * Links each half edge to the next one around the face on its left, as
+     * the outgoing edge of its second node just clockwise from its twin.
+     * Half edge 2e goes along edge e, and half edge 2e + 1 goes back.
+     * @param arrangement Arrangement
+     * @return Next half edges, per half edge
+     */
+    private int[] next(final Arrangement arrangement) {
+        final int size = this.ends.length;
+        final double[] angles = new double[size];
+        final Integer[] sorted = new Integer[size];
+        for (int half = 0; half < size; ++half) {
+            final int from = this.ends[half];
+            final int to = this.ends[half ^ 1];
+            angles[half] = Math.atan2(
+                arrangement.ycoor(to) - arrangement.ycoor(from),
+                arrangement.xcoor(to) - arrangement.xcoor(from)
+            );
+            sorted[half] = half;
+        }
+        Arrays.sort(
+            sorted,
+            new Comparator<Integer>() {
+                @Override
+                public int compare(final Integer left, final Integer right) {
+                    int result = Integer.compare(
+                        Faces.this.ends[left], Faces.this.ends[right]
+                    );
+                    if (result == 0) {
+                        result = Double.compare(angles[left], angles[right]);
+                    }
+                    return result;
+                }
+            }
+        );
+        final int[] result = new int[size];
+        int first = 0;
+        while (first < size) {
+            int until = first + 1;
+            while (until < size
+                && this.ends[sorted[until]] == this.ends[sorted[first]]) {
+                until += 1;
+            }
+            for (int pos = first; pos < until; ++pos) {
+                int prev = pos - 1;
+                if (pos == first) {
+                    prev = until - 1;
+                }
+                result[sorted[pos] ^ 1] = sorted[prev];
+            }
+            first = until;
+        }
+        return result;
+    }
+
+    /**
+     * Labels the faces, from the unbounded face of each connected part.
+     * @param arrangement Arrangement
+     * @param subject Subject region
+     * @param clip Clip region
+     * @param firsts First half edge, per face
+     * @param areas Doubled signed area, per face
+     * @param next Next half edges, per half edge
+     * @param flips Regions flipped by crossing each merged edge
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void label(final Arrangement arrangement, final Region subject,
+        final Region clip, final int[] firsts, final double[] areas,
+        final int[] next, final int[] flips) {
+        final int[] parts = this.parts(arrangement.nodes());
+        final int[] outer = new int[arrangement.nodes()];
+        Arrays.fill(outer, -1);
+        for (int face = 0; face < firsts.length; ++face) {
+            final int part = parts[this.ends[firsts[face]]];
+            if (outer[part] < 0 || areas[face] < areas[outer[part]]) {
+                outer[part] = face;
+            }
+        }
+        final int[] rings = Faces.rings(arrangement, parts, subject, clip);
+        final boolean[] known = new boolean[firsts.length];
+        final int[] queue = new int[firsts.length];
+        int tail = 0;
+        for (int part = 0; part < outer.length; ++part) {
+            if (outer[part] >= 0) {
+                this.labels[outer[part]] = Faces.covering(
+                    arrangement.xcoor(part), arrangement.ycoor(part),
+                    part, rings, subject, clip
+                );
+                known[outer[part]] = true;
+                queue[tail] = outer[part];
+                tail += 1;
+            }
+        }
+        for (int head = 0; head < tail; ++head) {
+            final int face = queue[head];
+            int cur = firsts[face];
+            do {
+                final int other = this.sides[cur ^ 1];
+                if (!known[other]) {
+                    this.labels[other] = this.labels[face] ^ flips[cur / 2];
+                    known[other] = true;
+                    queue[tail] = other;
+                    tail += 1;
+                }
+                cur = next[cur];
+            } while (cur != firsts[face]);
+        }
+    }
+
+    /**
+     * Finds the connected parts of the merged edges, each part being named
+     * by one of its nodes.
+     * @param nodes Count of nodes
+     * @return Part, per node
+     */
+    private int[] parts(final int nodes) {
+        final int[] result = new int[nodes];
+        for (int node = 0; node < nodes; ++node) {
+            result[node] = node;
+        }
+        for (int edge = 0; edge < this.ends.length / 2; ++edge) {
+            final int first = Faces.root(result, this.ends[2 * edge]);
+            final int second = Faces.root(result, this.ends[2 * edge + 1]);
+            result[Math.max(first, second)] = Math.min(first, second);
+        }
+        for (int node = 0; node < nodes; ++node) {
+            result[node] = Faces.root(result, node);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the root of a node, halving the path to it.
+     * @param parents Parent, per node
+     * @param node Node index
+     * @return Root node index
+     */
+    private static int root(final int[] parents, final int node) {
+        int result = node;
+        while (parents[result] != result) {
+            parents[result] = parents[parents[result]];
+            result = parents[result];
+        }
+        return result;
+    }
+
+    /**
+     * Gives the regions covering a point, from the rings outside of a part.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @param part Part of the point
+     * @param rings Part, per ring of the subject then of the clip region, or
+     *  -1 for rings with no edges
+     * @param subject Subject region
+     * @param clip Clip region
+     * @return Regions covering the point, as {@link #SUBJECT} and
+     *  {@link #CLIP} bits
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static int covering(final double xcoor, final double ycoor,
+        final int part, final int[] rings, final Region subject,
+        final Region clip) {
+        int result = 0;
+        int idx = 0;
+        for (final Region region : new Region[] {subject, clip}) {
+            for (final PackedPolygon ring : region.rings()) {
+                if (rings[idx] >= 0 && rings[idx] != part
+                    && ring.box().contains(xcoor, ycoor)
+                    && ring.contains(xcoor, ycoor)) {
+                    if (region == subject) {
+                        result ^= Faces.SUBJECT;
+                    } else {
+                        result ^= Faces.CLIP;
+                    }
+                }
+                idx += 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the parts of the rings of the regions.
+     * @param arrangement Arrangement
+     * @param parts Part, per node
+     * @param subject Subject region
+     * @param clip Clip region
+     * @return Part, per ring of the subject then of the clip region, or -1
+     *  for rings with no edges
+     */
+    private static int[] rings(final Arrangement arrangement, final int[] parts,
+        final Region subject, final Region clip) {
+        final int[] segments = new int[
+            Overlay.count(subject) + Overlay.count(clip)
+        ];
+        Arrays.fill(segments, -1);
+        for (int edge = 0; edge < arrangement.edges(); ++edge) {
+            segments[arrangement.segment(edge)] = parts[arrangement.from(edge)];
+        }
+        final int[] result = new int[
+            subject.rings().size() + clip.rings().size()
+        ];
+        int idx = 0;
+        int first = 0;
+        for (final Region region : new Region[] {subject, clip}) {
+            for (final PackedPolygon ring : region.rings()) {
+                result[idx] = -1;
+                for (int seg = first; seg < first + ring.size(); ++seg) {
+                    if (segments[seg] >= 0) {
+                        result[idx] = segments[seg];
+                    }
+                }
+                first += ring.size();
+                idx += 1;
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,327 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import com.aljebra.field.impl.doubles.Block;
+import com.aljebra.field.impl.doubles.Parallelism;
+import com.google.common.base.Preconditions;
+import com.jeometry.twod.predicate.Orientation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A point containment index over a simple polygon, for repeated queries
+ * against the same polygon. The X range of the polygon is cut in slabs at
+ * the vertices abscissas, and each non vertical edge is stored in the
+ * O(log n) nodes of a segment tree over the slabs covering its X range.
+ * Edges of a node span its whole X range without crossing, so they are
+ * sorted from bottom to top, and the edges below a point are counted by a
+ * binary search. A query visits the nodes from the root to the slab of the
+ * point, in O(log² n) time, and the point is inside if it lies above an
+ * odd count of edges. Points on the boundary may be reported either inside
+ * or outside.
+ * @since 0.4
+ */
+public final class Geofence {
+
+    /**
+     * Polygon.
+     */
+    private final PackedPolygon polygon;
+
+    /**
+     * Orientation predicate.
+     */
+    private final Orientation orient;
+
+    /**
+     * Slabs bounds, as distinct sorted vertices X coordinates.
+     */
+    private final double[] slabs;
+
+    /**
+     * Edges left vertices, per edge.
+     */
+    private final int[] lefts;
+
+    /**
+     * Edges right vertices, per edge.
+     */
+    private final int[] rights;
+
+    /**
+     * Offsets of the nodes edges, in heap order, with a last end offset.
+     */
+    private final int[] offsets;
+
+    /**
+     * Nodes edges, sorted from bottom to top in each node.
+     */
+    private final int[] edges;
+
+    /**
+     * Constructor.
+     * @param polygon Polygon
+     */
+    public Geofence(final PackedPolygon polygon) {
+        this.polygon = polygon;
+        this.orient = new Orientation();
+        final int size = polygon.size();
+        this.slabs = Geofence.slabs(polygon);
+        this.lefts = new int[size];
+        this.rights = new int[size];
+        final int leaves = Math.max(1, this.slabs.length - 1);
+        final List<List<Integer>> nodes = new ArrayList<>(4 * leaves);
+        for (int idx = 0; idx < 4 * leaves; ++idx) {
+            nodes.add(new ArrayList<>(0));
+        }
+        for (int edge = 0; edge < size; ++edge) {
+            final int next = (edge + 1) % size;
+            if (polygon.xcoor(edge) < polygon.xcoor(next)) {
+                this.lefts[edge] = edge;
+                this.rights[edge] = next;
+            } else {
+                this.lefts[edge] = next;
+                this.rights[edge] = edge;
+            }
+            final int first = Arrays.binarySearch(
+                this.slabs, polygon.xcoor(this.lefts[edge])
+            );
+            final int last = Arrays.binarySearch(
+                this.slabs, polygon.xcoor(this.rights[edge])
+            );
+            if (first < last) {
+                this.store(nodes, edge, first, last, 1, 0, leaves);
+            }
+        }
+        this.offsets = new int[nodes.size() + 1];
+        for (int node = 0; node < nodes.size(); ++node) {
+            this.offsets[node + 1] = this.offsets[node] + nodes.get(node).size();
+        }
+        this.edges = new int[this.offsets[nodes.size()]];
+        this.sort(nodes, 1, 0, leaves);
+    }
+
+    /**
+     * Checks whether a point is inside the polygon.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return True if the point is inside the polygon
+     */
+    public boolean contains(final double xcoor, final double ycoor) {
+        boolean result = false;
+        if (this.slabs[0] <= xcoor && xcoor < this.slabs[this.slabs.length - 1]) {
+            int slab = Arrays.binarySearch(this.slabs, xcoor);
+            if (slab < 0) {
+                slab = -slab - 2;
+            }
+            int node = 1;
+            int from = 0;
+            int until = this.slabs.length - 1;
+            while (true) {
+                if (this.below(node, xcoor, ycoor) % 2 == 1) {
+                    result = !result;
+                }
+                if (until - from == 1) {
+                    break;
+                }
+                final int mid = (from + until) >>> 1;
+                if (slab < mid) {
+                    node = 2 * node;
+                    until = mid;
+                } else {
+                    node = 2 * node + 1;
+                    from = mid;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether points are inside the polygon.
+     * @param coords Interleaved (x, y) points coordinates
+     * @return Containment of each point
+     */
+    public boolean[] contains(final double[] coords) {
+        Preconditions.checkArgument(
+            coords.length % 2 == 0,
+            "Expected interleaved coordinates, got %s values", coords.length
+        );
+        final boolean[] result = new boolean[coords.length / 2];
+        this.block(coords, result).apply(0, result.length);
+        return result;
+    }
+
+    /**
+     * Checks whether points are inside the polygon, splitting large batches
+     * across the fork-join pool.
+     * @param coords Interleaved (x, y) points coordinates
+     * @param parallel Parallelism settings
+     * @return Containment of each point
+     */
+    public boolean[] contains(final double[] coords, final Parallelism parallel) {
+        Preconditions.checkArgument(
+            coords.length % 2 == 0,
+            "Expected interleaved coordinates, got %s values", coords.length
+        );
+        final boolean[] result = new boolean[coords.length / 2];
+        parallel.apply(this.block(coords, result), result.length);
+        return result;
+    }
+
+    /**
+     * Builds a block checking a range of points.
+     * @param coords Interleaved (x, y) points coordinates
+     * @param result Containment of each point
+     * @return Block
+     */
+    private Block block(final double[] coords, final boolean[] result) {
+        return new Block() {
+            @Override
+            public void apply(final int from, final int until) {
+                for (int idx = from; idx < until; ++idx) {
+                    result[idx] = Geofence.this.contains(
+                        coords[2 * idx], coords[2 * idx + 1]
+                    );
+                }
+            }
+        };
+    }
+
+    /**
+     * Counts the edges of a node below a point.
+     * @param node Node index
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return Count of edges
+     */
+    private int below(final int node, final double xcoor, final double ycoor) {
+        int low = this.offsets[node];
+        int high = this.offsets[node + 1];
+        final int first = low;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            final int edge = this.edges[mid];
+            if (this.orient.sign(
+                this.polygon.xcoor(this.lefts[edge]),
+                this.polygon.ycoor(this.lefts[edge]),
+                this.polygon.xcoor(this.rights[edge]),
+                this.polygon.ycoor(this.rights[edge]),
+                xcoor, ycoor
+            ) > 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - first;
+    }
+
+    /**
+     * Stores an edge in the nodes covering its slabs.
+     * @param nodes Nodes edges
+     * @param edge Edge index
+     * @param first First covered slab (inclusive)
+     * @param last Last covered slab (exclusive)
+     * @param node Node index
+     * @param from Node first slab (inclusive)
+     * @param until Node last slab (exclusive)
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void store(final List<List<Integer>> nodes, final int edge,
+        final int first, final int last, final int node, final int from,
+        final int until) {
+        if (first <= from && until <= last) {
+            nodes.get(node).add(edge);
+        } else if (first < until && from < last) {
+            final int mid = (from + until) >>> 1;
+            this.store(nodes, edge, first, last, 2 * node, from, mid);
+            this.store(nodes, edge, first, last, 2 * node + 1, mid, until);
+        }
+    }
+
+    /**
+     * Sorts the edges of nodes by their ordinate in the middle of the node
+     * slabs, and packs them.
+     * @param nodes Nodes edges
+     * @param node Node index
+     * @param from Node first slab (inclusive)
+     * @param until Node last slab (exclusive)
+     */
+    private void sort(final List<List<Integer>> nodes, final int node,
+        final int from, final int until) {
+        final double middle = (this.slabs[from] + this.slabs[until]) / 2.;
+        final List<Integer> stored = nodes.get(node);
+        stored.sort(
+            new Comparator<Integer>() {
+                @Override
+                public int compare(final Integer left, final Integer right) {
+                    return Double.compare(
+                        Geofence.this.ordinate(left, middle),
+                        Geofence.this.ordinate(right, middle)
+                    );
+                }
+            }
+        );
+        for (int idx = 0; idx < stored.size(); ++idx) {
+            this.edges[this.offsets[node] + idx] = stored.get(idx);
+        }
+        if (until - from > 1) {
+            final int mid = (from + until) >>> 1;
+            this.sort(nodes, 2 * node, from, mid);
+            this.sort(nodes, 2 * node + 1, mid, until);
+        }
+    }
+
+    /**
+     * Calculates the ordinate of an edge at an abscissa.
+     * @param edge Edge index
+     * @param xcoor Abscissa
+     * @return Ordinate
+     */
+    private double ordinate(final int edge, final double xcoor) {
+        final double xleft = this.polygon.xcoor(this.lefts[edge]);
+        final double yleft = this.polygon.ycoor(this.lefts[edge]);
+        final double xright = this.polygon.xcoor(this.rights[edge]);
+        final double yright = this.polygon.ycoor(this.rights[edge]);
+        return yleft + (yright - yleft) * ((xcoor - xleft) / (xright - xleft));
+    }
+
+    /**
+     * Gives the distinct sorted vertices X coordinates of a polygon.
+     * @param polygon Polygon
+     * @return Slabs bounds
+     */
+    private static double[] slabs(final PackedPolygon polygon) {
+        final double[] xcoors = new double[polygon.size()];
+        for (int idx = 0; idx < xcoors.length; ++idx) {
+            xcoors[idx] = polygon.xcoor(idx);
+        }
+        return Arrays.stream(xcoors).sorted().distinct().toArray();
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork-join task building the convex hull of a range of points, by
+ * splitting it in halves down to the leaf size, and building the hull of
+ * the vertices of both halves hulls.
+ * @since 0.4
+ */
+final class HullTask extends RecursiveTask<double[]> {
+
+    /**
+     * Serial version ID.
+     */
+    private static final long serialVersionUID = 2512738207149839424L;
+
+    /**
+     * Interleaved (x, y) coordinates.
+     */
+    private final double[] coords;
+
+    /**
+     * First point index (inclusive).
+     */
+    private final int first;
+
+    /**
+     * Last point index (exclusive).
+     */
+    private final int until;
+
+    /**
+     * Count of points hulled sequentially by a single task.
+     */
+    private final int leaf;
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) coordinates
+     * @param first First point index (inclusive)
+     * @param until Last point index (exclusive)
+     * @param leaf Count of points hulled sequentially by a single task
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    HullTask(final double[] coords, final int first, final int until,
+        final int leaf) {
+        super();
+        this.coords = coords;
+        this.first = first;
+        this.until = until;
+        this.leaf = leaf;
+    }
+
+    @Override
+    protected double[] compute() {
+        final double[] result;
+        if (this.until - this.first <= this.leaf) {
+            result = new Chain(this.coords, this.first, this.until).vertices();
+        } else {
+            final int mid = (this.first + this.until) >>> 1;
+            final HullTask low = new HullTask(
+                this.coords, this.first, mid, this.leaf
+            );
+            low.fork();
+            final double[] high = new HullTask(
+                this.coords, mid, this.until, this.leaf
+            ).compute();
+            final double[] lower = low.join();
+            final double[] merged = new double[lower.length + high.length];
+            System.arraycopy(lower, 0, merged, 0, lower.length);
+            System.arraycopy(high, 0, merged, lower.length, high.length);
+            result = new Chain(merged, 0, merged.length / 2).vertices();
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import com.jeometry.twod.line.Polygon;
+import com.jeometry.twod.predicate.Orientation;
+import java.util.Arrays;
+
+/**
+ * Convex hull of a stream of points with double coordinates. Points inside
+ * the current hull are discarded in O(log h) time by a binary search over
+ * the hull vertices fan. Other points are buffered, and merged with the
+ * hull vertices once the buffer outgrows the hull, so that each point costs
+ * O(log n) amortized time. This class is not thread safe.
+ * @since 0.4
+ */
+public final class IncrementalHull {
+
+    /**
+     * Minimum count of points buffered before being merged.
+     */
+    private static final int BUFFER = 1024;
+
+    /**
+     * Minimum count of vertices of a hull with an interior.
+     */
+    private static final int MIN = 3;
+
+    /**
+     * Orientation predicate.
+     */
+    private final Orientation orient;
+
+    /**
+     * Interleaved (x, y) hull vertices, counter-clockwise.
+     */
+    private double[] hull;
+
+    /**
+     * Interleaved (x, y) buffered points coordinates.
+     */
+    private double[] buffer;
+
+    /**
+     * Count of buffered points.
+     */
+    private int buffered;
+
+    /**
+     * Constructor. Builds the hull of no points.
+     */
+    public IncrementalHull() {
+        this.orient = new Orientation();
+        this.hull = new double[0];
+        this.buffer = new double[2 * IncrementalHull.BUFFER];
+    }
+
+    /**
+     * Adds a point.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     */
+    public void add(final double xcoor, final double ycoor) {
+        if (!this.inside(xcoor, ycoor)) {
+            if (2 * this.buffered == this.buffer.length) {
+                this.merge();
+            }
+            if (2 * this.buffered == this.buffer.length) {
+                this.buffer = Arrays.copyOf(this.buffer, 2 * this.buffer.length);
+            }
+            this.buffer[2 * this.buffered] = xcoor;
+            this.buffer[2 * this.buffered + 1] = ycoor;
+            this.buffered += 1;
+        }
+    }
+
+    /**
+     * Adds points.
+     * @param coords Interleaved (x, y) points coordinates
+     */
+    public void add(final double[] coords) {
+        for (int idx = 0; idx + 1 < coords.length; idx += 2) {
+            this.add(coords[idx], coords[idx + 1]);
+        }
+    }
+
+    /**
+     * Gives the hull vertices of the points added so far.
+     * @return Interleaved (x, y) hull vertices, counter-clockwise from the
+     *  lowest of the leftmost points
+     */
+    public double[] vertices() {
+        if (this.buffered > 0) {
+            this.merge();
+        }
+        return this.hull.clone();
+    }
+
+    /**
+     * Builds the hull polygon of the points added so far.
+     * @return Polygon
+     */
+    public Polygon<Double> polygon() {
+        return ConvexHull.polygon(this.vertices());
+    }
+
+    /**
+     * Merges the buffered points with the hull vertices.
+     */
+    private void merge() {
+        final double[] merged = Arrays.copyOf(
+            this.hull, this.hull.length + 2 * this.buffered
+        );
+        System.arraycopy(
+            this.buffer, 0, merged, this.hull.length, 2 * this.buffered
+        );
+        this.hull = new Chain(merged, 0, merged.length / 2).vertices();
+        this.buffered = 0;
+        if (this.buffer.length < 2 * this.hull.length) {
+            this.buffer = new double[2 * this.hull.length];
+        }
+    }
+
+    /**
+     * Checks whether a point is inside the hull or on its boundary, by
+     * a binary search of the fan triangle around the first vertex.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return True if the point is inside the hull
+     */
+    private boolean inside(final double xcoor, final double ycoor) {
+        final int size = this.hull.length / 2;
+        boolean result = false;
+        if (size >= IncrementalHull.MIN
+            && this.sign(0, 1, xcoor, ycoor) >= 0
+            && this.sign(0, size - 1, xcoor, ycoor) <= 0) {
+            int low = 1;
+            int high = size - 1;
+            while (high - low > 1) {
+                final int mid = (low + high) >>> 1;
+                if (this.sign(0, mid, xcoor, ycoor) >= 0) {
+                    low = mid;
+                } else {
+                    high = mid;
+                }
+            }
+            result = this.sign(low, high, xcoor, ycoor) >= 0;
+        }
+        return result;
+    }
+
+    /**
+     * Gives the orientation of a point relative to two hull vertices.
+     * @param first First vertex index
+     * @param second Second vertex index
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return Orientation sign
+     */
+    private int sign(final int first, final int second, final double xcoor,
+        final double ycoor) {
+        return this.orient.sign(
+            this.hull[2 * first], this.hull[2 * first + 1],
+            this.hull[2 * second], this.hull[2 * second + 1],
+            xcoor, ycoor
+        );
+    }
+
+}
@@ -0,0 +1,189 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import java.util.Arrays;
+
+/**
+ * Boolean operations between two regions. The rings edges of both regions
+ * are split at their intersections in an {@link Arrangement}, the faces of
+ * the arrangement are labeled with the regions covering them by the
+ * even-odd rule, see {@link Faces}, and the result boundary is traced along
+ * the edges between faces inside and outside the result, keeping the
+ * result on their left. Rings may overlap, touch or cross themselves.
+ * Intersections are found with exact predicates, and crossing points are
+ * rounded to doubles.
+ * @since 0.4
+ */
+public final class Overlay {
+
+    /**
+     * Union operation.
+     */
+    private static final int UNION = 0;
+
+    /**
+     * Intersection operation.
+     */
+    private static final int INTERSECTION = 1;
+
+    /**
+     * Difference operation.
+     */
+    private static final int DIFFERENCE = 2;
+
+    /**
+     * Subject region.
+     */
+    private final Region subject;
+
+    /**
+     * Clip region.
+     */
+    private final Region clip;
+
+    /**
+     * Constructor.
+     * @param subject Subject region
+     * @param clip Clip region
+     */
+    public Overlay(final Region subject, final Region clip) {
+        this.subject = subject;
+        this.clip = clip;
+    }
+
+    /**
+     * Builds the union of the regions.
+     * @return Region
+     */
+    public Region union() {
+        return this.apply(Overlay.UNION);
+    }
+
+    /**
+     * Builds the intersection of the regions.
+     * @return Region
+     */
+    public Region intersection() {
+        return this.apply(Overlay.INTERSECTION);
+    }
+
+    /**
+     * Builds the difference of the subject region minus the clip region.
+     * @return Region
+     */
+    public Region difference() {
+        return this.apply(Overlay.DIFFERENCE);
+    }
+
+    /**
+     * Applies an operation.
+     * @param operation Operation
+     * @return Region
+     */
+    private Region apply(final int operation) {
+        final Arrangement arrangement = new Arrangement(
+            Overlay.segments(this.subject, this.clip)
+        );
+        final Faces faces = new Faces(arrangement, this.subject, this.clip);
+        final int size = faces.edges();
+        final int[] selected = new int[2 * size];
+        int count = 0;
+        for (int edge = 0; edge < size; ++edge) {
+            final boolean left = Overlay.inside(operation, faces.left(edge));
+            if (left != Overlay.inside(operation, faces.right(edge))) {
+                if (left) {
+                    selected[2 * count] = faces.from(edge);
+                    selected[2 * count + 1] = faces.to(edge);
+                } else {
+                    selected[2 * count] = faces.to(edge);
+                    selected[2 * count + 1] = faces.from(edge);
+                }
+                count += 1;
+            }
+        }
+        return new Region(
+            new Rings(arrangement, Arrays.copyOf(selected, 2 * count)).rings()
+        );
+    }
+
+    /**
+     * Checks whether a face is inside the result of an operation.
+     * @param operation Operation
+     * @param label Regions covering the face, see {@link Faces}
+     * @return True if the face is inside the result
+     */
+    private static boolean inside(final int operation, final int label) {
+        final boolean result;
+        if (operation == Overlay.UNION) {
+            result = label != 0;
+        } else if (operation == Overlay.INTERSECTION) {
+            result = label == (Faces.SUBJECT | Faces.CLIP);
+        } else {
+            result = label == Faces.SUBJECT;
+        }
+        return result;
+    }
+
+    /**
+     * Counts the rings edges of a region.
+     * @param region Region
+     * @return Count of edges
+     */
+    static int count(final Region region) {
+        int result = 0;
+        for (final PackedPolygon ring : region.rings()) {
+            result += ring.size();
+        }
+        return result;
+    }
+
+    /**
+     * Packs the rings edges of two regions.
+     * @param first First region
+     * @param second Second region
+     * @return Segments coordinates, as (x1, y1, x2, y2) per segment
+     */
+    private static double[] segments(final Region first, final Region second) {
+        final double[] result = new double[
+            4 * (Overlay.count(first) + Overlay.count(second))
+        ];
+        int pos = 0;
+        for (final Region region : new Region[] {first, second}) {
+            for (final PackedPolygon ring : region.rings()) {
+                final int size = ring.size();
+                for (int idx = 0; idx < size; ++idx) {
+                    final int next = (idx + 1) % size;
+                    result[pos] = ring.xcoor(idx);
+                    result[pos + 1] = ring.ycoor(idx);
+                    result[pos + 2] = ring.xcoor(next);
+                    result[pos + 3] = ring.ycoor(next);
+                    pos += 4;
+                }
+            }
+        }
+        return result;
+    }
+
+}
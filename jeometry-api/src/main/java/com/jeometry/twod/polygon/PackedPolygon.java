@@ -0,0 +1,272 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import com.aljebra.field.Field;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import com.google.common.base.Preconditions;
+import com.jeometry.twod.bounds.Bounded;
+import com.jeometry.twod.bounds.Box;
+import com.jeometry.twod.line.Polyline;
+import com.jeometry.twod.point.XyPoint;
+import com.jeometry.twod.predicate.Orientation;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A simple polygon with double coordinates, packed in primitive arrays.
+ * Vertices form an implicitly closed ring: the last vertex is linked to the
+ * first one. Measures are computed in a single pass over the vertices, and
+ * point containment by a linear crossing count. For repeated containment
+ * queries against the same polygon, see {@link Geofence}.
+ * @since 0.4
+ */
+public final class PackedPolygon implements Bounded {
+
+    /**
+     * Minimum count of vertices.
+     */
+    private static final int MIN = 3;
+
+    /**
+     * Vertices X coordinates.
+     */
+    private final double[] xcoors;
+
+    /**
+     * Vertices Y coordinates.
+     */
+    private final double[] ycoors;
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) vertices coordinates. A last vertex
+     *  equal to the first one is ignored.
+     */
+    public PackedPolygon(final double[] coords) {
+        Preconditions.checkArgument(
+            coords.length % 2 == 0,
+            "Expected interleaved coordinates, got %s values", coords.length
+        );
+        int size = coords.length / 2;
+        if (size > 1 && coords[0] == coords[2 * size - 2]
+            && coords[1] == coords[2 * size - 1]) {
+            size -= 1;
+        }
+        Preconditions.checkArgument(
+            size >= PackedPolygon.MIN,
+            "A polygon needs at least %s vertices, got %s", PackedPolygon.MIN, size
+        );
+        this.xcoors = new double[size];
+        this.ycoors = new double[size];
+        for (int idx = 0; idx < size; ++idx) {
+            this.xcoors[idx] = coords[2 * idx];
+            this.ycoors[idx] = coords[2 * idx + 1];
+        }
+    }
+
+    /**
+     * Constructor.
+     * @param polyline Polyline, such as a {@link com.jeometry.twod.line.Polygon}
+     */
+    public PackedPolygon(final Polyline<Double> polyline) {
+        this(polyline, new Decimal());
+    }
+
+    /**
+     * Constructor.
+     * @param polyline Polyline, such as a {@link com.jeometry.twod.line.Polygon}
+     * @param field Field for scalar operations
+     */
+    public PackedPolygon(final Polyline<Double> polyline,
+        final Field<Double> field) {
+        this(PackedPolygon.coords(polyline.points(), field));
+    }
+
+    /**
+     * Gives the count of vertices.
+     * @return Count of vertices
+     */
+    public int size() {
+        return this.xcoors.length;
+    }
+
+    /**
+     * Gives a vertex X coordinate.
+     * @param vertex Vertex index
+     * @return X coordinate
+     */
+    public double xcoor(final int vertex) {
+        return this.xcoors[vertex];
+    }
+
+    /**
+     * Gives a vertex Y coordinate.
+     * @param vertex Vertex index
+     * @return Y coordinate
+     */
+    public double ycoor(final int vertex) {
+        return this.ycoors[vertex];
+    }
+
+    /**
+     * Calculates the signed area, positive if vertices turn counterclockwise.
+     * @return Signed area
+     */
+    public double signedArea() {
+        final int size = this.xcoors.length;
+        final double xorig = this.xcoors[0];
+        final double yorig = this.ycoors[0];
+        double twice = 0.;
+        for (int idx = 1; idx < size - 1; ++idx) {
+            twice += (this.xcoors[idx] - xorig) * (this.ycoors[idx + 1] - yorig)
+                - (this.xcoors[idx + 1] - xorig) * (this.ycoors[idx] - yorig);
+        }
+        return twice / 2.;
+    }
+
+    /**
+     * Calculates the area.
+     * @return Area
+     */
+    public double area() {
+        return Math.abs(this.signedArea());
+    }
+
+    /**
+     * Calculates the perimeter.
+     * @return Perimeter
+     */
+    public double perimeter() {
+        final int size = this.xcoors.length;
+        double result = 0.;
+        for (int idx = 0; idx < size; ++idx) {
+            final int next = (idx + 1) % size;
+            result += Math.hypot(
+                this.xcoors[next] - this.xcoors[idx],
+                this.ycoors[next] - this.ycoors[idx]
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the area centroid. Polygons with no area give the mean of
+     * their vertices.
+     * @return Centroid
+     */
+    public Vect<Double> centroid() {
+        final int size = this.xcoors.length;
+        final double xorig = this.xcoors[0];
+        final double yorig = this.ycoors[0];
+        double twice = 0.;
+        double xsum = 0.;
+        double ysum = 0.;
+        for (int idx = 1; idx < size - 1; ++idx) {
+            final double xfirst = this.xcoors[idx] - xorig;
+            final double yfirst = this.ycoors[idx] - yorig;
+            final double xsecond = this.xcoors[idx + 1] - xorig;
+            final double ysecond = this.ycoors[idx + 1] - yorig;
+            final double cross = xfirst * ysecond - xsecond * yfirst;
+            twice += cross;
+            xsum += cross * (xfirst + xsecond);
+            ysum += cross * (yfirst + ysecond);
+        }
+        final double xcoor;
+        final double ycoor;
+        if (twice == 0.) {
+            xcoor = Arrays.stream(this.xcoors).average().getAsDouble();
+            ycoor = Arrays.stream(this.ycoors).average().getAsDouble();
+        } else {
+            xcoor = xorig + xsum / (3. * twice);
+            ycoor = yorig + ysum / (3. * twice);
+        }
+        return new XyPoint<>(
+            new Scalar.Default<>(xcoor), new Scalar.Default<>(ycoor)
+        );
+    }
+
+    /**
+     * Checks whether a point is inside the polygon, by counting the edges
+     * crossed by a vertical ray below the point, in linear time. Points on
+     * the boundary may be reported either inside or outside.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return True if the point is inside the polygon
+     */
+    public boolean contains(final double xcoor, final double ycoor) {
+        final Orientation orient = new Orientation();
+        final int size = this.xcoors.length;
+        boolean result = false;
+        for (int idx = 0; idx < size; ++idx) {
+            final int next = (idx + 1) % size;
+            final int left;
+            final int right;
+            if (this.xcoors[idx] < this.xcoors[next]) {
+                left = idx;
+                right = next;
+            } else {
+                left = next;
+                right = idx;
+            }
+            if (this.xcoors[left] <= xcoor && xcoor < this.xcoors[right]
+                && orient.sign(
+                    this.xcoors[left], this.ycoors[left],
+                    this.xcoors[right], this.ycoors[right], xcoor, ycoor
+                ) > 0) {
+                result = !result;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Box box() {
+        return new Box(
+            Arrays.stream(this.xcoors).min().getAsDouble(),
+            Arrays.stream(this.ycoors).min().getAsDouble(),
+            Arrays.stream(this.xcoors).max().getAsDouble(),
+            Arrays.stream(this.ycoors).max().getAsDouble()
+        );
+    }
+
+    /**
+     * Packs points coordinates.
+     * @param points Points
+     * @param field Field for scalar operations
+     * @return Interleaved (x, y) coordinates
+     */
+    private static double[] coords(final List<Vect<Double>> points,
+        final Field<Double> field) {
+        final double[] result = new double[2 * points.size()];
+        for (int idx = 0; idx < points.size(); ++idx) {
+            result[2 * idx] = field.actual(points.get(idx).coords()[0]);
+            result[2 * idx + 1] = field.actual(points.get(idx).coords()[1]);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+/**
+ * In place sort of interleaved (x, y) coordinates, by X then Y, without
+ * boxing the points. Uses a quicksort with a median of three pivot,
+ * finished by an insertion sort on small ranges.
+ * @since 0.4
+ */
+final class PairSort {
+
+    /**
+     * Count of points from which ranges are partitioned.
+     */
+    private static final int SMALL = 16;
+
+    /**
+     * Interleaved (x, y) coordinates.
+     */
+    private final double[] coords;
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) coordinates, sorted in place
+     */
+    PairSort(final double[] coords) {
+        this.coords = coords;
+    }
+
+    /**
+     * Sorts a range of points.
+     * @param first First point index (inclusive)
+     * @param until Last point index (exclusive)
+     */
+    public void sort(final int first, final int until) {
+        int from = first;
+        int end = until;
+        while (end - from > PairSort.SMALL) {
+            final int split = this.partition(from, end);
+            if (split - from < end - split) {
+                this.sort(from, split);
+                from = split;
+            } else {
+                this.sort(split, end);
+                end = split;
+            }
+        }
+        this.insertion(from, end);
+    }
+
+    /**
+     * Removes the duplicates of a sorted range of points, by moving the
+     * distinct points to its start.
+     * @param first First point index (inclusive)
+     * @param until Last point index (exclusive)
+     * @return Index after the last distinct point
+     */
+    public int distinct(final int first, final int until) {
+        int result = first;
+        for (int idx = first; idx < until; ++idx) {
+            if (result == first || this.compare(result - 1, idx) != 0) {
+                this.coords[2 * result] = this.coords[2 * idx];
+                this.coords[2 * result + 1] = this.coords[2 * idx + 1];
+                result += 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Partitions a range of points around a median of three pivot, so that
+     * points before the split are not greater than points after it.
+     * @param first First point index (inclusive)
+     * @param until Last point index (exclusive)
+     * @return Split index, strictly inside the range
+     */
+    private int partition(final int first, final int until) {
+        final int mid = (first + until) >>> 1;
+        if (this.compare(mid, first) < 0) {
+            this.swap(mid, first);
+        }
+        if (this.compare(until - 1, first) < 0) {
+            this.swap(until - 1, first);
+        }
+        if (this.compare(until - 1, mid) < 0) {
+            this.swap(until - 1, mid);
+        }
+        final double xpivot = this.coords[2 * mid];
+        final double ypivot = this.coords[2 * mid + 1];
+        int low = first - 1;
+        int high = until;
+        int result = -1;
+        while (result < 0) {
+            do {
+                low += 1;
+            } while (this.compare(low, xpivot, ypivot) < 0);
+            do {
+                high -= 1;
+            } while (this.compare(high, xpivot, ypivot) > 0);
+            if (low < high) {
+                this.swap(low, high);
+            } else {
+                result = high + 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sorts a small range of points by insertion.
+     * @param first First point index (inclusive)
+     * @param until Last point index (exclusive)
+     */
+    private void insertion(final int first, final int until) {
+        for (int idx = first + 1; idx < until; ++idx) {
+            int pos = idx;
+            while (pos > first && this.compare(pos - 1, pos) > 0) {
+                this.swap(pos - 1, pos);
+                pos -= 1;
+            }
+        }
+    }
+
+    /**
+     * Compares two points, by X then Y.
+     * @param first First point index
+     * @param second Second point index
+     * @return Comparison result
+     */
+    private int compare(final int first, final int second) {
+        return this.compare(
+            first, this.coords[2 * second], this.coords[2 * second + 1]
+        );
+    }
+
+    /**
+     * Compares a point to coordinates, by X then Y.
+     * @param point Point index
+     * @param xcoor X coordinate
+     * @param ycoor Y coordinate
+     * @return Comparison result
+     */
+    private int compare(final int point, final double xcoor,
+        final double ycoor) {
+        int result = Double.compare(this.coords[2 * point], xcoor);
+        if (result == 0) {
+            result = Double.compare(this.coords[2 * point + 1], ycoor);
+        }
+        return result;
+    }
+
+    /**
+     * Swaps two points.
+     * @param first First point index
+     * @param second Second point index
+     */
+    private void swap(final int first, final int second) {
+        final double xcoor = this.coords[2 * first];
+        final double ycoor = this.coords[2 * first + 1];
+        this.coords[2 * first] = this.coords[2 * second];
+        this.coords[2 * first + 1] = this.coords[2 * second + 1];
+        this.coords[2 * second] = xcoor;
+        this.coords[2 * second + 1] = ycoor;
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import com.jeometry.twod.bounds.Bounded;
+import com.jeometry.twod.bounds.Box;
+import com.jeometry.twod.line.Polygon;
+import com.jeometry.twod.point.XyPoint;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A region of the plane bounded by rings, such as polygons with holes.
+ * Rings are oriented with the region on their left: outer rings are
+ * counterclockwise and holes are clockwise. Regions are built from
+ * polygons, and by {@link Overlay} and {@link Clipping}.
+ * @since 0.4
+ */
+public final class Region implements Bounded {
+
+    /**
+     * Oriented rings.
+     */
+    private final List<PackedPolygon> rings;
+
+    /**
+     * Constructor.
+     * @param rings Rings, outer rings counterclockwise and holes clockwise
+     */
+    public Region(final List<PackedPolygon> rings) {
+        this.rings = Collections.unmodifiableList(new ArrayList<>(rings));
+    }
+
+    /**
+     * Constructor. Builds the region inside a polygon.
+     * @param polygon Polygon, of any orientation
+     */
+    public Region(final PackedPolygon polygon) {
+        this(polygon, Collections.<PackedPolygon>emptyList());
+    }
+
+    /**
+     * Constructor. Builds the region inside a polygon.
+     * @param polygon Polygon, of any orientation
+     */
+    public Region(final Polygon<Double> polygon) {
+        this(new PackedPolygon(polygon));
+    }
+
+    /**
+     * Constructor. Builds the region inside a polygon with holes.
+     * @param outer Outer polygon, of any orientation
+     * @param holes Holes polygons inside the outer one, of any orientation
+     */
+    public Region(final PackedPolygon outer, final List<PackedPolygon> holes) {
+        this(Region.oriented(outer, holes));
+    }
+
+    /**
+     * Gives the rings.
+     * @return Rings, outer rings counterclockwise and holes clockwise
+     */
+    public List<PackedPolygon> rings() {
+        return this.rings;
+    }
+
+    /**
+     * Gives the rings as polygons.
+     * @return Polygons, outer rings counterclockwise and holes clockwise
+     */
+    public List<Polygon<Double>> polygons() {
+        final List<Polygon<Double>> result = new ArrayList<>(this.rings.size());
+        for (final PackedPolygon ring : this.rings) {
+            final List<Vect<Double>> points = new ArrayList<>(ring.size());
+            for (int idx = 0; idx < ring.size(); ++idx) {
+                points.add(
+                    new XyPoint<>(
+                        new Scalar.Default<>(ring.xcoor(idx)),
+                        new Scalar.Default<>(ring.ycoor(idx))
+                    )
+                );
+            }
+            result.add(new Polygon<>(points));
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the area, as the sum of the rings signed areas.
+     * @return Area
+     */
+    public double area() {
+        double result = 0.;
+        for (final PackedPolygon ring : this.rings) {
+            result += ring.signedArea();
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether a point is inside the region. Points on the boundary
+     * may be reported either inside or outside.
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return True if the point is inside the region
+     */
+    public boolean contains(final double xcoor, final double ycoor) {
+        boolean result = false;
+        for (final PackedPolygon ring : this.rings) {
+            if (ring.contains(xcoor, ycoor)) {
+                result = !result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether the region is empty.
+     * @return True if the region has no rings
+     */
+    public boolean empty() {
+        return this.rings.isEmpty();
+    }
+
+    /**
+     * Gives the bounding box. An empty region has the box of the whole
+     * plane, so that box based culling keeps it.
+     * @return Bounding box
+     */
+    @Override
+    public Box box() {
+        Box result = new Box();
+        for (int idx = 0; idx < this.rings.size(); ++idx) {
+            if (idx == 0) {
+                result = this.rings.get(idx).box();
+            } else {
+                result = result.union(this.rings.get(idx).box());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Orients a polygon counterclockwise and its holes clockwise.
+     * @param outer Outer polygon
+     * @param holes Holes polygons
+     * @return Oriented rings
+     */
+    private static List<PackedPolygon> oriented(final PackedPolygon outer,
+        final List<PackedPolygon> holes) {
+        final List<PackedPolygon> result = new ArrayList<>(holes.size() + 1);
+        result.add(Region.oriented(outer, true));
+        for (final PackedPolygon hole : holes) {
+            result.add(Region.oriented(hole, false));
+        }
+        return result;
+    }
+
+    /**
+     * Orients a ring.
+     * @param ring Ring
+     * @param ccw Whether to orient the ring counterclockwise, or clockwise
+     * @return Oriented ring
+     */
+    private static PackedPolygon oriented(final PackedPolygon ring,
+        final boolean ccw) {
+        final PackedPolygon result;
+        if (ring.signedArea() > 0. == ccw) {
+            result = ring;
+        } else {
+            final int size = ring.size();
+            final double[] coords = new double[2 * size];
+            for (int idx = 0; idx < size; ++idx) {
+                coords[2 * idx] = ring.xcoor(size - 1 - idx);
+                coords[2 * idx + 1] = ring.ycoor(size - 1 - idx);
+            }
+            result = new PackedPolygon(coords);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,224 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import com.jeometry.twod.predicate.Orientation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Closed rings traced along directed edges of an arrangement. From each
+ * node, a path leaves by the unused edge making the sharpest right turn,
+ * and a ring is closed as soon as the path comes back to one of its
+ * nodes, so that regions touching at a node get separate rings. Straight
+ * and backtracking vertices are dropped, and so are rings with no area.
+ * Open chains, only left by edges not entering and leaving each node
+ * equally, are released so that their edges may still close other rings.
+ * @since 0.4
+ */
+final class Rings {
+
+    /**
+     * Arrangement.
+     */
+    private final Arrangement arrangement;
+
+    /**
+     * Directed edges, as (first node, second node) pairs.
+     */
+    private final int[] edges;
+
+    /**
+     * Constructor.
+     * @param arrangement Arrangement
+     * @param edges Directed edges, as (first node, second node) pairs
+     */
+    Rings(final Arrangement arrangement, final int[] edges) {
+        this.arrangement = arrangement;
+        this.edges = edges;
+    }
+
+    /**
+     * Traces the rings.
+     * @return Rings
+     */
+    public List<PackedPolygon> rings() {
+        final int size = this.edges.length / 2;
+        final int[] offsets = new int[this.arrangement.nodes() + 1];
+        for (int edge = 0; edge < size; ++edge) {
+            offsets[this.edges[2 * edge] + 1] += 1;
+        }
+        for (int node = 0; node < this.arrangement.nodes(); ++node) {
+            offsets[node + 1] += offsets[node];
+        }
+        final int[] outgoing = new int[size];
+        final int[] slots = Arrays.copyOf(offsets, offsets.length);
+        for (int edge = 0; edge < size; ++edge) {
+            outgoing[slots[this.edges[2 * edge]]] = edge;
+            slots[this.edges[2 * edge]] += 1;
+        }
+        final boolean[] used = new boolean[size];
+        final int[] visits = new int[this.arrangement.nodes()];
+        Arrays.fill(visits, -1);
+        final int[] path = new int[size];
+        final List<PackedPolygon> result = new ArrayList<>(0);
+        for (int first = 0; first < size; ++first) {
+            int count = 0;
+            int edge = first;
+            if (used[first]) {
+                edge = -1;
+            }
+            while (edge >= 0) {
+                used[edge] = true;
+                visits[this.edges[2 * edge]] = count;
+                path[count] = edge;
+                count += 1;
+                final int node = this.edges[2 * edge + 1];
+                if (visits[node] >= 0) {
+                    final int start = visits[node];
+                    this.close(path, start, count, visits, result);
+                    count = start;
+                }
+                if (count == 0) {
+                    edge = -1;
+                } else {
+                    edge = this.turn(path[count - 1], offsets, outgoing, used);
+                }
+            }
+            for (int pos = 0; pos < count; ++pos) {
+                used[path[pos]] = false;
+                visits[this.edges[2 * path[pos]]] = -1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Closes a ring along the end of a path.
+     * @param path Path edges
+     * @param start First edge of the ring in the path (inclusive)
+     * @param until Last edge of the ring in the path (exclusive)
+     * @param visits Position in the path of the first node of each path
+     *  edge, or -1 for other nodes
+     * @param rings Rings
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void close(final int[] path, final int start, final int until,
+        final int[] visits, final List<PackedPolygon> rings) {
+        final double[] ring = new double[2 * (until - start)];
+        for (int pos = start; pos < until; ++pos) {
+            final int node = this.edges[2 * path[pos]];
+            ring[2 * (pos - start)] = this.arrangement.xcoor(node);
+            ring[2 * (pos - start) + 1] = this.arrangement.ycoor(node);
+            visits[node] = -1;
+        }
+        final double[] vertices = Rings.simplified(ring);
+        if (vertices.length >= 2 * 3) {
+            final PackedPolygon polygon = new PackedPolygon(vertices);
+            if (polygon.signedArea() != 0.) {
+                rings.add(polygon);
+            }
+        }
+    }
+
+    /**
+     * Chooses the unused edge leaving the end node of an edge with the
+     * sharpest right turn.
+     * @param edge Incoming edge
+     * @param offsets Offsets of the outgoing edges of nodes
+     * @param outgoing Outgoing edges of nodes
+     * @param used Used edges
+     * @return Outgoing edge, or -1 if there is none
+     */
+    private int turn(final int edge, final int[] offsets, final int[] outgoing,
+        final boolean[] used) {
+        final int node = this.edges[2 * edge + 1];
+        final double back = this.angle(node, this.edges[2 * edge]);
+        int result = -1;
+        double best = Double.POSITIVE_INFINITY;
+        for (int pos = offsets[node]; pos < offsets[node + 1]; ++pos) {
+            final int other = outgoing[pos];
+            if (!used[other]) {
+                double turn = this.angle(node, this.edges[2 * other + 1]) - back;
+                if (turn <= 0.) {
+                    turn += 2. * Math.PI;
+                }
+                if (turn < best) {
+                    best = turn;
+                    result = other;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the direction angle from a node to another.
+     * @param from First node
+     * @param to Second node
+     * @return Angle
+     */
+    private double angle(final int from, final int to) {
+        return Math.atan2(
+            this.arrangement.ycoor(to) - this.arrangement.ycoor(from),
+            this.arrangement.xcoor(to) - this.arrangement.xcoor(from)
+        );
+    }
+
+    /**
+     * Drops the vertices of a ring collinear with their neighbours.
+     * @param ring Interleaved (x, y) ring vertices
+     * @return Interleaved (x, y) ring vertices
+     */
+    private static double[] simplified(final double[] ring) {
+        final Orientation orient = new Orientation();
+        double[] result = ring;
+        boolean changed = true;
+        while (changed && result.length >= 2 * 3) {
+            changed = false;
+            final int size = result.length / 2;
+            final double[] kept = new double[result.length];
+            int count = 0;
+            for (int idx = 0; idx < size; ++idx) {
+                final int prev = (idx + size - 1) % size;
+                final int next = (idx + 1) % size;
+                if (orient.sign(
+                    result[2 * prev], result[2 * prev + 1],
+                    result[2 * idx], result[2 * idx + 1],
+                    result[2 * next], result[2 * next + 1]
+                ) == 0) {
+                    changed = true;
+                } else {
+                    kept[2 * count] = result[2 * idx];
+                    kept[2 * count + 1] = result[2 * idx + 1];
+                    count += 1;
+                }
+            }
+            result = Arrays.copyOf(kept, 2 * count);
+        }
+        return result;
+    }
+
+}
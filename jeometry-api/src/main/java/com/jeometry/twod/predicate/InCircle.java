@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.predicate;
+
+import java.math.BigDecimal;
+
+/**
+ * Robust in-circle predicate of four points given by double coordinates.
+ * As for {@link Orientation}, the determinant is first evaluated in double
+ * precision and trusted when larger than a forward error bound, and
+ * evaluated exactly with {@link BigDecimal} otherwise.
+ * @since 0.4
+ */
+public final class InCircle {
+
+    /**
+     * Relative error bound of the double determinant evaluation, which is
+     * (10 + 96 eps) eps where eps is half a double ulp of one.
+     */
+    private static final double ERROR = 1.1102230246251577e-15;
+
+    /**
+     * Checks where a point lies relative to the circle through three
+     * points, given counterclockwise.
+     * @param axcoor First point X coordinate
+     * @param aycoor First point Y coordinate
+     * @param bxcoor Second point X coordinate
+     * @param bycoor Second point Y coordinate
+     * @param cxcoor Third point X coordinate
+     * @param cycoor Third point Y coordinate
+     * @param dxcoor Tested point X coordinate
+     * @param dycoor Tested point Y coordinate
+     * @return 1 if the tested point is inside the circle, -1 if it is
+     *  outside and 0 if it is on the circle. The sign is reversed if the
+     *  three points are given clockwise
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    public int sign(final double axcoor, final double aycoor,
+        final double bxcoor, final double bycoor, final double cxcoor,
+        final double cycoor, final double dxcoor, final double dycoor) {
+        final double adx = axcoor - dxcoor;
+        final double ady = aycoor - dycoor;
+        final double bdx = bxcoor - dxcoor;
+        final double bdy = bycoor - dycoor;
+        final double cdx = cxcoor - dxcoor;
+        final double cdy = cycoor - dycoor;
+        final double alift = adx * adx + ady * ady;
+        final double blift = bdx * bdx + bdy * bdy;
+        final double clift = cdx * cdx + cdy * cdy;
+        final double det = alift * (bdx * cdy - cdx * bdy)
+            + blift * (cdx * ady - adx * cdy)
+            + clift * (adx * bdy - bdx * ady);
+        final double permanent =
+            (Math.abs(bdx * cdy) + Math.abs(cdx * bdy)) * alift
+            + (Math.abs(cdx * ady) + Math.abs(adx * cdy)) * blift
+            + (Math.abs(adx * bdy) + Math.abs(bdx * ady)) * clift;
+        final int result;
+        if (Math.abs(det) > InCircle.ERROR * permanent) {
+            result = (int) Math.signum(det);
+        } else {
+            result = InCircle.exact(
+                new double[] {
+                    axcoor, aycoor, bxcoor, bycoor,
+                    cxcoor, cycoor, dxcoor, dycoor,
+                }
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates the sign of the in-circle determinant exactly.
+     * @param coords Interleaved (x, y) coordinates of the four points
+     * @return Determinant sign
+     */
+    private static int exact(final double[] coords) {
+        final BigDecimal[] diffs = new BigDecimal[6];
+        final BigDecimal[] lifts = new BigDecimal[3];
+        for (int idx = 0; idx < 3; ++idx) {
+            diffs[2 * idx] = new BigDecimal(coords[2 * idx])
+                .subtract(new BigDecimal(coords[6]));
+            diffs[2 * idx + 1] = new BigDecimal(coords[2 * idx + 1])
+                .subtract(new BigDecimal(coords[7]));
+            lifts[idx] = diffs[2 * idx].multiply(diffs[2 * idx])
+                .add(diffs[2 * idx + 1].multiply(diffs[2 * idx + 1]));
+        }
+        BigDecimal det = BigDecimal.ZERO;
+        for (int idx = 0; idx < 3; ++idx) {
+            final int next = (idx + 1) % 3;
+            final int after = (idx + 2) % 3;
+            det = det.add(
+                lifts[idx].multiply(
+                    diffs[2 * next].multiply(diffs[2 * after + 1]).subtract(
+                        diffs[2 * after].multiply(diffs[2 * next + 1])
+                    )
+                )
+            );
+        }
+        return det.signum();
+    }
+
+}
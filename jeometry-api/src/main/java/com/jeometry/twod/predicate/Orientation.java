@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.predicate;
+
+import java.math.BigDecimal;
+
+/**
+ * Robust orientation predicate of three points given by double coordinates.
+ * The sign of the orientation determinant is first evaluated in double
+ * precision, and trusted when the result is larger than a forward error
+ * bound, or when its two products have opposite signs or one is zero, as
+ * for a third point sharing a coordinate with another one. Otherwise, the determinant is evaluated
+ * exactly with {@link BigDecimal}, so that the sign is always the one of
+ * exact arithmetic on the given coordinates.
+ * @since 0.4
+ */
+public final class Orientation {
+
+    /**
+     * Relative error bound of the double determinant evaluation, which is
+     * (3 + 16 eps) eps where eps is half a double ulp of one.
+     */
+    private static final double ERROR = 3.3306690738754716e-16;
+
+    /**
+     * Calculates the orientation of three points.
+     * @param axcoor First point X coordinate
+     * @param aycoor First point Y coordinate
+     * @param bxcoor Second point X coordinate
+     * @param bycoor Second point Y coordinate
+     * @param cxcoor Third point X coordinate
+     * @param cycoor Third point Y coordinate
+     * @return 1 if the points turn counterclockwise, -1 if they turn
+     *  clockwise and 0 if they are collinear
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public int sign(final double axcoor, final double aycoor,
+        final double bxcoor, final double bycoor, final double cxcoor,
+        final double cycoor) {
+        final double left = (axcoor - cxcoor) * (bycoor - cycoor);
+        final double right = (aycoor - cycoor) * (bxcoor - cxcoor);
+        final double det = left - right;
+        final int result;
+        if (left <= 0. && right >= 0. || left >= 0. && right <= 0.
+            || Math.abs(det) > Orientation.ERROR * (Math.abs(left) + Math.abs(right))) {
+            result = (int) Math.signum(det);
+        } else {
+            result = new BigDecimal(bxcoor).subtract(new BigDecimal(axcoor))
+                .multiply(new BigDecimal(cycoor).subtract(new BigDecimal(aycoor)))
+                .subtract(
+                    new BigDecimal(bycoor).subtract(new BigDecimal(aycoor)).multiply(
+                        new BigDecimal(cxcoor).subtract(new BigDecimal(axcoor))
+                    )
+                ).signum();
+        }
+        return result;
+    }
+
+}
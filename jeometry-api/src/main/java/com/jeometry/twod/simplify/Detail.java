@@ -0,0 +1,369 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.simplify;
+
+import com.aljebra.field.Field;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import com.google.common.base.Preconditions;
+import com.jeometry.twod.line.Polygon;
+import com.jeometry.twod.line.Polyline;
+import com.jeometry.twod.line.PtsPolyline;
+import com.jeometry.twod.point.XyPoint;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Levels of detail of a polyline. Vertices are ranked once by a
+ * {@link Ranking}, and arranged in a tree ordered by index along the
+ * polyline and by decreasing rank from the root, so that the vertices
+ * ranked above any tolerance are extracted in polyline order in time
+ * proportional to their count. A closed polyline, whose last vertex equals
+ * the first one, always keeps at least three distinct vertices.
+ * @since 0.4
+ */
+public final class Detail {
+
+    /**
+     * Index of no vertex.
+     */
+    private static final int NONE = -1;
+
+    /**
+     * Interior vertices always kept by closed polylines.
+     */
+    private static final int KEPT = 2;
+
+    /**
+     * Interleaved (x, y) vertices coordinates.
+     */
+    private final double[] coords;
+
+    /**
+     * Vertices ranks.
+     */
+    private final double[] ranks;
+
+    /**
+     * Vertices ranks, in increasing order.
+     */
+    private final double[] sorted;
+
+    /**
+     * Left child of each vertex in the tree.
+     */
+    private final int[] left;
+
+    /**
+     * Right child of each vertex in the tree.
+     */
+    private final int[] right;
+
+    /**
+     * Tree root vertex.
+     */
+    private final int root;
+
+    /**
+     * Tree depth.
+     */
+    private final int depth;
+
+    /**
+     * Whether the polyline is closed.
+     */
+    private final boolean closed;
+
+    /**
+     * Constructor. Ranks vertices by {@link DouglasPeucker}.
+     * @param polyline Polyline, such as a {@link Polygon}
+     */
+    public Detail(final Polyline<Double> polyline) {
+        this(polyline, new DouglasPeucker());
+    }
+
+    /**
+     * Constructor.
+     * @param polyline Polyline, such as a {@link Polygon}
+     * @param ranking Vertices ranking
+     */
+    public Detail(final Polyline<Double> polyline, final Ranking ranking) {
+        this(polyline, ranking, new Decimal());
+    }
+
+    /**
+     * Constructor.
+     * @param polyline Polyline, such as a {@link Polygon}
+     * @param ranking Vertices ranking
+     * @param field Field for scalar operations
+     */
+    public Detail(final Polyline<Double> polyline, final Ranking ranking,
+        final Field<Double> field) {
+        this(Detail.coords(polyline.points(), field), ranking);
+    }
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) vertices coordinates
+     * @param ranking Vertices ranking
+     */
+    public Detail(final double[] coords, final Ranking ranking) {
+        Preconditions.checkArgument(
+            coords.length % 2 == 0,
+            "Expected interleaved coordinates, got %s values", coords.length
+        );
+        final int size = coords.length / 2;
+        this.coords = coords.clone();
+        this.closed = size > 1 && coords[0] == coords[2 * size - 2]
+            && coords[1] == coords[2 * size - 1];
+        this.ranks = ranking.ranks(this.coords);
+        if (this.closed) {
+            Detail.keep(this.ranks);
+        }
+        this.sorted = this.ranks.clone();
+        Arrays.sort(this.sorted);
+        this.left = new int[size];
+        this.right = new int[size];
+        this.root = Detail.tree(this.ranks, this.left, this.right);
+        this.depth = Detail.depth(this.root, this.left, this.right);
+    }
+
+    /**
+     * Tells whether vertices are the ones leveled by this detail.
+     * @param vertices Interleaved (x, y) vertices coordinates
+     * @return True if the vertices are the same
+     */
+    public boolean levels(final double[] vertices) {
+        return Arrays.equals(this.coords, vertices);
+    }
+
+    /**
+     * Tells whether the resolved vertices of a polyline are the ones leveled
+     * by this detail.
+     * @param polyline Polyline, such as a {@link Polygon}
+     * @param field Field for scalar operations
+     * @return True if the vertices are the same
+     */
+    public boolean levels(final Polyline<Double> polyline,
+        final Field<Double> field) {
+        return this.levels(Detail.coords(polyline.points(), field));
+    }
+
+    /**
+     * Gives the count of vertices.
+     * @return Count of vertices
+     */
+    public int size() {
+        return this.ranks.length;
+    }
+
+    /**
+     * Gives the count of vertices kept at a tolerance.
+     * @param tolerance Tolerance, in world units
+     * @return Count of vertices ranked above the tolerance
+     */
+    public int size(final double tolerance) {
+        int low = 0;
+        int high = this.sorted.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.sorted[mid] > tolerance) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return this.sorted.length - low;
+    }
+
+    /**
+     * Gives the vertices kept at a tolerance, in polyline order.
+     * @param tolerance Tolerance, in world units
+     * @return Interleaved (x, y) coordinates of the vertices ranked above
+     *  the tolerance
+     */
+    public double[] coords(final double tolerance) {
+        final double[] result = new double[2 * this.size(tolerance)];
+        final int[] stack = new int[this.depth];
+        int top = 0;
+        int count = 0;
+        int node = this.root;
+        while (this.visible(node, tolerance) || top > 0) {
+            while (this.visible(node, tolerance)) {
+                stack[top] = node;
+                top += 1;
+                node = this.left[node];
+            }
+            top -= 1;
+            node = stack[top];
+            result[2 * count] = this.coords[2 * node];
+            result[2 * count + 1] = this.coords[2 * node + 1];
+            count += 1;
+            node = this.right[node];
+        }
+        return result;
+    }
+
+    /**
+     * Gives the polyline simplified at a tolerance.
+     * @param tolerance Tolerance, in world units
+     * @return Simplified polyline, a {@link Polygon} if closed
+     */
+    public Polyline<Double> polyline(final double tolerance) {
+        final double[] kept = this.coords(tolerance);
+        int size = kept.length / 2;
+        if (this.closed) {
+            size -= 1;
+        }
+        final List<Vect<Double>> points = new ArrayList<>(size);
+        for (int idx = 0; idx < size; ++idx) {
+            points.add(
+                new XyPoint<>(
+                    new Scalar.Default<>(kept[2 * idx]),
+                    new Scalar.Default<>(kept[2 * idx + 1])
+                )
+            );
+        }
+        final Polyline<Double> result;
+        if (this.closed) {
+            result = new Polygon<>(points);
+        } else {
+            result = new PtsPolyline<>(points);
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether a tree node is kept at a tolerance.
+     * @param node Vertex index, or {@link Detail#NONE}
+     * @param tolerance Tolerance
+     * @return True if the vertex is ranked above the tolerance
+     */
+    private boolean visible(final int node, final double tolerance) {
+        return node != Detail.NONE && this.ranks[node] > tolerance;
+    }
+
+    /**
+     * Raises the ranks of the highest ranked interior vertices of a closed
+     * polyline, so that it keeps an area.
+     * @param ranks Vertices ranks
+     */
+    private static void keep(final double[] ranks) {
+        for (int iter = 0; iter < Detail.KEPT; ++iter) {
+            int best = Detail.NONE;
+            for (int idx = 1; idx < ranks.length - 1; ++idx) {
+                if (ranks[idx] != Double.POSITIVE_INFINITY
+                    && (best == Detail.NONE || ranks[idx] > ranks[best])) {
+                    best = idx;
+                }
+            }
+            if (best != Detail.NONE) {
+                ranks[best] = Double.POSITIVE_INFINITY;
+            }
+        }
+    }
+
+    /**
+     * Builds the Cartesian tree of the ranks, in linear time.
+     * @param ranks Vertices ranks
+     * @param left Left children to fill
+     * @param right Right children to fill
+     * @return Root vertex index, or {@link Detail#NONE} if no vertex
+     */
+    private static int tree(final double[] ranks, final int[] left,
+        final int[] right) {
+        final int[] stack = new int[ranks.length];
+        int top = 0;
+        for (int idx = 0; idx < ranks.length; ++idx) {
+            int last = Detail.NONE;
+            while (top > 0 && ranks[stack[top - 1]] < ranks[idx]) {
+                top -= 1;
+                last = stack[top];
+            }
+            left[idx] = last;
+            right[idx] = Detail.NONE;
+            if (top > 0) {
+                right[stack[top - 1]] = idx;
+            }
+            stack[top] = idx;
+            top += 1;
+        }
+        int result = Detail.NONE;
+        if (top > 0) {
+            result = stack[0];
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the depth of a tree.
+     * @param root Root vertex index, or {@link Detail#NONE}
+     * @param left Left children
+     * @param right Right children
+     * @return Count of vertices on the longest path from the root
+     */
+    private static int depth(final int root, final int[] left,
+        final int[] right) {
+        final int[] queue = new int[left.length];
+        final int[] levels = new int[left.length];
+        int size = 0;
+        int result = 0;
+        if (root != Detail.NONE) {
+            queue[0] = root;
+            levels[root] = 1;
+            size = 1;
+        }
+        for (int head = 0; head < size; ++head) {
+            final int node = queue[head];
+            result = Math.max(result, levels[node]);
+            for (final int child : new int[] {left[node], right[node]}) {
+                if (child != Detail.NONE) {
+                    levels[child] = levels[node] + 1;
+                    queue[size] = child;
+                    size += 1;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Packs points coordinates.
+     * @param points Points
+     * @param field Field for scalar operations
+     * @return Interleaved (x, y) coordinates
+     */
+    private static double[] coords(final List<Vect<Double>> points,
+        final Field<Double> field) {
+        final double[] result = new double[2 * points.size()];
+        for (int idx = 0; idx < points.size(); ++idx) {
+            result[2 * idx] = field.actual(points.get(idx).coords()[0]);
+            result[2 * idx + 1] = field.actual(points.get(idx).coords()[1]);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.simplify;
+
+/**
+ * Douglas-Peucker ranking. Each range of the polyline is split at the
+ * vertex farthest from the segment joining its extremities, which is
+ * ranked by that distance, capped by the rank of the enclosing split.
+ * Keeping the vertices ranked above a tolerance gives the Douglas-Peucker
+ * simplification at that tolerance. Ranking takes O(n log n) time on
+ * typical inputs and O(n^2) at worst.
+ * @since 0.4
+ */
+public final class DouglasPeucker implements Ranking {
+
+    @Override
+    public double[] ranks(final double[] coords) {
+        final int size = coords.length / 2;
+        final double[] result = new double[size];
+        if (size > 0) {
+            result[0] = Double.POSITIVE_INFINITY;
+            result[size - 1] = Double.POSITIVE_INFINITY;
+        }
+        final int[] lows = new int[size];
+        final int[] highs = new int[size];
+        int top = 0;
+        if (size > 2) {
+            lows[0] = 0;
+            highs[0] = size - 1;
+            top = 1;
+        }
+        while (top > 0) {
+            top -= 1;
+            final int low = lows[top];
+            final int high = highs[top];
+            int split = low + 1;
+            double far = -1.;
+            for (int idx = low + 1; idx < high; ++idx) {
+                final double dist = DouglasPeucker.distance(coords, idx, low, high);
+                if (dist > far) {
+                    far = dist;
+                    split = idx;
+                }
+            }
+            result[split] = Math.min(far, Math.min(result[low], result[high]));
+            if (split - low > 1) {
+                lows[top] = low;
+                highs[top] = split;
+                top += 1;
+            }
+            if (high - split > 1) {
+                lows[top] = split;
+                highs[top] = high;
+                top += 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the distance from a vertex to a segment between two
+     * vertices.
+     * @param coords Interleaved (x, y) vertices coordinates
+     * @param vertex Vertex index
+     * @param start Segment start vertex index
+     * @param end Segment end vertex index
+     * @return Distance
+     */
+    static double distance(final double[] coords, final int vertex,
+        final int start, final int end) {
+        final double xcoor = coords[2 * vertex] - coords[2 * start];
+        final double ycoor = coords[2 * vertex + 1] - coords[2 * start + 1];
+        final double xdir = coords[2 * end] - coords[2 * start];
+        final double ydir = coords[2 * end + 1] - coords[2 * start + 1];
+        final double norm = xdir * xdir + ydir * ydir;
+        double along = 0.;
+        if (norm > 0.) {
+            along = Math.max(0., Math.min(1., (xcoor * xdir + ycoor * ydir) / norm));
+        }
+        return Math.hypot(xcoor - along * xdir, ycoor - along * ydir);
+    }
+
+}
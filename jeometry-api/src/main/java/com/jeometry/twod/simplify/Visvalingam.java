@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.simplify;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Visvalingam-Whyatt ranking. Vertices are removed one at a time by
+ * increasing effective area, the area of the triangle they form with
+ * their remaining neighbours, and the areas of the neighbours are updated
+ * after each removal. A vertex is ranked by the square root of its area at
+ * removal, never below the ranks of the vertices removed before it, so
+ * that ranks are lengths in world units. Ranking takes O(n log n) time.
+ * @since 0.4
+ */
+public final class Visvalingam implements Ranking {
+
+    @Override
+    public double[] ranks(final double[] coords) {
+        final int size = coords.length / 2;
+        final double[] result = new double[size];
+        final int[] prev = new int[size];
+        final int[] next = new int[size];
+        final double[] areas = new double[size];
+        final PriorityQueue<double[]> queue = new PriorityQueue<>(
+            Math.max(1, size),
+            new Comparator<double[]>() {
+                @Override
+                public int compare(final double[] first, final double[] second) {
+                    return Double.compare(first[0], second[0]);
+                }
+            }
+        );
+        for (int idx = 0; idx < size; ++idx) {
+            prev[idx] = idx - 1;
+            next[idx] = idx + 1;
+            result[idx] = Double.POSITIVE_INFINITY;
+            if (idx > 0 && idx < size - 1) {
+                areas[idx] = Visvalingam.area(coords, idx - 1, idx, idx + 1);
+                queue.add(new double[] {areas[idx], idx});
+            }
+        }
+        double level = 0.;
+        while (!queue.isEmpty()) {
+            final double[] head = queue.poll();
+            final int vertex = (int) head[1];
+            if (result[vertex] == Double.POSITIVE_INFINITY
+                && head[0] == areas[vertex]) {
+                level = Math.max(level, head[0]);
+                result[vertex] = Math.sqrt(level);
+                next[prev[vertex]] = next[vertex];
+                prev[next[vertex]] = prev[vertex];
+                for (final int side : new int[] {prev[vertex], next[vertex]}) {
+                    if (side > 0 && side < size - 1) {
+                        areas[side] = Visvalingam.area(
+                            coords, prev[side], side, next[side]
+                        );
+                        queue.add(new double[] {areas[side], side});
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the area of the triangle formed by three vertices.
+     * @param coords Interleaved (x, y) vertices coordinates
+     * @param first First vertex index
+     * @param second Second vertex index
+     * @param third Third vertex index
+     * @return Triangle area
+     */
+    private static double area(final double[] coords, final int first,
+        final int second, final int third) {
+        return Math.abs(
+            (coords[2 * second] - coords[2 * first])
+                * (coords[2 * third + 1] - coords[2 * first + 1])
+                - (coords[2 * second + 1] - coords[2 * first + 1])
+                * (coords[2 * third] - coords[2 * first])
+        ) / 2.;
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.snapshot;
+
+import com.aljebra.field.impl.doubles.Block;
+import com.aljebra.field.impl.doubles.Parallelism;
+import com.jeometry.twod.affine.Affine;
+import java.nio.DoubleBuffer;
+
+/**
+ * Items of a single kind in a {@link Snapshot}, such as points or
+ * segments, with a fixed count of resolved values each, stored in a flat
+ * array. Each item refers to its style and its shape in the snapshot.
+ * @since 0.4
+ */
+public final class Layer {
+
+    /**
+     * Items values, item after item.
+     */
+    private final double[] vals;
+
+    /**
+     * Count of values of an item.
+     */
+    private final int stride;
+
+    /**
+     * Style index of each item.
+     */
+    private final int[] styles;
+
+    /**
+     * Shape index of each item.
+     */
+    private final int[] shapes;
+
+    /**
+     * Constructor.
+     * @param values Items values, item after item
+     * @param stride Count of values of an item
+     * @param styles Style index of each item
+     * @param shapes Shape index of each item
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    Layer(final double[] values, final int stride, final int[] styles,
+        final int[] shapes) {
+        this.vals = values;
+        this.stride = stride;
+        this.styles = styles;
+        this.shapes = shapes;
+    }
+
+    /**
+     * Gives the count of items.
+     * @return Count of items
+     */
+    public int size() {
+        return this.styles.length;
+    }
+
+    /**
+     * Gives a value of an item.
+     * @param item Item index
+     * @param offset Value index in the item
+     * @return Value
+     */
+    public double value(final int item, final int offset) {
+        return this.vals[this.stride * item + offset];
+    }
+
+    /**
+     * Gives the style of an item.
+     * @param item Item index
+     * @return Style index in {@link Snapshot#styles()}
+     */
+    public int style(final int item) {
+        return this.styles[item];
+    }
+
+    /**
+     * Gives the shape of an item.
+     * @param item Item index
+     * @return Shape index in {@link Snapshot#shapes()}
+     */
+    public int shape(final int item) {
+        return this.shapes[item];
+    }
+
+    /**
+     * Gives all values, item after item, for bulk reads.
+     * @return Read only values buffer
+     */
+    public DoubleBuffer values() {
+        return DoubleBuffer.wrap(this.vals).asReadOnlyBuffer();
+    }
+
+    /**
+     * Transforms the items. Values are (x, y) pairs, followed by a length
+     * for items of odd stride, such as circles radiuses, which is scaled.
+     * Styles and shapes indexes are shared with this layer.
+     * @param affine Affine transform
+     * @param parallel Parallelism settings
+     * @return Transformed layer
+     */
+    Layer transform(final Affine affine, final Parallelism parallel) {
+        final double[] values = new double[this.vals.length];
+        final double scale;
+        if (this.stride % 2 == 0 || this.size() == 0) {
+            scale = 1.;
+        } else {
+            scale = affine.scale();
+        }
+        parallel.apply(
+            new Block() {
+                @Override
+                public void apply(final int from, final int until) {
+                    Layer.this.transform(affine, scale, values, from, until);
+                }
+            },
+            this.size()
+        );
+        return new Layer(values, this.stride, this.styles, this.shapes);
+    }
+
+    /**
+     * Transforms a range of items.
+     * @param affine Affine transform
+     * @param scale Lengths ratio of the transform
+     * @param into Values of the transformed items
+     * @param from First item (inclusive)
+     * @param until Last item (exclusive)
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void transform(final Affine affine, final double scale,
+        final double[] into, final int from, final int until) {
+        final int pairs = this.stride / 2;
+        if (this.stride % 2 == 0) {
+            affine.apply(
+                this.vals, this.stride * from, into, this.stride * from,
+                pairs * (until - from)
+            );
+        } else {
+            for (int item = from; item < until; ++item) {
+                final int at = this.stride * item;
+                affine.apply(this.vals, at, into, at, pairs);
+                into[at + 2 * pairs] = scale * this.vals[at + 2 * pairs];
+            }
+        }
+    }
+
+}
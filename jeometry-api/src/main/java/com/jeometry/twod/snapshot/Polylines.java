@@ -0,0 +1,179 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.snapshot;
+
+import com.aljebra.field.impl.doubles.Block;
+import com.aljebra.field.impl.doubles.Parallelism;
+import com.jeometry.twod.affine.Affine;
+import java.nio.DoubleBuffer;
+
+/**
+ * Polylines of a {@link Snapshot}, with the resolved (x, y) coordinates of
+ * all their vertices stored in a flat array, polyline after polyline.
+ * Each polyline refers to its range of vertices, its style and its shape
+ * in the snapshot.
+ * @since 0.4
+ */
+public final class Polylines {
+
+    /**
+     * Interleaved (x, y) vertices coordinates.
+     */
+    private final double[] coords;
+
+    /**
+     * First vertex index of each polyline, followed by the count of
+     * vertices.
+     */
+    private final int[] offsets;
+
+    /**
+     * Style index of each polyline.
+     */
+    private final int[] styles;
+
+    /**
+     * Shape index of each polyline.
+     */
+    private final int[] shapes;
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) vertices coordinates
+     * @param offsets First vertex index of each polyline, followed by the
+     *  count of vertices
+     * @param styles Style index of each polyline
+     * @param shapes Shape index of each polyline
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    Polylines(final double[] coords, final int[] offsets, final int[] styles,
+        final int[] shapes) {
+        this.coords = coords;
+        this.offsets = offsets;
+        this.styles = styles;
+        this.shapes = shapes;
+    }
+
+    /**
+     * Gives the count of polylines.
+     * @return Count of polylines
+     */
+    public int size() {
+        return this.styles.length;
+    }
+
+    /**
+     * Gives the count of vertices of all polylines.
+     * @return Count of vertices
+     */
+    public int vertices() {
+        return this.coords.length / 2;
+    }
+
+    /**
+     * Gives the first vertex of a polyline.
+     * @param item Polyline index
+     * @return First vertex index (inclusive)
+     */
+    public int first(final int item) {
+        return this.offsets[item];
+    }
+
+    /**
+     * Gives the end of the vertices of a polyline.
+     * @param item Polyline index
+     * @return Last vertex index (exclusive)
+     */
+    public int until(final int item) {
+        return this.offsets[item + 1];
+    }
+
+    /**
+     * Gives a vertex X coordinate.
+     * @param vertex Vertex index
+     * @return X coordinate
+     */
+    public double xcoor(final int vertex) {
+        return this.coords[2 * vertex];
+    }
+
+    /**
+     * Gives a vertex Y coordinate.
+     * @param vertex Vertex index
+     * @return Y coordinate
+     */
+    public double ycoor(final int vertex) {
+        return this.coords[2 * vertex + 1];
+    }
+
+    /**
+     * Gives the style of a polyline.
+     * @param item Polyline index
+     * @return Style index in {@link Snapshot#styles()}
+     */
+    public int style(final int item) {
+        return this.styles[item];
+    }
+
+    /**
+     * Gives the shape of a polyline.
+     * @param item Polyline index
+     * @return Shape index in {@link Snapshot#shapes()}
+     */
+    public int shape(final int item) {
+        return this.shapes[item];
+    }
+
+    /**
+     * Gives all vertices coordinates, for bulk reads.
+     * @return Read only interleaved (x, y) coordinates buffer
+     */
+    public DoubleBuffer values() {
+        return DoubleBuffer.wrap(this.coords).asReadOnlyBuffer();
+    }
+
+    /**
+     * Transforms the vertices. Offsets, styles and shapes indexes are
+     * shared with these polylines.
+     * @param affine Affine transform
+     * @param parallel Parallelism settings
+     * @return Transformed polylines
+     */
+    Polylines transform(final Affine affine, final Parallelism parallel) {
+        final double[] moved = new double[this.coords.length];
+        parallel.apply(
+            new Block() {
+                @Override
+                public void apply(final int from, final int until) {
+                    affine.apply(
+                        Polylines.this.coords, 2 * from, moved, 2 * from, until - from
+                    );
+                }
+            },
+            this.vertices()
+        );
+        return new Polylines(moved, this.offsets, this.styles, this.shapes);
+    }
+
+}
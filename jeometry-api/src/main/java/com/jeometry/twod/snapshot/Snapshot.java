@@ -0,0 +1,708 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.snapshot;
+
+import com.aljebra.field.Field;
+import com.aljebra.field.impl.doubles.Block;
+import com.aljebra.field.impl.doubles.Parallelism;
+import com.aljebra.scalar.Multiplication;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Sum;
+import com.aljebra.vector.Vect;
+import com.google.common.collect.Lists;
+import com.jeometry.twod.Renderable;
+import com.jeometry.twod.Shape;
+import com.jeometry.twod.affine.Affine;
+import com.jeometry.twod.angle.Angle;
+import com.jeometry.twod.arc.Arc;
+import com.jeometry.twod.arc.RadAngleArc;
+import com.jeometry.twod.angle.PtsAngle;
+import com.jeometry.twod.bounds.Bounded;
+import com.jeometry.twod.bounds.Bounds;
+import com.jeometry.twod.bounds.Box;
+import com.jeometry.twod.circle.Circle;
+import com.jeometry.twod.circle.PtRadCircle;
+import com.jeometry.twod.line.Line;
+import com.jeometry.twod.line.Polygon;
+import com.jeometry.twod.line.Polyline;
+import com.jeometry.twod.line.PtsLine;
+import com.jeometry.twod.line.PtsPolyline;
+import com.jeometry.twod.point.XyPoint;
+import com.jeometry.twod.ray.PtsRay;
+import com.jeometry.twod.ray.Ray;
+import com.jeometry.twod.segment.PtsSegment;
+import com.jeometry.twod.segment.Segment;
+import com.jeometry.twod.style.Style;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of shapes, resolved once in a field. Points,
+ * segments, circles and polylines are stored as flat arrays of doubles,
+ * so that repeated rendering, export and spatial queries read plain values
+ * instead of evaluating scalars again. Styles are interned by their
+ * resolved attributes and referred to by index. Shapes of other kinds are
+ * kept as they are, see {@link #rest()}. A snapshot is transformed as a
+ * whole by an affine transform in a single parallel pass over its arrays,
+ * sharing its styles and item indexes with the transformed snapshot.
+ * @since 0.4
+ */
+public final class Snapshot implements Bounded {
+
+    /**
+     * Kind of shapes kept as they are.
+     */
+    private static final int OTHER = -1;
+
+    /**
+     * Kind of points.
+     */
+    private static final int POINT = 0;
+
+    /**
+     * Kind of segments.
+     */
+    private static final int SEGMENT = 1;
+
+    /**
+     * Kind of circles.
+     */
+    private static final int CIRCLE = 2;
+
+    /**
+     * Kind of polylines.
+     */
+    private static final int POLYLINE = 3;
+
+    /**
+     * Count of values of each kind of item.
+     */
+    private static final int[] STRIDES = {2, 4, 3};
+
+    /**
+     * Shapes.
+     */
+    private final List<Shape<?>> shps;
+
+    /**
+     * Interned styles.
+     */
+    private final List<Style> stls;
+
+    /**
+     * Shapes of other kinds.
+     */
+    private final List<Shape<?>> others;
+
+    /**
+     * Item layers, by kind.
+     */
+    private final Layer[] layers;
+
+    /**
+     * Polylines.
+     */
+    private final Polylines lines;
+
+    /**
+     * Bounding box.
+     */
+    private final Box bbox;
+
+    /**
+     * Whether the items were resolved from constant values only.
+     */
+    private final boolean fix;
+
+    /**
+     * Constructor.
+     * @param shapes Shapes, with double coordinates
+     * @param field Field for scalar operations
+     */
+    public Snapshot(final Iterable<Shape<?>> shapes, final Field<Double> field) {
+        this.shps = Collections.unmodifiableList(Lists.newArrayList(shapes));
+        final int[] kinds = new int[this.shps.size()];
+        final List<Shape<?>> rest = new ArrayList<>(0);
+        final Bounds bounds = new Bounds(field);
+        boolean fixed = true;
+        for (int idx = 0; idx < kinds.length; ++idx) {
+            final Renderable renderable = this.shps.get(idx).renderable();
+            kinds[idx] = Snapshot.kind(renderable);
+            if (kinds[idx] == Snapshot.OTHER) {
+                rest.add(this.shps.get(idx));
+            } else {
+                fixed = fixed && bounds.fixed(renderable);
+            }
+        }
+        this.fix = fixed;
+        this.others = Collections.unmodifiableList(rest);
+        final List<Style> styles = new ArrayList<>(1);
+        final int[] interned = Snapshot.intern(this.shps, styles);
+        this.stls = Collections.unmodifiableList(styles);
+        this.layers = new Layer[Snapshot.STRIDES.length];
+        for (int kind = 0; kind < this.layers.length; ++kind) {
+            this.layers[kind] = Snapshot.layer(this.shps, kinds, interned, kind, field);
+        }
+        this.lines = Snapshot.polylines(this.shps, kinds, interned, field);
+        this.bbox = this.bound();
+    }
+
+    /**
+     * Constructor.
+     * @param shapes Shapes
+     * @param styles Interned styles
+     * @param rest Shapes of other kinds
+     * @param layers Item layers, by kind
+     * @param lines Polylines
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Snapshot(final List<Shape<?>> shapes, final List<Style> styles,
+        final List<Shape<?>> rest, final Layer[] layers, final Polylines lines) {
+        this.shps = shapes;
+        this.stls = styles;
+        this.others = rest;
+        this.layers = layers;
+        this.lines = lines;
+        this.bbox = this.bound();
+        this.fix = true;
+    }
+
+    /**
+     * Tells whether the items were resolved from constant values only, see
+     * {@link Bounds#fixed(Renderable)}, so that the snapshot stays the
+     * resolution of its shapes. Transformed snapshots are built from
+     * resolved values and are fixed.
+     * @return True if the items cannot differ from their shapes
+     */
+    public boolean fixed() {
+        return this.fix;
+    }
+
+    /**
+     * Gives the shapes. Items refer to shapes by their index in this list.
+     * @return Shapes
+     */
+    public List<Shape<?>> shapes() {
+        return this.shps;
+    }
+
+    /**
+     * Gives the interned styles. Items refer to styles by their index in
+     * this list.
+     * @return Styles
+     */
+    public List<Style> styles() {
+        return this.stls;
+    }
+
+    /**
+     * Gives the points, with (x, y) values.
+     * @return Points layer
+     */
+    public Layer points() {
+        return this.layers[Snapshot.POINT];
+    }
+
+    /**
+     * Gives the segments, with (x, y) start and (x, y) end values.
+     * @return Segments layer
+     */
+    public Layer segments() {
+        return this.layers[Snapshot.SEGMENT];
+    }
+
+    /**
+     * Gives the circles, with (x, y) center and radius values.
+     * @return Circles layer
+     */
+    public Layer circles() {
+        return this.layers[Snapshot.CIRCLE];
+    }
+
+    /**
+     * Gives the polylines.
+     * @return Polylines
+     */
+    public Polylines polylines() {
+        return this.lines;
+    }
+
+    /**
+     * Gives the shapes not resolved into items, such as lines, rays, arcs
+     * and angles.
+     * @return Shapes
+     */
+    public List<Shape<?>> rest() {
+        return this.others;
+    }
+
+    /**
+     * Gives the bounding box of the resolved items. Shapes not resolved
+     * into items are not bounded. A snapshot without items has the box of
+     * the whole plane.
+     * @return Bounding box
+     */
+    @Override
+    public Box box() {
+        return this.bbox;
+    }
+
+    /**
+     * Transforms the snapshot, in parallel above the default threshold.
+     * @param affine Affine transform
+     * @return Transformed snapshot
+     * @see #transform(Affine, Parallelism)
+     */
+    public Snapshot transform(final Affine affine) {
+        return this.transform(affine, new Parallelism());
+    }
+
+    /**
+     * Transforms the snapshot. Items are transformed on their arrays, and
+     * their shapes are rebuilt from the transformed values with the same
+     * names and styles. Lines, rays, angles and arcs are transformed lazily.
+     * Styles and item indexes are shared with this snapshot, which is
+     * returned as it is for the identity transform.
+     * @param affine Affine transform
+     * @param parallel Parallelism settings
+     * @return Transformed snapshot
+     * @throws IllegalStateException if the snapshot has circles or arcs and
+     *  the transform is not a similarity
+     * @throws UnsupportedOperationException if the snapshot has shapes of
+     *  unknown kinds
+     */
+    public Snapshot transform(final Affine affine, final Parallelism parallel) {
+        final Snapshot result;
+        if (affine.identity()) {
+            result = this;
+        } else {
+            final Layer[] moved = new Layer[this.layers.length];
+            for (int kind = 0; kind < moved.length; ++kind) {
+                moved[kind] = this.layers[kind].transform(affine, parallel);
+            }
+            final Polylines plines = this.lines.transform(affine, parallel);
+            final Shape<?>[] shapes = new Shape<?>[this.shps.size()];
+            final List<Shape<?>> rest = new ArrayList<>(this.others.size());
+            for (int idx = 0; idx < shapes.length; ++idx) {
+                final Shape<?> shape = this.shps.get(idx);
+                if (Snapshot.kind(shape.renderable()) == Snapshot.OTHER) {
+                    shapes[idx] = Snapshot.shape(
+                        shape, Snapshot.moved(affine, shape.renderable())
+                    );
+                    rest.add(shapes[idx]);
+                }
+            }
+            for (int kind = 0; kind < moved.length; ++kind) {
+                this.rebuild(moved[kind], kind, shapes, parallel);
+            }
+            this.rebuild(plines, shapes, parallel);
+            result = new Snapshot(
+                Collections.unmodifiableList(Arrays.asList(shapes)), this.stls,
+                Collections.unmodifiableList(rest), moved, plines
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the bounding box of the resolved items.
+     * @return Bounding box
+     */
+    private Box bound() {
+        double xmin = Double.POSITIVE_INFINITY;
+        double ymin = Double.POSITIVE_INFINITY;
+        double xmax = Double.NEGATIVE_INFINITY;
+        double ymax = Double.NEGATIVE_INFINITY;
+        final Layer pts = this.points();
+        for (int item = 0; item < pts.size(); ++item) {
+            xmin = Math.min(xmin, pts.value(item, 0));
+            ymin = Math.min(ymin, pts.value(item, 1));
+            xmax = Math.max(xmax, pts.value(item, 0));
+            ymax = Math.max(ymax, pts.value(item, 1));
+        }
+        final Layer sgts = this.segments();
+        for (int item = 0; item < sgts.size(); ++item) {
+            for (int end = 0; end < 2 + 2; end += 2) {
+                xmin = Math.min(xmin, sgts.value(item, end));
+                ymin = Math.min(ymin, sgts.value(item, end + 1));
+                xmax = Math.max(xmax, sgts.value(item, end));
+                ymax = Math.max(ymax, sgts.value(item, end + 1));
+            }
+        }
+        final Layer crcs = this.circles();
+        for (int item = 0; item < crcs.size(); ++item) {
+            final double radius = Math.abs(crcs.value(item, 2));
+            xmin = Math.min(xmin, crcs.value(item, 0) - radius);
+            ymin = Math.min(ymin, crcs.value(item, 1) - radius);
+            xmax = Math.max(xmax, crcs.value(item, 0) + radius);
+            ymax = Math.max(ymax, crcs.value(item, 1) + radius);
+        }
+        for (int vertex = 0; vertex < this.lines.vertices(); ++vertex) {
+            xmin = Math.min(xmin, this.lines.xcoor(vertex));
+            ymin = Math.min(ymin, this.lines.ycoor(vertex));
+            xmax = Math.max(xmax, this.lines.xcoor(vertex));
+            ymax = Math.max(ymax, this.lines.ycoor(vertex));
+        }
+        final Box result;
+        if (xmin > xmax) {
+            result = new Box();
+        } else {
+            result = new Box(xmin, ymin, xmax, ymax);
+        }
+        return result;
+    }
+
+    /**
+     * Rebuilds the shapes of transformed items.
+     * @param layer Transformed items
+     * @param kind Kind of the items
+     * @param into Shapes to fill, by index
+     * @param parallel Parallelism settings
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void rebuild(final Layer layer, final int kind,
+        final Shape<?>[] into, final Parallelism parallel) {
+        parallel.apply(
+            new Block() {
+                @Override
+                public void apply(final int from, final int until) {
+                    for (int item = from; item < until; ++item) {
+                        final int idx = layer.shape(item);
+                        final XyPoint<Double> first = Snapshot.point(
+                            layer.value(item, 0), layer.value(item, 1)
+                        );
+                        final Renderable renderable;
+                        if (kind == Snapshot.POINT) {
+                            renderable = first;
+                        } else if (kind == Snapshot.SEGMENT) {
+                            renderable = new PtsSegment<>(
+                                first,
+                                Snapshot.point(layer.value(item, 2), layer.value(item, 2 + 1))
+                            );
+                        } else {
+                            renderable = new PtRadCircle<>(
+                                first, new Scalar.Default<>(layer.value(item, 2))
+                            );
+                        }
+                        into[idx] = Snapshot.shape(Snapshot.this.shps.get(idx), renderable);
+                    }
+                }
+            },
+            layer.size()
+        );
+    }
+
+    /**
+     * Rebuilds the shapes of transformed polylines. Polygons are rebuilt
+     * from their vertices without the closing one.
+     * @param plines Transformed polylines
+     * @param into Shapes to fill, by index
+     * @param parallel Parallelism settings
+     */
+    private void rebuild(final Polylines plines, final Shape<?>[] into,
+        final Parallelism parallel) {
+        parallel.apply(
+            new Block() {
+                @Override
+                public void apply(final int from, final int until) {
+                    for (int item = from; item < until; ++item) {
+                        final int idx = plines.shape(item);
+                        final Shape<?> shape = Snapshot.this.shps.get(idx);
+                        int last = plines.until(item);
+                        if (shape.renderable() instanceof Polygon) {
+                            last -= 1;
+                        }
+                        final List<XyPoint<Double>> points =
+                            new ArrayList<>(last - plines.first(item));
+                        for (int vertex = plines.first(item); vertex < last; ++vertex) {
+                            points.add(
+                                Snapshot.point(plines.xcoor(vertex), plines.ycoor(vertex))
+                            );
+                        }
+                        final Renderable renderable;
+                        if (shape.renderable() instanceof Polygon) {
+                            renderable = new Polygon<>(points);
+                        } else {
+                            renderable = new PtsPolyline<>(points);
+                        }
+                        into[idx] = Snapshot.shape(shape, renderable);
+                    }
+                }
+            },
+            plines.size()
+        );
+    }
+
+    /**
+     * Classifies a renderable.
+     * @param renderable Renderable
+     * @return Kind of the renderable items
+     */
+    private static int kind(final Renderable renderable) {
+        final int result;
+        if (renderable instanceof Vect) {
+            result = Snapshot.POINT;
+        } else if (renderable instanceof Segment) {
+            result = Snapshot.SEGMENT;
+        } else if (renderable instanceof Circle) {
+            result = Snapshot.CIRCLE;
+        } else if (renderable instanceof Polyline) {
+            result = Snapshot.POLYLINE;
+        } else {
+            result = Snapshot.OTHER;
+        }
+        return result;
+    }
+
+    /**
+     * Interns the styles of shapes by their resolved attributes.
+     * @param shapes Shapes
+     * @param styles Interned styles to fill
+     * @return Style index of each shape
+     */
+    private static int[] intern(final List<Shape<?>> shapes,
+        final List<Style> styles) {
+        final Map<List<Object>, Integer> indexes = new HashMap<>(1);
+        final int[] result = new int[shapes.size()];
+        for (int idx = 0; idx < result.length; ++idx) {
+            final Style style = shapes.get(idx).style();
+            final List<Object> key = Arrays.<Object>asList(
+                style.stroke().width(), style.stroke().color(),
+                style.stroke().dash(), style.fill().color()
+            );
+            Integer index = indexes.get(key);
+            if (index == null) {
+                index = styles.size();
+                indexes.put(key, index);
+                styles.add(style);
+            }
+            result[idx] = index;
+        }
+        return result;
+    }
+
+    /**
+     * Resolves the items of a kind.
+     * @param shapes Shapes
+     * @param kinds Kind of each shape
+     * @param interned Style index of each shape
+     * @param kind Kind of the items
+     * @param field Field for scalar operations
+     * @return Items layer
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    @SuppressWarnings("unchecked")
+    private static Layer layer(final List<Shape<?>> shapes, final int[] kinds,
+        final int[] interned, final int kind, final Field<Double> field) {
+        int size = 0;
+        for (final int each : kinds) {
+            if (each == kind) {
+                size += 1;
+            }
+        }
+        final int stride = Snapshot.STRIDES[kind];
+        final double[] values = new double[stride * size];
+        final int[] styles = new int[size];
+        final int[] indexes = new int[size];
+        int item = 0;
+        for (int idx = 0; idx < kinds.length; ++idx) {
+            if (kinds[idx] == kind) {
+                final Renderable renderable = shapes.get(idx).renderable();
+                final int at = stride * item;
+                if (kind == Snapshot.POINT) {
+                    Snapshot.point((Vect<Double>) renderable, field, values, at);
+                } else if (kind == Snapshot.SEGMENT) {
+                    final Segment<Double> seg = (Segment<Double>) renderable;
+                    Snapshot.point(seg.start(), field, values, at);
+                    Snapshot.point(seg.end(), field, values, at + 2);
+                } else {
+                    final Circle<Double> circle = (Circle<Double>) renderable;
+                    Snapshot.point(circle.center(), field, values, at);
+                    values[at + 2] = field.actual(circle.radius());
+                }
+                styles[item] = interned[idx];
+                indexes[item] = idx;
+                item += 1;
+            }
+        }
+        return new Layer(values, stride, styles, indexes);
+    }
+
+    /**
+     * Resolves the polylines.
+     * @param shapes Shapes
+     * @param kinds Kind of each shape
+     * @param interned Style index of each shape
+     * @param field Field for scalar operations
+     * @return Polylines
+     */
+    @SuppressWarnings("unchecked")
+    private static Polylines polylines(final List<Shape<?>> shapes,
+        final int[] kinds, final int[] interned, final Field<Double> field) {
+        int size = 0;
+        int vertices = 0;
+        for (int idx = 0; idx < kinds.length; ++idx) {
+            if (kinds[idx] == Snapshot.POLYLINE) {
+                size += 1;
+                vertices += ((Polyline<Double>) shapes.get(idx).renderable())
+                    .points().size();
+            }
+        }
+        final double[] coords = new double[2 * vertices];
+        final int[] offsets = new int[size + 1];
+        final int[] styles = new int[size];
+        final int[] indexes = new int[size];
+        int item = 0;
+        for (int idx = 0; idx < kinds.length; ++idx) {
+            if (kinds[idx] == Snapshot.POLYLINE) {
+                int vertex = offsets[item];
+                for (final Vect<Double> point
+                    : ((Polyline<Double>) shapes.get(idx).renderable()).points()) {
+                    Snapshot.point(point, field, coords, 2 * vertex);
+                    vertex += 1;
+                }
+                styles[item] = interned[idx];
+                indexes[item] = idx;
+                offsets[item + 1] = vertex;
+                item += 1;
+            }
+        }
+        return new Polylines(coords, offsets, styles, indexes);
+    }
+
+    /**
+     * Lazily transforms a renderable not resolved into items.
+     * @param affine Affine transform
+     * @param renderable Renderable, with double coordinates
+     * @return Transformed renderable
+     * @throws IllegalStateException for arcs and a transform not being a
+     *  similarity
+     * @throws UnsupportedOperationException for unknown kinds
+     */
+    @SuppressWarnings("unchecked")
+    private static Renderable moved(final Affine affine,
+        final Renderable renderable) {
+        final Renderable result;
+        if (renderable instanceof Line) {
+            final Line<Double> line = (Line<Double>) renderable;
+            result = new PtsLine<>(
+                affine.apply(line.point()),
+                affine.apply(new Sum<>(line.point(), line.direction()))
+            );
+        } else if (renderable instanceof Ray) {
+            final Ray<Double> ray = (Ray<Double>) renderable;
+            result = new PtsRay<>(
+                affine.apply(ray.origin()),
+                affine.apply(new Sum<>(ray.origin(), ray.direction()))
+            );
+        } else if (renderable instanceof Angle) {
+            final Angle<Double> angle = (Angle<Double>) renderable;
+            result = new PtsAngle<>(
+                affine.apply(angle.origin()),
+                affine.apply(new Sum<>(angle.origin(), angle.start())),
+                affine.apply(new Sum<>(angle.origin(), angle.end()))
+            );
+        } else if (renderable instanceof Arc) {
+            result = Snapshot.arc(affine, (Arc<Double>) renderable);
+        } else {
+            throw new UnsupportedOperationException(
+                String.format("Cannot transform %s", renderable)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Lazily transforms an arc by a similarity. The center is transformed,
+     * the radius scaled and the angles rotated, or reflected with the arc
+     * direction kept counterclockwise by swapping its ends.
+     * @param affine Affine transform
+     * @param arc Arc, with double coordinates
+     * @return Transformed arc
+     * @throws IllegalStateException if the transform is not a similarity
+     */
+    private static Arc<Double> arc(final Affine affine, final Arc<Double> arc) {
+        final double scale = affine.scale();
+        final double[] coefs = affine.coefficients();
+        final double rotation = Math.atan2(coefs[1], coefs[0]);
+        final double start;
+        final double end;
+        if (affine.determinant() < 0.) {
+            start = rotation - arc.end().doubleValue();
+            end = rotation - arc.start().doubleValue();
+        } else {
+            start = rotation + arc.start().doubleValue();
+            end = rotation + arc.end().doubleValue();
+        }
+        return new RadAngleArc<>(
+            new PtRadCircle<>(
+                affine.apply(arc.center()),
+                new Multiplication<>(arc.radius(), new Scalar.Default<>(scale))
+            ),
+            start, end
+        );
+    }
+
+    /**
+     * Builds a shape with the name and style of another one.
+     * @param shape Original shape
+     * @param renderable Renderable of the shape
+     * @return Shape
+     */
+    private static Shape<?> shape(final Shape<?> shape,
+        final Renderable renderable) {
+        return new Shape<>(renderable, shape.name(), shape.style());
+    }
+
+    /**
+     * Builds a point of resolved coordinates.
+     * @param xcoor X coordinate
+     * @param ycoor Y coordinate
+     * @return Point
+     */
+    private static XyPoint<Double> point(final double xcoor,
+        final double ycoor) {
+        return new XyPoint<>(
+            new Scalar.Default<>(xcoor), new Scalar.Default<>(ycoor)
+        );
+    }
+
+    /**
+     * Resolves a point into an array.
+     * @param point Point
+     * @param field Field for scalar operations
+     * @param into Array to resolve into
+     * @param at Index of the X coordinate in the array
+     */
+    private static void point(final Vect<Double> point, final Field<Double> field,
+        final double[] into, final int at) {
+        into[at] = field.actual(point.coords()[0]);
+        into[at + 1] = field.actual(point.coords()[1]);
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.solver;
+
+/**
+ * A constraint on variables of {@link Parameters}, as a residual function
+ * vanishing when the constraint is satisfied. Residuals are computed on
+ * primitive values, with their partial derivatives giving a row of the
+ * solver sparse Jacobian.
+ * @since 0.4
+ */
+public interface Constraint {
+
+    /**
+     * Gives the variables the residual depends on.
+     * @return Variables indexes
+     */
+    int[] variables();
+
+    /**
+     * Calculates the residual.
+     * @param params Parameters
+     * @return Residual
+     */
+    double residual(Parameters params);
+
+    /**
+     * Calculates the partial derivatives of the residual.
+     * @param params Parameters
+     * @param into Derivatives to fill, in the order of {@link #variables()}
+     */
+    void derivatives(Parameters params, double[] into);
+
+}
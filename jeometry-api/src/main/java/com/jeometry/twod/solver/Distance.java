@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.solver;
+
+/**
+ * Constraint on the distance between two points. The residual is the
+ * difference between the actual distance and the expected one.
+ * @since 0.4
+ */
+public final class Distance implements Constraint {
+
+    /**
+     * Variables, as (x, y) indexes of both points.
+     */
+    private final int[] vars;
+
+    /**
+     * Expected distance.
+     */
+    private final double length;
+
+    /**
+     * Constructor.
+     * @param first First point
+     * @param second Second point
+     * @param length Expected distance
+     */
+    public Distance(final FreePoint first, final FreePoint second,
+        final double length) {
+        this.vars = new int[] {
+            first.xvar(), first.yvar(), second.xvar(), second.yvar(),
+        };
+        this.length = length;
+    }
+
+    @Override
+    public int[] variables() {
+        return this.vars.clone();
+    }
+
+    @Override
+    public double residual(final Parameters params) {
+        return Math.hypot(
+            params.value(this.vars[2]) - params.value(this.vars[0]),
+            params.value(this.vars[2 + 1]) - params.value(this.vars[1])
+        ) - this.length;
+    }
+
+    @Override
+    public void derivatives(final Parameters params, final double[] into) {
+        Distance.gradient(params, this.vars, into);
+    }
+
+    /**
+     * Calculates the partial derivatives of the distance between two
+     * points. Coincident points have null derivatives.
+     * @param params Parameters
+     * @param vars Variables, as (x, y) indexes of both points
+     * @param into Derivatives to fill
+     */
+    static void gradient(final Parameters params, final int[] vars,
+        final double[] into) {
+        final double xdiff = params.value(vars[2]) - params.value(vars[0]);
+        final double ydiff = params.value(vars[2 + 1]) - params.value(vars[1]);
+        final double norm = Math.hypot(xdiff, ydiff);
+        double xpart = 0.;
+        double ypart = 0.;
+        if (norm > 0.) {
+            xpart = xdiff / norm;
+            ypart = ydiff / norm;
+        }
+        into[0] = -xpart;
+        into[1] = -ypart;
+        into[2] = xpart;
+        into[2 + 1] = ypart;
+    }
+
+}
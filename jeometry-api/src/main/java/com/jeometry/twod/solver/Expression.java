@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.solver;
+
+import com.aljebra.field.Field;
+import com.aljebra.scalar.Scalar;
+
+/**
+ * Constraint on any scalar expression built upon variables of
+ * {@link Parameters} to vanish. The partial derivatives are computed by
+ * central differences, so expressions should be smooth around the
+ * solution. Dedicated constraints with closed-form derivatives are to be
+ * preferred when available.
+ * @since 0.4
+ */
+public final class Expression implements Constraint {
+
+    /**
+     * Relative step of central differences.
+     */
+    private static final double STEP = 1.e-7;
+
+    /**
+     * Residual expression.
+     */
+    private final Scalar<Double> expr;
+
+    /**
+     * Field for scalar operations.
+     */
+    private final Field<Double> field;
+
+    /**
+     * Variables the expression depends on.
+     */
+    private final int[] vars;
+
+    /**
+     * Constructor.
+     * @param expr Residual expression
+     * @param field Field for scalar operations
+     * @param vars Variables the expression depends on
+     */
+    public Expression(final Scalar<Double> expr, final Field<Double> field,
+        final int... vars) {
+        this.expr = expr;
+        this.field = field;
+        this.vars = vars.clone();
+    }
+
+    @Override
+    public int[] variables() {
+        return this.vars.clone();
+    }
+
+    @Override
+    public double residual(final Parameters params) {
+        return this.field.actual(this.expr);
+    }
+
+    @Override
+    public void derivatives(final Parameters params, final double[] into) {
+        for (int idx = 0; idx < this.vars.length; ++idx) {
+            final double value = params.value(this.vars[idx]);
+            final double step = Expression.STEP * Math.max(1., Math.abs(value));
+            params.update(this.vars[idx], value + step);
+            final double upper = this.field.actual(this.expr);
+            params.update(this.vars[idx], value - step);
+            final double lower = this.field.actual(this.expr);
+            params.update(this.vars[idx], value);
+            into[idx] = (upper - lower) / (2. * step);
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.solver;
+
+import com.jeometry.twod.point.XyPoint;
+import lombok.ToString;
+
+/**
+ * A point whose coordinates are variables of {@link Parameters}.
+ * @since 0.4
+ */
+@ToString(callSuper = true)
+public final class FreePoint extends XyPoint<Double> {
+
+    /**
+     * X coordinate variable index.
+     */
+    private final int xvr;
+
+    /**
+     * Y coordinate variable index.
+     */
+    private final int yvr;
+
+    /**
+     * Constructor.
+     * @param params Parameters holding the coordinates variables
+     * @param xvar X coordinate variable index
+     * @param yvar Y coordinate variable index
+     */
+    FreePoint(final Parameters params, final int xvar, final int yvar) {
+        super(params.scalar(xvar), params.scalar(yvar));
+        this.xvr = xvar;
+        this.yvr = yvar;
+    }
+
+    /**
+     * Gives the X coordinate variable index.
+     * @return Variable index
+     */
+    public int xvar() {
+        return this.xvr;
+    }
+
+    /**
+     * Gives the Y coordinate variable index.
+     * @return Variable index
+     */
+    public int yvar() {
+        return this.yvr;
+    }
+
+}
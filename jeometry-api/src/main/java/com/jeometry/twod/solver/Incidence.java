@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.solver;
+
+/**
+ * Constraint on a point P to belong to the line passing by points A and B.
+ * The residual is the cross product of AB and AP, free of divisions. The
+ * constraint follows the
+ * {@link com.jeometry.twod.line.analytics.PointInLine} predicate.
+ * @since 0.4
+ */
+public final class Incidence implements Constraint {
+
+    /**
+     * Variables, as (x, y) indexes of points P, A and B.
+     */
+    private final int[] vars;
+
+    /**
+     * Constructor.
+     * @param point Point P
+     * @param first Line point A
+     * @param second Line point B
+     */
+    public Incidence(final FreePoint point, final FreePoint first,
+        final FreePoint second) {
+        this.vars = new int[] {
+            point.xvar(), point.yvar(), first.xvar(), first.yvar(),
+            second.xvar(), second.yvar(),
+        };
+    }
+
+    @Override
+    public int[] variables() {
+        return this.vars.clone();
+    }
+
+    @Override
+    public double residual(final Parameters params) {
+        final double[] dirs = this.directions(params);
+        return dirs[0] * dirs[2 + 1] - dirs[1] * dirs[2];
+    }
+
+    @Override
+    public void derivatives(final Parameters params, final double[] into) {
+        final double[] dirs = this.directions(params);
+        into[0] = -dirs[1];
+        into[1] = dirs[0];
+        into[2] = dirs[1] - dirs[2 + 1];
+        into[2 + 1] = dirs[2] - dirs[0];
+        into[2 + 2] = dirs[2 + 1];
+        into[2 + 2 + 1] = -dirs[2];
+    }
+
+    /**
+     * Calculates directions AB and AP.
+     * @param params Parameters
+     * @return Directions coordinates
+     */
+    private double[] directions(final Parameters params) {
+        final double xcoor = params.value(this.vars[2]);
+        final double ycoor = params.value(this.vars[2 + 1]);
+        return new double[] {
+            params.value(this.vars[2 + 2]) - xcoor,
+            params.value(this.vars[2 + 2 + 1]) - ycoor,
+            params.value(this.vars[0]) - xcoor,
+            params.value(this.vars[1]) - ycoor,
+        };
+    }
+
+}
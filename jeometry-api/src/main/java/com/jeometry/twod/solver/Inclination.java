@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.solver;
+
+/**
+ * Constraint on the angle from a first direction, going from point A to
+ * point B, to a second direction, going from point C to point D. With u
+ * and v the directions and t the angle, the residual is
+ * {@code cross(u, v) * cos(t) - dot(u, v) * sin(t)}, that is
+ * {@code |u| * |v| * sin(a - t)} where a is the actual angle: it is free
+ * of divisions and vanishes also at the opposite angle.
+ * @since 0.4
+ */
+public final class Inclination implements Constraint {
+
+    /**
+     * Variables, as (x, y) indexes of points A, B, C and D.
+     */
+    private final int[] vars;
+
+    /**
+     * Cross product factor.
+     */
+    private final double cross;
+
+    /**
+     * Dot product factor.
+     */
+    private final double dot;
+
+    /**
+     * Constructor.
+     * @param first First direction start
+     * @param second First direction end
+     * @param third Second direction start
+     * @param fourth Second direction end
+     * @param angle Angle from the first to the second direction, in radians
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Inclination(final FreePoint first, final FreePoint second,
+        final FreePoint third, final FreePoint fourth, final double angle) {
+        this.vars = new int[] {
+            first.xvar(), first.yvar(), second.xvar(), second.yvar(),
+            third.xvar(), third.yvar(), fourth.xvar(), fourth.yvar(),
+        };
+        this.cross = Math.cos(angle);
+        this.dot = -Math.sin(angle);
+    }
+
+    @Override
+    public int[] variables() {
+        return this.vars.clone();
+    }
+
+    @Override
+    public double residual(final Parameters params) {
+        final double[] dirs = this.directions(params);
+        return this.cross * (dirs[0] * dirs[2 + 1] - dirs[1] * dirs[2])
+            + this.dot * (dirs[0] * dirs[2] + dirs[1] * dirs[2 + 1]);
+    }
+
+    @Override
+    public void derivatives(final Parameters params, final double[] into) {
+        final double[] dirs = this.directions(params);
+        final double[] partial = {
+            this.cross * dirs[2 + 1] + this.dot * dirs[2],
+            -this.cross * dirs[2] + this.dot * dirs[2 + 1],
+            -this.cross * dirs[1] + this.dot * dirs[0],
+            this.cross * dirs[0] + this.dot * dirs[1],
+        };
+        for (int idx = 0; idx < partial.length; ++idx) {
+            final int at = 2 * (idx / 2) * 2 + idx % 2;
+            into[at] = -partial[idx];
+            into[at + 2] = partial[idx];
+        }
+    }
+
+    /**
+     * Calculates both directions.
+     * @param params Parameters
+     * @return Directions coordinates
+     */
+    private double[] directions(final Parameters params) {
+        final double[] result = new double[2 + 2];
+        for (int idx = 0; idx < result.length; ++idx) {
+            final int at = 2 * (idx / 2) * 2 + idx % 2;
+            result[idx] = params.value(this.vars[at + 2])
+                - params.value(this.vars[at]);
+        }
+        return result;
+    }
+
+}
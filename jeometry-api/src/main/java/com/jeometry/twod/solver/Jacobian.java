@@ -0,0 +1,181 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.solver;
+
+import java.util.Arrays;
+
+/**
+ * Sparse Jacobian of constraints residuals, in compressed rows. Each
+ * constraint gives a row, with an entry per variable it depends on. The
+ * structure is built once; entries and residuals are filled again at each
+ * solver iteration. Columns of fixed variables are left empty.
+ * @since 0.4
+ */
+final class Jacobian {
+
+    /**
+     * Constraints, by row.
+     */
+    private final Constraint[] rows;
+
+    /**
+     * Index of the first entry of each row, and the count of entries.
+     */
+    private final int[] offsets;
+
+    /**
+     * Column of each entry.
+     */
+    private final int[] columns;
+
+    /**
+     * Entries values.
+     */
+    private final double[] entries;
+
+    /**
+     * Residual of each row.
+     */
+    private final double[] resids;
+
+    /**
+     * Constructor.
+     * @param constraints Constraints
+     */
+    Jacobian(final Constraint... constraints) {
+        this.rows = constraints.clone();
+        this.offsets = new int[this.rows.length + 1];
+        for (int row = 0; row < this.rows.length; ++row) {
+            this.offsets[row + 1] = this.offsets[row]
+                + this.rows[row].variables().length;
+        }
+        this.columns = new int[this.offsets[this.rows.length]];
+        for (int row = 0; row < this.rows.length; ++row) {
+            final int[] vars = this.rows[row].variables();
+            System.arraycopy(vars, 0, this.columns, this.offsets[row], vars.length);
+        }
+        this.entries = new double[this.columns.length];
+        this.resids = new double[this.rows.length];
+    }
+
+    /**
+     * Gives the count of rows.
+     * @return Count of rows
+     */
+    public int size() {
+        return this.rows.length;
+    }
+
+    /**
+     * Gives the residuals, as filled last.
+     * @return Residual of each row
+     */
+    public double[] residuals() {
+        return this.resids;
+    }
+
+    /**
+     * Fills the residuals and the entries.
+     * @param params Parameters
+     * @return Sum of squared residuals
+     */
+    public double fill(final Parameters params) {
+        final double result = this.cost(params);
+        int widest = 0;
+        for (int row = 0; row < this.rows.length; ++row) {
+            widest = Math.max(widest, this.offsets[row + 1] - this.offsets[row]);
+        }
+        final double[] partial = new double[widest];
+        for (int row = 0; row < this.rows.length; ++row) {
+            this.rows[row].derivatives(params, partial);
+            for (int entry = this.offsets[row]; entry < this.offsets[row + 1];
+                ++entry) {
+                if (params.fixed(this.columns[entry])) {
+                    this.entries[entry] = 0.;
+                } else {
+                    this.entries[entry] = partial[entry - this.offsets[row]];
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Fills the residuals only.
+     * @param params Parameters
+     * @return Sum of squared residuals
+     */
+    public double cost(final Parameters params) {
+        double result = 0.;
+        for (int row = 0; row < this.rows.length; ++row) {
+            this.resids[row] = this.rows[row].residual(params);
+            result += this.resids[row] * this.resids[row];
+        }
+        return result;
+    }
+
+    /**
+     * Multiplies the Jacobian by a vector.
+     * @param vec Vector, by column
+     * @param into Product to fill, by row
+     */
+    public void multiply(final double[] vec, final double[] into) {
+        for (int row = 0; row < this.rows.length; ++row) {
+            double sum = 0.;
+            for (int entry = this.offsets[row]; entry < this.offsets[row + 1];
+                ++entry) {
+                sum += this.entries[entry] * vec[this.columns[entry]];
+            }
+            into[row] = sum;
+        }
+    }
+
+    /**
+     * Multiplies the transposed Jacobian by a vector.
+     * @param vec Vector, by row
+     * @param into Product to fill, by column
+     */
+    public void transpose(final double[] vec, final double[] into) {
+        Arrays.fill(into, 0.);
+        for (int row = 0; row < this.rows.length; ++row) {
+            for (int entry = this.offsets[row]; entry < this.offsets[row + 1];
+                ++entry) {
+                into[this.columns[entry]] += this.entries[entry] * vec[row];
+            }
+        }
+    }
+
+    /**
+     * Calculates the sums of squared entries of each column, the diagonal
+     * of the Jacobian transposed by itself.
+     * @param into Sums to fill, by column
+     */
+    public void diagonal(final double[] into) {
+        Arrays.fill(into, 0.);
+        for (int entry = 0; entry < this.entries.length; ++entry) {
+            into[this.columns[entry]] += this.entries[entry] * this.entries[entry];
+        }
+    }
+
+}
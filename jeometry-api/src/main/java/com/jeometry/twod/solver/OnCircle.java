@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.solver;
+
+import java.util.Arrays;
+
+/**
+ * Constraint on a point to belong to a circle with a free radius. The
+ * residual is the difference between the distance from the point to the
+ * center and the radius. The constraint follows the
+ * {@link com.jeometry.twod.circle.analytics.PointInCircle} predicate.
+ * @since 0.4
+ */
+public final class OnCircle implements Constraint {
+
+    /**
+     * Variables, as (x, y) indexes of the center and of the point, and the
+     * radius index.
+     */
+    private final int[] vars;
+
+    /**
+     * Constructor.
+     * @param point Point
+     * @param center Circle center
+     * @param radius Radius variable index
+     */
+    public OnCircle(final FreePoint point, final FreePoint center,
+        final int radius) {
+        this.vars = new int[] {
+            center.xvar(), center.yvar(), point.xvar(), point.yvar(), radius,
+        };
+    }
+
+    @Override
+    public int[] variables() {
+        return this.vars.clone();
+    }
+
+    @Override
+    public double residual(final Parameters params) {
+        return Math.hypot(
+            params.value(this.vars[2]) - params.value(this.vars[0]),
+            params.value(this.vars[2 + 1]) - params.value(this.vars[1])
+        ) - params.value(this.vars[2 + 2]);
+    }
+
+    @Override
+    public void derivatives(final Parameters params, final double[] into) {
+        Distance.gradient(
+            params, Arrays.copyOf(this.vars, 2 + 2), into
+        );
+        into[2 + 2] = -1.;
+    }
+
+}
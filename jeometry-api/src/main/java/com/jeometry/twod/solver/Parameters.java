@@ -0,0 +1,156 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.solver;
+
+import com.aljebra.scalar.Scalar;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+
+/**
+ * Free parameters of a parametric figure. Each parameter is a variable
+ * holding a double value, exposed as a lazy {@link Scalar} so that shapes
+ * built upon it follow its value. Fixed variables are left untouched by
+ * solvers, for instance a point being dragged.
+ * @since 0.4
+ */
+public final class Parameters {
+
+    /**
+     * Variables values.
+     */
+    private double[] vals;
+
+    /**
+     * Whether each variable is fixed.
+     */
+    private boolean[] fixd;
+
+    /**
+     * Count of variables.
+     */
+    private int count;
+
+    /**
+     * Constructor.
+     */
+    public Parameters() {
+        this.vals = new double[2];
+        this.fixd = new boolean[2];
+    }
+
+    /**
+     * Adds a free variable.
+     * @param value Initial value
+     * @return Variable index
+     */
+    public int add(final double value) {
+        if (this.count == this.vals.length) {
+            this.vals = Arrays.copyOf(this.vals, 2 * this.count);
+            this.fixd = Arrays.copyOf(this.fixd, 2 * this.count);
+        }
+        this.vals[this.count] = value;
+        this.count += 1;
+        return this.count - 1;
+    }
+
+    /**
+     * Adds a free point, with a variable for each coordinate.
+     * @param xcoor Initial X coordinate
+     * @param ycoor Initial Y coordinate
+     * @return Point
+     */
+    public FreePoint point(final double xcoor, final double ycoor) {
+        final int xvar = this.add(xcoor);
+        return new FreePoint(this, xvar, this.add(ycoor));
+    }
+
+    /**
+     * Gives a scalar following the value of a variable.
+     * @param var Variable index
+     * @return Scalar
+     */
+    public Scalar<Double> scalar(final int var) {
+        this.check(var);
+        return new Variable(this, var);
+    }
+
+    /**
+     * Gives the count of variables.
+     * @return Count of variables
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Gives the value of a variable.
+     * @param var Variable index
+     * @return Value
+     */
+    public double value(final int var) {
+        this.check(var);
+        return this.vals[var];
+    }
+
+    /**
+     * Updates the value of a variable.
+     * @param var Variable index
+     * @param value Value
+     */
+    public void update(final int var, final double value) {
+        this.check(var);
+        this.vals[var] = value;
+    }
+
+    /**
+     * Fixes a variable, or frees it.
+     * @param var Variable index
+     * @param fixed Whether the variable is fixed
+     */
+    public void fix(final int var, final boolean fixed) {
+        this.check(var);
+        this.fixd[var] = fixed;
+    }
+
+    /**
+     * Tells whether a variable is fixed.
+     * @param var Variable index
+     * @return True if the variable is fixed
+     */
+    public boolean fixed(final int var) {
+        this.check(var);
+        return this.fixd[var];
+    }
+
+    /**
+     * Checks a variable index.
+     * @param var Variable index
+     */
+    private void check(final int var) {
+        Preconditions.checkArgument(
+            var >= 0 && var < this.count, "Unknown variable %s", var
+        );
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.solver;
+
+/**
+ * Constraint on two directions, going from point A to point B and from
+ * point C to point D, to be perpendicular. The residual is the opposite
+ * of the dot product of the directions. The constraint follows the
+ * {@link com.jeometry.twod.line.analytics.Perpendicular} predicate.
+ * @since 0.4
+ */
+public final class Perpendicularity implements Constraint {
+
+    /**
+     * Constraint on a right angle.
+     */
+    private final Constraint origin;
+
+    /**
+     * Constructor.
+     * @param first First direction start
+     * @param second First direction end
+     * @param third Second direction start
+     * @param fourth Second direction end
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Perpendicularity(final FreePoint first, final FreePoint second,
+        final FreePoint third, final FreePoint fourth) {
+        this.origin = new Inclination(first, second, third, fourth, Math.PI / 2);
+    }
+
+    @Override
+    public int[] variables() {
+        return this.origin.variables();
+    }
+
+    @Override
+    public double residual(final Parameters params) {
+        return this.origin.residual(params);
+    }
+
+    @Override
+    public void derivatives(final Parameters params, final double[] into) {
+        this.origin.derivatives(params, into);
+    }
+
+}
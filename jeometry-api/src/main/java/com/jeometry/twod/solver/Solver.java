@@ -0,0 +1,240 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.solver;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterables;
+
+/**
+ * Levenberg-Marquardt solver of constraints on {@link Parameters}. Each
+ * iteration solves the damped normal equations
+ * {@code (J'J + l * diag(J'J)) d = -J'r} by Jacobi preconditioned
+ * conjugate gradients over the sparse Jacobian J, without ever forming
+ * J'J, and accepts the step only if it lowers the squared residuals.
+ * Small dampings make it a Gauss-Newton method, converging quadratically
+ * near a solution. Solving starts from the current parameters values, and
+ * the damping is kept between solves, so that solving again after moving
+ * a fixed point, as when dragging it, is warm started.
+ * @since 0.4
+ */
+public final class Solver {
+
+    /**
+     * Default maximum count of iterations.
+     */
+    private static final int ITERATIONS = 100;
+
+    /**
+     * Default tolerance on the residuals norm.
+     */
+    private static final double TOLERANCE = 1.e-10;
+
+    /**
+     * Initial damping.
+     */
+    private static final double INITIAL = 1.e-3;
+
+    /**
+     * Smallest damping.
+     */
+    private static final double SMALLEST = 1.e-12;
+
+    /**
+     * Largest damping, beyond which no descent step is searched.
+     */
+    private static final double LARGEST = 1.e16;
+
+    /**
+     * Damping update factor.
+     */
+    private static final double FACTOR = 10.;
+
+    /**
+     * Smallest diagonal scaling, for columns without entries.
+     */
+    private static final double FLOOR = 1.e-12;
+
+    /**
+     * Relative tolerance of conjugate gradients.
+     */
+    private static final double PRECISION = 1.e-12;
+
+    /**
+     * Parameters.
+     */
+    private final Parameters params;
+
+    /**
+     * Constraints Jacobian.
+     */
+    private final Jacobian jacobian;
+
+    /**
+     * Maximum count of iterations.
+     */
+    private final int iterations;
+
+    /**
+     * Tolerance on the residuals norm.
+     */
+    private final double tolerance;
+
+    /**
+     * Current damping.
+     */
+    private double damping;
+
+    /**
+     * Constructor.
+     * @param params Parameters
+     * @param constraints Constraints
+     */
+    public Solver(final Parameters params,
+        final Iterable<? extends Constraint> constraints) {
+        this(params, constraints, Solver.ITERATIONS, Solver.TOLERANCE);
+    }
+
+    /**
+     * Constructor.
+     * @param params Parameters
+     * @param constraints Constraints
+     * @param iterations Maximum count of iterations
+     * @param tolerance Tolerance on the residuals norm
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Solver(final Parameters params,
+        final Iterable<? extends Constraint> constraints, final int iterations,
+        final double tolerance) {
+        Preconditions.checkArgument(
+            iterations >= 0, "Negative count of iterations %s", iterations
+        );
+        this.params = params;
+        this.jacobian = new Jacobian(
+            Iterables.toArray(constraints, Constraint.class)
+        );
+        this.iterations = iterations;
+        this.tolerance = tolerance;
+        this.damping = Solver.INITIAL;
+    }
+
+    /**
+     * Solves the constraints, updating the free variables.
+     * @return Norm of the residuals at the solution
+     */
+    public double solve() {
+        final int size = this.params.size();
+        final double[] grad = new double[size];
+        final double[] diag = new double[size];
+        final double[] step = new double[size];
+        final double[] backup = new double[size];
+        double cost = this.jacobian.fill(this.params);
+        boolean progress = true;
+        for (int iter = 0; progress && iter < this.iterations
+            && Math.sqrt(cost) > this.tolerance; ++iter) {
+            this.jacobian.transpose(this.jacobian.residuals(), grad);
+            this.jacobian.diagonal(diag);
+            for (int var = 0; var < size; ++var) {
+                diag[var] = Math.max(diag[var], Solver.FLOOR);
+                backup[var] = this.params.value(var);
+            }
+            progress = false;
+            while (!progress && this.damping < Solver.LARGEST) {
+                this.descent(grad, diag, step);
+                for (int var = 0; var < size; ++var) {
+                    this.params.update(var, backup[var] + step[var]);
+                }
+                final double trial = this.jacobian.cost(this.params);
+                if (trial < cost) {
+                    progress = true;
+                    this.damping = Math.max(
+                        this.damping / Solver.FACTOR, Solver.SMALLEST
+                    );
+                } else {
+                    this.damping *= Solver.FACTOR;
+                }
+            }
+            if (progress) {
+                cost = this.jacobian.fill(this.params);
+            } else {
+                for (int var = 0; var < size; ++var) {
+                    this.params.update(var, backup[var]);
+                }
+                this.damping = Solver.INITIAL;
+            }
+        }
+        return Math.sqrt(cost);
+    }
+
+    /**
+     * Solves the damped normal equations by preconditioned conjugate
+     * gradients.
+     * @param grad Gradient of the half squared residuals
+     * @param diag Diagonal scaling
+     * @param step Step to fill
+     */
+    private void descent(final double[] grad, final double[] diag,
+        final double[] step) {
+        final int size = grad.length;
+        final double[] resid = new double[size];
+        final double[] precond = new double[size];
+        final double[] dir = new double[size];
+        final double[] prod = new double[size];
+        final double[] rows = new double[this.jacobian.size()];
+        double norm = 0.;
+        double dot = 0.;
+        for (int var = 0; var < size; ++var) {
+            step[var] = 0.;
+            resid[var] = -grad[var];
+            precond[var] = resid[var] / ((1. + this.damping) * diag[var]);
+            dir[var] = precond[var];
+            norm += resid[var] * resid[var];
+            dot += resid[var] * precond[var];
+        }
+        final double stop = norm * Solver.PRECISION;
+        for (int iter = 0; iter < size && norm > stop; ++iter) {
+            this.jacobian.multiply(dir, rows);
+            this.jacobian.transpose(rows, prod);
+            double curv = 0.;
+            for (int var = 0; var < size; ++var) {
+                prod[var] += this.damping * diag[var] * dir[var];
+                curv += dir[var] * prod[var];
+            }
+            final double alpha = dot / curv;
+            norm = 0.;
+            double next = 0.;
+            for (int var = 0; var < size; ++var) {
+                step[var] += alpha * dir[var];
+                resid[var] -= alpha * prod[var];
+                precond[var] = resid[var] / ((1. + this.damping) * diag[var]);
+                norm += resid[var] * resid[var];
+                next += resid[var] * precond[var];
+            }
+            for (int var = 0; var < size; ++var) {
+                dir[var] = precond[var] + next / dot * dir[var];
+            }
+            dot = next;
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.solver;
+
+import com.aljebra.field.Field;
+import com.aljebra.scalar.Scalar;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Scalar following the value of a variable of {@link Parameters}.
+ * @since 0.4
+ */
+@EqualsAndHashCode
+@ToString(includeFieldNames = false)
+final class Variable implements Scalar<Double> {
+
+    /**
+     * Parameters holding the variable.
+     */
+    private final Parameters params;
+
+    /**
+     * Variable index.
+     */
+    private final int var;
+
+    /**
+     * Constructor.
+     * @param params Parameters holding the variable
+     * @param var Variable index
+     */
+    Variable(final Parameters params, final int var) {
+        this.params = params;
+        this.var = var;
+    }
+
+    @Override
+    public Double value(final Field<Double> field) {
+        return this.params.value(this.var);
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.sweep;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * An intersection of two segments, reported by a {@link SegmentSweep}.
+ * @since 0.4
+ */
+@EqualsAndHashCode
+@ToString(includeFieldNames = false)
+public final class Crossing {
+
+    /**
+     * Lower segment index.
+     */
+    private final int lower;
+
+    /**
+     * Upper segment index.
+     */
+    private final int upper;
+
+    /**
+     * Common point X coordinate.
+     */
+    private final double xcoor;
+
+    /**
+     * Common point Y coordinate.
+     */
+    private final double ycoor;
+
+    /**
+     * Constructor.
+     * @param lower Lower segment index
+     * @param upper Upper segment index
+     * @param xcoor Common point X coordinate
+     * @param ycoor Common point Y coordinate
+     */
+    public Crossing(final int lower, final int upper, final double xcoor,
+        final double ycoor) {
+        this.lower = lower;
+        this.upper = upper;
+        this.xcoor = xcoor;
+        this.ycoor = ycoor;
+    }
+
+    /**
+     * Gives the index of the first segment.
+     * @return The lower of both segments indexes
+     */
+    public int first() {
+        return this.lower;
+    }
+
+    /**
+     * Gives the index of the second segment.
+     * @return The upper of both segments indexes
+     */
+    public int second() {
+        return this.upper;
+    }
+
+    /**
+     * Gives the X coordinate of a point common to both segments.
+     * @return X coordinate
+     */
+    public double xcoor() {
+        return this.xcoor;
+    }
+
+    /**
+     * Gives the Y coordinate of a point common to both segments.
+     * @return Y coordinate
+     */
+    public double ycoor() {
+        return this.ycoor;
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.sweep;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Segments involved in a sweep event point: the ones starting there, the
+ * ones ending there, and the ones found crossing there.
+ * @since 0.4
+ */
+final class Event {
+
+    /**
+     * Segments starting at the event point.
+     */
+    private final Set<Integer> upper;
+
+    /**
+     * Segments ending at the event point.
+     */
+    private final Set<Integer> lower;
+
+    /**
+     * Segments crossing at the event point.
+     */
+    private final Set<Integer> inner;
+
+    /**
+     * Constructor.
+     */
+    Event() {
+        this.upper = new LinkedHashSet<>(2);
+        this.lower = new LinkedHashSet<>(2);
+        this.inner = new LinkedHashSet<>(2);
+    }
+
+    /**
+     * Gives the segments starting at the event point.
+     * @return Segments indexes
+     */
+    public Set<Integer> starts() {
+        return this.upper;
+    }
+
+    /**
+     * Gives the segments ending at the event point.
+     * @return Segments indexes
+     */
+    public Set<Integer> ends() {
+        return this.lower;
+    }
+
+    /**
+     * Gives the segments found crossing at the event point.
+     * @return Segments indexes
+     */
+    public Set<Integer> crossings() {
+        return this.inner;
+    }
+
+    /**
+     * Adds two segments found crossing at the event point.
+     * @param seg First segment index
+     * @param other Second segment index
+     */
+    public void cross(final int seg, final int other) {
+        this.inner.add(seg);
+        this.inner.add(other);
+    }
+
+}
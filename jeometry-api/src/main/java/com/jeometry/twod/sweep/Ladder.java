@@ -0,0 +1,275 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.sweep;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Ordered sweep status of segments, as a treap on primitive arrays indexed
+ * by segment. Positions are searched with a comparator only when a segment
+ * enters, while neighbours and removals follow explicit links, so that
+ * rounded event points never make the status lose track of a segment.
+ * @since 0.4
+ */
+final class Ladder {
+
+    /**
+     * Index standing for no segment.
+     */
+    public static final int NONE = -1;
+
+    /**
+     * Left children.
+     */
+    private final int[] left;
+
+    /**
+     * Right children.
+     */
+    private final int[] right;
+
+    /**
+     * Parents.
+     */
+    private final int[] parent;
+
+    /**
+     * Previous segments in order.
+     */
+    private final int[] prev;
+
+    /**
+     * Next segments in order.
+     */
+    private final int[] next;
+
+    /**
+     * Heap priorities.
+     */
+    private final int[] priority;
+
+    /**
+     * Whether segments are in the status.
+     */
+    private final boolean[] present;
+
+    /**
+     * Root segment.
+     */
+    private int root;
+
+    /**
+     * Constructor.
+     * @param size Count of segments
+     */
+    Ladder(final int size) {
+        this.left = Ladder.empty(size);
+        this.right = Ladder.empty(size);
+        this.parent = Ladder.empty(size);
+        this.prev = Ladder.empty(size);
+        this.next = Ladder.empty(size);
+        this.priority = new Random(size).ints(size).toArray();
+        this.present = new boolean[size];
+        this.root = Ladder.NONE;
+    }
+
+    /**
+     * Inserts a segment at its position in an order.
+     * @param seg Segment index
+     * @param order Order
+     */
+    public void insert(final int seg, final Comparator<Integer> order) {
+        int before = Ladder.NONE;
+        int after = Ladder.NONE;
+        int cur = this.root;
+        int last = Ladder.NONE;
+        while (cur != Ladder.NONE) {
+            last = cur;
+            if (order.compare(seg, cur) < 0) {
+                after = cur;
+                cur = this.left[cur];
+            } else {
+                before = cur;
+                cur = this.right[cur];
+            }
+        }
+        this.parent[seg] = last;
+        this.left[seg] = Ladder.NONE;
+        this.right[seg] = Ladder.NONE;
+        if (last == Ladder.NONE) {
+            this.root = seg;
+        } else if (last == after) {
+            this.left[last] = seg;
+        } else {
+            this.right[last] = seg;
+        }
+        this.prev[seg] = before;
+        this.next[seg] = after;
+        if (before != Ladder.NONE) {
+            this.next[before] = seg;
+        }
+        if (after != Ladder.NONE) {
+            this.prev[after] = seg;
+        }
+        this.present[seg] = true;
+        while (this.parent[seg] != Ladder.NONE
+            && this.priority[seg] > this.priority[this.parent[seg]]) {
+            this.rotate(seg);
+        }
+    }
+
+    /**
+     * Removes a segment.
+     * @param seg Segment index
+     */
+    public void remove(final int seg) {
+        if (this.present[seg]) {
+            while (this.left[seg] != Ladder.NONE
+                || this.right[seg] != Ladder.NONE) {
+                final int child;
+                if (this.left[seg] == Ladder.NONE) {
+                    child = this.right[seg];
+                } else if (this.right[seg] == Ladder.NONE
+                    || this.priority[this.left[seg]]
+                    > this.priority[this.right[seg]]) {
+                    child = this.left[seg];
+                } else {
+                    child = this.right[seg];
+                }
+                this.rotate(child);
+            }
+            final int top = this.parent[seg];
+            if (top == Ladder.NONE) {
+                this.root = Ladder.NONE;
+            } else if (this.left[top] == seg) {
+                this.left[top] = Ladder.NONE;
+            } else {
+                this.right[top] = Ladder.NONE;
+            }
+            if (this.prev[seg] != Ladder.NONE) {
+                this.next[this.prev[seg]] = this.next[seg];
+            }
+            if (this.next[seg] != Ladder.NONE) {
+                this.prev[this.next[seg]] = this.prev[seg];
+            }
+            this.present[seg] = false;
+        }
+    }
+
+    /**
+     * Gives the segment below another one in the status.
+     * @param seg Segment index
+     * @return Segment index, or {@link #NONE}
+     */
+    public int below(final int seg) {
+        return this.prev[seg];
+    }
+
+    /**
+     * Gives the segment above another one in the status.
+     * @param seg Segment index
+     * @return Segment index, or {@link #NONE}
+     */
+    public int above(final int seg) {
+        return this.next[seg];
+    }
+
+    /**
+     * Searches the last segment ordered before a segment or location which
+     * is not in the status.
+     * @param probe Segment or location index
+     * @param order Order
+     * @return Segment index, or {@link #NONE}
+     */
+    public int floor(final int probe, final Comparator<Integer> order) {
+        int result = Ladder.NONE;
+        int cur = this.root;
+        while (cur != Ladder.NONE) {
+            if (order.compare(probe, cur) < 0) {
+                cur = this.left[cur];
+            } else {
+                result = cur;
+                cur = this.right[cur];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gives the lowest segment of the status.
+     * @return Segment index, or {@link #NONE}
+     */
+    public int first() {
+        int result = this.root;
+        while (result != Ladder.NONE && this.left[result] != Ladder.NONE) {
+            result = this.left[result];
+        }
+        return result;
+    }
+
+    /**
+     * Rotates a segment above its parent.
+     * @param seg Segment index
+     */
+    private void rotate(final int seg) {
+        final int top = this.parent[seg];
+        final int grand = this.parent[top];
+        if (this.left[top] == seg) {
+            this.left[top] = this.right[seg];
+            if (this.right[seg] != Ladder.NONE) {
+                this.parent[this.right[seg]] = top;
+            }
+            this.right[seg] = top;
+        } else {
+            this.right[top] = this.left[seg];
+            if (this.left[seg] != Ladder.NONE) {
+                this.parent[this.left[seg]] = top;
+            }
+            this.left[seg] = top;
+        }
+        this.parent[top] = seg;
+        this.parent[seg] = grand;
+        if (grand == Ladder.NONE) {
+            this.root = seg;
+        } else if (this.left[grand] == top) {
+            this.left[grand] = seg;
+        } else {
+            this.right[grand] = seg;
+        }
+    }
+
+    /**
+     * Builds an array of missing segments.
+     * @param size Array size
+     * @return Array filled with {@link #NONE}
+     */
+    private static int[] empty(final int size) {
+        final int[] result = new int[size];
+        Arrays.fill(result, Ladder.NONE);
+        return result;
+    }
+
+}
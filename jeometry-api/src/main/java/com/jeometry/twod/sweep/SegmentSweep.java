@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.sweep;
+
+import com.aljebra.field.Field;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.vector.Vect;
+import com.jeometry.twod.segment.Segment;
+import java.util.List;
+
+/**
+ * Reports all intersecting pairs among segments with double coordinates,
+ * using a Bentley-Ottmann sweep line in O((n + k) log n) time for n
+ * segments and k intersections. Segments are stored in a primitive array,
+ * intersection tests use exact orientation predicates, and parallel,
+ * overlapping, touching or point segments are reported as intersecting
+ * when they share a point.
+ * @since 0.4
+ */
+public final class SegmentSweep {
+
+    /**
+     * Segments.
+     */
+    private final Segments segments;
+
+    /**
+     * Constructor.
+     * @param coords Segments coordinates, as (x1, y1, x2, y2) per segment
+     */
+    public SegmentSweep(final double[] coords) {
+        this.segments = new Segments(coords);
+    }
+
+    /**
+     * Constructor.
+     * @param segments Segments
+     */
+    public SegmentSweep(final List<? extends Segment<Double>> segments) {
+        this(segments, new Decimal());
+    }
+
+    /**
+     * Constructor.
+     * @param segments Segments
+     * @param field Field for scalar operations
+     */
+    public SegmentSweep(final List<? extends Segment<Double>> segments,
+        final Field<Double> field) {
+        this(SegmentSweep.coords(segments, field));
+    }
+
+    /**
+     * Calculates the intersecting pairs of segments. Segments are identified
+     * by their index, and each pair is reported once with a common point.
+     * @return Crossings, in sweep order
+     */
+    public List<Crossing> crossings() {
+        return new Sweep(this.segments).crossings();
+    }
+
+    /**
+     * Packs segments coordinates.
+     * @param segments Segments
+     * @param field Field for scalar operations
+     * @return Coordinates, as (x1, y1, x2, y2) per segment
+     */
+    private static double[] coords(final List<? extends Segment<Double>> segments,
+        final Field<Double> field) {
+        final double[] result = new double[2 * 2 * segments.size()];
+        for (int idx = 0; idx < segments.size(); ++idx) {
+            final Vect<Double> start = segments.get(idx).start();
+            final Vect<Double> end = segments.get(idx).end();
+            result[2 * 2 * idx] = field.actual(start.coords()[0]);
+            result[2 * 2 * idx + 1] = field.actual(start.coords()[1]);
+            result[2 * 2 * idx + 2] = field.actual(end.coords()[0]);
+            result[2 * 2 * idx + 2 + 1] = field.actual(end.coords()[1]);
+        }
+        return result;
+    }
+
+}
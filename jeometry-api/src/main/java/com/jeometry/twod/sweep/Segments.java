@@ -0,0 +1,366 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.sweep;
+
+import com.google.common.base.Preconditions;
+import com.jeometry.twod.predicate.Orientation;
+
+/**
+ * Segments coordinates stored in a primitive array, each segment oriented
+ * from its lowest extremity in the (X, Y) order. Intersection tests rely on
+ * exact orientation predicates, while intersection points are computed in
+ * double precision.
+ * @since 0.4
+ */
+final class Segments {
+
+    /**
+     * Count of doubles per segment.
+     */
+    private static final int STRIDE = 4;
+
+    /**
+     * Offset of the end Y coordinate of a segment.
+     */
+    private static final int YEND = 3;
+
+    /**
+     * Relative distance under which segments are considered as passing
+     * through a rounded event point.
+     */
+    private static final double TOLERANCE = 1e-9;
+
+    /**
+     * Oriented segments coordinates, as (xstart, ystart, xend, yend).
+     */
+    private final double[] coords;
+
+    /**
+     * Largest absolute coordinate.
+     */
+    private final double scale;
+
+    /**
+     * Orientation predicate.
+     */
+    private final Orientation orient;
+
+    /**
+     * Constructor.
+     * @param coords Segments coordinates, as (x1, y1, x2, y2) per segment
+     */
+    Segments(final double[] coords) {
+        Preconditions.checkArgument(
+            coords.length % Segments.STRIDE == 0,
+            "Expected four coordinates per segment, got %s values",
+            coords.length
+        );
+        this.coords = coords.clone();
+        this.orient = new Orientation();
+        double max = 0.;
+        for (final double coord : coords) {
+            max = Math.max(max, Math.abs(coord));
+        }
+        this.scale = max;
+        for (int idx = 0; idx < coords.length; idx += Segments.STRIDE) {
+            if (new SweepPoint(coords[idx], coords[idx + 1]).compareTo(
+                new SweepPoint(coords[idx + 2], coords[idx + Segments.YEND])
+            ) > 0) {
+                this.coords[idx] = coords[idx + 2];
+                this.coords[idx + 1] = coords[idx + Segments.YEND];
+                this.coords[idx + 2] = coords[idx];
+                this.coords[idx + Segments.YEND] = coords[idx + 1];
+            }
+        }
+    }
+
+    /**
+     * Gives the count of segments.
+     * @return Count of segments
+     */
+    public int size() {
+        return this.coords.length / Segments.STRIDE;
+    }
+
+    /**
+     * Gives the lowest extremity of a segment.
+     * @param seg Segment index
+     * @return Start point
+     */
+    public SweepPoint start(final int seg) {
+        return new SweepPoint(
+            this.coords[Segments.STRIDE * seg],
+            this.coords[Segments.STRIDE * seg + 1]
+        );
+    }
+
+    /**
+     * Gives the highest extremity of a segment.
+     * @param seg Segment index
+     * @return End point
+     */
+    public SweepPoint end(final int seg) {
+        return new SweepPoint(
+            this.coords[Segments.STRIDE * seg + 2],
+            this.coords[Segments.STRIDE * seg + Segments.YEND]
+        );
+    }
+
+    /**
+     * Calculates the Y coordinate of a segment on a vertical sweep line.
+     * Vertical segments give the sweep Y coordinate clamped to their range.
+     * @param seg Segment index
+     * @param xcoor Sweep X coordinate
+     * @param ycoor Sweep Y coordinate
+     * @return Y coordinate
+     */
+    public double yat(final int seg, final double xcoor, final double ycoor) {
+        final int base = Segments.STRIDE * seg;
+        final double xstart = this.coords[base];
+        final double ystart = this.coords[base + 1];
+        final double xend = this.coords[base + 2];
+        final double yend = this.coords[base + Segments.YEND];
+        final double result;
+        if (xstart == xend) {
+            result = Math.max(ystart, Math.min(ycoor, yend));
+        } else if (xcoor <= xstart) {
+            result = ystart;
+        } else if (xcoor >= xend) {
+            result = yend;
+        } else {
+            result = ystart
+                + (yend - ystart) * ((xcoor - xstart) / (xend - xstart));
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether a segment passes through a rounded event point, up to
+     * a tolerance relative to the coordinates magnitude.
+     * @param seg Segment index
+     * @param point Event point
+     * @return True if the segment passes close to the point
+     */
+    public boolean near(final int seg, final SweepPoint point) {
+        return Math.abs(this.yat(seg, point.xcoor(), point.ycoor()) - point.ycoor())
+            <= Segments.TOLERANCE * this.scale;
+    }
+
+    /**
+     * Compares the slopes of two segments. Vertical segments have the
+     * highest slope.
+     * @param first First segment index
+     * @param second Second segment index
+     * @return Negative, zero or positive if the first slope is lower, equal
+     *  or higher than the second
+     */
+    public int slope(final int first, final int second) {
+        final int one = Segments.STRIDE * first;
+        final int two = Segments.STRIDE * second;
+        return this.orient.sign(
+            0., 0.,
+            this.coords[two + 2] - this.coords[two],
+            this.coords[two + Segments.YEND] - this.coords[two + 1],
+            this.coords[one + 2] - this.coords[one],
+            this.coords[one + Segments.YEND] - this.coords[one + 1]
+        );
+    }
+
+    /**
+     * Checks exactly whether a point lies on a segment.
+     * @param seg Segment index
+     * @param point Point
+     * @return True if the point is on the segment
+     */
+    public boolean contains(final int seg, final SweepPoint point) {
+        return this.side(seg, point.xcoor(), point.ycoor()) == 0
+            && this.start(seg).compareTo(point) <= 0
+            && point.compareTo(this.end(seg)) <= 0;
+    }
+
+    /**
+     * Checks whether two segments lie on the same line. Segments reduced
+     * to a point are not collinear to any segment.
+     * @param first First segment index
+     * @param second Second segment index
+     * @return True if the segments are collinear
+     */
+    public boolean collinear(final int first, final int second) {
+        final int two = Segments.STRIDE * second;
+        return !this.degenerate(first) && !this.degenerate(second)
+            && this.side(first, this.coords[two], this.coords[two + 1]) == 0
+            && this.side(
+                first, this.coords[two + 2], this.coords[two + Segments.YEND]
+            ) == 0;
+    }
+
+    /**
+     * Checks exactly whether two segments intersect.
+     * @param first First segment index
+     * @param second Second segment index
+     * @return True if the segments have a common point
+     */
+    public boolean intersect(final int first, final int second) {
+        final int one = Segments.STRIDE * first;
+        final int two = Segments.STRIDE * second;
+        final int sstart = this.side(first, this.coords[two], this.coords[two + 1]);
+        final int send = this.side(
+            first, this.coords[two + 2], this.coords[two + Segments.YEND]
+        );
+        final int fstart = this.side(second, this.coords[one], this.coords[one + 1]);
+        final int fend = this.side(
+            second, this.coords[one + 2], this.coords[one + Segments.YEND]
+        );
+        final boolean result;
+        if (this.degenerate(first)) {
+            result = this.contains(second, this.start(first));
+        } else if (this.degenerate(second)) {
+            result = this.contains(first, this.start(second));
+        } else if (sstart == 0 && send == 0) {
+            result = this.start(first).compareTo(this.end(second)) <= 0
+                && this.start(second).compareTo(this.end(first)) <= 0;
+        } else {
+            result = sstart * send <= 0 && fstart * fend <= 0
+                && (sstart * send < 0 || this.contains(first, this.start(second))
+                    || this.contains(first, this.end(second))
+                    || fstart * fend < 0
+                    || this.contains(second, this.start(first))
+                    || this.contains(second, this.end(first)));
+        }
+        return result;
+    }
+
+    /**
+     * Calculates a point common to two intersecting segments. Extremities
+     * lying on the other segment are returned exactly, collinear segments
+     * give the start of their overlap, and other crossings are computed in
+     * double precision and clamped to both segments bounds.
+     * @param first First segment index
+     * @param second Second segment index
+     * @return Common point
+     */
+    public SweepPoint point(final int first, final int second) {
+        final SweepPoint result;
+        if (this.degenerate(first)) {
+            result = this.start(first);
+        } else if (this.degenerate(second)) {
+            result = this.start(second);
+        } else if (this.collinear(first, second)) {
+            if (this.start(first).compareTo(this.start(second)) < 0) {
+                result = this.start(second);
+            } else {
+                result = this.start(first);
+            }
+        } else if (this.contains(first, this.start(second))) {
+            result = this.start(second);
+        } else if (this.contains(first, this.end(second))) {
+            result = this.end(second);
+        } else if (this.contains(second, this.start(first))) {
+            result = this.start(first);
+        } else if (this.contains(second, this.end(first))) {
+            result = this.end(first);
+        } else {
+            result = this.crossing(first, second);
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether a segment is reduced to a point.
+     * @param seg Segment index
+     * @return True if both segment extremities are equal
+     */
+    public boolean degenerate(final int seg) {
+        return this.start(seg).equals(this.end(seg));
+    }
+
+    /**
+     * Calculates the crossing point of two segments crossing in their
+     * interiors.
+     * @param first First segment index
+     * @param second Second segment index
+     * @return Crossing point
+     */
+    private SweepPoint crossing(final int first, final int second) {
+        final int one = Segments.STRIDE * first;
+        final int two = Segments.STRIDE * second;
+        final double xfirst = this.coords[one + 2] - this.coords[one];
+        final double yfirst = this.coords[one + Segments.YEND] - this.coords[one + 1];
+        final double xsecond = this.coords[two + 2] - this.coords[two];
+        final double ysecond = this.coords[two + Segments.YEND] - this.coords[two + 1];
+        final double xdiff = this.coords[two] - this.coords[one];
+        final double ydiff = this.coords[two + 1] - this.coords[one + 1];
+        final double ratio = (xdiff * ysecond - ydiff * xsecond)
+            / (xfirst * ysecond - yfirst * xsecond);
+        final double xcoor = this.coords[one] + ratio * xfirst;
+        final double ycoor = this.coords[one + 1] + ratio * yfirst;
+        return new SweepPoint(
+            Segments.clamp(
+                xcoor,
+                Math.max(this.coords[one], this.coords[two]),
+                Math.min(this.coords[one + 2], this.coords[two + 2])
+            ),
+            Segments.clamp(
+                ycoor,
+                Math.max(
+                    Math.min(this.coords[one + 1], this.coords[one + Segments.YEND]),
+                    Math.min(this.coords[two + 1], this.coords[two + Segments.YEND])
+                ),
+                Math.min(
+                    Math.max(this.coords[one + 1], this.coords[one + Segments.YEND]),
+                    Math.max(this.coords[two + 1], this.coords[two + Segments.YEND])
+                )
+            )
+        );
+    }
+
+    /**
+     * Calculates the side of a point relative to a segment line.
+     * @param seg Segment index
+     * @param xcoor Point X coordinate
+     * @param ycoor Point Y coordinate
+     * @return 1 if the point is on the left, -1 if on the right, 0 if on
+     *  the line
+     */
+    private int side(final int seg, final double xcoor, final double ycoor) {
+        final int base = Segments.STRIDE * seg;
+        return this.orient.sign(
+            this.coords[base], this.coords[base + 1], this.coords[base + 2],
+            this.coords[base + Segments.YEND], xcoor, ycoor
+        );
+    }
+
+    /**
+     * Clamps a value in a range.
+     * @param value Value
+     * @param min Range minimum
+     * @param max Range maximum
+     * @return Clamped value
+     */
+    private static double clamp(final double value, final double min,
+        final double max) {
+        return Math.max(min, Math.min(value, max));
+    }
+
+}
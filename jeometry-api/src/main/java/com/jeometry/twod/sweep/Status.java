@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.sweep;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Set;
+
+/**
+ * Order of the segments crossed by the sweep line, just after the current
+ * event point. Segments are ordered by their Y coordinate on the sweep
+ * line, then by slope. Segments through the event point are given its
+ * exact Y coordinate, so that rounded crossing points do not break ties.
+ * As points on the sweep line are swept from bottom to top, segments
+ * meeting above the event point are ordered as before their meeting point.
+ * Before an event point is handled, the segments through it are still
+ * ordered as before the event point, and the {@link #PROBE} index stands
+ * for the event point itself, below all segments through it.
+ * @since 0.4
+ */
+final class Status implements Comparator<Integer> {
+
+    /**
+     * Index standing for the event point in comparisons.
+     */
+    public static final int PROBE = -1;
+
+    /**
+     * Segments.
+     */
+    private final Segments segments;
+
+    /**
+     * Current event point.
+     */
+    private SweepPoint point;
+
+    /**
+     * Segments through the current event point.
+     */
+    private Set<Integer> through;
+
+    /**
+     * Whether segments are ordered as before the current event point.
+     */
+    private boolean before;
+
+    /**
+     * Constructor.
+     * @param segments Segments
+     */
+    Status(final Segments segments) {
+        this.segments = segments;
+        this.point = new SweepPoint(
+            Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY
+        );
+        this.through = Collections.emptySet();
+    }
+
+    /**
+     * Moves the sweep line just before an event point.
+     * @param event Event point
+     */
+    public void reach(final SweepPoint event) {
+        this.point = event;
+        this.through = Collections.emptySet();
+        this.before = true;
+    }
+
+    /**
+     * Moves the sweep line just after an event point.
+     * @param event Event point
+     * @param segs Segments through the event point
+     */
+    public void move(final SweepPoint event, final Set<Integer> segs) {
+        this.point = event;
+        this.through = segs;
+        this.before = false;
+    }
+
+    @Override
+    public int compare(final Integer first, final Integer second) {
+        int result = 0;
+        if (first.intValue() != second.intValue()) {
+            final double yfirst = this.yat(first);
+            final double ysecond = this.yat(second);
+            if (yfirst < ysecond) {
+                result = -1;
+            } else if (yfirst > ysecond) {
+                result = 1;
+            } else if (first == Status.PROBE) {
+                result = -1;
+            } else if (second == Status.PROBE) {
+                result = 1;
+            } else {
+                result = this.segments.slope(first, second);
+                if (yfirst > this.point.ycoor()
+                    || this.before && yfirst == this.point.ycoor()) {
+                    result = -result;
+                }
+                if (result == 0) {
+                    result = Integer.compare(first, second);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the Y coordinate of a segment on the sweep line.
+     * @param seg Segment index
+     * @return Y coordinate
+     */
+    private double yat(final Integer seg) {
+        final double result;
+        if (seg == Status.PROBE || this.through.contains(seg)) {
+            result = this.point.ycoor();
+        } else {
+            result = this.segments.yat(
+                seg, this.point.xcoor(), this.point.ycoor()
+            );
+        }
+        return result;
+    }
+
+}
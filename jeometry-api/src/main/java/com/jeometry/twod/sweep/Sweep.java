@@ -0,0 +1,349 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.sweep;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A single run of the Bentley-Ottmann sweep over segments. Event points
+ * are processed in (X, Y) order; at each one, the segments ending or
+ * crossing there leave the sweep status, the segments starting or crossing
+ * there enter it in their new order, and only newly adjacent segments are
+ * tested for intersection. Each intersecting pair is reported once.
+ * @since 0.4
+ */
+final class Sweep {
+
+    /**
+     * Segments.
+     */
+    private final Segments segments;
+
+    /**
+     * Pending event points.
+     */
+    private final TreeMap<SweepPoint, Event> events;
+
+    /**
+     * Sweep status order.
+     */
+    private final Status order;
+
+    /**
+     * Segments crossed by the sweep line.
+     */
+    private final Ladder status;
+
+    /**
+     * Keys of the reported segment pairs.
+     */
+    private final Set<Long> reported;
+
+    /**
+     * Reported crossings.
+     */
+    private final List<Crossing> found;
+
+    /**
+     * Constructor.
+     * @param segments Segments
+     */
+    Sweep(final Segments segments) {
+        this.segments = segments;
+        this.events = new TreeMap<>();
+        this.order = new Status(segments);
+        this.status = new Ladder(segments.size());
+        this.reported = new HashSet<>(0);
+        this.found = new ArrayList<>(0);
+        for (int seg = 0; seg < segments.size(); ++seg) {
+            this.event(segments.start(seg)).starts().add(seg);
+            this.event(segments.end(seg)).ends().add(seg);
+        }
+    }
+
+    /**
+     * Runs the sweep.
+     * @return Crossings, in sweep order
+     */
+    public List<Crossing> crossings() {
+        while (!this.events.isEmpty()) {
+            final Map.Entry<SweepPoint, Event> next =
+                this.events.pollFirstEntry();
+            this.handle(next.getKey(), next.getValue());
+        }
+        return this.found;
+    }
+
+    /**
+     * Handles an event point.
+     * @param point Event point
+     * @param event Segments involved at the event point
+     */
+    private void handle(final SweepPoint point, final Event event) {
+        this.order.reach(point);
+        final Set<Integer> through = this.through(point, event);
+        final Set<Integer> leaving = new LinkedHashSet<>(event.ends());
+        leaving.addAll(event.crossings());
+        leaving.addAll(through);
+        final List<Integer> all = new ArrayList<>(event.starts());
+        all.addAll(leaving);
+        for (int first = 0; first < all.size(); ++first) {
+            for (int second = first + 1; second < all.size(); ++second) {
+                this.test(all.get(first), all.get(second), point);
+            }
+        }
+        Optional<Integer> below = Optional.empty();
+        Optional<Integer> above = Optional.empty();
+        for (final Integer seg : leaving) {
+            if (!below.isPresent()) {
+                below = this.neighbour(seg, leaving, true);
+            }
+            if (!above.isPresent()) {
+                above = this.neighbour(seg, leaving, false);
+            }
+        }
+        for (final Integer seg : leaving) {
+            this.status.remove(seg);
+        }
+        final Set<Integer> entering = new LinkedHashSet<>(event.starts());
+        entering.addAll(event.crossings());
+        entering.addAll(through);
+        entering.removeAll(event.ends());
+        this.order.move(point, entering);
+        for (final Integer seg : entering) {
+            this.status.insert(seg, this.order);
+        }
+        if (entering.isEmpty()) {
+            this.check(below, above, point);
+        } else {
+            final Integer lowest = Collections.min(entering, this.order);
+            final Integer highest = Collections.max(entering, this.order);
+            this.check(this.next(lowest, true), Optional.of(lowest), point);
+            this.check(Optional.of(highest), this.next(highest, false), point);
+            for (final Integer seg : entering) {
+                this.overlaps(seg);
+            }
+        }
+    }
+
+    /**
+     * Finds the segments of the status passing through an event point,
+     * around the position of the event point in the status.
+     * @param point Event point
+     * @param event Segments involved at the event point
+     * @return Segments indexes
+     */
+    private Set<Integer> through(final SweepPoint point, final Event event) {
+        final Set<Integer> result = new LinkedHashSet<>(0);
+        final int floor = this.status.floor(Status.PROBE, this.order);
+        Optional<Integer> other = Sweep.segment(floor);
+        while (other.isPresent() && this.passes(other.get(), point, event)) {
+            result.add(other.get());
+            other = this.next(other.get(), true);
+        }
+        if (floor == Ladder.NONE) {
+            other = Sweep.segment(this.status.first());
+        } else {
+            other = this.next(floor, false);
+        }
+        while (other.isPresent() && this.passes(other.get(), point, event)) {
+            result.add(other.get());
+            other = this.next(other.get(), false);
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether a segment passes through an event point. Crossing
+     * event points are rounded, so segments passing close to it are handled
+     * as passing through it, and nearly concurrent segments are ordered by
+     * slope all together.
+     * @param seg Segment index
+     * @param point Event point
+     * @param event Segments involved at the event point
+     * @return True if the segment contains the event point
+     */
+    private boolean passes(final Integer seg, final SweepPoint point,
+        final Event event) {
+        return this.segments.near(seg, point)
+            || event.crossings().contains(seg);
+    }
+
+    /**
+     * Finds the closest segment of the status below or above a leaving one,
+     * which does not leave itself.
+     * @param seg Leaving segment index
+     * @param leaving Leaving segments indexes
+     * @param lower Whether to search below, or above
+     * @return Neighbour segment index, if any
+     */
+    private Optional<Integer> neighbour(final Integer seg,
+        final Set<Integer> leaving, final boolean lower) {
+        Optional<Integer> result = this.next(seg, lower);
+        while (result.isPresent() && leaving.contains(result.get())) {
+            result = this.next(result.get(), lower);
+        }
+        return result;
+    }
+
+    /**
+     * Tests two adjacent segments, and either schedules their crossing as
+     * an event point ahead of the sweep line or reports it. Rounded crossing
+     * points may fall behind the sweep line: such segments still in their
+     * order before crossing are swapped by handling the current event point
+     * again. They may also fall past the end of one of the segments: the
+     * crossing is then handled at that end, so that the ended segment does
+     * not enter the status again.
+     * @param first Lower segment index, if any
+     * @param second Upper segment index, if any
+     * @param point Current event point
+     */
+    private void check(final Optional<Integer> first,
+        final Optional<Integer> second, final SweepPoint point) {
+        if (first.isPresent() && second.isPresent()
+            && this.segments.intersect(first.get(), second.get())) {
+            final SweepPoint cross = Collections.min(
+                Arrays.asList(
+                    this.segments.point(first.get(), second.get()),
+                    this.segments.end(first.get()),
+                    this.segments.end(second.get())
+                )
+            );
+            if (cross.compareTo(point) > 0) {
+                this.event(cross).cross(first.get(), second.get());
+            } else {
+                if (this.segments.slope(first.get(), second.get()) > 0) {
+                    this.event(point).cross(first.get(), second.get());
+                }
+                this.report(first.get(), second.get(), cross);
+            }
+        }
+    }
+
+    /**
+     * Reports the overlaps of an entering segment with the collinear
+     * segments next to it in the status.
+     * @param seg Entering segment index
+     */
+    private void overlaps(final Integer seg) {
+        for (final boolean lower : new boolean[] {true, false}) {
+            Optional<Integer> other = this.next(seg, lower);
+            while (other.isPresent()
+                && this.segments.collinear(seg, other.get())) {
+                if (this.segments.intersect(seg, other.get())) {
+                    this.report(
+                        seg, other.get(), this.segments.point(seg, other.get())
+                    );
+                }
+                other = this.next(other.get(), lower);
+            }
+        }
+    }
+
+    /**
+     * Tests two segments meeting at an event point, and reports them if
+     * they intersect.
+     * @param first First segment index
+     * @param second Second segment index
+     * @param point Event point
+     */
+    private void test(final int first, final int second,
+        final SweepPoint point) {
+        if (first != second && this.segments.intersect(first, second)) {
+            this.report(first, second, point);
+        }
+    }
+
+    /**
+     * Reports a crossing, unless already reported for the same segments.
+     * @param first First segment index
+     * @param second Second segment index
+     * @param point Common point
+     */
+    private void report(final int first, final int second,
+        final SweepPoint point) {
+        final int lower = Math.min(first, second);
+        final int upper = Math.max(first, second);
+        if (this.reported.add((long) lower * this.segments.size() + upper)) {
+            this.found.add(
+                new Crossing(lower, upper, point.xcoor(), point.ycoor())
+            );
+        }
+    }
+
+    /**
+     * Gives the next segment of the status below or above a segment.
+     * @param seg Segment index
+     * @param lower Whether to search below, or above
+     * @return Next segment index, if any
+     */
+    private Optional<Integer> next(final int seg, final boolean lower) {
+        final int result;
+        if (lower) {
+            result = this.status.below(seg);
+        } else {
+            result = this.status.above(seg);
+        }
+        return Sweep.segment(result);
+    }
+
+    /**
+     * Wraps a status segment index.
+     * @param seg Segment index, or {@link Ladder#NONE}
+     * @return Segment index, if any
+     */
+    private static Optional<Integer> segment(final int seg) {
+        final Optional<Integer> result;
+        if (seg == Ladder.NONE) {
+            result = Optional.empty();
+        } else {
+            result = Optional.of(seg);
+        }
+        return result;
+    }
+
+    /**
+     * Gives the event at a point, adding it if needed.
+     * @param point Event point
+     * @return Event
+     */
+    private Event event(final SweepPoint point) {
+        Event result = this.events.get(point);
+        if (result == null) {
+            result = new Event();
+            this.events.put(point, result);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.sweep;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * An event point of a sweep, ordered by X then Y coordinates.
+ * @since 0.4
+ */
+@EqualsAndHashCode
+@ToString(includeFieldNames = false)
+final class SweepPoint implements Comparable<SweepPoint> {
+
+    /**
+     * X coordinate.
+     */
+    private final double xcoor;
+
+    /**
+     * Y coordinate.
+     */
+    private final double ycoor;
+
+    /**
+     * Constructor.
+     * @param xcoor X coordinate
+     * @param ycoor Y coordinate
+     */
+    SweepPoint(final double xcoor, final double ycoor) {
+        this.xcoor = xcoor + 0.;
+        this.ycoor = ycoor + 0.;
+    }
+
+    /**
+     * Gives the X coordinate.
+     * @return X coordinate
+     */
+    public double xcoor() {
+        return this.xcoor;
+    }
+
+    /**
+     * Gives the Y coordinate.
+     * @return Y coordinate
+     */
+    public double ycoor() {
+        return this.ycoor;
+    }
+
+    @Override
+    public int compareTo(final SweepPoint other) {
+        int result = Double.compare(this.xcoor, other.xcoor);
+        if (result == 0) {
+            result = Double.compare(this.ycoor, other.ycoor);
+        }
+        return result;
+    }
+
+}
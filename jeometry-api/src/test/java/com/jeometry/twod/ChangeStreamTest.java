@@ -0,0 +1,301 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod;
+
+import com.jeometry.twod.flow.Subscriber;
+import com.jeometry.twod.flow.Subscription;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link ChangeStream}.
+ * @since 0.4
+ */
+public final class ChangeStreamTest {
+
+    /**
+     * Executor running tasks in the calling thread.
+     */
+    static final Executor DIRECT = new Executor() {
+        @Override
+        public void execute(final Runnable task) {
+            task.run();
+        }
+    };
+
+    /**
+     * {@link ChangeStream} coalesces the changes of a same shape, and
+     * drops shapes added and removed.
+     */
+    @Test
+    public void coalescesChanges() {
+        final ChangeStream stream = new ChangeStream();
+        final List<Changes> received = new ArrayList<>(1);
+        final Recorder recorder = new Recorder(received, 0);
+        stream.publisher(ChangeStreamTest.DIRECT).subscribe(recorder);
+        final Shape<?> first = ChangeStreamTest.shape();
+        final Shape<?> second = ChangeStreamTest.shape();
+        final Shape<?> other = ChangeStreamTest.shape();
+        stream.publish("a", new Change(null, first, 1));
+        stream.publish(1, new Change(null, other, 2));
+        stream.publish("b", new Change(null, other, 2 + 1));
+        stream.publish("a", new Change(first, second, 2 + 2));
+        stream.publish("b", new Change(other, null, 2 + 2 + 1));
+        MatcherAssert.assertThat(received, Matchers.empty());
+        recorder.subscription().request(1);
+        MatcherAssert.assertThat(received, Matchers.hasSize(1));
+        MatcherAssert.assertThat(
+            received.get(0).changes(),
+            Matchers.contains(
+                new Change(null, second, 2 + 2), new Change(null, other, 2)
+            )
+        );
+        MatcherAssert.assertThat(
+            received.get(0).version(), Matchers.is(2L + 2L + 1L)
+        );
+    }
+
+    /**
+     * {@link ChangeStream} delivers batches only as demanded.
+     */
+    @Test
+    public void deliversOnDemand() {
+        final ChangeStream stream = new ChangeStream();
+        final List<Changes> received = new ArrayList<>(1);
+        final Recorder recorder = new Recorder(received, 1);
+        stream.publisher(ChangeStreamTest.DIRECT).subscribe(recorder);
+        stream.publish(0, new Change(null, ChangeStreamTest.shape(), 1));
+        stream.publish(1, new Change(null, ChangeStreamTest.shape(), 2));
+        stream.publish(2, new Change(null, ChangeStreamTest.shape(), 2 + 1));
+        MatcherAssert.assertThat(received, Matchers.hasSize(1));
+        recorder.subscription().request(2);
+        MatcherAssert.assertThat(received, Matchers.hasSize(2));
+        MatcherAssert.assertThat(
+            received.get(1).changes(), Matchers.hasSize(2)
+        );
+        stream.publish(2 + 1, new Change(null, ChangeStreamTest.shape(), 2 + 2));
+        MatcherAssert.assertThat(received, Matchers.hasSize(2 + 1));
+    }
+
+    /**
+     * {@link ChangeStream} drops the changes queued past its limit, and
+     * delivers a reset.
+     */
+    @Test
+    public void resetsPastLimit() {
+        final ChangeStream stream = new ChangeStream(2);
+        final List<Changes> received = new ArrayList<>(1);
+        final Recorder recorder = new Recorder(received, 0);
+        stream.publisher(ChangeStreamTest.DIRECT).subscribe(recorder);
+        for (int idx = 0; idx < 2 + 2; ++idx) {
+            stream.publish(idx, new Change(null, ChangeStreamTest.shape(), idx + 1));
+        }
+        recorder.subscription().request(1);
+        MatcherAssert.assertThat(received.get(0).reset(), Matchers.is(true));
+        MatcherAssert.assertThat(
+            received.get(0).changes(), Matchers.hasSize(1)
+        );
+        MatcherAssert.assertThat(received.get(0).version(), Matchers.is(2L + 2L));
+    }
+
+    /**
+     * {@link ChangeStream} terminates subscriptions with an error on non
+     * positive requests.
+     */
+    @Test
+    public void rejectsNonPositiveRequests() {
+        final ChangeStream stream = new ChangeStream();
+        final Recorder recorder = new Recorder(new ArrayList<>(0), 0);
+        stream.publisher(ChangeStreamTest.DIRECT).subscribe(recorder);
+        recorder.subscription().request(0);
+        MatcherAssert.assertThat(
+            recorder.errors(),
+            Matchers.contains(Matchers.instanceOf(IllegalArgumentException.class))
+        );
+        MatcherAssert.assertThat(recorder.completed(), Matchers.is(false));
+    }
+
+    /**
+     * {@link ChangeStream} terminates subscriptions with the error thrown
+     * by the subscriber.
+     */
+    @Test
+    public void reportsSubscriberErrors() {
+        final ChangeStream stream = new ChangeStream();
+        final Recorder recorder = new Recorder(
+            Collections.<Changes>emptyList(), Long.MAX_VALUE
+        );
+        stream.publisher(ChangeStreamTest.DIRECT).subscribe(recorder);
+        stream.publish(0, new Change(null, ChangeStreamTest.shape(), 1));
+        stream.publish(1, new Change(null, ChangeStreamTest.shape(), 2));
+        MatcherAssert.assertThat(
+            recorder.errors(),
+            Matchers.contains(
+                Matchers.instanceOf(UnsupportedOperationException.class)
+            )
+        );
+        MatcherAssert.assertThat(recorder.completed(), Matchers.is(false));
+    }
+
+    /**
+     * {@link ChangeStream} queues changes without delivering them until
+     * flushed.
+     */
+    @Test
+    public void deliversOnFlush() {
+        final ChangeStream stream = new ChangeStream();
+        final List<Changes> received = new ArrayList<>(1);
+        final Recorder recorder = new Recorder(received, Long.MAX_VALUE);
+        stream.publisher(ChangeStreamTest.DIRECT).subscribe(recorder);
+        stream.queue(0, new Change(null, ChangeStreamTest.shape(), 1));
+        stream.queue(1, new Change(null, ChangeStreamTest.shape(), 2));
+        MatcherAssert.assertThat(received, Matchers.empty());
+        stream.flush();
+        MatcherAssert.assertThat(received, Matchers.hasSize(1));
+        MatcherAssert.assertThat(
+            received.get(0).changes(), Matchers.hasSize(2)
+        );
+    }
+
+    /**
+     * {@link ChangeStream} stops delivering to cancelled subscriptions.
+     */
+    @Test
+    public void stopsOnCancel() {
+        final ChangeStream stream = new ChangeStream();
+        final List<Changes> received = new ArrayList<>(1);
+        final Recorder recorder = new Recorder(received, Long.MAX_VALUE);
+        stream.publisher(ChangeStreamTest.DIRECT).subscribe(recorder);
+        recorder.subscription().cancel();
+        stream.publish(0, new Change(null, ChangeStreamTest.shape(), 1));
+        MatcherAssert.assertThat(received, Matchers.empty());
+        MatcherAssert.assertThat(recorder.completed(), Matchers.is(false));
+    }
+
+    /**
+     * Mocks a shape.
+     * @return Shape
+     */
+    private static Shape<?> shape() {
+        return new Shape<>(Mockito.mock(Renderable.class));
+    }
+
+    /**
+     * Subscriber recording the changes it receives.
+     * @since 0.4
+     */
+    static final class Recorder implements Subscriber<Changes> {
+
+        /**
+         * Received batches.
+         */
+        private final List<Changes> received;
+
+        /**
+         * Count of batches requested on subscription.
+         */
+        private final long initial;
+
+        /**
+         * Received errors.
+         */
+        private final List<Throwable> failures;
+
+        /**
+         * Subscription.
+         */
+        private Subscription link;
+
+        /**
+         * Whether the subscription completed.
+         */
+        private boolean complete;
+
+        /**
+         * Constructor.
+         * @param received Received batches
+         * @param initial Count of batches requested on subscription
+         */
+        Recorder(final List<Changes> received, final long initial) {
+            this.received = received;
+            this.initial = initial;
+            this.failures = new ArrayList<>(0);
+        }
+
+        @Override
+        public void onSubscribe(final Subscription subscription) {
+            this.link = subscription;
+            if (this.initial > 0) {
+                subscription.request(this.initial);
+            }
+        }
+
+        @Override
+        public void onNext(final Changes item) {
+            this.received.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable error) {
+            this.failures.add(error);
+        }
+
+        @Override
+        public void onComplete() {
+            this.complete = true;
+        }
+
+        /**
+         * Gives the subscription.
+         * @return Subscription
+         */
+        public Subscription subscription() {
+            return this.link;
+        }
+
+        /**
+         * Gives the received errors.
+         * @return Errors
+         */
+        public List<Throwable> errors() {
+            return this.failures;
+        }
+
+        /**
+         * Tells whether the subscription completed.
+         * @return True if completed
+         */
+        public boolean completed() {
+            return this.complete;
+        }
+
+    }
+
+}
@@ -23,6 +23,23 @@
  */
 package com.jeometry.twod;
 
+import com.aljebra.field.Field;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.Scalar;
+import com.jeometry.twod.affine.Affine;
+import com.jeometry.twod.affine.Translation;
+import com.jeometry.twod.flow.Subscriber;
+import com.jeometry.twod.flow.Subscription;
+import com.jeometry.twod.point.XyPoint;
+import com.jeometry.twod.snapshot.Snapshot;
+import com.jeometry.twod.solver.FreePoint;
+import com.jeometry.twod.solver.Parameters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Rule;
@@ -116,4 +133,291 @@ public final class FigureTest {
         );
     }
 
+    /**
+     * {@link Figure} resolves its snapshot again on each call, following
+     * shapes depending on mutable values.
+     */
+    @Test
+    public void resolvesMovingShapes() {
+        final Parameters params = new Parameters();
+        final FreePoint point = params.point(1., 2.);
+        final Figure figure = new Figure().add(point);
+        final Field<Double> field = new Decimal();
+        MatcherAssert.assertThat(
+            figure.snapshot(field).points().value(0, 0), Matchers.equalTo(1.)
+        );
+        params.update(point.xvar(), -1.);
+        MatcherAssert.assertThat(
+            figure.snapshot(field).points().value(0, 0), Matchers.equalTo(-1.)
+        );
+    }
+
+    /**
+     * {@link Figure} keeps the snapshot of constant shapes until they change.
+     */
+    @Test
+    public void keepsFixedSnapshots() {
+        final Figure figure = new Figure().add(
+            new XyPoint<>(new Scalar.Default<>(1.), new Scalar.Default<>(2.))
+        );
+        final Field<Double> field = new Decimal();
+        final Snapshot snapshot = figure.snapshot(field);
+        MatcherAssert.assertThat(snapshot.fixed(), Matchers.is(true));
+        MatcherAssert.assertThat(
+            figure.snapshot(field), Matchers.sameInstance(snapshot)
+        );
+        figure.add(
+            new XyPoint<>(new Scalar.Default<>(2.), new Scalar.Default<>(1.))
+        );
+        MatcherAssert.assertThat(
+            figure.snapshot(field).points().size(), Matchers.equalTo(2)
+        );
+    }
+
+    /**
+     * {@link Figure} resolves its snapshot again when shapes are added.
+     */
+    @Test
+    public void refreshesSnapshots() {
+        final Figure figure = new Figure();
+        final Field<Double> field = new Decimal();
+        final Snapshot snapshot = figure.snapshot(field);
+        figure.add(Mockito.mock(Renderable.class));
+        MatcherAssert.assertThat(
+            figure.snapshot(field),
+            Matchers.not(Matchers.sameInstance(snapshot))
+        );
+        MatcherAssert.assertThat(
+            figure.snapshot(field).shapes(), Matchers.hasSize(1)
+        );
+    }
+
+    /**
+     * {@link Figure} adds a named shape only once when added concurrently.
+     * @throws Exception If fails
+     */
+    @Test
+    public void addsNamedShapeOnceConcurrently() throws Exception {
+        final Figure figure = new Figure();
+        final int threads = 8;
+        final ExecutorService service = Executors.newFixedThreadPool(threads);
+        final List<Future<Boolean>> futures = new ArrayList<>(threads);
+        for (int thread = 0; thread < threads; ++thread) {
+            futures.add(
+                service.submit(
+                    new Callable<Boolean>() {
+                        @Override
+                        public Boolean call() {
+                            boolean added = true;
+                            try {
+                                figure.add(Mockito.mock(Renderable.class), "once");
+                            } catch (final IllegalArgumentException ex) {
+                                added = false;
+                            }
+                            return added;
+                        }
+                    }
+                )
+            );
+        }
+        int added = 0;
+        for (final Future<Boolean> future : futures) {
+            if (future.get()) {
+                added += 1;
+            }
+        }
+        service.shutdown();
+        MatcherAssert.assertThat(added, Matchers.is(1));
+        MatcherAssert.assertThat(figure, Matchers.<Shape<?>>iterableWithSize(1));
+    }
+
+    /**
+     * {@link Figure} iterates shapes in the order they were added.
+     */
+    @Test
+    public void iteratesInAddingOrder() {
+        final Shape<?> first = new Shape<>(Mockito.mock(Renderable.class));
+        final Shape<?> second = new Shape<>(Mockito.mock(Renderable.class), "b");
+        final Shape<?> third = new Shape<>(Mockito.mock(Renderable.class));
+        MatcherAssert.assertThat(
+            new Figure().add(first).add(second).add(third),
+            Matchers.contains(first, second, third)
+        );
+    }
+
+    /**
+     * {@link Figure} replaces a named shape at its position, and keeps it
+     * in previous versions of the shapes.
+     */
+    @Test
+    public void replacesShapesInPlace() {
+        final Shape<?> first = new Shape<>(Mockito.mock(Renderable.class), "a");
+        final Shape<?> second = new Shape<>(Mockito.mock(Renderable.class));
+        final Shape<?> other = new Shape<>(Mockito.mock(Renderable.class), "a");
+        final Figure figure = new Figure().add(first).add(second);
+        final Shapes before = figure.shapes();
+        figure.replace(other);
+        MatcherAssert.assertThat(figure, Matchers.contains(other, second));
+        MatcherAssert.assertThat(before, Matchers.contains(first, second));
+        MatcherAssert.assertThat(
+            figure.shape("a").get(), Matchers.<Shape<?>>sameInstance(other)
+        );
+    }
+
+    /**
+     * {@link Figure} removes a named shape, which can be added again.
+     */
+    @Test
+    public void removesShapes() {
+        final Shape<?> shape = new Shape<>(Mockito.mock(Renderable.class), "a");
+        final Shape<?> other = new Shape<>(Mockito.mock(Renderable.class));
+        final Figure figure = new Figure().add(shape).add(other).remove("a");
+        MatcherAssert.assertThat(figure, Matchers.contains(other));
+        MatcherAssert.assertThat(
+            figure.shape("a").isPresent(), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            figure.add(shape), Matchers.contains(other, shape)
+        );
+    }
+
+    /**
+     * {@link Figure} errors when removing a missing shape.
+     */
+    @Test
+    public void errorsWhenRemovingMissingShape() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Figure().remove("missing");
+    }
+
+    /**
+     * {@link Figure} publishes its coalesced changes to subscribers.
+     */
+    @Test
+    public void publishesChanges() {
+        final Figure figure = new Figure();
+        final List<Changes> received = new ArrayList<>(1);
+        figure.changes(ChangeStreamTest.DIRECT).subscribe(
+            new ChangeStreamTest.Recorder(received, Long.MAX_VALUE)
+        );
+        final Shape<?> shape = new Shape<>(Mockito.mock(Renderable.class));
+        figure.add(shape);
+        figure.add(Mockito.mock(Renderable.class), "a");
+        figure.remove("a");
+        MatcherAssert.assertThat(received, Matchers.hasSize(2 + 1));
+        final Change added = received.get(0).changes().get(0);
+        MatcherAssert.assertThat(added.added(), Matchers.is(true));
+        MatcherAssert.assertThat(
+            added.current().get(), Matchers.<Shape<?>>sameInstance(shape)
+        );
+        MatcherAssert.assertThat(
+            received.get(2).changes().get(0).removed(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            received.get(2).version(),
+            Matchers.is(figure.shapes().version())
+        );
+    }
+
+    /**
+     * {@link Figure} publishes changes once a shape is changed, so that
+     * subscribers delivered in the changing thread can change it again.
+     */
+    @Test
+    public void publishesChangesToReentrantSubscribers() {
+        final Figure figure = new Figure();
+        final Renderable first = Mockito.mock(Renderable.class);
+        final Renderable second = Mockito.mock(Renderable.class);
+        final List<Throwable> errors = new ArrayList<>(0);
+        figure.changes(ChangeStreamTest.DIRECT).subscribe(
+            new Subscriber<Changes>() {
+                @Override
+                public void onSubscribe(final Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(final Changes item) {
+                    if (figure.shape("a").get().renderable() == first) {
+                        figure.replace(second, "a");
+                    }
+                }
+
+                @Override
+                public void onError(final Throwable error) {
+                    errors.add(error);
+                }
+
+                @Override
+                public void onComplete() {
+                    errors.add(new IllegalStateException("Completed"));
+                }
+            }
+        );
+        figure.add(first, "a");
+        MatcherAssert.assertThat(errors, Matchers.empty());
+        MatcherAssert.assertThat(
+            figure.shape("a").get().renderable(),
+            Matchers.<Renderable>sameInstance(second)
+        );
+    }
+
+    /**
+     * {@link Figure} transforms its shapes into a new figure, keeping their
+     * names and order.
+     */
+    @Test
+    public void transformsShapes() {
+        final Figure figure = new Figure()
+            .add(FigureTest.point(1., 2.), "a")
+            .add(FigureTest.point(3., 4.));
+        final Figure moved = figure.transform(new Translation(1., 1.), new Decimal());
+        MatcherAssert.assertThat(
+            moved.shape("a").get().renderable(),
+            Matchers.<Renderable>equalTo(FigureTest.point(2., 3.))
+        );
+        final List<Renderable> shapes = new ArrayList<>(2);
+        for (final Shape<?> shape : moved) {
+            shapes.add(shape.renderable());
+        }
+        MatcherAssert.assertThat(
+            shapes,
+            Matchers.contains(
+                Matchers.<Renderable>equalTo(FigureTest.point(2., 3.)),
+                Matchers.<Renderable>equalTo(FigureTest.point(4., 5.))
+            )
+        );
+        MatcherAssert.assertThat(
+            figure.shape("a").get().renderable(),
+            Matchers.<Renderable>equalTo(FigureTest.point(1., 2.))
+        );
+    }
+
+    /**
+     * {@link Figure} copies its shapes by the identity transform, without
+     * resolving them.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void copiesShapesByIdentity() {
+        final Scalar<Double> coor = Mockito.mock(Scalar.class);
+        final Shape<?> shape = new Shape<>(new XyPoint<>(coor, coor), "a");
+        final Figure moved = new Figure().add(shape)
+            .transform(new Affine(), new Decimal());
+        MatcherAssert.assertThat(moved, Matchers.contains(shape));
+        Mockito.verifyNoInteractions(coor);
+    }
+
+    /**
+     * Builds a point.
+     * @param xcoor X coordinate
+     * @param ycoor Y coordinate
+     * @return Point
+     */
+    private static XyPoint<Double> point(final double xcoor, final double ycoor) {
+        return new XyPoint<>(
+            new Scalar.Default<>(xcoor), new Scalar.Default<>(ycoor)
+        );
+    }
+
 }
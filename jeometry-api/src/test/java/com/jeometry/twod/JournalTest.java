@@ -0,0 +1,183 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link Journal}.
+ * @since 0.4
+ */
+public final class JournalTest {
+
+    /**
+     * Count of appending threads.
+     */
+    private static final int THREADS = 8;
+
+    /**
+     * Count of shapes appended by each thread.
+     */
+    private static final int SIZE = 5000;
+
+    /**
+     * {@link Journal} appends shapes to slots in order, across chunks.
+     */
+    @Test
+    public void appendsSlotsInOrder() {
+        final Journal journal = new Journal();
+        final int count = 100;
+        final Shape<?> shape = JournalTest.shape();
+        for (int idx = 0; idx < count; ++idx) {
+            final Journal.Version version = journal.append(shape);
+            MatcherAssert.assertThat(version.slot(), Matchers.is(idx));
+            MatcherAssert.assertThat(version.number(), Matchers.is(idx + 1L));
+        }
+        journal.update(0, null);
+        MatcherAssert.assertThat(journal.version().until(), Matchers.is(count));
+        MatcherAssert.assertThat(journal.shape(0), Matchers.nullValue());
+        MatcherAssert.assertThat(
+            journal.shape(count - 1), Matchers.<Shape<?>>sameInstance(shape)
+        );
+    }
+
+    /**
+     * {@link Journal} gives the shape of an updated slot by version.
+     */
+    @Test
+    public void updatesSlotsByVersion() {
+        final Journal journal = new Journal();
+        final Shape<?> first = JournalTest.shape();
+        final Shape<?> second = JournalTest.shape();
+        final Journal.Version added = journal.append(first);
+        final Journal.Version replaced = journal.update(added.slot(), second);
+        final Journal.Version removed = journal.update(added.slot(), null);
+        MatcherAssert.assertThat(
+            journal.shape(added.slot(), added), Matchers.<Shape<?>>sameInstance(first)
+        );
+        MatcherAssert.assertThat(
+            journal.shape(added.slot(), replaced),
+            Matchers.<Shape<?>>sameInstance(second)
+        );
+        MatcherAssert.assertThat(
+            journal.shape(added.slot(), removed), Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(journal.version().number(), Matchers.is(2L + 1L));
+    }
+
+    /**
+     * {@link Journal} updates a shape in its slot, keeping the shapes of
+     * older versions held.
+     */
+    @Test
+    public void reusesSlotsOnUpdates() {
+        final Journal journal = new Journal();
+        final Shape<?> first = JournalTest.shape();
+        final Journal.Version added = journal.append(first);
+        final int count = 10_000;
+        Shape<?> last = first;
+        for (int idx = 0; idx < count; ++idx) {
+            last = JournalTest.shape();
+            journal.update(added.slot(), last);
+        }
+        final Journal.Version version = journal.version();
+        MatcherAssert.assertThat(version.until(), Matchers.is(1));
+        MatcherAssert.assertThat(version.number(), Matchers.is(count + 1L));
+        MatcherAssert.assertThat(
+            journal.shape(added.slot()), Matchers.<Shape<?>>sameInstance(last)
+        );
+        MatcherAssert.assertThat(
+            journal.shape(added.slot(), added), Matchers.<Shape<?>>sameInstance(first)
+        );
+    }
+
+    /**
+     * {@link Journal} keeps all the shapes appended concurrently.
+     * @throws Exception If fails
+     */
+    @Test
+    public void appendsConcurrently() throws Exception {
+        final Journal journal = new Journal();
+        final ExecutorService service = Executors.newFixedThreadPool(
+            JournalTest.THREADS
+        );
+        final List<Future<List<Shape<?>>>> futures = new ArrayList<>(
+            JournalTest.THREADS
+        );
+        for (int thread = 0; thread < JournalTest.THREADS; ++thread) {
+            futures.add(
+                service.submit(
+                    new Callable<List<Shape<?>>>() {
+                        @Override
+                        public List<Shape<?>> call() {
+                            final List<Shape<?>> added = new ArrayList<>(
+                                JournalTest.SIZE
+                            );
+                            for (int idx = 0; idx < JournalTest.SIZE; ++idx) {
+                                final Shape<?> shape = JournalTest.shape();
+                                journal.append(shape);
+                                added.add(shape);
+                            }
+                            return added;
+                        }
+                    }
+                )
+            );
+        }
+        final Set<Shape<?>> expected = new HashSet<>(0);
+        for (final Future<List<Shape<?>>> future : futures) {
+            expected.addAll(future.get());
+        }
+        service.shutdown();
+        final Set<Shape<?>> actual = new HashSet<>(0);
+        final int count = journal.version().until();
+        for (int idx = 0; idx < count; ++idx) {
+            actual.add(journal.shape(idx));
+        }
+        MatcherAssert.assertThat(
+            count, Matchers.is(JournalTest.THREADS * JournalTest.SIZE)
+        );
+        MatcherAssert.assertThat(actual, Matchers.equalTo(expected));
+    }
+
+    /**
+     * Builds a shape.
+     * @return Shape
+     */
+    private static Shape<?> shape() {
+        return new Shape<>(Mockito.mock(Renderable.class));
+    }
+
+}
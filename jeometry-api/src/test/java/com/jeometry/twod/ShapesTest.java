@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod;
+
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link Shapes}.
+ * @since 0.4
+ */
+public final class ShapesTest {
+
+    /**
+     * Count of shapes.
+     */
+    private static final int SIZE = 10000;
+
+    /**
+     * {@link Shapes} keeps iterating over its version while shapes are
+     * added to the figure.
+     */
+    @Test
+    public void iteratesOverItsVersion() {
+        final Figure figure = new Figure();
+        final Shape<?> first = ShapesTest.shape();
+        final Shape<?> second = ShapesTest.shape();
+        figure.add(first).add(second);
+        final Shapes shapes = figure.shapes();
+        figure.add(ShapesTest.shape());
+        MatcherAssert.assertThat(shapes, Matchers.contains(first, second));
+        MatcherAssert.assertThat(shapes.version(), Matchers.is(2L));
+        MatcherAssert.assertThat(
+            figure.shapes().version(), Matchers.greaterThan(shapes.version())
+        );
+    }
+
+    /**
+     * {@link Shapes} splits for parallel streams, keeping the shapes order.
+     */
+    @Test
+    public void splitsForParallelStreams() {
+        final Figure figure = new Figure();
+        for (int idx = 0; idx < ShapesTest.SIZE; ++idx) {
+            figure.add(ShapesTest.shape());
+        }
+        figure.add(Mockito.mock(Renderable.class), "named");
+        final Shapes shapes = figure.shapes();
+        MatcherAssert.assertThat(
+            StreamSupport.stream(shapes.spliterator(), true)
+                .collect(Collectors.toList()),
+            Matchers.equalTo(
+                StreamSupport.stream(shapes.spliterator(), false)
+                    .collect(Collectors.toList())
+            )
+        );
+        MatcherAssert.assertThat(
+            StreamSupport.stream(shapes.spliterator(), true).count(),
+            Matchers.is(ShapesTest.SIZE + 1L)
+        );
+    }
+
+    /**
+     * Builds a shape.
+     * @return Shape
+     */
+    private static Shape<?> shape() {
+        return new Shape<>(Mockito.mock(Renderable.class));
+    }
+
+}
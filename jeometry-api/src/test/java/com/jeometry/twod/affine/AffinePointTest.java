@@ -0,0 +1,61 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.affine;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.vector.Vect;
+import com.jeometry.twod.point.RandomPoint;
+import com.jeometry.twod.point.XyPoint;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link AffinePoint}.
+ * @since 0.4
+ */
+public final class AffinePointTest {
+
+    /**
+     * {@link AffinePoint} evaluates coordinates using the transform.
+     */
+    @Test
+    public void transformsPoint() {
+        final Decimal field = new Decimal();
+        final Vect<Double> input = new RandomPoint<>();
+        final Affine affine = new Rotation(Math.random(), 1., 2.);
+        final XyPoint<Double> point = new AffinePoint(affine, input);
+        final double xcoor = field.actual(input.coords()[0]);
+        final double ycoor = field.actual(input.coords()[1]);
+        MatcherAssert.assertThat(
+            field.actual(point.xcoor()),
+            Matchers.equalTo(affine.xcoor(xcoor, ycoor))
+        );
+        MatcherAssert.assertThat(
+            field.actual(point.ycoor()),
+            Matchers.equalTo(affine.ycoor(xcoor, ycoor))
+        );
+    }
+
+}
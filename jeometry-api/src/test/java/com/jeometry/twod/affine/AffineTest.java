@@ -0,0 +1,272 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.affine;
+
+import com.aljebra.field.impl.doubles.DblVect;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.vector.Vect;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Affine}.
+ * @since 0.4
+ */
+public final class AffineTest {
+
+    /**
+     * Error tolerance.
+     */
+    private static final double ERROR = 1.e-9;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Affine} default constructor builds the identity.
+     */
+    @Test
+    public void buildsIdentity() {
+        final Affine identity = new Affine();
+        final double xcoor = Math.random();
+        final double ycoor = Math.random();
+        MatcherAssert.assertThat(
+            identity.xcoor(xcoor, ycoor), Matchers.equalTo(xcoor)
+        );
+        MatcherAssert.assertThat(
+            identity.ycoor(xcoor, ycoor), Matchers.equalTo(ycoor)
+        );
+    }
+
+    /**
+     * {@link Affine} transforms coordinates.
+     */
+    @Test
+    public void transformsCoordinates() {
+        final Affine affine = new Affine(1., 2., 3., 4., 5., 6.);
+        final double xcoor = 7.;
+        final double ycoor = 8.;
+        MatcherAssert.assertThat(
+            affine.xcoor(xcoor, ycoor), Matchers.equalTo(36.)
+        );
+        MatcherAssert.assertThat(
+            affine.ycoor(xcoor, ycoor), Matchers.equalTo(52.)
+        );
+    }
+
+    /**
+     * {@link Affine} composes transforms in application order.
+     */
+    @Test
+    public void composes() {
+        final Affine first = AffineTest.random();
+        final Affine second = AffineTest.random();
+        final Affine composed = first.then(second);
+        final double xcoor = Math.random();
+        final double ycoor = Math.random();
+        final double xfst = first.xcoor(xcoor, ycoor);
+        final double yfst = first.ycoor(xcoor, ycoor);
+        MatcherAssert.assertThat(
+            composed.xcoor(xcoor, ycoor),
+            Matchers.closeTo(second.xcoor(xfst, yfst), AffineTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            composed.ycoor(xcoor, ycoor),
+            Matchers.closeTo(second.ycoor(xfst, yfst), AffineTest.ERROR)
+        );
+    }
+
+    /**
+     * {@link Affine} calculates its inverse.
+     */
+    @Test
+    public void inverts() {
+        final Affine affine = new Affine(2., 1., -1., 3., 4., -5.);
+        final Affine identity = affine.then(affine.inverse());
+        final double xcoor = Math.random();
+        final double ycoor = Math.random();
+        MatcherAssert.assertThat(
+            identity.xcoor(xcoor, ycoor),
+            Matchers.closeTo(xcoor, AffineTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            identity.ycoor(xcoor, ycoor),
+            Matchers.closeTo(ycoor, AffineTest.ERROR)
+        );
+    }
+
+    /**
+     * {@link Affine} throws exception when inverting a singular transform.
+     */
+    @Test
+    public void errorsWhenInvertingSingular() {
+        this.thrown.expect(IllegalStateException.class);
+        new Affine(1., 2., 2., 4., 0., 0.).inverse();
+    }
+
+    /**
+     * {@link Affine} calculates its determinant.
+     */
+    @Test
+    public void calculatesDeterminant() {
+        MatcherAssert.assertThat(
+            new Affine(1., 2., 3., 4., 5., 6.).determinant(),
+            Matchers.equalTo(-2.)
+        );
+    }
+
+    /**
+     * {@link Affine} transforms interleaved coordinates in place.
+     */
+    @Test
+    public void transformsInPlace() {
+        final Affine affine = AffineTest.random();
+        final double[] coords = {1., 2., 3., 4., 5., 6.};
+        final double[] expected = new double[coords.length];
+        for (int idx = 0; idx < coords.length; idx += 2) {
+            expected[idx] = affine.xcoor(coords[idx], coords[idx + 1]);
+            expected[idx + 1] = affine.ycoor(coords[idx], coords[idx + 1]);
+        }
+        affine.apply(coords, 2, coords, 2, 2);
+        MatcherAssert.assertThat(coords[0], Matchers.equalTo(1.));
+        MatcherAssert.assertThat(coords[1], Matchers.equalTo(2.));
+        for (int idx = 2; idx < coords.length; ++idx) {
+            MatcherAssert.assertThat(coords[idx], Matchers.equalTo(expected[idx]));
+        }
+    }
+
+    /**
+     * {@link Affine} gives a homogeneous matrix consistent with
+     * the transform.
+     */
+    @Test
+    public void givesHomogeneousMatrix() {
+        final Affine affine = AffineTest.random();
+        final double xcoor = Math.random();
+        final double ycoor = Math.random();
+        final Vect<Double> image = affine.matrix().apply(
+            new DblVect(xcoor, ycoor, 1.)
+        );
+        final Decimal field = new Decimal();
+        MatcherAssert.assertThat(
+            field.actual(image.coords()[0]),
+            Matchers.closeTo(affine.xcoor(xcoor, ycoor), AffineTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            field.actual(image.coords()[1]),
+            Matchers.closeTo(affine.ycoor(xcoor, ycoor), AffineTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            field.actual(image.coords()[2]), Matchers.equalTo(1.)
+        );
+    }
+
+    /**
+     * {@link Affine} transforms vectors lazily.
+     */
+    @Test
+    public void transformsVector() {
+        final Affine affine = new Affine(1., 2., 3., 4., 5., 6.);
+        final Decimal field = new Decimal();
+        final Vect<Double> image = affine.apply(new DblVect(7., 8.));
+        MatcherAssert.assertThat(
+            field.actual(image.coords()[0]), Matchers.equalTo(36.)
+        );
+        MatcherAssert.assertThat(
+            field.actual(image.coords()[1]), Matchers.equalTo(52.)
+        );
+    }
+
+    /**
+     * {@link Affine} respects equals on coefficients.
+     */
+    @Test
+    public void respectsEquals() {
+        MatcherAssert.assertThat(
+            new Affine(1., 0., 0., 1., 2., 3.),
+            Matchers.equalTo(new Affine(1., 0., 0., 1., 2., 3.))
+        );
+        MatcherAssert.assertThat(
+            new Affine(1., 0., 0., 1., 2., 3.),
+            Matchers.not(Matchers.equalTo(new Affine()))
+        );
+    }
+
+    /**
+     * {@link Affine} tells the identity transform.
+     */
+    @Test
+    public void tellsIdentity() {
+        MatcherAssert.assertThat(new Affine().identity(), Matchers.is(true));
+        MatcherAssert.assertThat(new Scaling(1.).identity(), Matchers.is(true));
+        MatcherAssert.assertThat(new Rotation(0.1).identity(), Matchers.is(false));
+        MatcherAssert.assertThat(
+            new Translation(1., 0.).identity(), Matchers.is(false)
+        );
+    }
+
+    /**
+     * {@link Affine} gives the lengths ratio of similarities.
+     */
+    @Test
+    public void givesSimilaritiesScale() {
+        MatcherAssert.assertThat(
+            new Rotation(0.3).then(new Scaling(2.))
+                .then(new Affine(1., 0., 0., -1., 0., 0.)).scale(),
+            Matchers.closeTo(2., 1.e-12)
+        );
+        MatcherAssert.assertThat(
+            new PtReflection(1., 2.).then(new Translation(3., 4.)).scale(),
+            Matchers.closeTo(1., 1.e-12)
+        );
+    }
+
+    /**
+     * {@link Affine} throws an exception when asked the lengths ratio of
+     * a transform not being a similarity.
+     */
+    @Test
+    public void errorsWhenScalingNonSimilarities() {
+        this.thrown.expect(IllegalStateException.class);
+        new Scaling(1., 2.).scale();
+    }
+
+    /**
+     * Builds a random affine transform.
+     * @return Random affine transform
+     */
+    private static Affine random() {
+        return new Affine(
+            Math.random(), Math.random(), Math.random(),
+            Math.random(), Math.random(), Math.random()
+        );
+    }
+
+}
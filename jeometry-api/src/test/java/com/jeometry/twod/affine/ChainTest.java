@@ -0,0 +1,69 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.affine;
+
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Chain}.
+ * @since 0.4
+ */
+public final class ChainTest {
+
+    /**
+     * Error tolerance.
+     */
+    private static final double ERROR = 1.e-9;
+
+    /**
+     * {@link Chain} applies transforms in the given order.
+     */
+    @Test
+    public void foldsInOrder() {
+        final Affine chain = new Chain(
+            new Translation(1., 0.), new Scaling(2.), new Rotation(Math.PI)
+        );
+        MatcherAssert.assertThat(
+            chain.xcoor(1., 1.), Matchers.closeTo(-4., ChainTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            chain.ycoor(1., 1.), Matchers.closeTo(-2., ChainTest.ERROR)
+        );
+    }
+
+    /**
+     * {@link Chain} of no transform is the identity.
+     */
+    @Test
+    public void foldsEmptyChainToIdentity() {
+        MatcherAssert.assertThat(
+            new Chain(Collections.<Affine>emptyList()),
+            Matchers.equalTo(new Affine())
+        );
+    }
+
+}
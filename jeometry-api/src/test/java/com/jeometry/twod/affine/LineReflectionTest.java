@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.affine;
+
+import com.aljebra.field.impl.doubles.DblVect;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.vector.Vect;
+import com.jeometry.twod.line.Line;
+import com.jeometry.twod.line.PtDirLine;
+import com.jeometry.twod.line.RandomLine;
+import com.jeometry.twod.point.LineReflectionPoint;
+import com.jeometry.twod.point.RandomPoint;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link LineReflection}.
+ * @since 0.4
+ */
+public final class LineReflectionTest {
+
+    /**
+     * Error tolerance.
+     */
+    private static final double ERROR = 1.e-6;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link LineReflection} reflects points as {@link LineReflectionPoint}
+     * does.
+     */
+    @Test
+    public void reflectsAsLineReflectionPoint() {
+        final Decimal field = new Decimal();
+        final Line<Double> axis = new RandomLine<>();
+        final Vect<Double> input = new RandomPoint<>();
+        final Vect<Double> expected = new LineReflectionPoint<>(axis, input);
+        final Vect<Double> actual = new LineReflection(axis, field).apply(input);
+        MatcherAssert.assertThat(
+            field.actual(actual.coords()[0]),
+            Matchers.closeTo(
+                field.actual(expected.coords()[0]), LineReflectionTest.ERROR
+            )
+        );
+        MatcherAssert.assertThat(
+            field.actual(actual.coords()[1]),
+            Matchers.closeTo(
+                field.actual(expected.coords()[1]), LineReflectionTest.ERROR
+            )
+        );
+    }
+
+    /**
+     * {@link LineReflection} is an involution.
+     */
+    @Test
+    public void isInvolution() {
+        final Affine reflection = new LineReflection(new RandomLine<>());
+        final Affine identity = reflection.then(reflection);
+        MatcherAssert.assertThat(
+            identity.xcoor(1., 2.), Matchers.closeTo(1., LineReflectionTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            identity.ycoor(1., 2.), Matchers.closeTo(2., LineReflectionTest.ERROR)
+        );
+    }
+
+    /**
+     * {@link LineReflection} throws exception when the axis direction
+     * is the null vector.
+     */
+    @Test
+    public void errorsWhenNullDirection() {
+        this.thrown.expect(IllegalStateException.class);
+        new LineReflection(
+            new PtDirLine<>(new DblVect(1., 1.), new DblVect(0., 0.))
+        );
+    }
+
+}
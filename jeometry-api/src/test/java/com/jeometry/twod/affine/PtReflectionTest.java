@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.affine;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.vector.Vect;
+import com.jeometry.twod.point.PtReflectionPoint;
+import com.jeometry.twod.point.RandomPoint;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PtReflection}.
+ * @since 0.4
+ */
+public final class PtReflectionTest {
+
+    /**
+     * Error tolerance.
+     */
+    private static final double ERROR = 1.e-6;
+
+    /**
+     * {@link PtReflection} reflects points as {@link PtReflectionPoint} does.
+     */
+    @Test
+    public void reflectsAsPtReflectionPoint() {
+        final Decimal field = new Decimal();
+        final Vect<Double> center = new RandomPoint<>();
+        final Vect<Double> input = new RandomPoint<>();
+        final Vect<Double> expected = new PtReflectionPoint<>(center, input);
+        final Vect<Double> actual = new PtReflection(center, field).apply(input);
+        MatcherAssert.assertThat(
+            field.actual(actual.coords()[0]),
+            Matchers.closeTo(
+                field.actual(expected.coords()[0]), PtReflectionTest.ERROR
+            )
+        );
+        MatcherAssert.assertThat(
+            field.actual(actual.coords()[1]),
+            Matchers.closeTo(
+                field.actual(expected.coords()[1]), PtReflectionTest.ERROR
+            )
+        );
+    }
+
+    /**
+     * {@link PtReflection} reflects across the origin by default.
+     */
+    @Test
+    public void reflectsAcrossOrigin() {
+        MatcherAssert.assertThat(
+            new PtReflection(), Matchers.equalTo(new Scaling(-1.))
+        );
+    }
+
+}
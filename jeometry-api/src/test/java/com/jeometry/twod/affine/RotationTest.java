@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.affine;
+
+import com.aljebra.field.impl.doubles.DblVect;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.field.impl.doubles.Dot;
+import com.aljebra.metric.angle.Degrees;
+import com.aljebra.vector.Vect;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Rotation}.
+ * @since 0.4
+ */
+public final class RotationTest {
+
+    /**
+     * Error tolerance.
+     */
+    private static final double ERROR = 1.e-9;
+
+    /**
+     * {@link Rotation} rotates points the same way {@link Dot} does.
+     */
+    @Test
+    public void rotatesAsDot() {
+        final double angle = Math.random();
+        final Vect<Double> input = new DblVect(Math.random(), Math.random());
+        final Vect<Double> expected = new Dot().rot(
+            input, new Degrees.Default<>(angle)
+        );
+        final Affine rotation = new Rotation(new Degrees.Default<>(angle));
+        final Decimal field = new Decimal();
+        final double xcoor = field.actual(input.coords()[0]);
+        final double ycoor = field.actual(input.coords()[1]);
+        MatcherAssert.assertThat(
+            rotation.xcoor(xcoor, ycoor),
+            Matchers.closeTo(field.actual(expected.coords()[0]), RotationTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            rotation.ycoor(xcoor, ycoor),
+            Matchers.closeTo(field.actual(expected.coords()[1]), RotationTest.ERROR)
+        );
+    }
+
+    /**
+     * {@link Rotation} rotates points about a center.
+     */
+    @Test
+    public void rotatesAboutCenter() {
+        final Affine rotation = new Rotation(Math.PI / 2., 1., 1.);
+        MatcherAssert.assertThat(
+            rotation.xcoor(2., 1.), Matchers.closeTo(1., RotationTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            rotation.ycoor(2., 1.), Matchers.closeTo(2., RotationTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            rotation.xcoor(1., 1.), Matchers.closeTo(1., RotationTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            rotation.ycoor(1., 1.), Matchers.closeTo(1., RotationTest.ERROR)
+        );
+    }
+
+}
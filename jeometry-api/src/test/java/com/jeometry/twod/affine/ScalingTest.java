@@ -0,0 +1,56 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.affine;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Scaling}.
+ * @since 0.4
+ */
+public final class ScalingTest {
+
+    /**
+     * {@link Scaling} scales coordinates about the origin.
+     */
+    @Test
+    public void scales() {
+        final Affine scaling = new Scaling(2., -3.);
+        MatcherAssert.assertThat(scaling.xcoor(1., 1.), Matchers.equalTo(2.));
+        MatcherAssert.assertThat(scaling.ycoor(1., 1.), Matchers.equalTo(-3.));
+    }
+
+    /**
+     * {@link Scaling} builds uniform scalings.
+     */
+    @Test
+    public void scalesUniformly() {
+        MatcherAssert.assertThat(
+            new Scaling(2.), Matchers.equalTo(new Scaling(2., 2.))
+        );
+    }
+
+}
@@ -0,0 +1,303 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.bounds;
+
+import com.aljebra.field.impl.doubles.DblVect;
+import com.aljebra.scalar.Scalar;
+import com.jeometry.twod.Renderable;
+import com.jeometry.twod.angle.PtsAngle;
+import com.jeometry.twod.arc.RadAngleArc;
+import com.jeometry.twod.circle.PtRadCircle;
+import com.jeometry.twod.line.PtDirLine;
+import com.jeometry.twod.line.PtsPolyline;
+import com.jeometry.twod.point.XyPoint;
+import com.jeometry.twod.ray.PtDirRay;
+import com.jeometry.twod.segment.PtsSegment;
+import com.jeometry.twod.solver.FreePoint;
+import com.jeometry.twod.solver.Parameters;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link Bounds}.
+ * @since 0.4
+ */
+public final class BoundsTest {
+
+    /**
+     * Error tolerance.
+     */
+    private static final double ERROR = 1.e-9;
+
+    /**
+     * {@link Bounds} resolves points and segments boxes.
+     */
+    @Test
+    public void boundsPointsAndSegments() {
+        final Bounds bounds = new Bounds();
+        MatcherAssert.assertThat(
+            bounds.box(BoundsTest.point(1., 2.)),
+            Matchers.equalTo(new Box(1., 2.))
+        );
+        MatcherAssert.assertThat(
+            bounds.box(
+                new PtsSegment<>(BoundsTest.point(3., -1.), BoundsTest.point(1., 2.))
+            ),
+            Matchers.equalTo(new Box(1., -1., 3., 2.))
+        );
+    }
+
+    /**
+     * {@link Bounds} resolves circles boxes.
+     */
+    @Test
+    public void boundsCircles() {
+        MatcherAssert.assertThat(
+            new Bounds().box(
+                new PtRadCircle<>(
+                    BoundsTest.point(1., 2.), new Scalar.Default<>(2.)
+                )
+            ),
+            Matchers.equalTo(new Box(-1., 0., 3., 4.))
+        );
+    }
+
+    /**
+     * {@link Bounds} resolves polylines boxes.
+     */
+    @Test
+    public void boundsPolylines() {
+        MatcherAssert.assertThat(
+            new Bounds().box(
+                new PtsPolyline<>(
+                    Arrays.asList(
+                        BoundsTest.point(0., 1.), BoundsTest.point(4., -1.),
+                        BoundsTest.point(2., 5.)
+                    )
+                )
+            ),
+            Matchers.equalTo(new Box(0., -1., 4., 5.))
+        );
+    }
+
+    /**
+     * {@link Bounds} resolves arcs boxes, including the circle extreme points
+     * crossed by the arc.
+     */
+    @Test
+    public void boundsArcs() {
+        final PtRadCircle<Double> circle = new PtRadCircle<>(
+            BoundsTest.point(0., 0.), new Scalar.Default<>(1.)
+        );
+        final Box quarter = new Bounds().box(
+            new RadAngleArc<>(circle, 0., Math.PI / 2.)
+        );
+        MatcherAssert.assertThat(quarter.xmin(), Matchers.closeTo(0., BoundsTest.ERROR));
+        MatcherAssert.assertThat(quarter.ymin(), Matchers.closeTo(0., BoundsTest.ERROR));
+        MatcherAssert.assertThat(quarter.xmax(), Matchers.closeTo(1., BoundsTest.ERROR));
+        MatcherAssert.assertThat(quarter.ymax(), Matchers.closeTo(1., BoundsTest.ERROR));
+        final Box wrapping = new Bounds().box(
+            new RadAngleArc<>(circle, -Math.PI / 4., Math.PI / 4.)
+        );
+        MatcherAssert.assertThat(wrapping.xmax(), Matchers.closeTo(1., BoundsTest.ERROR));
+        MatcherAssert.assertThat(
+            wrapping.xmin(), Matchers.closeTo(Math.sqrt(2.) / 2., BoundsTest.ERROR)
+        );
+        final Box full = new Bounds().box(
+            new RadAngleArc<>(circle, 1., 1. + 2. * Math.PI)
+        );
+        MatcherAssert.assertThat(full, Matchers.equalTo(new Box(-1., -1., 1., 1.)));
+    }
+
+    /**
+     * {@link Bounds} gives infinite extents to lines.
+     */
+    @Test
+    public void boundsLines() {
+        final Bounds bounds = new Bounds();
+        MatcherAssert.assertThat(
+            bounds.box(
+                new PtDirLine<>(BoundsTest.point(1., 2.), new DblVect(3., 0.))
+            ),
+            Matchers.equalTo(
+                new Box(Double.NEGATIVE_INFINITY, 2., Double.POSITIVE_INFINITY, 2.)
+            )
+        );
+        MatcherAssert.assertThat(
+            bounds.box(
+                new PtDirLine<>(BoundsTest.point(1., 2.), new DblVect(1., 1.))
+            ),
+            Matchers.equalTo(new Box())
+        );
+    }
+
+    /**
+     * {@link Bounds} bounds rays on the side of their origin.
+     */
+    @Test
+    public void boundsRays() {
+        MatcherAssert.assertThat(
+            new Bounds().box(
+                new PtDirRay<>(BoundsTest.point(1., 2.), new DblVect(-1., 0.))
+            ),
+            Matchers.equalTo(new Box(Double.NEGATIVE_INFINITY, 2., 1., 2.))
+        );
+    }
+
+    /**
+     * {@link Bounds} bounds angles as their two sides.
+     */
+    @Test
+    public void boundsAngles() {
+        MatcherAssert.assertThat(
+            new Bounds().box(
+                new PtsAngle<>(
+                    BoundsTest.point(0., 0.), BoundsTest.point(2., 1.),
+                    BoundsTest.point(1., 2.)
+                )
+            ),
+            Matchers.equalTo(
+                new Box(0., 0., Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY)
+            )
+        );
+    }
+
+    /**
+     * {@link Bounds} uses boxes given by bounded renderables, asking them
+     * once.
+     */
+    @Test
+    public void cachesBoundedBoxes() {
+        final Box box = new Box(1., 2., 3., 4.);
+        final AtomicInteger calls = new AtomicInteger();
+        final Renderable renderable = new BoundsTest.Fixed(box, calls);
+        final Bounds bounds = new Bounds();
+        MatcherAssert.assertThat(bounds.box(renderable), Matchers.equalTo(box));
+        MatcherAssert.assertThat(bounds.box(renderable), Matchers.equalTo(box));
+        MatcherAssert.assertThat(calls.get(), Matchers.equalTo(1));
+    }
+
+    /**
+     * {@link Bounds} remembers the boxes of renderables of constant values.
+     */
+    @Test
+    public void cachesConstantRenderables() {
+        final PtsPolyline<Double> polyline = new PtsPolyline<>(
+            Arrays.asList(BoundsTest.point(0., 0.), BoundsTest.point(1., 2.))
+        );
+        final Bounds bounds = new Bounds();
+        MatcherAssert.assertThat(
+            bounds.box(polyline), Matchers.equalTo(new Box(0., 0., 1., 2.))
+        );
+        polyline.points().add(BoundsTest.point(5., 5.));
+        MatcherAssert.assertThat(
+            bounds.box(polyline), Matchers.equalTo(new Box(0., 0., 1., 2.))
+        );
+        MatcherAssert.assertThat(
+            new Bounds().box(polyline), Matchers.equalTo(new Box(0., 0., 5., 5.))
+        );
+    }
+
+    /**
+     * {@link Bounds} follows renderables depending on mutable values.
+     */
+    @Test
+    public void followsMovingRenderables() {
+        final Parameters params = new Parameters();
+        final FreePoint point = params.point(1., 2.);
+        final PtsSegment<Double> segment = new PtsSegment<>(
+            point, BoundsTest.point(3., 3.)
+        );
+        final Bounds bounds = new Bounds();
+        MatcherAssert.assertThat(bounds.box(point), Matchers.equalTo(new Box(1., 2.)));
+        MatcherAssert.assertThat(
+            bounds.box(segment), Matchers.equalTo(new Box(1., 2., 3., 3.))
+        );
+        params.update(point.xvar(), -1.);
+        MatcherAssert.assertThat(bounds.box(point), Matchers.equalTo(new Box(-1., 2.)));
+        MatcherAssert.assertThat(
+            bounds.box(segment), Matchers.equalTo(new Box(-1., 2., 3., 3.))
+        );
+    }
+
+    /**
+     * {@link Bounds} gives the whole plane to unknown renderables.
+     */
+    @Test
+    public void boundsUnknownRenderables() {
+        MatcherAssert.assertThat(
+            new Bounds().box(Mockito.mock(Renderable.class)),
+            Matchers.equalTo(new Box())
+        );
+    }
+
+    /**
+     * Builds a double point.
+     * @param xcoor X coordinate
+     * @param ycoor Y coordinate
+     * @return A point
+     */
+    private static XyPoint<Double> point(final double xcoor, final double ycoor) {
+        return new XyPoint<>(
+            new Scalar.Default<>(xcoor), new Scalar.Default<>(ycoor)
+        );
+    }
+
+    /**
+     * Bounded renderable counting box calls.
+     */
+    private static final class Fixed implements Renderable, Bounded {
+
+        /**
+         * Box.
+         */
+        private final Box bounds;
+
+        /**
+         * Box calls count.
+         */
+        private final AtomicInteger calls;
+
+        /**
+         * Constructor.
+         * @param box Box
+         * @param calls Box calls count
+         */
+        Fixed(final Box box, final AtomicInteger calls) {
+            this.bounds = box;
+            this.calls = calls;
+        }
+
+        @Override
+        public Box box() {
+            this.calls.incrementAndGet();
+            return this.bounds;
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.bounds;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Box}.
+ * @since 0.4
+ */
+public final class BoxTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Box} calculates union, area and enlargement.
+     */
+    @Test
+    public void calculatesUnion() {
+        final Box box = new Box(0., 0., 1., 1.);
+        final Box union = box.union(new Box(2., 3.));
+        MatcherAssert.assertThat(union, Matchers.equalTo(new Box(0., 0., 2., 3.)));
+        MatcherAssert.assertThat(union.area(), Matchers.equalTo(6.));
+        MatcherAssert.assertThat(
+            box.enlargement(new Box(2., 3.)), Matchers.equalTo(5.)
+        );
+        MatcherAssert.assertThat(union.xcenter(), Matchers.equalTo(1.));
+        MatcherAssert.assertThat(union.ycenter(), Matchers.equalTo(1.5));
+    }
+
+    /**
+     * {@link Box} checks intersection and containment.
+     */
+    @Test
+    public void checksIntersection() {
+        final Box box = new Box(0., 0., 2., 2.);
+        MatcherAssert.assertThat(
+            box.intersects(new Box(2., 2., 3., 3.)), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            box.intersects(new Box(2.1, 0., 3., 3.)), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            box.contains(new Box(1., 1., 2., 2.)), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            box.contains(new Box(1., 1., 2.5, 2.)), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(box.contains(1., 2.), Matchers.is(true));
+        MatcherAssert.assertThat(box.contains(1., -2.), Matchers.is(false));
+    }
+
+    /**
+     * {@link Box} calculates distance to points.
+     */
+    @Test
+    public void calculatesDistance() {
+        final Box box = new Box(0., 0., 1., 1.);
+        MatcherAssert.assertThat(box.distance(0.5, 0.5), Matchers.equalTo(0.));
+        MatcherAssert.assertThat(box.distance(4., 5.), Matchers.equalTo(5.));
+        MatcherAssert.assertThat(box.distance(-2., 0.5), Matchers.equalTo(2.));
+    }
+
+    /**
+     * {@link Box} supports infinite bounds.
+     */
+    @Test
+    public void supportsInfiniteBounds() {
+        final Box line = new Box(
+            Double.NEGATIVE_INFINITY, 1., Double.POSITIVE_INFINITY, 1.
+        );
+        MatcherAssert.assertThat(line.area(), Matchers.equalTo(0.));
+        MatcherAssert.assertThat(line.finite(), Matchers.is(false));
+        MatcherAssert.assertThat(new Box().contains(line), Matchers.is(true));
+        MatcherAssert.assertThat(line.distance(5., 3.), Matchers.equalTo(2.));
+        MatcherAssert.assertThat(new Box(1., 2.).finite(), Matchers.is(true));
+    }
+
+    /**
+     * {@link Box} throws exception when bounds are inverted.
+     */
+    @Test
+    public void errorsWhenInvertedBounds() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Box(1., 0., 0., 1.);
+    }
+
+}
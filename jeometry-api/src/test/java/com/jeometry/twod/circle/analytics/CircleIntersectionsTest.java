@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.circle.analytics;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.Scalar;
+import com.jeometry.twod.circle.Circle;
+import com.jeometry.twod.circle.PtRadCircle;
+import com.jeometry.twod.line.PtsLine;
+import com.jeometry.twod.point.XyPoint;
+import com.jeometry.twod.ray.PtsRay;
+import com.jeometry.twod.segment.PtsSegment;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CircleIntersections}.
+ * @since 0.4
+ */
+public final class CircleIntersectionsTest {
+
+    /**
+     * {@link CircleIntersections} gives intersection points belonging to
+     * both shapes.
+     */
+    @Test
+    public void givesPointsInShapes() {
+        final Circle<Double> circle = CircleIntersectionsTest.circle(0., 0., 2.);
+        final Circle<Double> other = CircleIntersectionsTest.circle(2., 1., 2.);
+        final Decimal field = new Decimal();
+        for (final XyPoint<Double> point
+            : new CircleIntersections(circle, other).points(field)) {
+            MatcherAssert.assertThat(
+                new PointInCircle<>(point, circle).resolve(field),
+                Matchers.is(true)
+            );
+            MatcherAssert.assertThat(
+                new PointInCircle<>(point, other).resolve(field),
+                Matchers.is(true)
+            );
+        }
+        MatcherAssert.assertThat(
+            new CircleIntersections(circle, other).count(field), Matchers.is(2)
+        );
+    }
+
+    /**
+     * {@link CircleIntersections} counts intersection points with lines,
+     * segments and rays.
+     */
+    @Test
+    public void countsPoints() {
+        final Circle<Double> circle = CircleIntersectionsTest.circle(0., 0., 1.);
+        final XyPoint<Double> center = CircleIntersectionsTest.point(0., 0.);
+        final XyPoint<Double> top = CircleIntersectionsTest.point(0., 2.);
+        final Decimal field = new Decimal();
+        MatcherAssert.assertThat(
+            new CircleIntersections(circle, new PtsLine<>(center, top)).count(field),
+            Matchers.is(2)
+        );
+        MatcherAssert.assertThat(
+            new CircleIntersections(circle, new PtsSegment<>(center, top))
+                .count(field),
+            Matchers.is(1)
+        );
+        MatcherAssert.assertThat(
+            new CircleIntersections(circle, new PtsRay<>(top, center)).count(field),
+            Matchers.is(2)
+        );
+        MatcherAssert.assertThat(
+            new CircleIntersections(
+                circle,
+                new PtsLine<>(top, CircleIntersectionsTest.point(1., 2.))
+            ).count(field),
+            Matchers.is(0)
+        );
+    }
+
+    /**
+     * Builds a circle.
+     * @param xcoor Center X coordinate
+     * @param ycoor Center Y coordinate
+     * @param radius Radius
+     * @return Circle
+     */
+    private static Circle<Double> circle(final double xcoor, final double ycoor,
+        final double radius) {
+        return new PtRadCircle<>(
+            CircleIntersectionsTest.point(xcoor, ycoor),
+            new Scalar.Default<>(radius)
+        );
+    }
+
+    /**
+     * Builds a point.
+     * @param xcoor X coordinate
+     * @param ycoor Y coordinate
+     * @return Point
+     */
+    private static XyPoint<Double> point(final double xcoor, final double ycoor) {
+        return new XyPoint<>(
+            new Scalar.Default<>(xcoor), new Scalar.Default<>(ycoor)
+        );
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.circle.analytics;
+
+import com.aljebra.field.impl.doubles.Parallelism;
+import com.jeometry.twod.line.analytics.DblImplicit;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Crossings}.
+ * @since 0.4
+ */
+public final class CrossingsTest {
+
+    /**
+     * Count of random items.
+     */
+    private static final int SIZE = 1000;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Crossings} intersects a circle with circles as one by one.
+     */
+    @Test
+    public void intersectsCircles() {
+        final Random rand = new Random();
+        final DblCircleForm circle = new DblCircleForm(5., 5., 3.);
+        final double[] circles = CrossingsTest.random(rand, 2 + 1);
+        final double[] into = new double[2 * 2 * CrossingsTest.SIZE];
+        final int[] counts = new int[CrossingsTest.SIZE];
+        final int total = CrossingsTest.crossings().circles(
+            circle, circles, into, counts
+        );
+        int expected = 0;
+        for (int idx = 0; idx < CrossingsTest.SIZE; ++idx) {
+            final double[] single = circle.intersection(
+                new DblCircleForm(
+                    circles[3 * idx], circles[3 * idx + 1], circles[3 * idx + 2]
+                )
+            );
+            CrossingsTest.verify(into, counts, idx, single);
+            expected += counts[idx];
+        }
+        MatcherAssert.assertThat(total, Matchers.is(expected));
+    }
+
+    /**
+     * {@link Crossings} intersects a circle with lines and segments, and a
+     * line with circles, as one by one.
+     */
+    @Test
+    public void intersectsLinesAndSegments() {
+        final Random rand = new Random();
+        final DblCircleForm circle = new DblCircleForm(5., 5., 3.);
+        final double[] lines = CrossingsTest.random(rand, 2 + 1);
+        final double[] segments = CrossingsTest.random(rand, 2 + 2);
+        final double[] into = new double[2 * 2 * CrossingsTest.SIZE];
+        final int[] counts = new int[CrossingsTest.SIZE];
+        final Crossings crossings = CrossingsTest.crossings();
+        crossings.lines(circle, lines, into, counts);
+        for (int idx = 0; idx < CrossingsTest.SIZE; ++idx) {
+            CrossingsTest.verify(
+                into, counts, idx,
+                circle.intersection(
+                    new DblImplicit(
+                        lines[3 * idx], lines[3 * idx + 1], lines[3 * idx + 2]
+                    )
+                )
+            );
+        }
+        crossings.segments(circle, segments, into, counts);
+        for (int idx = 0; idx < CrossingsTest.SIZE; ++idx) {
+            CrossingsTest.verify(
+                into, counts, idx,
+                circle.segment(
+                    Arrays.copyOfRange(segments, 4 * idx, 4 * idx + 2),
+                    Arrays.copyOfRange(segments, 4 * idx + 2, 4 * idx + 4)
+                )
+            );
+        }
+        final DblImplicit line = new DblImplicit(1., 2., 8.);
+        crossings.circles(line, lines, into, counts);
+        for (int idx = 0; idx < CrossingsTest.SIZE; ++idx) {
+            CrossingsTest.verify(
+                into, counts, idx,
+                new DblCircleForm(
+                    lines[3 * idx], lines[3 * idx + 1], lines[3 * idx + 2]
+                ).intersection(line)
+            );
+        }
+    }
+
+    /**
+     * {@link Crossings} rejects incomplete items.
+     */
+    @Test
+    public void rejectsIncompleteItems() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Crossings().circles(
+            new DblCircleForm(0., 0., 1.), new double[] {0., 1.},
+            new double[2 + 2], new int[1]
+        );
+    }
+
+    /**
+     * Builds crossings splitting small batches.
+     * @return Crossings
+     */
+    private static Crossings crossings() {
+        return new Crossings(new Parallelism(1, 2 * 2 * 2, ForkJoinPool.commonPool()));
+    }
+
+    /**
+     * Builds random packed items.
+     * @param rand Random numbers generator
+     * @param stride Count of values by item
+     * @return Packed items
+     */
+    private static double[] random(final Random rand, final int stride) {
+        final double[] result = new double[stride * CrossingsTest.SIZE];
+        for (int idx = 0; idx < result.length; ++idx) {
+            result[idx] = rand.nextDouble() * 10.;
+        }
+        return result;
+    }
+
+    /**
+     * Checks the intersection points of an item against single ones.
+     * @param into Intersection points of the batch
+     * @param counts Count of intersection points of each item
+     * @param idx Item index
+     * @param single Intersection points of the item alone
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static void verify(final double[] into, final int[] counts,
+        final int idx, final double[] single) {
+        MatcherAssert.assertThat(counts[idx], Matchers.is(single.length / 2));
+        MatcherAssert.assertThat(
+            Arrays.copyOfRange(into, 2 * 2 * idx, 2 * 2 * idx + single.length),
+            Matchers.equalTo(single)
+        );
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.circle.analytics;
+
+import com.jeometry.twod.line.analytics.DblImplicit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link DblCircleForm}.
+ * @since 0.4
+ */
+public final class DblCircleFormTest {
+
+    /**
+     * Tolerance on coordinates.
+     */
+    private static final double TOLERANCE = 1.e-9;
+
+    /**
+     * {@link DblCircleForm} intersects lines in zero, one or two points.
+     */
+    @Test
+    public void intersectsLines() {
+        final DblCircleForm circle = new DblCircleForm(1., 1., 2.);
+        DblCircleFormTest.verify(
+            circle.intersection(new DblImplicit(1., 0., 1.)),
+            1., -1., 1., 3.
+        );
+        DblCircleFormTest.verify(
+            circle.intersection(new DblImplicit(0., 2., 6.)), 1., 3.
+        );
+        DblCircleFormTest.verify(
+            circle.intersection(new DblImplicit(1., 1., 10.))
+        );
+    }
+
+    /**
+     * {@link DblCircleForm} intersects circles in zero, one or two points.
+     */
+    @Test
+    public void intersectsCircles() {
+        final DblCircleForm circle = new DblCircleForm(0., 0., 5.);
+        DblCircleFormTest.verify(
+            circle.intersection(new DblCircleForm(8., 0., 5.)),
+            4., -3., 4., 3.
+        );
+        DblCircleFormTest.verify(
+            circle.intersection(new DblCircleForm(0., 8., 3.)), 0., 5.
+        );
+        DblCircleFormTest.verify(
+            circle.intersection(new DblCircleForm(0., 2., 3.)), 0., 5.
+        );
+        DblCircleFormTest.verify(
+            circle.intersection(new DblCircleForm(0., 20., 3.))
+        );
+        DblCircleFormTest.verify(
+            circle.intersection(new DblCircleForm(0., 1., 1.))
+        );
+        DblCircleFormTest.verify(
+            circle.intersection(new DblCircleForm(0., 0., 5.))
+        );
+    }
+
+    /**
+     * {@link DblCircleForm} intersects segments and rays along their
+     * extent.
+     */
+    @Test
+    public void intersectsSegmentsAndRays() {
+        final DblCircleForm circle = new DblCircleForm(0., 0., 1.);
+        DblCircleFormTest.verify(
+            circle.segment(new double[] {-2., 0.}, new double[] {2., 0.}),
+            -1., 0., 1., 0.
+        );
+        DblCircleFormTest.verify(
+            circle.segment(new double[] {0., 0.}, new double[] {0., 2.}),
+            0., 1.
+        );
+        DblCircleFormTest.verify(
+            circle.segment(new double[] {0., 0.}, new double[] {0., 0.5})
+        );
+        DblCircleFormTest.verify(
+            circle.ray(new double[] {0., 3.}, new double[] {0., -1.}),
+            0., 1., 0., -1.
+        );
+        DblCircleFormTest.verify(
+            circle.ray(new double[] {0., 3.}, new double[] {0., 1.})
+        );
+    }
+
+    /**
+     * Checks intersection points coordinates.
+     * @param actual Actual coordinates
+     * @param expected Expected coordinates
+     */
+    private static void verify(final double[] actual, final double... expected) {
+        MatcherAssert.assertThat(actual.length, Matchers.is(expected.length));
+        for (int idx = 0; idx < expected.length; ++idx) {
+            MatcherAssert.assertThat(
+                actual[idx],
+                Matchers.closeTo(expected[idx], DblCircleFormTest.TOLERANCE)
+            );
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+import com.aljebra.field.impl.doubles.DblVect;
+import com.aljebra.scalar.Scalar;
+import com.jeometry.twod.Figure;
+import com.jeometry.twod.Shape;
+import com.jeometry.twod.bounds.Box;
+import com.jeometry.twod.circle.PtRadCircle;
+import com.jeometry.twod.line.PtDirLine;
+import com.jeometry.twod.point.XyPoint;
+import com.jeometry.twod.segment.PtsSegment;
+import com.jeometry.twod.solver.FreePoint;
+import com.jeometry.twod.solver.Parameters;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link FigureIndex}.
+ * @since 0.4
+ */
+public final class FigureIndexTest {
+
+    /**
+     * {@link FigureIndex} gives shapes intersecting a window, including
+     * shapes with infinite extents.
+     */
+    @Test
+    public void queriesWindow() {
+        final Shape<?> point = new Shape<>(FigureIndexTest.point(1., 1.));
+        final Shape<?> far = new Shape<>(FigureIndexTest.point(100., 100.));
+        final Shape<?> line = new Shape<>(
+            new PtDirLine<>(FigureIndexTest.point(0., 0.), new DblVect(1., 0.))
+        );
+        final Shape<?> other = new Shape<>(
+            new PtDirLine<>(FigureIndexTest.point(0., 100.), new DblVect(1., 0.))
+        );
+        final FigureIndex index = new FigureIndex(
+            new Figure().add(point).add(far).add(line).add(other)
+        );
+        final List<Shape<?>> shapes = index.window(new Box(0., 0., 2., 2.));
+        MatcherAssert.assertThat(shapes, Matchers.containsInAnyOrder(point, line));
+        MatcherAssert.assertThat(index.size(), Matchers.equalTo(4));
+        MatcherAssert.assertThat(
+            index.candidates(), Matchers.hasSize(1)
+        );
+    }
+
+    /**
+     * {@link FigureIndex} gives nearest shapes.
+     */
+    @Test
+    public void findsNearest() {
+        final Shape<?> near = new Shape<>(
+            new PtRadCircle<>(FigureIndexTest.point(5., 5.), new Scalar.Default<>(1.))
+        );
+        final Shape<?> far = new Shape<>(FigureIndexTest.point(50., 50.));
+        final FigureIndex index = new FigureIndex(new Figure().add(far).add(near));
+        MatcherAssert.assertThat(
+            index.nearest(0., 0., 1), Matchers.contains(near)
+        );
+    }
+
+    /**
+     * {@link FigureIndex} gives intersection candidates, and is updated
+     * by additions and removals.
+     */
+    @Test
+    public void givesCandidates() {
+        final Shape<?> first = new Shape<>(
+            new PtsSegment<>(FigureIndexTest.point(0., 0.), FigureIndexTest.point(2., 2.))
+        );
+        final Shape<?> second = new Shape<>(
+            new PtsSegment<>(FigureIndexTest.point(0., 2.), FigureIndexTest.point(2., 0.))
+        );
+        final FigureIndex index = new FigureIndex(new Figure().add(first));
+        index.add(second);
+        final List<Map.Entry<Shape<?>, Shape<?>>> pairs = index.candidates();
+        MatcherAssert.assertThat(pairs, Matchers.hasSize(1));
+        MatcherAssert.assertThat(index.remove(second), Matchers.is(true));
+        MatcherAssert.assertThat(index.candidates(), Matchers.empty());
+    }
+
+    /**
+     * {@link FigureIndex} removes shapes that moved since they were indexed.
+     */
+    @Test
+    public void removesMovedShapes() {
+        final Parameters params = new Parameters();
+        final FreePoint point = params.point(1., 1.);
+        final Shape<?> shape = new Shape<>(point);
+        final FigureIndex index = new FigureIndex(
+            new Figure().add(shape).add(new Shape<>(FigureIndexTest.point(2., 2.)))
+        );
+        params.update(point.xvar(), 50.);
+        MatcherAssert.assertThat(index.remove(shape), Matchers.is(true));
+        MatcherAssert.assertThat(index.remove(shape), Matchers.is(false));
+        MatcherAssert.assertThat(index.size(), Matchers.equalTo(1));
+    }
+
+    /**
+     * Builds a double point.
+     * @param xcoor X coordinate
+     * @param ycoor Y coordinate
+     * @return A point
+     */
+    private static XyPoint<Double> point(final double xcoor, final double ycoor) {
+        return new XyPoint<>(
+            new Scalar.Default<>(xcoor), new Scalar.Default<>(ycoor)
+        );
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Neighbours}.
+ * @since 0.4
+ */
+public final class NeighboursTest {
+
+    /**
+     * {@link Neighbours} keeps the closest offered points, closest first.
+     */
+    @Test
+    public void keepsClosest() {
+        final Neighbours found = new Neighbours(3);
+        final double[] dists = {5., 1., 4., 2., 8., 3., 0.5};
+        for (int idx = 0; idx < dists.length; ++idx) {
+            found.offer(dists[idx], idx);
+        }
+        MatcherAssert.assertThat(found.bound(), Matchers.equalTo(2.));
+        MatcherAssert.assertThat(
+            found.sorted(), Matchers.equalTo(new int[] {6, 1, 3})
+        );
+    }
+
+    /**
+     * {@link Neighbours} has no distance bound until full.
+     */
+    @Test
+    public void boundsWhenFull() {
+        final Neighbours found = new Neighbours(2);
+        found.offer(1., 0);
+        MatcherAssert.assertThat(
+            found.bound(), Matchers.equalTo(Double.POSITIVE_INFINITY)
+        );
+        found.offer(3., 1);
+        MatcherAssert.assertThat(found.bound(), Matchers.equalTo(3.));
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+import com.jeometry.twod.bounds.Box;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Node}.
+ * @since 0.4
+ */
+public final class NodeTest {
+
+    /**
+     * {@link Node} refreshes its box and collects its entries.
+     */
+    @Test
+    public void refreshesAndCollects() {
+        final Node<Integer> leaf = new Node<>(true);
+        leaf.entries().add(new Boxed<>(new Box(0., 0.), 1));
+        leaf.entries().add(new Boxed<>(new Box(2., 1.), 2));
+        leaf.refresh();
+        final Node<Integer> inner = new Node<>(false);
+        inner.children().add(leaf);
+        inner.refresh();
+        inner.extend(new Box(-1., 5.));
+        MatcherAssert.assertThat(
+            inner.box(), Matchers.equalTo(new Box(-1., 0., 2., 5.))
+        );
+        MatcherAssert.assertThat(inner.size(), Matchers.equalTo(1));
+        final List<Boxed<Integer>> all = new ArrayList<>(0);
+        inner.collect(all);
+        MatcherAssert.assertThat(all, Matchers.equalTo(leaf.entries()));
+    }
+
+}
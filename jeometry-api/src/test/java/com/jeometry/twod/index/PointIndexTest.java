@@ -0,0 +1,309 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+import com.aljebra.field.impl.doubles.Parallelism;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import com.jeometry.twod.bounds.Box;
+import com.jeometry.twod.point.XyPoint;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Contract tests of {@link PointIndex} implementations, checked against
+ * a linear scan. Random points and queries are seeded, so that failures
+ * reproduce.
+ * @since 0.4
+ */
+public abstract class PointIndexTest {
+
+    /**
+     * Seed of the random points and queries.
+     */
+    private static final long SEED = 20_240_117L;
+
+    /**
+     * Count of indexed points.
+     */
+    private static final int SIZE = 3000;
+
+    /**
+     * Count of queries.
+     */
+    private static final int QUERIES = 50;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Builds the index of points.
+     * @param coords Interleaved (x, y) points coordinates
+     * @return Index
+     */
+    protected abstract PointIndex index(double[] coords);
+
+    /**
+     * Builds the index of points with parallelism settings.
+     * @param coords Interleaved (x, y) points coordinates
+     * @param parallel Parallelism settings
+     * @return Index
+     */
+    protected abstract PointIndex index(double[] coords, Parallelism parallel);
+
+    /**
+     * Builds the index of a list of points.
+     * @param points Points
+     * @return Index
+     */
+    protected abstract PointIndex index(List<? extends Vect<Double>> points);
+
+    /**
+     * {@link PointIndex} answers range queries and range counts as a linear scan.
+     */
+    @Test
+    public void answersRanges() {
+        final double[] coords = PointIndexTest.coords(PointIndexTest.SIZE);
+        final PointIndex index = this.index(coords);
+        final PointIndex scan = new ScanIndex(coords);
+        final Random rand = new Random(PointIndexTest.SEED + 1L);
+        for (int idx = 0; idx < PointIndexTest.QUERIES; ++idx) {
+            final double xcoor = rand.nextDouble() * 100.;
+            final double ycoor = rand.nextDouble() * 100.;
+            final Box window = new Box(
+                xcoor, ycoor,
+                xcoor + rand.nextDouble() * 40., ycoor + rand.nextDouble() * 40.
+            );
+            MatcherAssert.assertThat(
+                PointIndexTest.sorted(index.range(window)),
+                Matchers.equalTo(scan.range(window))
+            );
+            MatcherAssert.assertThat(
+                index.count(window), Matchers.equalTo(scan.count(window))
+            );
+        }
+        MatcherAssert.assertThat(
+            index.count(new Box()), Matchers.equalTo(PointIndexTest.SIZE)
+        );
+    }
+
+    /**
+     * {@link PointIndex} answers radius queries as a linear scan.
+     */
+    @Test
+    public void answersRadiusQueries() {
+        final double[] coords = PointIndexTest.coords(PointIndexTest.SIZE);
+        final PointIndex index = this.index(coords);
+        final PointIndex scan = new ScanIndex(coords);
+        final Random rand = new Random(PointIndexTest.SEED + 1L);
+        for (int idx = 0; idx < PointIndexTest.QUERIES; ++idx) {
+            final double xcoor = rand.nextDouble() * 100.;
+            final double ycoor = rand.nextDouble() * 100.;
+            final double radius = rand.nextDouble() * 15.;
+            MatcherAssert.assertThat(
+                PointIndexTest.sorted(index.within(xcoor, ycoor, radius)),
+                Matchers.equalTo(scan.within(xcoor, ycoor, radius))
+            );
+        }
+    }
+
+    /**
+     * {@link PointIndex} answers nearest neighbours queries as a linear scan,
+     * closest points first.
+     */
+    @Test
+    public void answersNearestQueries() {
+        final double[] coords = PointIndexTest.coords(PointIndexTest.SIZE);
+        final PointIndex index = this.index(coords);
+        final ScanIndex scan = new ScanIndex(coords);
+        final Random rand = new Random(PointIndexTest.SEED + 1L);
+        for (int idx = 0; idx < PointIndexTest.QUERIES; ++idx) {
+            final double xcoor = rand.nextDouble() * 120. - 10.;
+            final double ycoor = rand.nextDouble() * 120. - 10.;
+            final int count = 1 + rand.nextInt(20);
+            MatcherAssert.assertThat(
+                PointIndexTest.dists(scan, index.nearest(xcoor, ycoor, count), xcoor, ycoor),
+                Matchers.equalTo(
+                    PointIndexTest.dists(
+                        scan, scan.nearest(xcoor, ycoor, count), xcoor, ycoor
+                    )
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            index.nearest(0., 0., PointIndexTest.SIZE + 1).length,
+            Matchers.equalTo(PointIndexTest.SIZE)
+        );
+        MatcherAssert.assertThat(index.nearest(0., 0., 0).length, Matchers.is(0));
+    }
+
+    /**
+     * {@link PointIndex} built in parallel answers queries as when built
+     * sequentially.
+     */
+    @Test
+    public void buildsInParallel() {
+        final double[] coords = PointIndexTest.coords(PointIndexTest.SIZE);
+        final PointIndex index = this.index(
+            coords, new Parallelism(1, 16, ForkJoinPool.commonPool())
+        );
+        final PointIndex scan = new ScanIndex(coords);
+        final Box window = new Box(10., 20., 60., 50.);
+        MatcherAssert.assertThat(
+            PointIndexTest.sorted(index.range(window)),
+            Matchers.equalTo(scan.range(window))
+        );
+        MatcherAssert.assertThat(
+            PointIndexTest.sorted(index.within(50., 50., 20.)),
+            Matchers.equalTo(scan.within(50., 50., 20.))
+        );
+        MatcherAssert.assertThat(index.size(), Matchers.equalTo(PointIndexTest.SIZE));
+    }
+
+    /**
+     * {@link PointIndex} indexes points in the order of their list.
+     */
+    @Test
+    public void indexesPoints() {
+        final PointIndex index = this.index(
+            Arrays.<Vect<Double>>asList(
+                PointIndexTest.point(1., 1.), PointIndexTest.point(5., 5.),
+                PointIndexTest.point(2., 1.)
+            )
+        );
+        MatcherAssert.assertThat(
+            index.nearest(4., 4., 2), Matchers.equalTo(new int[] {1, 2})
+        );
+        MatcherAssert.assertThat(
+            PointIndexTest.sorted(index.range(new Box(0., 0., 3., 3.))),
+            Matchers.equalTo(new int[] {0, 2})
+        );
+    }
+
+    /**
+     * {@link PointIndex} indexes duplicate points.
+     */
+    @Test
+    public void indexesDuplicates() {
+        final double[] coords = new double[2 * PointIndexTest.QUERIES];
+        Arrays.fill(coords, 3.);
+        final PointIndex index = this.index(coords);
+        MatcherAssert.assertThat(
+            index.count(new Box(3., 3.)), Matchers.equalTo(PointIndexTest.QUERIES)
+        );
+        MatcherAssert.assertThat(
+            index.within(3., 3., 0.).length, Matchers.equalTo(PointIndexTest.QUERIES)
+        );
+        MatcherAssert.assertThat(
+            index.nearest(0., 0., 2).length, Matchers.equalTo(2)
+        );
+    }
+
+    /**
+     * {@link PointIndex} can index no points.
+     */
+    @Test
+    public void indexesNothing() {
+        final PointIndex index = this.index(new double[0]);
+        MatcherAssert.assertThat(index.size(), Matchers.is(0));
+        MatcherAssert.assertThat(index.nearest(1., 1., 3).length, Matchers.is(0));
+        MatcherAssert.assertThat(index.count(new Box()), Matchers.is(0));
+    }
+
+    /**
+     * {@link PointIndex} rejects coordinates that are not pairs.
+     */
+    @Test
+    public void rejectsOddCoordinates() {
+        this.thrown.expect(IllegalArgumentException.class);
+        this.index(new double[] {1., 2., 3.});
+    }
+
+    /**
+     * Builds random points coordinates in [0, 100] x [0, 100].
+     * @param size Count of points
+     * @return Interleaved (x, y) coordinates
+     */
+    private static double[] coords(final int size) {
+        final Random rand = new Random(PointIndexTest.SEED);
+        final double[] result = new double[2 * size];
+        for (int idx = 0; idx < result.length; ++idx) {
+            result[idx] = rand.nextDouble() * 100.;
+        }
+        return result;
+    }
+
+    /**
+     * Builds a point.
+     * @param xcoor X coordinate
+     * @param ycoor Y coordinate
+     * @return Point
+     */
+    private static XyPoint<Double> point(final double xcoor,
+        final double ycoor) {
+        return new XyPoint<>(
+            new Scalar.Default<>(xcoor), new Scalar.Default<>(ycoor)
+        );
+    }
+
+    /**
+     * Sorts point indexes.
+     * @param ids Point indexes
+     * @return Sorted copy
+     */
+    private static int[] sorted(final int[] ids) {
+        final int[] result = ids.clone();
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Gives the distances of points to a location.
+     * @param scan Reference index
+     * @param ids Point indexes
+     * @param xcoor Location X coordinate
+     * @param ycoor Location Y coordinate
+     * @return Distances
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static double[] dists(final ScanIndex scan, final int[] ids,
+        final double xcoor, final double ycoor) {
+        final double[] result = new double[ids.length];
+        for (int idx = 0; idx < ids.length; ++idx) {
+            result[idx] = scan.dist(ids[idx], xcoor, ycoor);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,243 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+import com.jeometry.twod.bounds.Box;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link RTree}.
+ * @since 0.4
+ */
+public final class RTreeTest {
+
+    /**
+     * Count of indexed boxes.
+     */
+    private static final int SIZE = 2000;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link RTree} bulk loaded answers window queries as a linear scan.
+     */
+    @Test
+    public void queriesBulkLoadedWindows() {
+        final List<Boxed<Integer>> entries = RTreeTest.entries(RTreeTest.SIZE);
+        final RTree<Integer> tree = new RTree<>(entries);
+        MatcherAssert.assertThat(tree.size(), Matchers.equalTo(RTreeTest.SIZE));
+        final Random rand = new Random();
+        for (int idx = 0; idx < 50; ++idx) {
+            final Box window = RTreeTest.box(rand, 20.);
+            MatcherAssert.assertThat(
+                new HashSet<>(tree.window(window)),
+                Matchers.equalTo(RTreeTest.scan(entries, window))
+            );
+        }
+    }
+
+    /**
+     * {@link RTree} updated by insertions and removals answers window
+     * queries as a linear scan.
+     */
+    @Test
+    public void queriesUpdatedWindows() {
+        final List<Boxed<Integer>> entries = RTreeTest.entries(RTreeTest.SIZE);
+        final RTree<Integer> tree = new RTree<>(4);
+        for (final Boxed<Integer> entry : entries) {
+            tree.insert(entry);
+        }
+        final List<Boxed<Integer>> kept = new ArrayList<>(0);
+        for (final Boxed<Integer> entry : entries) {
+            if (entry.item() % 3 == 0) {
+                MatcherAssert.assertThat(tree.remove(entry), Matchers.is(true));
+            } else {
+                kept.add(entry);
+            }
+        }
+        MatcherAssert.assertThat(tree.size(), Matchers.equalTo(kept.size()));
+        MatcherAssert.assertThat(
+            tree.remove(entries.get(0)), Matchers.is(false)
+        );
+        final Random rand = new Random();
+        for (int idx = 0; idx < 50; ++idx) {
+            final Box window = RTreeTest.box(rand, 30.);
+            MatcherAssert.assertThat(
+                new HashSet<>(tree.window(window)),
+                Matchers.equalTo(RTreeTest.scan(kept, window))
+            );
+        }
+    }
+
+    /**
+     * {@link RTree} can be emptied and filled again.
+     */
+    @Test
+    public void emptiesAndRefills() {
+        final List<Boxed<Integer>> entries = RTreeTest.entries(100);
+        final RTree<Integer> tree = new RTree<>(entries, 4);
+        for (final Boxed<Integer> entry : entries) {
+            tree.remove(entry);
+        }
+        MatcherAssert.assertThat(tree.size(), Matchers.equalTo(0));
+        MatcherAssert.assertThat(
+            tree.window(new Box(-1000., -1000., 1000., 1000.)),
+            Matchers.empty()
+        );
+        tree.insert(new Box(1., 1.), 1);
+        MatcherAssert.assertThat(
+            tree.window(new Box(0., 0., 2., 2.)), Matchers.contains(1)
+        );
+    }
+
+    /**
+     * {@link RTree} finds nearest entries as a linear scan.
+     */
+    @Test
+    public void findsNearest() {
+        final List<Boxed<Integer>> entries = RTreeTest.entries(RTreeTest.SIZE);
+        final RTree<Integer> tree = new RTree<>(entries);
+        final double xcoor = 50.;
+        final double ycoor = 40.;
+        final int neighbours = 10;
+        final List<Integer> nearest = tree.nearest(xcoor, ycoor, neighbours);
+        MatcherAssert.assertThat(nearest, Matchers.hasSize(neighbours));
+        final List<Boxed<Integer>> sorted = new ArrayList<>(entries);
+        sorted.sort(
+            (first, second) -> Double.compare(
+                first.box().distance(xcoor, ycoor),
+                second.box().distance(xcoor, ycoor)
+            )
+        );
+        final double limit = sorted.get(neighbours - 1).box().distance(xcoor, ycoor);
+        double last = 0.;
+        for (final Integer item : nearest) {
+            final double dist = entries.get(item).box().distance(xcoor, ycoor);
+            MatcherAssert.assertThat(dist, Matchers.lessThanOrEqualTo(limit));
+            MatcherAssert.assertThat(dist, Matchers.greaterThanOrEqualTo(last));
+            last = dist;
+        }
+    }
+
+    /**
+     * {@link RTree} gives intersecting pairs as a quadratic scan.
+     */
+    @Test
+    public void givesCandidates() {
+        final List<Boxed<Integer>> entries = RTreeTest.entries(500);
+        final RTree<Integer> tree = new RTree<>(entries, 6);
+        final Set<Map.Entry<Integer, Integer>> expected = new HashSet<>(0);
+        for (int idx = 0; idx < entries.size(); ++idx) {
+            for (int jdx = idx + 1; jdx < entries.size(); ++jdx) {
+                if (entries.get(idx).box().intersects(entries.get(jdx).box())) {
+                    expected.add(new AbstractMap.SimpleImmutableEntry<>(idx, jdx));
+                }
+            }
+        }
+        final Set<Map.Entry<Integer, Integer>> actual = new HashSet<>(0);
+        for (final Map.Entry<Integer, Integer> pair : tree.candidates()) {
+            actual.add(
+                new AbstractMap.SimpleImmutableEntry<>(
+                    Math.min(pair.getKey(), pair.getValue()),
+                    Math.max(pair.getKey(), pair.getValue())
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            tree.candidates(), Matchers.hasSize(expected.size())
+        );
+        MatcherAssert.assertThat(actual, Matchers.equalTo(expected));
+    }
+
+    /**
+     * {@link RTree} throws exception when node capacity is too small.
+     */
+    @Test
+    public void errorsWhenCapacityTooSmall() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new RTree<Integer>(2);
+    }
+
+    /**
+     * Builds random entries, with their index as item.
+     * @param size Entries count
+     * @return Entries
+     */
+    private static List<Boxed<Integer>> entries(final int size) {
+        final Random rand = new Random();
+        final List<Boxed<Integer>> result = new ArrayList<>(size);
+        for (int idx = 0; idx < size; ++idx) {
+            result.add(new Boxed<>(RTreeTest.box(rand, 5.), idx));
+        }
+        return result;
+    }
+
+    /**
+     * Builds a random box in [0, 100] x [0, 100].
+     * @param rand Random generator
+     * @param size Maximum box width and height
+     * @return A box
+     */
+    private static Box box(final Random rand, final double size) {
+        final double xcoor = rand.nextDouble() * 100.;
+        final double ycoor = rand.nextDouble() * 100.;
+        return new Box(
+            xcoor, ycoor, xcoor + rand.nextDouble() * size,
+            ycoor + rand.nextDouble() * size
+        );
+    }
+
+    /**
+     * Scans entries intersecting a window.
+     * @param entries Entries
+     * @param window Query window
+     * @return Items intersecting the window
+     */
+    private static Set<Integer> scan(final List<Boxed<Integer>> entries,
+        final Box window) {
+        final Set<Integer> result = new HashSet<>(0);
+        for (final Boxed<Integer> entry : entries) {
+            if (window.intersects(entry.box())) {
+                result.add(entry.item());
+            }
+        }
+        return result;
+    }
+
+}
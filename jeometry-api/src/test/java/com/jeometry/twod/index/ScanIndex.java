@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.index;
+
+import com.jeometry.twod.bounds.Box;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link PointIndex} scanning all points, as a reference for tests.
+ * @since 0.4
+ */
+final class ScanIndex implements PointIndex {
+
+    /**
+     * Interleaved (x, y) points coordinates.
+     */
+    private final double[] coords;
+
+    /**
+     * Constructor.
+     * @param coords Interleaved (x, y) points coordinates
+     */
+    ScanIndex(final double[] coords) {
+        this.coords = coords.clone();
+    }
+
+    @Override
+    public int[] nearest(final double xcoor, final double ycoor,
+        final int neighbours) {
+        return IntStream.range(0, this.size()).boxed()
+            .sorted(Comparator.comparingDouble(id -> this.dist(id, xcoor, ycoor)))
+            .limit(neighbours).mapToInt(Integer::intValue).toArray();
+    }
+
+    @Override
+    public int[] within(final double xcoor, final double ycoor,
+        final double radius) {
+        return IntStream.range(0, this.size())
+            .filter(id -> this.dist(id, xcoor, ycoor) <= radius).toArray();
+    }
+
+    @Override
+    public int[] range(final Box window) {
+        return IntStream.range(0, this.size())
+            .filter(
+                id -> window.contains(this.coords[2 * id], this.coords[2 * id + 1])
+            ).toArray();
+    }
+
+    @Override
+    public int count(final Box window) {
+        return this.range(window).length;
+    }
+
+    @Override
+    public int size() {
+        return this.coords.length / 2;
+    }
+
+    /**
+     * Calculates the distance from a point to a location.
+     * @param id Point index
+     * @param xcoor Location X coordinate
+     * @param ycoor Location Y coordinate
+     * @return Distance
+     */
+    public double dist(final int id, final double xcoor, final double ycoor) {
+        return Math.hypot(
+            this.coords[2 * id] - xcoor, this.coords[2 * id + 1] - ycoor
+        );
+    }
+
+}
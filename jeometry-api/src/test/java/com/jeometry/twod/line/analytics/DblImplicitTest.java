@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.line.analytics;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.jeometry.twod.line.Line;
+import com.jeometry.twod.line.RandomLine;
+import com.jeometry.twod.line.VerticalLine;
+import com.jeometry.twod.point.LineIntersectPoint;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link DblImplicit}.
+ * @since 0.4
+ */
+public final class DblImplicitTest {
+
+    /**
+     * Error margin.
+     */
+    private static final double ERROR = 1.e-6;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link DblImplicit} intersects lines as {@link LineIntersectPoint}.
+     */
+    @Test
+    public void intersectsAsIntersectPoint() {
+        final Decimal dec = new Decimal();
+        final Line<Double> any = new RandomLine<>();
+        final Line<Double> vertical = new VerticalLine<>();
+        final double[] cross = new DblImplicit(any).intersection(
+            new DblImplicit(vertical, dec)
+        );
+        final LineIntersectPoint<Double> expected = new LineIntersectPoint<>(any, vertical);
+        MatcherAssert.assertThat(
+            cross[0], Matchers.closeTo(expected.xcoor().value(dec), DblImplicitTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            cross[1], Matchers.closeTo(expected.ycoor().value(dec), DblImplicitTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            new DblImplicit(any).contains(cross[0], cross[1]), Matchers.is(true)
+        );
+    }
+
+    /**
+     * {@link DblImplicit} projects and reflects points.
+     */
+    @Test
+    public void projectsAndReflects() {
+        final DblImplicit line = new DblImplicit(1., -1., -1.);
+        final double[] proj = line.projection(2., 1.);
+        MatcherAssert.assertThat(proj[0], Matchers.closeTo(1., DblImplicitTest.ERROR));
+        MatcherAssert.assertThat(proj[1], Matchers.closeTo(2., DblImplicitTest.ERROR));
+        final double[] refl = line.reflection(2., 1.);
+        MatcherAssert.assertThat(refl[0], Matchers.closeTo(0., DblImplicitTest.ERROR));
+        MatcherAssert.assertThat(refl[1], Matchers.closeTo(3., DblImplicitTest.ERROR));
+        MatcherAssert.assertThat(
+            line.distance(2., 1.), Matchers.closeTo(Math.sqrt(2.), DblImplicitTest.ERROR)
+        );
+    }
+
+    /**
+     * {@link DblImplicit} throws exception when intersecting parallel
+     * lines.
+     */
+    @Test
+    public void errorsIfParallel() {
+        this.thrown.expect(IllegalStateException.class);
+        final DblImplicit line = new DblImplicit(1., 2., 3.);
+        final DblImplicit other = new DblImplicit(-2., -4., 1.);
+        MatcherAssert.assertThat(line.parallel(other), Matchers.is(true));
+        line.intersection(other);
+    }
+
+}
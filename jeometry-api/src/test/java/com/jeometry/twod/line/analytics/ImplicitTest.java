@@ -0,0 +1,150 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.line.analytics;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import com.jeometry.twod.line.Line;
+import com.jeometry.twod.line.ParallelLine;
+import com.jeometry.twod.line.PtsLine;
+import com.jeometry.twod.line.RandomLine;
+import com.jeometry.twod.line.VerticalLine;
+import com.jeometry.twod.point.XyPoint;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Implicit}.
+ * @since 0.4
+ */
+public final class ImplicitTest {
+
+    /**
+     * Error margin.
+     */
+    private static final double ERROR = 1.e-6;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Implicit} resolves a line into its implicit equation.
+     */
+    @Test
+    public void resolvesEquation() {
+        final Decimal dec = new Decimal();
+        final Implicit<Double> line = new Implicit<>(
+            new PtsLine<>(ImplicitTest.point(1., 2.), ImplicitTest.point(3., 6.)), dec
+        );
+        MatcherAssert.assertThat(line.xcoef(), Matchers.closeTo(-4., ImplicitTest.ERROR));
+        MatcherAssert.assertThat(line.ycoef(), Matchers.closeTo(2., ImplicitTest.ERROR));
+        MatcherAssert.assertThat(line.constant(), Matchers.closeTo(0., ImplicitTest.ERROR));
+        MatcherAssert.assertThat(
+            line.contains(ImplicitTest.point(2., 4.)), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            line.contains(ImplicitTest.point(2., 5.)), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(line.ordinate(5.), Matchers.closeTo(10., ImplicitTest.ERROR));
+    }
+
+    /**
+     * {@link Implicit} intersects lines, vertical ones included.
+     */
+    @Test
+    public void intersectsLines() {
+        final Decimal dec = new Decimal();
+        final Line<Double> any = new RandomLine<>();
+        final Line<Double> vertical = new VerticalLine<>();
+        final Vect<Double> cross = new Implicit<>(any, dec).intersection(
+            new Implicit<>(vertical, dec)
+        );
+        MatcherAssert.assertThat(
+            new Implicit<>(any, dec).contains(cross), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new Implicit<>(vertical, dec).contains(cross), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new Implicit<>(vertical, dec).vertical(), Matchers.is(true)
+        );
+    }
+
+    /**
+     * {@link Implicit} projects and reflects points.
+     */
+    @Test
+    public void projectsAndReflects() {
+        final Decimal dec = new Decimal();
+        final Implicit<Double> line = new Implicit<>(
+            new PtsLine<>(ImplicitTest.point(0., 1.), ImplicitTest.point(2., 3.)), dec
+        );
+        final Vect<Double> proj = line.projection(ImplicitTest.point(2., 1.));
+        MatcherAssert.assertThat(
+            proj.coords()[0].value(dec), Matchers.closeTo(1., ImplicitTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            proj.coords()[1].value(dec), Matchers.closeTo(2., ImplicitTest.ERROR)
+        );
+        final Vect<Double> refl = line.reflection(ImplicitTest.point(2., 1.));
+        MatcherAssert.assertThat(
+            refl.coords()[0].value(dec), Matchers.closeTo(0., ImplicitTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            refl.coords()[1].value(dec), Matchers.closeTo(3., ImplicitTest.ERROR)
+        );
+    }
+
+    /**
+     * {@link Implicit} throws exception when intersecting parallel lines.
+     */
+    @Test
+    public void errorsIfParallel() {
+        this.thrown.expect(IllegalStateException.class);
+        final Decimal dec = new Decimal();
+        final Line<Double> any = new RandomLine<>();
+        final Implicit<Double> line = new Implicit<>(any, dec);
+        final Implicit<Double> other = new Implicit<>(new ParallelLine<>(any), dec);
+        MatcherAssert.assertThat(line.parallel(other), Matchers.is(true));
+        line.intersection(other);
+    }
+
+    /**
+     * Builds a point.
+     * @param xcoor X coordinate
+     * @param ycoor Y coordinate
+     * @return Point
+     */
+    private static XyPoint<Double> point(final double xcoor, final double ycoor) {
+        return new XyPoint<>(new Scalar.Default<>(xcoor), new Scalar.Default<>(ycoor));
+    }
+
+}
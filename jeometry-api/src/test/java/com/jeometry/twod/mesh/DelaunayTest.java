@@ -0,0 +1,283 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.mesh;
+
+import com.aljebra.scalar.Scalar;
+import com.jeometry.twod.point.XyPoint;
+import com.jeometry.twod.predicate.InCircle;
+import com.jeometry.twod.predicate.Orientation;
+import java.util.Arrays;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Delaunay}.
+ * @since 0.4
+ */
+public final class DelaunayTest {
+
+    /**
+     * Count of random points.
+     */
+    private static final int SIZE = 400;
+
+    /**
+     * Side of the points grid.
+     */
+    private static final int SIDE = 12;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Delaunay} triangulates random points with empty circumcircles.
+     */
+    @Test
+    public void triangulatesRandomPoints() {
+        final double[] coords = DelaunayTest.random(DelaunayTest.SIZE);
+        final int[] triangles = new Delaunay(coords).triangles();
+        DelaunayTest.assertDelaunay(coords, triangles);
+        MatcherAssert.assertThat(
+            triangles.length / 3,
+            Matchers.equalTo(
+                2 * DelaunayTest.SIZE - 2 - DelaunayTest.hull(coords)
+            )
+        );
+    }
+
+    /**
+     * {@link Delaunay} triangulates cocircular grid points.
+     */
+    @Test
+    public void triangulatesGrid() {
+        final double[] coords = DelaunayTest.grid();
+        final int[] triangles = new Delaunay(coords).triangles();
+        DelaunayTest.assertDelaunay(coords, triangles);
+        MatcherAssert.assertThat(
+            triangles.length / 3,
+            Matchers.equalTo(
+                2 * (DelaunayTest.SIDE - 1) * (DelaunayTest.SIDE - 1)
+            )
+        );
+    }
+
+    /**
+     * {@link Delaunay} finds nearest points as a linear scan.
+     */
+    @Test
+    public void findsNearestPoints() {
+        final double[] coords = DelaunayTest.random(DelaunayTest.SIZE);
+        final Delaunay delaunay = new Delaunay(coords);
+        final Random rand = new Random();
+        for (int query = 0; query < DelaunayTest.SIZE; ++query) {
+            final double xcoor = rand.nextDouble() * 140. - 20.;
+            final double ycoor = rand.nextDouble() * 140. - 20.;
+            final int found = delaunay.nearest(xcoor, ycoor);
+            for (int idx = 0; idx < DelaunayTest.SIZE; ++idx) {
+                MatcherAssert.assertThat(
+                    DelaunayTest.distance(coords, found, xcoor, ycoor),
+                    Matchers.lessThanOrEqualTo(
+                        DelaunayTest.distance(coords, idx, xcoor, ycoor)
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * {@link Delaunay} gives each triangulation edge once.
+     */
+    @Test
+    public void givesEdges() {
+        final Delaunay delaunay = new Delaunay(
+            new double[] {0., 0., 2., 0., 2., 2., 0., 2., 1., 1.}
+        );
+        MatcherAssert.assertThat(delaunay.triangles().length, Matchers.is(12));
+        MatcherAssert.assertThat(delaunay.edges(), Matchers.hasSize(8));
+        final int[] around = delaunay.neighbours(4);
+        Arrays.sort(around);
+        MatcherAssert.assertThat(around, Matchers.equalTo(new int[] {0, 1, 2, 3}));
+    }
+
+    /**
+     * {@link Delaunay} shares the vertex of duplicate points.
+     */
+    @Test
+    public void sharesDuplicates() {
+        final Delaunay delaunay = new Delaunay(
+            new double[] {0., 0., 2., 0., 0., 2., 2., 0., 0., 0., 2., 2.}
+        );
+        MatcherAssert.assertThat(delaunay.triangles().length, Matchers.is(6));
+        MatcherAssert.assertThat(
+            delaunay.neighbours(4), Matchers.equalTo(delaunay.neighbours(0))
+        );
+        MatcherAssert.assertThat(delaunay.nearest(2.1, -.1), Matchers.is(1));
+    }
+
+    /**
+     * {@link Delaunay} links collinear points along their line.
+     */
+    @Test
+    public void linksCollinearPoints() {
+        final Delaunay delaunay = new Delaunay(
+            Arrays.asList(
+                new XyPoint<>(new Scalar.Default<>(2.), new Scalar.Default<>(4.)),
+                new XyPoint<>(new Scalar.Default<>(0.), new Scalar.Default<>(0.)),
+                new XyPoint<>(new Scalar.Default<>(1.), new Scalar.Default<>(2.)),
+                new XyPoint<>(new Scalar.Default<>(1.), new Scalar.Default<>(2.))
+            )
+        );
+        MatcherAssert.assertThat(delaunay.triangles().length, Matchers.is(0));
+        MatcherAssert.assertThat(delaunay.edges(), Matchers.hasSize(2));
+        MatcherAssert.assertThat(
+            delaunay.neighbours(3), Matchers.equalTo(new int[] {1, 0})
+        );
+        MatcherAssert.assertThat(delaunay.nearest(3., 3.), Matchers.is(0));
+    }
+
+    /**
+     * {@link Delaunay} finds no nearest point among no points.
+     */
+    @Test
+    public void rejectsNearestOfNothing() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Delaunay(new double[0]).nearest(0., 0.);
+    }
+
+    /**
+     * Asserts that triangles are counterclockwise with empty circumcircles.
+     * @param coords Interleaved (x, y) points coordinates
+     * @param triangles Triangles vertices
+     */
+    private static void assertDelaunay(final double[] coords,
+        final int[] triangles) {
+        final Orientation orient = new Orientation();
+        final InCircle circle = new InCircle();
+        for (int tri = 0; tri < triangles.length; tri += 3) {
+            final int first = triangles[tri];
+            final int second = triangles[tri + 1];
+            final int third = triangles[tri + 2];
+            MatcherAssert.assertThat(
+                orient.sign(
+                    coords[2 * first], coords[2 * first + 1],
+                    coords[2 * second], coords[2 * second + 1],
+                    coords[2 * third], coords[2 * third + 1]
+                ),
+                Matchers.is(1)
+            );
+            for (int idx = 0; idx < coords.length / 2; ++idx) {
+                MatcherAssert.assertThat(
+                    circle.sign(
+                        coords[2 * first], coords[2 * first + 1],
+                        coords[2 * second], coords[2 * second + 1],
+                        coords[2 * third], coords[2 * third + 1],
+                        coords[2 * idx], coords[2 * idx + 1]
+                    ),
+                    Matchers.lessThanOrEqualTo(0)
+                );
+            }
+        }
+    }
+
+    /**
+     * Counts the points on the convex hull boundary of points in general
+     * position, by checking the edges to all other points.
+     * @param coords Interleaved (x, y) points coordinates
+     * @return Count of hull points
+     */
+    private static int hull(final double[] coords) {
+        final Orientation orient = new Orientation();
+        final int size = coords.length / 2;
+        int result = 0;
+        for (int first = 0; first < size; ++first) {
+            for (int second = 0; second < size; ++second) {
+                boolean edge = first != second;
+                for (int idx = 0; idx < size && edge; ++idx) {
+                    edge = orient.sign(
+                        coords[2 * first], coords[2 * first + 1],
+                        coords[2 * second], coords[2 * second + 1],
+                        coords[2 * idx], coords[2 * idx + 1]
+                    ) >= 0;
+                }
+                if (edge) {
+                    result += 1;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the squared distance from a point to a location.
+     * @param coords Interleaved (x, y) points coordinates
+     * @param point Point index
+     * @param xcoor Location X coordinate
+     * @param ycoor Location Y coordinate
+     * @return Squared distance
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static double distance(final double[] coords, final int point,
+        final double xcoor, final double ycoor) {
+        final double xdiff = coords[2 * point] - xcoor;
+        final double ydiff = coords[2 * point + 1] - ycoor;
+        return xdiff * xdiff + ydiff * ydiff;
+    }
+
+    /**
+     * Builds random points.
+     * @param size Count of points
+     * @return Interleaved (x, y) points coordinates
+     */
+    private static double[] random(final int size) {
+        final Random rand = new Random();
+        final double[] result = new double[2 * size];
+        for (int idx = 0; idx < result.length; ++idx) {
+            result[idx] = rand.nextDouble() * 100.;
+        }
+        return result;
+    }
+
+    /**
+     * Builds grid points.
+     * @return Interleaved (x, y) points coordinates
+     */
+    private static double[] grid() {
+        final double[] result = new double[2 * DelaunayTest.SIDE * DelaunayTest.SIDE];
+        for (int row = 0; row < DelaunayTest.SIDE; ++row) {
+            for (int col = 0; col < DelaunayTest.SIDE; ++col) {
+                result[2 * (row * DelaunayTest.SIDE + col)] = col;
+                result[2 * (row * DelaunayTest.SIDE + col) + 1] = row;
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.mesh;
+
+import com.jeometry.twod.bounds.Box;
+import com.jeometry.twod.line.Polygon;
+import com.jeometry.twod.polygon.PackedPolygon;
+import java.util.List;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Voronoi}.
+ * @since 0.4
+ */
+public final class VoronoiTest {
+
+    /**
+     * Count of random points.
+     */
+    private static final int SIZE = 300;
+
+    /**
+     * Error margin.
+     */
+    private static final double ERROR = 1e-6;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Voronoi} cells tile the clip box.
+     */
+    @Test
+    public void tilesBox() {
+        final double[] coords = VoronoiTest.random(VoronoiTest.SIZE);
+        final List<Polygon<Double>> cells = new Voronoi(
+            new Delaunay(coords), new Box(-10., -10., 110., 110.)
+        ).cells();
+        MatcherAssert.assertThat(cells, Matchers.hasSize(VoronoiTest.SIZE));
+        double area = 0.;
+        for (final Polygon<Double> cell : cells) {
+            area += new PackedPolygon(cell).area();
+        }
+        MatcherAssert.assertThat(area, Matchers.closeTo(120. * 120., VoronoiTest.ERROR));
+    }
+
+    /**
+     * {@link Voronoi} cells contain the locations nearest to their point.
+     */
+    @Test
+    public void containsNearestLocations() {
+        final double[] coords = VoronoiTest.random(VoronoiTest.SIZE);
+        final Delaunay delaunay = new Delaunay(coords);
+        final Voronoi voronoi = new Voronoi(delaunay, new Box(0., 0., 100., 100.));
+        final Random rand = new Random();
+        for (int query = 0; query < VoronoiTest.SIZE; ++query) {
+            final double xcoor = rand.nextDouble() * 100.;
+            final double ycoor = rand.nextDouble() * 100.;
+            MatcherAssert.assertThat(
+                new PackedPolygon(voronoi.cell(delaunay.nearest(xcoor, ycoor)))
+                    .contains(xcoor, ycoor),
+                Matchers.is(true)
+            );
+        }
+    }
+
+    /**
+     * {@link Voronoi} splits the box of two points by their bisector.
+     */
+    @Test
+    public void splitsByBisector() {
+        final Voronoi voronoi = new Voronoi(
+            new Delaunay(new double[] {1., 1., 3., 1.}), new Box(0., 0., 4., 2.)
+        );
+        MatcherAssert.assertThat(
+            voronoi.cell(0),
+            Matchers.equalTo(new double[] {0., 0., 2., 0., 2., 2., 0., 2.})
+        );
+        MatcherAssert.assertThat(
+            voronoi.cell(1),
+            Matchers.equalTo(new double[] {2., 0., 4., 0., 4., 2., 2., 2.})
+        );
+    }
+
+    /**
+     * {@link Voronoi} rejects a clip box not containing all points.
+     */
+    @Test
+    public void rejectsSmallBox() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Voronoi(
+            new Delaunay(new double[] {1., 1., 3., 1.}), new Box(0., 0., 2., 2.)
+        );
+    }
+
+    /**
+     * Builds random points.
+     * @param size Count of points
+     * @return Interleaved (x, y) points coordinates
+     */
+    private static double[] random(final int size) {
+        final Random rand = new Random();
+        final double[] result = new double[2 * size];
+        for (int idx = 0; idx < result.length; ++idx) {
+            result[idx] = rand.nextDouble() * 100.;
+        }
+        return result;
+    }
+
+}
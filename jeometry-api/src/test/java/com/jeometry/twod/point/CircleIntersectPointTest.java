@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.point;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.Scalar;
+import com.jeometry.twod.circle.Circle;
+import com.jeometry.twod.circle.PtRadCircle;
+import com.jeometry.twod.circle.analytics.PointInCircle;
+import com.jeometry.twod.line.Line;
+import com.jeometry.twod.line.PtsLine;
+import com.jeometry.twod.line.analytics.PointInLine;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link CircleIntersectPoint}.
+ * @since 0.4
+ */
+public final class CircleIntersectPointTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link CircleIntersectPoint} constructs points belonging to a circle
+     * and a line.
+     */
+    @Test
+    public void buildsPointsInCircleAndLine() {
+        final Circle<Double> circle = new PtRadCircle<>(
+            CircleIntersectPointTest.point(1., 2.), new Scalar.Default<>(3.)
+        );
+        final Line<Double> line = new PtsLine<>(
+            CircleIntersectPointTest.point(0., 0.),
+            CircleIntersectPointTest.point(2., 1.)
+        );
+        final Decimal field = new Decimal();
+        for (int root = 0; root < 2; ++root) {
+            final CircleIntersectPoint point = new CircleIntersectPoint(
+                circle, line, root
+            );
+            MatcherAssert.assertThat(
+                new PointInCircle<>(point, circle).resolve(field),
+                Matchers.is(true)
+            );
+            MatcherAssert.assertThat(
+                new PointInLine<>(point, line).resolve(field),
+                Matchers.is(true)
+            );
+        }
+    }
+
+    /**
+     * {@link CircleIntersectPoint} throws exception when circles do not
+     * intersect.
+     */
+    @Test
+    public void errorsWhenNoIntersection() {
+        this.thrown.expect(IllegalStateException.class);
+        new Decimal().actual(
+            new CircleIntersectPoint(
+                new PtRadCircle<>(
+                    CircleIntersectPointTest.point(0., 0.), new Scalar.Default<>(1.)
+                ),
+                new PtRadCircle<>(
+                    CircleIntersectPointTest.point(5., 0.), new Scalar.Default<>(1.)
+                ),
+                0
+            ).xcoor()
+        );
+    }
+
+    /**
+     * Builds a point.
+     * @param xcoor X coordinate
+     * @param ycoor Y coordinate
+     * @return Point
+     */
+    private static XyPoint<Double> point(final double xcoor, final double ycoor) {
+        return new XyPoint<>(
+            new Scalar.Default<>(xcoor), new Scalar.Default<>(ycoor)
+        );
+    }
+
+}
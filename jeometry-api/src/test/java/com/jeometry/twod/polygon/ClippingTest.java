@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import com.aljebra.field.impl.doubles.Parallelism;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Clipping}.
+ * @since 0.4
+ */
+public final class ClippingTest {
+
+    /**
+     * Error margin.
+     */
+    private static final double ERROR = 1e-6;
+
+    /**
+     * Count of regions of batches.
+     */
+    private static final int BATCH = 100;
+
+    /**
+     * {@link Clipping} clips against convex regions as the intersection
+     * overlay.
+     */
+    @Test
+    public void clipsAgainstConvexRegions() {
+        final Random rand = new Random();
+        final Region clip = OverlayTest.square(1., 1., 3.);
+        final Clipping clipping = new Clipping(clip);
+        for (int iter = 0; iter < 20; ++iter) {
+            final Region subject = OverlayTest.star(rand);
+            final Region clipped = clipping.clip(subject);
+            MatcherAssert.assertThat(
+                clipped.area(),
+                Matchers.closeTo(
+                    new Overlay(subject, clip).intersection().area(),
+                    ClippingTest.ERROR
+                )
+            );
+        }
+    }
+
+    /**
+     * {@link Clipping} clips against non convex regions.
+     */
+    @Test
+    public void clipsAgainstConcaveRegions() {
+        final Clipping clipping = new Clipping(
+            new Region(
+                new PackedPolygon(
+                    new double[] {0., 0., 4., 0., 4., 1., 1., 1., 1., 4., 0., 4.}
+                )
+            )
+        );
+        final Region clipped = clipping.clip(OverlayTest.square(-1., -1., 3.));
+        MatcherAssert.assertThat(
+            clipped.area(), Matchers.closeTo(3., ClippingTest.ERROR)
+        );
+        MatcherAssert.assertThat(clipped.contains(1.5, 1.5), Matchers.is(false));
+    }
+
+    /**
+     * {@link Clipping} drops regions out of the clip region.
+     */
+    @Test
+    public void dropsDisjointRegions() {
+        MatcherAssert.assertThat(
+            new Clipping(OverlayTest.square(0., 0., 1.))
+                .clip(OverlayTest.square(5., 5., 1.)).empty(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * {@link Clipping} clips batches of regions in parallel, as one by
+     * one.
+     */
+    @Test
+    public void clipsBatches() {
+        final Random rand = new Random();
+        final List<Region> subjects = new ArrayList<>(ClippingTest.BATCH);
+        for (int idx = 0; idx < ClippingTest.BATCH; ++idx) {
+            subjects.add(OverlayTest.star(rand));
+        }
+        final Clipping clipping = new Clipping(
+            OverlayTest.square(0., 0., 3.),
+            new Parallelism(1, 2, ForkJoinPool.commonPool())
+        );
+        final List<Region> clipped = clipping.clip(subjects);
+        MatcherAssert.assertThat(clipped, Matchers.hasSize(ClippingTest.BATCH));
+        for (int idx = 0; idx < ClippingTest.BATCH; ++idx) {
+            MatcherAssert.assertThat(
+                clipped.get(idx).area(),
+                Matchers.closeTo(
+                    clipping.clip(subjects.get(idx)).area(), ClippingTest.ERROR
+                )
+            );
+        }
+    }
+
+}
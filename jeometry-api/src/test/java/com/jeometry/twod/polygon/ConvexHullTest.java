@@ -0,0 +1,237 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.field.impl.doubles.Parallelism;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import com.jeometry.twod.line.Polygon;
+import com.jeometry.twod.point.XyPoint;
+import com.jeometry.twod.predicate.Orientation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link ConvexHull}.
+ * @since 0.4
+ */
+public final class ConvexHullTest {
+
+    /**
+     * Count of random points.
+     */
+    private static final int SIZE = 20000;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link ConvexHull} drops inner, duplicate and collinear points.
+     */
+    @Test
+    public void dropsInnerPoints() {
+        MatcherAssert.assertThat(
+            new ConvexHull(
+                new double[] {
+                    2., 2., 0., 0., 4., 0., 2., 0., 4., 4., 0., 4.,
+                    1., 3., 0., 2., 4., 4., 3., 1.,
+                }
+            ).vertices(),
+            Matchers.equalTo(new double[] {0., 0., 4., 0., 4., 4., 0., 4.})
+        );
+    }
+
+    /**
+     * {@link ConvexHull} builds degenerate hulls.
+     */
+    @Test
+    public void buildsDegenerateHulls() {
+        MatcherAssert.assertThat(
+            new ConvexHull(new double[] {1., 2., 1., 2.}).vertices(),
+            Matchers.equalTo(new double[] {1., 2.})
+        );
+        MatcherAssert.assertThat(
+            new ConvexHull(new double[] {3., 3., 1., 1., 2., 2.}).vertices(),
+            Matchers.equalTo(new double[] {1., 1., 3., 3.})
+        );
+        MatcherAssert.assertThat(
+            new ConvexHull(new double[0]).vertices().length,
+            Matchers.equalTo(0)
+        );
+    }
+
+    /**
+     * {@link ConvexHull} builds a convex polygon containing all the points.
+     */
+    @Test
+    public void enclosesRandomPoints() {
+        final double[] coords = ConvexHullTest.coords(ConvexHullTest.SIZE);
+        ConvexHullTest.assertHull(
+            coords, new ConvexHull(coords).vertices()
+        );
+    }
+
+    /**
+     * {@link ConvexHull} builds the same hull in parallel and sequentially.
+     */
+    @Test
+    public void buildsInParallel() {
+        final double[] coords = ConvexHullTest.coords(ConvexHullTest.SIZE);
+        final double[] parallel = new ConvexHull(
+            coords, new Parallelism(1, 100, ForkJoinPool.commonPool())
+        ).vertices();
+        ConvexHullTest.assertHull(coords, parallel);
+        MatcherAssert.assertThat(
+            parallel,
+            Matchers.equalTo(new ConvexHull(coords).vertices())
+        );
+    }
+
+    /**
+     * {@link ConvexHull} builds the same hull from points as from their
+     * packed coordinates.
+     */
+    @Test
+    public void packsPoints() {
+        final double[] coords = ConvexHullTest.coords(100);
+        final List<Vect<Double>> points = new ArrayList<>(coords.length / 2);
+        for (int idx = 0; idx < coords.length; idx += 2) {
+            points.add(ConvexHullTest.point(coords[idx], coords[idx + 1]));
+        }
+        MatcherAssert.assertThat(
+            new ConvexHull(points).vertices(),
+            Matchers.equalTo(new ConvexHull(coords).vertices())
+        );
+    }
+
+    /**
+     * {@link ConvexHull} builds the polygon hull of points.
+     */
+    @Test
+    public void buildsPolygon() {
+        final List<Vect<Double>> points = Arrays.asList(
+            ConvexHullTest.point(0., 0.), ConvexHullTest.point(1., 1.),
+            ConvexHullTest.point(3., 0.), ConvexHullTest.point(0., 3.)
+        );
+        final Polygon<Double> hull = new ConvexHull(points).polygon();
+        MatcherAssert.assertThat(hull.points(), Matchers.hasSize(4));
+        MatcherAssert.assertThat(
+            new PackedPolygon(hull, new Decimal()).area(),
+            Matchers.closeTo(4.5, 1e-9)
+        );
+    }
+
+    /**
+     * {@link ConvexHull} cannot build the polygon hull of no points.
+     */
+    @Test
+    public void rejectsEmptyPolygon() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new ConvexHull(new double[0]).polygon();
+    }
+
+    /**
+     * {@link ConvexHull} rejects an odd count of coordinates.
+     */
+    @Test
+    public void rejectsOddCoordinates() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new ConvexHull(new double[] {0., 0., 1.});
+    }
+
+    /**
+     * Asserts that vertices form a strictly convex counter-clockwise hull
+     * of points.
+     * @param coords Interleaved (x, y) points coordinates
+     * @param hull Interleaved (x, y) hull vertices
+     */
+    static void assertHull(final double[] coords, final double[] hull) {
+        final Orientation orient = new Orientation();
+        final int size = hull.length / 2;
+        for (int idx = 0; idx < size; ++idx) {
+            final int next = (idx + 1) % size;
+            final int after = (idx + 2) % size;
+            MatcherAssert.assertThat(
+                orient.sign(
+                    hull[2 * idx], hull[2 * idx + 1],
+                    hull[2 * next], hull[2 * next + 1],
+                    hull[2 * after], hull[2 * after + 1]
+                ),
+                Matchers.equalTo(1)
+            );
+            for (int point = 0; point < coords.length / 2; ++point) {
+                MatcherAssert.assertThat(
+                    orient.sign(
+                        hull[2 * idx], hull[2 * idx + 1],
+                        hull[2 * next], hull[2 * next + 1],
+                        coords[2 * point], coords[2 * point + 1]
+                    ),
+                    Matchers.greaterThanOrEqualTo(0)
+                );
+            }
+        }
+    }
+
+    /**
+     * Builds random points in a disk.
+     * @param size Count of points
+     * @return Interleaved (x, y) points coordinates
+     */
+    static double[] coords(final int size) {
+        final Random rand = new Random();
+        final double[] result = new double[2 * size];
+        for (int idx = 0; idx < size; ++idx) {
+            final double angle = rand.nextDouble() * 2. * Math.PI;
+            final double radius = Math.sqrt(rand.nextDouble()) * 100.;
+            result[2 * idx] = radius * Math.cos(angle);
+            result[2 * idx + 1] = radius * Math.sin(angle);
+        }
+        return result;
+    }
+
+    /**
+     * Builds a point.
+     * @param xcoor X coordinate
+     * @param ycoor Y coordinate
+     * @return Point
+     */
+    private static Vect<Double> point(final double xcoor, final double ycoor) {
+        return new XyPoint<>(
+            new Scalar.Default<>(xcoor), new Scalar.Default<>(ycoor)
+        );
+    }
+
+}
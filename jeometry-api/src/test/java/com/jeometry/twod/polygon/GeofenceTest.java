@@ -0,0 +1,162 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import com.aljebra.field.impl.doubles.Parallelism;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Geofence}.
+ * @since 0.4
+ */
+public final class GeofenceTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Count of polygon vertices.
+     */
+    private static final int VERTICES = 500;
+
+    /**
+     * Count of query points.
+     */
+    private static final int QUERIES = 5000;
+
+    /**
+     * {@link Geofence} checks containment as the linear polygon scan.
+     */
+    @Test
+    public void containsAsScan() {
+        final PackedPolygon polygon = GeofenceTest.star(GeofenceTest.VERTICES);
+        final Geofence fence = new Geofence(polygon);
+        final double[] coords = GeofenceTest.points(GeofenceTest.QUERIES);
+        for (int idx = 0; idx < GeofenceTest.QUERIES; ++idx) {
+            MatcherAssert.assertThat(
+                fence.contains(coords[2 * idx], coords[2 * idx + 1]),
+                Matchers.equalTo(
+                    polygon.contains(coords[2 * idx], coords[2 * idx + 1])
+                )
+            );
+        }
+    }
+
+    /**
+     * {@link Geofence} checks containment of a concave polygon with
+     * vertical edges and shared abscissas.
+     */
+    @Test
+    public void containsInConcavePolygon() {
+        final Geofence fence = new Geofence(
+            new PackedPolygon(
+                new double[] {0., 0., 6., 0., 6., 2., 2., 2., 2., 6., 0., 6.}
+            )
+        );
+        MatcherAssert.assertThat(fence.contains(1., 1.), Matchers.is(true));
+        MatcherAssert.assertThat(fence.contains(1., 5.), Matchers.is(true));
+        MatcherAssert.assertThat(fence.contains(5., 1.), Matchers.is(true));
+        MatcherAssert.assertThat(fence.contains(4., 4.), Matchers.is(false));
+        MatcherAssert.assertThat(fence.contains(-1., 1.), Matchers.is(false));
+        MatcherAssert.assertThat(fence.contains(7., 1.), Matchers.is(false));
+        MatcherAssert.assertThat(fence.contains(1., 7.), Matchers.is(false));
+    }
+
+    /**
+     * {@link Geofence} checks batches of points the same way in parallel
+     * and sequentially.
+     */
+    @Test
+    public void containsBatchesInParallel() {
+        final Geofence fence = new Geofence(
+            GeofenceTest.star(GeofenceTest.VERTICES)
+        );
+        final double[] coords = GeofenceTest.points(GeofenceTest.QUERIES);
+        final boolean[] expected = fence.contains(coords);
+        MatcherAssert.assertThat(
+            fence.contains(
+                coords, new Parallelism(1, 64, ForkJoinPool.commonPool())
+            ),
+            Matchers.equalTo(expected)
+        );
+        for (int idx = 0; idx < GeofenceTest.QUERIES; ++idx) {
+            MatcherAssert.assertThat(
+                expected[idx],
+                Matchers.equalTo(
+                    fence.contains(coords[2 * idx], coords[2 * idx + 1])
+                )
+            );
+        }
+    }
+
+    /**
+     * {@link Geofence} rejects batches of coordinates of odd length.
+     */
+    @Test
+    public void rejectsOddCoordinates() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Geofence(GeofenceTest.star(2 + 2)).contains(new double[] {0., 0., 1.});
+    }
+
+    /**
+     * Builds a random star shaped polygon around the origin.
+     * @param size Count of vertices
+     * @return Polygon
+     */
+    private static PackedPolygon star(final int size) {
+        final Random rand = new Random();
+        final double[] coords = new double[2 * size];
+        for (int idx = 0; idx < size; ++idx) {
+            final double angle = 2. * Math.PI * idx / size;
+            final double radius = 20. + rand.nextDouble() * 80.;
+            coords[2 * idx] = radius * Math.cos(angle);
+            coords[2 * idx + 1] = radius * Math.sin(angle);
+        }
+        return new PackedPolygon(coords);
+    }
+
+    /**
+     * Builds random points around the origin.
+     * @param size Count of points
+     * @return Interleaved points coordinates
+     */
+    private static double[] points(final int size) {
+        final Random rand = new Random();
+        final double[] coords = new double[2 * size];
+        for (int idx = 0; idx < coords.length; ++idx) {
+            coords[idx] = rand.nextDouble() * 240. - 120.;
+        }
+        return coords;
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link IncrementalHull}.
+ * @since 0.4
+ */
+public final class IncrementalHullTest {
+
+    /**
+     * Count of streamed points.
+     */
+    private static final int SIZE = 20000;
+
+    /**
+     * {@link IncrementalHull} builds the same hull as a whole set hull.
+     */
+    @Test
+    public void buildsStreamedHull() {
+        final double[] coords = ConvexHullTest.coords(IncrementalHullTest.SIZE);
+        final IncrementalHull hull = new IncrementalHull();
+        for (int idx = 0; idx < coords.length; idx += 2) {
+            hull.add(coords[idx], coords[idx + 1]);
+        }
+        final double[] vertices = hull.vertices();
+        ConvexHullTest.assertHull(coords, vertices);
+        MatcherAssert.assertThat(
+            vertices, Matchers.equalTo(new ConvexHull(coords).vertices())
+        );
+    }
+
+    /**
+     * {@link IncrementalHull} grows its hull as points are added.
+     */
+    @Test
+    public void growsHull() {
+        final IncrementalHull hull = new IncrementalHull();
+        hull.add(new double[] {0., 0., 2., 0., 1., 2.});
+        MatcherAssert.assertThat(
+            hull.vertices(), Matchers.equalTo(new double[] {0., 0., 2., 0., 1., 2.})
+        );
+        hull.add(1., 1.);
+        hull.add(2., 2.);
+        MatcherAssert.assertThat(
+            hull.vertices(),
+            Matchers.equalTo(new double[] {0., 0., 2., 0., 2., 2., 1., 2.})
+        );
+        MatcherAssert.assertThat(hull.polygon().points(), Matchers.hasSize(5));
+    }
+
+}
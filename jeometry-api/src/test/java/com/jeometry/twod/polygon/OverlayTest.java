@@ -0,0 +1,332 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import com.jeometry.twod.bounds.Box;
+import java.util.Collections;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Overlay}.
+ * @since 0.4
+ */
+public final class OverlayTest {
+
+    /**
+     * Error margin.
+     */
+    private static final double ERROR = 1e-6;
+
+    /**
+     * Count of vertices of random star polygons.
+     */
+    private static final int VERTICES = 40;
+
+    /**
+     * Random generator seed.
+     */
+    private static final long SEED = 20_240_311L;
+
+    /**
+     * Count of random sample points per overlay.
+     */
+    private static final int SAMPLES = 50;
+
+    /**
+     * {@link Overlay} calculates union, intersection and difference of
+     * overlapping squares.
+     */
+    @Test
+    public void overlaysSquares() {
+        final Overlay overlay = new Overlay(
+            OverlayTest.square(0., 0., 2.), OverlayTest.square(1., 1., 2.)
+        );
+        MatcherAssert.assertThat(
+            overlay.union().area(), Matchers.closeTo(7., OverlayTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            overlay.intersection().area(),
+            Matchers.closeTo(1., OverlayTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            overlay.intersection().contains(1.5, 1.5), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            overlay.difference().area(), Matchers.closeTo(3., OverlayTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            overlay.difference().contains(1.5, 1.5), Matchers.is(false)
+        );
+    }
+
+    /**
+     * {@link Overlay} merges squares sharing an edge, and finds no
+     * intersection between them.
+     */
+    @Test
+    public void overlaysAdjacentSquares() {
+        final Overlay overlay = new Overlay(
+            OverlayTest.square(0., 0., 1.), OverlayTest.square(1., 0., 1.)
+        );
+        MatcherAssert.assertThat(overlay.union().rings(), Matchers.hasSize(1));
+        MatcherAssert.assertThat(
+            overlay.union().area(), Matchers.closeTo(2., OverlayTest.ERROR)
+        );
+        MatcherAssert.assertThat(overlay.intersection().empty(), Matchers.is(true));
+        MatcherAssert.assertThat(
+            overlay.difference().area(), Matchers.closeTo(1., OverlayTest.ERROR)
+        );
+    }
+
+    /**
+     * {@link Overlay} handles regions with holes.
+     */
+    @Test
+    public void overlaysHoles() {
+        final Region frame = new Region(
+            new PackedPolygon(new double[] {0., 0., 10., 0., 10., 10., 0., 10.}),
+            Collections.singletonList(
+                new PackedPolygon(new double[] {3., 3., 7., 3., 7., 7., 3., 7.})
+            )
+        );
+        final Overlay overlay = new Overlay(frame, OverlayTest.square(2., 2., 6.));
+        MatcherAssert.assertThat(
+            overlay.union().area(), Matchers.closeTo(100., OverlayTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            overlay.intersection().area(),
+            Matchers.closeTo(36. - 16., OverlayTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            overlay.difference().area(),
+            Matchers.closeTo(100. - 36., OverlayTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            overlay.difference().contains(5., 5.), Matchers.is(false)
+        );
+    }
+
+    /**
+     * {@link Overlay} separates the rings of squares touching at a corner.
+     */
+    @Test
+    public void separatesTouchingRings() {
+        final Overlay overlay = new Overlay(
+            OverlayTest.square(0., 0., 1.), OverlayTest.square(1., 1., 1.)
+        );
+        MatcherAssert.assertThat(overlay.union().rings(), Matchers.hasSize(2));
+        MatcherAssert.assertThat(
+            overlay.union().area(), Matchers.closeTo(2., OverlayTest.ERROR)
+        );
+        MatcherAssert.assertThat(overlay.intersection().empty(), Matchers.is(true));
+    }
+
+    /**
+     * {@link Overlay} follows the even-odd rule on a ring crossing itself.
+     */
+    @Test
+    public void overlaysCrossingRings() {
+        final Region first = new Region(
+            new PackedPolygon(
+                new double[] {
+                    74.56399329690706, 79.28781623396576,
+                    45.2454823078973, 83.97469408979813,
+                    39.762031195560795, 65.59902853699158,
+                    53.407484740591784, 13.608437100753676,
+                    58.56669922903928, 41.45672540574912,
+                }
+            )
+        );
+        final Region second = new Region(
+            new PackedPolygon(
+                new double[] {
+                    86.25734279210353, 69.99394045052715,
+                    70.9617889455491, 64.30024527529028,
+                    63.520373218460584, 72.38568975398755,
+                    55.23083089480609, 83.91521521868385,
+                    59.32365367606081, 16.058185321641083,
+                    57.21669330184907, 35.91197002059387,
+                    66.18799664655042, 42.639947932810884,
+                }
+            )
+        );
+        final Overlay overlay = new Overlay(first, second);
+        final double inter = overlay.intersection().area();
+        final double diff = overlay.difference().area();
+        MatcherAssert.assertThat(diff, Matchers.closeTo(880.31, 0.01));
+        MatcherAssert.assertThat(
+            diff + inter, Matchers.closeTo(first.area(), OverlayTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            overlay.union().area(),
+            Matchers.closeTo(
+                diff + inter + new Overlay(second, first).difference().area(),
+                OverlayTest.ERROR
+            )
+        );
+        OverlayTest.assertContainment(
+            first, second, overlay, new Random(OverlayTest.SEED)
+        );
+    }
+
+    /**
+     * {@link Overlay} operations on random star polygons satisfy the
+     * inclusion-exclusion identities, and contain the points inside
+     * the polygons as by the operations.
+     */
+    @Test
+    public void satisfiesInclusionExclusion() {
+        final Random rand = new Random(OverlayTest.SEED);
+        for (int iter = 0; iter < 100; ++iter) {
+            final Region first = OverlayTest.star(rand);
+            final Region second = OverlayTest.star(rand);
+            final Overlay overlay = new Overlay(first, second);
+            final double inter = overlay.intersection().area();
+            MatcherAssert.assertThat(
+                overlay.union().area() + inter,
+                Matchers.closeTo(first.area() + second.area(), OverlayTest.ERROR)
+            );
+            MatcherAssert.assertThat(
+                overlay.difference().area() + inter,
+                Matchers.closeTo(first.area(), OverlayTest.ERROR)
+            );
+            OverlayTest.assertContainment(first, second, overlay, rand);
+        }
+    }
+
+    /**
+     * {@link Overlay} operations on random polygons crossing themselves
+     * contain the points inside the polygons by the even-odd rule as by
+     * the operations.
+     */
+    @Test
+    public void followsEvenOddRule() {
+        final Random rand = new Random(OverlayTest.SEED);
+        for (int iter = 0; iter < 100; ++iter) {
+            OverlayTest.assertContainment(
+                OverlayTest.tangle(rand), OverlayTest.tangle(rand),
+                rand
+            );
+        }
+    }
+
+    /**
+     * Checks the containment of random points in the overlay of regions.
+     * @param first First region
+     * @param second Second region
+     * @param rand Random generator
+     */
+    private static void assertContainment(final Region first,
+        final Region second, final Random rand) {
+        OverlayTest.assertContainment(
+            first, second, new Overlay(first, second), rand
+        );
+    }
+
+    /**
+     * Checks the containment of random points in an overlay of regions.
+     * @param first First region
+     * @param second Second region
+     * @param overlay Overlay of the regions
+     * @param rand Random generator
+     */
+    private static void assertContainment(final Region first,
+        final Region second, final Overlay overlay, final Random rand) {
+        final Box box = first.box().union(second.box());
+        final Region union = overlay.union();
+        final Region inter = overlay.intersection();
+        final Region diff = overlay.difference();
+        for (int idx = 0; idx < OverlayTest.SAMPLES; ++idx) {
+            final double xcoor = box.xmin()
+                + rand.nextDouble() * (box.xmax() - box.xmin());
+            final double ycoor = box.ymin()
+                + rand.nextDouble() * (box.ymax() - box.ymin());
+            final boolean left = first.contains(xcoor, ycoor);
+            final boolean right = second.contains(xcoor, ycoor);
+            MatcherAssert.assertThat(
+                union.contains(xcoor, ycoor), Matchers.is(left || right)
+            );
+            MatcherAssert.assertThat(
+                inter.contains(xcoor, ycoor), Matchers.is(left && right)
+            );
+            MatcherAssert.assertThat(
+                diff.contains(xcoor, ycoor), Matchers.is(left && !right)
+            );
+        }
+    }
+
+    /**
+     * Builds an axis aligned square region.
+     * @param xcoor Lowest X coordinate
+     * @param ycoor Lowest Y coordinate
+     * @param side Side length
+     * @return Region
+     */
+    static Region square(final double xcoor, final double ycoor,
+        final double side) {
+        return new Region(
+            new PackedPolygon(
+                new double[] {
+                    xcoor, ycoor, xcoor + side, ycoor,
+                    xcoor + side, ycoor + side, xcoor, ycoor + side,
+                }
+            )
+        );
+    }
+
+    /**
+     * Builds a random star shaped polygon region around a random center.
+     * @param rand Random generator
+     * @return Region
+     */
+    static Region star(final Random rand) {
+        final double[] coords = new double[2 * OverlayTest.VERTICES];
+        final double xcoor = rand.nextDouble() * 4.;
+        final double ycoor = rand.nextDouble() * 4.;
+        for (int idx = 0; idx < OverlayTest.VERTICES; ++idx) {
+            final double angle = 2. * Math.PI * idx / OverlayTest.VERTICES;
+            final double radius = 1. + rand.nextDouble() * 4.;
+            coords[2 * idx] = xcoor + radius * Math.cos(angle);
+            coords[2 * idx + 1] = ycoor + radius * Math.sin(angle);
+        }
+        return new Region(new PackedPolygon(coords));
+    }
+
+    /**
+     * Builds a random polygon region, likely crossing itself.
+     * @param rand Random generator
+     * @return Region
+     */
+    private static Region tangle(final Random rand) {
+        final double[] coords = new double[2 * (2 + 1 + rand.nextInt(2 + 2 + 2))];
+        for (int idx = 0; idx < coords.length; ++idx) {
+            coords[idx] = rand.nextDouble() * 10.;
+        }
+        return new Region(new PackedPolygon(coords));
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import com.jeometry.twod.bounds.Box;
+import com.jeometry.twod.line.Polygon;
+import com.jeometry.twod.point.XyPoint;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link PackedPolygon}.
+ * @since 0.4
+ */
+public final class PackedPolygonTest {
+
+    /**
+     * Error margin.
+     */
+    private static final double ERROR = 1e-9;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link PackedPolygon} calculates signed area and area.
+     */
+    @Test
+    public void calculatesArea() {
+        final PackedPolygon square = new PackedPolygon(
+            new double[] {1., 1., 4., 1., 4., 4., 1., 4.}
+        );
+        MatcherAssert.assertThat(
+            square.signedArea(), Matchers.closeTo(9., PackedPolygonTest.ERROR)
+        );
+        final PackedPolygon clockwise = new PackedPolygon(
+            new double[] {1., 1., 1., 4., 4., 4., 4., 1.}
+        );
+        MatcherAssert.assertThat(
+            clockwise.signedArea(),
+            Matchers.closeTo(-9., PackedPolygonTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            clockwise.area(), Matchers.closeTo(9., PackedPolygonTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            new PackedPolygon(new double[] {0., 0., 4., 0., 0., 3.}).area(),
+            Matchers.closeTo(6., PackedPolygonTest.ERROR)
+        );
+    }
+
+    /**
+     * {@link PackedPolygon} drops a closing vertex equal to the first one.
+     */
+    @Test
+    public void dropsClosingVertex() {
+        final PackedPolygon triangle = new PackedPolygon(
+            new double[] {0., 0., 4., 0., 0., 3., 0., 0.}
+        );
+        MatcherAssert.assertThat(triangle.size(), Matchers.equalTo(3));
+        MatcherAssert.assertThat(
+            triangle.perimeter(), Matchers.closeTo(12., PackedPolygonTest.ERROR)
+        );
+    }
+
+    /**
+     * {@link PackedPolygon} calculates the area centroid.
+     */
+    @Test
+    public void calculatesCentroid() {
+        final Vect<Double> centroid = new PackedPolygon(
+            new double[] {0., 0., 6., 0., 6., 2., 2., 2., 2., 6., 0., 6.}
+        ).centroid();
+        final double expected = (2. * 6. * 3. + 4. * 2. * 1.) / 20.;
+        MatcherAssert.assertThat(
+            centroid.coords()[0].value(new Decimal()),
+            Matchers.closeTo(expected, PackedPolygonTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            centroid.coords()[1].value(new Decimal()),
+            Matchers.closeTo(expected, PackedPolygonTest.ERROR)
+        );
+    }
+
+    /**
+     * {@link PackedPolygon} gives the mean of vertices as the centroid of
+     * a flat polygon.
+     */
+    @Test
+    public void centersFlatPolygon() {
+        final Vect<Double> centroid = new PackedPolygon(
+            new double[] {0., 0., 1., 1., 5., 5.}
+        ).centroid();
+        MatcherAssert.assertThat(
+            centroid.coords()[0].value(new Decimal()),
+            Matchers.closeTo(2., PackedPolygonTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            centroid.coords()[1].value(new Decimal()),
+            Matchers.closeTo(2., PackedPolygonTest.ERROR)
+        );
+    }
+
+    /**
+     * {@link PackedPolygon} packs a polygon of points.
+     */
+    @Test
+    public void packsPolygon() {
+        final PackedPolygon packed = new PackedPolygon(
+            new Polygon<>(
+                Arrays.asList(
+                    PackedPolygonTest.point(-1., 2.),
+                    PackedPolygonTest.point(3., 2.),
+                    PackedPolygonTest.point(3., 7.)
+                )
+            )
+        );
+        MatcherAssert.assertThat(packed.size(), Matchers.equalTo(3));
+        MatcherAssert.assertThat(
+            packed.area(), Matchers.closeTo(10., PackedPolygonTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            packed.box(), Matchers.equalTo(new Box(-1., 2., 3., 7.))
+        );
+    }
+
+    /**
+     * {@link PackedPolygon} checks whether points are inside a concave
+     * polygon.
+     */
+    @Test
+    public void containsPoints() {
+        final PackedPolygon shape = new PackedPolygon(
+            new double[] {0., 0., 6., 0., 6., 2., 2., 2., 2., 6., 0., 6.}
+        );
+        MatcherAssert.assertThat(shape.contains(1., 1.), Matchers.is(true));
+        MatcherAssert.assertThat(shape.contains(1., 5.), Matchers.is(true));
+        MatcherAssert.assertThat(shape.contains(5., 1.), Matchers.is(true));
+        MatcherAssert.assertThat(shape.contains(4., 4.), Matchers.is(false));
+        MatcherAssert.assertThat(shape.contains(7., 1.), Matchers.is(false));
+        MatcherAssert.assertThat(shape.contains(1., -1.), Matchers.is(false));
+    }
+
+    /**
+     * {@link PackedPolygon} rejects less than three vertices.
+     */
+    @Test
+    public void rejectsFewVertices() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new PackedPolygon(new double[] {0., 0., 1., 1.});
+    }
+
+    /**
+     * {@link PackedPolygon} rejects an odd count of coordinates.
+     */
+    @Test
+    public void rejectsOddCoordinates() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new PackedPolygon(new double[] {0., 0., 1., 1., 2.});
+    }
+
+    /**
+     * Builds a point.
+     * @param xcoor X coordinate
+     * @param ycoor Y coordinate
+     * @return Point
+     */
+    private static Vect<Double> point(final double xcoor, final double ycoor) {
+        return new XyPoint<>(
+            new Scalar.Default<>(xcoor), new Scalar.Default<>(ycoor)
+        );
+    }
+
+}
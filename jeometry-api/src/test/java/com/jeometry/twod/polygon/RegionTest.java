@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.polygon;
+
+import com.jeometry.twod.bounds.Box;
+import java.util.Arrays;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Region}.
+ * @since 0.4
+ */
+public final class RegionTest {
+
+    /**
+     * Error margin.
+     */
+    private static final double ERROR = 1e-9;
+
+    /**
+     * {@link Region} orients outer rings counterclockwise and holes
+     * clockwise.
+     */
+    @Test
+    public void orientsRings() {
+        final Region region = new Region(
+            new PackedPolygon(new double[] {0., 0., 0., 10., 10., 10., 10., 0.}),
+            Collections.singletonList(
+                new PackedPolygon(new double[] {2., 2., 4., 2., 4., 4., 2., 4.})
+            )
+        );
+        MatcherAssert.assertThat(
+            region.rings().get(0).signedArea(),
+            Matchers.closeTo(100., RegionTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            region.rings().get(1).signedArea(),
+            Matchers.closeTo(-4., RegionTest.ERROR)
+        );
+        MatcherAssert.assertThat(region.polygons(), Matchers.hasSize(2));
+    }
+
+    /**
+     * {@link Region} calculates area and contains points outside of
+     * holes.
+     */
+    @Test
+    public void excludesHoles() {
+        final Region region = new Region(
+            new PackedPolygon(new double[] {0., 0., 10., 0., 10., 10., 0., 10.}),
+            Arrays.asList(
+                new PackedPolygon(new double[] {2., 2., 4., 2., 4., 4., 2., 4.}),
+                new PackedPolygon(new double[] {6., 6., 8., 6., 8., 8.})
+            )
+        );
+        MatcherAssert.assertThat(
+            region.area(), Matchers.closeTo(100. - 4. - 2., RegionTest.ERROR)
+        );
+        MatcherAssert.assertThat(region.contains(1., 1.), Matchers.is(true));
+        MatcherAssert.assertThat(region.contains(3., 3.), Matchers.is(false));
+        MatcherAssert.assertThat(region.contains(7.5, 6.5), Matchers.is(false));
+        MatcherAssert.assertThat(region.contains(11., 3.), Matchers.is(false));
+        MatcherAssert.assertThat(region.box(), Matchers.equalTo(new Box(0., 0., 10., 10.)));
+    }
+
+    /**
+     * {@link Region} without rings is empty and has no area.
+     */
+    @Test
+    public void buildsEmptyRegion() {
+        final Region region = new Region(Collections.<PackedPolygon>emptyList());
+        MatcherAssert.assertThat(region.empty(), Matchers.is(true));
+        MatcherAssert.assertThat(region.area(), Matchers.is(0.));
+        MatcherAssert.assertThat(region.contains(0., 0.), Matchers.is(false));
+    }
+
+}
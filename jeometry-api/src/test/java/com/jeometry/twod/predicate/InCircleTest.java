@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.predicate;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link InCircle}.
+ * @since 0.4
+ */
+public final class InCircleTest {
+
+    /**
+     * {@link InCircle} locates points inside, outside and on a circle.
+     */
+    @Test
+    public void locatesPoints() {
+        final InCircle circle = new InCircle();
+        MatcherAssert.assertThat(
+            circle.sign(1., 0., 0., 1., -1., 0., 0., 0.), Matchers.is(1)
+        );
+        MatcherAssert.assertThat(
+            circle.sign(1., 0., 0., 1., -1., 0., 2., 2.), Matchers.is(-1)
+        );
+        MatcherAssert.assertThat(
+            circle.sign(1., 0., 0., 1., -1., 0., 0., -1.), Matchers.is(0)
+        );
+        MatcherAssert.assertThat(
+            circle.sign(1., 0., -1., 0., 0., 1., 0., 0.), Matchers.is(-1)
+        );
+    }
+
+    /**
+     * {@link InCircle} gives exact signs for nearly cocircular points
+     * where double arithmetic fails.
+     */
+    @Test
+    public void resolvesNearlyCocircularPoints() {
+        final InCircle circle = new InCircle();
+        final double base = 1e8;
+        final double ulp = Math.ulp(base);
+        MatcherAssert.assertThat(
+            circle.sign(
+                base + 1., base, base, base + 1., base - 1., base,
+                base, base - 1.
+            ),
+            Matchers.is(0)
+        );
+        MatcherAssert.assertThat(
+            circle.sign(
+                base + 1., base, base, base + 1., base - 1., base,
+                base, base - 1. + ulp
+            ),
+            Matchers.is(1)
+        );
+        MatcherAssert.assertThat(
+            circle.sign(
+                base + 1., base, base, base + 1., base - 1., base,
+                base, base - 1. - ulp
+            ),
+            Matchers.is(-1)
+        );
+    }
+
+}
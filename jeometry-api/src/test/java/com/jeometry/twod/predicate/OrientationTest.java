@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.predicate;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Orientation}.
+ * @since 0.4
+ */
+public final class OrientationTest {
+
+    /**
+     * {@link Orientation} gives the turn direction of three points.
+     */
+    @Test
+    public void givesTurns() {
+        final Orientation orient = new Orientation();
+        MatcherAssert.assertThat(
+            orient.sign(0., 0., 1., 0., 0., 1.), Matchers.is(1)
+        );
+        MatcherAssert.assertThat(
+            orient.sign(0., 0., 0., 1., 1., 0.), Matchers.is(-1)
+        );
+        MatcherAssert.assertThat(
+            orient.sign(0., 0., 1., 1., 3., 3.), Matchers.is(0)
+        );
+    }
+
+    /**
+     * {@link Orientation} gives exact signs for nearly collinear points
+     * where double arithmetic fails.
+     */
+    @Test
+    public void resolvesNearlyCollinearPoints() {
+        final Orientation orient = new Orientation();
+        final double ulp = Math.ulp(0.5);
+        for (int idx = 0; idx < 64; ++idx) {
+            final double xcoor = 0.5 + idx * ulp;
+            MatcherAssert.assertThat(
+                orient.sign(xcoor, 0.5, 12., 12., 24., 24.),
+                Matchers.is(-(int) Math.signum(idx))
+            );
+        }
+        MatcherAssert.assertThat(
+            orient.sign(0.1, 0.1, 0.3, 0.3, 1e16, 1e16 + 2.), Matchers.is(1)
+        );
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.simplify;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import com.jeometry.twod.line.Polygon;
+import com.jeometry.twod.line.Polyline;
+import com.jeometry.twod.point.XyPoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Detail}.
+ * @since 0.4
+ */
+public final class DetailTest {
+
+    /**
+     * Count of random vertices.
+     */
+    private static final int SIZE = 500;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Detail} keeps the vertices ranked above a tolerance, in
+     * polyline order.
+     */
+    @Test
+    public void keepsRankedVertices() {
+        final Random rand = new Random();
+        final double[] coords = new double[2 * DetailTest.SIZE];
+        for (int idx = 0; idx < DetailTest.SIZE; ++idx) {
+            coords[2 * idx] = idx;
+            coords[2 * idx + 1] = rand.nextDouble() * 10.;
+        }
+        for (final Ranking ranking : new Ranking[] {new DouglasPeucker(), new Visvalingam()}) {
+            final double[] ranks = ranking.ranks(coords);
+            final Detail detail = new Detail(coords, ranking);
+            for (final double tolerance : new double[] {-1., 0.5, 2., 5., 100.}) {
+                final List<Double> expected = new ArrayList<>(DetailTest.SIZE);
+                for (int idx = 0; idx < DetailTest.SIZE; ++idx) {
+                    if (ranks[idx] > tolerance) {
+                        expected.add(coords[2 * idx]);
+                        expected.add(coords[2 * idx + 1]);
+                    }
+                }
+                final List<Double> actual = new ArrayList<>(expected.size());
+                for (final double coord : detail.coords(tolerance)) {
+                    actual.add(coord);
+                }
+                MatcherAssert.assertThat(actual, Matchers.equalTo(expected));
+                MatcherAssert.assertThat(
+                    detail.size(tolerance), Matchers.is(expected.size() / 2)
+                );
+            }
+        }
+    }
+
+    /**
+     * {@link Detail} simplifies a polyline within the tolerance of its
+     * vertices.
+     */
+    @Test
+    public void simplifiesWithinTolerance() {
+        final double[] coords = new double[2 * DetailTest.SIZE];
+        for (int idx = 0; idx < DetailTest.SIZE; ++idx) {
+            coords[2 * idx] = idx / 10.;
+            coords[2 * idx + 1] = Math.sin(idx / 10.);
+        }
+        final double tolerance = 0.01;
+        final double[] kept = new Detail(coords, new DouglasPeucker()).coords(tolerance);
+        MatcherAssert.assertThat(kept.length, Matchers.lessThan(coords.length / 2));
+        int segment = 0;
+        for (int idx = 0; idx < DetailTest.SIZE; ++idx) {
+            while (kept[2 * segment + 2] < coords[2 * idx]) {
+                segment += 1;
+            }
+            final double along = (coords[2 * idx] - kept[2 * segment])
+                / (kept[2 * segment + 2] - kept[2 * segment]);
+            MatcherAssert.assertThat(
+                Math.abs(
+                    kept[2 * segment + 1]
+                        + along * (kept[2 * segment + 2 + 1] - kept[2 * segment + 1])
+                        - coords[2 * idx + 1]
+                ),
+                Matchers.lessThanOrEqualTo(2. * tolerance)
+            );
+        }
+    }
+
+    /**
+     * {@link Detail} keeps polygons closed with at least three vertices.
+     */
+    @Test
+    public void keepsPolygonsClosed() {
+        final List<Vect<Double>> points = new ArrayList<>(DetailTest.SIZE);
+        for (int idx = 0; idx < DetailTest.SIZE; ++idx) {
+            final double angle = 2. * Math.PI * idx / DetailTest.SIZE;
+            points.add(
+                new XyPoint<>(
+                    new Scalar.Default<>(Math.cos(angle)),
+                    new Scalar.Default<>(Math.sin(angle))
+                )
+            );
+        }
+        final Detail detail = new Detail(
+            new Polygon<>(points), new Visvalingam(), new Decimal()
+        );
+        MatcherAssert.assertThat(detail.size(), Matchers.is(DetailTest.SIZE + 1));
+        final Polyline<Double> coarse = detail.polyline(10.);
+        MatcherAssert.assertThat(coarse, Matchers.instanceOf(Polygon.class));
+        MatcherAssert.assertThat(coarse.points(), Matchers.hasSize(2 + 2));
+        MatcherAssert.assertThat(
+            detail.polyline(0.).points(), Matchers.hasSize(DetailTest.SIZE + 1)
+        );
+    }
+
+    /**
+     * {@link Detail} rejects incomplete coordinates.
+     */
+    @Test
+    public void rejectsIncompleteCoordinates() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Detail(new double[] {0., 0., 1.}, new DouglasPeucker());
+    }
+
+}
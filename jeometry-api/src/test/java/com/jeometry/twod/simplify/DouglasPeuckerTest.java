@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.simplify;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link DouglasPeucker}.
+ * @since 0.4
+ */
+public final class DouglasPeuckerTest {
+
+    /**
+     * Error margin.
+     */
+    private static final double ERROR = 1e-9;
+
+    /**
+     * {@link DouglasPeucker} ranks vertices by their distance to the
+     * enclosing split, capped by the rank of that split.
+     */
+    @Test
+    public void ranksBySplitDistance() {
+        final double[] ranks = new DouglasPeucker().ranks(
+            new double[] {0., 0., 1., 1., 2., 0., 3., 3., 4., 0., 5., 0.}
+        );
+        MatcherAssert.assertThat(ranks[0], Matchers.is(Double.POSITIVE_INFINITY));
+        MatcherAssert.assertThat(ranks[5], Matchers.is(Double.POSITIVE_INFINITY));
+        MatcherAssert.assertThat(ranks[3], Matchers.closeTo(3., DouglasPeuckerTest.ERROR));
+        MatcherAssert.assertThat(
+            ranks[2], Matchers.closeTo(Math.sqrt(2.), DouglasPeuckerTest.ERROR)
+        );
+        MatcherAssert.assertThat(ranks[1], Matchers.closeTo(1., DouglasPeuckerTest.ERROR));
+        MatcherAssert.assertThat(
+            ranks[4], Matchers.closeTo(3. / Math.sqrt(13.), DouglasPeuckerTest.ERROR)
+        );
+    }
+
+    /**
+     * {@link DouglasPeucker} ranks short polylines extremities only.
+     */
+    @Test
+    public void ranksShortPolylines() {
+        MatcherAssert.assertThat(
+            new DouglasPeucker().ranks(new double[] {0., 0., 1., 1.}).length,
+            Matchers.is(2)
+        );
+        MatcherAssert.assertThat(
+            new DouglasPeucker().ranks(new double[0]).length, Matchers.is(0)
+        );
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.simplify;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Visvalingam}.
+ * @since 0.4
+ */
+public final class VisvalingamTest {
+
+    /**
+     * Error margin.
+     */
+    private static final double ERROR = 1e-9;
+
+    /**
+     * {@link Visvalingam} ranks vertices by the square root of their
+     * effective area, never below the ranks of the vertices removed before.
+     */
+    @Test
+    public void ranksByEffectiveArea() {
+        final double[] ranks = new Visvalingam().ranks(
+            new double[] {0., 0., 1., 0.5, 2., 0., 3., 4., 5., 0.}
+        );
+        MatcherAssert.assertThat(ranks[0], Matchers.is(Double.POSITIVE_INFINITY));
+        MatcherAssert.assertThat(ranks[4], Matchers.is(Double.POSITIVE_INFINITY));
+        MatcherAssert.assertThat(
+            ranks[1], Matchers.closeTo(Math.sqrt(0.5), VisvalingamTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            ranks[2], Matchers.closeTo(2., VisvalingamTest.ERROR)
+        );
+        MatcherAssert.assertThat(
+            ranks[3], Matchers.closeTo(Math.sqrt(10.), VisvalingamTest.ERROR)
+        );
+    }
+
+}
@@ -0,0 +1,444 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.snapshot;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.field.impl.doubles.Parallelism;
+import com.aljebra.scalar.Scalar;
+import com.jeometry.twod.Renderable;
+import com.jeometry.twod.Shape;
+import com.jeometry.twod.affine.Affine;
+import com.jeometry.twod.affine.Rotation;
+import com.jeometry.twod.affine.Scaling;
+import com.jeometry.twod.affine.Translation;
+import com.jeometry.twod.arc.Arc;
+import com.jeometry.twod.arc.RadAngleArc;
+import com.jeometry.twod.bounds.Box;
+import com.jeometry.twod.circle.PtRadCircle;
+import com.jeometry.twod.line.Line;
+import com.jeometry.twod.line.Polygon;
+import com.jeometry.twod.line.PtsLine;
+import com.jeometry.twod.line.PtsPolyline;
+import com.jeometry.twod.point.XyPoint;
+import com.jeometry.twod.segment.PtsSegment;
+import com.jeometry.twod.style.Dash;
+import com.jeometry.twod.style.impl.DefaultStyle;
+import com.jeometry.twod.style.impl.StrokeStyle;
+import java.awt.Color;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Snapshot}.
+ * @since 0.4
+ */
+public final class SnapshotTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Snapshot} resolves points, segments and circles into flat
+     * values, referring to their shapes.
+     */
+    @Test
+    public void resolvesItems() {
+        final Snapshot snapshot = new Snapshot(
+            Arrays.<Shape<?>>asList(
+                new Shape<>(
+                    new PtsSegment<>(
+                        SnapshotTest.point(1., 2.), SnapshotTest.point(3., 4.)
+                    )
+                ),
+                new Shape<>(SnapshotTest.point(5., 6.)),
+                new Shape<>(
+                    new PtRadCircle<>(
+                        SnapshotTest.point(7., 8.), new Scalar.Default<>(9.)
+                    )
+                )
+            ),
+            new Decimal()
+        );
+        MatcherAssert.assertThat(
+            SnapshotTest.values(snapshot.segments()),
+            Matchers.contains(1., 2., 3., 4.)
+        );
+        MatcherAssert.assertThat(
+            SnapshotTest.values(snapshot.points()), Matchers.contains(5., 6.)
+        );
+        MatcherAssert.assertThat(
+            SnapshotTest.values(snapshot.circles()),
+            Matchers.contains(7., 8., 9.)
+        );
+        MatcherAssert.assertThat(snapshot.segments().shape(0), Matchers.is(0));
+        MatcherAssert.assertThat(snapshot.points().shape(0), Matchers.is(1));
+        MatcherAssert.assertThat(snapshot.circles().shape(0), Matchers.is(2));
+        MatcherAssert.assertThat(snapshot.rest(), Matchers.empty());
+    }
+
+    /**
+     * {@link Snapshot} resolves polylines vertices by offsets.
+     */
+    @Test
+    public void resolvesPolylines() {
+        final Snapshot snapshot = new Snapshot(
+            Arrays.<Shape<?>>asList(
+                new Shape<>(
+                    new PtsPolyline<>(
+                        Arrays.asList(
+                            SnapshotTest.point(0., 0.), SnapshotTest.point(1., 1.)
+                        )
+                    )
+                ),
+                new Shape<>(
+                    new PtsPolyline<>(
+                        Arrays.asList(
+                            SnapshotTest.point(2., 0.), SnapshotTest.point(3., 1.),
+                            SnapshotTest.point(4., 0.)
+                        )
+                    )
+                )
+            ),
+            new Decimal()
+        );
+        final Polylines lines = snapshot.polylines();
+        MatcherAssert.assertThat(lines.size(), Matchers.is(2));
+        MatcherAssert.assertThat(lines.vertices(), Matchers.is(2 + 2 + 1));
+        MatcherAssert.assertThat(lines.first(1), Matchers.is(2));
+        MatcherAssert.assertThat(lines.until(1), Matchers.is(2 + 2 + 1));
+        MatcherAssert.assertThat(lines.xcoor(2 + 1), Matchers.is(3.));
+        MatcherAssert.assertThat(lines.ycoor(2 + 1), Matchers.is(1.));
+        MatcherAssert.assertThat(lines.shape(1), Matchers.is(1));
+    }
+
+    /**
+     * {@link Snapshot} interns equal styles.
+     */
+    @Test
+    public void internsStyles() {
+        final Snapshot snapshot = new Snapshot(
+            Arrays.<Shape<?>>asList(
+                new Shape<>(SnapshotTest.point(0., 0.), new DefaultStyle()),
+                new Shape<>(
+                    SnapshotTest.point(1., 0.),
+                    new StrokeStyle(Color.RED, Dash.SOLID, 2f)
+                ),
+                new Shape<>(SnapshotTest.point(2., 0.), new DefaultStyle())
+            ),
+            new Decimal()
+        );
+        MatcherAssert.assertThat(snapshot.styles(), Matchers.hasSize(2));
+        MatcherAssert.assertThat(
+            snapshot.points().style(2),
+            Matchers.equalTo(snapshot.points().style(0))
+        );
+        MatcherAssert.assertThat(
+            snapshot.points().style(1),
+            Matchers.not(Matchers.equalTo(snapshot.points().style(0)))
+        );
+    }
+
+    /**
+     * {@link Snapshot} keeps unbounded shapes aside, and bounds the
+     * resolved items.
+     */
+    @Test
+    public void boundsItems() {
+        final Shape<?> line = new Shape<>(
+            new PtsLine<>(SnapshotTest.point(0., 0.), SnapshotTest.point(1., 1.))
+        );
+        final Snapshot snapshot = new Snapshot(
+            Arrays.<Shape<?>>asList(
+                line,
+                new Shape<>(SnapshotTest.point(-1., 2.)),
+                new Shape<>(
+                    new PtRadCircle<>(
+                        SnapshotTest.point(3., 3.), new Scalar.Default<>(1.)
+                    )
+                )
+            ),
+            new Decimal()
+        );
+        MatcherAssert.assertThat(snapshot.rest(), Matchers.contains(line));
+        MatcherAssert.assertThat(
+            snapshot.box(), Matchers.equalTo(new Box(-1., 2., 4., 4.))
+        );
+    }
+
+    /**
+     * {@link Snapshot} without items has the box of the whole plane.
+     */
+    @Test
+    public void boundsWholePlaneWhenEmpty() {
+        MatcherAssert.assertThat(
+            new Snapshot(Collections.<Shape<?>>emptyList(), new Decimal()).box(),
+            Matchers.equalTo(new Box())
+        );
+    }
+
+    /**
+     * {@link Snapshot} exposes read-only values.
+     */
+    @Test
+    public void exposesReadOnlyValues() {
+        this.thrown.expect(ReadOnlyBufferException.class);
+        new Snapshot(
+            Collections.<Shape<?>>singletonList(
+                new Shape<>(SnapshotTest.point(0., 0.))
+            ),
+            new Decimal()
+        ).points().values().put(0, 1.);
+    }
+
+    /**
+     * {@link Snapshot} transforms its items as a whole, keeping shapes
+     * names, styles and indexes.
+     */
+    @Test
+    public void transformsItems() {
+        final DefaultStyle style = new DefaultStyle();
+        final Snapshot snapshot = new Snapshot(
+            Arrays.<Shape<?>>asList(
+                new Shape<>(
+                    new PtsSegment<>(
+                        SnapshotTest.point(1., 2.), SnapshotTest.point(3., 4.)
+                    ),
+                    Optional.of("seg"), style
+                ),
+                new Shape<>(SnapshotTest.point(5., 6.)),
+                new Shape<>(
+                    new PtRadCircle<>(
+                        SnapshotTest.point(7., 8.), new Scalar.Default<>(9.)
+                    )
+                ),
+                new Shape<>(
+                    new Polygon<>(
+                        Arrays.asList(
+                            SnapshotTest.point(0., 0.), SnapshotTest.point(1., 0.),
+                            SnapshotTest.point(0., 1.)
+                        )
+                    )
+                )
+            ),
+            new Decimal()
+        );
+        final Snapshot moved = snapshot.transform(
+            new Scaling(2.).then(new Translation(1., -1.)),
+            new Parallelism(1, 1, new ForkJoinPool(2))
+        );
+        MatcherAssert.assertThat(
+            SnapshotTest.values(moved.segments()),
+            Matchers.contains(3., 3., 7., 7.)
+        );
+        MatcherAssert.assertThat(
+            SnapshotTest.values(moved.points()), Matchers.contains(11., 11.)
+        );
+        MatcherAssert.assertThat(
+            SnapshotTest.values(moved.circles()),
+            Matchers.contains(15., 15., 18.)
+        );
+        MatcherAssert.assertThat(
+            moved.polylines().values().get(2 + 1), Matchers.is(-1.)
+        );
+        MatcherAssert.assertThat(moved.shapes().get(0).name(), Matchers.is(Optional.of("seg")));
+        MatcherAssert.assertThat(
+            moved.shapes().get(0).style(), Matchers.sameInstance(style)
+        );
+        MatcherAssert.assertThat(
+            moved.shapes().get(1).renderable(),
+            Matchers.equalTo(SnapshotTest.point(11., 11.))
+        );
+        MatcherAssert.assertThat(
+            ((Polygon<?>) moved.shapes().get(2 + 1).renderable()).points(),
+            Matchers.hasSize(2 + 2)
+        );
+        MatcherAssert.assertThat(moved.styles(), Matchers.sameInstance(snapshot.styles()));
+        MatcherAssert.assertThat(moved.box(), Matchers.equalTo(new Box(-3., -3., 33., 33.)));
+        MatcherAssert.assertThat(
+            snapshot.transform(new Affine()), Matchers.sameInstance(snapshot)
+        );
+    }
+
+    /**
+     * {@link Snapshot} transforms lines lazily.
+     */
+    @Test
+    public void transformsLines() {
+        final Snapshot moved = new Snapshot(
+            Collections.<Shape<?>>singletonList(
+                new Shape<>(
+                    new PtsLine<>(SnapshotTest.point(1., 0.), SnapshotTest.point(2., 0.))
+                )
+            ),
+            new Decimal()
+        ).transform(new Rotation(Math.PI / 2));
+        @SuppressWarnings("unchecked")
+        final Line<Double> line = (Line<Double>) moved.rest().get(0).renderable();
+        MatcherAssert.assertThat(
+            line.point().coords()[0].value(new Decimal()),
+            Matchers.closeTo(0., 1.e-12)
+        );
+        MatcherAssert.assertThat(
+            line.point().coords()[1].value(new Decimal()),
+            Matchers.closeTo(1., 1.e-12)
+        );
+        MatcherAssert.assertThat(moved.shapes(), Matchers.contains(moved.rest().get(0)));
+    }
+
+    /**
+     * {@link Snapshot} throws an exception when transforming circles by a
+     * transform not being a similarity.
+     */
+    @Test
+    public void errorsWhenStretchingCircles() {
+        this.thrown.expect(IllegalStateException.class);
+        new Snapshot(
+            Collections.<Shape<?>>singletonList(
+                new Shape<>(
+                    new PtRadCircle<>(SnapshotTest.point(0., 0.), new Scalar.Default<>(1.))
+                )
+            ),
+            new Decimal()
+        ).transform(new Scaling(1., 2.));
+    }
+
+    /**
+     * {@link Snapshot} transforms arcs by similarities, rotating their
+     * angles.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void transformsArcs() {
+        final Arc<Double> arc = (Arc<Double>) SnapshotTest.arc(
+            new Rotation(Math.PI / 2).then(new Scaling(2.))
+        );
+        MatcherAssert.assertThat(
+            arc.center().coords()[0].value(new Decimal()),
+            Matchers.closeTo(0., 1.e-12)
+        );
+        MatcherAssert.assertThat(
+            arc.center().coords()[1].value(new Decimal()),
+            Matchers.closeTo(2., 1.e-12)
+        );
+        MatcherAssert.assertThat(
+            arc.radius().value(new Decimal()), Matchers.closeTo(2., 1.e-12)
+        );
+        MatcherAssert.assertThat(
+            arc.start().doubleValue(), Matchers.closeTo(Math.PI / 2, 1.e-12)
+        );
+        MatcherAssert.assertThat(
+            arc.end().doubleValue(), Matchers.closeTo(Math.PI, 1.e-12)
+        );
+    }
+
+    /**
+     * {@link Snapshot} transforms arcs by reflections, swapping their
+     * angles to keep them counterclockwise.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void reflectsArcs() {
+        final Arc<Double> arc = (Arc<Double>) SnapshotTest.arc(new Scaling(1., -1.));
+        MatcherAssert.assertThat(
+            arc.center().coords()[1].value(new Decimal()),
+            Matchers.closeTo(0., 1.e-12)
+        );
+        MatcherAssert.assertThat(
+            arc.start().doubleValue(), Matchers.closeTo(-Math.PI / 2, 1.e-12)
+        );
+        MatcherAssert.assertThat(
+            arc.end().doubleValue(), Matchers.closeTo(0., 1.e-12)
+        );
+    }
+
+    /**
+     * {@link Snapshot} throws an exception when transforming arcs by a
+     * transform not being a similarity.
+     */
+    @Test
+    public void errorsWhenStretchingArcs() {
+        this.thrown.expect(IllegalStateException.class);
+        SnapshotTest.arc(new Scaling(1., 2.));
+    }
+
+    /**
+     * Transforms the quarter arc of center (1, 0) and radius 1 from the x
+     * axis direction.
+     * @param affine Affine transform
+     * @return Transformed arc
+     */
+    private static Renderable arc(final Affine affine) {
+        return new Snapshot(
+            Collections.<Shape<?>>singletonList(
+                new Shape<>(
+                    new RadAngleArc<>(
+                        new PtRadCircle<>(
+                            SnapshotTest.point(1., 0.), new Scalar.Default<>(1.)
+                        ),
+                        0., Math.PI / 2
+                    )
+                )
+            ),
+            new Decimal()
+        ).transform(affine).rest().get(0).renderable();
+    }
+
+    /**
+     * Builds a point.
+     * @param xcoor X coordinate
+     * @param ycoor Y coordinate
+     * @return Point
+     */
+    private static XyPoint<Double> point(final double xcoor, final double ycoor) {
+        return new XyPoint<>(
+            new Scalar.Default<>(xcoor), new Scalar.Default<>(ycoor)
+        );
+    }
+
+    /**
+     * Gives all the values of a layer.
+     * @param layer Layer
+     * @return Values
+     */
+    private static List<Double> values(final Layer layer) {
+        final Double[] result = new Double[layer.values().remaining()];
+        for (int idx = 0; idx < result.length; ++idx) {
+            result[idx] = layer.values().get(idx);
+        }
+        return Arrays.asList(result);
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.solver;
+
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Incidence}.
+ * @since 0.4
+ */
+public final class IncidenceTest {
+
+    /**
+     * Count of random trials.
+     */
+    private static final int TRIALS = 20;
+
+    /**
+     * {@link Incidence} vanishes for points in the line.
+     */
+    @Test
+    public void vanishesInLine() {
+        final Parameters params = new Parameters();
+        final FreePoint point = params.point(3., 5.);
+        final Constraint constraint = new Incidence(
+            point, params.point(1., 1.), params.point(2., 3.)
+        );
+        MatcherAssert.assertThat(constraint.residual(params), Matchers.is(0.));
+        params.update(point.xvar(), 4.);
+        MatcherAssert.assertThat(constraint.residual(params), Matchers.is(-2.));
+    }
+
+    /**
+     * {@link Incidence} gives the derivatives of its residual.
+     */
+    @Test
+    public void derivesResidual() {
+        final Random rand = new Random();
+        for (int iter = 0; iter < IncidenceTest.TRIALS; ++iter) {
+            final Parameters params = new Parameters();
+            InclinationTest.verify(
+                new Incidence(
+                    InclinationTest.point(params, rand),
+                    InclinationTest.point(params, rand),
+                    InclinationTest.point(params, rand)
+                ),
+                params
+            );
+        }
+    }
+
+}
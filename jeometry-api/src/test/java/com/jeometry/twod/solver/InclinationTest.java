@@ -0,0 +1,132 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.solver;
+
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Inclination}.
+ * @since 0.4
+ */
+public final class InclinationTest {
+
+    /**
+     * Tolerance on derivatives.
+     */
+    private static final double TOLERANCE = 1.e-6;
+
+    /**
+     * Count of random trials.
+     */
+    private static final int TRIALS = 20;
+
+    /**
+     * {@link Inclination} vanishes at the given angle and its opposite.
+     */
+    @Test
+    public void vanishesAtAngle() {
+        final Parameters params = new Parameters();
+        final FreePoint origin = params.point(1., 1.);
+        final double angle = Math.PI / 3;
+        final Constraint constraint = new Inclination(
+            origin, params.point(2., 1.), params.point(-1., -1.),
+            params.point(-1. + Math.cos(angle), -1. + Math.sin(angle)),
+            angle
+        );
+        MatcherAssert.assertThat(
+            constraint.residual(params),
+            Matchers.closeTo(0., InclinationTest.TOLERANCE)
+        );
+        params.update(origin.xvar(), 3.);
+        MatcherAssert.assertThat(
+            constraint.residual(params),
+            Matchers.closeTo(0., InclinationTest.TOLERANCE)
+        );
+        params.update(origin.yvar(), 2.);
+        MatcherAssert.assertThat(
+            Math.abs(constraint.residual(params)),
+            Matchers.greaterThan(InclinationTest.TOLERANCE)
+        );
+    }
+
+    /**
+     * {@link Inclination} gives the derivatives of its residual.
+     */
+    @Test
+    public void derivesResidual() {
+        final Random rand = new Random();
+        for (int iter = 0; iter < InclinationTest.TRIALS; ++iter) {
+            final Parameters params = new Parameters();
+            InclinationTest.verify(
+                new Inclination(
+                    InclinationTest.point(params, rand),
+                    InclinationTest.point(params, rand),
+                    InclinationTest.point(params, rand),
+                    InclinationTest.point(params, rand),
+                    rand.nextDouble()
+                ),
+                params
+            );
+        }
+    }
+
+    /**
+     * Checks the derivatives of a constraint residual against central
+     * differences.
+     * @param constraint Constraint
+     * @param params Parameters
+     */
+    static void verify(final Constraint constraint, final Parameters params) {
+        final int[] vars = constraint.variables();
+        final double[] derivatives = new double[vars.length];
+        constraint.derivatives(params, derivatives);
+        final double step = 1.e-6;
+        for (int idx = 0; idx < vars.length; ++idx) {
+            final double value = params.value(vars[idx]);
+            params.update(vars[idx], value + step);
+            final double upper = constraint.residual(params);
+            params.update(vars[idx], value - step);
+            final double lower = constraint.residual(params);
+            params.update(vars[idx], value);
+            MatcherAssert.assertThat(
+                derivatives[idx],
+                Matchers.closeTo((upper - lower) / (2. * step), InclinationTest.TOLERANCE)
+            );
+        }
+    }
+
+    /**
+     * Adds a random point.
+     * @param params Parameters
+     * @param rand Random numbers generator
+     * @return Point
+     */
+    static FreePoint point(final Parameters params, final Random rand) {
+        return params.point(rand.nextDouble() * 10., rand.nextDouble() * 10.);
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.solver;
+
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link OnCircle}.
+ * @since 0.4
+ */
+public final class OnCircleTest {
+
+    /**
+     * Count of random trials.
+     */
+    private static final int TRIALS = 20;
+
+    /**
+     * {@link OnCircle} gives the distance from the point to the circle.
+     */
+    @Test
+    public void givesDistanceToCircle() {
+        final Parameters params = new Parameters();
+        final Constraint constraint = new OnCircle(
+            params.point(4., 5.), params.point(1., 1.), params.add(2.)
+        );
+        MatcherAssert.assertThat(constraint.residual(params), Matchers.is(3.));
+    }
+
+    /**
+     * {@link OnCircle} gives the derivatives of its residual.
+     */
+    @Test
+    public void derivesResidual() {
+        final Random rand = new Random();
+        for (int iter = 0; iter < OnCircleTest.TRIALS; ++iter) {
+            final Parameters params = new Parameters();
+            InclinationTest.verify(
+                new OnCircle(
+                    InclinationTest.point(params, rand),
+                    InclinationTest.point(params, rand),
+                    params.add(rand.nextDouble())
+                ),
+                params
+            );
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.solver;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Parameters}.
+ * @since 0.4
+ */
+public final class ParametersTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Parameters} gives points following their variables.
+     */
+    @Test
+    public void givesFollowingPoints() {
+        final Parameters params = new Parameters();
+        params.add(0.);
+        final FreePoint point = params.point(1., 2.);
+        params.update(point.yvar(), 3.);
+        final Decimal field = new Decimal();
+        MatcherAssert.assertThat(params.size(), Matchers.is(2 + 1));
+        MatcherAssert.assertThat(field.actual(point.xcoor()), Matchers.is(1.));
+        MatcherAssert.assertThat(field.actual(point.ycoor()), Matchers.is(3.));
+    }
+
+    /**
+     * {@link Parameters} fixes and frees variables.
+     */
+    @Test
+    public void fixesVariables() {
+        final Parameters params = new Parameters();
+        final int var = params.add(1.);
+        params.fix(var, true);
+        MatcherAssert.assertThat(params.fixed(var), Matchers.is(true));
+        params.fix(var, false);
+        MatcherAssert.assertThat(params.fixed(var), Matchers.is(false));
+    }
+
+    /**
+     * {@link Parameters} rejects unknown variables.
+     */
+    @Test
+    public void rejectsUnknownVariables() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Parameters().value(0);
+    }
+
+}
@@ -0,0 +1,230 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.solver;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.Diff;
+import com.aljebra.scalar.Multiplication;
+import com.aljebra.scalar.Scalar;
+import com.jeometry.twod.circle.PtRadCircle;
+import com.jeometry.twod.circle.analytics.PointInCircle;
+import com.jeometry.twod.line.PtsLine;
+import com.jeometry.twod.line.analytics.Parallel;
+import com.jeometry.twod.line.analytics.Perpendicular;
+import com.jeometry.twod.line.analytics.PointInLine;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Solver}.
+ * @since 0.4
+ */
+public final class SolverTest {
+
+    /**
+     * Count of chained points.
+     */
+    private static final int SIZE = 1000;
+
+    /**
+     * Tolerance on solutions.
+     */
+    private static final double TOLERANCE = 1.e-8;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Solver} solves a rectangle, with parallel and perpendicular
+     * sides, leaving fixed variables untouched.
+     */
+    @Test
+    public void solvesRectangle() {
+        final Parameters params = new Parameters();
+        final FreePoint first = params.point(0., 0.);
+        final FreePoint second = params.point(3.7, 0.4);
+        final FreePoint third = params.point(4.2, 2.3);
+        final FreePoint fourth = params.point(-0.3, 1.8);
+        params.fix(first.xvar(), true);
+        params.fix(first.yvar(), true);
+        final double residual = new Solver(
+            params,
+            Arrays.asList(
+                new Parallelism(first, second, fourth, third),
+                new Parallelism(first, fourth, second, third),
+                new Perpendicularity(first, second, first, fourth),
+                new Distance(first, second, 4.),
+                new Distance(first, fourth, 2.),
+                new Inclination(first, second, first, fourth, Math.PI / 2)
+            )
+        ).solve();
+        MatcherAssert.assertThat(
+            residual, Matchers.lessThan(SolverTest.TOLERANCE)
+        );
+        final Decimal field = new Decimal();
+        MatcherAssert.assertThat(
+            new Parallel<>(
+                new PtsLine<>(first, second), new PtsLine<>(fourth, third)
+            ).resolve(field),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new Perpendicular<>(
+                new PtsLine<>(first, second), new PtsLine<>(first, fourth)
+            ).resolve(field),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(params.value(first.xvar()), Matchers.is(0.));
+        MatcherAssert.assertThat(params.value(first.yvar()), Matchers.is(0.));
+    }
+
+    /**
+     * {@link Solver} solves incidences on lines and circles with free
+     * radii.
+     */
+    @Test
+    public void solvesIncidences() {
+        final Parameters params = new Parameters();
+        final FreePoint center = params.point(0.1, -0.2);
+        final int radius = params.add(1.);
+        final FreePoint first = params.point(2., 0.1);
+        final FreePoint second = params.point(0.2, 1.9);
+        final FreePoint third = params.point(0.9, 1.2);
+        final FreePoint fourth = params.point(-1.8, 0.3);
+        params.fix(first.xvar(), true);
+        params.fix(first.yvar(), true);
+        params.fix(second.xvar(), true);
+        params.fix(second.yvar(), true);
+        final double residual = new Solver(
+            params,
+            Arrays.asList(
+                new OnCircle(first, center, radius),
+                new OnCircle(second, center, radius),
+                new OnCircle(third, center, radius),
+                new OnCircle(fourth, center, radius),
+                new Incidence(third, first, second),
+                new Distance(center, params.point(0., 0.), 0.)
+            )
+        ).solve();
+        MatcherAssert.assertThat(
+            residual, Matchers.lessThan(SolverTest.TOLERANCE)
+        );
+        final Decimal field = new Decimal();
+        final PtRadCircle<Double> circle = new PtRadCircle<>(
+            center, params.scalar(radius)
+        );
+        MatcherAssert.assertThat(
+            new PointInCircle<>(fourth, circle).resolve(field),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new PointInLine<>(third, new PtsLine<>(first, second)).resolve(field),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * {@link Solver} follows a dragged point, solving again from the last
+     * solution a chain of many constraints.
+     */
+    @Test
+    public void followsDraggedPoint() {
+        final Random rand = new Random();
+        final Parameters params = new Parameters();
+        final List<Constraint> constraints = new ArrayList<>(2 * SolverTest.SIZE);
+        final FreePoint origin = params.point(0., 0.);
+        final FreePoint axis = params.point(1., 0.);
+        params.fix(origin.xvar(), true);
+        params.fix(origin.yvar(), true);
+        FreePoint previous = origin;
+        for (int idx = 1; idx <= SolverTest.SIZE; ++idx) {
+            final FreePoint point = params.point(
+                idx + rand.nextDouble() / 10., rand.nextDouble() / 10.
+            );
+            constraints.add(new Distance(previous, point, 1.));
+            constraints.add(new Incidence(point, origin, axis));
+            previous = point;
+        }
+        final Solver solver = new Solver(params, constraints);
+        MatcherAssert.assertThat(
+            solver.solve(), Matchers.lessThan(SolverTest.TOLERANCE)
+        );
+        params.fix(axis.xvar(), true);
+        params.fix(axis.yvar(), true);
+        params.update(axis.yvar(), params.value(axis.yvar()) + 0.1);
+        MatcherAssert.assertThat(
+            solver.solve(), Matchers.lessThan(SolverTest.TOLERANCE)
+        );
+        MatcherAssert.assertThat(
+            Math.abs(params.value(previous.yvar())),
+            Matchers.greaterThan(1.)
+        );
+    }
+
+    /**
+     * {@link Solver} solves constraints on scalar expressions.
+     */
+    @Test
+    public void solvesExpressions() {
+        final Parameters params = new Parameters();
+        final int first = params.add(1.);
+        final int second = params.add(1.);
+        params.fix(first, true);
+        params.update(first, 2.);
+        final Scalar<Double> expr = new Diff<>(
+            new Multiplication<>(params.scalar(first), params.scalar(second)),
+            new Scalar.Default<>(3.)
+        );
+        new Solver(
+            params,
+            Collections.singletonList(new Expression(expr, new Decimal(), first, second))
+        ).solve();
+        MatcherAssert.assertThat(
+            params.value(second), Matchers.closeTo(1.5, SolverTest.TOLERANCE)
+        );
+    }
+
+    /**
+     * {@link Solver} rejects a negative count of iterations.
+     */
+    @Test
+    public void rejectsNegativeIterations() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Solver(
+            new Parameters(), Collections.<Constraint>emptyList(), -1, 0.
+        );
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.sweep;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Ladder}.
+ * @since 0.4
+ */
+public final class LadderTest {
+
+    /**
+     * Count of segments.
+     */
+    private static final int SIZE = 500;
+
+    /**
+     * {@link Ladder} keeps segments in order through insertions and
+     * removals.
+     */
+    @Test
+    public void keepsOrder() {
+        final Comparator<Integer> order = Comparator.reverseOrder();
+        final Ladder ladder = new Ladder(LadderTest.SIZE);
+        final List<Integer> segs = new ArrayList<>(LadderTest.SIZE);
+        for (int idx = 0; idx < LadderTest.SIZE; ++idx) {
+            segs.add(idx);
+        }
+        Collections.shuffle(segs, new Random());
+        for (final Integer seg : segs) {
+            ladder.insert(seg, order);
+        }
+        for (int idx = 0; idx < LadderTest.SIZE; idx += 2) {
+            ladder.remove(idx);
+        }
+        final List<Integer> walked = new ArrayList<>(LadderTest.SIZE / 2);
+        int seg = ladder.first();
+        while (seg != Ladder.NONE) {
+            walked.add(seg);
+            seg = ladder.above(seg);
+        }
+        final List<Integer> expected = new ArrayList<>(LadderTest.SIZE / 2);
+        for (int idx = LadderTest.SIZE - 1; idx > 0; idx -= 2) {
+            expected.add(idx);
+        }
+        MatcherAssert.assertThat(walked, Matchers.equalTo(expected));
+        MatcherAssert.assertThat(ladder.below(expected.get(1)), Matchers.is(expected.get(0)));
+    }
+
+    /**
+     * {@link Ladder} finds the last segment before a probe.
+     */
+    @Test
+    public void findsFloor() {
+        final Comparator<Integer> order = Comparator.naturalOrder();
+        final Ladder ladder = new Ladder(10);
+        for (int idx = 0; idx < 10; idx += 3) {
+            ladder.insert(idx, order);
+        }
+        MatcherAssert.assertThat(ladder.floor(5, order), Matchers.is(3));
+        MatcherAssert.assertThat(ladder.floor(-1, order), Matchers.is(Ladder.NONE));
+        ladder.remove(3);
+        MatcherAssert.assertThat(ladder.floor(5, order), Matchers.is(0));
+    }
+
+}
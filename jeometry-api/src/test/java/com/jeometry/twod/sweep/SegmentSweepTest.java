@@ -0,0 +1,214 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.sweep;
+
+import com.aljebra.scalar.Scalar;
+import com.jeometry.twod.point.XyPoint;
+import com.jeometry.twod.segment.PtsSegment;
+import com.jeometry.twod.segment.Segment;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link SegmentSweep}.
+ * @since 0.4
+ */
+public final class SegmentSweepTest {
+
+    /**
+     * Count of random segments.
+     */
+    private static final int SIZE = 400;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link SegmentSweep} reports the crossings of random segments as a
+     * pairwise scan.
+     */
+    @Test
+    public void reportsRandomCrossings() {
+        final Random rand = new Random();
+        final double[] coords = new double[2 * 2 * SegmentSweepTest.SIZE];
+        for (int idx = 0; idx < coords.length; ++idx) {
+            coords[idx] = rand.nextDouble() * 100.;
+        }
+        SegmentSweepTest.verify(coords);
+    }
+
+    /**
+     * {@link SegmentSweep} reports the crossings of segments on a small
+     * grid, with shared extremities, touching, vertical, overlapping and
+     * point segments, as a pairwise scan.
+     */
+    @Test
+    public void reportsDegenerateCrossings() {
+        final Random rand = new Random();
+        for (int iter = 0; iter < 20; ++iter) {
+            final double[] coords = new double[2 * 2 * SegmentSweepTest.SIZE / 4];
+            for (int idx = 0; idx < coords.length; ++idx) {
+                coords[idx] = rand.nextInt(8);
+            }
+            SegmentSweepTest.verify(coords);
+        }
+    }
+
+    /**
+     * {@link SegmentSweep} reports segments all crossing at a single point.
+     */
+    @Test
+    public void reportsStarCrossings() {
+        final int count = 12;
+        final double[] coords = new double[2 * 2 * count];
+        for (int idx = 0; idx < count; ++idx) {
+            final double angle = Math.PI * idx / count;
+            coords[2 * 2 * idx] = 1. + Math.cos(angle);
+            coords[2 * 2 * idx + 1] = 1. + Math.sin(angle);
+            coords[2 * 2 * idx + 2] = 1. - Math.cos(angle);
+            coords[2 * 2 * idx + 2 + 1] = 1. - Math.sin(angle);
+        }
+        MatcherAssert.assertThat(
+            new SegmentSweep(coords).crossings(),
+            Matchers.hasSize(count * (count - 1) / 2)
+        );
+    }
+
+    /**
+     * {@link SegmentSweep} reports the crossings of segments above one
+     * ending just before its rounded crossing point with another.
+     */
+    @Test
+    public void reportsCrossingsAboveRoundedEnds() {
+        SegmentSweepTest.verify(
+            new double[] {
+                20., 0., 30., 30.,
+                4.916296616946953, 4.916296616946952,
+                4.375665270033207E-16, 7.146003685437656,
+                -10., -10., 10., 10.,
+                10., 10., 30., 10.,
+            }
+        );
+    }
+
+    /**
+     * {@link SegmentSweep} reports crossings with their common point.
+     */
+    @Test
+    public void givesCommonPoints() {
+        final List<Crossing> crossings = new SegmentSweep(
+            Arrays.asList(
+                SegmentSweepTest.segment(0., 0., 4., 4.),
+                SegmentSweepTest.segment(0., 4., 4., 0.),
+                SegmentSweepTest.segment(5., 5., 6., 5.)
+            )
+        ).crossings();
+        MatcherAssert.assertThat(
+            crossings, Matchers.contains(new Crossing(0, 1, 2., 2.))
+        );
+    }
+
+    /**
+     * {@link SegmentSweep} reports parallel segments only when they
+     * overlap.
+     */
+    @Test
+    public void reportsOverlaps() {
+        final List<Crossing> crossings = new SegmentSweep(
+            new double[] {
+                0., 0., 2., 2.,
+                3., 3., 1., 1.,
+                0., 1., 2., 3.,
+                5., 5., 4., 4.,
+            }
+        ).crossings();
+        MatcherAssert.assertThat(
+            crossings, Matchers.contains(new Crossing(0, 1, 1., 1.))
+        );
+    }
+
+    /**
+     * {@link SegmentSweep} rejects incomplete segments coordinates.
+     */
+    @Test
+    public void rejectsIncompleteCoordinates() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new SegmentSweep(new double[] {0., 0., 1.});
+    }
+
+    /**
+     * Checks that a sweep reports the crossings of a pairwise scan, with
+     * points common to both segments.
+     * @param coords Segments coordinates
+     */
+    private static void verify(final double[] coords) {
+        final Segments segments = new Segments(coords);
+        final Set<List<Integer>> expected = new HashSet<>(0);
+        for (int first = 0; first < segments.size(); ++first) {
+            for (int second = first + 1; second < segments.size(); ++second) {
+                if (segments.intersect(first, second)) {
+                    expected.add(Arrays.asList(first, second));
+                }
+            }
+        }
+        final List<Crossing> crossings = new SegmentSweep(coords).crossings();
+        final Set<List<Integer>> actual = new HashSet<>(0);
+        for (final Crossing crossing : crossings) {
+            actual.add(Arrays.asList(crossing.first(), crossing.second()));
+        }
+        MatcherAssert.assertThat(crossings, Matchers.hasSize(actual.size()));
+        MatcherAssert.assertThat(actual, Matchers.equalTo(expected));
+    }
+
+    /**
+     * Builds a segment.
+     * @param xstart Start X coordinate
+     * @param ystart Start Y coordinate
+     * @param xend End X coordinate
+     * @param yend End Y coordinate
+     * @return Segment
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static Segment<Double> segment(final double xstart,
+        final double ystart, final double xend, final double yend) {
+        return new PtsSegment<>(
+            new XyPoint<>(
+                new Scalar.Default<>(xstart), new Scalar.Default<>(ystart)
+            ),
+            new XyPoint<>(new Scalar.Default<>(xend), new Scalar.Default<>(yend))
+        );
+    }
+
+}
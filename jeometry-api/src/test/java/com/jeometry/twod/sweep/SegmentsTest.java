@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.twod.sweep;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Segments}.
+ * @since 0.4
+ */
+public final class SegmentsTest {
+
+    /**
+     * {@link Segments} orients segments from their lowest extremity.
+     */
+    @Test
+    public void orientsSegments() {
+        final Segments segments = new Segments(new double[] {3., 1., 1., 2.});
+        MatcherAssert.assertThat(
+            segments.start(0), Matchers.equalTo(new SweepPoint(1., 2.))
+        );
+        MatcherAssert.assertThat(
+            segments.end(0), Matchers.equalTo(new SweepPoint(3., 1.))
+        );
+    }
+
+    /**
+     * {@link Segments} tests intersections of crossing, touching, disjoint
+     * and collinear segments.
+     */
+    @Test
+    public void testsIntersections() {
+        final Segments segments = new Segments(
+            new double[] {
+                0., 0., 4., 4.,
+                0., 4., 4., 0.,
+                2., 2., 2., 6.,
+                5., 5., 6., 6.,
+                3., 3., 8., 8.,
+                1., 0., 5., 4.,
+            }
+        );
+        MatcherAssert.assertThat(segments.intersect(0, 1), Matchers.is(true));
+        MatcherAssert.assertThat(segments.intersect(0, 2), Matchers.is(true));
+        MatcherAssert.assertThat(segments.intersect(0, 3), Matchers.is(false));
+        MatcherAssert.assertThat(segments.intersect(0, 4), Matchers.is(true));
+        MatcherAssert.assertThat(segments.intersect(0, 5), Matchers.is(false));
+        MatcherAssert.assertThat(segments.intersect(3, 4), Matchers.is(true));
+    }
+
+    /**
+     * {@link Segments} gives common points of intersecting segments.
+     */
+    @Test
+    public void givesCommonPoints() {
+        final Segments segments = new Segments(
+            new double[] {
+                0., 0., 4., 4.,
+                0., 4., 4., 0.,
+                4., 4., 2., 2.,
+                1., 3., 2., 2.,
+            }
+        );
+        MatcherAssert.assertThat(
+            segments.point(0, 1), Matchers.equalTo(new SweepPoint(2., 2.))
+        );
+        MatcherAssert.assertThat(
+            segments.point(0, 2), Matchers.equalTo(new SweepPoint(2., 2.))
+        );
+        MatcherAssert.assertThat(
+            segments.point(3, 0), Matchers.equalTo(new SweepPoint(2., 2.))
+        );
+    }
+
+    /**
+     * {@link Segments} gives Y coordinates on the sweep line.
+     */
+    @Test
+    public void givesOrdinates() {
+        final Segments segments = new Segments(
+            new double[] {0., 0., 4., 2., 1., 0., 1., 3.}
+        );
+        MatcherAssert.assertThat(segments.yat(0, 2., 0.), Matchers.is(1.));
+        MatcherAssert.assertThat(segments.yat(1, 1., 2.), Matchers.is(2.));
+        MatcherAssert.assertThat(segments.yat(1, 1., 5.), Matchers.is(3.));
+        MatcherAssert.assertThat(segments.slope(1, 0), Matchers.is(1));
+    }
+
+}
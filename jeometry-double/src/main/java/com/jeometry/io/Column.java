@@ -0,0 +1,170 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.io;
+
+import com.google.common.base.Preconditions;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Codec of a column of coordinates. With a positive precision, values are
+ * rounded to multiples of the precision and stored as zigzag varints of
+ * the difference with the previous value, so that close values take a
+ * couple of bytes. With a zero precision, values are stored verbatim as
+ * 8 bytes doubles.
+ * @since 0.4
+ */
+final class Column {
+
+    /**
+     * Varint payload bits per byte.
+     */
+    private static final int BITS = 7;
+
+    /**
+     * Varint payload mask.
+     */
+    private static final int PAYLOAD = 0x7F;
+
+    /**
+     * Varint continuation flag.
+     */
+    private static final int MORE = 0x80;
+
+    /**
+     * Largest magnitude of a rounded value.
+     */
+    private static final double LIMIT = 0x1p62;
+
+    /**
+     * Bytes of a long.
+     */
+    private static final int LONG = Long.BYTES;
+
+    /**
+     * Rounding precision, or zero for verbatim doubles.
+     */
+    private final double precision;
+
+    /**
+     * Constructor.
+     * @param precision Rounding precision, or zero for verbatim doubles
+     */
+    Column(final double precision) {
+        Preconditions.checkArgument(
+            precision >= 0. && !Double.isInfinite(precision),
+            "Precision must be a finite non negative value, got %s", precision
+        );
+        this.precision = precision;
+    }
+
+    /**
+     * Encodes values.
+     * @param values Values
+     * @param out Output to write to
+     */
+    public void write(final double[] values, final ByteArrayOutputStream out) {
+        long previous = 0;
+        for (final double value : values) {
+            if (this.precision > 0.) {
+                final double scaled = Math.rint(value / this.precision);
+                Preconditions.checkArgument(
+                    Math.abs(scaled) < Column.LIMIT,
+                    "Coordinate %s cannot be rounded to precision %s",
+                    value, this.precision
+                );
+                final long rounded = (long) scaled;
+                final long delta = rounded - previous;
+                Column.varint(delta << 1 ^ delta >> Long.SIZE - 1, out);
+                previous = rounded;
+            } else {
+                final long bits = Double.doubleToRawLongBits(value);
+                for (int shift = Long.SIZE - Byte.SIZE; shift >= 0;
+                    shift -= Byte.SIZE) {
+                    out.write((int) (bits >>> shift));
+                }
+            }
+        }
+    }
+
+    /**
+     * Decodes values.
+     * @param count Count of values
+     * @param in Input to read from
+     * @return Values
+     */
+    public double[] read(final int count, final ByteBuffer in) {
+        final double[] result = new double[count];
+        if (this.precision > 0.) {
+            long previous = 0;
+            for (int idx = 0; idx < count; ++idx) {
+                final long zigzag = Column.varint(in);
+                previous += zigzag >>> 1 ^ -(zigzag & 1);
+                result[idx] = previous * this.precision;
+            }
+        } else {
+            Preconditions.checkArgument(
+                in.remaining() >= (long) Column.LONG * count,
+                "Column of %s doubles truncated", count
+            );
+            for (int idx = 0; idx < count; ++idx) {
+                result[idx] = in.getDouble();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Writes an unsigned varint.
+     * @param value Value
+     * @param out Output to write to
+     */
+    static void varint(final long value, final ByteArrayOutputStream out) {
+        long rest = value;
+        while ((rest & ~Column.PAYLOAD) != 0) {
+            out.write((int) (rest & Column.PAYLOAD | Column.MORE));
+            rest >>>= Column.BITS;
+        }
+        out.write((int) rest);
+    }
+
+    /**
+     * Reads an unsigned varint.
+     * @param in Input to read from
+     * @return Value
+     */
+    static long varint(final ByteBuffer in) {
+        long result = 0;
+        int shift = 0;
+        byte current;
+        do {
+            Preconditions.checkArgument(shift < Long.SIZE, "Malformed varint");
+            current = in.get();
+            result |= (long) (current & Column.PAYLOAD) << shift;
+            shift += Column.BITS;
+        } while ((current & Column.MORE) != 0);
+        return result;
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.io;
+
+import com.jeometry.model.decimal.DblCircle;
+import com.jeometry.model.decimal.DblPoint;
+import com.jeometry.twod.Renderable;
+import com.jeometry.twod.line.Polygon;
+import com.jeometry.twod.line.PtsPolyline;
+import com.jeometry.twod.segment.PtsSegment;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Comma separated values format, with a shape per line: a shape kind
+ * followed by its coordinates. Kinds are, ignoring case, {@code point}
+ * (x, y), {@code segment} (two points), {@code circle} (center x, center
+ * y, radius), {@code polyline} (two points at least) and {@code polygon}
+ * (three points at least). Lines starting with {@code #} are comments.
+ * @since 0.4
+ */
+public final class Csv implements Format {
+
+    @Override
+    public void parse(final byte[] bytes, final int from, final int until,
+        final List<Renderable> into) {
+        final Tokens tokens = new Tokens(bytes, from, until);
+        if (!tokens.done() && tokens.peek() != '#') {
+            if (tokens.word("POINT")) {
+                final DblPoint point = Csv.point(tokens);
+                into.add(point);
+            } else if (tokens.word("SEGMENT")) {
+                final DblPoint start = Csv.point(tokens);
+                into.add(new PtsSegment<>(start, Csv.point(tokens)));
+            } else if (tokens.word("CIRCLE")) {
+                final DblPoint center = Csv.point(tokens);
+                tokens.expect(',');
+                into.add(new DblCircle(center, tokens.number()));
+            } else if (tokens.word("POLYLINE")) {
+                into.add(new PtsPolyline<>(Csv.points(tokens, 2)));
+            } else if (tokens.word("POLYGON")) {
+                into.add(new Polygon<>(Csv.points(tokens, 2 + 1)));
+            } else {
+                throw tokens.error("Shape kind expected");
+            }
+            if (!tokens.done()) {
+                throw tokens.error("End of record expected");
+            }
+        }
+    }
+
+    /**
+     * Parses the points up to the end of the record.
+     * @param tokens Tokens
+     * @param min Minimum count of points
+     * @return Points
+     */
+    private static List<DblPoint> points(final Tokens tokens, final int min) {
+        final List<DblPoint> result = new ArrayList<>(min);
+        do {
+            result.add(Csv.point(tokens));
+        } while (!tokens.done());
+        if (result.size() < min) {
+            throw tokens.error(String.format("%d points at least expected", min));
+        }
+        return result;
+    }
+
+    /**
+     * Parses comma prefixed point coordinates.
+     * @param tokens Tokens
+     * @return Point
+     */
+    private static DblPoint point(final Tokens tokens) {
+        tokens.expect(',');
+        final double xcoor = tokens.number();
+        tokens.expect(',');
+        return new DblPoint(xcoor, tokens.number());
+    }
+
+}
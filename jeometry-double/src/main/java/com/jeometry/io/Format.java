@@ -0,0 +1,47 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.io;
+
+import com.jeometry.twod.Renderable;
+import java.util.List;
+
+/**
+ * A line-oriented text format of geometries. Each record is a single line,
+ * parsed independently of the others, so that records of a chunk of text
+ * can be parsed in parallel with records of other chunks.
+ * @since 0.4
+ */
+public interface Format {
+
+    /**
+     * Parses a record into renderables. Blank records give no renderables.
+     * @param bytes Text bytes, ASCII compatible
+     * @param from Index of the record first byte
+     * @param until Index past the record last byte, line terminators excluded
+     * @param into Renderables to add the parsed renderables to
+     * @throws IllegalArgumentException if the record is malformed
+     */
+    void parse(byte[] bytes, int from, int until, List<Renderable> into);
+
+}
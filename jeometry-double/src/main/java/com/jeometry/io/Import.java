@@ -0,0 +1,324 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.io;
+
+import com.aljebra.field.Field;
+import com.google.common.base.Preconditions;
+import com.jeometry.twod.Figure;
+import com.jeometry.twod.Renderable;
+import com.jeometry.twod.Shape;
+import com.jeometry.twod.snapshot.Snapshot;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Streaming import of shapes from a line-oriented text {@link Format}. The
+ * channel is read through a buffer of fixed capacity, cut into chunks of
+ * whole lines, and chunks are parsed in parallel on a fork-join pool. At
+ * most twice the pool parallelism chunks are in flight, so that the text is
+ * never held entirely in memory, and parsed shapes are added in the text
+ * order. A line longer than the buffer capacity grows the buffer.
+ * @since 0.4
+ */
+public final class Import {
+
+    /**
+     * Default chunk size in bytes.
+     */
+    private static final int CHUNK = 1 << 20;
+
+    /**
+     * Text format.
+     */
+    private final Format format;
+
+    /**
+     * Pool parsing chunks.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Chunk size in bytes.
+     */
+    private final int chunk;
+
+    /**
+     * Constructor, parsing chunks of 1 MiB on the common pool.
+     * @param format Text format
+     */
+    public Import(final Format format) {
+        this(format, ForkJoinPool.commonPool(), Import.CHUNK);
+    }
+
+    /**
+     * Constructor.
+     * @param format Text format
+     * @param pool Pool parsing chunks
+     * @param chunk Chunk size in bytes
+     */
+    public Import(final Format format, final ForkJoinPool pool,
+        final int chunk) {
+        Preconditions.checkArgument(
+            chunk > 0, "Chunk size must be positive, got %s", chunk
+        );
+        this.format = format;
+        this.pool = pool;
+        this.chunk = chunk;
+    }
+
+    /**
+     * Imports the shapes of a file into a figure.
+     * @param path File path
+     * @param figure Figure to add the shapes to
+     * @return The figure
+     * @throws IOException if the file cannot be read
+     */
+    public Figure read(final Path path, final Figure figure)
+        throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.read(channel, figure);
+        }
+        return figure;
+    }
+
+    /**
+     * Imports the shapes of a channel into a figure. The channel is not
+     * closed.
+     * @param channel Channel to read
+     * @param figure Figure to add the shapes to
+     * @return The figure
+     * @throws IOException if the channel cannot be read
+     */
+    public Figure read(final ReadableByteChannel channel, final Figure figure)
+        throws IOException {
+        this.stream(
+            channel,
+            new Sink() {
+                @Override
+                public void accept(final List<Renderable> shapes) {
+                    for (final Renderable shape : shapes) {
+                        figure.add(shape);
+                    }
+                }
+            }
+        );
+        return figure;
+    }
+
+    /**
+     * Imports the shapes of a file into a frozen snapshot, without building
+     * a figure.
+     * @param path File path
+     * @param field Field to resolve coordinates with
+     * @return Snapshot
+     * @throws IOException if the file cannot be read
+     */
+    public Snapshot snapshot(final Path path, final Field<Double> field)
+        throws IOException {
+        final List<Shape<?>> shapes = new ArrayList<>(0);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.stream(
+                channel,
+                new Sink() {
+                    @Override
+                    public void accept(final List<Renderable> parsed) {
+                        for (final Renderable shape : parsed) {
+                            shapes.add(new Shape<>(shape));
+                        }
+                    }
+                }
+            );
+        }
+        return new Snapshot(shapes, field);
+    }
+
+    /**
+     * Streams the parsed shapes of a channel to a sink, chunk by chunk in
+     * the text order.
+     * @param channel Channel to read
+     * @param sink Sink of parsed shapes
+     * @throws IOException if the channel cannot be read
+     */
+    private void stream(final ReadableByteChannel channel, final Sink sink)
+        throws IOException {
+        final Deque<Future<List<Renderable>>> pending = new ArrayDeque<>(0);
+        final int flight = Math.max(2, 2 * this.pool.getParallelism());
+        ByteBuffer buffer = ByteBuffer.allocate(this.chunk);
+        long offset = 0;
+        boolean end = false;
+        try {
+            while (!end) {
+                end = channel.read(buffer) < 0;
+                if (end || !buffer.hasRemaining()) {
+                    final byte[] filled = buffer.array();
+                    int cut = buffer.position();
+                    if (!end) {
+                        cut = Import.last(filled, cut);
+                    }
+                    if (cut == 0 && !end) {
+                        buffer = ByteBuffer.allocate(2 * buffer.capacity())
+                            .put((ByteBuffer) buffer.flip());
+                    } else {
+                        pending.add(
+                            this.pool.submit(
+                                new Parse(Arrays.copyOf(filled, cut), offset)
+                            )
+                        );
+                        offset += cut;
+                        buffer.flip().position(cut);
+                        buffer.compact();
+                    }
+                }
+                while (pending.size() > flight
+                    || end && !pending.isEmpty()) {
+                    sink.accept(Import.result(pending.poll()));
+                }
+            }
+        } finally {
+            for (final Future<List<Renderable>> future : pending) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Finds the end of the last whole line of a chunk.
+     * @param bytes Chunk bytes
+     * @param size Chunk size
+     * @return Index past the last line feed, or zero if none
+     */
+    private static int last(final byte[] bytes, final int size) {
+        int result = size;
+        while (result > 0 && bytes[result - 1] != '\n') {
+            result -= 1;
+        }
+        return result;
+    }
+
+    /**
+     * Waits for the shapes of a parsed chunk.
+     * @param future Parsing result
+     * @return Shapes
+     * @throws IOException if the parsing was interrupted
+     */
+    private static List<Renderable> result(
+        final Future<List<Renderable>> future) throws IOException {
+        final List<Renderable> result;
+        try {
+            result = future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import interrupted", ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IOException(ex.getCause());
+        }
+        return result;
+    }
+
+    /**
+     * Sink of parsed shapes.
+     * @since 0.4
+     */
+    private interface Sink {
+
+        /**
+         * Accepts the shapes of a chunk.
+         * @param shapes Shapes
+         */
+        void accept(List<Renderable> shapes);
+
+    }
+
+    /**
+     * Parsing of a chunk of whole lines.
+     * @since 0.4
+     */
+    private final class Parse implements Callable<List<Renderable>> {
+
+        /**
+         * Chunk bytes.
+         */
+        private final byte[] bytes;
+
+        /**
+         * Chunk offset in the text.
+         */
+        private final long offset;
+
+        /**
+         * Constructor.
+         * @param bytes Chunk bytes
+         * @param offset Chunk offset in the text
+         */
+        Parse(final byte[] bytes, final long offset) {
+            this.bytes = bytes;
+            this.offset = offset;
+        }
+
+        @Override
+        public List<Renderable> call() {
+            final List<Renderable> result = new ArrayList<>(0);
+            int start = 0;
+            while (start < this.bytes.length) {
+                int stop = start;
+                while (stop < this.bytes.length && this.bytes[stop] != '\n') {
+                    stop += 1;
+                }
+                int until = stop;
+                if (until > start && this.bytes[until - 1] == '\r') {
+                    until -= 1;
+                }
+                try {
+                    Import.this.format.parse(this.bytes, start, until, result);
+                } catch (final IllegalArgumentException ex) {
+                    throw new IllegalArgumentException(
+                        String.format(
+                            "Malformed record at byte %d", this.offset + start
+                        ),
+                        ex
+                    );
+                }
+                start = stop + 1;
+            }
+            return result;
+        }
+    }
+
+}
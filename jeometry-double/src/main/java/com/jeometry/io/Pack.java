@@ -0,0 +1,298 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.io;
+
+import com.aljebra.field.Field;
+import com.google.common.base.Preconditions;
+import com.jeometry.twod.Figure;
+import com.jeometry.twod.Shape;
+import com.jeometry.twod.line.Polygon;
+import com.jeometry.twod.snapshot.Layer;
+import com.jeometry.twod.snapshot.Polylines;
+import com.jeometry.twod.snapshot.Snapshot;
+import com.jeometry.twod.style.Style;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Writes figures in the compact binary format read by {@link Packed}. The
+ * figure is resolved into its {@link Snapshot}, and coordinates are
+ * written column by column, either rounded to a precision and delta
+ * encoded as varints, or verbatim. Styles are interned and names are kept
+ * in a string table. Only points, segments, circles, polylines and
+ * polygons are supported.
+ * @since 0.4
+ */
+public final class Pack {
+
+    /**
+     * Field to resolve coordinates with.
+     */
+    private final Field<Double> field;
+
+    /**
+     * Coordinates precision, or zero for verbatim doubles.
+     */
+    private final double precision;
+
+    /**
+     * Coordinates codec.
+     */
+    private final Column column;
+
+    /**
+     * Constructor, writing coordinates verbatim.
+     * @param field Field to resolve coordinates with
+     */
+    public Pack(final Field<Double> field) {
+        this(field, 0.);
+    }
+
+    /**
+     * Constructor.
+     * @param field Field to resolve coordinates with
+     * @param precision Coordinates precision, or zero for verbatim doubles
+     */
+    public Pack(final Field<Double> field, final double precision) {
+        this.field = field;
+        this.precision = precision;
+        this.column = new Column(precision);
+    }
+
+    /**
+     * Writes a figure to a file, replacing it if any.
+     * @param figure Figure
+     * @param path File path
+     * @throws IOException if the file cannot be written
+     */
+    public void write(final Figure figure, final Path path) throws IOException {
+        final Snapshot snapshot = figure.snapshot(this.field);
+        Preconditions.checkArgument(
+            snapshot.rest().isEmpty(),
+            "Figure has %s shapes of unsupported kinds", snapshot.rest().size()
+        );
+        final ByteArrayOutputStream[] sections =
+            new ByteArrayOutputStream[Packed.SECTIONS];
+        for (int section = 0; section < sections.length; ++section) {
+            sections[section] = new ByteArrayOutputStream();
+        }
+        Pack.styles(snapshot.styles(), sections[Packed.STYLES]);
+        Pack.names(snapshot.shapes(), sections[Packed.NAMES]);
+        Pack.kinds(snapshot, sections[Packed.KINDS]);
+        final Layer[] layers = {
+            snapshot.points(), snapshot.segments(), snapshot.circles(),
+        };
+        final int[] strides = {2, 2 + 2, 2 + 1};
+        for (int layer = 0; layer < layers.length; ++layer) {
+            Pack.layer(
+                layers[layer], strides[layer], this.column,
+                sections[Packed.POINTS + layer]
+            );
+        }
+        Pack.lines(snapshot, this.column, sections[Packed.POLYLINES]);
+        final ByteBuffer header = ByteBuffer.allocate(Packed.HEADER);
+        header.putInt(Packed.MAGIC).putInt(Packed.VERSION)
+            .putDouble(this.precision).putInt(snapshot.shapes().size());
+        long offset = Packed.HEADER;
+        for (final ByteArrayOutputStream section : sections) {
+            header.putLong(offset).putLong(section.size());
+            offset += section.size();
+        }
+        header.flip();
+        try (FileChannel channel = FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING
+        )) {
+            Pack.write(header, channel);
+            for (final ByteArrayOutputStream section : sections) {
+                Pack.write(ByteBuffer.wrap(section.toByteArray()), channel);
+            }
+        }
+    }
+
+    /**
+     * Writes the styles section.
+     * @param styles Interned styles
+     * @param out Section output
+     */
+    private static void styles(final List<Style> styles,
+        final ByteArrayOutputStream out) {
+        Column.varint(styles.size(), out);
+        final ByteBuffer bytes = ByteBuffer.allocate(
+            Float.BYTES + 2 * Integer.BYTES + 1
+        );
+        for (final Style style : styles) {
+            bytes.clear();
+            bytes.putFloat(style.stroke().width())
+                .putInt(style.stroke().color().getRGB())
+                .put((byte) style.stroke().dash().ordinal())
+                .putInt(style.fill().color().getRGB());
+            out.write(bytes.array(), 0, bytes.position());
+        }
+    }
+
+    /**
+     * Writes the names section.
+     * @param shapes Shapes
+     * @param out Section output
+     */
+    private static void names(final List<Shape<?>> shapes,
+        final ByteArrayOutputStream out) {
+        int named = 0;
+        for (final Shape<?> shape : shapes) {
+            if (!shape.anonymous()) {
+                named += 1;
+            }
+        }
+        Column.varint(named, out);
+        for (int idx = 0; idx < shapes.size(); ++idx) {
+            if (!shapes.get(idx).anonymous()) {
+                final byte[] name = shapes.get(idx).name().get()
+                    .getBytes(StandardCharsets.UTF_8);
+                Column.varint(idx, out);
+                Column.varint(name.length, out);
+                out.write(name, 0, name.length);
+            }
+        }
+    }
+
+    /**
+     * Writes the shape kinds section.
+     * @param snapshot Snapshot
+     * @param out Section output
+     */
+    private static void kinds(final Snapshot snapshot,
+        final ByteArrayOutputStream out) {
+        final int size = snapshot.shapes().size();
+        final byte[] kinds = new byte[size];
+        final int[] styles = new int[size];
+        final Layer[] layers = {
+            snapshot.points(), snapshot.segments(), snapshot.circles(),
+        };
+        for (int layer = 0; layer < layers.length; ++layer) {
+            for (int item = 0; item < layers[layer].size(); ++item) {
+                kinds[layers[layer].shape(item)] = (byte) (Packed.POINTS + layer);
+                styles[layers[layer].shape(item)] = layers[layer].style(item);
+            }
+        }
+        final Polylines lines = snapshot.polylines();
+        for (int item = 0; item < lines.size(); ++item) {
+            final int shape = lines.shape(item);
+            if (Pack.polygon(snapshot, shape)) {
+                kinds[shape] = (byte) Packed.POLYGONS;
+            } else {
+                kinds[shape] = (byte) Packed.POLYLINES;
+            }
+            styles[shape] = lines.style(item);
+        }
+        out.write(kinds, 0, size);
+        for (final int style : styles) {
+            Column.varint(style, out);
+        }
+    }
+
+    /**
+     * Writes the section of a layer of points, segments or circles.
+     * @param layer Layer
+     * @param stride Values per item
+     * @param column Coordinates codec
+     * @param out Section output
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static void layer(final Layer layer, final int stride,
+        final Column column, final ByteArrayOutputStream out) {
+        Column.varint(layer.size(), out);
+        final double[] values = new double[layer.size()];
+        for (int offset = 0; offset < stride; ++offset) {
+            for (int item = 0; item < values.length; ++item) {
+                values[item] = layer.value(item, offset);
+            }
+            column.write(values, out);
+        }
+    }
+
+    /**
+     * Writes the polylines section, polygons omitting their closing vertex.
+     * @param snapshot Snapshot
+     * @param column Coordinates codec
+     * @param out Section output
+     */
+    private static void lines(final Snapshot snapshot, final Column column,
+        final ByteArrayOutputStream out) {
+        final Polylines lines = snapshot.polylines();
+        Column.varint(lines.size(), out);
+        final int[] ends = new int[lines.size()];
+        int vertices = 0;
+        for (int item = 0; item < lines.size(); ++item) {
+            ends[item] = lines.until(item);
+            if (Pack.polygon(snapshot, lines.shape(item))) {
+                ends[item] -= 1;
+            }
+            Column.varint(ends[item] - lines.first(item), out);
+            vertices += ends[item] - lines.first(item);
+        }
+        final double[] xcoors = new double[vertices];
+        final double[] ycoors = new double[vertices];
+        int vertex = 0;
+        for (int item = 0; item < lines.size(); ++item) {
+            for (int idx = lines.first(item); idx < ends[item]; ++idx) {
+                xcoors[vertex] = lines.xcoor(idx);
+                ycoors[vertex] = lines.ycoor(idx);
+                vertex += 1;
+            }
+        }
+        column.write(xcoors, out);
+        column.write(ycoors, out);
+    }
+
+    /**
+     * Checks whether a shape of a snapshot is a polygon.
+     * @param snapshot Snapshot
+     * @param shape Shape index
+     * @return True if a polygon
+     */
+    private static boolean polygon(final Snapshot snapshot, final int shape) {
+        return snapshot.shapes().get(shape).renderable() instanceof Polygon;
+    }
+
+    /**
+     * Writes all the bytes of a buffer to a channel.
+     * @param bytes Bytes
+     * @param channel Channel
+     * @throws IOException if the channel cannot be written
+     */
+    private static void write(final ByteBuffer bytes, final FileChannel channel)
+        throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+}
@@ -0,0 +1,571 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.io;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableBiMap;
+import com.jeometry.model.decimal.DblCircle;
+import com.jeometry.model.decimal.DblPoint;
+import com.jeometry.twod.Figure;
+import com.jeometry.twod.Renderable;
+import com.jeometry.twod.Shape;
+import com.jeometry.twod.line.Polygon;
+import com.jeometry.twod.line.PtsPolyline;
+import com.jeometry.twod.segment.PtsSegment;
+import com.jeometry.twod.style.Dash;
+import com.jeometry.twod.style.Style;
+import com.jeometry.twod.style.impl.FixedColorFill;
+import com.jeometry.twod.style.impl.FixedStroke;
+import com.jeometry.twod.style.impl.FixedStyle;
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * A figure written by {@link Pack}, memory-mapped read only. Only the
+ * header is read up front: each section is decoded on first access to a
+ * shape needing it, and shapes are built on demand. Several processes
+ * mapping the same file share its pages.
+ *
+ * <p>The file starts with a header: magic number, format version,
+ * coordinates precision, count of shapes, and the offset and length of
+ * each section. Sections are, in order: interned styles, the string table
+ * of shape names, the kind and style index of each shape, then the
+ * coordinate columns of points, segments, circles and polylines. Each
+ * coordinate section starts with its count of items, and polylines with
+ * the count of vertices of each polyline, polygons omitting their closing
+ * vertex.</p>
+ * @since 0.4
+ */
+public final class Packed implements Iterable<Shape<?>> {
+
+    /**
+     * Magic number, "JEOF" in ASCII.
+     */
+    static final int MAGIC = 0x4A454F46;
+
+    /**
+     * Format version.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Styles section.
+     */
+    static final int STYLES = 0;
+
+    /**
+     * Names section.
+     */
+    static final int NAMES = 1;
+
+    /**
+     * Shape kinds section.
+     */
+    static final int KINDS = 2;
+
+    /**
+     * Points section, also kind of point shapes.
+     */
+    static final int POINTS = 3;
+
+    /**
+     * Segments section, also kind of segment shapes.
+     */
+    static final int SEGMENTS = 4;
+
+    /**
+     * Circles section, also kind of circle shapes.
+     */
+    static final int CIRCLES = 5;
+
+    /**
+     * Polylines section, also kind of polyline shapes.
+     */
+    static final int POLYLINES = 6;
+
+    /**
+     * Kind of polygon shapes, in the polylines section.
+     */
+    static final int POLYGONS = 7;
+
+    /**
+     * Count of sections.
+     */
+    static final int SECTIONS = 7;
+
+    /**
+     * Header size in bytes.
+     */
+    static final int HEADER = Integer.BYTES * (2 + 1) + Double.BYTES
+        + 2 * Long.BYTES * Packed.SECTIONS;
+
+    /**
+     * Count of coordinate columns of the points, segments and circles
+     * sections.
+     */
+    private static final int[] COLUMNS = {2, 2 + 2, 2 + 1};
+
+    /**
+     * Mapped file.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Coordinates codec.
+     */
+    private final Column column;
+
+    /**
+     * Count of shapes.
+     */
+    private final int count;
+
+    /**
+     * Offsets of the sections.
+     */
+    private final int[] offsets;
+
+    /**
+     * Interned styles.
+     */
+    private final Supplier<List<Style>> stls;
+
+    /**
+     * Shape names, by shape index.
+     */
+    private final Supplier<ImmutableBiMap<Integer, String>> names;
+
+    /**
+     * Shape kinds, styles and ranks in their section.
+     */
+    private final Supplier<Index> index;
+
+    /**
+     * Coordinate columns of the points, segments and circles sections.
+     */
+    private final List<Supplier<double[][]>> layers;
+
+    /**
+     * Polylines vertices.
+     */
+    private final Supplier<Lines> lines;
+
+    /**
+     * Constructor, mapping the file. Files are limited to 2 GiB.
+     * @param path File path
+     * @throws IOException if the file cannot be read or is not a figure
+     */
+    public Packed(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < Packed.HEADER
+                || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(
+                    String.format("Not a figure file of supported size: %s", path)
+                );
+            }
+            this.buffer = channel.map(
+                FileChannel.MapMode.READ_ONLY, 0, channel.size()
+            ).asReadOnlyBuffer();
+        }
+        if (this.buffer.getInt(0) != Packed.MAGIC) {
+            throw new IOException(String.format("Not a figure file: %s", path));
+        }
+        final int version = this.buffer.getInt(Integer.BYTES);
+        if (version != Packed.VERSION) {
+            throw new IOException(
+                String.format("Unsupported figure file version %d", version)
+            );
+        }
+        this.column = new Column(this.buffer.getDouble(2 * Integer.BYTES));
+        this.count = this.buffer.getInt(2 * Integer.BYTES + Double.BYTES);
+        this.offsets = new int[Packed.SECTIONS];
+        for (int section = 0; section < Packed.SECTIONS; ++section) {
+            final int at = Packed.HEADER - 2 * Long.BYTES
+                * (Packed.SECTIONS - section);
+            final long offset = this.buffer.getLong(at);
+            if (offset < Packed.HEADER
+                || offset + this.buffer.getLong(at + Long.BYTES)
+                > this.buffer.capacity()) {
+                throw new IOException(
+                    String.format("Truncated figure file: %s", path)
+                );
+            }
+            this.offsets[section] = (int) offset;
+        }
+        this.stls = Suppliers.memoize(
+            new Supplier<List<Style>>() {
+                @Override
+                public List<Style> get() {
+                    return Packed.this.decodeStyles();
+                }
+            }
+        );
+        this.names = Suppliers.memoize(
+            new Supplier<ImmutableBiMap<Integer, String>>() {
+                @Override
+                public ImmutableBiMap<Integer, String> get() {
+                    return Packed.this.decodeNames();
+                }
+            }
+        );
+        this.index = Suppliers.memoize(
+            new Supplier<Index>() {
+                @Override
+                public Index get() {
+                    return Packed.this.decodeIndex();
+                }
+            }
+        );
+        this.layers = new ArrayList<>(Packed.COLUMNS.length);
+        for (int layer = 0; layer < Packed.COLUMNS.length; ++layer) {
+            final int section = Packed.POINTS + layer;
+            this.layers.add(
+                Suppliers.memoize(
+                    new Supplier<double[][]>() {
+                        @Override
+                        public double[][] get() {
+                            return Packed.this.decodeLayer(section);
+                        }
+                    }
+                )
+            );
+        }
+        this.lines = Suppliers.memoize(
+            new Supplier<Lines>() {
+                @Override
+                public Lines get() {
+                    return Packed.this.decodeLines();
+                }
+            }
+        );
+    }
+
+    /**
+     * Gives the count of shapes.
+     * @return Count of shapes
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Gives the interned styles of the shapes.
+     * @return Styles
+     */
+    public List<Style> styles() {
+        return this.stls.get();
+    }
+
+    /**
+     * Builds a shape, decoding the sections it needs on first access.
+     * @param shape Shape index, in the figure adding order
+     * @return Shape
+     */
+    public Shape<?> shape(final int shape) {
+        Preconditions.checkElementIndex(shape, this.count);
+        final Index idx = this.index.get();
+        final int kind = idx.kinds[shape];
+        final int rank = idx.ranks[shape];
+        final Renderable renderable;
+        if (kind == Packed.POINTS) {
+            final double[][] cols = this.layers.get(0).get();
+            renderable = new DblPoint(cols[0][rank], cols[1][rank]);
+        } else if (kind == Packed.SEGMENTS) {
+            final double[][] cols = this.layers.get(1).get();
+            renderable = new PtsSegment<>(
+                new DblPoint(cols[0][rank], cols[1][rank]),
+                new DblPoint(cols[2][rank], cols[2 + 1][rank])
+            );
+        } else if (kind == Packed.CIRCLES) {
+            final double[][] cols = this.layers.get(2).get();
+            renderable = new DblCircle(
+                new DblPoint(cols[0][rank], cols[1][rank]), cols[2][rank]
+            );
+        } else {
+            final Lines vertices = this.lines.get();
+            final List<DblPoint> points = new ArrayList<>(
+                vertices.offsets[rank + 1] - vertices.offsets[rank]
+            );
+            for (int vertex = vertices.offsets[rank];
+                vertex < vertices.offsets[rank + 1]; ++vertex) {
+                points.add(
+                    new DblPoint(
+                        vertices.columns[0][vertex], vertices.columns[1][vertex]
+                    )
+                );
+            }
+            if (kind == Packed.POLYLINES) {
+                renderable = new PtsPolyline<>(points);
+            } else {
+                renderable = new Polygon<>(points);
+            }
+        }
+        return new Shape<>(
+            renderable, Optional.ofNullable(this.names.get().get(shape)),
+            this.styles().get(idx.styles[shape])
+        );
+    }
+
+    /**
+     * Builds a named shape.
+     * @param name Shape name
+     * @return Shape, if any with this name
+     */
+    public Optional<Shape<?>> shape(final String name) {
+        final Integer shape = this.names.get().inverse().get(name);
+        final Optional<Shape<?>> result;
+        if (shape == null) {
+            result = Optional.empty();
+        } else {
+            result = Optional.of(this.shape(shape));
+        }
+        return result;
+    }
+
+    /**
+     * Builds a figure of all the shapes.
+     * @return Figure
+     */
+    public Figure figure() {
+        final Figure result = new Figure();
+        for (final Shape<?> shape : this) {
+            result.add(shape);
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<Shape<?>> iterator() {
+        return new Iterator<Shape<?>>() {
+            /**
+             * Next shape index.
+             */
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return this.next < Packed.this.count;
+            }
+
+            @Override
+            public Shape<?> next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                this.next += 1;
+                return Packed.this.shape(this.next - 1);
+            }
+        };
+    }
+
+    /**
+     * Decodes the styles section.
+     * @return Styles
+     */
+    private List<Style> decodeStyles() {
+        final ByteBuffer in = this.section(Packed.STYLES);
+        final int size = (int) Column.varint(in);
+        final List<Style> result = new ArrayList<>(size);
+        for (int idx = 0; idx < size; ++idx) {
+            final float width = in.getFloat();
+            final Color stroke = new Color(in.getInt(), true);
+            final Dash dash = Dash.values()[in.get()];
+            result.add(
+                new FixedStyle(
+                    new FixedStroke(stroke, dash, width),
+                    new FixedColorFill(new Color(in.getInt(), true))
+                )
+            );
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Decodes the names section.
+     * @return Names by shape index
+     */
+    private ImmutableBiMap<Integer, String> decodeNames() {
+        final ByteBuffer in = this.section(Packed.NAMES);
+        final int size = (int) Column.varint(in);
+        final ImmutableBiMap.Builder<Integer, String> result =
+            ImmutableBiMap.builder();
+        for (int idx = 0; idx < size; ++idx) {
+            final int shape = (int) Column.varint(in);
+            final byte[] bytes = new byte[(int) Column.varint(in)];
+            in.get(bytes);
+            result.put(shape, new String(bytes, StandardCharsets.UTF_8));
+        }
+        return result.build();
+    }
+
+    /**
+     * Decodes the shape kinds section.
+     * @return Shape kinds, styles and ranks
+     */
+    private Index decodeIndex() {
+        final ByteBuffer in = this.section(Packed.KINDS);
+        final byte[] kinds = new byte[this.count];
+        in.get(kinds);
+        final int[] styles = new int[this.count];
+        final int[] ranks = new int[this.count];
+        final int[] sizes = new int[Packed.SECTIONS];
+        for (int shape = 0; shape < this.count; ++shape) {
+            styles[shape] = (int) Column.varint(in);
+            Preconditions.checkArgument(
+                kinds[shape] >= Packed.POINTS && kinds[shape] <= Packed.POLYGONS,
+                "Unknown shape kind %s", kinds[shape]
+            );
+            int section = kinds[shape];
+            if (section == Packed.POLYGONS) {
+                section = Packed.POLYLINES;
+            }
+            ranks[shape] = sizes[section];
+            sizes[section] += 1;
+        }
+        return new Index(kinds, styles, ranks);
+    }
+
+    /**
+     * Decodes the coordinate columns of a points, segments or circles
+     * section.
+     * @param section Section
+     * @return Coordinate columns
+     */
+    private double[][] decodeLayer(final int section) {
+        final ByteBuffer in = this.section(section);
+        final int size = (int) Column.varint(in);
+        final double[][] result =
+            new double[Packed.COLUMNS[section - Packed.POINTS]][];
+        for (int col = 0; col < result.length; ++col) {
+            result[col] = this.column.read(size, in);
+        }
+        return result;
+    }
+
+    /**
+     * Decodes the polylines section.
+     * @return Polylines vertices
+     */
+    private Lines decodeLines() {
+        final ByteBuffer in = this.section(Packed.POLYLINES);
+        final int size = (int) Column.varint(in);
+        final int[] offsets = new int[size + 1];
+        for (int item = 0; item < size; ++item) {
+            offsets[item + 1] = offsets[item] + (int) Column.varint(in);
+        }
+        final int vertices = offsets[size];
+        return new Lines(
+            offsets,
+            new double[][] {
+                this.column.read(vertices, in), this.column.read(vertices, in),
+            }
+        );
+    }
+
+    /**
+     * Gives a view of the file at a section start.
+     * @param section Section
+     * @return Section bytes
+     */
+    private ByteBuffer section(final int section) {
+        final ByteBuffer result = this.buffer.duplicate();
+        result.position(this.offsets[section]);
+        return result;
+    }
+
+    /**
+     * Kinds, styles and ranks in their section of the shapes.
+     * @since 0.4
+     */
+    private static final class Index {
+
+        /**
+         * Shape kinds.
+         */
+        private final byte[] kinds;
+
+        /**
+         * Shape style indexes.
+         */
+        private final int[] styles;
+
+        /**
+         * Shape ranks in their section.
+         */
+        private final int[] ranks;
+
+        /**
+         * Constructor.
+         * @param kinds Shape kinds
+         * @param styles Shape style indexes
+         * @param ranks Shape ranks in their section
+         */
+        Index(final byte[] kinds, final int[] styles, final int[] ranks) {
+            this.kinds = kinds;
+            this.styles = styles;
+            this.ranks = ranks;
+        }
+    }
+
+    /**
+     * Polylines vertices.
+     * @since 0.4
+     */
+    private static final class Lines {
+
+        /**
+         * First vertex of each polyline, and vertices count.
+         */
+        private final int[] offsets;
+
+        /**
+         * Vertices X and Y columns.
+         */
+        private final double[][] columns;
+
+        /**
+         * Constructor.
+         * @param offsets First vertex of each polyline, and vertices count
+         * @param columns Vertices X and Y columns
+         */
+        Lines(final int[] offsets, final double[][] columns) {
+            this.offsets = offsets;
+            this.columns = columns;
+        }
+    }
+
+}
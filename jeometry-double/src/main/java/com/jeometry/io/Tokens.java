@@ -0,0 +1,310 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.io;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A scanner over the ASCII bytes of a single text record, reading keywords,
+ * punctuation and decimal numbers in place, without a string per token.
+ * Numbers with at most 15 significant digits and a small decimal exponent
+ * are converted exactly with a single multiplication or division; other
+ * numbers fall back to {@link Double#parseDouble(String)}.
+ * @since 0.4
+ */
+final class Tokens {
+
+    /**
+     * Exact powers of ten as doubles.
+     */
+    private static final double[] POWERS = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22,
+    };
+
+    /**
+     * Largest mantissa exactly represented as a double.
+     */
+    private static final long EXACT = 1L << 53;
+
+    /**
+     * Maximum count of significant digits accumulated in a long.
+     */
+    private static final int DIGITS = 18;
+
+    /**
+     * Decimal radix.
+     */
+    private static final int TEN = 10;
+
+    /**
+     * Text bytes.
+     */
+    private final byte[] bytes;
+
+    /**
+     * Index of the record first byte.
+     */
+    private final int from;
+
+    /**
+     * Index past the record last byte.
+     */
+    private final int until;
+
+    /**
+     * Current index.
+     */
+    private int pos;
+
+    /**
+     * Constructor.
+     * @param bytes Text bytes
+     * @param from Index of the record first byte
+     * @param until Index past the record last byte
+     */
+    Tokens(final byte[] bytes, final int from, final int until) {
+        this.bytes = bytes;
+        this.from = from;
+        this.until = until;
+        this.pos = from;
+    }
+
+    /**
+     * Checks whether only blanks remain.
+     * @return True if the record is consumed
+     */
+    public boolean done() {
+        this.blanks();
+        return this.pos >= this.until;
+    }
+
+    /**
+     * Peeks at the next non blank character.
+     * @return Next character, or zero at the end of the record
+     */
+    public char peek() {
+        this.blanks();
+        final char result;
+        if (this.pos < this.until) {
+            result = (char) this.bytes[this.pos];
+        } else {
+            result = 0;
+        }
+        return result;
+    }
+
+    /**
+     * Consumes the next non blank character if it is the given one.
+     * @param chr Expected character
+     * @return True if consumed
+     */
+    public boolean accept(final char chr) {
+        final boolean result = this.peek() == chr;
+        if (result) {
+            this.pos += 1;
+        }
+        return result;
+    }
+
+    /**
+     * Consumes the given next non blank character.
+     * @param chr Expected character
+     */
+    public void expect(final char chr) {
+        if (!this.accept(chr)) {
+            throw this.error(String.format("'%c' expected", chr));
+        }
+    }
+
+    /**
+     * Consumes a keyword if it is next, ignoring case. The keyword must not
+     * be followed by a letter.
+     * @param keyword Upper case keyword
+     * @return True if consumed
+     */
+    public boolean word(final String keyword) {
+        this.blanks();
+        final int end = this.pos + keyword.length();
+        boolean result = end <= this.until
+            && (end == this.until || !Tokens.letter(this.bytes[end]));
+        for (int idx = 0; result && idx < keyword.length(); ++idx) {
+            result = Character.toUpperCase((char) this.bytes[this.pos + idx])
+                == keyword.charAt(idx);
+        }
+        if (result) {
+            this.pos = end;
+        }
+        return result;
+    }
+
+    /**
+     * Reads a decimal number.
+     * @return Number value
+     */
+    public double number() {
+        this.blanks();
+        final int start = this.pos;
+        boolean negative = false;
+        if (this.pos < this.until
+            && (this.bytes[this.pos] == '-' || this.bytes[this.pos] == '+')) {
+            negative = this.bytes[this.pos] == '-';
+            this.pos += 1;
+        }
+        long mantissa = 0;
+        int significant = 0;
+        int scale = 0;
+        int count = 0;
+        boolean fraction = false;
+        while (this.pos < this.until) {
+            final byte chr = this.bytes[this.pos];
+            if (chr == '.' && !fraction) {
+                fraction = true;
+            } else if (Tokens.digit(chr)) {
+                count += 1;
+                if (significant < Tokens.DIGITS) {
+                    mantissa = mantissa * Tokens.TEN + chr - '0';
+                    if (mantissa > 0) {
+                        significant += 1;
+                    }
+                    if (fraction) {
+                        scale -= 1;
+                    }
+                } else {
+                    significant += 1;
+                    if (!fraction) {
+                        scale += 1;
+                    }
+                }
+            } else {
+                break;
+            }
+            this.pos += 1;
+        }
+        if (count == 0) {
+            this.pos = start;
+            throw this.error("Number expected");
+        }
+        int exponent = 0;
+        if (this.pos < this.until
+            && (this.bytes[this.pos] == 'e' || this.bytes[this.pos] == 'E')) {
+            this.pos += 1;
+            exponent = this.exponent();
+        }
+        final int power = scale + exponent;
+        double result;
+        if (significant <= Tokens.DIGITS && mantissa < Tokens.EXACT
+            && Math.abs(power) < Tokens.POWERS.length) {
+            result = mantissa;
+            if (power < 0) {
+                result /= Tokens.POWERS[-power];
+            } else {
+                result *= Tokens.POWERS[power];
+            }
+            if (negative) {
+                result = -result;
+            }
+        } else {
+            result = Double.parseDouble(
+                new String(
+                    this.bytes, start, this.pos - start, StandardCharsets.US_ASCII
+                )
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Builds a parsing error at the current position.
+     * @param message Error message
+     * @return Error
+     */
+    public IllegalArgumentException error(final String message) {
+        return new IllegalArgumentException(
+            String.format(
+                "%s at column %d in \"%s\"", message, this.pos - this.from + 1,
+                new String(
+                    this.bytes, this.from, this.until - this.from,
+                    StandardCharsets.US_ASCII
+                )
+            )
+        );
+    }
+
+    /**
+     * Reads a decimal exponent.
+     * @return Exponent value
+     */
+    private int exponent() {
+        boolean negative = false;
+        if (this.pos < this.until
+            && (this.bytes[this.pos] == '-' || this.bytes[this.pos] == '+')) {
+            negative = this.bytes[this.pos] == '-';
+            this.pos += 1;
+        }
+        if (this.pos >= this.until || !Tokens.digit(this.bytes[this.pos])) {
+            throw this.error("Exponent expected");
+        }
+        int result = 0;
+        while (this.pos < this.until && Tokens.digit(this.bytes[this.pos])) {
+            result = Math.min(
+                result * Tokens.TEN + this.bytes[this.pos] - '0', Short.MAX_VALUE
+            );
+            this.pos += 1;
+        }
+        if (negative) {
+            result = -result;
+        }
+        return result;
+    }
+
+    /**
+     * Skips blanks.
+     */
+    private void blanks() {
+        while (this.pos < this.until
+            && (this.bytes[this.pos] == ' ' || this.bytes[this.pos] == '\t')) {
+            this.pos += 1;
+        }
+    }
+
+    /**
+     * Checks whether a byte is a decimal digit.
+     * @param chr Byte
+     * @return True if a digit
+     */
+    private static boolean digit(final byte chr) {
+        return chr >= '0' && chr <= '9';
+    }
+
+    /**
+     * Checks whether a byte is an ASCII letter.
+     * @param chr Byte
+     * @return True if a letter
+     */
+    private static boolean letter(final byte chr) {
+        return chr >= 'a' && chr <= 'z' || chr >= 'A' && chr <= 'Z';
+    }
+
+}
@@ -0,0 +1,215 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.io;
+
+import com.jeometry.model.decimal.DblPoint;
+import com.jeometry.twod.Renderable;
+import com.jeometry.twod.line.Polygon;
+import com.jeometry.twod.line.PtsPolyline;
+import com.jeometry.twod.segment.PtsSegment;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Well-known text format, with a geometry per line. Points give
+ * {@link DblPoint}, line strings of two points give {@link PtsSegment} and
+ * longer ones {@link PtsPolyline}, and polygons give the {@link Polygon} of
+ * their exterior ring, without its closing point. Interior rings are not
+ * represented by {@link Polygon} and are skipped. Multi geometries and
+ * collections give all their members, empty geometries give nothing, and Z
+ * and M coordinates are ignored.
+ * @since 0.4
+ */
+public final class Wkt implements Format {
+
+    @Override
+    public void parse(final byte[] bytes, final int from, final int until,
+        final List<Renderable> into) {
+        final Tokens tokens = new Tokens(bytes, from, until);
+        if (!tokens.done()) {
+            Wkt.geometry(tokens, into);
+            if (!tokens.done()) {
+                throw tokens.error("End of geometry expected");
+            }
+        }
+    }
+
+    /**
+     * Parses a tagged geometry.
+     * @param tokens Tokens
+     * @param into Renderables to add to
+     */
+    private static void geometry(final Tokens tokens,
+        final List<Renderable> into) {
+        if (tokens.word("POINT")) {
+            if (Wkt.open(tokens)) {
+                into.add(Wkt.point(tokens));
+                tokens.expect(')');
+            }
+        } else if (tokens.word("LINESTRING")) {
+            if (Wkt.open(tokens)) {
+                into.add(Wkt.linestring(tokens));
+            }
+        } else if (tokens.word("POLYGON")) {
+            if (Wkt.open(tokens)) {
+                into.add(Wkt.polygon(tokens));
+            }
+        } else if (tokens.word("MULTIPOINT")) {
+            Wkt.multipoint(tokens, into);
+        } else if (tokens.word("MULTILINESTRING")) {
+            if (Wkt.open(tokens)) {
+                do {
+                    tokens.expect('(');
+                    into.add(Wkt.linestring(tokens));
+                } while (tokens.accept(','));
+                tokens.expect(')');
+            }
+        } else if (tokens.word("MULTIPOLYGON")) {
+            if (Wkt.open(tokens)) {
+                do {
+                    tokens.expect('(');
+                    into.add(Wkt.polygon(tokens));
+                } while (tokens.accept(','));
+                tokens.expect(')');
+            }
+        } else if (tokens.word("GEOMETRYCOLLECTION")) {
+            if (Wkt.open(tokens)) {
+                do {
+                    Wkt.geometry(tokens, into);
+                } while (tokens.accept(','));
+                tokens.expect(')');
+            }
+        } else {
+            throw tokens.error("Geometry type expected");
+        }
+    }
+
+    /**
+     * Parses the multi points members.
+     * @param tokens Tokens, past the geometry type
+     * @param into Renderables to add to
+     */
+    private static void multipoint(final Tokens tokens,
+        final List<Renderable> into) {
+        if (Wkt.open(tokens)) {
+            do {
+                if (tokens.accept('(')) {
+                    into.add(Wkt.point(tokens));
+                    tokens.expect(')');
+                } else if (!tokens.word("EMPTY")) {
+                    into.add(Wkt.point(tokens));
+                }
+            } while (tokens.accept(','));
+            tokens.expect(')');
+        }
+    }
+
+    /**
+     * Parses the line string points, up to the closing parenthesis.
+     * @param tokens Tokens, past the opening parenthesis
+     * @return Segment or polyline
+     */
+    private static Renderable linestring(final Tokens tokens) {
+        final List<DblPoint> points = Wkt.points(tokens);
+        if (points.size() < 2) {
+            throw tokens.error("Two points at least expected");
+        }
+        final Renderable result;
+        if (points.size() == 2) {
+            result = new PtsSegment<>(points.get(0), points.get(1));
+        } else {
+            result = new PtsPolyline<>(points);
+        }
+        return result;
+    }
+
+    /**
+     * Parses the polygon rings, up to the closing parenthesis.
+     * @param tokens Tokens, past the opening parenthesis
+     * @return Polygon of the exterior ring
+     */
+    private static Renderable polygon(final Tokens tokens) {
+        tokens.expect('(');
+        final List<DblPoint> points = Wkt.points(tokens);
+        while (tokens.accept(',')) {
+            tokens.expect('(');
+            Wkt.points(tokens);
+        }
+        tokens.expect(')');
+        if (points.size() > 1
+            && points.get(0).equals(points.get(points.size() - 1))) {
+            points.remove(points.size() - 1);
+        }
+        if (points.isEmpty()) {
+            throw tokens.error("Ring points expected");
+        }
+        return new Polygon<>(points);
+    }
+
+    /**
+     * Parses points separated by commas, up to the closing parenthesis.
+     * @param tokens Tokens, past the opening parenthesis
+     * @return Points
+     */
+    private static List<DblPoint> points(final Tokens tokens) {
+        final List<DblPoint> result = new ArrayList<>(2 + 2);
+        do {
+            result.add(Wkt.point(tokens));
+        } while (tokens.accept(','));
+        tokens.expect(')');
+        return result;
+    }
+
+    /**
+     * Parses point coordinates, ignoring Z and M coordinates.
+     * @param tokens Tokens
+     * @return Point
+     */
+    private static DblPoint point(final Tokens tokens) {
+        final double xcoor = tokens.number();
+        final double ycoor = tokens.number();
+        while (tokens.peek() != ',' && tokens.peek() != ')' && !tokens.done()) {
+            tokens.number();
+        }
+        return new DblPoint(xcoor, ycoor);
+    }
+
+    /**
+     * Parses the optional dimensions and the opening parenthesis of a
+     * geometry, or the empty keyword.
+     * @param tokens Tokens, past the geometry type
+     * @return True if the geometry is not empty
+     */
+    private static boolean open(final Tokens tokens) {
+        if (!tokens.word("ZM") && !tokens.word("Z")) {
+            tokens.word("M");
+        }
+        final boolean result = !tokens.word("EMPTY");
+        if (result) {
+            tokens.expect('(');
+        }
+        return result;
+    }
+
+}
@@ -25,13 +25,15 @@ package com.jeometry.model.decimal;
 
 import com.aljebra.field.impl.doubles.Decimal;
 import com.aljebra.scalar.Scalar;
+import com.jeometry.twod.bounds.Bounded;
+import com.jeometry.twod.bounds.Box;
 import com.jeometry.twod.point.XyPoint;
 
 /**
  * Represents a 2D vector defined by (x,y) double coordinates.
  * @since 0.1
  */
-public final class DblPoint extends XyPoint<Double> {
+public final class DblPoint extends XyPoint<Double> implements Bounded {
 
     /**
      * Constructor.
@@ -58,6 +60,11 @@ public final class DblPoint extends XyPoint<Double> {
         return DblPoint.value(this.ycoor());
     }
 
+    @Override
+    public Box box() {
+        return new Box(this.dblx(), this.dbly());
+    }
+
     /**
      * Returns actual double value.
      * @param scalar Scalar
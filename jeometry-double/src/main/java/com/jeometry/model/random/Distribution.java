@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.model.random;
+
+import com.google.common.base.Preconditions;
+import java.util.SplittableRandom;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * A distribution of random double values, sampled from a given source of
+ * randomness so that samples are reproducible from its seed.
+ * @since 0.4
+ */
+public interface Distribution {
+
+    /**
+     * Samples a value.
+     * @param random Source of randomness
+     * @return Sampled value
+     */
+    double sample(SplittableRandom random);
+
+    /**
+     * Uniform distribution over a range.
+     * @since 0.4
+     */
+    @ToString(includeFieldNames = false)
+    @EqualsAndHashCode
+    final class Uniform implements Distribution {
+
+        /**
+         * Range lower bound.
+         */
+        private final double min;
+
+        /**
+         * Range upper bound.
+         */
+        private final double max;
+
+        /**
+         * Constructor.
+         * @param min Range lower bound (inclusive)
+         * @param max Range upper bound (exclusive)
+         */
+        public Uniform(final double min, final double max) {
+            Preconditions.checkArgument(
+                min < max, "Empty range [%s, %s)", min, max
+            );
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public double sample(final SplittableRandom random) {
+            return random.nextDouble(this.min, this.max);
+        }
+    }
+
+    /**
+     * Normal distribution, sampled with the Box-Muller transform.
+     * @since 0.4
+     */
+    @ToString(includeFieldNames = false)
+    @EqualsAndHashCode
+    final class Normal implements Distribution {
+
+        /**
+         * Mean.
+         */
+        private final double mean;
+
+        /**
+         * Standard deviation.
+         */
+        private final double deviation;
+
+        /**
+         * Constructor.
+         * @param mean Mean
+         * @param deviation Standard deviation
+         */
+        public Normal(final double mean, final double deviation) {
+            Preconditions.checkArgument(
+                deviation >= 0., "Negative standard deviation %s", deviation
+            );
+            this.mean = mean;
+            this.deviation = deviation;
+        }
+
+        @Override
+        public double sample(final SplittableRandom random) {
+            final double radius = Math.sqrt(-2. * Math.log(1. - random.nextDouble()));
+            return this.mean + this.deviation * radius
+                * Math.cos(2. * Math.PI * random.nextDouble());
+        }
+    }
+
+}
@@ -0,0 +1,553 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.model.random;
+
+import com.aljebra.field.Field;
+import com.aljebra.field.impl.doubles.Block;
+import com.aljebra.field.impl.doubles.Parallelism;
+import com.google.common.base.Preconditions;
+import com.jeometry.model.decimal.DblCircle;
+import com.jeometry.model.decimal.DblPoint;
+import com.jeometry.twod.Figure;
+import com.jeometry.twod.Renderable;
+import com.jeometry.twod.Shape;
+import com.jeometry.twod.line.Polygon;
+import com.jeometry.twod.line.PtsPolyline;
+import com.jeometry.twod.segment.PtsSegment;
+import com.jeometry.twod.snapshot.Snapshot;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded generator of random shapes with double coordinates, for load and
+ * property testing. Each shape is drawn from its own source of randomness,
+ * seeded from the generator seed and the shape index, so that shapes are
+ * generated in parallel and a given seed always gives the same shapes
+ * whatever the parallelism. Shape kinds are drawn according to weights,
+ * coordinates and lengths according to distributions, and a given rate of
+ * shapes is degenerate: points on the integer grid, point segments, circles
+ * of null radius, and polylines and polygons with collinear vertices.
+ * Instances are immutable, settings are changed by copy.
+ * @since 0.4
+ */
+public final class Generator {
+
+    /**
+     * Golden ratio increment spreading shape indexes.
+     */
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Default maximum count of polyline and polygon vertices.
+     */
+    private static final int VERTICES = 8;
+
+    /**
+     * Seed.
+     */
+    private final long seed;
+
+    /**
+     * Kinds weights, by kind ordinal.
+     */
+    private final double[] weights;
+
+    /**
+     * Coordinates distribution.
+     */
+    private final Distribution coords;
+
+    /**
+     * Lengths and radiuses distribution.
+     */
+    private final Distribution lengths;
+
+    /**
+     * Rate of degenerate shapes.
+     */
+    private final double rate;
+
+    /**
+     * Maximum count of polyline and polygon vertices.
+     */
+    private final int vertices;
+
+    /**
+     * Parallelism settings.
+     */
+    private final Parallelism parallel;
+
+    /**
+     * Constructor. Generates all kinds of shapes evenly, with coordinates
+     * uniform in [0, 1000), lengths uniform in [1, 100), up to 8 vertices,
+     * no degenerate shapes, and in parallel above 8192 shapes.
+     * @param seed Seed
+     */
+    public Generator(final long seed) {
+        this(
+            seed, Generator.even(),
+            new Distribution.Uniform(0., 1000.), new Distribution.Uniform(1., 100.),
+            0., Generator.VERTICES, new Parallelism()
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param seed Seed
+     * @param weights Kinds weights, by kind ordinal
+     * @param coords Coordinates distribution
+     * @param lengths Lengths and radiuses distribution
+     * @param rate Rate of degenerate shapes
+     * @param vertices Maximum count of polyline and polygon vertices
+     * @param parallel Parallelism settings
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    private Generator(final long seed, final double[] weights,
+        final Distribution coords, final Distribution lengths, final double rate,
+        final int vertices, final Parallelism parallel) {
+        this.seed = seed;
+        this.weights = weights;
+        this.coords = coords;
+        this.lengths = lengths;
+        this.rate = rate;
+        this.vertices = vertices;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Copies this generator with the weight of a shape kind changed.
+     * @param kind Shape kind
+     * @param weight Weight, zero to never generate the kind
+     * @return Generator
+     */
+    public Generator weight(final Kind kind, final double weight) {
+        Preconditions.checkArgument(
+            weight >= 0., "Negative weight %s for %s", weight, kind
+        );
+        final double[] copy = this.weights.clone();
+        copy[kind.ordinal()] = weight;
+        Preconditions.checkArgument(
+            Arrays.stream(copy).sum() > 0., "All kinds weights are null"
+        );
+        return new Generator(
+            this.seed, copy, this.coords, this.lengths, this.rate,
+            this.vertices, this.parallel
+        );
+    }
+
+    /**
+     * Copies this generator with other coordinates and lengths
+     * distributions. Lengths are taken in absolute value.
+     * @param coordinates Coordinates distribution
+     * @param lens Lengths and radiuses distribution
+     * @return Generator
+     */
+    public Generator distributions(final Distribution coordinates,
+        final Distribution lens) {
+        return new Generator(
+            this.seed, this.weights, coordinates, lens, this.rate,
+            this.vertices, this.parallel
+        );
+    }
+
+    /**
+     * Copies this generator with another rate of degenerate shapes.
+     * @param degeneracy Rate of degenerate shapes, between 0 and 1
+     * @return Generator
+     */
+    public Generator degeneracy(final double degeneracy) {
+        Preconditions.checkArgument(
+            degeneracy >= 0. && degeneracy <= 1.,
+            "Degeneracy rate %s is not between 0 and 1", degeneracy
+        );
+        return new Generator(
+            this.seed, this.weights, this.coords, this.lengths, degeneracy,
+            this.vertices, this.parallel
+        );
+    }
+
+    /**
+     * Copies this generator with another maximum count of polyline and
+     * polygon vertices.
+     * @param max Maximum count of vertices, at least 3
+     * @return Generator
+     */
+    public Generator vertices(final int max) {
+        Preconditions.checkArgument(
+            max > 2, "Maximum count of vertices should be at least 3, got %s", max
+        );
+        return new Generator(
+            this.seed, this.weights, this.coords, this.lengths, this.rate,
+            max, this.parallel
+        );
+    }
+
+    /**
+     * Copies this generator with other parallelism settings. Generated
+     * shapes do not depend on them.
+     * @param settings Parallelism settings
+     * @return Generator
+     */
+    public Generator parallel(final Parallelism settings) {
+        return new Generator(
+            this.seed, this.weights, this.coords, this.lengths, this.rate,
+            this.vertices, settings
+        );
+    }
+
+    /**
+     * Generates the shape of a given index.
+     * @param index Shape index
+     * @return Shape
+     */
+    public Renderable shape(final long index) {
+        final SplittableRandom random = this.random(index);
+        final boolean degenerate = random.nextDouble() < this.rate;
+        final Renderable result;
+        switch (this.kind(random)) {
+            case POINT:
+                result = this.point(random, degenerate);
+                break;
+            case SEGMENT:
+                result = this.segment(random, degenerate);
+                break;
+            case CIRCLE:
+                result = this.circle(random, degenerate);
+                break;
+            case POLYLINE:
+                result = new PtsPolyline<>(this.vertices(random, degenerate, 2));
+                break;
+            default:
+                result = new Polygon<>(this.polygon(random, degenerate));
+                break;
+        }
+        return result;
+    }
+
+    /**
+     * Generates shapes, in parallel.
+     * @param count Count of shapes
+     * @return Shapes, by index
+     */
+    public List<Renderable> shapes(final int count) {
+        Preconditions.checkArgument(
+            count >= 0, "Negative count of shapes %s", count
+        );
+        final Renderable[] result = new Renderable[count];
+        this.parallel.apply(
+            new Block() {
+                @Override
+                public void apply(final int from, final int until) {
+                    for (int idx = from; idx < until; ++idx) {
+                        result[idx] = Generator.this.shape(idx);
+                    }
+                }
+            },
+            count
+        );
+        return Arrays.asList(result);
+    }
+
+    /**
+     * Generates a figure of anonymous shapes, added in index order.
+     * @param count Count of shapes
+     * @return Figure
+     */
+    public Figure figure(final int count) {
+        final Figure result = new Figure();
+        for (final Renderable shape : this.shapes(count)) {
+            result.add(shape);
+        }
+        return result;
+    }
+
+    /**
+     * Generates a frozen snapshot of shapes, without building a figure.
+     * @param count Count of shapes
+     * @param field Field to resolve coordinates with
+     * @return Snapshot
+     */
+    public Snapshot snapshot(final int count, final Field<Double> field) {
+        final List<Shape<?>> shapes = new ArrayList<>(count);
+        for (final Renderable shape : this.shapes(count)) {
+            shapes.add(new Shape<>(shape));
+        }
+        return new Snapshot(shapes, field);
+    }
+
+    /**
+     * Generates packed point coordinates, in parallel. The point of index
+     * N is drawn from the same source as the shape of index N, and is
+     * degenerate at the same rate, but regardless of the kinds weights.
+     * @param count Count of points
+     * @return Coordinates, X and Y of each point
+     */
+    public double[] points(final int count) {
+        Preconditions.checkArgument(
+            count >= 0, "Negative count of points %s", count
+        );
+        final double[] result = new double[2 * count];
+        this.parallel.apply(
+            new Block() {
+                @Override
+                public void apply(final int from, final int until) {
+                    for (int idx = from; idx < until; ++idx) {
+                        final SplittableRandom random = Generator.this.random(idx);
+                        final boolean degenerate =
+                            random.nextDouble() < Generator.this.rate;
+                        result[2 * idx] = Generator.this.coordinate(random, degenerate);
+                        result[2 * idx + 1] =
+                            Generator.this.coordinate(random, degenerate);
+                    }
+                }
+            },
+            count
+        );
+        return result;
+    }
+
+    /**
+     * Gives the source of randomness of a shape index.
+     * @param index Shape index
+     * @return Source of randomness
+     */
+    private SplittableRandom random(final long index) {
+        long mixed = this.seed + (index + 1) * Generator.GOLDEN;
+        mixed = (mixed ^ mixed >>> 30) * 0xBF58476D1CE4E5B9L;
+        mixed = (mixed ^ mixed >>> 27) * 0x94D049BB133111EBL;
+        return new SplittableRandom(mixed ^ mixed >>> 31);
+    }
+
+    /**
+     * Draws a shape kind according to the weights. Rounding errors fall
+     * back to the last kind of positive weight.
+     * @param random Source of randomness
+     * @return Shape kind
+     */
+    private Kind kind(final SplittableRandom random) {
+        double draw = random.nextDouble() * Arrays.stream(this.weights).sum();
+        int result = 0;
+        for (int idx = 0; idx < this.weights.length; ++idx) {
+            if (this.weights[idx] > 0.) {
+                result = idx;
+                if (draw < this.weights[idx]) {
+                    break;
+                }
+                draw -= this.weights[idx];
+            }
+        }
+        return Kind.values()[result];
+    }
+
+    /**
+     * Generates a point.
+     * @param random Source of randomness
+     * @param degenerate Whether to generate a degenerate point
+     * @return Point
+     */
+    private DblPoint point(final SplittableRandom random,
+        final boolean degenerate) {
+        return new DblPoint(
+            this.coordinate(random, degenerate), this.coordinate(random, degenerate)
+        );
+    }
+
+    /**
+     * Generates a segment of random direction.
+     * @param random Source of randomness
+     * @param degenerate Whether to generate a point segment
+     * @return Segment
+     */
+    private PtsSegment<Double> segment(final SplittableRandom random,
+        final boolean degenerate) {
+        final DblPoint start = this.point(random, degenerate);
+        final DblPoint end;
+        if (degenerate) {
+            end = new DblPoint(start.dblx(), start.dbly());
+        } else {
+            end = Generator.step(start, this.length(random), random.nextDouble());
+        }
+        return new PtsSegment<>(start, end);
+    }
+
+    /**
+     * Generates a circle.
+     * @param random Source of randomness
+     * @param degenerate Whether to generate a circle of null radius
+     * @return Circle
+     */
+    private DblCircle circle(final SplittableRandom random,
+        final boolean degenerate) {
+        final DblPoint center = this.point(random, degenerate);
+        final double radius;
+        if (degenerate) {
+            radius = 0.;
+        } else {
+            radius = this.length(random);
+        }
+        return new DblCircle(center, radius);
+    }
+
+    /**
+     * Generates the vertices of a random walk. Degenerate walks go back
+     * and forth along a single direction, repeating some vertices.
+     * @param random Source of randomness
+     * @param degenerate Whether to generate collinear vertices
+     * @param min Minimum count of vertices
+     * @return Vertices
+     */
+    private List<DblPoint> vertices(final SplittableRandom random,
+        final boolean degenerate, final int min) {
+        final int count = random.nextInt(min, this.vertices + 1);
+        final List<DblPoint> result = new ArrayList<>(count);
+        result.add(this.point(random, degenerate));
+        final double turn = random.nextDouble();
+        for (int idx = 1; idx < count; ++idx) {
+            final DblPoint last = result.get(idx - 1);
+            if (degenerate) {
+                result.add(
+                    Generator.step(
+                        last, this.length(random) * (random.nextInt(2 + 1) - 1), turn
+                    )
+                );
+            } else {
+                result.add(Generator.step(last, this.length(random), random.nextDouble()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Generates the vertices of a polygon. Polygons are star-shaped around
+     * their first drawn point, with vertices at increasing angles, so that
+     * they do not self-intersect.
+     * @param random Source of randomness
+     * @param degenerate Whether to generate collinear vertices
+     * @return Vertices
+     */
+    private List<DblPoint> polygon(final SplittableRandom random,
+        final boolean degenerate) {
+        final List<DblPoint> result;
+        if (degenerate) {
+            result = this.vertices(random, true, 2 + 1);
+        } else {
+            final DblPoint center = this.point(random, false);
+            final int count = random.nextInt(2 + 1, this.vertices + 1);
+            final double[] turns = new double[count];
+            for (int idx = 0; idx < count; ++idx) {
+                turns[idx] = random.nextDouble();
+            }
+            Arrays.sort(turns);
+            result = new ArrayList<>(count);
+            for (final double turn : turns) {
+                result.add(Generator.step(center, this.length(random), turn));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Draws a coordinate.
+     * @param random Source of randomness
+     * @param degenerate Whether to round it to the integer grid
+     * @return Coordinate
+     */
+    private double coordinate(final SplittableRandom random,
+        final boolean degenerate) {
+        double result = this.coords.sample(random);
+        if (degenerate) {
+            result = Math.rint(result);
+        }
+        return result;
+    }
+
+    /**
+     * Draws a length.
+     * @param random Source of randomness
+     * @return Non negative length
+     */
+    private double length(final SplittableRandom random) {
+        return Math.abs(this.lengths.sample(random));
+    }
+
+    /**
+     * Moves from a point.
+     * @param from Start point
+     * @param length Length of the move
+     * @param turn Direction of the move, as a fraction of a full turn
+     * @return End point
+     */
+    private static DblPoint step(final DblPoint from, final double length,
+        final double turn) {
+        final double angle = 2. * Math.PI * turn;
+        return new DblPoint(
+            from.dblx() + length * Math.cos(angle),
+            from.dbly() + length * Math.sin(angle)
+        );
+    }
+
+    /**
+     * Gives even weights for all kinds.
+     * @return Weights, by kind ordinal
+     */
+    private static double[] even() {
+        final double[] result = new double[Kind.values().length];
+        Arrays.fill(result, 1.);
+        return result;
+    }
+
+    /**
+     * Kinds of generated shapes.
+     * @since 0.4
+     */
+    public enum Kind {
+        /**
+         * Points.
+         */
+        POINT,
+
+        /**
+         * Segments.
+         */
+        SEGMENT,
+
+        /**
+         * Circles.
+         */
+        CIRCLE,
+
+        /**
+         * Polylines.
+         */
+        POLYLINE,
+
+        /**
+         * Polygons.
+         */
+        POLYGON
+    }
+
+}
@@ -27,6 +27,7 @@ import com.aljebra.field.Field;
 import com.aljebra.field.impl.doubles.Decimal;
 import com.aljebra.vector.Vect;
 import com.jeometry.model.decimal.DblPoint;
+import com.jeometry.twod.affine.Affine;
 import com.jeometry.twod.point.XyPoint;
 import java.awt.Point;
 
@@ -46,6 +47,11 @@ public final class Transform {
      */
     private final Field<Double> field;
 
+    /**
+     * Affine transform mapping double coordinates to surface coordinates.
+     */
+    private final Affine screen;
+
     /**
      * Ctor.
      * @param ctx Surface context
@@ -62,6 +68,7 @@ public final class Transform {
     public Transform(final Surface ctx, final Field<Double> field) {
         this.ctx = ctx;
         this.field = field;
+        this.screen = Transform.screen(ctx);
     }
 
     /**
@@ -70,15 +77,26 @@ public final class Transform {
      * @return AWT Point
      */
     public Point transform(final DblPoint point) {
-        final double scale = this.ctx.scale();
         return new Point(
-            (int) (this.ctx.width() / 2d
-                + scale * point.dblx() - this.ctx.center().dblx() * scale),
-            (int) (this.ctx.height() / 2d
-                - scale * point.dbly() + this.ctx.center().dbly() * scale)
+            (int) this.screen.xcoor(point.dblx(), point.dbly()),
+            (int) this.screen.ycoor(point.dblx(), point.dbly())
         );
     }
 
+    /**
+     * Gives the affine transform mapping double coordinates to surface
+     * coordinates. The surface center is moved to the origin, coordinates
+     * are scaled and the Y axis flipped, then the origin is moved to the
+     * middle of the surface. The transform is composed once, from the
+     * surface state when this transform is built. Points are transformed
+     * by it, so that truncating its coordinates gives the pixels of
+     * {@link #transform(DblPoint)}.
+     * @return Affine transform
+     */
+    public Affine affine() {
+        return this.screen;
+    }
+
     /**
      * Applies transformation.
      * @param point DblPoint input
@@ -120,4 +138,20 @@ public final class Transform {
             (this.ctx.height() / 2d - point.y) / scale + center.dbly()
         );
     }
+
+    /**
+     * Composes the affine transform mapping double coordinates to surface
+     * coordinates.
+     * @param ctx Surface context
+     * @return Affine transform
+     */
+    private static Affine screen(final Surface ctx) {
+        final double scale = ctx.scale();
+        final DblPoint center = ctx.center();
+        return new Affine(
+            scale, 0., 0., -scale,
+            ctx.width() / 2d - center.dblx() * scale,
+            ctx.height() / 2d + center.dbly() * scale
+        );
+    }
 }
@@ -23,16 +23,20 @@
  */
 package com.jeometry.render.awt;
 
+import com.aljebra.field.Field;
+import com.aljebra.field.impl.doubles.Decimal;
 import com.jeometry.model.decimal.DblPoint;
 import com.jeometry.render.Surface;
 import com.jeometry.twod.Figure;
 import com.jeometry.twod.Shape;
+import com.jeometry.twod.snapshot.Snapshot;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.event.MouseAdapter;
+import java.util.ArrayList;
 import java.util.List;
 import javax.swing.JPanel;
 
@@ -63,10 +67,28 @@ public final class AwtDrawableSurface extends JPanel {
     private double scale;
 
     /**
-     * List of {@link AbstractAwtPaint}s to paint shapes.
+     * List of default {@link AbstractAwtPaint}s to paint the shapes left
+     * out of figure snapshots. The figure keeps its snapshot across paints
+     * while its shapes are constant and unchanged, see
+     * {@link Figure#snapshot(Field)}.
      */
     private final transient List<AbstractAwtPaint<?>> painters;
 
+    /**
+     * List of added {@link AbstractAwtPaint}s to paint all shapes.
+     */
+    private final transient List<AbstractAwtPaint<?>> added;
+
+    /**
+     * Painter of figure snapshots.
+     */
+    private final transient SnapshotPaint snapshots;
+
+    /**
+     * Field for scalar operations, resolving figure snapshots.
+     */
+    private final transient Field<Double> field;
+
     /**
      * Reference to the figure to draw.
      */
@@ -85,6 +107,9 @@ public final class AwtDrawableSurface extends JPanel {
         this.center = new DblPoint(0., 0.);
         this.scale = AwtDrawableSurface.ZOOM_START;
         this.painters = new Painters().defaults();
+        this.added = new ArrayList<>(0);
+        this.snapshots = new SnapshotPaint();
+        this.field = new Decimal();
     }
 
     /**
@@ -113,7 +138,15 @@ public final class AwtDrawableSurface extends JPanel {
             );
             final Surface context = this.context();
             surface.setColor(Color.BLACK);
+            final Snapshot snapshot = this.figure.snapshot(this.field);
+            this.snapshots.under(snapshot, context, surface);
             for (final AbstractAwtPaint<?> painter : this.painters) {
+                for (final Shape<?> shape : snapshot.rest()) {
+                    painter.render(shape, context, surface);
+                }
+            }
+            this.snapshots.over(snapshot, context, surface);
+            for (final AbstractAwtPaint<?> painter : this.added) {
                 for (final Shape<?> shape : this.figure) {
                     painter.render(shape, context, surface);
                 }
@@ -171,11 +204,12 @@ public final class AwtDrawableSurface extends JPanel {
     }
 
     /**
-     * Adds an {@link AbstractAwtPaint} to the registered painters.
+     * Adds an {@link AbstractAwtPaint} to the registered painters. Added
+     * painters are given every shape of the figure.
      * @param painter Painter to add
      */
     public void add(final AbstractAwtPaint<?> painter) {
-        this.painters.add(painter);
+        this.added.add(painter);
     }
 
     /**
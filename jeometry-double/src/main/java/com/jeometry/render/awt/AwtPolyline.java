@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.awt;
+
+import com.aljebra.field.Field;
+import com.aljebra.field.impl.doubles.Decimal;
+import com.google.common.collect.MapMaker;
+import com.jeometry.render.Surface;
+import com.jeometry.render.Transform;
+import com.jeometry.twod.Shape;
+import com.jeometry.twod.affine.Affine;
+import com.jeometry.twod.bounds.Bounds;
+import com.jeometry.twod.line.Polyline;
+import com.jeometry.twod.simplify.Detail;
+import com.jeometry.twod.simplify.DouglasPeucker;
+import java.awt.Graphics2D;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Awt Polyline painter that draws a polyline on an AWT graphics. Levels
+ * of detail of drawn polylines are cached, and each repaint draws only the
+ * vertices standing out at the surface scale, so that huge polylines are
+ * drawn in time proportional to what is visible at low zoom. Levels of
+ * polylines made of constant values are kept as is, while polylines on
+ * mutable values, such as solver free points, are ranked again when their
+ * resolved vertices change.
+ * @since 0.4
+ */
+public final class AwtPolyline extends AbstractAwtPaint<Polyline<Double>> {
+
+    /**
+     * Tolerance in pixels.
+     */
+    private static final double PIXEL = 0.5;
+
+    /**
+     * Levels of detail of the drawn constant polylines, by identity.
+     */
+    private final ConcurrentMap<Polyline<Double>, Detail> fixed;
+
+    /**
+     * Levels of detail of the drawn polylines on mutable values, by identity.
+     */
+    private final ConcurrentMap<Polyline<Double>, Detail> moving;
+
+    /**
+     * Ctor.
+     * @param field Field for scalar operations
+     */
+    public AwtPolyline(final Field<Double> field) {
+        super(field, Polyline.class);
+        this.fixed = new MapMaker().weakKeys().makeMap();
+        this.moving = new MapMaker().weakKeys().makeMap();
+    }
+
+    /**
+     * Ctor.
+     */
+    public AwtPolyline() {
+        this(new Decimal());
+    }
+
+    @Override
+    public void draw(final Shape<Polyline<Double>> renderable,
+        final Graphics2D graphics, final Surface context) {
+        final Polyline<Double> polyline = renderable.renderable();
+        Detail detail = this.fixed.get(polyline);
+        if (detail == null) {
+            detail = this.moving.get(polyline);
+            if (detail == null || !detail.levels(polyline, this.field())) {
+                detail = new Detail(polyline, new DouglasPeucker(), this.field());
+                if (new Bounds(this.field()).fixed(polyline)) {
+                    this.fixed.put(polyline, detail);
+                } else {
+                    this.moving.put(polyline, detail);
+                }
+            }
+        }
+        final double[] coords = detail.coords(AwtPolyline.PIXEL / context.scale());
+        final Affine affine = new Transform(context, this.field()).affine();
+        final int size = coords.length / 2;
+        final int[] xcoors = new int[size];
+        final int[] ycoors = new int[size];
+        for (int idx = 0; idx < size; ++idx) {
+            xcoors[idx] = (int) affine.xcoor(coords[2 * idx], coords[2 * idx + 1]);
+            ycoors[idx] = (int) affine.ycoor(coords[2 * idx], coords[2 * idx + 1]);
+        }
+        graphics.drawPolyline(xcoors, ycoors, size);
+    }
+
+}
@@ -57,7 +57,7 @@ public final class Painters {
      * @return A list of default painters
      */
     private static List<AbstractAwtPaint<?>> init() {
-        final int size = 6;
+        final int size = 8;
         final List<AbstractAwtPaint<?>> defaults = new ArrayList<>(size);
         defaults.add(new AwtPoint());
         defaults.add(new AwtCircle());
@@ -66,6 +66,7 @@ public final class Painters {
         defaults.add(new AwtRay());
         defaults.add(new AwtAngle());
         defaults.add(new AwtSegment());
+        defaults.add(new AwtPolyline());
         return defaults;
     }
 }
@@ -0,0 +1,277 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.awt;
+
+import com.google.common.collect.MapMaker;
+import com.jeometry.render.Surface;
+import com.jeometry.render.Transform;
+import com.jeometry.render.awt.style.AwtStroke;
+import com.jeometry.twod.Shape;
+import com.jeometry.twod.affine.Affine;
+import com.jeometry.twod.simplify.Detail;
+import com.jeometry.twod.simplify.DouglasPeucker;
+import com.jeometry.twod.snapshot.Layer;
+import com.jeometry.twod.snapshot.Polylines;
+import com.jeometry.twod.snapshot.Snapshot;
+import com.jeometry.twod.style.Style;
+import java.awt.Graphics2D;
+import java.nio.DoubleBuffer;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Paints the points, segments, circles and polylines of a figure
+ * {@link Snapshot} on an AWT graphics, reading resolved doubles only. Items
+ * are drawn as by {@link AwtPoint}, {@link AwtSegment}, {@link AwtCircle}
+ * and {@link AwtPolyline}, and the graphics stroke and color are set only
+ * when the item style changes. Layers are painted in the order of the
+ * default painters of {@link Painters#defaults()}: points and circles
+ * {@link #under(Snapshot, Surface, Graphics2D) under} the arcs, lines, rays
+ * and angles, segments and polylines
+ * {@link #over(Snapshot, Surface, Graphics2D) over} them.
+ * @since 0.4
+ */
+public final class SnapshotPaint {
+
+    /**
+     * Points size in pixels.
+     */
+    private static final int SIZE = 4;
+
+    /**
+     * Polylines tolerance in pixels.
+     */
+    private static final double PIXEL = 0.5;
+
+    /**
+     * Levels of detail of painted polylines, by shape identity.
+     */
+    private final ConcurrentMap<Shape<?>, Detail> details;
+
+    /**
+     * Ctor.
+     */
+    public SnapshotPaint() {
+        this.details = new MapMaker().weakKeys().makeMap();
+    }
+
+    /**
+     * Paints a snapshot.
+     * @param snapshot Snapshot to paint
+     * @param context Drawing surface
+     * @param graphics AWT graphics to draw into
+     */
+    public void paint(final Snapshot snapshot, final Surface context,
+        final Graphics2D graphics) {
+        this.under(snapshot, context, graphics);
+        this.over(snapshot, context, graphics);
+    }
+
+    /**
+     * Paints the points and circles of a snapshot, which default painters
+     * paint before the shapes left out of snapshots.
+     * @param snapshot Snapshot to paint
+     * @param context Drawing surface
+     * @param graphics AWT graphics to draw into
+     */
+    public void under(final Snapshot snapshot, final Surface context,
+        final Graphics2D graphics) {
+        final Affine affine = new Transform(context).affine();
+        final Pen pen = new Pen(snapshot, graphics);
+        final Layer points = snapshot.points();
+        for (int item = 0; item < points.size(); ++item) {
+            pen.use(points.style(item));
+            graphics.drawRect(
+                (int) affine.xcoor(points.value(item, 0), points.value(item, 1))
+                    - SnapshotPaint.SIZE / 2,
+                (int) affine.ycoor(points.value(item, 0), points.value(item, 1))
+                    - SnapshotPaint.SIZE / 2,
+                SnapshotPaint.SIZE, SnapshotPaint.SIZE
+            );
+        }
+        this.circles(snapshot, context, affine, pen);
+    }
+
+    /**
+     * Paints the segments and polylines of a snapshot, which default
+     * painters paint after the shapes left out of snapshots.
+     * @param snapshot Snapshot to paint
+     * @param context Drawing surface
+     * @param graphics AWT graphics to draw into
+     */
+    public void over(final Snapshot snapshot, final Surface context,
+        final Graphics2D graphics) {
+        final Affine affine = new Transform(context).affine();
+        final Pen pen = new Pen(snapshot, graphics);
+        final Layer segments = snapshot.segments();
+        for (int item = 0; item < segments.size(); ++item) {
+            pen.use(segments.style(item));
+            graphics.drawLine(
+                (int) affine.xcoor(segments.value(item, 0), segments.value(item, 1)),
+                (int) affine.ycoor(segments.value(item, 0), segments.value(item, 1)),
+                (int) affine.xcoor(segments.value(item, 2), segments.value(item, 2 + 1)),
+                (int) affine.ycoor(segments.value(item, 2), segments.value(item, 2 + 1))
+            );
+        }
+        this.polylines(snapshot, context, affine, pen);
+    }
+
+    /**
+     * Paints the circles of a snapshot, stroked then filled.
+     * @param snapshot Snapshot to paint
+     * @param context Drawing surface
+     * @param affine Surface transform
+     * @param pen Graphics pen
+     */
+    private void circles(final Snapshot snapshot, final Surface context,
+        final Affine affine, final Pen pen) {
+        final Layer circles = snapshot.circles();
+        for (int item = 0; item < circles.size(); ++item) {
+            final int size = (int) (context.scale() * circles.value(item, 2));
+            final int xcoor = (int) affine.xcoor(
+                circles.value(item, 0), circles.value(item, 1)
+            ) - size;
+            final int ycoor = (int) affine.ycoor(
+                circles.value(item, 0), circles.value(item, 1)
+            ) - size;
+            pen.use(circles.style(item));
+            pen.graphics().drawOval(xcoor, ycoor, 2 * size, 2 * size);
+            pen.fill(circles.style(item));
+            pen.graphics().fillOval(xcoor, ycoor, 2 * size, 2 * size);
+        }
+    }
+
+    /**
+     * Paints the polylines of a snapshot, at the level of detail of the
+     * surface scale. Levels of detail are kept across snapshots for each
+     * polyline shape, and ranked again only when the shape may have moved
+     * and its resolved vertices differ.
+     * @param snapshot Snapshot to paint
+     * @param context Drawing surface
+     * @param affine Surface transform
+     * @param pen Graphics pen
+     */
+    private void polylines(final Snapshot snapshot, final Surface context,
+        final Affine affine, final Pen pen) {
+        final Polylines lines = snapshot.polylines();
+        final DoubleBuffer values = lines.values();
+        for (int item = 0; item < lines.size(); ++item) {
+            final Shape<?> shape = snapshot.shapes().get(lines.shape(item));
+            Detail level = this.details.get(shape);
+            if (level == null || !snapshot.fixed()) {
+                final double[] vertices = new double[
+                    2 * (lines.until(item) - lines.first(item))
+                ];
+                values.position(2 * lines.first(item));
+                values.get(vertices);
+                if (level == null || !level.levels(vertices)) {
+                    level = new Detail(vertices, new DouglasPeucker());
+                    this.details.put(shape, level);
+                }
+            }
+            final double[] coords = level.coords(
+                SnapshotPaint.PIXEL / context.scale()
+            );
+            final int size = coords.length / 2;
+            final int[] xcoors = new int[size];
+            final int[] ycoors = new int[size];
+            for (int idx = 0; idx < size; ++idx) {
+                xcoors[idx] = (int) affine.xcoor(coords[2 * idx], coords[2 * idx + 1]);
+                ycoors[idx] = (int) affine.ycoor(coords[2 * idx], coords[2 * idx + 1]);
+            }
+            pen.use(lines.style(item));
+            pen.graphics().drawPolyline(xcoors, ycoors, size);
+        }
+    }
+
+    /**
+     * Graphics stroke and color, set from the snapshot styles only when
+     * they change.
+     * @since 0.4
+     */
+    private static final class Pen {
+
+        /**
+         * No style.
+         */
+        private static final int NONE = -1;
+
+        /**
+         * Snapshot.
+         */
+        private final Snapshot snapshot;
+
+        /**
+         * Graphics.
+         */
+        private final Graphics2D grphcs;
+
+        /**
+         * Index of the style in use.
+         */
+        private int current;
+
+        /**
+         * Ctor.
+         * @param snapshot Snapshot
+         * @param graphics Graphics
+         */
+        Pen(final Snapshot snapshot, final Graphics2D graphics) {
+            this.snapshot = snapshot;
+            this.grphcs = graphics;
+            this.current = Pen.NONE;
+        }
+
+        /**
+         * Gives the graphics.
+         * @return Graphics
+         */
+        public Graphics2D graphics() {
+            return this.grphcs;
+        }
+
+        /**
+         * Sets the stroke and color of a style.
+         * @param style Style index
+         */
+        public void use(final int style) {
+            if (style != this.current) {
+                final Style stl = this.snapshot.styles().get(style);
+                this.grphcs.setStroke(new AwtStroke(stl.stroke()));
+                this.grphcs.setColor(stl.stroke().color());
+                this.current = style;
+            }
+        }
+
+        /**
+         * Sets the fill color of a style.
+         * @param style Style index
+         */
+        public void fill(final int style) {
+            this.grphcs.setColor(this.snapshot.styles().get(style).fill().color());
+            this.current = Pen.NONE;
+        }
+
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.io;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Column}.
+ * @since 0.4
+ */
+public final class ColumnTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Column} reads back varints.
+     */
+    @Test
+    public void readsVarints() {
+        final long[] values = {0L, 1L, 127L, 128L, 300L, Long.MAX_VALUE, -1L};
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (final long value : values) {
+            Column.varint(value, out);
+        }
+        final ByteBuffer in = ByteBuffer.wrap(out.toByteArray());
+        for (final long value : values) {
+            MatcherAssert.assertThat(Column.varint(in), Matchers.equalTo(value));
+        }
+        MatcherAssert.assertThat(in.hasRemaining(), Matchers.is(false));
+    }
+
+    /**
+     * {@link Column} reads back verbatim values exactly.
+     */
+    @Test
+    public void readsVerbatimValues() {
+        final double[] values = {
+            0., -0., 1.5, Math.PI, Double.NaN, Double.NEGATIVE_INFINITY,
+            Double.MIN_VALUE,
+        };
+        MatcherAssert.assertThat(
+            ColumnTest.roundtrip(new Column(0.), values),
+            Matchers.equalTo(values)
+        );
+    }
+
+    /**
+     * {@link Column} reads back rounded values within half the precision,
+     * in less bytes than verbatim values when close to each other.
+     */
+    @Test
+    public void readsRoundedValues() {
+        final Random rand = new Random();
+        final double precision = 1e-6;
+        final double[] values = new double[1000];
+        for (int idx = 0; idx < values.length; ++idx) {
+            values[idx] = 1000. + rand.nextDouble();
+        }
+        final Column column = new Column(precision);
+        final double[] read = ColumnTest.roundtrip(column, values);
+        for (int idx = 0; idx < values.length; ++idx) {
+            MatcherAssert.assertThat(
+                read[idx], Matchers.closeTo(values[idx], precision)
+            );
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        column.write(values, out);
+        MatcherAssert.assertThat(
+            out.size(), Matchers.lessThan(values.length * Double.BYTES / 2)
+        );
+    }
+
+    /**
+     * {@link Column} rejects values too large for their precision.
+     */
+    @Test
+    public void rejectsUnroundableValues() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Column(1e-9).write(new double[] {1e20}, new ByteArrayOutputStream());
+    }
+
+    /**
+     * {@link Column} rejects negative precisions.
+     */
+    @Test
+    public void rejectsNegativePrecision() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Column(-1.);
+    }
+
+    /**
+     * Writes and reads back values.
+     * @param column Column
+     * @param values Values
+     * @return Read values
+     */
+    private static double[] roundtrip(final Column column,
+        final double[] values) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        column.write(values, out);
+        return column.read(values.length, ByteBuffer.wrap(out.toByteArray()));
+    }
+
+}
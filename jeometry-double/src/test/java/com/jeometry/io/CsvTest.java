@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.io;
+
+import com.aljebra.scalar.Scalar;
+import com.jeometry.model.decimal.DblPoint;
+import com.jeometry.twod.Renderable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Csv}.
+ * @since 0.4
+ */
+public final class CsvTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Csv} parses every shape kind.
+     */
+    @Test
+    public void parsesShapes() {
+        MatcherAssert.assertThat(
+            WktTest.parts(
+                CsvTest.parse(
+                    "point, 1, 2", "SEGMENT,0,0,1,1", "circle,1,1,0.5",
+                    "polyline,0,0,1,1", "polygon,0,0,1,0,1,1"
+                )
+            ),
+            Matchers.contains(
+                Arrays.asList("DblPoint", new DblPoint(1., 2.)),
+                Arrays.asList(
+                    "PtsSegment", new DblPoint(0., 0.), new DblPoint(1., 1.)
+                ),
+                Arrays.asList(
+                    "DblCircle", new DblPoint(1., 1.), new Scalar.Default<>(0.5)
+                ),
+                Arrays.asList(
+                    "PtsPolyline", new DblPoint(0., 0.), new DblPoint(1., 1.)
+                ),
+                Arrays.asList(
+                    "Polygon", new DblPoint(0., 0.), new DblPoint(1., 0.),
+                    new DblPoint(1., 1.), new DblPoint(0., 0.)
+                )
+            )
+        );
+    }
+
+    /**
+     * {@link Csv} parses blank and comment records as nothing.
+     */
+    @Test
+    public void parsesComments() {
+        MatcherAssert.assertThat(
+            CsvTest.parse("", "  ", "# kind,x,y"), Matchers.empty()
+        );
+    }
+
+    /**
+     * {@link Csv} rejects polygons of less than three points.
+     */
+    @Test
+    public void rejectsDegeneratePolygons() {
+        this.thrown.expect(IllegalArgumentException.class);
+        this.thrown.expectMessage("3 points at least expected");
+        CsvTest.parse("polygon,0,0,1,1");
+    }
+
+    /**
+     * {@link Csv} rejects extra coordinates.
+     */
+    @Test
+    public void rejectsExtraCoordinates() {
+        this.thrown.expect(IllegalArgumentException.class);
+        this.thrown.expectMessage("End of record expected");
+        CsvTest.parse("point,0,0,1");
+    }
+
+    /**
+     * Parses records.
+     * @param texts Records
+     * @return Renderables
+     */
+    private static List<Renderable> parse(final String... texts) {
+        final List<Renderable> result = new ArrayList<>(0);
+        for (final String text : texts) {
+            final byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+            new Csv().parse(bytes, 0, bytes.length, result);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.io;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.jeometry.model.decimal.DblPoint;
+import com.jeometry.twod.Figure;
+import com.jeometry.twod.Renderable;
+import com.jeometry.twod.Shape;
+import com.jeometry.twod.snapshot.Snapshot;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link Import}.
+ * @since 0.4
+ */
+public final class ImportTest {
+
+    /**
+     * Count of records.
+     */
+    private static final int SIZE = 2000;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Junit rule for temporary files.
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * {@link Import} adds the shapes of small chunks parsed in parallel to a
+     * figure, in the text order.
+     * @throws IOException if the file cannot be written or read
+     */
+    @Test
+    public void importsInTextOrder() throws IOException {
+        final StringBuilder text = new StringBuilder();
+        for (int idx = 0; idx < ImportTest.SIZE; ++idx) {
+            text.append(String.format("POINT (%d.25 %d)\r\n", idx, -idx));
+        }
+        final Figure figure = new Import(
+            new Wkt(), new ForkJoinPool(2 + 2), 2 * 2 * 2 * 2
+        ).read(this.file(text.toString()), new Figure());
+        final List<Object> points = new ArrayList<>(ImportTest.SIZE);
+        for (final Shape<?> shape : figure) {
+            points.add(shape.renderable());
+        }
+        final List<Object> expected = new ArrayList<>(ImportTest.SIZE);
+        for (int idx = 0; idx < ImportTest.SIZE; ++idx) {
+            expected.add(new DblPoint(idx + 0.25, (double) -idx));
+        }
+        MatcherAssert.assertThat(points, Matchers.equalTo(expected));
+    }
+
+    /**
+     * {@link Import} grows its buffer for lines longer than a chunk, and
+     * imports a last line without terminator.
+     * @throws IOException if the file cannot be written or read
+     */
+    @Test
+    public void importsLongLines() throws IOException {
+        final StringBuilder text = new StringBuilder("polyline");
+        for (int idx = 0; idx < ImportTest.SIZE; ++idx) {
+            text.append(',').append(idx).append(",0");
+        }
+        text.append("\npoint,1,2\n\ncircle,0,0,1");
+        final List<Renderable> shapes = new ArrayList<>(0);
+        for (final Shape<?> shape : new Import(
+            new Csv(), ForkJoinPool.commonPool(), 2 + 1
+        ).read(this.file(text.toString()), new Figure())) {
+            shapes.add(shape.renderable());
+        }
+        MatcherAssert.assertThat(
+            WktTest.parts(shapes).get(0), Matchers.hasSize(ImportTest.SIZE + 1)
+        );
+        MatcherAssert.assertThat(
+            WktTest.parts(shapes.subList(1, shapes.size())),
+            Matchers.contains(
+                Matchers.equalTo(WktTest.parts(new DblPoint(1., 2.))),
+                Matchers.hasItem("DblCircle")
+            )
+        );
+    }
+
+    /**
+     * {@link Import} imports shapes into a snapshot.
+     * @throws IOException if the file cannot be written or read
+     */
+    @Test
+    public void importsIntoSnapshot() throws IOException {
+        final Snapshot snapshot = new Import(new Csv()).snapshot(
+            this.file("point,1,2\nsegment,0,0,1,1\npoint,3,4\n"), new Decimal()
+        );
+        MatcherAssert.assertThat(snapshot.points().size(), Matchers.equalTo(2));
+        MatcherAssert.assertThat(
+            snapshot.segments().size(), Matchers.equalTo(1)
+        );
+    }
+
+    /**
+     * {@link Import} reports the byte offset of malformed records.
+     * @throws IOException if the file cannot be written or read
+     */
+    @Test
+    public void reportsMalformedRecords() throws IOException {
+        this.thrown.expect(IllegalArgumentException.class);
+        this.thrown.expectMessage("Malformed record at byte 10");
+        new Import(new Csv(), ForkJoinPool.commonPool(), 2 + 2)
+            .read(this.file("point,1,2\npoint,1\n"), new Figure());
+    }
+
+    /**
+     * Writes a temporary file.
+     * @param text File content
+     * @return File path
+     * @throws IOException if the file cannot be written
+     */
+    private Path file(final String text) throws IOException {
+        final Path result = this.folder.newFile().toPath();
+        Files.write(result, text.getBytes(StandardCharsets.US_ASCII));
+        return result;
+    }
+
+}
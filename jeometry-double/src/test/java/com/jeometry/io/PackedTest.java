@@ -0,0 +1,231 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.io;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.jeometry.model.decimal.DblCircle;
+import com.jeometry.model.decimal.DblPoint;
+import com.jeometry.twod.Figure;
+import com.jeometry.twod.Renderable;
+import com.jeometry.twod.Shape;
+import com.jeometry.twod.line.Polygon;
+import com.jeometry.twod.line.PtsLine;
+import com.jeometry.twod.line.PtsPolyline;
+import com.jeometry.twod.segment.PtsSegment;
+import com.jeometry.twod.style.Dash;
+import com.jeometry.twod.style.Style;
+import com.jeometry.twod.style.impl.FixedColorFill;
+import com.jeometry.twod.style.impl.FixedStroke;
+import com.jeometry.twod.style.impl.FixedStyle;
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link Packed} and {@link Pack}.
+ * @since 0.4
+ */
+public final class PackedTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Junit rule for temporary files.
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * {@link Packed} reads back the shapes, names and styles of a figure
+     * written by {@link Pack}.
+     * @throws IOException if the file cannot be written or read
+     */
+    @Test
+    public void readsBackFigures() throws IOException {
+        final Figure figure = PackedTest.figure();
+        final Path path = this.folder.newFile().toPath();
+        new Pack(new Decimal()).write(figure, path);
+        final Packed packed = new Packed(path);
+        MatcherAssert.assertThat(packed.size(), Matchers.equalTo(2 + 2 + 1));
+        MatcherAssert.assertThat(
+            PackedTest.parts(packed), Matchers.equalTo(PackedTest.parts(figure))
+        );
+        MatcherAssert.assertThat(packed.styles(), Matchers.hasSize(2));
+        final Style style = packed.shape("circle").get().style();
+        MatcherAssert.assertThat(
+            Arrays.asList(
+                style.stroke().color(), style.stroke().dash(),
+                style.stroke().width(), style.fill().color()
+            ),
+            Matchers.contains(
+                Color.RED, Dash.DASHED, 2.f, new Color(1, 2, 3, 4)
+            )
+        );
+        MatcherAssert.assertThat(
+            packed.shape("unknown"), Matchers.equalTo(Optional.empty())
+        );
+        MatcherAssert.assertThat(
+            PackedTest.parts(packed.figure()),
+            Matchers.equalTo(PackedTest.parts(figure))
+        );
+    }
+
+    /**
+     * {@link Packed} reads back coordinates rounded to the precision of
+     * {@link Pack}.
+     * @throws IOException if the file cannot be written or read
+     */
+    @Test
+    public void readsBackRoundedCoordinates() throws IOException {
+        final Path path = this.folder.newFile().toPath();
+        new Pack(new Decimal(), 0.5).write(
+            new Figure().add(new DblPoint(1.2, -3.4)), path
+        );
+        MatcherAssert.assertThat(
+            new Packed(path).shape(0).renderable(),
+            Matchers.<Renderable>equalTo(new DblPoint(1., -3.5))
+        );
+    }
+
+    /**
+     * {@link Pack} writes large figures compactly with a precision.
+     * @throws IOException if the file cannot be written or read
+     */
+    @Test
+    public void writesCompactly() throws IOException {
+        final List<DblPoint> points = new ArrayList<>(1000);
+        for (int idx = 0; idx < 1000; ++idx) {
+            points.add(new DblPoint(idx * 0.01, Math.sin(idx * 0.01)));
+        }
+        final Figure figure = new Figure().add(new PtsPolyline<>(points));
+        final Path verbatim = this.folder.newFile().toPath();
+        new Pack(new Decimal()).write(figure, verbatim);
+        final Path compact = this.folder.newFile().toPath();
+        new Pack(new Decimal(), 1e-6).write(figure, compact);
+        MatcherAssert.assertThat(
+            Files.size(compact), Matchers.lessThan(Files.size(verbatim) / 2 + 1)
+        );
+        MatcherAssert.assertThat(
+            WktTest.parts(new Packed(compact).shape(0).renderable()),
+            Matchers.hasSize(1000 + 1)
+        );
+    }
+
+    /**
+     * {@link Pack} rejects shapes without primitive representation.
+     * @throws IOException if the file cannot be written
+     */
+    @Test
+    public void rejectsUnsupportedShapes() throws IOException {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Pack(new Decimal()).write(
+            new Figure().add(
+                new PtsLine<>(new DblPoint(0., 0.), new DblPoint(1., 1.))
+            ),
+            this.folder.newFile().toPath()
+        );
+    }
+
+    /**
+     * {@link Packed} rejects files of another format.
+     * @throws IOException if the file cannot be written or read
+     */
+    @Test
+    public void rejectsOtherFiles() throws IOException {
+        final Path path = this.folder.newFile().toPath();
+        Files.write(path, new byte[Packed.HEADER]);
+        this.thrown.expect(IOException.class);
+        this.thrown.expectMessage("Not a figure file");
+        new Packed(path);
+    }
+
+    /**
+     * Builds a figure of every supported shape kind.
+     * @return Figure
+     */
+    private static Figure figure() {
+        return new Figure()
+            .add(new DblPoint(1., 2.), "point")
+            .add(
+                new Shape<>(
+                    new DblCircle(new DblPoint(-1., 0.5), 3.),
+                    Optional.of("circle"),
+                    new FixedStyle(
+                        new FixedStroke(Color.RED, Dash.DASHED, 2.f),
+                        new FixedColorFill(new Color(1, 2, 3, 4))
+                    )
+                )
+            )
+            .add(new PtsSegment<>(new DblPoint(0., 0.), new DblPoint(1., 1.)))
+            .add(
+                new Polygon<>(
+                    Arrays.asList(
+                        new DblPoint(0., 0.), new DblPoint(4., 0.),
+                        new DblPoint(4., 4.)
+                    )
+                )
+            )
+            .add(
+                new PtsPolyline<>(
+                    Arrays.asList(
+                        new DblPoint(0., 0.), new DblPoint(1., 1.),
+                        new DblPoint(2., 0.)
+                    )
+                ),
+                "line"
+            );
+    }
+
+    /**
+     * Describes shapes by their name and renderable parts.
+     * @param shapes Shapes
+     * @return Shapes descriptions
+     */
+    private static List<List<Object>> parts(final Iterable<Shape<?>> shapes) {
+        final List<List<Object>> result = new ArrayList<>(0);
+        for (final Shape<?> shape : shapes) {
+            final List<Object> parts = new ArrayList<>(0);
+            parts.add(shape.name());
+            parts.addAll(WktTest.parts(shape.renderable()));
+            result.add(parts);
+        }
+        return result;
+    }
+
+}
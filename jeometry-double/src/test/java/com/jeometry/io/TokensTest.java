@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Tokens}.
+ * @since 0.4
+ */
+public final class TokensTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Tokens} reads numbers as {@link Double#parseDouble(String)}.
+     */
+    @Test
+    public void readsNumbers() {
+        final String[] texts = {
+            "0", "-0", "+12", "3.", ".5", "-0.000125", "1e3", "2.5E-4",
+            "123456789012345", "1234567890123456789012", "0.1", "1e-300",
+            "4.9e-324", "1.7976931348623157e308", "9007199254740993",
+        };
+        for (final String text : texts) {
+            MatcherAssert.assertThat(
+                TokensTest.tokens(text).number(),
+                Matchers.equalTo(Double.parseDouble(text))
+            );
+        }
+    }
+
+    /**
+     * {@link Tokens} reads random numbers as
+     * {@link Double#parseDouble(String)}.
+     */
+    @Test
+    public void readsRandomNumbers() {
+        final Random rand = new Random();
+        for (int idx = 0; idx < 10_000; ++idx) {
+            final String text = Double.toString(
+                (rand.nextDouble() - 0.5) * Math.pow(10., rand.nextInt(20) - 10)
+            );
+            MatcherAssert.assertThat(
+                TokensTest.tokens(text).number(),
+                Matchers.equalTo(Double.parseDouble(text))
+            );
+        }
+    }
+
+    /**
+     * {@link Tokens} reads keywords ignoring case and punctuation.
+     */
+    @Test
+    public void readsKeywordsAndPunctuation() {
+        final Tokens tokens = TokensTest.tokens(" Point (1\t2)");
+        MatcherAssert.assertThat(tokens.word("POINTS"), Matchers.is(false));
+        MatcherAssert.assertThat(tokens.word("POINT"), Matchers.is(true));
+        MatcherAssert.assertThat(tokens.accept(','), Matchers.is(false));
+        tokens.expect('(');
+        MatcherAssert.assertThat(tokens.number(), Matchers.equalTo(1.));
+        MatcherAssert.assertThat(tokens.number(), Matchers.equalTo(2.));
+        MatcherAssert.assertThat(tokens.peek(), Matchers.equalTo(')'));
+        tokens.expect(')');
+        MatcherAssert.assertThat(tokens.done(), Matchers.is(true));
+    }
+
+    /**
+     * {@link Tokens} rejects a missing number.
+     */
+    @Test
+    public void rejectsMissingNumber() {
+        this.thrown.expect(IllegalArgumentException.class);
+        this.thrown.expectMessage("Number expected at column 1");
+        TokensTest.tokens("x").number();
+    }
+
+    /**
+     * Builds tokens over a text.
+     * @param text Text
+     * @return Tokens
+     */
+    private static Tokens tokens(final String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        return new Tokens(bytes, 0, bytes.length);
+    }
+
+}
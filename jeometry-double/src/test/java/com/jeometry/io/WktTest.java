@@ -0,0 +1,215 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.io;
+
+import com.jeometry.model.decimal.DblPoint;
+import com.jeometry.twod.Renderable;
+import com.jeometry.twod.circle.Circle;
+import com.jeometry.twod.line.PtsPolyline;
+import com.jeometry.twod.segment.Segment;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Wkt}.
+ * @since 0.4
+ */
+public final class WktTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Wkt} parses points, ignoring Z and M coordinates.
+     */
+    @Test
+    public void parsesPoints() {
+        MatcherAssert.assertThat(
+            WktTest.parts(WktTest.parse("POINT (1 -2.5)")),
+            Matchers.contains(WktTest.parts(new DblPoint(1., -2.5)))
+        );
+        MatcherAssert.assertThat(
+            WktTest.parts(WktTest.parse("point zm(1 2 3 4)")),
+            Matchers.contains(WktTest.parts(new DblPoint(1., 2.)))
+        );
+        MatcherAssert.assertThat(
+            WktTest.parse("POINT EMPTY"), Matchers.empty()
+        );
+    }
+
+    /**
+     * {@link Wkt} parses line strings as segments or polylines.
+     */
+    @Test
+    public void parsesLineStrings() {
+        MatcherAssert.assertThat(
+            WktTest.parts(WktTest.parse("LINESTRING(0 0, 1 1)")),
+            Matchers.contains(
+                Arrays.asList(
+                    "PtsSegment", new DblPoint(0., 0.), new DblPoint(1., 1.)
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            WktTest.parts(WktTest.parse("LINESTRING (0 0, 1 1, 2 0)")),
+            Matchers.contains(
+                Arrays.asList(
+                    "PtsPolyline", new DblPoint(0., 0.), new DblPoint(1., 1.),
+                    new DblPoint(2., 0.)
+                )
+            )
+        );
+    }
+
+    /**
+     * {@link Wkt} parses polygons as their exterior ring.
+     */
+    @Test
+    public void parsesPolygons() {
+        MatcherAssert.assertThat(
+            WktTest.parts(
+                WktTest.parse(
+                    "POLYGON ((0 0, 4 0, 4 4, 0 0), (1 1, 2 1, 2 2, 1 1))"
+                )
+            ),
+            Matchers.contains(
+                Arrays.asList(
+                    "Polygon", new DblPoint(0., 0.), new DblPoint(4., 0.),
+                    new DblPoint(4., 4.), new DblPoint(0., 0.)
+                )
+            )
+        );
+    }
+
+    /**
+     * {@link Wkt} parses the members of multi geometries and collections.
+     */
+    @Test
+    public void parsesCollections() {
+        MatcherAssert.assertThat(
+            WktTest.parts(WktTest.parse("MULTIPOINT ((1 2), 3 4, EMPTY)")),
+            Matchers.contains(
+                WktTest.parts(new DblPoint(1., 2.)),
+                WktTest.parts(new DblPoint(3., 4.))
+            )
+        );
+        MatcherAssert.assertThat(
+            WktTest.parse(
+                String.join(
+                    "",
+                    "GEOMETRYCOLLECTION (POINT (1 2), ",
+                    "MULTILINESTRING ((0 0, 1 0), (0 1, 1 1)), ",
+                    "MULTIPOLYGON (((0 0, 1 0, 1 1, 0 0))), POLYGON EMPTY)"
+                )
+            ),
+            Matchers.hasSize(2 + 2)
+        );
+    }
+
+    /**
+     * {@link Wkt} parses blank records as nothing.
+     */
+    @Test
+    public void parsesBlankRecords() {
+        MatcherAssert.assertThat(WktTest.parse(" \t"), Matchers.empty());
+    }
+
+    /**
+     * {@link Wkt} rejects unknown geometries.
+     */
+    @Test
+    public void rejectsUnknownGeometries() {
+        this.thrown.expect(IllegalArgumentException.class);
+        this.thrown.expectMessage("Geometry type expected");
+        WktTest.parse("CURVE (0 0, 1 1)");
+    }
+
+    /**
+     * {@link Wkt} rejects trailing text.
+     */
+    @Test
+    public void rejectsTrailingText() {
+        this.thrown.expect(IllegalArgumentException.class);
+        WktTest.parse("POINT (0 0) POINT (1 1)");
+    }
+
+    /**
+     * Describes renderables by their kind and defining parts.
+     * @param renderables Renderables
+     * @return Renderables descriptions
+     */
+    static List<List<Object>> parts(final List<Renderable> renderables) {
+        final List<List<Object>> result = new ArrayList<>(renderables.size());
+        for (final Renderable renderable : renderables) {
+            result.add(WktTest.parts(renderable));
+        }
+        return result;
+    }
+
+    /**
+     * Describes a renderable by its kind and defining parts: points for
+     * points, segments and polylines, and center and radius for circles.
+     * @param renderable Renderable
+     * @return Renderable description
+     */
+    static List<Object> parts(final Renderable renderable) {
+        final List<Object> result = new ArrayList<>(0);
+        result.add(renderable.getClass().getSimpleName());
+        if (renderable instanceof Segment) {
+            result.add(((Segment<?>) renderable).start());
+            result.add(((Segment<?>) renderable).end());
+        } else if (renderable instanceof PtsPolyline) {
+            result.addAll(((PtsPolyline<?>) renderable).points());
+        } else if (renderable instanceof Circle) {
+            result.add(((Circle<?>) renderable).center());
+            result.add(((Circle<?>) renderable).radius());
+        } else {
+            result.add(renderable);
+        }
+        return result;
+    }
+
+    /**
+     * Parses a record.
+     * @param text Record
+     * @return Renderables
+     */
+    private static List<Renderable> parse(final String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        final List<Renderable> result = new ArrayList<>(0);
+        new Wkt().parse(bytes, 0, bytes.length, result);
+        return result;
+    }
+
+}
@@ -24,6 +24,7 @@
 package com.jeometry.model.decimal;
 
 import com.aljebra.scalar.Scalar;
+import com.jeometry.twod.bounds.Box;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -59,4 +60,14 @@ public final class DblPointTest {
         );
     }
 
+    /**
+     * {@link DblPoint} gives its bounding box.
+     */
+    @Test
+    public void givesBox() {
+        MatcherAssert.assertThat(
+            new DblPoint(1., 2.).box(), Matchers.equalTo(new Box(1., 2.))
+        );
+    }
+
 }
@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.model.random;
+
+import java.util.SplittableRandom;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Distribution}.
+ * @since 0.4
+ */
+public final class DistributionTest {
+
+    /**
+     * Count of samples.
+     */
+    private static final int SAMPLES = 100_000;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Distribution.Uniform} samples values in its range.
+     */
+    @Test
+    public void samplesUniformValues() {
+        final SplittableRandom random = new SplittableRandom(1L);
+        final Distribution dist = new Distribution.Uniform(-2., 3.);
+        double sum = 0.;
+        for (int idx = 0; idx < DistributionTest.SAMPLES; ++idx) {
+            final double value = dist.sample(random);
+            MatcherAssert.assertThat(
+                value,
+                Matchers.allOf(
+                    Matchers.greaterThanOrEqualTo(-2.), Matchers.lessThan(3.)
+                )
+            );
+            sum += value;
+        }
+        MatcherAssert.assertThat(
+            sum / DistributionTest.SAMPLES, Matchers.closeTo(0.5, 0.05)
+        );
+    }
+
+    /**
+     * {@link Distribution.Normal} samples values of its mean and standard
+     * deviation.
+     */
+    @Test
+    public void samplesNormalValues() {
+        final SplittableRandom random = new SplittableRandom(2L);
+        final Distribution dist = new Distribution.Normal(10., 2.);
+        double sum = 0.;
+        double squares = 0.;
+        for (int idx = 0; idx < DistributionTest.SAMPLES; ++idx) {
+            final double value = dist.sample(random);
+            sum += value;
+            squares += value * value;
+        }
+        final double mean = sum / DistributionTest.SAMPLES;
+        MatcherAssert.assertThat(mean, Matchers.closeTo(10., 0.05));
+        MatcherAssert.assertThat(
+            Math.sqrt(squares / DistributionTest.SAMPLES - mean * mean),
+            Matchers.closeTo(2., 0.05)
+        );
+    }
+
+    /**
+     * {@link Distribution.Uniform} rejects empty ranges.
+     */
+    @Test
+    public void rejectsEmptyRanges() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Distribution.Uniform(1., 1.);
+    }
+
+}
@@ -0,0 +1,247 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.model.random;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.field.impl.doubles.Parallelism;
+import com.jeometry.model.decimal.DblCircle;
+import com.jeometry.model.decimal.DblPoint;
+import com.jeometry.twod.Renderable;
+import com.jeometry.twod.circle.Circle;
+import com.jeometry.twod.line.Polygon;
+import com.jeometry.twod.line.PtsPolyline;
+import com.jeometry.twod.segment.PtsSegment;
+import com.jeometry.twod.segment.Segment;
+import com.jeometry.twod.snapshot.Snapshot;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link Generator}.
+ * @since 0.4
+ */
+public final class GeneratorTest {
+
+    /**
+     * Count of generated shapes.
+     */
+    private static final int COUNT = 5000;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * {@link Generator} generates the same shapes from the same seed,
+     * whatever the parallelism.
+     */
+    @Test
+    public void reproducesShapesFromSeed() {
+        final List<Renderable> sequential = new Generator(42L)
+            .parallel(new Parallelism(Integer.MAX_VALUE))
+            .shapes(GeneratorTest.COUNT);
+        final List<Renderable> parallel = new Generator(42L)
+            .parallel(new Parallelism(1, 64, new ForkJoinPool(4)))
+            .shapes(GeneratorTest.COUNT);
+        MatcherAssert.assertThat(
+            GeneratorTest.parts(parallel),
+            Matchers.equalTo(GeneratorTest.parts(sequential))
+        );
+        MatcherAssert.assertThat(
+            GeneratorTest.parts(new Generator(43L).shapes(GeneratorTest.COUNT)),
+            Matchers.not(Matchers.equalTo(GeneratorTest.parts(sequential)))
+        );
+        MatcherAssert.assertThat(
+            GeneratorTest.parts(new Generator(42L).shape(GeneratorTest.COUNT - 1)),
+            Matchers.equalTo(GeneratorTest.parts(sequential.get(GeneratorTest.COUNT - 1)))
+        );
+    }
+
+    /**
+     * {@link Generator} generates the same packed points from the same
+     * seed, whatever the parallelism.
+     */
+    @Test
+    public void reproducesPointsFromSeed() {
+        final double[] points = new Generator(7L)
+            .parallel(new Parallelism(1, 64, new ForkJoinPool(4)))
+            .points(GeneratorTest.COUNT);
+        MatcherAssert.assertThat(points.length, Matchers.equalTo(2 * GeneratorTest.COUNT));
+        MatcherAssert.assertThat(
+            points,
+            Matchers.equalTo(
+                new Generator(7L).parallel(new Parallelism(Integer.MAX_VALUE))
+                    .points(GeneratorTest.COUNT)
+            )
+        );
+    }
+
+    /**
+     * {@link Generator} generates shapes of the kinds of positive weight
+     * only, with coordinates of the given distribution.
+     */
+    @Test
+    public void generatesWeightedKinds() {
+        final List<Renderable> shapes = new Generator(1L)
+            .weight(Generator.Kind.POINT, 0.)
+            .weight(Generator.Kind.CIRCLE, 0.)
+            .weight(Generator.Kind.POLYLINE, 0.)
+            .weight(Generator.Kind.POLYGON, 0.)
+            .distributions(
+                new Distribution.Uniform(-1., 1.), new Distribution.Uniform(2., 3.)
+            )
+            .shapes(GeneratorTest.COUNT);
+        for (final Renderable shape : shapes) {
+            MatcherAssert.assertThat(shape, Matchers.instanceOf(PtsSegment.class));
+            final DblPoint start = (DblPoint) ((Segment<?>) shape).start();
+            final DblPoint end = (DblPoint) ((Segment<?>) shape).end();
+            MatcherAssert.assertThat(start.dblx(), Matchers.closeTo(0., 1.));
+            MatcherAssert.assertThat(start.dbly(), Matchers.closeTo(0., 1.));
+            MatcherAssert.assertThat(
+                Math.hypot(end.dblx() - start.dblx(), end.dbly() - start.dbly()),
+                Matchers.closeTo(2.5, 0.5 + 1.e-9)
+            );
+        }
+    }
+
+    /**
+     * {@link Generator} generates degenerate shapes at the given rate.
+     */
+    @Test
+    public void generatesDegenerateShapes() {
+        final List<Renderable> shapes = new Generator(3L)
+            .weight(Generator.Kind.POINT, 0.)
+            .weight(Generator.Kind.SEGMENT, 0.)
+            .weight(Generator.Kind.POLYLINE, 0.)
+            .weight(Generator.Kind.POLYGON, 0.)
+            .degeneracy(0.25)
+            .shapes(GeneratorTest.COUNT);
+        int nulls = 0;
+        for (final Renderable shape : shapes) {
+            if (((DblCircle) shape).radius().value(new Decimal()) == 0.) {
+                nulls += 1;
+            }
+        }
+        MatcherAssert.assertThat(
+            (double) nulls / GeneratorTest.COUNT, Matchers.closeTo(0.25, 0.03)
+        );
+    }
+
+    /**
+     * {@link Generator} generates polygons and polylines within the
+     * vertices bound, and fills snapshots and figures.
+     */
+    @Test
+    public void generatesFiguresAndSnapshots() {
+        final Generator gen = new Generator(5L).vertices(2 + 2);
+        for (final Renderable shape : gen.shapes(GeneratorTest.COUNT)) {
+            if (shape instanceof Polygon) {
+                MatcherAssert.assertThat(
+                    ((Polygon<?>) shape).points().size(),
+                    Matchers.allOf(
+                        Matchers.greaterThanOrEqualTo(2 + 2),
+                        Matchers.lessThanOrEqualTo(2 + 2 + 1)
+                    )
+                );
+            } else if (shape instanceof PtsPolyline) {
+                MatcherAssert.assertThat(
+                    ((PtsPolyline<?>) shape).points().size(),
+                    Matchers.allOf(
+                        Matchers.greaterThanOrEqualTo(2),
+                        Matchers.lessThanOrEqualTo(2 + 2)
+                    )
+                );
+            }
+        }
+        final Snapshot snap = gen.snapshot(GeneratorTest.COUNT, new Decimal());
+        MatcherAssert.assertThat(snap.shapes(), Matchers.hasSize(GeneratorTest.COUNT));
+        MatcherAssert.assertThat(snap.rest(), Matchers.empty());
+        MatcherAssert.assertThat(gen.figure(2 + 1), Matchers.iterableWithSize(2 + 1));
+    }
+
+    /**
+     * {@link Generator} rejects degeneracy rates out of [0, 1].
+     */
+    @Test
+    public void rejectsInvalidRates() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Generator(0L).degeneracy(1.5);
+    }
+
+    /**
+     * {@link Generator} rejects null weights for all kinds.
+     */
+    @Test
+    public void rejectsNullWeights() {
+        this.thrown.expect(IllegalArgumentException.class);
+        Generator gen = new Generator(0L);
+        for (final Generator.Kind kind : Generator.Kind.values()) {
+            gen = gen.weight(kind, 0.);
+        }
+    }
+
+    /**
+     * Describes renderables.
+     * @param renderables Renderables
+     * @return Renderables descriptions
+     */
+    private static List<List<Object>> parts(final List<Renderable> renderables) {
+        final List<List<Object>> result = new ArrayList<>(renderables.size());
+        for (final Renderable renderable : renderables) {
+            result.add(GeneratorTest.parts(renderable));
+        }
+        return result;
+    }
+
+    /**
+     * Describes a renderable by its kind and defining parts.
+     * @param renderable Renderable
+     * @return Renderable description
+     */
+    private static List<Object> parts(final Renderable renderable) {
+        final List<Object> result = new ArrayList<>(0);
+        result.add(renderable.getClass().getSimpleName());
+        if (renderable instanceof Segment) {
+            result.add(((Segment<?>) renderable).start());
+            result.add(((Segment<?>) renderable).end());
+        } else if (renderable instanceof PtsPolyline) {
+            result.addAll(((PtsPolyline<?>) renderable).points());
+        } else if (renderable instanceof Circle) {
+            result.add(((Circle<?>) renderable).center());
+            result.add(((Circle<?>) renderable).radius());
+        } else {
+            result.add(renderable);
+        }
+        return result;
+    }
+
+}
@@ -26,6 +26,7 @@ package com.jeometry.render;
 import com.aljebra.field.impl.doubles.Decimal;
 import com.aljebra.vector.Vect;
 import com.jeometry.model.decimal.DblPoint;
+import com.jeometry.twod.affine.Affine;
 import com.jeometry.twod.point.XyPoint;
 import java.awt.Dimension;
 import java.awt.Point;
@@ -135,6 +136,76 @@ public final class TransformTest {
         );
     }
 
+    /**
+     * {@link Transform} gives an affine transform mapping the surface
+     * center to the middle of the surface.
+     */
+    @Test
+    public void givesAffine() {
+        final Surface ctx = TransformTest.context();
+        final Affine affine = new Transform(ctx).affine();
+        final double error = 1.e-6;
+        MatcherAssert.assertThat(
+            affine.xcoor(ctx.center().dblx(), ctx.center().dbly()),
+            Matchers.closeTo(ctx.width() / 2d, error)
+        );
+        MatcherAssert.assertThat(
+            affine.ycoor(ctx.center().dblx(), ctx.center().dbly()),
+            Matchers.closeTo(ctx.height() / 2d, error)
+        );
+        MatcherAssert.assertThat(
+            affine.determinant(),
+            Matchers.closeTo(-ctx.scale() * ctx.scale(), error)
+        );
+    }
+
+    /**
+     * {@link Transform} maps points to the pixels of its affine transform.
+     */
+    @Test
+    public void sharesAffinePixels() {
+        final double[] scales = {0.1, 1., 2., 3.7};
+        final double[] coords = {-12.35, -0.05, 0., 0.3, 0.7, 2.5, 1234.567};
+        for (final double scale : scales) {
+            final Surface ctx = new Surface(
+                new Dimension(201, 99), scale, new DblPoint(0.3, -0.7)
+            );
+            final Transform transform = new Transform(ctx);
+            final Affine affine = transform.affine();
+            for (final double xcoor : coords) {
+                for (final double ycoor : coords) {
+                    MatcherAssert.assertThat(
+                        transform.transform(new DblPoint(xcoor, ycoor)),
+                        Matchers.equalTo(
+                            new Point(
+                                (int) affine.xcoor(xcoor, ycoor),
+                                (int) affine.ycoor(xcoor, ycoor)
+                            )
+                        )
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link Transform} maps points to surface pixels.
+     */
+    @Test
+    public void transformsToPixels() {
+        final Transform transform = new Transform(
+            new Surface(new Dimension(200, 100), 2., new DblPoint(1., 1.))
+        );
+        MatcherAssert.assertThat(
+            transform.transform(new DblPoint(3., -2.)),
+            Matchers.equalTo(new Point(104, 56))
+        );
+        MatcherAssert.assertThat(
+            transform.transform(new DblPoint(1., 1.)),
+            Matchers.equalTo(new Point(100, 50))
+        );
+    }
+
     /**
      * Builds a random awt context.
      * @return A random {@link Surface}
@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.awt;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.aljebra.scalar.Scalar;
+import com.aljebra.vector.Vect;
+import com.jeometry.model.decimal.DblPoint;
+import com.jeometry.render.Surface;
+import com.jeometry.twod.Shape;
+import com.jeometry.twod.line.PtsPolyline;
+import com.jeometry.twod.mock.SpyLine;
+import com.jeometry.twod.point.XyPoint;
+import com.jeometry.twod.solver.FreePoint;
+import com.jeometry.twod.solver.Parameters;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link AwtPolyline}.
+ * @since 0.4
+ */
+public final class AwtPolylineTest {
+
+    /**
+     * Count of polyline vertices.
+     */
+    private static final int SIZE = 1000;
+
+    /**
+     * {@link AwtPolyline} draws polylines with the vertices standing out at
+     * the surface scale.
+     */
+    @Test
+    public void rendersSimplifiedPolylines() {
+        final List<Vect<Double>> points = new ArrayList<>(AwtPolylineTest.SIZE);
+        for (int idx = 0; idx < AwtPolylineTest.SIZE; ++idx) {
+            points.add(
+                new XyPoint<>(
+                    new Scalar.Default<>(idx / 100.),
+                    new Scalar.Default<>((idx % 2) / 1000.)
+                )
+            );
+        }
+        final Shape<PtsPolyline<Double>> shape = new Shape<>(new PtsPolyline<>(points));
+        final AwtPolyline painter = new AwtPolyline(new Decimal());
+        final Graphics2D coarse = Mockito.mock(Graphics2D.class);
+        painter.render(shape, AwtPolylineTest.surface(1.), coarse);
+        Mockito.verify(coarse).drawPolyline(
+            Mockito.any(int[].class), Mockito.any(int[].class),
+            Mockito.eq(2)
+        );
+        final Graphics2D fine = Mockito.mock(Graphics2D.class);
+        painter.render(shape, AwtPolylineTest.surface(10000.), fine);
+        Mockito.verify(fine).drawPolyline(
+            Mockito.any(int[].class), Mockito.any(int[].class),
+            Mockito.eq(AwtPolylineTest.SIZE)
+        );
+    }
+
+    /**
+     * {@link AwtPolyline} draws polylines on moving points where they are
+     * at each repaint.
+     */
+    @Test
+    public void rendersMovingPolylines() {
+        final Parameters params = new Parameters();
+        final FreePoint point = params.point(1., 2.);
+        final Shape<PtsPolyline<Double>> shape = new Shape<>(
+            new PtsPolyline<>(
+                Arrays.asList(new DblPoint(0., 0.), point, new DblPoint(2., 0.))
+            )
+        );
+        final AwtPolyline painter = new AwtPolyline(new Decimal());
+        final Graphics2D before = Mockito.mock(Graphics2D.class);
+        painter.render(shape, AwtPolylineTest.surface(1.), before);
+        params.update(point.xvar(), 2. + 2.);
+        final Graphics2D after = Mockito.mock(Graphics2D.class);
+        painter.render(shape, AwtPolylineTest.surface(1.), after);
+        final ArgumentCaptor<int[]> first = ArgumentCaptor.forClass(int[].class);
+        Mockito.verify(before).drawPolyline(
+            first.capture(), Mockito.any(int[].class), Mockito.eq(2 + 1)
+        );
+        final ArgumentCaptor<int[]> second = ArgumentCaptor.forClass(int[].class);
+        Mockito.verify(after).drawPolyline(
+            second.capture(), Mockito.any(int[].class), Mockito.eq(2 + 1)
+        );
+        MatcherAssert.assertThat(
+            second.getValue()[1] - first.getValue()[1], Matchers.equalTo(2 + 1)
+        );
+    }
+
+    /**
+     * {@link AwtPolyline} does not render other renderables.
+     */
+    @Test
+    public void doesNotRenderOthers() {
+        final SpyLine<Double> render = new SpyLine<>();
+        final Graphics2D graphics = Mockito.mock(Graphics2D.class);
+        new AwtPolyline(new Decimal()).render(
+            new Shape<>(render), new AwtDrawableSurface().context(), graphics
+        );
+        Mockito.verify(graphics, Mockito.never()).drawPolyline(
+            Mockito.any(int[].class), Mockito.any(int[].class),
+            Mockito.anyInt()
+        );
+    }
+
+    /**
+     * Builds a drawing surface.
+     * @param scale Surface scale
+     * @return Surface
+     */
+    private static Surface surface(final double scale) {
+        return new Surface(new Dimension(), scale, new DblPoint(0., 0.));
+    }
+
+}
@@ -47,6 +47,7 @@ public final class PaintersTest {
                     Matchers.instanceOf(AwtArc.class),
                     Matchers.instanceOf(AwtLine.class),
                     Matchers.instanceOf(AwtSegment.class),
+                    Matchers.instanceOf(AwtPolyline.class),
                     Matchers.instanceOf(AwtRay.class),
                     Matchers.instanceOf(AwtCircle.class),
                     Matchers.instanceOf(AwtPoint.class)
@@ -0,0 +1,157 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2020, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.jeometry.render.awt;
+
+import com.aljebra.field.impl.doubles.Decimal;
+import com.jeometry.model.decimal.DblCircle;
+import com.jeometry.model.decimal.DblPoint;
+import com.jeometry.render.Surface;
+import com.jeometry.twod.Figure;
+import com.jeometry.twod.line.PtsPolyline;
+import com.jeometry.twod.segment.PtsSegment;
+import com.jeometry.twod.snapshot.Snapshot;
+import com.jeometry.twod.solver.FreePoint;
+import com.jeometry.twod.solver.Parameters;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link SnapshotPaint}.
+ * @since 0.4
+ */
+public final class SnapshotPaintTest {
+
+    /**
+     * {@link SnapshotPaint} draws the items of a snapshot.
+     */
+    @Test
+    public void paintsItems() {
+        final Snapshot snapshot = new Figure()
+            .add(new DblPoint(1., 1.))
+            .add(new PtsSegment<>(new DblPoint(0., 0.), new DblPoint(2., 2.)))
+            .add(new DblCircle(new DblPoint(0., 0.), 1.))
+            .add(
+                new PtsPolyline<>(
+                    Arrays.asList(
+                        new DblPoint(0., 0.), new DblPoint(1., 2.),
+                        new DblPoint(2., 0.)
+                    )
+                )
+            ).snapshot(new Decimal());
+        final Graphics2D graphics = Mockito.mock(Graphics2D.class);
+        new SnapshotPaint().paint(
+            snapshot,
+            new Surface(new Dimension(), 1., new DblPoint(0., 0.)),
+            graphics
+        );
+        Mockito.verify(graphics).drawRect(
+            Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(),
+            Mockito.anyInt()
+        );
+        Mockito.verify(graphics).drawLine(
+            Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(),
+            Mockito.anyInt()
+        );
+        Mockito.verify(graphics).drawOval(
+            Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(),
+            Mockito.anyInt()
+        );
+        Mockito.verify(graphics).drawPolyline(
+            Mockito.any(int[].class), Mockito.any(int[].class), Mockito.eq(2 + 1)
+        );
+    }
+
+    /**
+     * {@link SnapshotPaint} paints points and circles under the shapes
+     * left out of snapshots, and segments and polylines over them.
+     */
+    @Test
+    public void paintsLayersInDefaultOrder() {
+        final Snapshot snapshot = new Figure()
+            .add(new PtsSegment<>(new DblPoint(0., 0.), new DblPoint(2., 2.)))
+            .add(new DblCircle(new DblPoint(0., 0.), 1.))
+            .snapshot(new Decimal());
+        final Surface context = new Surface(new Dimension(), 1., new DblPoint(0., 0.));
+        final Graphics2D under = Mockito.mock(Graphics2D.class);
+        new SnapshotPaint().under(snapshot, context, under);
+        Mockito.verify(under).drawOval(
+            Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(),
+            Mockito.anyInt()
+        );
+        Mockito.verify(under, Mockito.never()).drawLine(
+            Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(),
+            Mockito.anyInt()
+        );
+        final Graphics2D over = Mockito.mock(Graphics2D.class);
+        new SnapshotPaint().over(snapshot, context, over);
+        Mockito.verify(over).drawLine(
+            Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(),
+            Mockito.anyInt()
+        );
+        Mockito.verify(over, Mockito.never()).drawOval(
+            Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(),
+            Mockito.anyInt()
+        );
+    }
+
+    /**
+     * {@link SnapshotPaint} paints polylines on moving points where they
+     * are at each repaint.
+     */
+    @Test
+    public void paintsMovingPolylines() {
+        final Parameters params = new Parameters();
+        final FreePoint point = params.point(1., 2.);
+        final Figure figure = new Figure().add(
+            new PtsPolyline<>(
+                Arrays.asList(new DblPoint(0., 0.), point, new DblPoint(2., 0.))
+            )
+        );
+        final Surface context = new Surface(new Dimension(), 1., new DblPoint(0., 0.));
+        final SnapshotPaint paint = new SnapshotPaint();
+        final Graphics2D before = Mockito.mock(Graphics2D.class);
+        paint.paint(figure.snapshot(new Decimal()), context, before);
+        params.update(point.xvar(), 2. + 2.);
+        final Graphics2D after = Mockito.mock(Graphics2D.class);
+        paint.paint(figure.snapshot(new Decimal()), context, after);
+        final ArgumentCaptor<int[]> first = ArgumentCaptor.forClass(int[].class);
+        Mockito.verify(before).drawPolyline(
+            first.capture(), Mockito.any(int[].class), Mockito.eq(2 + 1)
+        );
+        final ArgumentCaptor<int[]> second = ArgumentCaptor.forClass(int[].class);
+        Mockito.verify(after).drawPolyline(
+            second.capture(), Mockito.any(int[].class), Mockito.eq(2 + 1)
+        );
+        MatcherAssert.assertThat(
+            second.getValue()[1] - first.getValue()[1], Matchers.equalTo(2 + 1)
+        );
+    }
+
+}